@@ -57,6 +57,16 @@ public class CoordinateTransformation implements Serializable, Cloneable {
      */
     public static final int COLS = MatrixRotation3D.ROTATION3D_INHOM_MATRIX_ROWS;
 
+    /**
+     * Number of elements of a coordinate transformation matrix.
+     */
+    public static final int ELEMENTS = ROWS * COLS;
+
+    /**
+     * Number of components of vectors rotated by a coordinate transformation matrix.
+     */
+    public static final int COMPONENTS = ROWS;
+
     /**
      * Default threshold to consider a matrix valid.
      */
@@ -69,8 +79,10 @@ public class CoordinateTransformation implements Serializable, Cloneable {
 
     /**
      * 3x3 matrix containing a rotation.
+     * This matrix is never replaced, and its buffer contains the 9 elements of the rotation in column-major order, so
+     * that rotations can be composed, inverted and applied directly on primitive values.
      */
-    Matrix matrix;
+    Matrix matrix = createIdentityMatrix();
 
     /**
      * Source frame type.
@@ -91,12 +103,6 @@ public class CoordinateTransformation implements Serializable, Cloneable {
      * @throws NullPointerException if either source or destination frame types are null.
      */
     public CoordinateTransformation(final FrameType sourceType, final FrameType destinationType) {
-        try {
-            matrix = Matrix.identity(ROWS, COLS);
-        } catch (final WrongSizeException ignore) {
-            // never happens
-        }
-
         setSourceType(sourceType);
         setDestinationType(destinationType);
     }
@@ -216,8 +222,34 @@ public class CoordinateTransformation implements Serializable, Cloneable {
         matrix.copyTo(result);
     }
 
+    /**
+     * Gets the 9 elements of the matrix containing a rotation in column-major order.
+     *
+     * @param result array where elements will be stored. Must have length 9.
+     * @throws IllegalArgumentException if provided array does not have length 9.
+     */
+    public void getElements(final double[] result) {
+        if (result.length != ELEMENTS) {
+            throw new IllegalArgumentException();
+        }
+
+        System.arraycopy(matrix.getBuffer(), 0, result, 0, ELEMENTS);
+    }
+
+    /**
+     * Gets the 9 elements of the matrix containing a rotation in column-major order.
+     *
+     * @return a new array containing matrix elements.
+     */
+    public double[] getElements() {
+        final var result = new double[ELEMENTS];
+        getElements(result);
+        return result;
+    }
+
     /**
      * Sets matrix containing a rotation.
+     * Values of provided matrix are copied, and no reference to provided matrix is kept.
      *
      * @param matrix    a 3x3 matrix containing a rotation.
      * @param threshold threshold to validate rotation matrix.
@@ -230,11 +262,12 @@ public class CoordinateTransformation implements Serializable, Cloneable {
             throw new InvalidRotationMatrixException();
         }
 
-        this.matrix = matrix;
+        System.arraycopy(matrix.getBuffer(), 0, this.matrix.getBuffer(), 0, ELEMENTS);
     }
 
     /**
      * Sets matrix containing a rotation.
+     * Values of provided matrix are copied, and no reference to provided matrix is kept.
      *
      * @param matrix a 3x3 matrix containing a rotation.
      * @throws InvalidRotationMatrixException if provided matrix is not a valid rotation matrix (3x3 and orthonormal).
@@ -279,7 +312,8 @@ public class CoordinateTransformation implements Serializable, Cloneable {
      * @return roll Euler angle.
      */
     public double getRollEulerAngle() {
-        return Math.atan2(matrix.getElementAt(1, 2), matrix.getElementAt(2, 2));
+        final var m = matrix.getBuffer();
+        return Math.atan2(m[7], m[8]);
     }
 
     /**
@@ -315,7 +349,7 @@ public class CoordinateTransformation implements Serializable, Cloneable {
      * @return pitch Euler angle.
      */
     public double getPitchEulerAngle() {
-        return -Math.asin(matrix.getElementAt(0, 2));
+        return -Math.asin(matrix.getBuffer()[6]);
     }
 
     /**
@@ -351,7 +385,8 @@ public class CoordinateTransformation implements Serializable, Cloneable {
      * @return yaw Euler angle.
      */
     public double getYawEulerAngle() {
-        return Math.atan2(matrix.getElementAt(0, 1), matrix.getElementAt(0, 0));
+        final var m = matrix.getBuffer();
+        return Math.atan2(m[3], m[0]);
     }
 
     /**
@@ -397,17 +432,18 @@ public class CoordinateTransformation implements Serializable, Cloneable {
         final var cosPsi = Math.cos(yaw);
 
         // Calculate coordinate transformation matrix using (2.22)
-        matrix.setElementAt(0, 0, cosTheta * cosPsi);
-        matrix.setElementAt(0, 1, cosTheta * sinPsi);
-        matrix.setElementAt(0, 2, -sinTheta);
+        final var m = matrix.getBuffer();
+        m[0] = cosTheta * cosPsi;
+        m[3] = cosTheta * sinPsi;
+        m[6] = -sinTheta;
 
-        matrix.setElementAt(1, 0, -cosPhi * sinPsi + sinPhi * sinTheta * cosPsi);
-        matrix.setElementAt(1, 1, cosPhi * cosPsi + sinPhi * sinTheta * sinPsi);
-        matrix.setElementAt(1, 2, sinPhi * cosTheta);
+        m[1] = -cosPhi * sinPsi + sinPhi * sinTheta * cosPsi;
+        m[4] = cosPhi * cosPsi + sinPhi * sinTheta * sinPsi;
+        m[7] = sinPhi * cosTheta;
 
-        matrix.setElementAt(2, 0, sinPhi * sinPsi + cosPhi * sinTheta * cosPsi);
-        matrix.setElementAt(2, 1, -sinPhi * cosPsi + cosPhi * sinTheta * sinPsi);
-        matrix.setElementAt(2, 2, cosPhi * cosTheta);
+        m[2] = sinPhi * sinPsi + cosPhi * sinTheta * cosPsi;
+        m[5] = -sinPhi * cosPsi + cosPhi * sinTheta * sinPsi;
+        m[8] = cosPhi * cosTheta;
     }
 
     /**
@@ -507,7 +543,7 @@ public class CoordinateTransformation implements Serializable, Cloneable {
     public void copyTo(final CoordinateTransformation output) {
         output.sourceType = sourceType;
         output.destinationType = destinationType;
-        matrix.copyTo(output.matrix);
+        System.arraycopy(matrix.getBuffer(), 0, output.matrix.getBuffer(), 0, ELEMENTS);
     }
 
     /**
@@ -518,7 +554,7 @@ public class CoordinateTransformation implements Serializable, Cloneable {
     public void copyFrom(final CoordinateTransformation input) {
         sourceType = input.sourceType;
         destinationType = input.destinationType;
-        matrix.copyFrom(input.matrix);
+        System.arraycopy(input.matrix.getBuffer(), 0, matrix.getBuffer(), 0, ELEMENTS);
     }
 
     /**
@@ -587,21 +623,32 @@ public class CoordinateTransformation implements Serializable, Cloneable {
      * @param result instance where inverse will be stored.
      */
     public void inverse(final CoordinateTransformation result) {
-        try {
-            final var source = sourceType;
-            final var destination = destinationType;
-            final var m = Matrix.identity(ROWS, COLS);
-            m.copyFrom(this.matrix);
-
-            result.setSourceType(destination);
-            result.setDestinationType(source);
-
-            // Because matrix needs to be a rotation (3x3 and orthonormal), its inverse is the transpose
-            m.transpose();
-            result.setMatrix(m);
-        } catch (final WrongSizeException | InvalidRotationMatrixException ignore) {
-            // never happens
-        }
+        final var source = sourceType;
+        final var destination = destinationType;
+
+        // Because matrix needs to be a rotation (3x3 and orthonormal), its inverse is the transpose.
+        // Off-diagonal elements are read before writing any of them, so that result can be this instance
+        final var m = matrix.getBuffer();
+        final var m1 = m[1];
+        final var m2 = m[2];
+        final var m3 = m[3];
+        final var m5 = m[5];
+        final var m6 = m[6];
+        final var m7 = m[7];
+
+        final var r = result.matrix.getBuffer();
+        r[0] = m[0];
+        r[1] = m3;
+        r[2] = m6;
+        r[3] = m1;
+        r[4] = m[4];
+        r[5] = m7;
+        r[6] = m2;
+        r[7] = m5;
+        r[8] = m[8];
+
+        result.sourceType = destination;
+        result.destinationType = source;
     }
 
     /**
@@ -622,6 +669,205 @@ public class CoordinateTransformation implements Serializable, Cloneable {
         return result;
     }
 
+    /**
+     * Composes this coordinate transformation with provided one, so that the result transforms vectors resolved
+     * about the source frame of provided transformation into the destination frame of this transformation.
+     * This is equivalent to pre-multiplying the matrix of provided transformation by the matrix of this
+     * transformation (e.g. C_b^e = C_n^e * C_b^n).
+     * Result can be this instance or provided one.
+     *
+     * @param other  transformation to be applied first, whose destination type must be the source type of this
+     *               transformation.
+     * @param result instance where composed transformation will be stored.
+     * @throws IllegalArgumentException if destination type of provided transformation is not the source type of this
+     *                                  transformation.
+     */
+    public void compose(final CoordinateTransformation other, final CoordinateTransformation result) {
+        if (other.destinationType != sourceType) {
+            throw new IllegalArgumentException();
+        }
+
+        final var a = matrix.getBuffer();
+        final var b = other.matrix.getBuffer();
+
+        final var a0 = a[0];
+        final var a1 = a[1];
+        final var a2 = a[2];
+        final var a3 = a[3];
+        final var a4 = a[4];
+        final var a5 = a[5];
+        final var a6 = a[6];
+        final var a7 = a[7];
+        final var a8 = a[8];
+
+        final var b0 = b[0];
+        final var b1 = b[1];
+        final var b2 = b[2];
+        final var b3 = b[3];
+        final var b4 = b[4];
+        final var b5 = b[5];
+        final var b6 = b[6];
+        final var b7 = b[7];
+        final var b8 = b[8];
+
+        final var source = other.sourceType;
+        final var destination = destinationType;
+
+        final var r = result.matrix.getBuffer();
+        r[0] = a0 * b0 + a3 * b1 + a6 * b2;
+        r[1] = a1 * b0 + a4 * b1 + a7 * b2;
+        r[2] = a2 * b0 + a5 * b1 + a8 * b2;
+        r[3] = a0 * b3 + a3 * b4 + a6 * b5;
+        r[4] = a1 * b3 + a4 * b4 + a7 * b5;
+        r[5] = a2 * b3 + a5 * b4 + a8 * b5;
+        r[6] = a0 * b6 + a3 * b7 + a6 * b8;
+        r[7] = a1 * b6 + a4 * b7 + a7 * b8;
+        r[8] = a2 * b6 + a5 * b7 + a8 * b8;
+
+        result.sourceType = source;
+        result.destinationType = destination;
+    }
+
+    /**
+     * Composes this coordinate transformation with provided one and returns the result as a new instance.
+     *
+     * @param other transformation to be applied first, whose destination type must be the source type of this
+     *              transformation.
+     * @return a new composed transformation.
+     * @throws IllegalArgumentException if destination type of provided transformation is not the source type of this
+     *                                  transformation.
+     */
+    public CoordinateTransformation composeAndReturnNew(final CoordinateTransformation other) {
+        final var result = new CoordinateTransformation(other.sourceType, destinationType);
+        compose(other, result);
+        return result;
+    }
+
+    /**
+     * Transforms a vector resolved about source frame into destination frame by pre-multiplying it by the
+     * coordinate transformation matrix.
+     *
+     * @param x      x coordinate of vector resolved about source frame.
+     * @param y      y coordinate of vector resolved about source frame.
+     * @param z      z coordinate of vector resolved about source frame.
+     * @param result array where x, y, z coordinates resolved about destination frame will be stored. Must have
+     *               length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void rotate(final double x, final double y, final double z, final double[] result) {
+        if (result.length != COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+
+        final var m = matrix.getBuffer();
+        result[0] = m[0] * x + m[3] * y + m[6] * z;
+        result[1] = m[1] * x + m[4] * y + m[7] * z;
+        result[2] = m[2] * x + m[5] * y + m[8] * z;
+    }
+
+    /**
+     * Transforms a vector resolved about source frame into destination frame by pre-multiplying it by the
+     * coordinate transformation matrix.
+     * Provided arrays can be the same instance.
+     *
+     * @param vector x, y, z coordinates of vector resolved about source frame. Must have length 3.
+     * @param result array where x, y, z coordinates resolved about destination frame will be stored. Must have
+     *               length 3.
+     * @throws IllegalArgumentException if any of provided arrays does not have length 3.
+     */
+    public void rotate(final double[] vector, final double[] result) {
+        if (vector.length != COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+
+        rotate(vector[0], vector[1], vector[2], result);
+    }
+
+    /**
+     * Transforms many vectors resolved about source frame into destination frame.
+     * Vectors are stored consecutively as x, y, z triplets, so that vector i is read from positions
+     * inputOffset + 3 * i to inputOffset + 3 * i + 2 of input array and stored at positions
+     * resultOffset + 3 * i to resultOffset + 3 * i + 2 of result array, for 0 &lt;= i &lt; count.
+     * Provided arrays can be the same instance as long as offsets are equal.
+     *
+     * @param input        array containing vectors resolved about source frame.
+     * @param inputOffset  position of first vector within input array.
+     * @param result       array where vectors resolved about destination frame will be stored.
+     * @param resultOffset position where first vector will be stored within result array.
+     * @param count        number of vectors to be transformed.
+     * @throws IllegalArgumentException if any offset or count is negative, or if any array is too small.
+     */
+    public void rotate(final double[] input, final int inputOffset, final double[] result, final int resultOffset,
+                       final int count) {
+        if (inputOffset < 0 || resultOffset < 0 || count < 0
+                || input.length - inputOffset < (long) count * COMPONENTS
+                || result.length - resultOffset < (long) count * COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+
+        final var m = matrix.getBuffer();
+        final var m0 = m[0];
+        final var m1 = m[1];
+        final var m2 = m[2];
+        final var m3 = m[3];
+        final var m4 = m[4];
+        final var m5 = m[5];
+        final var m6 = m[6];
+        final var m7 = m[7];
+        final var m8 = m[8];
+
+        var i = inputOffset;
+        var j = resultOffset;
+        for (var k = 0; k < count; k++) {
+            final var x = input[i++];
+            final var y = input[i++];
+            final var z = input[i++];
+            result[j++] = m0 * x + m3 * y + m6 * z;
+            result[j++] = m1 * x + m4 * y + m7 * z;
+            result[j++] = m2 * x + m5 * y + m8 * z;
+        }
+    }
+
+    /**
+     * Transforms a vector resolved about destination frame back into source frame by pre-multiplying it by the
+     * transpose of the coordinate transformation matrix, without computing the inverse transformation.
+     *
+     * @param x      x coordinate of vector resolved about destination frame.
+     * @param y      y coordinate of vector resolved about destination frame.
+     * @param z      z coordinate of vector resolved about destination frame.
+     * @param result array where x, y, z coordinates resolved about source frame will be stored. Must have
+     *               length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void inverseRotate(final double x, final double y, final double z, final double[] result) {
+        if (result.length != COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+
+        final var m = matrix.getBuffer();
+        result[0] = m[0] * x + m[1] * y + m[2] * z;
+        result[1] = m[3] * x + m[4] * y + m[5] * z;
+        result[2] = m[6] * x + m[7] * y + m[8] * z;
+    }
+
+    /**
+     * Transforms a vector resolved about destination frame back into source frame by pre-multiplying it by the
+     * transpose of the coordinate transformation matrix, without computing the inverse transformation.
+     * Provided arrays can be the same instance.
+     *
+     * @param vector x, y, z coordinates of vector resolved about destination frame. Must have length 3.
+     * @param result array where x, y, z coordinates resolved about source frame will be stored. Must have
+     *               length 3.
+     * @throws IllegalArgumentException if any of provided arrays does not have length 3.
+     */
+    public void inverseRotate(final double[] vector, final double[] result) {
+        if (vector.length != COMPONENTS) {
+            throw new IllegalArgumentException();
+        }
+
+        inverseRotate(vector[0], vector[1], vector[2], result);
+    }
+
     /**
      * Computes matrix to convert ECEF to NED coordinates.
      *
@@ -740,13 +986,9 @@ public class CoordinateTransformation implements Serializable, Cloneable {
      */
     public static void ecefToNedCoordinateTransformationMatrix(
             final double latitude, final double longitude, final CoordinateTransformation result) {
-        try {
-            result.setSourceType(FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
-            result.setDestinationType(FrameType.LOCAL_NAVIGATION_FRAME);
-            result.setMatrix(ecefToNedMatrix(latitude, longitude));
-        } catch (final InvalidRotationMatrixException ignore) {
-            // never happens
-        }
+        result.setSourceType(FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        result.setDestinationType(FrameType.LOCAL_NAVIGATION_FRAME);
+        ecefToNedMatrix(latitude, longitude, result.matrix);
     }
 
     /**
@@ -799,10 +1041,32 @@ public class CoordinateTransformation implements Serializable, Cloneable {
      * @param result    instance where computed matrix will be stored.
      */
     public static void nedToEcefMatrix(final double latitude, final double longitude, final Matrix result) {
+        if (result.getRows() != ROWS || result.getColumns() != COLS) {
+            try {
+                result.resize(ROWS, COLS);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
         // NED to ECEF matrix is the inverse of ECEF to NED matrix.
-        // Since ECEF to NED matrix is a rotation (3x3 and orthonormal), its inverse is the transpose.
-        ecefToNedMatrix(latitude, longitude, result);
-        result.transpose();
+        // Since ECEF to NED matrix is a rotation (3x3 and orthonormal), its inverse is the transpose, which is
+        // directly stored without allocating a new buffer
+        final var cosLat = Math.cos(latitude);
+        final var sinLat = Math.sin(latitude);
+        final var cosLong = Math.cos(longitude);
+        final var sinLong = Math.sin(longitude);
+
+        result.setElementAtIndex(0, -sinLat * cosLong);
+        result.setElementAtIndex(1, -sinLat * sinLong);
+        result.setElementAtIndex(2, cosLat);
+
+        result.setElementAtIndex(3, -sinLong);
+        result.setElementAtIndex(4, cosLong);
+        result.setElementAtIndex(5, 0.0);
+
+        result.setElementAtIndex(6, -cosLat * cosLong);
+        result.setElementAtIndex(7, -cosLat * sinLong);
+        result.setElementAtIndex(8, -sinLat);
     }
 
     /**
@@ -863,13 +1127,9 @@ public class CoordinateTransformation implements Serializable, Cloneable {
      */
     public static void nedToEcefCoordinateTransformationMatrix(
             final double latitude, final double longitude, final CoordinateTransformation result) {
-        try {
-            result.setSourceType(FrameType.LOCAL_NAVIGATION_FRAME);
-            result.setDestinationType(FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
-            result.setMatrix(nedToEcefMatrix(latitude, longitude));
-        } catch (final InvalidRotationMatrixException ignore) {
-            // never happens
-        }
+        result.setSourceType(FrameType.LOCAL_NAVIGATION_FRAME);
+        result.setDestinationType(FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        nedToEcefMatrix(latitude, longitude, result.matrix);
     }
 
     /**
@@ -1056,13 +1316,9 @@ public class CoordinateTransformation implements Serializable, Cloneable {
      */
     public static void ecefToEciCoordinateTransformationMatrixFromAngle(
             final double angle, final CoordinateTransformation result) {
-        try {
-            result.setSourceType(FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
-            result.setDestinationType(FrameType.EARTH_CENTERED_INERTIAL_FRAME);
-            result.setMatrix(ecefToEciMatrixFromAngle(angle));
-        } catch (final InvalidRotationMatrixException ignore) {
-            // never happens
-        }
+        result.setSourceType(FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        result.setDestinationType(FrameType.EARTH_CENTERED_INERTIAL_FRAME);
+        ecefToEciMatrixFromAngle(angle, result.matrix);
     }
 
     /**
@@ -1290,13 +1546,9 @@ public class CoordinateTransformation implements Serializable, Cloneable {
      */
     public static void eciToEcefCoordinateTransformationMatrixFromAngle(
             final double angle, final CoordinateTransformation result) {
-        try {
-            result.setSourceType(FrameType.EARTH_CENTERED_INERTIAL_FRAME);
-            result.setDestinationType(FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
-            result.setMatrix(eciToEcefMatrixFromAngle(angle));
-        } catch (final InvalidRotationMatrixException ignore) {
-            // never happens
-        }
+        result.setSourceType(FrameType.EARTH_CENTERED_INERTIAL_FRAME);
+        result.setDestinationType(FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        eciToEcefMatrixFromAngle(angle, result.matrix);
     }
 
     /**
@@ -1359,6 +1611,89 @@ public class CoordinateTransformation implements Serializable, Cloneable {
         return result;
     }
 
+    /**
+     * Converts a rotation matrix into a unit quaternion (a, b, c, d), where a is the scalar
+     * part, using the same convention as {@link com.irurueta.geometry.Quaternion}.
+     * The largest quaternion component is used as divisor for numerical stability.
+     *
+     * @param m      array containing rotation matrix in column-major order.
+     * @param offset position of matrix within array.
+     * @param result array of length 4 where quaternion will be stored.
+     */
+    static void matrixToQuaternion(final double[] m, final int offset, final double[] result) {
+        final var m00 = m[offset];
+        final var m10 = m[offset + 1];
+        final var m20 = m[offset + 2];
+        final var m01 = m[offset + 3];
+        final var m11 = m[offset + 4];
+        final var m21 = m[offset + 5];
+        final var m02 = m[offset + 6];
+        final var m12 = m[offset + 7];
+        final var m22 = m[offset + 8];
+
+        final var trace = m00 + m11 + m22;
+        if (trace > 0.0) {
+            final var s = 2.0 * Math.sqrt(1.0 + trace);
+            result[0] = 0.25 * s;
+            result[1] = (m21 - m12) / s;
+            result[2] = (m02 - m20) / s;
+            result[3] = (m10 - m01) / s;
+        } else if (m00 > m11 && m00 > m22) {
+            final var s = 2.0 * Math.sqrt(1.0 + m00 - m11 - m22);
+            result[0] = (m21 - m12) / s;
+            result[1] = 0.25 * s;
+            result[2] = (m01 + m10) / s;
+            result[3] = (m02 + m20) / s;
+        } else if (m11 > m22) {
+            final var s = 2.0 * Math.sqrt(1.0 + m11 - m00 - m22);
+            result[0] = (m02 - m20) / s;
+            result[1] = (m01 + m10) / s;
+            result[2] = 0.25 * s;
+            result[3] = (m12 + m21) / s;
+        } else {
+            final var s = 2.0 * Math.sqrt(1.0 + m22 - m00 - m11);
+            result[0] = (m10 - m01) / s;
+            result[1] = (m02 + m20) / s;
+            result[2] = (m12 + m21) / s;
+            result[3] = 0.25 * s;
+        }
+    }
+
+    /**
+     * Converts a unit quaternion (a, b, c, d), where a is the scalar part, into a rotation
+     * matrix, using the same convention as {@link com.irurueta.geometry.Quaternion}.
+     *
+     * @param a      scalar part of quaternion.
+     * @param b      first component of vector part of quaternion.
+     * @param c      second component of vector part of quaternion.
+     * @param d      third component of vector part of quaternion.
+     * @param result array where rotation matrix will be stored in column-major order.
+     * @param offset position of matrix within array.
+     */
+    static void quaternionToMatrix(final double a, final double b, final double c, final double d,
+                                   final double[] result, final int offset) {
+        final var aa = a * a;
+        final var ab = 2.0 * a * b;
+        final var ac = 2.0 * a * c;
+        final var ad = 2.0 * a * d;
+        final var bb = b * b;
+        final var bc = 2.0 * b * c;
+        final var bd = 2.0 * b * d;
+        final var cc = c * c;
+        final var cd = 2.0 * c * d;
+        final var dd = d * d;
+
+        result[offset] = aa + bb - cc - dd;
+        result[offset + 1] = bc + ad;
+        result[offset + 2] = bd - ac;
+        result[offset + 3] = bc - ad;
+        result[offset + 4] = aa - bb + cc - dd;
+        result[offset + 5] = cd + ab;
+        result[offset + 6] = bd + ac;
+        result[offset + 7] = cd - ab;
+        result[offset + 8] = aa - bb - cc + dd;
+    }
+
     /**
      * Makes a copy of this instance.
      *
@@ -1368,7 +1703,24 @@ public class CoordinateTransformation implements Serializable, Cloneable {
     @Override
     protected Object clone() throws CloneNotSupportedException {
         final var result = (CoordinateTransformation) super.clone();
+        result.matrix = createIdentityMatrix();
         copyTo(result);
         return result;
     }
+
+    /**
+     * Creates a 3x3 identity matrix.
+     *
+     * @return a new 3x3 identity matrix.
+     */
+    private static Matrix createIdentityMatrix() {
+        Matrix result;
+        try {
+            result = Matrix.identity(ROWS, COLS);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+            result = null;
+        }
+        return result;
+    }
 }
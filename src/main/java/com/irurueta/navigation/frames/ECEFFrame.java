@@ -725,6 +725,7 @@ public class ECEFFrame extends ECIorECEFFrame<ECEFFrame> implements Cloneable {
         }
 
         this.c = c;
+        sharedCoordinateTransformation = true;
     }
 
     /**
@@ -748,6 +749,8 @@ public class ECEFFrame extends ECIorECEFFrame<ECEFFrame> implements Cloneable {
     @Override
     protected Object clone() throws CloneNotSupportedException {
         final var result = (ECEFFrame) super.clone();
+        result.c = new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        result.sharedCoordinateTransformation = false;
         copyTo(result);
         clazz = ECEFFrame.class;
         return result;
@@ -405,6 +405,7 @@ public class ECIFrame extends ECIorECEFFrame<ECIFrame> implements Cloneable {
         }
 
         this.c = c;
+        sharedCoordinateTransformation = true;
     }
 
     /**
@@ -428,6 +429,8 @@ public class ECIFrame extends ECIorECEFFrame<ECIFrame> implements Cloneable {
     @Override
     protected Object clone() throws CloneNotSupportedException {
         final var result = (ECIFrame)super.clone();
+        result.c = new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.EARTH_CENTERED_INERTIAL_FRAME);
+        result.sharedCoordinateTransformation = false;
         copyTo(result);
         clazz = ECIFrame.class;
         return result;
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames;
+
+/**
+ * Contains a trajectory of ECI frames stored as a structure of arrays.
+ * Position and velocity of each sample are resolved along ECI axes, and attitudes are body to ECI
+ * coordinate transformation matrices.
+ */
+public class ECITrajectory extends ECIorECEFTrajectory<ECIFrame> {
+
+    /**
+     * Constructor.
+     * Creates an empty trajectory having default capacity.
+     */
+    public ECITrajectory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     * Creates an empty trajectory.
+     *
+     * @param capacity number of samples that can be stored before columns need to grow.
+     * @throws IllegalArgumentException if provided capacity is negative.
+     */
+    public ECITrajectory(final int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Creates a new ECI frame.
+     *
+     * @return a new ECI frame.
+     */
+    @Override
+    ECIFrame createFrame() {
+        return new ECIFrame();
+    }
+}
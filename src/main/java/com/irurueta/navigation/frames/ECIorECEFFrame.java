@@ -87,6 +87,12 @@ public abstract class ECIorECEFFrame<T extends ECIorECEFFrame<?>> implements Fra
      */
     CoordinateTransformation c;
 
+    /**
+     * Indicates whether coordinate transformation has been provided externally, in which case it might be
+     * referenced elsewhere and it must not be modified in place.
+     */
+    boolean sharedCoordinateTransformation;
+
     /**
      * Actual type class
      */
@@ -595,6 +601,57 @@ public abstract class ECIorECEFFrame<T extends ECIorECEFFrame<?>> implements Fra
         c.setMatrix(matrix);
     }
 
+    /**
+     * Copies values of provided matrix into current coordinate transformation matrix keeping current source and
+     * destination {@link FrameType}.
+     * Unlike {@link #setCoordinateTransformationMatrix(Matrix)}, provided matrix is neither validated nor kept as a
+     * reference, so that no memory is allocated.
+     * This method is only intended for frame converters in
+     * {@link com.irurueta.navigation.frames.converters}, which copy rotation matrices they have built themselves.
+     * Any other matrix must be set through {@link #setCoordinateTransformationMatrix(Matrix)}, since no check is
+     * made here that provided matrix is orthonormal.
+     * A coordinate transformation provided through {@link #setCoordinateTransformation(CoordinateTransformation)}
+     * is never modified. Instead, it is replaced by a new instance owned by this frame the first time values are
+     * copied.
+     *
+     * @param matrix a 3x3 coordinate transformation matrix to copy values from.
+     * @throws IllegalArgumentException if provided matrix is not 3x3.
+     */
+    public void copyCoordinateTransformationMatrixFrom(final Matrix matrix) {
+        if (matrix.getRows() != CoordinateTransformation.ROWS
+                || matrix.getColumns() != CoordinateTransformation.COLS) {
+            throw new IllegalArgumentException();
+        }
+        System.arraycopy(matrix.getBuffer(), 0, getWritableCoordinateTransformationBuffer(), 0,
+                CoordinateTransformation.ROWS * CoordinateTransformation.COLS);
+    }
+
+    /**
+     * Gets internal buffer of coordinate transformation matrix, stored in column order.
+     * Returned buffer must not be modified.
+     *
+     * @return internal buffer of coordinate transformation matrix.
+     */
+    double[] getCoordinateTransformationBuffer() {
+        return c.matrix.getBuffer();
+    }
+
+    /**
+     * Gets internal buffer of coordinate transformation matrix, stored in column order, so that it can be
+     * modified in place.
+     * If current coordinate transformation was provided externally, it is first replaced by a new instance owned
+     * by this frame, so that instances referenced elsewhere are never modified.
+     *
+     * @return internal buffer of coordinate transformation matrix owned by this frame.
+     */
+    double[] getWritableCoordinateTransformationBuffer() {
+        if (sharedCoordinateTransformation) {
+            c = new CoordinateTransformation(c.getSourceType(), c.getDestinationType());
+            sharedCoordinateTransformation = false;
+        }
+        return c.matrix.getBuffer();
+    }
+
     /**
      * Gets coordinate transformation as a new 3D rotation instance.
      * This is equivalent to calling getCoordinateTransformation().asRotation(), but more efficient.
@@ -0,0 +1,422 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Base class for trajectories of ECI or ECEF frames.
+ * Samples are stored as a structure of arrays, where each column is a primitive array containing
+ * timestamps, position coordinates, velocity coordinates or attitudes, which are stored as the 9
+ * elements of body to ECI or ECEF coordinate transformation matrices in column-major order.
+ * Hence, a sample takes 16 values instead of the several objects contained in each frame, and
+ * columns can be directly provided to bulk conversions.
+ * Frames are only created on demand, and existing instances can be reused to retrieve or store
+ * samples without allocating heap memory.
+ * Columns are exposed without copying, and they might contain more elements than the number of
+ * samples of this trajectory.
+ *
+ * @param <T> type of frame.
+ */
+public abstract class ECIorECEFTrajectory<T extends ECIorECEFFrame<T>> implements Serializable {
+
+    /**
+     * Default number of samples that can be stored before columns need to grow.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Number of samples.
+     */
+    int size;
+
+    /**
+     * Timestamps of samples expressed in seconds (s).
+     */
+    double[] timestamps;
+
+    /**
+     * Cartesian x coordinates of body position expressed in meters (m).
+     */
+    double[] x;
+
+    /**
+     * Cartesian y coordinates of body position expressed in meters (m).
+     */
+    double[] y;
+
+    /**
+     * Cartesian z coordinates of body position expressed in meters (m).
+     */
+    double[] z;
+
+    /**
+     * X coordinates of body velocity expressed in meters per second (m/s).
+     */
+    double[] vx;
+
+    /**
+     * Y coordinates of body velocity expressed in meters per second (m/s).
+     */
+    double[] vy;
+
+    /**
+     * Z coordinates of body velocity expressed in meters per second (m/s).
+     */
+    double[] vz;
+
+    /**
+     * Body to ECI or ECEF coordinate transformation matrices, stored as 9 consecutive elements in
+     * column-major order for each sample.
+     */
+    double[] attitudes;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity number of samples that can be stored before columns need to grow.
+     * @throws IllegalArgumentException if provided capacity is negative.
+     */
+    ECIorECEFTrajectory(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        timestamps = new double[capacity];
+        x = new double[capacity];
+        y = new double[capacity];
+        z = new double[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        vz = new double[capacity];
+        attitudes = new double[capacity * CoordinateTransformation.ELEMENTS];
+    }
+
+    /**
+     * Gets number of samples.
+     *
+     * @return number of samples.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates whether this trajectory contains no samples.
+     *
+     * @return true if trajectory is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets number of samples that can be stored before columns need to grow.
+     *
+     * @return capacity of this trajectory.
+     */
+    public int getCapacity() {
+        return timestamps.length;
+    }
+
+    /**
+     * Ensures that provided number of samples can be stored without growing columns again.
+     * When columns need to grow, their capacity is at least doubled, so that samples can be
+     * added in amortized constant time.
+     *
+     * @param capacity minimum required capacity.
+     */
+    public void ensureCapacity(final int capacity) {
+        final var current = timestamps.length;
+        if (capacity > current) {
+            resize(Math.max(capacity, 2 * current));
+        }
+    }
+
+    /**
+     * Reduces capacity to the number of samples, releasing unused memory.
+     */
+    public void trimToSize() {
+        if (size < timestamps.length) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Removes all samples while keeping current capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sets number of samples.
+     * When size increases, new samples are located at the origin, have zero velocity and
+     * timestamp and an identity attitude, so that their columns can be directly overwritten
+     * (e.g. by bulk conversions).
+     *
+     * @param size number of samples to be set.
+     * @throws IllegalArgumentException if provided size is negative.
+     */
+    public void setSize(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        ensureCapacity(size);
+        for (var i = this.size; i < size; i++) {
+            timestamps[i] = 0.0;
+            x[i] = 0.0;
+            y[i] = 0.0;
+            z[i] = 0.0;
+            vx[i] = 0.0;
+            vy[i] = 0.0;
+            vz[i] = 0.0;
+            setIdentityAttitude(i);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Adds a sample at the end of this trajectory.
+     * Values of provided frame are copied, and no reference to it is kept.
+     *
+     * @param timestamp timestamp of sample expressed in seconds (s).
+     * @param frame     frame containing position, velocity and attitude of sample.
+     */
+    public void add(final double timestamp, final T frame) {
+        ensureCapacity(size + 1);
+        size++;
+        setFrame(size - 1, timestamp, frame);
+    }
+
+    /**
+     * Adds a sample having an identity attitude at the end of this trajectory.
+     *
+     * @param timestamp timestamp of sample expressed in seconds (s).
+     * @param x         cartesian x coordinate of body position expressed in meters (m).
+     * @param y         cartesian y coordinate of body position expressed in meters (m).
+     * @param z         cartesian z coordinate of body position expressed in meters (m).
+     * @param vx        x coordinate of body velocity expressed in meters per second (m/s).
+     * @param vy        y coordinate of body velocity expressed in meters per second (m/s).
+     * @param vz        z coordinate of body velocity expressed in meters per second (m/s).
+     */
+    public void add(final double timestamp, final double x, final double y, final double z,
+                    final double vx, final double vy, final double vz) {
+        ensureCapacity(size + 1);
+        final var i = size;
+        timestamps[i] = timestamp;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.z[i] = z;
+        this.vx[i] = vx;
+        this.vy[i] = vy;
+        this.vz[i] = vz;
+        setIdentityAttitude(i);
+        size++;
+    }
+
+    /**
+     * Replaces a sample of this trajectory.
+     * Values of provided frame are copied, and no reference to it is kept.
+     *
+     * @param index     index of sample to be replaced.
+     * @param timestamp timestamp of sample expressed in seconds (s).
+     * @param frame     frame containing position, velocity and attitude of sample.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    public void setFrame(final int index, final double timestamp, final T frame) {
+        checkIndex(index);
+
+        timestamps[index] = timestamp;
+        x[index] = frame.x;
+        y[index] = frame.y;
+        z[index] = frame.z;
+        vx[index] = frame.vx;
+        vy[index] = frame.vy;
+        vz[index] = frame.vz;
+        System.arraycopy(frame.getCoordinateTransformationBuffer(), 0, attitudes,
+                index * CoordinateTransformation.ELEMENTS, CoordinateTransformation.ELEMENTS);
+    }
+
+    /**
+     * Gets a sample of this trajectory into provided frame.
+     * Provided frame works as a flyweight view of the sample: its coordinate transformation
+     * matrix is overwritten in place, so that no heap memory is allocated.
+     *
+     * @param index  index of sample.
+     * @param result instance where position, velocity and attitude of sample will be stored.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    public void getFrame(final int index, final T result) {
+        checkIndex(index);
+
+        result.x = x[index];
+        result.y = y[index];
+        result.z = z[index];
+        result.vx = vx[index];
+        result.vy = vy[index];
+        result.vz = vz[index];
+        System.arraycopy(attitudes, index * CoordinateTransformation.ELEMENTS,
+                result.getWritableCoordinateTransformationBuffer(), 0, CoordinateTransformation.ELEMENTS);
+    }
+
+    /**
+     * Gets a sample of this trajectory as a new frame.
+     *
+     * @param index index of sample.
+     * @return a new frame containing position, velocity and attitude of sample.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    public T getFrame(final int index) {
+        final var result = createFrame();
+        getFrame(index, result);
+        return result;
+    }
+
+    /**
+     * Gets timestamp of a sample.
+     *
+     * @param index index of sample.
+     * @return timestamp expressed in seconds (s).
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    public double getTimestamp(final int index) {
+        checkIndex(index);
+        return timestamps[index];
+    }
+
+    /**
+     * Gets column containing timestamps of samples expressed in seconds (s).
+     *
+     * @return column containing timestamps.
+     */
+    public double[] getTimestamps() {
+        return timestamps;
+    }
+
+    /**
+     * Gets column containing cartesian x coordinates of body position expressed in meters (m).
+     *
+     * @return column containing x coordinates.
+     */
+    public double[] getX() {
+        return x;
+    }
+
+    /**
+     * Gets column containing cartesian y coordinates of body position expressed in meters (m).
+     *
+     * @return column containing y coordinates.
+     */
+    public double[] getY() {
+        return y;
+    }
+
+    /**
+     * Gets column containing cartesian z coordinates of body position expressed in meters (m).
+     *
+     * @return column containing z coordinates.
+     */
+    public double[] getZ() {
+        return z;
+    }
+
+    /**
+     * Gets column containing x coordinates of body velocity expressed in meters per second (m/s).
+     *
+     * @return column containing x velocity coordinates.
+     */
+    public double[] getVx() {
+        return vx;
+    }
+
+    /**
+     * Gets column containing y coordinates of body velocity expressed in meters per second (m/s).
+     *
+     * @return column containing y velocity coordinates.
+     */
+    public double[] getVy() {
+        return vy;
+    }
+
+    /**
+     * Gets column containing z coordinates of body velocity expressed in meters per second (m/s).
+     *
+     * @return column containing z velocity coordinates.
+     */
+    public double[] getVz() {
+        return vz;
+    }
+
+    /**
+     * Gets column containing body to ECI or ECEF coordinate transformation matrices, stored as
+     * 9 consecutive elements in column-major order for each sample.
+     *
+     * @return column containing attitudes.
+     */
+    public double[] getAttitudes() {
+        return attitudes;
+    }
+
+    /**
+     * Creates a new frame of the type contained in this trajectory.
+     *
+     * @return a new frame.
+     */
+    abstract T createFrame();
+
+    /**
+     * Checks that provided sample index is valid.
+     *
+     * @param index index to be checked.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Sets identity attitude of a sample.
+     *
+     * @param index index of sample.
+     */
+    private void setIdentityAttitude(final int index) {
+        final var offset = index * CoordinateTransformation.ELEMENTS;
+        Arrays.fill(attitudes, offset, offset + CoordinateTransformation.ELEMENTS, 0.0);
+        attitudes[offset] = 1.0;
+        attitudes[offset + 4] = 1.0;
+        attitudes[offset + 8] = 1.0;
+    }
+
+    /**
+     * Changes capacity of columns, keeping existing samples.
+     *
+     * @param capacity new capacity.
+     */
+    private void resize(final int capacity) {
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        vz = Arrays.copyOf(vz, capacity);
+        attitudes = Arrays.copyOf(attitudes, capacity * CoordinateTransformation.ELEMENTS);
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames;
+
+/**
+ * Interpolates frames of a trajectory of ECI or ECEF frames at arbitrary timestamps.
+ * Samples of trajectory must be sorted by non-decreasing timestamps.
+ * Position and velocity are interpolated using cubic Hermite interpolation between the two samples
+ * surrounding each timestamp, so that interpolated positions are consistent with sampled
+ * velocities, and attitude is interpolated using spherical linear interpolation (SLERP) of
+ * quaternions, which rotates at constant angular rate between both samples.
+ * The sample preceding each timestamp is searched starting at the one found on the previous
+ * query, hence queries having increasing (or decreasing) timestamps take constant time, and
+ * quaternions of the last interval are kept, so that no heap memory is allocated.
+ * Trajectory is not copied, hence if it is modified, {@link #reset()} must be called before
+ * interpolating again.
+ * Instances are not thread-safe.
+ *
+ * @param <T> type of frame.
+ */
+public class ECIorECEFTrajectoryInterpolator<T extends ECIorECEFFrame<T>> {
+
+    /**
+     * Number of components of a quaternion.
+     */
+    private static final int QUATERNION_COMPONENTS = 4;
+
+    /**
+     * Trajectory to be interpolated.
+     */
+    private final ECIorECEFTrajectory<T> trajectory;
+
+    /**
+     * Index of sample found on last search.
+     */
+    private int hint;
+
+    /**
+     * Index of first sample of interval whose quaternions are kept, or -1 if none.
+     */
+    private int interval = -1;
+
+    /**
+     * Quaternion of first sample of kept interval.
+     */
+    private final double[] q0 = new double[QUATERNION_COMPONENTS];
+
+    /**
+     * Quaternion of last sample of kept interval, within the same hemisphere as first one.
+     */
+    private final double[] q1 = new double[QUATERNION_COMPONENTS];
+
+    /**
+     * Rotation angle between quaternions of kept interval expressed in radians (rad).
+     */
+    private double angle;
+
+    /**
+     * Inverse of sine of rotation angle between quaternions of kept interval.
+     */
+    private double inverseSinAngle;
+
+    /**
+     * Constructor.
+     *
+     * @param trajectory trajectory to be interpolated.
+     */
+    public ECIorECEFTrajectoryInterpolator(final ECIorECEFTrajectory<T> trajectory) {
+        this.trajectory = trajectory;
+    }
+
+    /**
+     * Gets trajectory to be interpolated.
+     *
+     * @return trajectory to be interpolated.
+     */
+    public ECIorECEFTrajectory<T> getTrajectory() {
+        return trajectory;
+    }
+
+    /**
+     * Discards sample found on last search and quaternions of last interval.
+     * This must be called whenever trajectory is modified.
+     */
+    public void reset() {
+        hint = 0;
+        interval = -1;
+    }
+
+    /**
+     * Finds last sample whose timestamp is less than or equal to provided one.
+     * Search starts at sample found on previous search, checking that sample and the next one
+     * before falling back to a binary search.
+     *
+     * @param timestamp timestamp to search for, expressed in seconds (s).
+     * @return index of found sample or -1 if trajectory is empty, all samples have a greater
+     * timestamp or provided timestamp is NaN.
+     */
+    public int floorIndex(final double timestamp) {
+        final var timestamps = trajectory.timestamps;
+        final var last = trajectory.size - 1;
+        if (last < 0) {
+            return -1;
+        }
+
+        final var i = Math.min(hint, last);
+        final int result;
+        if (timestamps[i] <= timestamp) {
+            if (i == last || timestamp < timestamps[i + 1]) {
+                result = i;
+            } else if (i + 1 == last || timestamp < timestamps[i + 2]) {
+                result = i + 1;
+            } else {
+                result = floorIndex(timestamps, timestamp, i + 2, last);
+            }
+        } else {
+            result = floorIndex(timestamps, timestamp, 0, i - 1);
+        }
+
+        if (result >= 0) {
+            hint = result;
+        }
+        return result;
+    }
+
+    /**
+     * Interpolates frame at provided timestamp.
+     * Provided frame is overwritten in place, so that no heap memory is allocated.
+     *
+     * @param timestamp timestamp expressed in seconds (s).
+     * @param result    instance where interpolated frame will be stored.
+     * @throws IllegalArgumentException if timestamp is outside the time span of trajectory.
+     */
+    public void interpolate(final double timestamp, final T result) {
+        final var i = floorIndex(timestamp);
+        final var last = trajectory.size - 1;
+        if (i < 0 || (i == last && timestamp > trajectory.timestamps[last])) {
+            throw new IllegalArgumentException();
+        }
+
+        if (i == last) {
+            trajectory.getFrame(last, result);
+        } else {
+            interpolate(i, timestamp, result);
+        }
+    }
+
+    /**
+     * Interpolates frame at provided timestamp.
+     *
+     * @param timestamp timestamp expressed in seconds (s).
+     * @return a new interpolated frame.
+     * @throws IllegalArgumentException if timestamp is outside the time span of trajectory.
+     */
+    public T interpolateAndReturnNew(final double timestamp) {
+        final var result = trajectory.createFrame();
+        interpolate(timestamp, result);
+        return result;
+    }
+
+    /**
+     * Interpolates frames at many timestamps and adds them at the end of provided trajectory.
+     * Timestamps i are interpolated for offset &lt;= i &lt; offset + length.
+     *
+     * @param timestamps timestamps expressed in seconds (s).
+     * @param offset     position of first timestamp to be interpolated.
+     * @param length     number of timestamps to be interpolated.
+     * @param result     trajectory where interpolated frames will be added. Must be a different
+     *                   instance than interpolated trajectory.
+     * @throws IllegalArgumentException  if any timestamp is outside the time span of trajectory,
+     *                                   or result is the interpolated trajectory.
+     * @throws IndexOutOfBoundsException if offset or length is negative or timestamps array is
+     *                                   too small.
+     */
+    public void interpolate(final double[] timestamps, final int offset, final int length,
+                            final ECIorECEFTrajectory<T> result) {
+        if (result == trajectory) {
+            throw new IllegalArgumentException();
+        }
+        if (offset < 0 || length < 0 || (long) offset + length > timestamps.length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        result.ensureCapacity(result.size + length);
+        final var frame = trajectory.createFrame();
+        for (var i = offset; i < offset + length; i++) {
+            interpolate(timestamps[i], frame);
+            result.add(timestamps[i], frame);
+        }
+    }
+
+    /**
+     * Interpolates frames at many timestamps and adds them at the end of provided trajectory.
+     *
+     * @param timestamps timestamps expressed in seconds (s).
+     * @param result     trajectory where interpolated frames will be added. Must be a different
+     *                   instance than interpolated trajectory.
+     * @throws IllegalArgumentException if any timestamp is outside the time span of trajectory,
+     *                                  or result is the interpolated trajectory.
+     */
+    public void interpolate(final double[] timestamps, final ECIorECEFTrajectory<T> result) {
+        interpolate(timestamps, 0, timestamps.length, result);
+    }
+
+    /**
+     * Interpolates frame between a sample and the next one.
+     *
+     * @param i         index of first sample.
+     * @param timestamp timestamp, which must be within the time span of both samples.
+     * @param result    instance where interpolated frame will be stored.
+     */
+    private void interpolate(final int i, final double timestamp, final T result) {
+        final var timestamps = trajectory.timestamps;
+        final var j = i + 1;
+        final var h = timestamps[j] - timestamps[i];
+        final var s = (timestamp - timestamps[i]) / h;
+        final var s2 = s * s;
+        final var s3 = s2 * s;
+
+        // Hermite basis functions, where tangents are scaled by interval duration
+        final var h00 = 2.0 * s3 - 3.0 * s2 + 1.0;
+        final var h01 = 1.0 - h00;
+        final var h10 = (s3 - 2.0 * s2 + s) * h;
+        final var h11 = (s3 - s2) * h;
+
+        // derivatives of basis functions with respect to time
+        final var d00 = 6.0 * (s2 - s) / h;
+        final var d10 = 3.0 * s2 - 4.0 * s + 1.0;
+        final var d11 = 3.0 * s2 - 2.0 * s;
+
+        final var x = trajectory.x;
+        final var y = trajectory.y;
+        final var z = trajectory.z;
+        final var vx = trajectory.vx;
+        final var vy = trajectory.vy;
+        final var vz = trajectory.vz;
+
+        result.x = h00 * x[i] + h10 * vx[i] + h01 * x[j] + h11 * vx[j];
+        result.y = h00 * y[i] + h10 * vy[i] + h01 * y[j] + h11 * vy[j];
+        result.z = h00 * z[i] + h10 * vz[i] + h01 * z[j] + h11 * vz[j];
+        result.vx = d00 * (x[i] - x[j]) + d10 * vx[i] + d11 * vx[j];
+        result.vy = d00 * (y[i] - y[j]) + d10 * vy[i] + d11 * vy[j];
+        result.vz = d00 * (z[i] - z[j]) + d10 * vz[i] + d11 * vz[j];
+
+        slerp(i, s, result.getWritableCoordinateTransformationBuffer());
+    }
+
+    /**
+     * Interpolates attitude between a sample and the next one using spherical linear
+     * interpolation of quaternions.
+     *
+     * @param i      index of first sample.
+     * @param s      fraction of interval between both samples.
+     * @param result array where interpolated rotation matrix will be stored in column-major order.
+     */
+    private void slerp(final int i, final double s, final double[] result) {
+        if (i != interval) {
+            final var attitudes = trajectory.attitudes;
+            CoordinateTransformation.matrixToQuaternion(attitudes, i * CoordinateTransformation.ELEMENTS, q0);
+            CoordinateTransformation.matrixToQuaternion(attitudes, (i + 1) * CoordinateTransformation.ELEMENTS, q1);
+
+            // q and -q represent the same rotation, hence the shortest path is taken
+            final var dot = q0[0] * q1[0] + q0[1] * q1[1] + q0[2] * q1[2] + q0[3] * q1[3];
+            if (dot < 0.0) {
+                for (var k = 0; k < QUATERNION_COMPONENTS; k++) {
+                    q1[k] = -q1[k];
+                }
+            }
+
+            // angle between quaternions is obtained from their difference and sum, which
+            // unlike the arc cosine of their dot product is accurate for small angles
+            var difference = 0.0;
+            var sum = 0.0;
+            for (var k = 0; k < QUATERNION_COMPONENTS; k++) {
+                final var dk = q1[k] - q0[k];
+                final var sk = q1[k] + q0[k];
+                difference += dk * dk;
+                sum += sk * sk;
+            }
+            angle = 2.0 * Math.atan2(Math.sqrt(difference), Math.sqrt(sum));
+            inverseSinAngle = angle > 0.0 ? 1.0 / Math.sin(angle) : 0.0;
+            interval = i;
+        }
+
+        final double w0;
+        final double w1;
+        if (angle > 0.0) {
+            w0 = Math.sin((1.0 - s) * angle) * inverseSinAngle;
+            w1 = Math.sin(s * angle) * inverseSinAngle;
+        } else {
+            w0 = 1.0 - s;
+            w1 = s;
+        }
+
+        final var a = w0 * q0[0] + w1 * q1[0];
+        final var b = w0 * q0[1] + w1 * q1[1];
+        final var c = w0 * q0[2] + w1 * q1[2];
+        final var d = w0 * q0[3] + w1 * q1[3];
+
+        // normalize to remove rounding errors
+        final var norm = Math.sqrt(a * a + b * b + c * c + d * d);
+        CoordinateTransformation.quaternionToMatrix(a / norm, b / norm, c / norm, d / norm, result, 0);
+    }
+
+    /**
+     * Finds last sample whose timestamp is less than or equal to provided one within a range
+     * of samples using a binary search.
+     *
+     * @param timestamps timestamps of samples.
+     * @param timestamp  timestamp to search for.
+     * @param low        first sample of range (inclusive).
+     * @param high       last sample of range (inclusive).
+     * @return index of found sample or low - 1 if all samples within range have a greater
+     * timestamp.
+     */
+    private static int floorIndex(final double[] timestamps, final double timestamp, final int low,
+                                  final int high) {
+        var l = low;
+        var h = high;
+        while (l <= h) {
+            final var middle = (l + h) >>> 1;
+            if (timestamps[middle] <= timestamp) {
+                l = middle + 1;
+            } else {
+                h = middle - 1;
+            }
+        }
+        return h;
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Contains a trajectory of NED frames stored as a structure of arrays.
+ * Each column is a primitive array containing timestamps, latitudes, longitudes, heights, velocity
+ * coordinates resolved along north, east and down axes, or attitudes, which are stored as the 9
+ * elements of body to NED coordinate transformation matrices in column-major order.
+ * Hence, a sample takes 16 values instead of the several objects contained in each frame, and
+ * columns can be directly provided to bulk conversions.
+ * Frames are only created on demand, and existing instances can be reused to retrieve or store
+ * samples without allocating heap memory.
+ * Columns are exposed without copying, and they might contain more elements than the number of
+ * samples of this trajectory.
+ */
+public class NEDTrajectory implements Serializable {
+
+    /**
+     * Default number of samples that can be stored before columns need to grow.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Number of samples.
+     */
+    int size;
+
+    /**
+     * Timestamps of samples expressed in seconds (s).
+     */
+    double[] timestamps;
+
+    /**
+     * Latitudes expressed in radians (rad).
+     */
+    double[] latitude;
+
+    /**
+     * Longitudes expressed in radians (rad).
+     */
+    double[] longitude;
+
+    /**
+     * Heights expressed in meters (m).
+     */
+    double[] height;
+
+    /**
+     * North coordinates of body velocity expressed in meters per second (m/s).
+     */
+    double[] vn;
+
+    /**
+     * East coordinates of body velocity expressed in meters per second (m/s).
+     */
+    double[] ve;
+
+    /**
+     * Down coordinates of body velocity expressed in meters per second (m/s).
+     */
+    double[] vd;
+
+    /**
+     * Body to NED coordinate transformation matrices, stored as 9 consecutive elements in
+     * column-major order for each sample.
+     */
+    double[] attitudes;
+
+    /**
+     * Constructor.
+     * Creates an empty trajectory having default capacity.
+     */
+    public NEDTrajectory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     * Creates an empty trajectory.
+     *
+     * @param capacity number of samples that can be stored before columns need to grow.
+     * @throws IllegalArgumentException if provided capacity is negative.
+     */
+    public NEDTrajectory(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        timestamps = new double[capacity];
+        latitude = new double[capacity];
+        longitude = new double[capacity];
+        height = new double[capacity];
+        vn = new double[capacity];
+        ve = new double[capacity];
+        vd = new double[capacity];
+        attitudes = new double[capacity * CoordinateTransformation.ELEMENTS];
+    }
+
+    /**
+     * Gets number of samples.
+     *
+     * @return number of samples.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates whether this trajectory contains no samples.
+     *
+     * @return true if trajectory is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets number of samples that can be stored before columns need to grow.
+     *
+     * @return capacity of this trajectory.
+     */
+    public int getCapacity() {
+        return timestamps.length;
+    }
+
+    /**
+     * Ensures that provided number of samples can be stored without growing columns again.
+     * When columns need to grow, their capacity is at least doubled, so that samples can be
+     * added in amortized constant time.
+     *
+     * @param capacity minimum required capacity.
+     */
+    public void ensureCapacity(final int capacity) {
+        final var current = timestamps.length;
+        if (capacity > current) {
+            resize(Math.max(capacity, 2 * current));
+        }
+    }
+
+    /**
+     * Reduces capacity to the number of samples, releasing unused memory.
+     */
+    public void trimToSize() {
+        if (size < timestamps.length) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Removes all samples while keeping current capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sets number of samples.
+     * When size increases, new samples are located at zero latitude, longitude and height, have zero velocity and
+     * timestamp and an identity attitude, so that their columns can be directly overwritten
+     * (e.g. by bulk conversions).
+     *
+     * @param size number of samples to be set.
+     * @throws IllegalArgumentException if provided size is negative.
+     */
+    public void setSize(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        ensureCapacity(size);
+        for (var i = this.size; i < size; i++) {
+            timestamps[i] = 0.0;
+            latitude[i] = 0.0;
+            longitude[i] = 0.0;
+            height[i] = 0.0;
+            vn[i] = 0.0;
+            ve[i] = 0.0;
+            vd[i] = 0.0;
+            setIdentityAttitude(i);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Adds a sample at the end of this trajectory.
+     * Values of provided frame are copied, and no reference to it is kept.
+     *
+     * @param timestamp timestamp of sample expressed in seconds (s).
+     * @param frame     frame containing position, velocity and attitude of sample.
+     */
+    public void add(final double timestamp, final NEDFrame frame) {
+        ensureCapacity(size + 1);
+        size++;
+        setFrame(size - 1, timestamp, frame);
+    }
+
+    /**
+     * Adds a sample having an identity attitude at the end of this trajectory.
+     *
+     * @param timestamp timestamp of sample expressed in seconds (s).
+     * @param latitude  latitude expressed in radians (rad).
+     * @param longitude longitude expressed in radians (rad).
+     * @param height    height expressed in meters (m).
+     * @param vn        north coordinate of body velocity expressed in meters per second (m/s).
+     * @param ve        east coordinate of body velocity expressed in meters per second (m/s).
+     * @param vd        down coordinate of body velocity expressed in meters per second (m/s).
+     */
+    public void add(final double timestamp, final double latitude, final double longitude, final double height,
+                    final double vn, final double ve, final double vd) {
+        ensureCapacity(size + 1);
+        final var i = size;
+        timestamps[i] = timestamp;
+        this.latitude[i] = latitude;
+        this.longitude[i] = longitude;
+        this.height[i] = height;
+        this.vn[i] = vn;
+        this.ve[i] = ve;
+        this.vd[i] = vd;
+        setIdentityAttitude(i);
+        size++;
+    }
+
+    /**
+     * Replaces a sample of this trajectory.
+     * Values of provided frame are copied, and no reference to it is kept.
+     *
+     * @param index     index of sample to be replaced.
+     * @param timestamp timestamp of sample expressed in seconds (s).
+     * @param frame     frame containing position, velocity and attitude of sample.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    public void setFrame(final int index, final double timestamp, final NEDFrame frame) {
+        checkIndex(index);
+
+        timestamps[index] = timestamp;
+        latitude[index] = frame.getLatitude();
+        longitude[index] = frame.getLongitude();
+        height[index] = frame.getHeight();
+        vn[index] = frame.getVn();
+        ve[index] = frame.getVe();
+        vd[index] = frame.getVd();
+        System.arraycopy(frame.getCoordinateTransformationBuffer(), 0, attitudes,
+                index * CoordinateTransformation.ELEMENTS, CoordinateTransformation.ELEMENTS);
+    }
+
+    /**
+     * Gets a sample of this trajectory into provided frame.
+     * Provided frame works as a flyweight view of the sample: its coordinate transformation
+     * matrix is overwritten in place, so that no heap memory is allocated.
+     *
+     * @param index  index of sample.
+     * @param result instance where position, velocity and attitude of sample will be stored.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    public void getFrame(final int index, final NEDFrame result) {
+        checkIndex(index);
+
+        result.setPosition(latitude[index], longitude[index], height[index]);
+        result.setVelocityCoordinates(vn[index], ve[index], vd[index]);
+        System.arraycopy(attitudes, index * CoordinateTransformation.ELEMENTS,
+                result.getWritableCoordinateTransformationBuffer(), 0, CoordinateTransformation.ELEMENTS);
+    }
+
+    /**
+     * Gets a sample of this trajectory as a new frame.
+     *
+     * @param index index of sample.
+     * @return a new frame containing position, velocity and attitude of sample.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    public NEDFrame getFrame(final int index) {
+        final var result = new NEDFrame();
+        getFrame(index, result);
+        return result;
+    }
+
+    /**
+     * Gets timestamp of a sample.
+     *
+     * @param index index of sample.
+     * @return timestamp expressed in seconds (s).
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    public double getTimestamp(final int index) {
+        checkIndex(index);
+        return timestamps[index];
+    }
+
+    /**
+     * Gets column containing timestamps of samples expressed in seconds (s).
+     *
+     * @return column containing timestamps.
+     */
+    public double[] getTimestamps() {
+        return timestamps;
+    }
+
+    /**
+     * Gets column containing latitudes expressed in radians (rad).
+     *
+     * @return column containing latitudes.
+     */
+    public double[] getLatitude() {
+        return latitude;
+    }
+
+    /**
+     * Gets column containing longitudes expressed in radians (rad).
+     *
+     * @return column containing longitudes.
+     */
+    public double[] getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Gets column containing heights expressed in meters (m).
+     *
+     * @return column containing heights.
+     */
+    public double[] getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets column containing north coordinates of body velocity expressed in meters per second (m/s).
+     *
+     * @return column containing north velocity coordinates.
+     */
+    public double[] getVn() {
+        return vn;
+    }
+
+    /**
+     * Gets column containing east coordinates of body velocity expressed in meters per second (m/s).
+     *
+     * @return column containing east velocity coordinates.
+     */
+    public double[] getVe() {
+        return ve;
+    }
+
+    /**
+     * Gets column containing down coordinates of body velocity expressed in meters per second (m/s).
+     *
+     * @return column containing down velocity coordinates.
+     */
+    public double[] getVd() {
+        return vd;
+    }
+
+    /**
+     * Gets column containing body to NED coordinate transformation matrices, stored as
+     * 9 consecutive elements in column-major order for each sample.
+     *
+     * @return column containing attitudes.
+     */
+    public double[] getAttitudes() {
+        return attitudes;
+    }
+
+    /**
+     * Checks that provided sample index is valid.
+     *
+     * @param index index to be checked.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Sets identity attitude of a sample.
+     *
+     * @param index index of sample.
+     */
+    private void setIdentityAttitude(final int index) {
+        final var offset = index * CoordinateTransformation.ELEMENTS;
+        Arrays.fill(attitudes, offset, offset + CoordinateTransformation.ELEMENTS, 0.0);
+        attitudes[offset] = 1.0;
+        attitudes[offset + 4] = 1.0;
+        attitudes[offset + 8] = 1.0;
+    }
+
+    /**
+     * Changes capacity of columns, keeping existing samples.
+     *
+     * @param capacity new capacity.
+     */
+    private void resize(final int capacity) {
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        latitude = Arrays.copyOf(latitude, capacity);
+        longitude = Arrays.copyOf(longitude, capacity);
+        height = Arrays.copyOf(height, capacity);
+        vn = Arrays.copyOf(vn, capacity);
+        ve = Arrays.copyOf(ve, capacity);
+        vd = Arrays.copyOf(vd, capacity);
+        attitudes = Arrays.copyOf(attitudes, capacity * CoordinateTransformation.ELEMENTS);
+    }
+}
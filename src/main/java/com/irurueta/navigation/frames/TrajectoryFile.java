@@ -0,0 +1,808 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Binary file containing a trajectory of ECEF, ECI or NED frames.
+ * Files contain a header of {@link #HEADER_SIZE} bytes followed by fixed-width records of
+ * {@link #RECORD_SIZE} bytes, one per sample, so that any sample can be located without
+ * reading the whole file. All values are stored in little-endian byte order.
+ * The header contains:
+ * <ul>
+ *     <li>{@link #MAGIC} number identifying trajectory files (4 byte integer).</li>
+ *     <li>Format {@link #VERSION} (4 byte integer).</li>
+ *     <li>{@link #RECORD_SIZE} (4 byte integer).</li>
+ *     <li>Reserved bytes (4 bytes).</li>
+ * </ul>
+ * Each record contains:
+ * <ul>
+ *     <li>Timestamp expressed in seconds (8 byte double).</li>
+ *     <li>Position as x, y and z coordinates for ECEF and ECI frames, or as latitude, longitude
+ *     and height for NED frames (3 doubles).</li>
+ *     <li>Velocity as x, y and z coordinates for ECEF and ECI frames, or as north, east and
+ *     down coordinates for NED frames (3 doubles).</li>
+ *     <li>Attitude as a unit quaternion (a, b, c, d), where a is the scalar part, using the same
+ *     convention as {@link com.irurueta.geometry.Quaternion} (4 doubles).</li>
+ *     <li>Ordinal of the {@link FrameType} of the record (4 byte integer).</li>
+ *     <li>Padding to keep records aligned to 8 bytes (4 bytes).</li>
+ * </ul>
+ * Timestamps, positions and velocities are restored exactly, whereas coordinate transformation
+ * matrices are restored from quaternions up to rounding errors (about 1e-15).
+ * Samples are read through memory-mapped segments of the file, and appended samples are
+ * buffered and written through its {@link FileChannel} when buffer becomes full or
+ * when {@link #flush()} or {@link #close()} is called. Buffered samples are read directly
+ * from the write buffer, so that reading them neither writes nor maps the file. Since the number of samples is obtained
+ * from file size, incomplete records left at the end of the file (e.g. when recording is
+ * interrupted) are ignored and overwritten by the next appended sample.
+ * Timestamps must be non-decreasing and cannot be NaN, so that samples can be searched by
+ * timestamp.
+ * Instances are not thread-safe.
+ */
+public class TrajectoryFile implements Closeable {
+
+    /**
+     * Number identifying trajectory files ("NAVT" in ASCII).
+     */
+    public static final int MAGIC = 0x4E415654;
+
+    /**
+     * Version of file format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Size of file header expressed in bytes.
+     */
+    public static final int HEADER_SIZE = 16;
+
+    /**
+     * Size of each record expressed in bytes.
+     */
+    public static final int RECORD_SIZE = 96;
+
+    /**
+     * Number of records that are buffered before being written into file.
+     */
+    public static final int WRITE_BUFFER_RECORDS = 256;
+
+    /**
+     * Base 2 logarithm of number of records contained in each memory-mapped segment.
+     */
+    static final int SEGMENT_SHIFT = 20;
+
+    /**
+     * Number of records contained in each memory-mapped segment.
+     */
+    static final int SEGMENT_RECORDS = 1 << SEGMENT_SHIFT;
+
+    /**
+     * Position of timestamp within a record.
+     */
+    private static final int TIMESTAMP_OFFSET = 0;
+
+    /**
+     * Position of first position coordinate within a record.
+     */
+    private static final int POSITION_OFFSET = 8;
+
+    /**
+     * Position of first velocity coordinate within a record.
+     */
+    private static final int VELOCITY_OFFSET = 32;
+
+    /**
+     * Position of attitude quaternion within a record.
+     */
+    private static final int ATTITUDE_OFFSET = 56;
+
+    /**
+     * Position of frame type within a record.
+     */
+    private static final int TYPE_OFFSET = 88;
+
+    /**
+     * Available frame types.
+     */
+    private static final FrameType[] FRAME_TYPES = FrameType.values();
+
+    /**
+     * Channel of file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Indicates whether file was opened in read-only mode.
+     */
+    private final boolean readOnly;
+
+    /**
+     * Buffer containing appended records not yet written into file.
+     */
+    private final ByteBuffer writeBuffer;
+
+    /**
+     * Memory-mapped segments of file.
+     */
+    private MappedByteBuffer[] segments = new MappedByteBuffer[1];
+
+    /**
+     * Number of records written into file.
+     */
+    private int written;
+
+    /**
+     * Number of records, including buffered ones.
+     */
+    private int size;
+
+    /**
+     * Timestamp of last record.
+     */
+    private double lastTimestamp = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Buffer reused to convert attitudes into quaternions.
+     */
+    private final double[] quaternion = new double[4];
+
+    /**
+     * Constructor.
+     *
+     * @param channel  channel of file.
+     * @param readOnly true if file is opened in read-only mode.
+     */
+    private TrajectoryFile(final FileChannel channel, final boolean readOnly) {
+        this.channel = channel;
+        this.readOnly = readOnly;
+        writeBuffer = readOnly ? null
+                : ByteBuffer.allocate(WRITE_BUFFER_RECORDS * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Creates a new empty trajectory file, replacing any existing file at provided path.
+     *
+     * @param path path of file to be created.
+     * @return opened trajectory file where samples can be appended.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static TrajectoryFile create(final Path path) throws IOException {
+        final var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(RECORD_SIZE).putInt(0).flip();
+            writeFully(channel, header, 0);
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new TrajectoryFile(channel, false);
+    }
+
+    /**
+     * Opens an existing trajectory file to read samples and append new ones.
+     *
+     * @param path path of file to be opened.
+     * @return opened trajectory file.
+     * @throws IOException if an I/O error occurs or file is not a valid trajectory file.
+     */
+    public static TrajectoryFile open(final Path path) throws IOException {
+        return open(path, false);
+    }
+
+    /**
+     * Opens an existing trajectory file.
+     *
+     * @param path     path of file to be opened.
+     * @param readOnly true to open file in read-only mode, false to also allow appending samples.
+     * @return opened trajectory file.
+     * @throws IOException if an I/O error occurs or file is not a valid trajectory file.
+     */
+    public static TrajectoryFile open(final Path path, final boolean readOnly) throws IOException {
+        final var channel = readOnly ? FileChannel.open(path, StandardOpenOption.READ)
+                : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final var fileSize = channel.size();
+            final var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            if (fileSize < HEADER_SIZE || channel.read(header, 0) != HEADER_SIZE
+                    || header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                    || header.getInt(8) != RECORD_SIZE) {
+                throw new IOException("Not a valid trajectory file");
+            }
+
+            final var records = (fileSize - HEADER_SIZE) / RECORD_SIZE;
+            if (records > Integer.MAX_VALUE) {
+                throw new IOException("Too many records");
+            }
+
+            final var result = new TrajectoryFile(channel, readOnly);
+            result.written = (int) records;
+            result.size = result.written;
+            if (result.size > 0) {
+                result.lastTimestamp = result.getTimestamp(result.size - 1);
+            }
+            return result;
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets number of samples, including appended ones not yet written into file.
+     *
+     * @return number of samples.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates whether file was opened in read-only mode.
+     *
+     * @return true if file is read-only, false otherwise.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Appends a sample containing an ECEF frame.
+     *
+     * @param timestamp timestamp of sample expressed in seconds (s).
+     * @param frame     frame to be appended.
+     * @throws IOException                  if an I/O error occurs.
+     * @throws IllegalArgumentException     if timestamp is smaller than the one of last sample.
+     * @throws NonWritableChannelException if file was opened in read-only mode.
+     */
+    public void append(final double timestamp, final ECEFFrame frame) throws IOException {
+        appendECIorECEF(timestamp, frame, FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+    }
+
+    /**
+     * Appends a sample containing an ECI frame.
+     *
+     * @param timestamp timestamp of sample expressed in seconds (s).
+     * @param frame     frame to be appended.
+     * @throws IOException                  if an I/O error occurs.
+     * @throws IllegalArgumentException     if timestamp is smaller than the one of last sample.
+     * @throws NonWritableChannelException if file was opened in read-only mode.
+     */
+    public void append(final double timestamp, final ECIFrame frame) throws IOException {
+        appendECIorECEF(timestamp, frame, FrameType.EARTH_CENTERED_INERTIAL_FRAME);
+    }
+
+    /**
+     * Appends a sample containing a NED frame.
+     *
+     * @param timestamp timestamp of sample expressed in seconds (s).
+     * @param frame     frame to be appended.
+     * @throws IOException                  if an I/O error occurs.
+     * @throws IllegalArgumentException     if timestamp is smaller than the one of last sample.
+     * @throws NonWritableChannelException if file was opened in read-only mode.
+     */
+    public void append(final double timestamp, final NEDFrame frame) throws IOException {
+        appendRecord(timestamp, frame.getLatitude(), frame.getLongitude(), frame.getHeight(),
+                frame.getVn(), frame.getVe(), frame.getVd(), frame.getCoordinateTransformationBuffer(), 0,
+                FrameType.LOCAL_NAVIGATION_FRAME);
+    }
+
+    /**
+     * Appends all samples of an ECEF trajectory.
+     *
+     * @param trajectory trajectory to be appended.
+     * @throws IOException                  if an I/O error occurs.
+     * @throws IllegalArgumentException     if timestamps are decreasing.
+     * @throws NonWritableChannelException if file was opened in read-only mode.
+     */
+    public void append(final ECEFTrajectory trajectory) throws IOException {
+        appendECIorECEF(trajectory, FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+    }
+
+    /**
+     * Appends all samples of an ECI trajectory.
+     *
+     * @param trajectory trajectory to be appended.
+     * @throws IOException                  if an I/O error occurs.
+     * @throws IllegalArgumentException     if timestamps are decreasing.
+     * @throws NonWritableChannelException if file was opened in read-only mode.
+     */
+    public void append(final ECITrajectory trajectory) throws IOException {
+        appendECIorECEF(trajectory, FrameType.EARTH_CENTERED_INERTIAL_FRAME);
+    }
+
+    /**
+     * Appends all samples of a NED trajectory.
+     *
+     * @param trajectory trajectory to be appended.
+     * @throws IOException                  if an I/O error occurs.
+     * @throws IllegalArgumentException     if timestamps are decreasing.
+     * @throws NonWritableChannelException if file was opened in read-only mode.
+     */
+    public void append(final NEDTrajectory trajectory) throws IOException {
+        for (var i = 0; i < trajectory.size; i++) {
+            appendRecord(trajectory.timestamps[i], trajectory.latitude[i], trajectory.longitude[i],
+                    trajectory.height[i], trajectory.vn[i], trajectory.ve[i], trajectory.vd[i],
+                    trajectory.attitudes, i * CoordinateTransformation.ELEMENTS, FrameType.LOCAL_NAVIGATION_FRAME);
+        }
+    }
+
+    /**
+     * Gets frame type of a sample.
+     *
+     * @param index index of sample.
+     * @return frame type of sample.
+     * @throws IOException               if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    public FrameType getFrameType(final int index) throws IOException {
+        final var buffer = record(index);
+        return FRAME_TYPES[buffer.getInt(recordOffset(index) + TYPE_OFFSET)];
+    }
+
+    /**
+     * Gets timestamp of a sample.
+     *
+     * @param index index of sample.
+     * @return timestamp expressed in seconds (s).
+     * @throws IOException               if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    public double getTimestamp(final int index) throws IOException {
+        final var buffer = record(index);
+        return buffer.getDouble(recordOffset(index) + TIMESTAMP_OFFSET);
+    }
+
+    /**
+     * Finds last sample whose timestamp is less than or equal to provided one using a binary
+     * search.
+     *
+     * @param timestamp timestamp to search for, expressed in seconds (s).
+     * @return index of found sample or -1 if all samples have a greater timestamp.
+     * @throws IOException if an I/O error occurs.
+     */
+    public int floorIndex(final double timestamp) throws IOException {
+        var low = 0;
+        var high = size - 1;
+        while (low <= high) {
+            final var middle = (low + high) >>> 1;
+            if (getTimestamp(middle) <= timestamp) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Gets a sample containing an ECEF frame.
+     * Provided frame is overwritten in place, so that no heap memory is allocated.
+     *
+     * @param index  index of sample.
+     * @param result instance where sample will be stored.
+     * @throws IOException               if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     * @throws IllegalArgumentException  if sample does not contain an ECEF frame.
+     */
+    public void getFrame(final int index, final ECEFFrame result) throws IOException {
+        getECIorECEFFrame(index, result, FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+    }
+
+    /**
+     * Gets a sample containing an ECI frame.
+     * Provided frame is overwritten in place, so that no heap memory is allocated.
+     *
+     * @param index  index of sample.
+     * @param result instance where sample will be stored.
+     * @throws IOException               if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     * @throws IllegalArgumentException  if sample does not contain an ECI frame.
+     */
+    public void getFrame(final int index, final ECIFrame result) throws IOException {
+        getECIorECEFFrame(index, result, FrameType.EARTH_CENTERED_INERTIAL_FRAME);
+    }
+
+    /**
+     * Gets a sample containing a NED frame.
+     * Provided frame is overwritten in place, so that no heap memory is allocated.
+     *
+     * @param index  index of sample.
+     * @param result instance where sample will be stored.
+     * @throws IOException               if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     * @throws IllegalArgumentException  if sample does not contain a NED frame.
+     */
+    public void getFrame(final int index, final NEDFrame result) throws IOException {
+        final var buffer = checkedRecord(index, FrameType.LOCAL_NAVIGATION_FRAME);
+        final var offset = recordOffset(index);
+        result.setPosition(buffer.getDouble(offset + POSITION_OFFSET), buffer.getDouble(offset + POSITION_OFFSET + 8),
+                buffer.getDouble(offset + POSITION_OFFSET + 16));
+        result.setVelocityCoordinates(buffer.getDouble(offset + VELOCITY_OFFSET),
+                buffer.getDouble(offset + VELOCITY_OFFSET + 8), buffer.getDouble(offset + VELOCITY_OFFSET + 16));
+        readAttitude(buffer, offset, result.getWritableCoordinateTransformationBuffer(), 0);
+    }
+
+    /**
+     * Gets a sample as a new frame of the type stored in file.
+     *
+     * @param index index of sample.
+     * @return a new {@link ECEFFrame}, {@link ECIFrame} or {@link NEDFrame}.
+     * @throws IOException               if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    public Frame getFrame(final int index) throws IOException {
+        switch (getFrameType(index)) {
+            case EARTH_CENTERED_INERTIAL_FRAME:
+                final var eciFrame = new ECIFrame();
+                getFrame(index, eciFrame);
+                return eciFrame;
+            case LOCAL_NAVIGATION_FRAME:
+                final var nedFrame = new NEDFrame();
+                getFrame(index, nedFrame);
+                return nedFrame;
+            default:
+                final var ecefFrame = new ECEFFrame();
+                getFrame(index, ecefFrame);
+                return ecefFrame;
+        }
+    }
+
+    /**
+     * Reads consecutive samples containing ECEF frames and appends them to provided trajectory.
+     *
+     * @param offset index of first sample to be read.
+     * @param length number of samples to be read.
+     * @param result trajectory where samples will be appended.
+     * @throws IOException               if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if any index is not valid.
+     * @throws IllegalArgumentException  if any sample does not contain an ECEF frame.
+     */
+    public void read(final int offset, final int length, final ECEFTrajectory result) throws IOException {
+        readECIorECEF(offset, length, result, FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+    }
+
+    /**
+     * Reads consecutive samples containing ECI frames and appends them to provided trajectory.
+     *
+     * @param offset index of first sample to be read.
+     * @param length number of samples to be read.
+     * @param result trajectory where samples will be appended.
+     * @throws IOException               if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if any index is not valid.
+     * @throws IllegalArgumentException  if any sample does not contain an ECI frame.
+     */
+    public void read(final int offset, final int length, final ECITrajectory result) throws IOException {
+        readECIorECEF(offset, length, result, FrameType.EARTH_CENTERED_INERTIAL_FRAME);
+    }
+
+    /**
+     * Reads consecutive samples containing NED frames and appends them to provided trajectory.
+     *
+     * @param offset index of first sample to be read.
+     * @param length number of samples to be read.
+     * @param result trajectory where samples will be appended.
+     * @throws IOException               if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if any index is not valid.
+     * @throws IllegalArgumentException  if any sample does not contain a NED frame.
+     */
+    public void read(final int offset, final int length, final NEDTrajectory result) throws IOException {
+        checkRange(offset, length);
+        result.ensureCapacity(result.size + length);
+        for (var i = offset; i < offset + length; i++) {
+            final var buffer = checkedRecord(i, FrameType.LOCAL_NAVIGATION_FRAME);
+            final var recordOffset = recordOffset(i);
+            final var j = result.size;
+            result.timestamps[j] = buffer.getDouble(recordOffset + TIMESTAMP_OFFSET);
+            result.latitude[j] = buffer.getDouble(recordOffset + POSITION_OFFSET);
+            result.longitude[j] = buffer.getDouble(recordOffset + POSITION_OFFSET + 8);
+            result.height[j] = buffer.getDouble(recordOffset + POSITION_OFFSET + 16);
+            result.vn[j] = buffer.getDouble(recordOffset + VELOCITY_OFFSET);
+            result.ve[j] = buffer.getDouble(recordOffset + VELOCITY_OFFSET + 8);
+            result.vd[j] = buffer.getDouble(recordOffset + VELOCITY_OFFSET + 16);
+            readAttitude(buffer, recordOffset, result.attitudes, j * CoordinateTransformation.ELEMENTS);
+            result.size++;
+        }
+    }
+
+    /**
+     * Writes buffered samples into file.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    public void flush() throws IOException {
+        if (writeBuffer == null || writeBuffer.position() == 0) {
+            return;
+        }
+
+        final var records = writeBuffer.position() / RECORD_SIZE;
+        writeBuffer.flip();
+        writeFully(channel, writeBuffer, HEADER_SIZE + (long) written * RECORD_SIZE);
+        writeBuffer.clear();
+        written += records;
+    }
+
+    /**
+     * Writes buffered samples and closes file.
+     * Memory-mapped segments are released once they are garbage collected.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            Arrays.fill(segments, null);
+            channel.close();
+        }
+    }
+
+    /**
+     * Appends a sample containing an ECI or ECEF frame.
+     *
+     * @param timestamp timestamp of sample.
+     * @param frame     frame to be appended.
+     * @param type      type of frame.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void appendECIorECEF(final double timestamp, final ECIorECEFFrame<?> frame, final FrameType type)
+            throws IOException {
+        appendRecord(timestamp, frame.x, frame.y, frame.z, frame.vx, frame.vy, frame.vz,
+                frame.getCoordinateTransformationBuffer(), 0, type);
+    }
+
+    /**
+     * Appends all samples of a trajectory of ECI or ECEF frames.
+     *
+     * @param trajectory trajectory to be appended.
+     * @param type       type of frames.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void appendECIorECEF(final ECIorECEFTrajectory<?> trajectory, final FrameType type) throws IOException {
+        for (var i = 0; i < trajectory.size; i++) {
+            appendRecord(trajectory.timestamps[i], trajectory.x[i], trajectory.y[i], trajectory.z[i],
+                    trajectory.vx[i], trajectory.vy[i], trajectory.vz[i],
+                    trajectory.attitudes, i * CoordinateTransformation.ELEMENTS, type);
+        }
+    }
+
+    /**
+     * Appends a record into write buffer, writing buffer into file when it becomes full.
+     *
+     * @param timestamp      timestamp of sample.
+     * @param p0             first position coordinate.
+     * @param p1             second position coordinate.
+     * @param p2             third position coordinate.
+     * @param v0             first velocity coordinate.
+     * @param v1             second velocity coordinate.
+     * @param v2             third velocity coordinate.
+     * @param attitude       array containing coordinate transformation matrix in column-major order.
+     * @param attitudeOffset position of matrix within attitude array.
+     * @param type           type of frame.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void appendRecord(final double timestamp, final double p0, final double p1, final double p2,
+                              final double v0, final double v1, final double v2,
+                              final double[] attitude, final int attitudeOffset, final FrameType type)
+            throws IOException {
+        if (readOnly) {
+            throw new NonWritableChannelException();
+        }
+        if (!(timestamp >= lastTimestamp)) {
+            throw new IllegalArgumentException();
+        }
+
+        final var buffer = writeBuffer;
+        buffer.putDouble(timestamp);
+        buffer.putDouble(p0).putDouble(p1).putDouble(p2);
+        buffer.putDouble(v0).putDouble(v1).putDouble(v2);
+        writeQuaternion(buffer, attitude, attitudeOffset);
+        buffer.putInt(type.ordinal()).putInt(0);
+
+        lastTimestamp = timestamp;
+        size++;
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+    }
+
+    /**
+     * Gets a sample containing an ECI or ECEF frame.
+     *
+     * @param index  index of sample.
+     * @param result instance where sample will be stored.
+     * @param type   expected type of frame.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void getECIorECEFFrame(final int index, final ECIorECEFFrame<?> result, final FrameType type)
+            throws IOException {
+        final var buffer = checkedRecord(index, type);
+        final var offset = recordOffset(index);
+        result.x = buffer.getDouble(offset + POSITION_OFFSET);
+        result.y = buffer.getDouble(offset + POSITION_OFFSET + 8);
+        result.z = buffer.getDouble(offset + POSITION_OFFSET + 16);
+        result.vx = buffer.getDouble(offset + VELOCITY_OFFSET);
+        result.vy = buffer.getDouble(offset + VELOCITY_OFFSET + 8);
+        result.vz = buffer.getDouble(offset + VELOCITY_OFFSET + 16);
+        readAttitude(buffer, offset, result.getWritableCoordinateTransformationBuffer(), 0);
+    }
+
+    /**
+     * Reads consecutive samples containing ECI or ECEF frames and appends them to provided
+     * trajectory.
+     *
+     * @param offset index of first sample to be read.
+     * @param length number of samples to be read.
+     * @param result trajectory where samples will be appended.
+     * @param type   expected type of frames.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void readECIorECEF(final int offset, final int length, final ECIorECEFTrajectory<?> result,
+                               final FrameType type) throws IOException {
+        checkRange(offset, length);
+        result.ensureCapacity(result.size + length);
+        for (var i = offset; i < offset + length; i++) {
+            final var buffer = checkedRecord(i, type);
+            final var recordOffset = recordOffset(i);
+            final var j = result.size;
+            result.timestamps[j] = buffer.getDouble(recordOffset + TIMESTAMP_OFFSET);
+            result.x[j] = buffer.getDouble(recordOffset + POSITION_OFFSET);
+            result.y[j] = buffer.getDouble(recordOffset + POSITION_OFFSET + 8);
+            result.z[j] = buffer.getDouble(recordOffset + POSITION_OFFSET + 16);
+            result.vx[j] = buffer.getDouble(recordOffset + VELOCITY_OFFSET);
+            result.vy[j] = buffer.getDouble(recordOffset + VELOCITY_OFFSET + 8);
+            result.vz[j] = buffer.getDouble(recordOffset + VELOCITY_OFFSET + 16);
+            readAttitude(buffer, recordOffset, result.attitudes, j * CoordinateTransformation.ELEMENTS);
+            result.size++;
+        }
+    }
+
+    /**
+     * Gets buffer containing a sample and checks its frame type.
+     *
+     * @param index index of sample.
+     * @param type  expected type of frame.
+     * @return buffer containing sample.
+     * @throws IOException              if an I/O error occurs.
+     * @throws IllegalArgumentException if sample does not have expected frame type.
+     */
+    private ByteBuffer checkedRecord(final int index, final FrameType type) throws IOException {
+        final var buffer = record(index);
+        if (buffer.getInt(recordOffset(index) + TYPE_OFFSET) != type.ordinal()) {
+            throw new IllegalArgumentException();
+        }
+        return buffer;
+    }
+
+    /**
+     * Gets buffer containing a sample.
+     * Samples not yet written into file are read from write buffer, whereas written samples
+     * are read from their memory-mapped segment, which is mapped again if needed.
+     *
+     * @param index index of sample.
+     * @return write buffer or memory-mapped segment containing sample.
+     * @throws IOException               if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if index is not valid.
+     */
+    private ByteBuffer record(final int index) throws IOException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index >= written) {
+            return writeBuffer;
+        }
+
+        final var segment = index >>> SEGMENT_SHIFT;
+        if (segment >= segments.length) {
+            segments = Arrays.copyOf(segments, segment + 1);
+        }
+
+        var buffer = segments[segment];
+        final var required = recordOffset(index) + RECORD_SIZE;
+        if (buffer == null || buffer.capacity() < required) {
+            // map whole segment when already written, or up to last written record otherwise
+            final var first = (long) segment << SEGMENT_SHIFT;
+            final var records = Math.min(SEGMENT_RECORDS, written - first);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * RECORD_SIZE,
+                    records * RECORD_SIZE);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            segments[segment] = buffer;
+        }
+        return buffer;
+    }
+
+    /**
+     * Checks that a range of samples is valid.
+     *
+     * @param offset index of first sample.
+     * @param length number of samples.
+     * @throws IndexOutOfBoundsException if range is not valid.
+     */
+    private void checkRange(final int offset, final int length) {
+        if (offset < 0 || length < 0 || (long) offset + length > size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Gets position of a record within the buffer returned by {@link #record(int)}.
+     *
+     * @param index index of sample.
+     * @return position of record expressed in bytes.
+     */
+    private int recordOffset(final int index) {
+        if (index >= written) {
+            return (index - written) * RECORD_SIZE;
+        }
+        return (index & (SEGMENT_RECORDS - 1)) * RECORD_SIZE;
+    }
+
+    /**
+     * Writes all remaining bytes of a buffer into file at provided position.
+     *
+     * @param channel  channel of file.
+     * @param buffer   buffer to be written.
+     * @param position position of file where buffer will be written.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+            throws IOException {
+        var p = position;
+        while (buffer.hasRemaining()) {
+            p += channel.write(buffer, p);
+        }
+    }
+
+    /**
+     * Converts a rotation matrix into a unit quaternion and writes it into provided buffer.
+     *
+     * @param buffer buffer where quaternion will be written.
+     * @param m      array containing rotation matrix in column-major order.
+     * @param offset position of matrix within array.
+     */
+    private void writeQuaternion(final ByteBuffer buffer, final double[] m, final int offset) {
+        CoordinateTransformation.matrixToQuaternion(m, offset, quaternion);
+        buffer.putDouble(quaternion[0]).putDouble(quaternion[1]).putDouble(quaternion[2]).putDouble(quaternion[3]);
+    }
+
+    /**
+     * Reads attitude quaternion of a record and converts it into a rotation matrix.
+     *
+     * @param buffer       buffer containing record.
+     * @param recordOffset position of record within buffer.
+     * @param m            array where rotation matrix will be stored in column-major order.
+     * @param offset       position of matrix within array.
+     */
+    private static void readAttitude(final ByteBuffer buffer, final int recordOffset, final double[] m,
+                                     final int offset) {
+        CoordinateTransformation.quaternionToMatrix(buffer.getDouble(recordOffset + ATTITUDE_OFFSET),
+                buffer.getDouble(recordOffset + ATTITUDE_OFFSET + 8),
+                buffer.getDouble(recordOffset + ATTITUDE_OFFSET + 16),
+                buffer.getDouble(recordOffset + ATTITUDE_OFFSET + 24), m, offset);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames.converters;
+
+import com.irurueta.navigation.frames.NEDPosition;
+
+/**
+ * Converts cartesian ECEF positions into geodetic coordinates using Borkowski
+ * closed-form exact solution.
+ * This implementation is based on the equations defined in "Principles of GNSS, Inertial, and Multi-sensor
+ * Integrated Navigation Systems, Second Edition", and it is the implementation
+ * used by static methods of {@link ECEFtoNEDPositionVelocityConverter}, including
+ * bulk conversions.
+ * Height errors are below 1e-8 m, but numerical cancellation limits horizontal
+ * errors to about 5e-6 m near Earth's surface and 5e-5 m at GNSS orbit heights.
+ */
+public class BorkowskiECEFtoGeodeticConverter extends ECEFtoGeodeticConverter {
+
+    /**
+     * Gets conversion method of this instance.
+     *
+     * @return conversion method.
+     */
+    @Override
+    public GeodeticConversionMethod getMethod() {
+        return GeodeticConversionMethod.BORKOWSKI;
+    }
+
+    /**
+     * Converts a cartesian ECEF position into geodetic coordinates.
+     *
+     * @param x      x cartesian coordinate expressed in meters (m).
+     * @param y      y cartesian coordinate expressed in meters (m).
+     * @param z      z cartesian coordinate expressed in meters (m).
+     * @param result instance where latitude, longitude and height will be stored.
+     */
+    @Override
+    public void convert(final double x, final double y, final double z, final NEDPosition result) {
+        // From (2.113)
+        final var longitude = Math.atan2(y, x);
+
+        // From (C.29) and (C.30)
+        final var k1 = Math.sqrt(1.0 - ECC2) * Math.abs(z);
+        final var k2 = ECC2 * EARTH_EQUATORIAL_RADIUS_WGS84;
+        final var beta = Math.sqrt(x * x + y * y);
+        final var e = (k1 - k2) / beta;
+        final var f = (k1 + k2) / beta;
+
+        // From (C.31)
+        final var p = 4.0 / 3.0 * (e * f + 1.0);
+
+        // From (C.32)
+        final var e2 = e * e;
+        final var f2 = f * f;
+        final var q = 2.0 * (e2 - f2);
+
+        // From (C.33)
+        final var p3 = p * p * p;
+        final var q2 = q * q;
+        final var d = p3 + q2;
+
+        // From (C.34)
+        final var sqrtD = Math.sqrt(d);
+        final var v = Math.pow(sqrtD - q, 1.0 / 3.0) - Math.pow(sqrtD + q, 1.0 / 3.0);
+
+        // From (C.35)
+        final var g = 0.5 * (Math.sqrt(e2 + v) + e);
+
+        // From (C.36)
+        final var g2 = g * g;
+        final var t = Math.sqrt(g2 + (f - v * g) / (2.0 * g - e)) - g;
+
+        // From (C.37)
+        final var t2 = t * t;
+        final var latitude = Math.signum(z) * Math.atan((1 - t2) / (2.0 * t * Math.sqrt(1.0 - ECC2)));
+
+        // From (C.38)
+        final var height = (beta - EARTH_EQUATORIAL_RADIUS_WGS84 * t) * Math.cos(latitude)
+                + (z - Math.signum(z) * EARTH_EQUATORIAL_RADIUS_WGS84 * Math.sqrt(1.0 - ECC2))
+                * Math.sin(latitude);
+
+        result.setCoordinates(latitude, longitude, height);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames.converters;
+
+import com.irurueta.navigation.frames.NEDPosition;
+
+/**
+ * Converts cartesian ECEF positions into geodetic coordinates using Bowring
+ * iterative method.
+ * This implementation is based on B. R. Bowring, "Transformation from spatial
+ * to geographical coordinates", Survey Review (1976) 23:323-327.
+ * Each iteration refines latitude starting from the reduced (parametric)
+ * latitude of the point, and height is computed from the final latitude using
+ * an expression that remains stable at the poles.
+ * A single iteration is the fastest available method, with errors below 1e-6 m
+ * for heights between -10 km and 10 km, 1e-4 m at 100 km and 0.3 m at
+ * geostationary heights, while two iterations keep errors below 2e-8 m from
+ * -10 km up to geostationary heights.
+ */
+public class BowringECEFtoGeodeticConverter extends ECEFtoGeodeticConverter {
+
+    /**
+     * Default number of iterations.
+     */
+    public static final int DEFAULT_ITERATIONS = 2;
+
+    /**
+     * Polar radius of WGS84 ellipsoid expressed in meters (m).
+     */
+    private static final double B = EARTH_EQUATORIAL_RADIUS_WGS84 * Math.sqrt(1.0 - ECC2);
+
+    /**
+     * Squared second eccentricity.
+     */
+    private static final double EP2 = ECC2 / (1.0 - ECC2);
+
+    /**
+     * Number of iterations.
+     */
+    private final int iterations;
+
+    /**
+     * Constructor using default number of iterations.
+     */
+    public BowringECEFtoGeodeticConverter() {
+        this(DEFAULT_ITERATIONS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param iterations number of iterations.
+     * @throws IllegalArgumentException if number of iterations is less than 1.
+     */
+    public BowringECEFtoGeodeticConverter(final int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.iterations = iterations;
+    }
+
+    /**
+     * Gets number of iterations.
+     *
+     * @return number of iterations.
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Gets conversion method of this instance.
+     *
+     * @return conversion method.
+     */
+    @Override
+    public GeodeticConversionMethod getMethod() {
+        return GeodeticConversionMethod.BOWRING;
+    }
+
+    /**
+     * Converts a cartesian ECEF position into geodetic coordinates.
+     *
+     * @param x      x cartesian coordinate expressed in meters (m).
+     * @param y      y cartesian coordinate expressed in meters (m).
+     * @param z      z cartesian coordinate expressed in meters (m).
+     * @param result instance where latitude, longitude and height will be stored.
+     */
+    @Override
+    public void convert(final double x, final double y, final double z, final NEDPosition result) {
+        final var longitude = Math.atan2(y, x);
+        final var beta = Math.sqrt(x * x + y * y);
+
+        // initial reduced latitude, represented by its (unnormalized) sine and cosine
+        var sinU = EARTH_EQUATORIAL_RADIUS_WGS84 * z;
+        var cosU = B * beta;
+        var sinLat = 0.0;
+        var cosLat = 0.0;
+        for (var i = 0; i < iterations; i++) {
+            final var norm = Math.sqrt(sinU * sinU + cosU * cosU);
+            final var su = sinU / norm;
+            final var cu = cosU / norm;
+
+            final var num = z + EP2 * B * su * su * su;
+            final var den = beta - ECC2 * EARTH_EQUATORIAL_RADIUS_WGS84 * cu * cu * cu;
+            final var latNorm = Math.sqrt(num * num + den * den);
+            sinLat = num / latNorm;
+            cosLat = den / latNorm;
+
+            // reduced latitude corresponding to current latitude estimate
+            sinU = B * sinLat;
+            cosU = EARTH_EQUATORIAL_RADIUS_WGS84 * cosLat;
+        }
+
+        final var latitude = Math.atan2(sinLat, cosLat);
+        final var height = computeHeight(beta, z, cosLat, sinLat);
+
+        result.setCoordinates(latitude, longitude, height);
+    }
+}
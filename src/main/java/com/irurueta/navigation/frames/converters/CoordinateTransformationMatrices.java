@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames.converters;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+
+/**
+ * Creates matrices reused by frame converters to hold coordinate transformations.
+ */
+final class CoordinateTransformationMatrices {
+
+    /**
+     * Prevents instantiation of utility class.
+     */
+    private CoordinateTransformationMatrices() {
+    }
+
+    /**
+     * Creates a new 3x3 matrix to hold the values of a coordinate transformation.
+     *
+     * @return a new 3x3 matrix.
+     */
+    static Matrix create() {
+        try {
+            return new Matrix(CoordinateTransformation.ROWS, CoordinateTransformation.COLS);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+            return null;
+        }
+    }
+}
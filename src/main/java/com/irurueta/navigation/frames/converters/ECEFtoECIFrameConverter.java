@@ -20,7 +20,9 @@ import com.irurueta.algebra.WrongSizeException;
 import com.irurueta.geometry.InvalidRotationMatrixException;
 import com.irurueta.navigation.frames.CoordinateTransformation;
 import com.irurueta.navigation.frames.ECEFFrame;
+import com.irurueta.navigation.frames.ECEFTrajectory;
 import com.irurueta.navigation.frames.ECIFrame;
+import com.irurueta.navigation.frames.ECITrajectory;
 import com.irurueta.navigation.frames.ECIorECEFFrame;
 import com.irurueta.navigation.frames.FrameType;
 import com.irurueta.navigation.frames.InvalidSourceAndDestinationFrameTypeException;
@@ -36,6 +38,10 @@ import com.irurueta.units.TimeUnit;
  * <a href="https://github.com/ymjdz/MATLAB-Codes/blob/master/ECEF_to_ECI.m">
  *     https://github.com/ymjdz/MATLAB-Codes/blob/master/ECEF_to_ECI.m
  * </a>
+ * Instances reuse internal buffers so that {@link #convert(double, ECEFFrame, ECIFrame)} makes no
+ * heap allocations, writing results in place into the coordinate transformation owned by the destination
+ * frame.
+ * Consequently, instances are not thread-safe, whereas static methods are.
  */
 public class ECEFtoECIFrameConverter implements TimeIntervalFrameConverter<ECEFFrame, ECIFrame> {
 
@@ -44,6 +50,24 @@ public class ECEFtoECIFrameConverter implements TimeIntervalFrameConverter<ECEFF
      */
     public static final double EARTH_ROTATION_RATE = Constants.EARTH_ROTATION_RATE;
 
+    /**
+     * Matrix reused to copy body to ECEF coordinate transformation of source frames.
+     */
+    private final Matrix cbe;
+
+    /**
+     * Matrix reused to compute body to ECI coordinate transformation of destination frames.
+     */
+    private final Matrix cbi;
+
+    /**
+     * Constructor.
+     */
+    public ECEFtoECIFrameConverter() {
+        cbe = CoordinateTransformationMatrices.create();
+        cbi = CoordinateTransformationMatrices.create();
+    }
+
     /**
      * Converts source ECEF frame to a new ECI frame instance.
      *
@@ -71,13 +95,49 @@ public class ECEFtoECIFrameConverter implements TimeIntervalFrameConverter<ECEFF
     /**
      * Converts source ECEF frame to destination ECI frame.
      *
+     * No heap memory is allocated, since the coordinate transformation matrix owned by
+     * the destination frame is overwritten in place. A coordinate transformation
+     * provided to the destination frame by the caller is never modified.
+     * Results are equal to the ones obtained through
+     * {@link #convertECEFtoECI(double, ECEFFrame, ECIFrame)},
+     * except that terms known to be zero are skipped, so zero values might differ in sign.
+     *
      * @param timeInterval a time interval expressed in seconds (s).
      * @param source       source frame to convert from.
      * @param destination  destination frame instance to convert to.
      */
     @Override
     public void convert(final double timeInterval, final ECEFFrame source, final ECIFrame destination) {
-        convertECEFtoECI(timeInterval, source, destination);
+        // Calculate ECEF to ECI coordinate transformation matrix using (2.145)
+        final var alpha = EARTH_ROTATION_RATE * timeInterval;
+        final var sinAlpha = Math.sin(alpha);
+        final var cosAlpha = Math.cos(alpha);
+
+        // Transform position using (2.146)
+        final var x = source.getX();
+        final var y = source.getY();
+        final var z = source.getZ();
+        destination.setCoordinates(cosAlpha * x + -sinAlpha * y, sinAlpha * x + cosAlpha * y, z);
+
+        // Transform velocity using (2.145)
+        final var vx = source.getVx() - EARTH_ROTATION_RATE * y;
+        final var vy = source.getVy() + EARTH_ROTATION_RATE * x;
+        destination.setVelocityCoordinates(cosAlpha * vx + -sinAlpha * vy, sinAlpha * vx + cosAlpha * vy,
+                source.getVz());
+
+        // Transform attitude using (2.15), where matrices are stored in column order
+        source.getCoordinateTransformationMatrix(cbe);
+        final var b = cbe.getBuffer();
+        final var r = cbi.getBuffer();
+        for (var k = 0; k < CoordinateTransformation.COLS; k++) {
+            final var offset = k * CoordinateTransformation.ROWS;
+            final var b0 = b[offset];
+            final var b1 = b[offset + 1];
+            r[offset] = cosAlpha * b0 + -sinAlpha * b1;
+            r[offset + 1] = sinAlpha * b0 + cosAlpha * b1;
+            r[offset + 2] = b[offset + 2];
+        }
+        destination.copyCoordinateTransformationMatrixFrom(cbi);
     }
 
     /**
@@ -89,7 +149,8 @@ public class ECEFtoECIFrameConverter implements TimeIntervalFrameConverter<ECEFF
      */
     @Override
     public void convert(final Time timeInterval, final ECEFFrame source, final ECIFrame destination) {
-        convertECEFtoECI(timeInterval, source, destination);
+        convert(TimeConverter.convert(timeInterval.getValue().doubleValue(), timeInterval.getUnit(),
+                TimeUnit.SECOND), source, destination);
     }
 
     /**
@@ -207,4 +268,199 @@ public class ECEFtoECIFrameConverter implements TimeIntervalFrameConverter<ECEFF
         convertECEFtoECI(TimeConverter.convert(timeInterval.getValue().doubleValue(), timeInterval.getUnit(),
                 TimeUnit.SECOND), source, destination);
     }
+
+    /**
+     * Converts a time series of ECEF positions and velocities to ECI coordinates.
+     * Point i is converted for offset &lt;= i &lt; offset + length using the time
+     * interval stored at position i, storing results at the same position of
+     * output arrays. Results are exactly the same as the ones obtained through
+     * {@link #convertECEFtoECI(double, ECEFFrame, ECIFrame)} and no heap memory is allocated.
+     * Output arrays can be the same as input ones.
+     *
+     * @param timeIntervals     time intervals of points expressed in seconds (s).
+     * @param x                 ECEF x coordinates expressed in meters (m).
+     * @param y                 ECEF y coordinates expressed in meters (m).
+     * @param z                 ECEF z coordinates expressed in meters (m).
+     * @param vx                ECEF x velocity coordinates expressed in meters per second (m/s).
+     * @param vy                ECEF y velocity coordinates expressed in meters per second (m/s).
+     * @param vz                ECEF z velocity coordinates expressed in meters per second (m/s).
+     * @param offset            position of first point to be converted.
+     * @param length            number of points to be converted.
+     * @param resultX           array where ECI x coordinates will be stored.
+     * @param resultY           array where ECI y coordinates will be stored.
+     * @param resultZ           array where ECI z coordinates will be stored.
+     * @param resultVx          array where ECI x velocity coordinates will be stored.
+     * @param resultVy          array where ECI y velocity coordinates will be stored.
+     * @param resultVz          array where ECI z velocity coordinates will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertECEFtoECI(final double[] timeIntervals,
+                                        final double[] x, final double[] y, final double[] z,
+                                        final double[] vx, final double[] vy, final double[] vz,
+                                        final int offset, final int length,
+                                        final double[] resultX, final double[] resultY, final double[] resultZ,
+                                        final double[] resultVx, final double[] resultVy, final double[] resultVz) {
+        ECItoECEFFrameConverter.convertBulk(-1.0, timeIntervals, 0.0, 0.0, x, y, z, vx, vy, vz, null,
+                offset, length, resultX, resultY, resultZ, resultVx, resultVy, resultVz, null);
+    }
+
+    /**
+     * Converts a time series of ECEF positions, velocities and attitudes to ECI coordinates.
+     * Point i is converted for offset &lt;= i &lt; offset + length using the time
+     * interval stored at position i, storing results at the same position of
+     * output arrays. Results are exactly the same as the ones obtained through
+     * {@link #convertECEFtoECI(double, ECEFFrame, ECIFrame)} and no heap memory is allocated.
+     * Output arrays can be the same as input ones.
+     *
+     * @param timeIntervals     time intervals of points expressed in seconds (s).
+     * @param x                 ECEF x coordinates expressed in meters (m).
+     * @param y                 ECEF y coordinates expressed in meters (m).
+     * @param z                 ECEF z coordinates expressed in meters (m).
+     * @param vx                ECEF x velocity coordinates expressed in meters per second (m/s).
+     * @param vy                ECEF y velocity coordinates expressed in meters per second (m/s).
+     * @param vz                ECEF z velocity coordinates expressed in meters per second (m/s).
+     * @param attitude          body to ECEF coordinate transformation matrices, stored as 9
+     *                          consecutive elements in column-major order for each point.
+     * @param offset            position of first point to be converted.
+     * @param length            number of points to be converted.
+     * @param resultX           array where ECI x coordinates will be stored.
+     * @param resultY           array where ECI y coordinates will be stored.
+     * @param resultZ           array where ECI z coordinates will be stored.
+     * @param resultVx          array where ECI x velocity coordinates will be stored.
+     * @param resultVy          array where ECI y velocity coordinates will be stored.
+     * @param resultVz          array where ECI z velocity coordinates will be stored.
+     * @param resultAttitude    array where body to ECI coordinate transformation matrices will
+     *                          be stored using the same layout as attitude array.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertECEFtoECI(final double[] timeIntervals,
+                                        final double[] x, final double[] y, final double[] z,
+                                        final double[] vx, final double[] vy, final double[] vz,
+                                        final double[] attitude,
+                                        final int offset, final int length,
+                                        final double[] resultX, final double[] resultY, final double[] resultZ,
+                                        final double[] resultVx, final double[] resultVy, final double[] resultVz,
+                                        final double[] resultAttitude) {
+        ECItoECEFFrameConverter.convertBulk(-1.0, timeIntervals, 0.0, 0.0, x, y, z, vx, vy, vz, attitude,
+                offset, length, resultX, resultY, resultZ, resultVx, resultVy, resultVz, resultAttitude);
+    }
+
+    /**
+     * Converts a time series of ECEF positions and velocities uniformly sampled in time
+     * to ECI coordinates.
+     * Point i is converted for offset &lt;= i &lt; offset + length using time interval
+     * startTimeInterval + (i - offset) * timeStep, storing results at the same position
+     * of output arrays.
+     * Because consecutive points differ by a constant Earth rotation angle, rotations
+     * are advanced by a recurrence instead of evaluating trigonometric functions for
+     * each point, and are recomputed exactly every {@link ECItoECEFFrameConverter#RECURRENCE_STEPS}
+     * points to bound accumulated rounding errors. Results differ from the ones obtained
+     * through {@link #convertECEFtoECI(double, ECEFFrame, ECIFrame)} by less than
+     * 1e-7 m in position, 1e-11 m/s in velocity and 1e-14 in attitude elements for points
+     * near Earth's surface. No heap memory is allocated, and output arrays can be the same
+     * as input ones.
+     *
+     * @param startTimeInterval time interval of first point expressed in seconds (s).
+     * @param timeStep          time step between consecutive points expressed in seconds (s).
+     * @param x                 ECEF x coordinates expressed in meters (m).
+     * @param y                 ECEF y coordinates expressed in meters (m).
+     * @param z                 ECEF z coordinates expressed in meters (m).
+     * @param vx                ECEF x velocity coordinates expressed in meters per second (m/s).
+     * @param vy                ECEF y velocity coordinates expressed in meters per second (m/s).
+     * @param vz                ECEF z velocity coordinates expressed in meters per second (m/s).
+     * @param offset            position of first point to be converted.
+     * @param length            number of points to be converted.
+     * @param resultX           array where ECI x coordinates will be stored.
+     * @param resultY           array where ECI y coordinates will be stored.
+     * @param resultZ           array where ECI z coordinates will be stored.
+     * @param resultVx          array where ECI x velocity coordinates will be stored.
+     * @param resultVy          array where ECI y velocity coordinates will be stored.
+     * @param resultVz          array where ECI z velocity coordinates will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertECEFtoECI(final double startTimeInterval, final double timeStep,
+                                        final double[] x, final double[] y, final double[] z,
+                                        final double[] vx, final double[] vy, final double[] vz,
+                                        final int offset, final int length,
+                                        final double[] resultX, final double[] resultY, final double[] resultZ,
+                                        final double[] resultVx, final double[] resultVy, final double[] resultVz) {
+        ECItoECEFFrameConverter.convertBulk(-1.0, null, startTimeInterval, timeStep, x, y, z, vx, vy, vz, null,
+                offset, length, resultX, resultY, resultZ, resultVx, resultVy, resultVz, null);
+    }
+
+    /**
+     * Converts a time series of ECEF positions, velocities and attitudes uniformly sampled in time
+     * to ECI coordinates.
+     * Point i is converted for offset &lt;= i &lt; offset + length using time interval
+     * startTimeInterval + (i - offset) * timeStep, storing results at the same position
+     * of output arrays.
+     * Because consecutive points differ by a constant Earth rotation angle, rotations
+     * are advanced by a recurrence instead of evaluating trigonometric functions for
+     * each point, and are recomputed exactly every {@link ECItoECEFFrameConverter#RECURRENCE_STEPS}
+     * points to bound accumulated rounding errors. Results differ from the ones obtained
+     * through {@link #convertECEFtoECI(double, ECEFFrame, ECIFrame)} by less than
+     * 1e-7 m in position, 1e-11 m/s in velocity and 1e-14 in attitude elements for points
+     * near Earth's surface. No heap memory is allocated, and output arrays can be the same
+     * as input ones.
+     *
+     * @param startTimeInterval time interval of first point expressed in seconds (s).
+     * @param timeStep          time step between consecutive points expressed in seconds (s).
+     * @param x                 ECEF x coordinates expressed in meters (m).
+     * @param y                 ECEF y coordinates expressed in meters (m).
+     * @param z                 ECEF z coordinates expressed in meters (m).
+     * @param vx                ECEF x velocity coordinates expressed in meters per second (m/s).
+     * @param vy                ECEF y velocity coordinates expressed in meters per second (m/s).
+     * @param vz                ECEF z velocity coordinates expressed in meters per second (m/s).
+     * @param attitude          body to ECEF coordinate transformation matrices, stored as 9
+     *                          consecutive elements in column-major order for each point.
+     * @param offset            position of first point to be converted.
+     * @param length            number of points to be converted.
+     * @param resultX           array where ECI x coordinates will be stored.
+     * @param resultY           array where ECI y coordinates will be stored.
+     * @param resultZ           array where ECI z coordinates will be stored.
+     * @param resultVx          array where ECI x velocity coordinates will be stored.
+     * @param resultVy          array where ECI y velocity coordinates will be stored.
+     * @param resultVz          array where ECI z velocity coordinates will be stored.
+     * @param resultAttitude    array where body to ECI coordinate transformation matrices will
+     *                          be stored using the same layout as attitude array.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertECEFtoECI(final double startTimeInterval, final double timeStep,
+                                        final double[] x, final double[] y, final double[] z,
+                                        final double[] vx, final double[] vy, final double[] vz,
+                                        final double[] attitude,
+                                        final int offset, final int length,
+                                        final double[] resultX, final double[] resultY, final double[] resultZ,
+                                        final double[] resultVx, final double[] resultVy, final double[] resultVz,
+                                        final double[] resultAttitude) {
+        ECItoECEFFrameConverter.convertBulk(-1.0, null, startTimeInterval, timeStep, x, y, z, vx, vy, vz, attitude,
+                offset, length, resultX, resultY, resultZ, resultVx, resultVy, resultVz, resultAttitude);
+    }
+
+    /**
+     * Converts source ECEF trajectory to destination ECI trajectory.
+     * Timestamps of source trajectory are used as the time intervals since ECEF and
+     * ECI frames were aligned, and they are copied into destination trajectory, which is
+     * resized to contain the same number of samples as the source one.
+     * Results are exactly the same as the ones obtained through
+     * {@link #convertECEFtoECI(double[], double[], double[], double[], double[], double[], double[], double[],
+     * int, int, double[], double[], double[], double[], double[], double[], double[])} on
+     * trajectory columns.
+     *
+     * @param source      source trajectory to convert from.
+     * @param destination destination trajectory to convert to.
+     */
+    public static void convertECEFtoECI(final ECEFTrajectory source, final ECITrajectory destination) {
+        final var size = source.size();
+        destination.setSize(size);
+        System.arraycopy(source.getTimestamps(), 0, destination.getTimestamps(), 0, size);
+        ECItoECEFFrameConverter.convertBulk(-1.0, source.getTimestamps(), 0.0, 0.0,
+                source.getX(), source.getY(), source.getZ(), source.getVx(), source.getVy(), source.getVz(),
+                source.getAttitudes(), 0, size, destination.getX(), destination.getY(), destination.getZ(),
+                destination.getVx(), destination.getVy(), destination.getVz(), destination.getAttitudes());
+    }
 }
@@ -0,0 +1,416 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames.converters;
+
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.geodesic.Constants;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Base class for methods converting cartesian ECEF positions into geodetic
+ * latitude, longitude and height on the WGS84 ellipsoid.
+ * Implementations differ in accuracy and throughput (errors are worst cases
+ * over all latitudes, and throughput is relative to Borkowski, whose cost is
+ * dominated by its inverse trigonometric functions rather than by its cube roots):
+ * <ul>
+ *     <li>{@link GeodeticConversionMethod#BORKOWSKI}: closed form. Height errors
+ *     are below 1e-8 m, but cancellation limits horizontal errors to about
+ *     5e-6 m near Earth's surface and 5e-5 m at GNSS orbit heights. It is the
+ *     default method, so that results are the same as in previous versions.</li>
+ *     <li>{@link GeodeticConversionMethod#VERMEILLE}: closed form using a single
+ *     {@link Math#cbrt(double)}. Errors are below 2e-8 m from -10 km up to
+ *     geostationary heights, for a throughput similar to Borkowski.</li>
+ *     <li>{@link GeodeticConversionMethod#BOWRING} with one iteration: errors
+ *     are below 1e-6 m for heights between -10 km and 10 km, 1e-4 m at 100 km
+ *     and 0.3 m at geostationary heights. About 1.5 times faster than Borkowski.</li>
+ *     <li>{@link GeodeticConversionMethod#BOWRING} with two iterations: errors
+ *     are below 2e-8 m from -10 km up to geostationary heights. About 1.3 times
+ *     faster than Borkowski.</li>
+ * </ul>
+ * Implementations are immutable and thread-safe.
+ */
+public abstract class ECEFtoGeodeticConverter {
+
+    /**
+     * Default conversion method.
+     */
+    public static final GeodeticConversionMethod DEFAULT_METHOD = GeodeticConversionMethod.BORKOWSKI;
+
+    /**
+     * Default number of points converted by each parallel task on bulk conversions.
+     */
+    public static final int DEFAULT_POINTS_PER_TASK = 8192;
+
+    /**
+     * The equatorial radius of WGS84 ellipsoid (6378137 m) defining Earth's shape.
+     */
+    public static final double EARTH_EQUATORIAL_RADIUS_WGS84 = Constants.EARTH_EQUATORIAL_RADIUS_WGS84;
+
+    /**
+     * Earth eccentricity as defined on the WGS84 ellipsoid.
+     */
+    public static final double EARTH_ECCENTRICITY = Constants.EARTH_ECCENTRICITY;
+
+    /**
+     * Squared Earth eccentricity.
+     */
+    static final double ECC2 = EARTH_ECCENTRICITY * EARTH_ECCENTRICITY;
+
+    /**
+     * Gets conversion method of this instance.
+     *
+     * @return conversion method.
+     */
+    public abstract GeodeticConversionMethod getMethod();
+
+    /**
+     * Converts a cartesian ECEF position into geodetic coordinates.
+     *
+     * @param x      x cartesian coordinate expressed in meters (m).
+     * @param y      y cartesian coordinate expressed in meters (m).
+     * @param z      z cartesian coordinate expressed in meters (m).
+     * @param result instance where latitude, longitude and height will be stored.
+     */
+    public abstract void convert(final double x, final double y, final double z, final NEDPosition result);
+
+    /**
+     * Converts a cartesian ECEF position into geodetic coordinates.
+     *
+     * @param x x cartesian coordinate expressed in meters (m).
+     * @param y y cartesian coordinate expressed in meters (m).
+     * @param z z cartesian coordinate expressed in meters (m).
+     * @return a new instance containing latitude, longitude and height.
+     */
+    public NEDPosition convertAndReturnNew(final double x, final double y, final double z) {
+        final var result = new NEDPosition();
+        convert(x, y, z, result);
+        return result;
+    }
+
+    /**
+     * Converts many cartesian ECEF positions into geodetic coordinates.
+     * Point i is converted for offset &lt;= i &lt; offset + length, storing results
+     * at the same position of output arrays.
+     *
+     * @param x         x cartesian coordinates expressed in meters (m).
+     * @param y         y cartesian coordinates expressed in meters (m).
+     * @param z         z cartesian coordinates expressed in meters (m).
+     * @param offset    position of first point to be converted.
+     * @param length    number of points to be converted.
+     * @param latitude  array where latitudes expressed in radians (rad) will be stored.
+     * @param longitude array where longitudes expressed in radians (rad) will be stored.
+     * @param height    array where heights expressed in meters (m) will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public void convert(final double[] x, final double[] y, final double[] z, final int offset, final int length,
+                        final double[] latitude, final double[] longitude, final double[] height) {
+        convert(x, y, z, offset, length, latitude, longitude, height, false);
+    }
+
+    /**
+     * Converts many cartesian ECEF positions into geodetic coordinates.
+     * Point i is converted for offset &lt;= i &lt; offset + length, storing results
+     * at the same position of output arrays.
+     * When parallel execution is enabled, points are split into chunks of
+     * {@link #DEFAULT_POINTS_PER_TASK} points that are distributed among the
+     * threads of the common {@link ForkJoinPool}. Results are exactly the same
+     * regardless of whether execution is parallel or not.
+     *
+     * @param x         x cartesian coordinates expressed in meters (m).
+     * @param y         y cartesian coordinates expressed in meters (m).
+     * @param z         z cartesian coordinates expressed in meters (m).
+     * @param offset    position of first point to be converted.
+     * @param length    number of points to be converted.
+     * @param latitude  array where latitudes expressed in radians (rad) will be stored.
+     * @param longitude array where longitudes expressed in radians (rad) will be stored.
+     * @param height    array where heights expressed in meters (m) will be stored.
+     * @param parallel  true to convert points in parallel, false otherwise.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public void convert(final double[] x, final double[] y, final double[] z, final int offset, final int length,
+                        final double[] latitude, final double[] longitude, final double[] height,
+                        final boolean parallel) {
+        ECEFtoNEDPositionVelocityConverter.checkBulkArrays(offset, length, x, y, z, latitude, longitude, height);
+        convertBulk(x, y, z, null, null, null, offset, length, latitude, longitude, height, null, null, null,
+                parallel);
+    }
+
+    /**
+     * Converts many cartesian ECEF positions and, optionally, velocities into
+     * curvilinear positions and velocities resolved along NED axes, either
+     * sequentially or in parallel.
+     * This is the only bulk conversion engine, shared with
+     * {@link ECEFtoNEDPositionVelocityConverter}, hence provided arrays are
+     * assumed to have already been checked.
+     * Velocity arrays are null when only positions are converted.
+     *
+     * @param x         x cartesian coordinates.
+     * @param y         y cartesian coordinates.
+     * @param z         z cartesian coordinates.
+     * @param vx        x coordinates of velocity or null.
+     * @param vy        y coordinates of velocity or null.
+     * @param vz        z coordinates of velocity or null.
+     * @param offset    position of first point to be converted.
+     * @param length    number of points to be converted.
+     * @param latitude  array where latitudes will be stored.
+     * @param longitude array where longitudes will be stored.
+     * @param height    array where heights will be stored.
+     * @param vn        array where north velocities will be stored or null.
+     * @param ve        array where east velocities will be stored or null.
+     * @param vd        array where down velocities will be stored or null.
+     * @param parallel  true to convert points in parallel, false otherwise.
+     */
+    void convertBulk(final double[] x, final double[] y, final double[] z,
+                     final double[] vx, final double[] vy, final double[] vz,
+                     final int offset, final int length,
+                     final double[] latitude, final double[] longitude, final double[] height,
+                     final double[] vn, final double[] ve, final double[] vd, final boolean parallel) {
+        final var task = new ConversionTask(x, y, z, vx, vy, vz, latitude, longitude, height, vn, ve, vd,
+                offset, offset + length);
+        if (parallel && length > DEFAULT_POINTS_PER_TASK) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+    }
+
+    /**
+     * Creates a converter using provided method.
+     * Bowring converters are created with two iterations.
+     *
+     * @param method conversion method.
+     * @return a new converter.
+     */
+    public static ECEFtoGeodeticConverter create(final GeodeticConversionMethod method) {
+        return switch (method) {
+            case VERMEILLE -> new VermeilleECEFtoGeodeticConverter();
+            case BOWRING -> new BowringECEFtoGeodeticConverter();
+            default -> new BorkowskiECEFtoGeodeticConverter();
+        };
+    }
+
+    /**
+     * Creates a converter using default method.
+     *
+     * @return a new converter.
+     */
+    public static ECEFtoGeodeticConverter create() {
+        return create(DEFAULT_METHOD);
+    }
+
+    /**
+     * Computes height of a point once its geodetic latitude is known.
+     * This expression is numerically stable for any latitude, including poles.
+     *
+     * @param beta   distance from point to Earth's rotation axis expressed in
+     *               meters (m).
+     * @param z      z cartesian coordinate expressed in meters (m).
+     * @param cosLat cosine of latitude.
+     * @param sinLat sine of latitude.
+     * @return height expressed in meters (m).
+     */
+    static double computeHeight(final double beta, final double z, final double cosLat, final double sinLat) {
+        return beta * cosLat + z * sinLat
+                - EARTH_EQUATORIAL_RADIUS_WGS84 * Math.sqrt(1.0 - ECC2 * sinLat * sinLat);
+    }
+
+    /**
+     * Converts a range of points sequentially.
+     * A single position instance is reused for all points.
+     * Velocity arrays are null when only positions are converted.
+     *
+     * @param x         x cartesian coordinates.
+     * @param y         y cartesian coordinates.
+     * @param z         z cartesian coordinates.
+     * @param vx        x coordinates of velocity or null.
+     * @param vy        y coordinates of velocity or null.
+     * @param vz        z coordinates of velocity or null.
+     * @param from      first point to be converted (inclusive).
+     * @param to        last point to be converted (exclusive).
+     * @param latitude  array where latitudes will be stored.
+     * @param longitude array where longitudes will be stored.
+     * @param height    array where heights will be stored.
+     * @param vn        array where north velocities will be stored or null.
+     * @param ve        array where east velocities will be stored or null.
+     * @param vd        array where down velocities will be stored or null.
+     */
+    private void convertRange(final double[] x, final double[] y, final double[] z,
+                              final double[] vx, final double[] vy, final double[] vz,
+                              final int from, final int to,
+                              final double[] latitude, final double[] longitude, final double[] height,
+                              final double[] vn, final double[] ve, final double[] vd) {
+        final var position = new NEDPosition();
+        for (var i = from; i < to; i++) {
+            convert(x[i], y[i], z[i], position);
+            final var lat = position.getLatitude();
+            final var lon = position.getLongitude();
+            latitude[i] = lat;
+            longitude[i] = lon;
+            height[i] = position.getHeight();
+
+            if (vn != null) {
+                // Transform velocity using (2.73) and (2.150)
+                final var cosLat = Math.cos(lat);
+                final var sinLat = Math.sin(lat);
+                final var cosLon = Math.cos(lon);
+                final var sinLon = Math.sin(lon);
+                final var vxi = vx[i];
+                final var vyi = vy[i];
+                final var vzi = vz[i];
+                vn[i] = -sinLat * cosLon * vxi + -sinLat * sinLon * vyi + cosLat * vzi;
+                ve[i] = -sinLon * vxi + cosLon * vyi + 0.0 * vzi;
+                vd[i] = -cosLat * cosLon * vxi + -cosLat * sinLon * vyi + -sinLat * vzi;
+            }
+        }
+    }
+
+    /**
+     * Fork-join task splitting a range of points until no more than
+     * {@link #DEFAULT_POINTS_PER_TASK} points remain.
+     */
+    private class ConversionTask extends RecursiveAction {
+
+        /**
+         * x cartesian coordinates.
+         */
+        private final double[] x;
+
+        /**
+         * y cartesian coordinates.
+         */
+        private final double[] y;
+
+        /**
+         * z cartesian coordinates.
+         */
+        private final double[] z;
+
+        /**
+         * x coordinates of velocity or null.
+         */
+        private final double[] vx;
+
+        /**
+         * y coordinates of velocity or null.
+         */
+        private final double[] vy;
+
+        /**
+         * z coordinates of velocity or null.
+         */
+        private final double[] vz;
+
+        /**
+         * Array where latitudes will be stored.
+         */
+        private final double[] latitude;
+
+        /**
+         * Array where longitudes will be stored.
+         */
+        private final double[] longitude;
+
+        /**
+         * Array where heights will be stored.
+         */
+        private final double[] height;
+
+        /**
+         * Array where north velocities will be stored or null.
+         */
+        private final double[] vn;
+
+        /**
+         * Array where east velocities will be stored or null.
+         */
+        private final double[] ve;
+
+        /**
+         * Array where down velocities will be stored or null.
+         */
+        private final double[] vd;
+
+        /**
+         * First point to be converted (inclusive).
+         */
+        private final int from;
+
+        /**
+         * Last point to be converted (exclusive).
+         */
+        private final int to;
+
+        /**
+         * Constructor.
+         *
+         * @param x         x cartesian coordinates.
+         * @param y         y cartesian coordinates.
+         * @param z         z cartesian coordinates.
+         * @param vx        x coordinates of velocity or null.
+         * @param vy        y coordinates of velocity or null.
+         * @param vz        z coordinates of velocity or null.
+         * @param latitude  array where latitudes will be stored.
+         * @param longitude array where longitudes will be stored.
+         * @param height    array where heights will be stored.
+         * @param vn        array where north velocities will be stored or null.
+         * @param ve        array where east velocities will be stored or null.
+         * @param vd        array where down velocities will be stored or null.
+         * @param from      first point to be converted (inclusive).
+         * @param to        last point to be converted (exclusive).
+         */
+        ConversionTask(final double[] x, final double[] y, final double[] z,
+                       final double[] vx, final double[] vy, final double[] vz,
+                       final double[] latitude, final double[] longitude, final double[] height,
+                       final double[] vn, final double[] ve, final double[] vd,
+                       final int from, final int to) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.vx = vx;
+            this.vy = vy;
+            this.vz = vz;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.height = height;
+            this.vn = vn;
+            this.ve = ve;
+            this.vd = vd;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Converts points, splitting them into subtasks if more than
+         * {@link #DEFAULT_POINTS_PER_TASK} points are contained.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= DEFAULT_POINTS_PER_TASK) {
+                convertRange(x, y, z, vx, vy, vz, from, to, latitude, longitude, height, vn, ve, vd);
+            } else {
+                final var middle = (from + to) >>> 1;
+                invokeAll(new ConversionTask(x, y, z, vx, vy, vz, latitude, longitude, height, vn, ve, vd,
+                                from, middle),
+                        new ConversionTask(x, y, z, vx, vy, vz, latitude, longitude, height, vn, ve, vd,
+                                middle, to));
+            }
+        }
+    }
+}
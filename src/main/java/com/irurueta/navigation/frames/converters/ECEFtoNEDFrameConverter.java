@@ -20,10 +20,13 @@ import com.irurueta.algebra.WrongSizeException;
 import com.irurueta.geometry.InvalidRotationMatrixException;
 import com.irurueta.navigation.frames.CoordinateTransformation;
 import com.irurueta.navigation.frames.ECEFFrame;
+import com.irurueta.navigation.frames.ECEFTrajectory;
 import com.irurueta.navigation.frames.ECIorECEFFrame;
 import com.irurueta.navigation.frames.FrameType;
 import com.irurueta.navigation.frames.InvalidSourceAndDestinationFrameTypeException;
 import com.irurueta.navigation.frames.NEDFrame;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDTrajectory;
 import com.irurueta.navigation.geodesic.Constants;
 
 /**
@@ -33,6 +36,9 @@ import com.irurueta.navigation.geodesic.Constants;
  * <a href="https://github.com/ymjdz/MATLAB-Codes/blob/master/ECEF_to_NED.m">
  *     https://github.com/ymjdz/MATLAB-Codes/blob/master/ECEF_to_NED.m
  * </a>
+ * Instances reuse internal buffers so that {@link #convert(ECEFFrame, NEDFrame)} makes no heap
+ * allocations, writing results in place into the coordinate transformation owned by the destination frame.
+ * Consequently, instances are not thread-safe, whereas static methods are.
  */
 public class ECEFtoNEDFrameConverter implements FrameConverter<ECEFFrame, NEDFrame> {
 
@@ -46,6 +52,76 @@ public class ECEFtoNEDFrameConverter implements FrameConverter<ECEFFrame, NEDFra
      */
     public static final double EARTH_ECCENTRICITY = Constants.EARTH_ECCENTRICITY;
 
+    /**
+     * Borkowski converter used by static methods when no geodetic converter is
+     * provided.
+     */
+    private static final ECEFtoGeodeticConverter BORKOWSKI_CONVERTER = new BorkowskiECEFtoGeodeticConverter();
+
+    /**
+     * Converter of cartesian ECEF positions into geodetic coordinates.
+     */
+    private ECEFtoGeodeticConverter geodeticConverter;
+
+    /**
+     * Position reused to store geodetic coordinates of converted frames.
+     */
+    private final NEDPosition position = new NEDPosition();
+
+    /**
+     * Matrix reused to copy body to ECEF coordinate transformation of source frames.
+     */
+    private final Matrix cbe;
+
+    /**
+     * Matrix reused to compute body to NED coordinate transformation of destination frames.
+     */
+    private final Matrix cbn;
+
+    /**
+     * Constructor using default geodetic conversion method.
+     */
+    public ECEFtoNEDFrameConverter() {
+        this(ECEFtoGeodeticConverter.create());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param geodeticConverter converter of cartesian ECEF positions into
+     *                          geodetic coordinates.
+     * @throws IllegalArgumentException if provided converter is null.
+     */
+    public ECEFtoNEDFrameConverter(final ECEFtoGeodeticConverter geodeticConverter) {
+        setGeodeticConverter(geodeticConverter);
+
+        cbe = CoordinateTransformationMatrices.create();
+        cbn = CoordinateTransformationMatrices.create();
+    }
+
+    /**
+     * Gets converter of cartesian ECEF positions into geodetic coordinates.
+     *
+     * @return converter of cartesian ECEF positions into geodetic coordinates.
+     */
+    public ECEFtoGeodeticConverter getGeodeticConverter() {
+        return geodeticConverter;
+    }
+
+    /**
+     * Sets converter of cartesian ECEF positions into geodetic coordinates.
+     *
+     * @param geodeticConverter converter of cartesian ECEF positions into
+     *                          geodetic coordinates.
+     * @throws IllegalArgumentException if provided converter is null.
+     */
+    public void setGeodeticConverter(final ECEFtoGeodeticConverter geodeticConverter) {
+        if (geodeticConverter == null) {
+            throw new IllegalArgumentException();
+        }
+        this.geodeticConverter = geodeticConverter;
+    }
+
     /**
      * Converts source ECEF frame to a new NED frame instance.
      *
@@ -61,13 +137,74 @@ public class ECEFtoNEDFrameConverter implements FrameConverter<ECEFFrame, NEDFra
 
     /**
      * Converts source ECEF frame to destination NED frame.
+     * No heap memory is allocated, since the coordinate transformation matrix owned by
+     * the destination frame is overwritten in place. A coordinate transformation
+     * provided to the destination frame by the caller is never modified.
+     * Results are equal to the ones obtained through
+     * {@link #convertECEFtoNED(ECEFFrame, NEDFrame, ECEFtoGeodeticConverter)},
+     * except that terms known to be zero are skipped, so zero values might differ in sign.
      *
      * @param source      source frame to convert from.
      * @param destination destination frame instance to convert to.
      */
     @Override
     public void convert(final ECEFFrame source, final NEDFrame destination) {
-        convertECEFtoNED(source, destination);
+        geodeticConverter.convert(source.getX(), source.getY(), source.getZ(), position);
+        final var latitude = position.getLatitude();
+        final var longitude = position.getLongitude();
+
+        // Calculate ECEF to NED coordinate transformation matrix using (2.150)
+        final var cosLat = Math.cos(latitude);
+        final var sinLat = Math.sin(latitude);
+        final var cosLong = Math.cos(longitude);
+        final var sinLong = Math.sin(longitude);
+
+        final var c00 = -sinLat * cosLong;
+        final var c01 = -sinLat * sinLong;
+        final var c10 = -sinLong;
+        final var c20 = -cosLat * cosLong;
+        final var c21 = -cosLat * sinLong;
+
+        // Transform velocity using (2.73)
+        final var vx = source.getVx();
+        final var vy = source.getVy();
+        final var vz = source.getVz();
+        destination.setVelocityCoordinates(c00 * vx + c01 * vy + cosLat * vz,
+                c10 * vx + cosLong * vy,
+                c20 * vx + c21 * vy + -sinLat * vz);
+
+        // Transform attitude using (2.15), where matrices are stored in column order
+        source.getCoordinateTransformationMatrix(cbe);
+        final var b = cbe.getBuffer();
+        final var r = cbn.getBuffer();
+        for (var k = 0; k < CoordinateTransformation.COLS; k++) {
+            final var offset = k * CoordinateTransformation.ROWS;
+            final var b0 = b[offset];
+            final var b1 = b[offset + 1];
+            final var b2 = b[offset + 2];
+            r[offset] = c00 * b0 + c01 * b1 + cosLat * b2;
+            r[offset + 1] = c10 * b0 + cosLong * b1;
+            r[offset + 2] = c20 * b0 + c21 * b1 + -sinLat * b2;
+        }
+        destination.copyCoordinateTransformationMatrixFrom(cbn);
+
+        destination.setPosition(latitude, longitude, position.getHeight());
+    }
+
+    /**
+     * Converts source ECEF trajectory to destination NED trajectory using the
+     * geodetic conversion method of this instance.
+     * Destination trajectory is resized to contain the same number of samples as
+     * the source one, and timestamps are copied.
+     * Samples are converted directly on trajectory columns without creating any
+     * frame, and results are exactly the same as the ones obtained through
+     * {@link #convert(ECEFFrame, NEDFrame)} for each sample.
+     *
+     * @param source      source trajectory to convert from.
+     * @param destination destination trajectory to convert to.
+     */
+    public void convert(final ECEFTrajectory source, final NEDTrajectory destination) {
+        convertECEFtoNED(source, destination, geodeticConverter);
     }
 
     /**
@@ -108,60 +245,26 @@ public class ECEFtoNEDFrameConverter implements FrameConverter<ECEFFrame, NEDFra
      * @param source      source frame to convert from.
      * @param destination destination frame instance to convert to.
      */
-    @SuppressWarnings("DuplicatedCode")
     public static void convertECEFtoNED(final ECEFFrame source, final NEDFrame destination) {
-        final var x = source.getX();
-        final var y = source.getY();
-        final var z = source.getZ();
-
-        // Convert position using Borkowski closed-form exact solution from (2.113).
-        final var longitude = Math.atan2(y, x);
-
-        // From (C.29) and (C.30)
-        final var ecc2 = EARTH_ECCENTRICITY * EARTH_ECCENTRICITY;
-        final var k1 = Math.sqrt(1.0 - ecc2) * Math.abs(z);
-        final var k2 = ecc2 * EARTH_EQUATORIAL_RADIUS_WGS84;
-
-        final var x2 = x * x;
-        final var y2 = y * y;
-        final var beta = Math.sqrt(x2 + y2);
-
-        final var e = (k1 - k2) / beta;
-        final var f = (k1 + k2) / beta;
-
-        // From (C.31)
-        final var p = 4.0 / 3.0 * (e * f + 1.0);
-
-        // From (C.32)
-        final var e2 = e * e;
-        final var f2 = f * f;
-        final var q = 2.0 * (e2 - f2);
-
-        // From (C.33)
-        final var p3 = p * p * p;
-        final var q2 = q * q;
-        final var d = p3 + q2;
-
-        // From (C.34)
-        final var sqrtD = Math.sqrt(d);
-        final var exp = 1.0 / 3.0;
-        final var v = Math.pow(sqrtD - q, exp) - Math.pow(sqrtD + q, exp);
-
-        // From (C.35)
-        final var g = 0.5 * (Math.sqrt(e2 + v) + e);
-
-        // From (C.36)
-        final var g2 = g * g;
-        final var t = Math.sqrt(g2 + (f - v * g) / (2.0 * g - e)) - g;
-
-        // From (C.37)
-        final var t2 = t * t;
-        final var latitude = Math.signum(z) * Math.atan((1.0 - t2) / (2.0 * t * Math.sqrt(1.0 - ecc2)));
+        convertECEFtoNED(source, destination, BORKOWSKI_CONVERTER);
+    }
 
-        // From (C.38)
-        final var height = (beta - EARTH_EQUATORIAL_RADIUS_WGS84 * t) * Math.cos(latitude)
-                + (z - Math.signum(z) * EARTH_EQUATORIAL_RADIUS_WGS84 * Math.sqrt(1.0 - ecc2))
-                * Math.sin(latitude);
+    /**
+     * Converts source ECEF frame to destination NED frame using provided
+     * geodetic conversion method.
+     *
+     * @param source            source frame to convert from.
+     * @param destination       destination frame instance to convert to.
+     * @param geodeticConverter converter of cartesian ECEF positions into
+     *                          geodetic coordinates.
+     */
+    public static void convertECEFtoNED(final ECEFFrame source, final NEDFrame destination,
+                                        final ECEFtoGeodeticConverter geodeticConverter) {
+        final var position = new NEDPosition();
+        geodeticConverter.convert(source.getX(), source.getY(), source.getZ(), position);
+        final var latitude = position.getLatitude();
+        final var longitude = position.getLongitude();
+        final var height = position.getHeight();
 
         try {
             // Calculate ECEF to NED coordinate transformation matrix
@@ -203,4 +306,93 @@ public class ECEFtoNEDFrameConverter implements FrameConverter<ECEFFrame, NEDFra
             // never happens
         }
     }
+
+    /**
+     * Converts source ECEF trajectory to destination NED trajectory.
+     * Destination trajectory is resized to contain the same number of samples as
+     * the source one, and timestamps are copied.
+     *
+     * @param source      source trajectory to convert from.
+     * @param destination destination trajectory to convert to.
+     */
+    public static void convertECEFtoNED(final ECEFTrajectory source, final NEDTrajectory destination) {
+        convertECEFtoNED(source, destination, BORKOWSKI_CONVERTER);
+    }
+
+    /**
+     * Converts source ECEF trajectory to destination NED trajectory using provided
+     * geodetic conversion method.
+     * Destination trajectory is resized to contain the same number of samples as
+     * the source one, and timestamps are copied.
+     * Samples are converted directly on trajectory columns without creating any
+     * frame, and a single position instance is reused for all samples.
+     *
+     * @param source            source trajectory to convert from.
+     * @param destination       destination trajectory to convert to.
+     * @param geodeticConverter converter of cartesian ECEF positions into
+     *                          geodetic coordinates.
+     */
+    public static void convertECEFtoNED(final ECEFTrajectory source, final NEDTrajectory destination,
+                                        final ECEFtoGeodeticConverter geodeticConverter) {
+        final var size = source.size();
+        destination.setSize(size);
+        System.arraycopy(source.getTimestamps(), 0, destination.getTimestamps(), 0, size);
+
+        final var x = source.getX();
+        final var y = source.getY();
+        final var z = source.getZ();
+        final var vx = source.getVx();
+        final var vy = source.getVy();
+        final var vz = source.getVz();
+        final var cbe = source.getAttitudes();
+
+        final var latitudes = destination.getLatitude();
+        final var longitudes = destination.getLongitude();
+        final var heights = destination.getHeight();
+        final var vn = destination.getVn();
+        final var ve = destination.getVe();
+        final var vd = destination.getVd();
+        final var cbn = destination.getAttitudes();
+
+        final var position = new NEDPosition();
+        for (var i = 0; i < size; i++) {
+            geodeticConverter.convert(x[i], y[i], z[i], position);
+            final var latitude = position.getLatitude();
+            final var longitude = position.getLongitude();
+            latitudes[i] = latitude;
+            longitudes[i] = longitude;
+            heights[i] = position.getHeight();
+
+            // Calculate ECEF to NED coordinate transformation matrix using (2.150)
+            final var cosLat = Math.cos(latitude);
+            final var sinLat = Math.sin(latitude);
+            final var cosLong = Math.cos(longitude);
+            final var sinLong = Math.sin(longitude);
+
+            final var c00 = -sinLat * cosLong;
+            final var c01 = -sinLat * sinLong;
+            final var c10 = -sinLong;
+            final var c20 = -cosLat * cosLong;
+            final var c21 = -cosLat * sinLong;
+
+            // Transform velocity using (2.73)
+            final var vxi = vx[i];
+            final var vyi = vy[i];
+            final var vzi = vz[i];
+            vn[i] = c00 * vxi + c01 * vyi + cosLat * vzi;
+            ve[i] = c10 * vxi + cosLong * vyi;
+            vd[i] = c20 * vxi + c21 * vyi + -sinLat * vzi;
+
+            // Transform attitude using (2.15), where matrices are stored in column order
+            for (var k = 0; k < CoordinateTransformation.COLS; k++) {
+                final var offset = i * CoordinateTransformation.ELEMENTS + k * CoordinateTransformation.ROWS;
+                final var b0 = cbe[offset];
+                final var b1 = cbe[offset + 1];
+                final var b2 = cbe[offset + 2];
+                cbn[offset] = c00 * b0 + c01 * b1 + cosLat * b2;
+                cbn[offset + 1] = c10 * b0 + cosLong * b1;
+                cbn[offset + 2] = c20 * b0 + c21 * b1 + -sinLat * b2;
+            }
+        }
+    }
 }
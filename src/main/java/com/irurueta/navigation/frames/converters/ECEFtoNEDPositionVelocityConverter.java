@@ -15,16 +15,14 @@
  */
 package com.irurueta.navigation.frames.converters;
 
-import com.irurueta.algebra.Matrix;
-import com.irurueta.algebra.WrongSizeException;
-import com.irurueta.navigation.frames.CoordinateTransformation;
 import com.irurueta.navigation.frames.ECEFPosition;
 import com.irurueta.navigation.frames.ECEFVelocity;
-import com.irurueta.navigation.frames.ECIorECEFFrame;
 import com.irurueta.navigation.frames.NEDPosition;
 import com.irurueta.navigation.frames.NEDVelocity;
 import com.irurueta.navigation.geodesic.Constants;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Converts cartesian to curvilinear position and velocity resolving axes
  * from ECEF to NED.
@@ -46,6 +44,65 @@ public class ECEFtoNEDPositionVelocityConverter {
      */
     public static final double EARTH_ECCENTRICITY = Constants.EARTH_ECCENTRICITY;
 
+    /**
+     * Default number of points converted by each parallel task on bulk conversions.
+     * Bulk conversions are executed by {@link ECEFtoGeodeticConverter}, hence this is
+     * the same value as {@link ECEFtoGeodeticConverter#DEFAULT_POINTS_PER_TASK}.
+     */
+    public static final int DEFAULT_POINTS_PER_TASK = ECEFtoGeodeticConverter.DEFAULT_POINTS_PER_TASK;
+
+    /**
+     * Borkowski converter used by static methods when no geodetic converter is
+     * provided.
+     */
+    private static final ECEFtoGeodeticConverter BORKOWSKI_CONVERTER = new BorkowskiECEFtoGeodeticConverter();
+
+    /**
+     * Converter of cartesian ECEF positions into geodetic coordinates.
+     */
+    private ECEFtoGeodeticConverter geodeticConverter;
+
+    /**
+     * Constructor using default geodetic conversion method.
+     */
+    public ECEFtoNEDPositionVelocityConverter() {
+        this(ECEFtoGeodeticConverter.create());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param geodeticConverter converter of cartesian ECEF positions into
+     *                          geodetic coordinates.
+     * @throws IllegalArgumentException if provided converter is null.
+     */
+    public ECEFtoNEDPositionVelocityConverter(final ECEFtoGeodeticConverter geodeticConverter) {
+        setGeodeticConverter(geodeticConverter);
+    }
+
+    /**
+     * Gets converter of cartesian ECEF positions into geodetic coordinates.
+     *
+     * @return converter of cartesian ECEF positions into geodetic coordinates.
+     */
+    public ECEFtoGeodeticConverter getGeodeticConverter() {
+        return geodeticConverter;
+    }
+
+    /**
+     * Sets converter of cartesian ECEF positions into geodetic coordinates.
+     *
+     * @param geodeticConverter converter of cartesian ECEF positions into
+     *                          geodetic coordinates.
+     * @throws IllegalArgumentException if provided converter is null.
+     */
+    public void setGeodeticConverter(final ECEFtoGeodeticConverter geodeticConverter) {
+        if (geodeticConverter == null) {
+            throw new IllegalArgumentException();
+        }
+        this.geodeticConverter = geodeticConverter;
+    }
+
     /**
      * Converts cartesian to curvilinear position and velocity resolving axes
      * from NED to ECEF.
@@ -61,7 +118,8 @@ public class ECEFtoNEDPositionVelocityConverter {
                         final ECEFVelocity sourceVelocity,
                         final NEDPosition destinationPosition,
                         final NEDVelocity destinationVelocity) {
-        convertECEFtoNED(sourcePosition, sourceVelocity, destinationPosition, destinationVelocity);
+        convertECEFtoNED(sourcePosition, sourceVelocity, geodeticConverter, destinationPosition,
+                destinationVelocity);
     }
 
     /**
@@ -82,7 +140,7 @@ public class ECEFtoNEDPositionVelocityConverter {
     public void convert(final double x, final double y, final double z,
                         final double vx, final double vy, final double vz,
                         final NEDPosition destinationPosition, final NEDVelocity destinationVelocity) {
-        convertECEFtoNED(x, y, z, vx, vy, vz, destinationPosition, destinationVelocity);
+        convertECEFtoNED(x, y, z, vx, vy, vz, geodeticConverter, destinationPosition, destinationVelocity);
     }
 
     /**
@@ -120,76 +178,276 @@ public class ECEFtoNEDPositionVelocityConverter {
      * @param destinationVelocity instance where velocity resolved on NED frame will
      *                            be stored.
      */
-    @SuppressWarnings("DuplicatedCode")
     public static void convertECEFtoNED(final double x, final double y, final double z,
                                         final double vx, final double vy, final double vz,
                                         final NEDPosition destinationPosition, final NEDVelocity destinationVelocity) {
+        convertECEFtoNED(x, y, z, vx, vy, vz, BORKOWSKI_CONVERTER, destinationPosition, destinationVelocity);
+    }
+
+    /**
+     * Converts cartesian to curvilinear position and velocity resolving axes
+     * from NED to ECEF using provided geodetic conversion method.
+     *
+     * @param sourcePosition      source position resolved on ECEF frame.
+     * @param sourceVelocity      source velocity resolved on ECEF frame.
+     * @param geodeticConverter   converter of cartesian ECEF positions into
+     *                            geodetic coordinates.
+     * @param destinationPosition instance where position resolved on NED frame will
+     *                            be stored.
+     * @param destinationVelocity instance where velocity resolved on NED frame will
+     *                            be stored.
+     */
+    public static void convertECEFtoNED(final ECEFPosition sourcePosition,
+                                        final ECEFVelocity sourceVelocity,
+                                        final ECEFtoGeodeticConverter geodeticConverter,
+                                        final NEDPosition destinationPosition,
+                                        final NEDVelocity destinationVelocity) {
+        convertECEFtoNED(sourcePosition.getX(), sourcePosition.getY(),
+                sourcePosition.getZ(), sourceVelocity.getVx(), sourceVelocity.getVy(),
+                sourceVelocity.getVz(), geodeticConverter, destinationPosition, destinationVelocity);
+    }
+
+    /**
+     * Converts cartesian to curvilinear position and velocity resolving axes
+     * from NED to ECEF using provided geodetic conversion method.
+     *
+     * @param x                   x cartesian coordinate of body frame expressed in meters (m).
+     * @param y                   y cartesian coordinate of body frame expressed in meters (m).
+     * @param z                   z cartesian coordinate of body frame expressed in meters (m).
+     * @param vx                  x coordinate of body velocity expressed in meters per second (m/s).
+     * @param vy                  y coordinate of body velocity expressed in meters per second (m/s).
+     * @param vz                  z coordinate of body velocity expressed in meters per second (m/s).
+     * @param geodeticConverter   converter of cartesian ECEF positions into
+     *                            geodetic coordinates.
+     * @param destinationPosition instance where position resolved on NED frame will
+     *                            be stored.
+     * @param destinationVelocity instance where velocity resolved on NED frame will
+     *                            be stored.
+     */
+    public static void convertECEFtoNED(final double x, final double y, final double z,
+                                        final double vx, final double vy, final double vz,
+                                        final ECEFtoGeodeticConverter geodeticConverter,
+                                        final NEDPosition destinationPosition, final NEDVelocity destinationVelocity) {
+        geodeticConverter.convert(x, y, z, destinationPosition);
+
+        // Transform velocity using (2.73) and (2.150)
+        final var latitude = destinationPosition.getLatitude();
+        final var longitude = destinationPosition.getLongitude();
+        final var cosLat = Math.cos(latitude);
+        final var sinLat = Math.sin(latitude);
+        final var cosLon = Math.cos(longitude);
+        final var sinLon = Math.sin(longitude);
+        final var vn = -sinLat * cosLon * vx + -sinLat * sinLon * vy + cosLat * vz;
+        final var ve = -sinLon * vx + cosLon * vy + 0.0 * vz;
+        final var vd = -cosLat * cosLon * vx + -cosLat * sinLon * vy + -sinLat * vz;
+
+        destinationVelocity.setCoordinates(vn, ve, vd);
+    }
+
+    /**
+     * Converts many cartesian ECEF positions into curvilinear positions.
+     * Points are provided as a structure of arrays, and point i is converted for
+     * offset &lt;= i &lt; offset + length, storing results at the same position of
+     * output arrays, so that no object is created per point.
+     * Results are exactly the same as the ones obtained through
+     * {@link #convertECEFtoNED(double, double, double, double, double, double, NEDPosition, NEDVelocity)}.
+     *
+     * @param x         x cartesian coordinates expressed in meters (m).
+     * @param y         y cartesian coordinates expressed in meters (m).
+     * @param z         z cartesian coordinates expressed in meters (m).
+     * @param offset    position of first point to be converted.
+     * @param length    number of points to be converted.
+     * @param latitude  array where latitudes expressed in radians (rad) will be stored.
+     * @param longitude array where longitudes expressed in radians (rad) will be stored.
+     * @param height    array where heights expressed in meters (m) will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertECEFtoNED(final double[] x, final double[] y, final double[] z,
+                                        final int offset, final int length,
+                                        final double[] latitude, final double[] longitude, final double[] height) {
+        convertECEFtoNED(x, y, z, offset, length, latitude, longitude, height, false);
+    }
 
-        try {
-            // Convert position using Borlowski closed-form exact solution
-            // From (2.113)
-            final var longitude = Math.atan2(y, x);
-
-            // From (C.29) and (C.30)
-            final var ecc2 = EARTH_ECCENTRICITY * EARTH_ECCENTRICITY;
-            final var k1 = Math.sqrt(1.0 - ecc2) * Math.abs(z);
-            final var k2 = ecc2 * EARTH_EQUATORIAL_RADIUS_WGS84;
-            final var beta = Math.sqrt(x * x + y * y);
-            final var e = (k1 - k2) / beta;
-            final var f = (k1 + k2) / beta;
-
-            // From (C.31)
-            final var p = 4.0 / 3.0 * (e * f + 1.0);
-
-            // From (C.32)
-            final var e2 = e * e;
-            final var f2 = f * f;
-            final var q = 2.0 * (e2 - f2);
-
-            // From (C.33)
-            final var p3 = p * p * p;
-            final var q2 = q * q;
-            final var d = p3 + q2;
-
-            // From (C.34)
-            final var v = Math.pow(Math.sqrt(d) - q, 1.0 / 3.0) - Math.pow(Math.sqrt(d) + q, 1.0 / 3.0);
-
-            // From (C.35)
-            final var g = 0.5 * (Math.sqrt(e2 + v) + e);
-
-            // From (C.36)
-            final var g2 = g * g;
-            final var t = Math.sqrt(g2 + (f - v * g) / (2.0 * g - e)) - g;
-
-            // From (C.37)
-            final var t2 = t * t;
-            final var latitude = Math.signum(z) * Math.atan((1 - t2) / (2.0 * t * Math.sqrt(1.0 - ecc2)));
-
-            // From (C.38)
-            final var height = (beta - EARTH_EQUATORIAL_RADIUS_WGS84 * t)
-                    * Math.cos(latitude) + (z - Math.signum(z)
-                    * EARTH_EQUATORIAL_RADIUS_WGS84 * Math.sqrt(1.0 - ecc2))
-                    * Math.sin(latitude);
-
-            // Calculate ECEF to NED coordinate transformation matrix
-            final var cen = CoordinateTransformation.ecefToNedMatrix(latitude, longitude);
-
-            // Transform velocity using (2.73)
-            final var vEbe = new Matrix(ECIorECEFFrame.NUM_VELOCITY_COORDINATES, 1);
-            vEbe.setElementAtIndex(0, vx);
-            vEbe.setElementAtIndex(1, vy);
-            vEbe.setElementAtIndex(2, vz);
-
-            final var vEbn = cen.multiplyAndReturnNew(vEbe);
-            final var vn = vEbn.getElementAtIndex(0);
-            final var ve = vEbn.getElementAtIndex(1);
-            final var vd = vEbn.getElementAtIndex(2);
-
-            destinationPosition.setCoordinates(latitude, longitude, height);
-            destinationVelocity.setCoordinates(vn, ve, vd);
-
-        } catch (final WrongSizeException ignore) {
-            // never happens
+    /**
+     * Converts many cartesian ECEF positions into curvilinear positions.
+     * Points are provided as a structure of arrays, and point i is converted for
+     * offset &lt;= i &lt; offset + length, storing results at the same position of
+     * output arrays, so that no object is created per point.
+     * When parallel execution is enabled, points are split into chunks of
+     * {@link #DEFAULT_POINTS_PER_TASK} points that are distributed among the
+     * threads of the common {@link ForkJoinPool}. Since points are independent,
+     * results are exactly the same regardless of whether execution is parallel or
+     * not.
+     *
+     * @param x         x cartesian coordinates expressed in meters (m).
+     * @param y         y cartesian coordinates expressed in meters (m).
+     * @param z         z cartesian coordinates expressed in meters (m).
+     * @param offset    position of first point to be converted.
+     * @param length    number of points to be converted.
+     * @param latitude  array where latitudes expressed in radians (rad) will be stored.
+     * @param longitude array where longitudes expressed in radians (rad) will be stored.
+     * @param height    array where heights expressed in meters (m) will be stored.
+     * @param parallel  true to convert points in parallel, false otherwise.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertECEFtoNED(final double[] x, final double[] y, final double[] z,
+                                        final int offset, final int length,
+                                        final double[] latitude, final double[] longitude, final double[] height,
+                                        final boolean parallel) {
+        BORKOWSKI_CONVERTER.convert(x, y, z, offset, length, latitude, longitude, height, parallel);
+    }
+
+    /**
+     * Converts many cartesian ECEF positions and velocities into curvilinear
+     * positions and velocities resolved along NED axes.
+     * Points are provided as a structure of arrays, and point i is converted for
+     * offset &lt;= i &lt; offset + length, storing results at the same position of
+     * output arrays, so that no object is created per point.
+     * Results are exactly the same as the ones obtained through
+     * {@link #convertECEFtoNED(double, double, double, double, double, double, NEDPosition, NEDVelocity)}.
+     *
+     * @param x         x cartesian coordinates expressed in meters (m).
+     * @param y         y cartesian coordinates expressed in meters (m).
+     * @param z         z cartesian coordinates expressed in meters (m).
+     * @param vx        x coordinates of velocity expressed in meters per second (m/s).
+     * @param vy        y coordinates of velocity expressed in meters per second (m/s).
+     * @param vz        z coordinates of velocity expressed in meters per second (m/s).
+     * @param offset    position of first point to be converted.
+     * @param length    number of points to be converted.
+     * @param latitude  array where latitudes expressed in radians (rad) will be stored.
+     * @param longitude array where longitudes expressed in radians (rad) will be stored.
+     * @param height    array where heights expressed in meters (m) will be stored.
+     * @param vn        array where north velocities expressed in meters per second
+     *                  (m/s) will be stored.
+     * @param ve        array where east velocities expressed in meters per second
+     *                  (m/s) will be stored.
+     * @param vd        array where down velocities expressed in meters per second
+     *                  (m/s) will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertECEFtoNED(final double[] x, final double[] y, final double[] z,
+                                        final double[] vx, final double[] vy, final double[] vz,
+                                        final int offset, final int length,
+                                        final double[] latitude, final double[] longitude, final double[] height,
+                                        final double[] vn, final double[] ve, final double[] vd) {
+        convertECEFtoNED(x, y, z, vx, vy, vz, offset, length, latitude, longitude, height, vn, ve, vd, false);
+    }
+
+    /**
+     * Converts many cartesian ECEF positions and velocities into curvilinear
+     * positions and velocities resolved along NED axes.
+     * Points are provided as a structure of arrays, and point i is converted for
+     * offset &lt;= i &lt; offset + length, storing results at the same position of
+     * output arrays, so that no object is created per point.
+     * When parallel execution is enabled, points are split into chunks of
+     * {@link #DEFAULT_POINTS_PER_TASK} points that are distributed among the
+     * threads of the common {@link ForkJoinPool}. Since points are independent,
+     * results are exactly the same regardless of whether execution is parallel or
+     * not.
+     *
+     * @param x         x cartesian coordinates expressed in meters (m).
+     * @param y         y cartesian coordinates expressed in meters (m).
+     * @param z         z cartesian coordinates expressed in meters (m).
+     * @param vx        x coordinates of velocity expressed in meters per second (m/s).
+     * @param vy        y coordinates of velocity expressed in meters per second (m/s).
+     * @param vz        z coordinates of velocity expressed in meters per second (m/s).
+     * @param offset    position of first point to be converted.
+     * @param length    number of points to be converted.
+     * @param latitude  array where latitudes expressed in radians (rad) will be stored.
+     * @param longitude array where longitudes expressed in radians (rad) will be stored.
+     * @param height    array where heights expressed in meters (m) will be stored.
+     * @param vn        array where north velocities expressed in meters per second
+     *                  (m/s) will be stored.
+     * @param ve        array where east velocities expressed in meters per second
+     *                  (m/s) will be stored.
+     * @param vd        array where down velocities expressed in meters per second
+     *                  (m/s) will be stored.
+     * @param parallel  true to convert points in parallel, false otherwise.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertECEFtoNED(final double[] x, final double[] y, final double[] z,
+                                        final double[] vx, final double[] vy, final double[] vz,
+                                        final int offset, final int length,
+                                        final double[] latitude, final double[] longitude, final double[] height,
+                                        final double[] vn, final double[] ve, final double[] vd,
+                                        final boolean parallel) {
+        checkBulkArrays(offset, length, x, y, z, vx, vy, vz, latitude, longitude, height, vn, ve, vd);
+        BORKOWSKI_CONVERTER.convertBulk(x, y, z, vx, vy, vz, offset, length, latitude, longitude, height,
+                vn, ve, vd, parallel);
+    }
+
+    /**
+     * Converts many cartesian ECEF positions and velocities into curvilinear
+     * positions and velocities resolved along NED axes using provided geodetic
+     * conversion method.
+     * Points are provided as a structure of arrays, and point i is converted for
+     * offset &lt;= i &lt; offset + length, storing results at the same position of
+     * output arrays.
+     * When parallel execution is enabled, points are split into chunks of
+     * {@link #DEFAULT_POINTS_PER_TASK} points that are distributed among the
+     * threads of the common {@link ForkJoinPool}. Results are exactly the same
+     * regardless of whether execution is parallel or not.
+     *
+     * @param x                 x cartesian coordinates expressed in meters (m).
+     * @param y                 y cartesian coordinates expressed in meters (m).
+     * @param z                 z cartesian coordinates expressed in meters (m).
+     * @param vx                x coordinates of velocity expressed in meters per second (m/s).
+     * @param vy                y coordinates of velocity expressed in meters per second (m/s).
+     * @param vz                z coordinates of velocity expressed in meters per second (m/s).
+     * @param offset            position of first point to be converted.
+     * @param length            number of points to be converted.
+     * @param geodeticConverter converter of cartesian ECEF positions into
+     *                          geodetic coordinates.
+     * @param latitude          array where latitudes expressed in radians (rad) will be stored.
+     * @param longitude         array where longitudes expressed in radians (rad) will be stored.
+     * @param height            array where heights expressed in meters (m) will be stored.
+     * @param vn                array where north velocities expressed in meters per second
+     *                          (m/s) will be stored.
+     * @param ve                array where east velocities expressed in meters per second
+     *                          (m/s) will be stored.
+     * @param vd                array where down velocities expressed in meters per second
+     *                          (m/s) will be stored.
+     * @param parallel          true to convert points in parallel, false otherwise.
+     * @throws IllegalArgumentException if offset or length is negative, any
+     *                                  array is too small or converter is null.
+     */
+    public static void convertECEFtoNED(final double[] x, final double[] y, final double[] z,
+                                        final double[] vx, final double[] vy, final double[] vz,
+                                        final int offset, final int length,
+                                        final ECEFtoGeodeticConverter geodeticConverter,
+                                        final double[] latitude, final double[] longitude, final double[] height,
+                                        final double[] vn, final double[] ve, final double[] vd,
+                                        final boolean parallel) {
+        if (geodeticConverter == null) {
+            throw new IllegalArgumentException();
+        }
+        checkBulkArrays(offset, length, x, y, z, vx, vy, vz, latitude, longitude, height, vn, ve, vd);
+        geodeticConverter.convertBulk(x, y, z, vx, vy, vz, offset, length, latitude, longitude, height,
+                vn, ve, vd, parallel);
+    }
+
+    /**
+     * Checks that offset and length are valid for all provided arrays.
+     *
+     * @param offset position of first point.
+     * @param length number of points.
+     * @param arrays arrays to be checked.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    static void checkBulkArrays(final int offset, final int length, final double[]... arrays) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException();
+        }
+        final var end = (long) offset + length;
+        for (final var array : arrays) {
+            if (array.length < end) {
+                throw new IllegalArgumentException();
+            }
         }
     }
 }
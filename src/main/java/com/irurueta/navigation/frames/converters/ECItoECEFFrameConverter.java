@@ -20,7 +20,9 @@ import com.irurueta.algebra.WrongSizeException;
 import com.irurueta.geometry.InvalidRotationMatrixException;
 import com.irurueta.navigation.frames.CoordinateTransformation;
 import com.irurueta.navigation.frames.ECEFFrame;
+import com.irurueta.navigation.frames.ECEFTrajectory;
 import com.irurueta.navigation.frames.ECIFrame;
+import com.irurueta.navigation.frames.ECITrajectory;
 import com.irurueta.navigation.frames.ECIorECEFFrame;
 import com.irurueta.navigation.frames.FrameType;
 import com.irurueta.navigation.frames.InvalidSourceAndDestinationFrameTypeException;
@@ -36,6 +38,10 @@ import com.irurueta.units.TimeUnit;
  * <a href="https://github.com/ymjdz/MATLAB-Codes/blob/master/ECI_to_ECEF.m">
  *     https://github.com/ymjdz/MATLAB-Codes/blob/master/ECI_to_ECEF.m
  * </a>
+ * Instances reuse internal buffers so that {@link #convert(double, ECIFrame, ECEFFrame)} makes no
+ * heap allocations, writing results in place into the coordinate transformation owned by the destination
+ * frame.
+ * Consequently, instances are not thread-safe, whereas static methods are.
  */
 @SuppressWarnings("WeakerAccess")
 public class ECItoECEFFrameConverter implements TimeIntervalFrameConverter<ECIFrame, ECEFFrame> {
@@ -45,6 +51,30 @@ public class ECItoECEFFrameConverter implements TimeIntervalFrameConverter<ECIFr
      */
     public static final double EARTH_ROTATION_RATE = Constants.EARTH_ROTATION_RATE;
 
+    /**
+     * Number of consecutive points of uniformly sampled time series whose rotation is
+     * advanced by a recurrence before being recomputed exactly.
+     */
+    public static final int RECURRENCE_STEPS = 64;
+
+    /**
+     * Matrix reused to copy body to ECI coordinate transformation of source frames.
+     */
+    private final Matrix cbi;
+
+    /**
+     * Matrix reused to compute body to ECEF coordinate transformation of destination frames.
+     */
+    private final Matrix cbe;
+
+    /**
+     * Constructor.
+     */
+    public ECItoECEFFrameConverter() {
+        cbi = CoordinateTransformationMatrices.create();
+        cbe = CoordinateTransformationMatrices.create();
+    }
+
     /**
      * Converts source ECI frame to a new ECEF frame instance.
      *
@@ -71,6 +101,12 @@ public class ECItoECEFFrameConverter implements TimeIntervalFrameConverter<ECIFr
 
     /**
      * Converts source ECI frame to destination ECEF frame.
+     * No heap memory is allocated, since the coordinate transformation matrix owned by
+     * the destination frame is overwritten in place. A coordinate transformation
+     * provided to the destination frame by the caller is never modified.
+     * Results are equal to the ones obtained through
+     * {@link #convertECItoECEF(double, ECIFrame, ECEFFrame)},
+     * except that terms known to be zero are skipped, so zero values might differ in sign.
      *
      * @param timeInterval a time interval expressed in seconds (s).
      * @param source       source frame to convert from.
@@ -78,7 +114,36 @@ public class ECItoECEFFrameConverter implements TimeIntervalFrameConverter<ECIFr
      */
     @Override
     public void convert(final double timeInterval, final ECIFrame source, final ECEFFrame destination) {
-        convertECItoECEF(timeInterval, source, destination);
+        // Calculate ECI to ECEF coordinate transformation matrix using (2.145)
+        final var alpha = EARTH_ROTATION_RATE * timeInterval;
+        final var sinAlpha = Math.sin(alpha);
+        final var cosAlpha = Math.cos(alpha);
+
+        // Transform position using (2.146)
+        final var x = source.getX();
+        final var y = source.getY();
+        final var z = source.getZ();
+        destination.setCoordinates(cosAlpha * x + sinAlpha * y, -sinAlpha * x + cosAlpha * y, z);
+
+        // Transform velocity using (2.145)
+        final var vx = source.getVx() + EARTH_ROTATION_RATE * y;
+        final var vy = source.getVy() - EARTH_ROTATION_RATE * x;
+        destination.setVelocityCoordinates(cosAlpha * vx + sinAlpha * vy, -sinAlpha * vx + cosAlpha * vy,
+                source.getVz());
+
+        // Transform attitude using (2.15), where matrices are stored in column order
+        source.getCoordinateTransformationMatrix(cbi);
+        final var b = cbi.getBuffer();
+        final var r = cbe.getBuffer();
+        for (var k = 0; k < CoordinateTransformation.COLS; k++) {
+            final var offset = k * CoordinateTransformation.ROWS;
+            final var b0 = b[offset];
+            final var b1 = b[offset + 1];
+            r[offset] = cosAlpha * b0 + sinAlpha * b1;
+            r[offset + 1] = -sinAlpha * b0 + cosAlpha * b1;
+            r[offset + 2] = b[offset + 2];
+        }
+        destination.copyCoordinateTransformationMatrixFrom(cbe);
     }
 
     /**
@@ -90,7 +155,8 @@ public class ECItoECEFFrameConverter implements TimeIntervalFrameConverter<ECIFr
      */
     @Override
     public void convert(final Time timeInterval, final ECIFrame source, final ECEFFrame destination) {
-        convertECItoECEF(timeInterval, source, destination);
+        convert(TimeConverter.convert(timeInterval.getValue().doubleValue(), timeInterval.getUnit(),
+                TimeUnit.SECOND), source, destination);
     }
 
     /**
@@ -208,4 +274,304 @@ public class ECItoECEFFrameConverter implements TimeIntervalFrameConverter<ECIFr
         convertECItoECEF(TimeConverter.convert(timeInterval.getValue().doubleValue(), timeInterval.getUnit(),
                 TimeUnit.SECOND), source, destination);
     }
+
+    /**
+     * Converts a time series of ECI positions and velocities to ECEF coordinates.
+     * Point i is converted for offset &lt;= i &lt; offset + length using the time
+     * interval stored at position i, storing results at the same position of
+     * output arrays. Results are exactly the same as the ones obtained through
+     * {@link #convertECItoECEF(double, ECIFrame, ECEFFrame)} and no heap memory is allocated.
+     * Output arrays can be the same as input ones.
+     *
+     * @param timeIntervals     time intervals of points expressed in seconds (s).
+     * @param x                 ECI x coordinates expressed in meters (m).
+     * @param y                 ECI y coordinates expressed in meters (m).
+     * @param z                 ECI z coordinates expressed in meters (m).
+     * @param vx                ECI x velocity coordinates expressed in meters per second (m/s).
+     * @param vy                ECI y velocity coordinates expressed in meters per second (m/s).
+     * @param vz                ECI z velocity coordinates expressed in meters per second (m/s).
+     * @param offset            position of first point to be converted.
+     * @param length            number of points to be converted.
+     * @param resultX           array where ECEF x coordinates will be stored.
+     * @param resultY           array where ECEF y coordinates will be stored.
+     * @param resultZ           array where ECEF z coordinates will be stored.
+     * @param resultVx          array where ECEF x velocity coordinates will be stored.
+     * @param resultVy          array where ECEF y velocity coordinates will be stored.
+     * @param resultVz          array where ECEF z velocity coordinates will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertECItoECEF(final double[] timeIntervals,
+                                        final double[] x, final double[] y, final double[] z,
+                                        final double[] vx, final double[] vy, final double[] vz,
+                                        final int offset, final int length,
+                                        final double[] resultX, final double[] resultY, final double[] resultZ,
+                                        final double[] resultVx, final double[] resultVy, final double[] resultVz) {
+        convertBulk(1.0, timeIntervals, 0.0, 0.0, x, y, z, vx, vy, vz, null,
+                offset, length, resultX, resultY, resultZ, resultVx, resultVy, resultVz, null);
+    }
+
+    /**
+     * Converts a time series of ECI positions, velocities and attitudes to ECEF coordinates.
+     * Point i is converted for offset &lt;= i &lt; offset + length using the time
+     * interval stored at position i, storing results at the same position of
+     * output arrays. Results are exactly the same as the ones obtained through
+     * {@link #convertECItoECEF(double, ECIFrame, ECEFFrame)} and no heap memory is allocated.
+     * Output arrays can be the same as input ones.
+     *
+     * @param timeIntervals     time intervals of points expressed in seconds (s).
+     * @param x                 ECI x coordinates expressed in meters (m).
+     * @param y                 ECI y coordinates expressed in meters (m).
+     * @param z                 ECI z coordinates expressed in meters (m).
+     * @param vx                ECI x velocity coordinates expressed in meters per second (m/s).
+     * @param vy                ECI y velocity coordinates expressed in meters per second (m/s).
+     * @param vz                ECI z velocity coordinates expressed in meters per second (m/s).
+     * @param attitude          body to ECI coordinate transformation matrices, stored as 9
+     *                          consecutive elements in column-major order for each point.
+     * @param offset            position of first point to be converted.
+     * @param length            number of points to be converted.
+     * @param resultX           array where ECEF x coordinates will be stored.
+     * @param resultY           array where ECEF y coordinates will be stored.
+     * @param resultZ           array where ECEF z coordinates will be stored.
+     * @param resultVx          array where ECEF x velocity coordinates will be stored.
+     * @param resultVy          array where ECEF y velocity coordinates will be stored.
+     * @param resultVz          array where ECEF z velocity coordinates will be stored.
+     * @param resultAttitude    array where body to ECEF coordinate transformation matrices will
+     *                          be stored using the same layout as attitude array.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertECItoECEF(final double[] timeIntervals,
+                                        final double[] x, final double[] y, final double[] z,
+                                        final double[] vx, final double[] vy, final double[] vz,
+                                        final double[] attitude,
+                                        final int offset, final int length,
+                                        final double[] resultX, final double[] resultY, final double[] resultZ,
+                                        final double[] resultVx, final double[] resultVy, final double[] resultVz,
+                                        final double[] resultAttitude) {
+        convertBulk(1.0, timeIntervals, 0.0, 0.0, x, y, z, vx, vy, vz, attitude,
+                offset, length, resultX, resultY, resultZ, resultVx, resultVy, resultVz, resultAttitude);
+    }
+
+    /**
+     * Converts a time series of ECI positions and velocities uniformly sampled in time
+     * to ECEF coordinates.
+     * Point i is converted for offset &lt;= i &lt; offset + length using time interval
+     * startTimeInterval + (i - offset) * timeStep, storing results at the same position
+     * of output arrays.
+     * Because consecutive points differ by a constant Earth rotation angle, rotations
+     * are advanced by a recurrence instead of evaluating trigonometric functions for
+     * each point, and are recomputed exactly every {@link #RECURRENCE_STEPS}
+     * points to bound accumulated rounding errors. Results differ from the ones obtained
+     * through {@link #convertECItoECEF(double, ECIFrame, ECEFFrame)} by less than
+     * 1e-7 m in position, 1e-11 m/s in velocity and 1e-14 in attitude elements for points
+     * near Earth's surface. No heap memory is allocated, and output arrays can be the same
+     * as input ones.
+     *
+     * @param startTimeInterval time interval of first point expressed in seconds (s).
+     * @param timeStep          time step between consecutive points expressed in seconds (s).
+     * @param x                 ECI x coordinates expressed in meters (m).
+     * @param y                 ECI y coordinates expressed in meters (m).
+     * @param z                 ECI z coordinates expressed in meters (m).
+     * @param vx                ECI x velocity coordinates expressed in meters per second (m/s).
+     * @param vy                ECI y velocity coordinates expressed in meters per second (m/s).
+     * @param vz                ECI z velocity coordinates expressed in meters per second (m/s).
+     * @param offset            position of first point to be converted.
+     * @param length            number of points to be converted.
+     * @param resultX           array where ECEF x coordinates will be stored.
+     * @param resultY           array where ECEF y coordinates will be stored.
+     * @param resultZ           array where ECEF z coordinates will be stored.
+     * @param resultVx          array where ECEF x velocity coordinates will be stored.
+     * @param resultVy          array where ECEF y velocity coordinates will be stored.
+     * @param resultVz          array where ECEF z velocity coordinates will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertECItoECEF(final double startTimeInterval, final double timeStep,
+                                        final double[] x, final double[] y, final double[] z,
+                                        final double[] vx, final double[] vy, final double[] vz,
+                                        final int offset, final int length,
+                                        final double[] resultX, final double[] resultY, final double[] resultZ,
+                                        final double[] resultVx, final double[] resultVy, final double[] resultVz) {
+        convertBulk(1.0, null, startTimeInterval, timeStep, x, y, z, vx, vy, vz, null,
+                offset, length, resultX, resultY, resultZ, resultVx, resultVy, resultVz, null);
+    }
+
+    /**
+     * Converts a time series of ECI positions, velocities and attitudes uniformly sampled in time
+     * to ECEF coordinates.
+     * Point i is converted for offset &lt;= i &lt; offset + length using time interval
+     * startTimeInterval + (i - offset) * timeStep, storing results at the same position
+     * of output arrays.
+     * Because consecutive points differ by a constant Earth rotation angle, rotations
+     * are advanced by a recurrence instead of evaluating trigonometric functions for
+     * each point, and are recomputed exactly every {@link #RECURRENCE_STEPS}
+     * points to bound accumulated rounding errors. Results differ from the ones obtained
+     * through {@link #convertECItoECEF(double, ECIFrame, ECEFFrame)} by less than
+     * 1e-7 m in position, 1e-11 m/s in velocity and 1e-14 in attitude elements for points
+     * near Earth's surface. No heap memory is allocated, and output arrays can be the same
+     * as input ones.
+     *
+     * @param startTimeInterval time interval of first point expressed in seconds (s).
+     * @param timeStep          time step between consecutive points expressed in seconds (s).
+     * @param x                 ECI x coordinates expressed in meters (m).
+     * @param y                 ECI y coordinates expressed in meters (m).
+     * @param z                 ECI z coordinates expressed in meters (m).
+     * @param vx                ECI x velocity coordinates expressed in meters per second (m/s).
+     * @param vy                ECI y velocity coordinates expressed in meters per second (m/s).
+     * @param vz                ECI z velocity coordinates expressed in meters per second (m/s).
+     * @param attitude          body to ECI coordinate transformation matrices, stored as 9
+     *                          consecutive elements in column-major order for each point.
+     * @param offset            position of first point to be converted.
+     * @param length            number of points to be converted.
+     * @param resultX           array where ECEF x coordinates will be stored.
+     * @param resultY           array where ECEF y coordinates will be stored.
+     * @param resultZ           array where ECEF z coordinates will be stored.
+     * @param resultVx          array where ECEF x velocity coordinates will be stored.
+     * @param resultVy          array where ECEF y velocity coordinates will be stored.
+     * @param resultVz          array where ECEF z velocity coordinates will be stored.
+     * @param resultAttitude    array where body to ECEF coordinate transformation matrices will
+     *                          be stored using the same layout as attitude array.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertECItoECEF(final double startTimeInterval, final double timeStep,
+                                        final double[] x, final double[] y, final double[] z,
+                                        final double[] vx, final double[] vy, final double[] vz,
+                                        final double[] attitude,
+                                        final int offset, final int length,
+                                        final double[] resultX, final double[] resultY, final double[] resultZ,
+                                        final double[] resultVx, final double[] resultVy, final double[] resultVz,
+                                        final double[] resultAttitude) {
+        convertBulk(1.0, null, startTimeInterval, timeStep, x, y, z, vx, vy, vz, attitude,
+                offset, length, resultX, resultY, resultZ, resultVx, resultVy, resultVz, resultAttitude);
+    }
+
+    /**
+     * Converts source ECI trajectory to destination ECEF trajectory.
+     * Timestamps of source trajectory are used as the time intervals since ECI and
+     * ECEF frames were aligned, and they are copied into destination trajectory, which is
+     * resized to contain the same number of samples as the source one.
+     * Results are exactly the same as the ones obtained through
+     * {@link #convertECItoECEF(double[], double[], double[], double[], double[], double[], double[], double[],
+     * int, int, double[], double[], double[], double[], double[], double[], double[])} on
+     * trajectory columns.
+     *
+     * @param source      source trajectory to convert from.
+     * @param destination destination trajectory to convert to.
+     */
+    public static void convertECItoECEF(final ECITrajectory source, final ECEFTrajectory destination) {
+        final var size = source.size();
+        destination.setSize(size);
+        System.arraycopy(source.getTimestamps(), 0, destination.getTimestamps(), 0, size);
+        convertBulk(1.0, source.getTimestamps(), 0.0, 0.0,
+                source.getX(), source.getY(), source.getZ(), source.getVx(), source.getVy(), source.getVz(),
+                source.getAttitudes(), 0, size, destination.getX(), destination.getY(), destination.getZ(),
+                destination.getVx(), destination.getVy(), destination.getVz(), destination.getAttitudes());
+    }
+
+    /**
+     * Converts a time series of positions, velocities and optionally attitudes between
+     * ECI and ECEF coordinates.
+     *
+     * @param direction         1.0 to convert from ECI to ECEF, -1.0 to convert from ECEF to ECI.
+     * @param timeIntervals     time intervals of points expressed in seconds (s), or null if
+     *                          points are uniformly sampled.
+     * @param startTimeInterval time interval of first point when points are uniformly sampled.
+     * @param timeStep          time step between points when points are uniformly sampled.
+     * @param x                 x coordinates.
+     * @param y                 y coordinates.
+     * @param z                 z coordinates.
+     * @param vx                x velocity coordinates.
+     * @param vy                y velocity coordinates.
+     * @param vz                z velocity coordinates.
+     * @param attitude          coordinate transformation matrices, or null if attitudes are not
+     *                          converted.
+     * @param offset            position of first point to be converted.
+     * @param length            number of points to be converted.
+     * @param resultX           array where converted x coordinates will be stored.
+     * @param resultY           array where converted y coordinates will be stored.
+     * @param resultZ           array where converted z coordinates will be stored.
+     * @param resultVx          array where converted x velocity coordinates will be stored.
+     * @param resultVy          array where converted y velocity coordinates will be stored.
+     * @param resultVz          array where converted z velocity coordinates will be stored.
+     * @param resultAttitude    array where converted coordinate transformation matrices will be
+     *                          stored, or null if attitudes are not converted.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    static void convertBulk(final double direction, final double[] timeIntervals, final double startTimeInterval,
+                            final double timeStep, final double[] x, final double[] y, final double[] z,
+                            final double[] vx, final double[] vy, final double[] vz, final double[] attitude,
+                            final int offset, final int length,
+                            final double[] resultX, final double[] resultY, final double[] resultZ,
+                            final double[] resultVx, final double[] resultVy, final double[] resultVz,
+                            final double[] resultAttitude) {
+        ECEFtoNEDPositionVelocityConverter.checkBulkArrays(offset, length, x, y, z, vx, vy, vz,
+                resultX, resultY, resultZ, resultVx, resultVy, resultVz);
+        if (timeIntervals != null) {
+            ECEFtoNEDPositionVelocityConverter.checkBulkArrays(offset, length, timeIntervals);
+        }
+        final var convertAttitude = attitude != null;
+        if (convertAttitude) {
+            final var required = (long) (offset + length) * CoordinateTransformation.ELEMENTS;
+            if (attitude.length < required || resultAttitude.length < required) {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        // Rotation of ECEF axes respect ECI axes is reversed when converting from ECEF to ECI
+        final var rotationRate = direction * EARTH_ROTATION_RATE;
+
+        final var uniform = timeIntervals == null;
+        final var stepAngle = EARTH_ROTATION_RATE * timeStep;
+        final var cosStep = uniform ? Math.cos(stepAngle) : 0.0;
+        final var sinStep = uniform ? direction * Math.sin(stepAngle) : 0.0;
+
+        var cosAlpha = 0.0;
+        var sinAlpha = 0.0;
+        final var end = offset + length;
+        for (var i = offset; i < end; i++) {
+            final var k = i - offset;
+            if (!uniform || k % RECURRENCE_STEPS == 0) {
+                // Calculate ECI to ECEF coordinate transformation matrix using (2.145)
+                final var timeInterval = uniform ? startTimeInterval + k * timeStep : timeIntervals[i];
+                final var alpha = EARTH_ROTATION_RATE * timeInterval;
+                cosAlpha = Math.cos(alpha);
+                sinAlpha = direction * Math.sin(alpha);
+            } else {
+                // Advance rotation by a constant angle
+                final var cosNext = cosAlpha * cosStep - sinAlpha * sinStep;
+                sinAlpha = sinAlpha * cosStep + cosAlpha * sinStep;
+                cosAlpha = cosNext;
+            }
+
+            // Transform position using (2.146)
+            final var xi = x[i];
+            final var yi = y[i];
+            resultX[i] = cosAlpha * xi + sinAlpha * yi;
+            resultY[i] = -sinAlpha * xi + cosAlpha * yi;
+            resultZ[i] = z[i];
+
+            // Transform velocity using (2.145)
+            final var vxi = vx[i] + rotationRate * yi;
+            final var vyi = vy[i] - rotationRate * xi;
+            resultVx[i] = cosAlpha * vxi + sinAlpha * vyi;
+            resultVy[i] = -sinAlpha * vxi + cosAlpha * vyi;
+            resultVz[i] = vz[i];
+
+            // Transform attitude using (2.15), where matrices are stored in column order
+            if (convertAttitude) {
+                var pos = i * CoordinateTransformation.ELEMENTS;
+                for (var col = 0; col < CoordinateTransformation.COLS; col++) {
+                    final var b0 = attitude[pos];
+                    final var b1 = attitude[pos + 1];
+                    resultAttitude[pos] = cosAlpha * b0 + sinAlpha * b1;
+                    resultAttitude[pos + 1] = -sinAlpha * b0 + cosAlpha * b1;
+                    resultAttitude[pos + 2] = attitude[pos + 2];
+                    pos += CoordinateTransformation.ROWS;
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,766 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames.converters;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.FrameType;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+
+/**
+ * Converts ECEF positions of points near a reference point into local
+ * North-East-Down (NED) or East-North-Up (ENU) coordinates on the tangent plane
+ * centered at the reference point, and vice versa.
+ * The ECEF to NED rotation of the reference point is computed once using
+ * {@link CoordinateTransformation#ecefToNedMatrix(double, double, Matrix)} and
+ * cached, so that each conversion only requires one matrix-vector product.
+ * Unlike {@link FrameToLocalTangentPlaneTransformationConverter}, which relates
+ * a frame to a reference frame in ECEF axes and recomputes the reference
+ * attitude on every call, this class resolves positions about the local axes
+ * of a fixed reference point.
+ * Additionally, ECEF to NED rotations of points near the reference can be
+ * obtained (e.g. to resolve ECEF velocities of nearby vehicles about their own
+ * NED axes). When the small angle approximation is enabled, such rotations are
+ * obtained from the cached reference rotation using a truncated Taylor expansion
+ * of the latitude and longitude differences instead of evaluating trigonometric
+ * functions, so that each element of the rotation differs from the exact one by
+ * less than configured tolerance. Points whose latitude or longitude differ from
+ * the reference by more than {@link #getMaxSmallAngle()} are always converted
+ * exactly.
+ * Once configured, conversions do not modify instances of this class, so they
+ * can be shared among threads as long as no setter is called.
+ */
+public class LocalTangentPlaneConverter {
+
+    /**
+     * Default tolerance of elements of rotations obtained with the small angle
+     * approximation.
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-12;
+
+    /**
+     * Maximum latitude or longitude difference expressed in radians (rad) for
+     * which the small angle approximation can be used, regardless of tolerance.
+     */
+    public static final double MAX_SMALL_ANGLE = 1.0;
+
+    /**
+     * Cached ECEF to NED coordinate transformation of reference point.
+     */
+    private final CoordinateTransformation cen = new CoordinateTransformation(
+            FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME, FrameType.LOCAL_NAVIGATION_FRAME);
+
+    /**
+     * Elements of cached ECEF to NED coordinate transformation of reference point in
+     * column-major order.
+     * They are only modified when reference point changes, so that conversions do not
+     * need to copy them.
+     */
+    private final double[] cenElements = new double[CoordinateTransformation.ELEMENTS];
+
+    /**
+     * Latitude of reference point expressed in radians (rad).
+     */
+    private double referenceLatitude;
+
+    /**
+     * Longitude of reference point expressed in radians (rad).
+     */
+    private double referenceLongitude;
+
+    /**
+     * Height of reference point expressed in meters (m).
+     */
+    private double referenceHeight;
+
+    /**
+     * ECEF x coordinate of reference point expressed in meters (m).
+     */
+    private double referenceX;
+
+    /**
+     * ECEF y coordinate of reference point expressed in meters (m).
+     */
+    private double referenceY;
+
+    /**
+     * ECEF z coordinate of reference point expressed in meters (m).
+     */
+    private double referenceZ;
+
+    /**
+     * Sine of reference latitude.
+     */
+    private double sinReferenceLatitude;
+
+    /**
+     * Cosine of reference latitude.
+     */
+    private double cosReferenceLatitude;
+
+    /**
+     * Sine of reference longitude.
+     */
+    private double sinReferenceLongitude;
+
+    /**
+     * Cosine of reference longitude.
+     */
+    private double cosReferenceLongitude;
+
+    /**
+     * Indicates whether small angle approximation is enabled.
+     */
+    private boolean smallAngleApproximationEnabled;
+
+    /**
+     * Tolerance of elements of rotations obtained with the small angle approximation.
+     */
+    private double tolerance;
+
+    /**
+     * Maximum latitude or longitude difference respect reference point expressed in
+     * radians (rad) for which the small angle approximation is used.
+     */
+    private double maxSmallAngle;
+
+    /**
+     * Constructor.
+     * Reference point is located at latitude, longitude and height zero.
+     */
+    public LocalTangentPlaneConverter() {
+        setTolerance(DEFAULT_TOLERANCE);
+        setReferencePosition(0.0, 0.0, 0.0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param latitude  latitude of reference point expressed in radians (rad).
+     * @param longitude longitude of reference point expressed in radians (rad).
+     * @param height    height of reference point expressed in meters (m).
+     */
+    public LocalTangentPlaneConverter(final double latitude, final double longitude, final double height) {
+        setTolerance(DEFAULT_TOLERANCE);
+        setReferencePosition(latitude, longitude, height);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param referencePosition curvilinear position of reference point.
+     */
+    public LocalTangentPlaneConverter(final NEDPosition referencePosition) {
+        setTolerance(DEFAULT_TOLERANCE);
+        setReferencePosition(referencePosition);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param referencePosition ECEF position of reference point.
+     */
+    public LocalTangentPlaneConverter(final ECEFPosition referencePosition) {
+        setTolerance(DEFAULT_TOLERANCE);
+        setReferencePosition(referencePosition);
+    }
+
+    /**
+     * Gets latitude of reference point expressed in radians (rad).
+     *
+     * @return latitude of reference point.
+     */
+    public double getReferenceLatitude() {
+        return referenceLatitude;
+    }
+
+    /**
+     * Gets longitude of reference point expressed in radians (rad).
+     *
+     * @return longitude of reference point.
+     */
+    public double getReferenceLongitude() {
+        return referenceLongitude;
+    }
+
+    /**
+     * Gets height of reference point expressed in meters (m).
+     *
+     * @return height of reference point.
+     */
+    public double getReferenceHeight() {
+        return referenceHeight;
+    }
+
+    /**
+     * Gets curvilinear position of reference point.
+     *
+     * @param result instance where curvilinear position of reference point will be stored.
+     */
+    public void getReferencePosition(final NEDPosition result) {
+        result.setCoordinates(referenceLatitude, referenceLongitude, referenceHeight);
+    }
+
+    /**
+     * Gets ECEF position of reference point.
+     *
+     * @param result instance where ECEF position of reference point will be stored.
+     */
+    public void getReferenceECEFPosition(final ECEFPosition result) {
+        result.setCoordinates(referenceX, referenceY, referenceZ);
+    }
+
+    /**
+     * Sets reference point.
+     *
+     * @param latitude  latitude of reference point expressed in radians (rad).
+     * @param longitude longitude of reference point expressed in radians (rad).
+     * @param height    height of reference point expressed in meters (m).
+     */
+    public void setReferencePosition(final double latitude, final double longitude, final double height) {
+        final var position = new ECEFPosition();
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(latitude, longitude, height, 0.0, 0.0, 0.0,
+                position, new ECEFVelocity());
+
+        setReference(latitude, longitude, height, position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Sets reference point.
+     *
+     * @param referencePosition curvilinear position of reference point.
+     */
+    public void setReferencePosition(final NEDPosition referencePosition) {
+        setReferencePosition(referencePosition.getLatitude(), referencePosition.getLongitude(),
+                referencePosition.getHeight());
+    }
+
+    /**
+     * Sets reference point.
+     * Provided ECEF position is kept as the origin of local coordinates.
+     *
+     * @param referencePosition ECEF position of reference point.
+     */
+    public void setReferencePosition(final ECEFPosition referencePosition) {
+        final var x = referencePosition.getX();
+        final var y = referencePosition.getY();
+        final var z = referencePosition.getZ();
+
+        final var position = new NEDPosition();
+        ECEFtoGeodeticConverter.create().convert(x, y, z, position);
+
+        setReference(position.getLatitude(), position.getLongitude(), position.getHeight(), x, y, z);
+    }
+
+    /**
+     * Gets cached ECEF to NED coordinate transformation of reference point.
+     *
+     * @param result instance where ECEF to NED coordinate transformation will be copied to.
+     */
+    public void getReferenceCoordinateTransformation(final CoordinateTransformation result) {
+        cen.copyTo(result);
+    }
+
+    /**
+     * Indicates whether small angle approximation is enabled to obtain ECEF to NED
+     * rotations of points near the reference point.
+     *
+     * @return true if small angle approximation is enabled, false otherwise.
+     */
+    public boolean isSmallAngleApproximationEnabled() {
+        return smallAngleApproximationEnabled;
+    }
+
+    /**
+     * Specifies whether small angle approximation is enabled to obtain ECEF to NED
+     * rotations of points near the reference point.
+     *
+     * @param smallAngleApproximationEnabled true to enable small angle approximation,
+     *                                       false otherwise.
+     */
+    public void setSmallAngleApproximationEnabled(final boolean smallAngleApproximationEnabled) {
+        this.smallAngleApproximationEnabled = smallAngleApproximationEnabled;
+    }
+
+    /**
+     * Gets maximum absolute difference allowed between elements of rotations
+     * obtained with the small angle approximation and exact ones.
+     *
+     * @return tolerance of small angle approximation.
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Sets maximum absolute difference allowed between elements of rotations
+     * obtained with the small angle approximation and exact ones.
+     * Notice that tolerances close to machine precision are limited by rounding
+     * errors.
+     *
+     * @param tolerance tolerance of small angle approximation.
+     * @throws IllegalArgumentException if provided tolerance is zero or negative.
+     */
+    public void setTolerance(final double tolerance) {
+        if (tolerance <= 0.0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.tolerance = tolerance;
+
+        // Truncating the Taylor series of sine after the fifth order term and the
+        // series of cosine after the fourth order term has an error bounded by
+        // E(d) = d^6 / 720 + d^7 / 5040 <= d^6 / 630 for |d| <= 1.
+        // Sines and cosines of latitude and longitude are obtained from the reference
+        // ones by angle addition, with an error bounded by E, hence elements of the
+        // rotation, which are products of those, have an error bounded by 2E + E^2.
+        // Taking d^6 = 210 * tolerance, E <= tolerance / 3 and 2E + E^2 <= tolerance.
+        maxSmallAngle = Math.min(MAX_SMALL_ANGLE, Math.cbrt(Math.sqrt(210.0 * tolerance)));
+    }
+
+    /**
+     * Gets maximum latitude or longitude difference respect to reference point
+     * expressed in radians (rad) for which small angle approximation is used.
+     * This value depends on configured tolerance.
+     *
+     * @return maximum latitude or longitude difference for small angle approximation.
+     */
+    public double getMaxSmallAngle() {
+        return maxSmallAngle;
+    }
+
+    /**
+     * Converts an ECEF position into local NED coordinates respect to the reference point.
+     *
+     * @param x      ECEF x coordinate expressed in meters (m).
+     * @param y      ECEF y coordinate expressed in meters (m).
+     * @param z      ECEF z coordinate expressed in meters (m).
+     * @param result array where north, east and down coordinates expressed in meters (m)
+     *               will be stored. Must have length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void convertToNED(final double x, final double y, final double z, final double[] result) {
+        cen.rotate(x - referenceX, y - referenceY, z - referenceZ, result);
+    }
+
+    /**
+     * Converts an ECEF position into local NED coordinates respect to the reference point.
+     *
+     * @param position ECEF position.
+     * @param result   array where north, east and down coordinates expressed in meters (m)
+     *                 will be stored. Must have length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void convertToNED(final ECEFPosition position, final double[] result) {
+        convertToNED(position.getX(), position.getY(), position.getZ(), result);
+    }
+
+    /**
+     * Converts an ECEF position into local ENU coordinates respect to the reference point.
+     *
+     * @param x      ECEF x coordinate expressed in meters (m).
+     * @param y      ECEF y coordinate expressed in meters (m).
+     * @param z      ECEF z coordinate expressed in meters (m).
+     * @param result array where east, north and up coordinates expressed in meters (m)
+     *               will be stored. Must have length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void convertToENU(final double x, final double y, final double z, final double[] result) {
+        convertToNED(x, y, z, result);
+
+        final var north = result[0];
+        result[0] = result[1];
+        result[1] = north;
+        result[2] = -result[2];
+    }
+
+    /**
+     * Converts an ECEF position into local ENU coordinates respect to the reference point.
+     *
+     * @param position ECEF position.
+     * @param result   array where east, north and up coordinates expressed in meters (m)
+     *                 will be stored. Must have length 3.
+     * @throws IllegalArgumentException if provided array does not have length 3.
+     */
+    public void convertToENU(final ECEFPosition position, final double[] result) {
+        convertToENU(position.getX(), position.getY(), position.getZ(), result);
+    }
+
+    /**
+     * Converts many ECEF positions into local NED coordinates respect to the reference
+     * point.
+     * Point i is converted for offset &lt;= i &lt; offset + length, storing results
+     * at the same position of output arrays.
+     *
+     * @param x      ECEF x coordinates expressed in meters (m).
+     * @param y      ECEF y coordinates expressed in meters (m).
+     * @param z      ECEF z coordinates expressed in meters (m).
+     * @param offset position of first point to be converted.
+     * @param length number of points to be converted.
+     * @param north  array where north coordinates expressed in meters (m) will be stored.
+     * @param east   array where east coordinates expressed in meters (m) will be stored.
+     * @param down   array where down coordinates expressed in meters (m) will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public void convertToNED(final double[] x, final double[] y, final double[] z, final int offset,
+                             final int length, final double[] north, final double[] east, final double[] down) {
+        ECEFtoNEDPositionVelocityConverter.checkBulkArrays(offset, length, x, y, z, north, east, down);
+
+        final var m = cenElements;
+        final var m0 = m[0];
+        final var m1 = m[1];
+        final var m2 = m[2];
+        final var m3 = m[3];
+        final var m4 = m[4];
+        final var m5 = m[5];
+        final var m6 = m[6];
+        final var m7 = m[7];
+        final var m8 = m[8];
+
+        final var end = offset + length;
+        for (var i = offset; i < end; i++) {
+            final var dx = x[i] - referenceX;
+            final var dy = y[i] - referenceY;
+            final var dz = z[i] - referenceZ;
+            north[i] = m0 * dx + m3 * dy + m6 * dz;
+            east[i] = m1 * dx + m4 * dy + m7 * dz;
+            down[i] = m2 * dx + m5 * dy + m8 * dz;
+        }
+    }
+
+    /**
+     * Converts many ECEF positions into local ENU coordinates respect to the reference
+     * point.
+     * Point i is converted for offset &lt;= i &lt; offset + length, storing results
+     * at the same position of output arrays.
+     *
+     * @param x      ECEF x coordinates expressed in meters (m).
+     * @param y      ECEF y coordinates expressed in meters (m).
+     * @param z      ECEF z coordinates expressed in meters (m).
+     * @param offset position of first point to be converted.
+     * @param length number of points to be converted.
+     * @param east   array where east coordinates expressed in meters (m) will be stored.
+     * @param north  array where north coordinates expressed in meters (m) will be stored.
+     * @param up     array where up coordinates expressed in meters (m) will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public void convertToENU(final double[] x, final double[] y, final double[] z, final int offset,
+                             final int length, final double[] east, final double[] north, final double[] up) {
+        convertToNED(x, y, z, offset, length, north, east, up);
+
+        final var end = offset + length;
+        for (var i = offset; i < end; i++) {
+            up[i] = -up[i];
+        }
+    }
+
+    /**
+     * Converts local NED coordinates respect to the reference point into an ECEF position.
+     *
+     * @param north  north coordinate expressed in meters (m).
+     * @param east   east coordinate expressed in meters (m).
+     * @param down   down coordinate expressed in meters (m).
+     * @param result instance where ECEF position will be stored.
+     */
+    public void convertFromNED(final double north, final double east, final double down,
+                               final ECEFPosition result) {
+        final var m = cenElements;
+        result.setCoordinates(
+                referenceX + (m[0] * north + m[1] * east + m[2] * down),
+                referenceY + (m[3] * north + m[4] * east + m[5] * down),
+                referenceZ + (m[6] * north + m[7] * east + m[8] * down));
+    }
+
+    /**
+     * Converts local ENU coordinates respect to the reference point into an ECEF position.
+     *
+     * @param east   east coordinate expressed in meters (m).
+     * @param north  north coordinate expressed in meters (m).
+     * @param up     up coordinate expressed in meters (m).
+     * @param result instance where ECEF position will be stored.
+     */
+    public void convertFromENU(final double east, final double north, final double up,
+                               final ECEFPosition result) {
+        convertFromNED(north, east, -up, result);
+    }
+
+    /**
+     * Converts many local NED coordinates respect to the reference point into ECEF
+     * positions.
+     * Point i is converted for offset &lt;= i &lt; offset + length, storing results
+     * at the same position of output arrays.
+     *
+     * @param north  north coordinates expressed in meters (m).
+     * @param east   east coordinates expressed in meters (m).
+     * @param down   down coordinates expressed in meters (m).
+     * @param offset position of first point to be converted.
+     * @param length number of points to be converted.
+     * @param x      array where ECEF x coordinates expressed in meters (m) will be stored.
+     * @param y      array where ECEF y coordinates expressed in meters (m) will be stored.
+     * @param z      array where ECEF z coordinates expressed in meters (m) will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public void convertFromNED(final double[] north, final double[] east, final double[] down,
+                               final int offset, final int length,
+                               final double[] x, final double[] y, final double[] z) {
+        ECEFtoNEDPositionVelocityConverter.checkBulkArrays(offset, length, north, east, down, x, y, z);
+        convertFromLocal(north, east, down, 1.0, offset, length, x, y, z);
+    }
+
+    /**
+     * Converts many local ENU coordinates respect to the reference point into ECEF
+     * positions.
+     * Point i is converted for offset &lt;= i &lt; offset + length, storing results
+     * at the same position of output arrays.
+     *
+     * @param east   east coordinates expressed in meters (m).
+     * @param north  north coordinates expressed in meters (m).
+     * @param up     up coordinates expressed in meters (m).
+     * @param offset position of first point to be converted.
+     * @param length number of points to be converted.
+     * @param x      array where ECEF x coordinates expressed in meters (m) will be stored.
+     * @param y      array where ECEF y coordinates expressed in meters (m) will be stored.
+     * @param z      array where ECEF z coordinates expressed in meters (m) will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public void convertFromENU(final double[] east, final double[] north, final double[] up,
+                               final int offset, final int length,
+                               final double[] x, final double[] y, final double[] z) {
+        ECEFtoNEDPositionVelocityConverter.checkBulkArrays(offset, length, east, north, up, x, y, z);
+        convertFromLocal(north, east, up, -1.0, offset, length, x, y, z);
+    }
+
+    /**
+     * Computes ECEF to NED rotation matrix of a point near the reference point.
+     * If small angle approximation is enabled and provided point is close enough to
+     * the reference point, the rotation is obtained from the cached reference rotation
+     * without evaluating trigonometric functions. Otherwise, result is exactly the
+     * same as the one obtained through
+     * {@link CoordinateTransformation#ecefToNedMatrix(double, double, Matrix)}.
+     *
+     * @param latitude  latitude of point expressed in radians (rad).
+     * @param longitude longitude of point expressed in radians (rad).
+     * @param result    instance where ECEF to NED rotation matrix will be stored.
+     */
+    public void getEcefToNedMatrix(final double latitude, final double longitude, final Matrix result) {
+        if (result.getRows() != CoordinateTransformation.ROWS
+                || result.getColumns() != CoordinateTransformation.COLS) {
+            try {
+                result.resize(CoordinateTransformation.ROWS, CoordinateTransformation.COLS);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+        computeEcefToNed(latitude, longitude, result.getBuffer());
+    }
+
+    /**
+     * Resolves an ECEF velocity of a point near the reference point about the NED axes
+     * of that point.
+     * If small angle approximation is enabled and provided point is close enough to
+     * the reference point, the rotation is obtained from the cached reference rotation
+     * without evaluating trigonometric functions.
+     *
+     * @param latitude  latitude of point expressed in radians (rad).
+     * @param longitude longitude of point expressed in radians (rad).
+     * @param vx        ECEF x velocity coordinate expressed in meters per second (m/s).
+     * @param vy        ECEF y velocity coordinate expressed in meters per second (m/s).
+     * @param vz        ECEF z velocity coordinate expressed in meters per second (m/s).
+     * @param result    instance where NED velocity will be stored.
+     */
+    public void convertVelocityToNED(final double latitude, final double longitude,
+                                     final double vx, final double vy, final double vz,
+                                     final NEDVelocity result) {
+        final var deltaLatitude = latitude - referenceLatitude;
+        final var deltaLongitude = Math.IEEEremainder(longitude - referenceLongitude, 2.0 * Math.PI);
+        final var smallAngle = isSmallAngle(deltaLatitude, deltaLongitude);
+        final var cosLat = smallAngle ? cosOfSum(sinReferenceLatitude, cosReferenceLatitude, deltaLatitude)
+                : Math.cos(latitude);
+        final var sinLat = smallAngle ? sinOfSum(sinReferenceLatitude, cosReferenceLatitude, deltaLatitude)
+                : Math.sin(latitude);
+        final var cosLong = smallAngle ? cosOfSum(sinReferenceLongitude, cosReferenceLongitude, deltaLongitude)
+                : Math.cos(longitude);
+        final var sinLong = smallAngle ? sinOfSum(sinReferenceLongitude, cosReferenceLongitude, deltaLongitude)
+                : Math.sin(longitude);
+
+        // Rotate velocity using ECEF to NED coordinate transformation matrix of (2.150)
+        final var m0 = -sinLat * cosLong;
+        final var m1 = -sinLong;
+        final var m2 = -cosLat * cosLong;
+        final var m3 = -sinLat * sinLong;
+        final var m5 = -cosLat * sinLong;
+        final var m8 = -sinLat;
+        result.setCoordinates(
+                m0 * vx + m3 * vy + cosLat * vz,
+                m1 * vx + cosLong * vy + 0.0 * vz,
+                m2 * vx + m5 * vy + m8 * vz);
+    }
+
+    /**
+     * Stores reference point and caches its ECEF to NED rotation.
+     *
+     * @param latitude  latitude of reference point expressed in radians (rad).
+     * @param longitude longitude of reference point expressed in radians (rad).
+     * @param height    height of reference point expressed in meters (m).
+     * @param x         ECEF x coordinate of reference point expressed in meters (m).
+     * @param y         ECEF y coordinate of reference point expressed in meters (m).
+     * @param z         ECEF z coordinate of reference point expressed in meters (m).
+     */
+    private void setReference(final double latitude, final double longitude, final double height,
+                              final double x, final double y, final double z) {
+        referenceLatitude = latitude;
+        referenceLongitude = longitude;
+        referenceHeight = height;
+        referenceX = x;
+        referenceY = y;
+        referenceZ = z;
+
+        sinReferenceLatitude = Math.sin(latitude);
+        cosReferenceLatitude = Math.cos(latitude);
+        sinReferenceLongitude = Math.sin(longitude);
+        cosReferenceLongitude = Math.cos(longitude);
+
+        CoordinateTransformation.ecefToNedCoordinateTransformationMatrix(latitude, longitude, cen);
+        cen.getElements(cenElements);
+    }
+
+    /**
+     * Converts many local coordinates into ECEF positions.
+     *
+     * @param north      north coordinates expressed in meters (m).
+     * @param east       east coordinates expressed in meters (m).
+     * @param vertical   down or up coordinates expressed in meters (m).
+     * @param downFactor 1.0 if vertical coordinates are down coordinates, -1.0 if
+     *                   they are up coordinates.
+     * @param offset     position of first point to be converted.
+     * @param length     number of points to be converted.
+     * @param x          array where ECEF x coordinates will be stored.
+     * @param y          array where ECEF y coordinates will be stored.
+     * @param z          array where ECEF z coordinates will be stored.
+     */
+    private void convertFromLocal(final double[] north, final double[] east, final double[] vertical,
+                                  final double downFactor, final int offset, final int length,
+                                  final double[] x, final double[] y, final double[] z) {
+        final var m = cenElements;
+        final var m0 = m[0];
+        final var m1 = m[1];
+        final var m2 = m[2];
+        final var m3 = m[3];
+        final var m4 = m[4];
+        final var m5 = m[5];
+        final var m6 = m[6];
+        final var m7 = m[7];
+        final var m8 = m[8];
+
+        final var end = offset + length;
+        for (var i = offset; i < end; i++) {
+            final var n = north[i];
+            final var e = east[i];
+            final var d = downFactor * vertical[i];
+            x[i] = referenceX + (m0 * n + m1 * e + m2 * d);
+            y[i] = referenceY + (m3 * n + m4 * e + m5 * d);
+            z[i] = referenceZ + (m6 * n + m7 * e + m8 * d);
+        }
+    }
+
+    /**
+     * Computes the elements of the ECEF to NED rotation matrix of a point in
+     * column-major order.
+     *
+     * @param latitude  latitude of point expressed in radians (rad).
+     * @param longitude longitude of point expressed in radians (rad).
+     * @param result    array of length 9 where elements will be stored.
+     */
+    private void computeEcefToNed(final double latitude, final double longitude, final double[] result) {
+        final var deltaLatitude = latitude - referenceLatitude;
+        final var deltaLongitude = Math.IEEEremainder(longitude - referenceLongitude, 2.0 * Math.PI);
+        final var smallAngle = isSmallAngle(deltaLatitude, deltaLongitude);
+        final var cosLat = smallAngle ? cosOfSum(sinReferenceLatitude, cosReferenceLatitude, deltaLatitude)
+                : Math.cos(latitude);
+        final var sinLat = smallAngle ? sinOfSum(sinReferenceLatitude, cosReferenceLatitude, deltaLatitude)
+                : Math.sin(latitude);
+        final var cosLong = smallAngle ? cosOfSum(sinReferenceLongitude, cosReferenceLongitude, deltaLongitude)
+                : Math.cos(longitude);
+        final var sinLong = smallAngle ? sinOfSum(sinReferenceLongitude, cosReferenceLongitude, deltaLongitude)
+                : Math.sin(longitude);
+
+        // Calculate ECEF to NED coordinate transformation matrix using (2.150)
+        result[0] = -sinLat * cosLong;
+        result[1] = -sinLong;
+        result[2] = -cosLat * cosLong;
+
+        result[3] = -sinLat * sinLong;
+        result[4] = cosLong;
+        result[5] = -cosLat * sinLong;
+
+        result[6] = cosLat;
+        result[7] = 0.0;
+        result[8] = -sinLat;
+    }
+
+    /**
+     * Indicates whether the small angle approximation can be used for a point whose
+     * latitude and longitude differ from the reference point by provided amounts.
+     *
+     * @param deltaLatitude  latitude difference expressed in radians (rad).
+     * @param deltaLongitude longitude difference expressed in radians (rad).
+     * @return true if small angle approximation can be used, false otherwise.
+     */
+    private boolean isSmallAngle(final double deltaLatitude, final double deltaLongitude) {
+        return smallAngleApproximationEnabled && Math.abs(deltaLatitude) <= maxSmallAngle
+                && Math.abs(deltaLongitude) <= maxSmallAngle;
+    }
+
+    /**
+     * Computes the sine of a reference angle plus a small angle difference using
+     * angle addition and a truncated Taylor series of the difference.
+     *
+     * @param sinReference sine of reference angle.
+     * @param cosReference cosine of reference angle.
+     * @param delta        small angle difference expressed in radians (rad).
+     * @return sine of the sum of both angles.
+     */
+    private static double sinOfSum(final double sinReference, final double cosReference, final double delta) {
+        final var delta2 = delta * delta;
+        final var sinDelta = delta * (1.0 - delta2 / 6.0 * (1.0 - delta2 / 20.0));
+        final var cosDelta = 1.0 - delta2 / 2.0 * (1.0 - delta2 / 12.0);
+        return sinReference * cosDelta + cosReference * sinDelta;
+    }
+
+    /**
+     * Computes the cosine of a reference angle plus a small angle difference using
+     * angle addition and a truncated Taylor series of the difference.
+     *
+     * @param sinReference sine of reference angle.
+     * @param cosReference cosine of reference angle.
+     * @param delta        small angle difference expressed in radians (rad).
+     * @return cosine of the sum of both angles.
+     */
+    private static double cosOfSum(final double sinReference, final double cosReference, final double delta) {
+        final var delta2 = delta * delta;
+        final var sinDelta = delta * (1.0 - delta2 / 6.0 * (1.0 - delta2 / 20.0));
+        final var cosDelta = 1.0 - delta2 / 2.0 * (1.0 - delta2 / 12.0);
+        return cosReference * cosDelta - sinReference * sinDelta;
+    }
+}
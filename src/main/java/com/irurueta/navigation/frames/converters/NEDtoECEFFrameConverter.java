@@ -20,9 +20,11 @@ import com.irurueta.algebra.WrongSizeException;
 import com.irurueta.geometry.InvalidRotationMatrixException;
 import com.irurueta.navigation.frames.CoordinateTransformation;
 import com.irurueta.navigation.frames.ECEFFrame;
+import com.irurueta.navigation.frames.ECEFTrajectory;
 import com.irurueta.navigation.frames.FrameType;
 import com.irurueta.navigation.frames.InvalidSourceAndDestinationFrameTypeException;
 import com.irurueta.navigation.frames.NEDFrame;
+import com.irurueta.navigation.frames.NEDTrajectory;
 import com.irurueta.navigation.geodesic.Constants;
 
 /**
@@ -32,6 +34,9 @@ import com.irurueta.navigation.geodesic.Constants;
  * <a href="https://github.com/ymjdz/MATLAB-Codes/blob/master/NED_to_ECEF.m">
  *     https://github.com/ymjdz/MATLAB-Codes/blob/master/NED_to_ECEF.m
  * </a>
+ * Instances reuse internal buffers so that {@link #convert(NEDFrame, ECEFFrame)} makes no heap
+ * allocations, writing results in place into the coordinate transformation owned by the destination frame.
+ * Consequently, instances are not thread-safe, whereas static methods are.
  */
 public class NEDtoECEFFrameConverter implements FrameConverter<NEDFrame, ECEFFrame> {
 
@@ -45,6 +50,24 @@ public class NEDtoECEFFrameConverter implements FrameConverter<NEDFrame, ECEFFra
      */
     public static final double EARTH_ECCENTRICITY = Constants.EARTH_ECCENTRICITY;
 
+    /**
+     * Matrix reused to copy body to NED coordinate transformation of source frames.
+     */
+    private final Matrix cbn;
+
+    /**
+     * Matrix reused to compute body to ECEF coordinate transformation of destination frames.
+     */
+    private final Matrix cbe;
+
+    /**
+     * Constructor.
+     */
+    public NEDtoECEFFrameConverter() {
+        cbn = CoordinateTransformationMatrices.create();
+        cbe = CoordinateTransformationMatrices.create();
+    }
+
     /**
      * Converts source NED frame to a new ECEF frame instance.
      *
@@ -60,11 +83,79 @@ public class NEDtoECEFFrameConverter implements FrameConverter<NEDFrame, ECEFFra
 
     /**
      * Converts source NED frame to destination ECEF frame.
+     * No heap memory is allocated, since the coordinate transformation matrix owned by
+     * the destination frame is overwritten in place. A coordinate transformation
+     * provided to the destination frame by the caller is never modified.
+     * Results are equal to the ones obtained through
+     * {@link #convertNEDtoECEF(NEDFrame, ECEFFrame)},
+     * except that terms known to be zero are skipped, so zero values might differ in sign.
+     *
      * @param source      source frame to convert from.
      * @param destination destination frame instance to convert to.
      */
     @Override
     public void convert(final NEDFrame source, final ECEFFrame destination) {
+        final var latitude = source.getLatitude();
+        final var longitude = source.getLongitude();
+        final var height = source.getHeight();
+
+        final var cosLat = Math.cos(latitude);
+        final var sinLat = Math.sin(latitude);
+        final var cosLong = Math.cos(longitude);
+        final var sinLong = Math.sin(longitude);
+
+        // Calculate transverse radius of curvature using (2.105)
+        final var eSinLat = EARTH_ECCENTRICITY * sinLat;
+        final var re = EARTH_EQUATORIAL_RADIUS_WGS84 / Math.sqrt(1.0 - eSinLat * eSinLat);
+
+        // Convert position using (2.112)
+        final var e2 = EARTH_ECCENTRICITY * EARTH_ECCENTRICITY;
+        destination.setCoordinates((re + height) * cosLat * cosLong, (re + height) * cosLat * sinLong,
+                ((1.0 - e2) * re + height) * sinLat);
+
+        // Calculate NED to ECEF coordinate transformation matrix as the transpose of (2.150)
+        final var c00 = -sinLat * cosLong;
+        final var c01 = -sinLong;
+        final var c02 = -cosLat * cosLong;
+        final var c10 = -sinLat * sinLong;
+        final var c12 = -cosLat * sinLong;
+
+        // Transform velocity using (2.73)
+        final var vn = source.getVn();
+        final var ve = source.getVe();
+        final var vd = source.getVd();
+        destination.setVelocityCoordinates(c00 * vn + c01 * ve + c02 * vd,
+                c10 * vn + cosLong * ve + c12 * vd,
+                cosLat * vn + -sinLat * vd);
+
+        // Transform attitude using (2.15), where matrices are stored in column order
+        source.getCoordinateTransformationMatrix(cbn);
+        final var b = cbn.getBuffer();
+        final var r = cbe.getBuffer();
+        for (var k = 0; k < CoordinateTransformation.COLS; k++) {
+            final var offset = k * CoordinateTransformation.ROWS;
+            final var b0 = b[offset];
+            final var b1 = b[offset + 1];
+            final var b2 = b[offset + 2];
+            r[offset] = c00 * b0 + c01 * b1 + c02 * b2;
+            r[offset + 1] = c10 * b0 + cosLong * b1 + c12 * b2;
+            r[offset + 2] = cosLat * b0 + -sinLat * b2;
+        }
+        destination.copyCoordinateTransformationMatrixFrom(cbe);
+    }
+
+    /**
+     * Converts source NED trajectory to destination ECEF trajectory.
+     * Destination trajectory is resized to contain the same number of samples as
+     * the source one, and timestamps are copied.
+     * Samples are converted directly on trajectory columns without creating any
+     * frame, and results are exactly the same as the ones obtained through
+     * {@link #convert(NEDFrame, ECEFFrame)} for each sample.
+     *
+     * @param source      source trajectory to convert from.
+     * @param destination destination trajectory to convert to.
+     */
+    public void convert(final NEDTrajectory source, final ECEFTrajectory destination) {
         convertNEDtoECEF(source, destination);
     }
 
@@ -168,4 +259,83 @@ public class NEDtoECEFFrameConverter implements FrameConverter<NEDFrame, ECEFFra
             // never happens
         }
     }
+
+    /**
+     * Converts source NED trajectory to destination ECEF trajectory.
+     * Destination trajectory is resized to contain the same number of samples as
+     * the source one, and timestamps are copied.
+     * Samples are converted directly on trajectory columns without creating any
+     * frame.
+     *
+     * @param source      source trajectory to convert from.
+     * @param destination destination trajectory to convert to.
+     */
+    public static void convertNEDtoECEF(final NEDTrajectory source, final ECEFTrajectory destination) {
+        final var size = source.size();
+        destination.setSize(size);
+        System.arraycopy(source.getTimestamps(), 0, destination.getTimestamps(), 0, size);
+
+        final var latitudes = source.getLatitude();
+        final var longitudes = source.getLongitude();
+        final var heights = source.getHeight();
+        final var vn = source.getVn();
+        final var ve = source.getVe();
+        final var vd = source.getVd();
+        final var cbn = source.getAttitudes();
+
+        final var x = destination.getX();
+        final var y = destination.getY();
+        final var z = destination.getZ();
+        final var vx = destination.getVx();
+        final var vy = destination.getVy();
+        final var vz = destination.getVz();
+        final var cbe = destination.getAttitudes();
+
+        final var e2 = EARTH_ECCENTRICITY * EARTH_ECCENTRICITY;
+        for (var i = 0; i < size; i++) {
+            final var latitude = latitudes[i];
+            final var longitude = longitudes[i];
+            final var height = heights[i];
+
+            final var cosLat = Math.cos(latitude);
+            final var sinLat = Math.sin(latitude);
+            final var cosLong = Math.cos(longitude);
+            final var sinLong = Math.sin(longitude);
+
+            // Calculate transverse radius of curvature using (2.105)
+            final var eSinLat = EARTH_ECCENTRICITY * sinLat;
+            final var re = EARTH_EQUATORIAL_RADIUS_WGS84 / Math.sqrt(1.0 - eSinLat * eSinLat);
+
+            // Convert position using (2.112)
+            x[i] = (re + height) * cosLat * cosLong;
+            y[i] = (re + height) * cosLat * sinLong;
+            z[i] = ((1.0 - e2) * re + height) * sinLat;
+
+            // Calculate NED to ECEF coordinate transformation matrix as the transpose of (2.150)
+            final var c00 = -sinLat * cosLong;
+            final var c01 = -sinLong;
+            final var c02 = -cosLat * cosLong;
+            final var c10 = -sinLat * sinLong;
+            final var c12 = -cosLat * sinLong;
+
+            // Transform velocity using (2.73)
+            final var vni = vn[i];
+            final var vei = ve[i];
+            final var vdi = vd[i];
+            vx[i] = c00 * vni + c01 * vei + c02 * vdi;
+            vy[i] = c10 * vni + cosLong * vei + c12 * vdi;
+            vz[i] = cosLat * vni + -sinLat * vdi;
+
+            // Transform attitude using (2.15), where matrices are stored in column order
+            for (var k = 0; k < CoordinateTransformation.COLS; k++) {
+                final var offset = i * CoordinateTransformation.ELEMENTS + k * CoordinateTransformation.ROWS;
+                final var b0 = cbn[offset];
+                final var b1 = cbn[offset + 1];
+                final var b2 = cbn[offset + 2];
+                cbe[offset] = c00 * b0 + c01 * b1 + c02 * b2;
+                cbe[offset + 1] = c10 * b0 + cosLong * b1 + c12 * b2;
+                cbe[offset + 2] = cosLat * b0 + -sinLat * b2;
+            }
+        }
+    }
 }
@@ -15,16 +15,15 @@
  */
 package com.irurueta.navigation.frames.converters;
 
-import com.irurueta.algebra.Matrix;
-import com.irurueta.algebra.WrongSizeException;
-import com.irurueta.navigation.frames.CoordinateTransformation;
 import com.irurueta.navigation.frames.ECEFPosition;
 import com.irurueta.navigation.frames.ECEFVelocity;
-import com.irurueta.navigation.frames.NEDFrame;
 import com.irurueta.navigation.frames.NEDPosition;
 import com.irurueta.navigation.frames.NEDVelocity;
 import com.irurueta.navigation.geodesic.Constants;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * Converts curvilinear to cartesian position and velocity resolving
  * axes from NED to ECEF.
@@ -46,6 +45,11 @@ public class NEDtoECEFPositionVelocityConverter {
      */
     public static final double EARTH_ECCENTRICITY = Constants.EARTH_ECCENTRICITY;
 
+    /**
+     * Default number of points converted by each parallel task on bulk conversions.
+     */
+    public static final int DEFAULT_POINTS_PER_TASK = 8192;
+
     /**
      * Converts curvilinear to cartesian position and velocity resolving axes
      * from NED to ECEF.
@@ -130,46 +134,413 @@ public class NEDtoECEFPositionVelocityConverter {
      * @param destinationVelocity instance where velocity resolved on ECEF frame will
      *                            be stored.
      */
-    @SuppressWarnings("DuplicatedCode")
     public static void convertNEDtoECEF(final double latitude, final double longitude, final double height,
                                         final double vn, final double ve, final double vd,
                                         final ECEFPosition destinationPosition,
                                         final ECEFVelocity destinationVelocity) {
-        try {
+        // Sine and cosine of latitude and longitude are shared between position
+        // and velocity conversions
+        final var cosLat = Math.cos(latitude);
+        final var sinLat = Math.sin(latitude);
+        final var cosLong = Math.cos(longitude);
+        final var sinLong = Math.sin(longitude);
+
+        // Calculate transverse radius of curvature using (2.105)
+        final var eSinLat = EARTH_ECCENTRICITY * sinLat;
+        final var re = EARTH_EQUATORIAL_RADIUS_WGS84 / Math.sqrt(1.0 - eSinLat * eSinLat);
+
+        // Convert position using (2.112)
+        final var x = (re + height) * cosLat * cosLong;
+        final var y = (re + height) * cosLat * sinLong;
+        final var z = ((1.0 - EARTH_ECCENTRICITY * EARTH_ECCENTRICITY) * re + height) * sinLat;
+
+        destinationPosition.setCoordinates(x, y, z);
+
+        // Transform velocity using (2.73) and the transpose of (2.150)
+        final var vx = -sinLat * cosLong * vn + -sinLong * ve + -cosLat * cosLong * vd;
+        final var vy = -sinLat * sinLong * vn + cosLong * ve + -cosLat * sinLong * vd;
+        final var vz = cosLat * vn + 0.0 * ve + -sinLat * vd;
+
+        destinationVelocity.setCoordinates(vx, vy, vz);
+    }
+
+    /**
+     * Converts many curvilinear positions into cartesian ECEF positions.
+     * Points are provided as a structure of arrays, and point i is converted for
+     * offset &lt;= i &lt; offset + length, storing results at the same position of
+     * output arrays, so that no object is created per point.
+     * Results are exactly the same as the ones obtained through
+     * {@link #convertNEDtoECEF(double, double, double, double, double, double, ECEFPosition, ECEFVelocity)}.
+     *
+     * @param latitude  latitudes expressed in radians (rad).
+     * @param longitude longitudes expressed in radians (rad).
+     * @param height    heights expressed in meters (m).
+     * @param offset    position of first point to be converted.
+     * @param length    number of points to be converted.
+     * @param x         array where x cartesian coordinates expressed in meters (m)
+     *                  will be stored.
+     * @param y         array where y cartesian coordinates expressed in meters (m)
+     *                  will be stored.
+     * @param z         array where z cartesian coordinates expressed in meters (m)
+     *                  will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertNEDtoECEF(final double[] latitude, final double[] longitude, final double[] height,
+                                        final int offset, final int length,
+                                        final double[] x, final double[] y, final double[] z) {
+        convertNEDtoECEF(latitude, longitude, height, offset, length, x, y, z, false);
+    }
+
+    /**
+     * Converts many curvilinear positions into cartesian ECEF positions.
+     * Points are provided as a structure of arrays, and point i is converted for
+     * offset &lt;= i &lt; offset + length, storing results at the same position of
+     * output arrays, so that no object is created per point.
+     * When parallel execution is enabled, points are split into chunks of
+     * {@link #DEFAULT_POINTS_PER_TASK} points that are distributed among the
+     * threads of the common {@link ForkJoinPool}. Since points are independent,
+     * results are exactly the same regardless of whether execution is parallel or
+     * not.
+     *
+     * @param latitude  latitudes expressed in radians (rad).
+     * @param longitude longitudes expressed in radians (rad).
+     * @param height    heights expressed in meters (m).
+     * @param offset    position of first point to be converted.
+     * @param length    number of points to be converted.
+     * @param x         array where x cartesian coordinates expressed in meters (m)
+     *                  will be stored.
+     * @param y         array where y cartesian coordinates expressed in meters (m)
+     *                  will be stored.
+     * @param z         array where z cartesian coordinates expressed in meters (m)
+     *                  will be stored.
+     * @param parallel  true to convert points in parallel, false otherwise.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertNEDtoECEF(final double[] latitude, final double[] longitude, final double[] height,
+                                        final int offset, final int length,
+                                        final double[] x, final double[] y, final double[] z,
+                                        final boolean parallel) {
+        ECEFtoNEDPositionVelocityConverter.checkBulkArrays(offset, length, latitude, longitude, height, x, y, z);
+        convertBulk(latitude, longitude, height, null, null, null, offset, length, x, y, z,
+                null, null, null, parallel);
+    }
+
+    /**
+     * Converts many curvilinear positions and velocities resolved along NED axes
+     * into cartesian ECEF positions and velocities.
+     * Points are provided as a structure of arrays, and point i is converted for
+     * offset &lt;= i &lt; offset + length, storing results at the same position of
+     * output arrays, so that no object is created per point.
+     * Sine and cosine of latitude and longitude of each point are computed once
+     * and shared between position and velocity conversion.
+     * Results are exactly the same as the ones obtained through
+     * {@link #convertNEDtoECEF(double, double, double, double, double, double, ECEFPosition, ECEFVelocity)}.
+     *
+     * @param latitude  latitudes expressed in radians (rad).
+     * @param longitude longitudes expressed in radians (rad).
+     * @param height    heights expressed in meters (m).
+     * @param vn        north coordinates of velocity expressed in meters per second (m/s).
+     * @param ve        east coordinates of velocity expressed in meters per second (m/s).
+     * @param vd        down coordinates of velocity expressed in meters per second (m/s).
+     * @param offset    position of first point to be converted.
+     * @param length    number of points to be converted.
+     * @param x         array where x cartesian coordinates expressed in meters (m)
+     *                  will be stored.
+     * @param y         array where y cartesian coordinates expressed in meters (m)
+     *                  will be stored.
+     * @param z         array where z cartesian coordinates expressed in meters (m)
+     *                  will be stored.
+     * @param vx        array where x coordinates of velocity expressed in meters per
+     *                  second (m/s) will be stored.
+     * @param vy        array where y coordinates of velocity expressed in meters per
+     *                  second (m/s) will be stored.
+     * @param vz        array where z coordinates of velocity expressed in meters per
+     *                  second (m/s) will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertNEDtoECEF(final double[] latitude, final double[] longitude, final double[] height,
+                                        final double[] vn, final double[] ve, final double[] vd,
+                                        final int offset, final int length,
+                                        final double[] x, final double[] y, final double[] z,
+                                        final double[] vx, final double[] vy, final double[] vz) {
+        convertNEDtoECEF(latitude, longitude, height, vn, ve, vd, offset, length, x, y, z, vx, vy, vz, false);
+    }
+
+    /**
+     * Converts many curvilinear positions and velocities resolved along NED axes
+     * into cartesian ECEF positions and velocities.
+     * Points are provided as a structure of arrays, and point i is converted for
+     * offset &lt;= i &lt; offset + length, storing results at the same position of
+     * output arrays, so that no object is created per point.
+     * Sine and cosine of latitude and longitude of each point are computed once
+     * and shared between position and velocity conversion.
+     * When parallel execution is enabled, points are split into chunks of
+     * {@link #DEFAULT_POINTS_PER_TASK} points that are distributed among the
+     * threads of the common {@link ForkJoinPool}. Since points are independent,
+     * results are exactly the same regardless of whether execution is parallel or
+     * not.
+     *
+     * @param latitude  latitudes expressed in radians (rad).
+     * @param longitude longitudes expressed in radians (rad).
+     * @param height    heights expressed in meters (m).
+     * @param vn        north coordinates of velocity expressed in meters per second (m/s).
+     * @param ve        east coordinates of velocity expressed in meters per second (m/s).
+     * @param vd        down coordinates of velocity expressed in meters per second (m/s).
+     * @param offset    position of first point to be converted.
+     * @param length    number of points to be converted.
+     * @param x         array where x cartesian coordinates expressed in meters (m)
+     *                  will be stored.
+     * @param y         array where y cartesian coordinates expressed in meters (m)
+     *                  will be stored.
+     * @param z         array where z cartesian coordinates expressed in meters (m)
+     *                  will be stored.
+     * @param vx        array where x coordinates of velocity expressed in meters per
+     *                  second (m/s) will be stored.
+     * @param vy        array where y coordinates of velocity expressed in meters per
+     *                  second (m/s) will be stored.
+     * @param vz        array where z coordinates of velocity expressed in meters per
+     *                  second (m/s) will be stored.
+     * @param parallel  true to convert points in parallel, false otherwise.
+     * @throws IllegalArgumentException if offset or length is negative or any
+     *                                  array is too small.
+     */
+    public static void convertNEDtoECEF(final double[] latitude, final double[] longitude, final double[] height,
+                                        final double[] vn, final double[] ve, final double[] vd,
+                                        final int offset, final int length,
+                                        final double[] x, final double[] y, final double[] z,
+                                        final double[] vx, final double[] vy, final double[] vz,
+                                        final boolean parallel) {
+        ECEFtoNEDPositionVelocityConverter.checkBulkArrays(offset, length, latitude, longitude, height, vn, ve, vd,
+                x, y, z, vx, vy, vz);
+        convertBulk(latitude, longitude, height, vn, ve, vd, offset, length, x, y, z, vx, vy, vz, parallel);
+    }
+
+    /**
+     * Converts a range of points either sequentially or in parallel.
+     * Velocity arrays are null when only positions are converted.
+     *
+     * @param latitude  latitudes.
+     * @param longitude longitudes.
+     * @param height    heights.
+     * @param vn        north coordinates of velocity or null.
+     * @param ve        east coordinates of velocity or null.
+     * @param vd        down coordinates of velocity or null.
+     * @param offset    position of first point to be converted.
+     * @param length    number of points to be converted.
+     * @param x         array where x cartesian coordinates will be stored.
+     * @param y         array where y cartesian coordinates will be stored.
+     * @param z         array where z cartesian coordinates will be stored.
+     * @param vx        array where x coordinates of velocity will be stored or null.
+     * @param vy        array where y coordinates of velocity will be stored or null.
+     * @param vz        array where z coordinates of velocity will be stored or null.
+     * @param parallel  true to convert points in parallel, false otherwise.
+     */
+    private static void convertBulk(final double[] latitude, final double[] longitude, final double[] height,
+                                    final double[] vn, final double[] ve, final double[] vd,
+                                    final int offset, final int length,
+                                    final double[] x, final double[] y, final double[] z,
+                                    final double[] vx, final double[] vy, final double[] vz,
+                                    final boolean parallel) {
+        final var task = new ConversionTask(latitude, longitude, height, vn, ve, vd, x, y, z, vx, vy, vz,
+                offset, offset + length);
+        if (parallel && length > DEFAULT_POINTS_PER_TASK) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+    }
+
+    /**
+     * Converts a range of points sequentially.
+     * Velocity arrays are null when only positions are converted.
+     *
+     * @param latitude  latitudes.
+     * @param longitude longitudes.
+     * @param height    heights.
+     * @param vn        north coordinates of velocity or null.
+     * @param ve        east coordinates of velocity or null.
+     * @param vd        down coordinates of velocity or null.
+     * @param from      first point to be converted (inclusive).
+     * @param to        last point to be converted (exclusive).
+     * @param x         array where x cartesian coordinates will be stored.
+     * @param y         array where y cartesian coordinates will be stored.
+     * @param z         array where z cartesian coordinates will be stored.
+     * @param vx        array where x coordinates of velocity will be stored or null.
+     * @param vy        array where y coordinates of velocity will be stored or null.
+     * @param vz        array where z coordinates of velocity will be stored or null.
+     */
+    @SuppressWarnings("DuplicatedCode")
+    private static void convertRange(final double[] latitude, final double[] longitude, final double[] height,
+                                     final double[] vn, final double[] ve, final double[] vd,
+                                     final int from, final int to,
+                                     final double[] x, final double[] y, final double[] z,
+                                     final double[] vx, final double[] vy, final double[] vz) {
+        final var oneMinusEcc2 = 1.0 - EARTH_ECCENTRICITY * EARTH_ECCENTRICITY;
+
+        for (var i = from; i < to; i++) {
+            final var lat = latitude[i];
+            final var lon = longitude[i];
+            final var h = height[i];
+
+            final var cosLat = Math.cos(lat);
+            final var sinLat = Math.sin(lat);
+            final var cosLong = Math.cos(lon);
+            final var sinLong = Math.sin(lon);
 
             // Calculate transverse radius of curvature using (2.105)
-            final var re = EARTH_EQUATORIAL_RADIUS_WGS84
-                    / Math.sqrt(1.0 - Math.pow(EARTH_ECCENTRICITY * Math.sin(latitude), 2.0));
+            final var eSinLat = EARTH_ECCENTRICITY * sinLat;
+            final var re = EARTH_EQUATORIAL_RADIUS_WGS84 / Math.sqrt(1.0 - eSinLat * eSinLat);
 
             // Convert position using (2.112)
-            final var cosLat = Math.cos(latitude);
-            final var sinLat = Math.sin(latitude);
-            final var cosLong = Math.cos(longitude);
-            final var sinLong = Math.sin(longitude);
-
-            final var x = (re + height) * cosLat * cosLong;
-            final var y = (re + height) * cosLat * sinLong;
-            final var z = ((1.0 - EARTH_ECCENTRICITY * EARTH_ECCENTRICITY) * re + height) * sinLat;
-
-            destinationPosition.setCoordinates(x, y, z);
-
-            // Calculate NED to ECEF coordinate transformation matrix
-            final var cne = CoordinateTransformation.nedToEcefMatrix(latitude, longitude);
-
-            // Transform velocity using (2.73)
-            final var vEbn = new Matrix(NEDFrame.NUM_VELOCITY_COORDINATES, 1);
-            vEbn.setElementAtIndex(0, vn);
-            vEbn.setElementAtIndex(1, ve);
-            vEbn.setElementAtIndex(2, vd);
-
-            final var vEbe = cne.multiplyAndReturnNew(vEbn);
-            final var vx = vEbe.getElementAtIndex(0);
-            final var vy = vEbe.getElementAtIndex(1);
-            final var vz = vEbe.getElementAtIndex(2);
-
-            destinationVelocity.setCoordinates(vx, vy, vz);
-        } catch (final WrongSizeException ignore) {
-            // never happens
+            x[i] = (re + h) * cosLat * cosLong;
+            y[i] = (re + h) * cosLat * sinLong;
+            z[i] = (oneMinusEcc2 * re + h) * sinLat;
+
+            if (vx != null) {
+                // Transform velocity using (2.73) and the transpose of (2.150)
+                final var vni = vn[i];
+                final var vei = ve[i];
+                final var vdi = vd[i];
+                vx[i] = -sinLat * cosLong * vni + -sinLong * vei + -cosLat * cosLong * vdi;
+                vy[i] = -sinLat * sinLong * vni + cosLong * vei + -cosLat * sinLong * vdi;
+                vz[i] = cosLat * vni + 0.0 * vei + -sinLat * vdi;
+            }
+        }
+    }
+
+    /**
+     * Fork-join task splitting a range of points until no more than
+     * {@link #DEFAULT_POINTS_PER_TASK} points remain.
+     */
+    private static class ConversionTask extends RecursiveAction {
+
+        /**
+         * Latitudes.
+         */
+        private final double[] latitude;
+
+        /**
+         * Longitudes.
+         */
+        private final double[] longitude;
+
+        /**
+         * Heights.
+         */
+        private final double[] height;
+
+        /**
+         * North coordinates of velocity or null.
+         */
+        private final double[] vn;
+
+        /**
+         * East coordinates of velocity or null.
+         */
+        private final double[] ve;
+
+        /**
+         * Down coordinates of velocity or null.
+         */
+        private final double[] vd;
+
+        /**
+         * Array where x cartesian coordinates will be stored.
+         */
+        private final double[] x;
+
+        /**
+         * Array where y cartesian coordinates will be stored.
+         */
+        private final double[] y;
+
+        /**
+         * Array where z cartesian coordinates will be stored.
+         */
+        private final double[] z;
+
+        /**
+         * Array where x coordinates of velocity will be stored or null.
+         */
+        private final double[] vx;
+
+        /**
+         * Array where y coordinates of velocity will be stored or null.
+         */
+        private final double[] vy;
+
+        /**
+         * Array where z coordinates of velocity will be stored or null.
+         */
+        private final double[] vz;
+
+        /**
+         * First point to be converted (inclusive).
+         */
+        private final int from;
+
+        /**
+         * Last point to be converted (exclusive).
+         */
+        private final int to;
+
+        /**
+         * Constructor.
+         *
+         * @param latitude  latitudes.
+         * @param longitude longitudes.
+         * @param height    heights.
+         * @param vn        north coordinates of velocity or null.
+         * @param ve        east coordinates of velocity or null.
+         * @param vd        down coordinates of velocity or null.
+         * @param x         array where x cartesian coordinates will be stored.
+         * @param y         array where y cartesian coordinates will be stored.
+         * @param z         array where z cartesian coordinates will be stored.
+         * @param vx        array where x coordinates of velocity will be stored or null.
+         * @param vy        array where y coordinates of velocity will be stored or null.
+         * @param vz        array where z coordinates of velocity will be stored or null.
+         * @param from      first point to be converted (inclusive).
+         * @param to        last point to be converted (exclusive).
+         */
+        ConversionTask(final double[] latitude, final double[] longitude, final double[] height,
+                       final double[] vn, final double[] ve, final double[] vd,
+                       final double[] x, final double[] y, final double[] z,
+                       final double[] vx, final double[] vy, final double[] vz,
+                       final int from, final int to) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.height = height;
+            this.vn = vn;
+            this.ve = ve;
+            this.vd = vd;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.vx = vx;
+            this.vy = vy;
+            this.vz = vz;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Converts points, splitting them into subtasks if more than
+         * {@link #DEFAULT_POINTS_PER_TASK} points are contained.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= DEFAULT_POINTS_PER_TASK) {
+                convertRange(latitude, longitude, height, vn, ve, vd, from, to, x, y, z, vx, vy, vz);
+            } else {
+                final var middle = (from + to) >>> 1;
+                invokeAll(new ConversionTask(latitude, longitude, height, vn, ve, vd, x, y, z, vx, vy, vz,
+                                from, middle),
+                        new ConversionTask(latitude, longitude, height, vn, ve, vd, x, y, z, vx, vy, vz,
+                                middle, to));
+            }
         }
     }
 }
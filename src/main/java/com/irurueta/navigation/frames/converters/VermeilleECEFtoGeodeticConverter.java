@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames.converters;
+
+import com.irurueta.navigation.frames.NEDPosition;
+
+/**
+ * Converts cartesian ECEF positions into geodetic coordinates using Vermeille
+ * closed-form exact solution.
+ * This implementation is based on H. Vermeille, "Direct transformation from
+ * geocentric coordinates to geodetic coordinates", Journal of Geodesy (2002)
+ * 76:451-454.
+ * It requires a single cube root computed through {@link Math#cbrt(double)}
+ * and has errors below 2e-8 m from -10 km up to geostationary heights.
+ * It is only valid for points farther than about 50 km from Earth's center
+ * (i.e. outside the evolute of the ellipsoid), which covers any terrestrial,
+ * aerial or orbital position.
+ */
+public class VermeilleECEFtoGeodeticConverter extends ECEFtoGeodeticConverter {
+
+    /**
+     * Squared equatorial radius.
+     */
+    private static final double A2 = EARTH_EQUATORIAL_RADIUS_WGS84 * EARTH_EQUATORIAL_RADIUS_WGS84;
+
+    /**
+     * Earth eccentricity to the fourth power.
+     */
+    private static final double ECC4 = ECC2 * ECC2;
+
+    /**
+     * Gets conversion method of this instance.
+     *
+     * @return conversion method.
+     */
+    @Override
+    public GeodeticConversionMethod getMethod() {
+        return GeodeticConversionMethod.VERMEILLE;
+    }
+
+    /**
+     * Converts a cartesian ECEF position into geodetic coordinates.
+     *
+     * @param x      x cartesian coordinate expressed in meters (m).
+     * @param y      y cartesian coordinate expressed in meters (m).
+     * @param z      z cartesian coordinate expressed in meters (m).
+     * @param result instance where latitude, longitude and height will be stored.
+     */
+    @Override
+    public void convert(final double x, final double y, final double z, final NEDPosition result) {
+        final var longitude = Math.atan2(y, x);
+
+        final var beta2 = x * x + y * y;
+        final var beta = Math.sqrt(beta2);
+        final var z2 = z * z;
+
+        final var p = beta2 / A2;
+        final var q = (1.0 - ECC2) * z2 / A2;
+        final var r = (p + q - ECC4) / 6.0;
+        final var r3 = r * r * r;
+        final var s = ECC4 * p * q / (4.0 * r3);
+        final var t = Math.cbrt(1.0 + s + Math.sqrt(s * (2.0 + s)));
+        final var u = r * (1.0 + t + 1.0 / t);
+        final var v = Math.sqrt(u * u + ECC4 * q);
+        final var w = ECC2 * (u + v - q) / (2.0 * v);
+        final var k = Math.sqrt(u + v + w * w) - w;
+        final var d = k * beta / (k + ECC2);
+        final var dz = Math.sqrt(d * d + z2);
+
+        final var latitude = 2.0 * Math.atan(z / (d + dz));
+        final var height = (k + ECC2 - 1.0) / k * dz;
+
+        result.setCoordinates(latitude, longitude, height);
+    }
+}
@@ -145,12 +145,28 @@ public class GeoMath {
      *                                  norm.
      */
     public static Pair norm(final double sinx, final double cosx) {
+        final var result = new Pair(0.0, 0.0);
+        norm(sinx, cosx, result);
+        return result;
+    }
+
+    /**
+     * Normalizes sinus and cosine.
+     *
+     * @param sinx   sinus of x.
+     * @param cosx   cosine of x.
+     * @param result instance where normalized values will be stored.
+     * @throws IllegalArgumentException if provided sinus and cosine values have zero
+     *                                  norm.
+     */
+    public static void norm(final double sinx, final double cosx, final Pair result) {
         final var r = hypot(sinx, cosx);
         if (r == 0.0) {
             throw new IllegalArgumentException();
         }
 
-        return new Pair(sinx / r, cosx / r);
+        result.setFirst(sinx / r);
+        result.setSecond(cosx / r);
     }
 
     /**
@@ -163,6 +179,21 @@ public class GeoMath {
      * <i>v</i>) and <i>t</i> = <i>u</i> + <i>v</i> - <i>s</i>.
      */
     public static Pair sum(final double u, final double v) {
+        final var result = new Pair(0.0, 0.0);
+        sum(u, v, result);
+        return result;
+    }
+
+    /**
+     * The error-free sum of two numbers.
+     * See D.E. Knuth, TAOCP, Vol 2, 4.2.2, Theorem B.
+     *
+     * @param u      the first number in the sum.
+     * @param v      the second number in the sum.
+     * @param result instance where (<i>s</i>, <i>t</i>) will be stored, with <i>s</i> =
+     *               round(<i>u</i> + <i>v</i>) and <i>t</i> = <i>u</i> + <i>v</i> - <i>s</i>.
+     */
+    public static void sum(final double u, final double v, final Pair result) {
         final var s = u + v;
         var up = s - v;
         var vpp = s - up;
@@ -170,7 +201,8 @@ public class GeoMath {
         vpp -= v;
         final var t = -(up + vpp);
         // u + v = s + t = round(u + v) + t
-        return new Pair(s, t);
+        result.setFirst(s);
+        result.setSecond(t);
     }
 
     /**
@@ -256,12 +288,29 @@ public class GeoMath {
      * @return Pair(<i>d</i>, <i>e</i>) with <i>d</i> being the rounded difference and <i>e</i> being the error.
      */
     public static Pair angDiff(final double x, final double y) {
+        final var result = new Pair(0.0, 0.0);
+        angDiff(x, y, result);
+        return result;
+    }
+
+    /**
+     * The exact difference of two angles reduced to (&minus;180&deg;, 180&deg;].
+     * This computes <i>z</i> = <i>y</i> &minus; <i>x</i> exactly, reduced to (&minus;180&deg;, 180&deg;]; and then sets
+     * <i>z</i> = <i>d</i> + <i>e</i> where <i>d</i> is the nearest representable number to <i>z</i> and <i>e</i> is the
+     * truncation error. If <i>d</i> = &minus;180, then <i>e</i> &gt; 0; If <i>d</i> = 180, then <i>e</i> &le; 0.
+     *
+     * @param x      the first angle in degrees.
+     * @param y      the second angle in degrees.
+     * @param result instance where (<i>d</i>, <i>e</i>) will be stored, with <i>d</i> being the rounded
+     *               difference and <i>e</i> being the error.
+     */
+    public static void angDiff(final double x, final double y, final Pair result) {
         //noinspection all
-        final var r = sum(angNormalize(-x), angNormalize(y));
-        final var d = angNormalize(r.getFirst());
-        final var t = r.getSecond();
+        sum(angNormalize(-x), angNormalize(y), result);
+        final var d = angNormalize(result.getFirst());
+        final var t = result.getSecond();
 
-        return sum(d == 180 && t > 0 ? -180 : d, t);
+        sum(d == 180 && t > 0 ? -180 : d, t, result);
     }
 
     /**
@@ -273,6 +322,21 @@ public class GeoMath {
      * @return Pair(<i>s</i>, <i>t</i>) with <i>s</i> = sin(<i>x</i> and <i>c</i> = cos(<i>x</i>).
      */
     public static Pair sincosd(final double x) {
+        final var result = new Pair(0.0, 0.0);
+        sincosd(x, result);
+        return result;
+    }
+
+    /**
+     * Evaluate the sine and cosine function with the argument in degrees.
+     * The results obey exactly the elementary properties of the trigonometric functions, e.g.
+     * sin 9&deg; = cos 81&deg; = &minus; sin 123456789&deg;.
+     *
+     * @param x      in degrees.
+     * @param result instance where (<i>s</i>, <i>c</i>) will be stored, with <i>s</i> = sin(<i>x</i>) and
+     *               <i>c</i> = cos(<i>x</i>).
+     */
+    public static void sincosd(final double x, final Pair result) {
         // In order to minimize round-off errors, this function exactly reduces the argument to the range [-45, 45]
         // before converting it to radians.
         var r = x % 360.0;
@@ -308,7 +372,8 @@ public class GeoMath {
             sinx += 0.0;
             cosx += 0.0;
         }
-        return new Pair(sinx, cosx);
+        result.setFirst(sinx);
+        result.setSecond(cosx);
     }
 
     /**
@@ -15,6 +15,9 @@
  */
 package com.irurueta.navigation.geodesic;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * Geodesic calculations.
  * The shortest path between two points on an ellipsoid at (<i>lat1</i>, <i>lon1</i>) and
@@ -191,6 +194,16 @@ public class Geodesic {
     public static final Geodesic WGS84 = safeInstance(Constants.EARTH_EQUATORIAL_RADIUS_WGS84,
             Constants.EARTH_FLATTENING_WGS84);
 
+    /**
+     * Default number of geodesics solved by each parallel task on bulk computations.
+     */
+    public static final int DEFAULT_GEODESICS_PER_TASK = 1024;
+
+    /**
+     * Number of values stored for each point when computing reduced latitudes in advance.
+     */
+    static final int REDUCED_LATITUDE_VALUES = 4;
+
     /**
      * The order of the expansions used.
      */
@@ -613,16 +626,156 @@ public class Geodesic {
      * returned result.
      */
     public GeodesicData inverse(
-            final double lat1, final double lon1, final double lat2, final double lon2, int outmask) {
-        outmask &= GeodesicMask.OUT_MASK;
-        final var result = inverseInt(lat1, lon1, lat2, lon2, outmask);
-        final var r = result.g;
+            final double lat1, final double lon1, final double lat2, final double lon2, final int outmask) {
+        final var result = new GeodesicData();
+        inverse(lat1, lon1, lat2, lon2, outmask, new Scratch(), result);
+        return result;
+    }
 
-        if ((outmask & GeodesicMask.AZIMUTH) != 0) {
-            r.setAzi1(GeoMath.atan2d(result.salp1, result.calp1));
-            r.setAzi2(GeoMath.atan2d(result.salp2, result.calp2));
-        }
-        return r;
+    /**
+     * Solves the inverse geodesic problem between many pairs of points.
+     * Pair i is solved for offset &lt;= i &lt; offset + length, storing results at the same
+     * position of output arrays.
+     * Only the distance <i>s12</i>, the azimuths <i>azi1</i> and <i>azi2</i> and the area
+     * <i>S12</i> can be stored, when {@link GeodesicMask#DISTANCE}, {@link GeodesicMask#AZIMUTH}
+     * or {@link GeodesicMask#AREA} are respectively included in <i>outmask</i>. Arrays of
+     * quantities not included in <i>outmask</i> are ignored and can be null.
+     * Results are exactly the same as the ones returned by
+     * {@link #inverse(double, double, double, double, int)}.
+     *
+     * @param lat1    latitudes of points 1 (degrees).
+     * @param lon1    longitudes of points 1 (degrees).
+     * @param lat2    latitudes of points 2 (degrees).
+     * @param lon2    longitudes of points 2 (degrees).
+     * @param offset  position of first pair of points to be solved.
+     * @param length  number of pairs of points to be solved.
+     * @param outmask a bitor'ed combination of {@link GeodesicMask} values specifying which
+     *                results should be stored.
+     * @param s12     array where distances between points 1 and 2 (meters) will be stored.
+     * @param azi1    array where azimuths at points 1 (degrees) will be stored.
+     * @param azi2    array where azimuths at points 2 (degrees) will be stored.
+     * @param areaS12 array where areas under the geodesics (meters<sup>2</sup>) will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any input array or
+     *                                  array of a requested quantity is null or too small.
+     */
+    public void inverse(final double[] lat1, final double[] lon1, final double[] lat2, final double[] lon2,
+                        final int offset, final int length, final int outmask,
+                        final double[] s12, final double[] azi1, final double[] azi2, final double[] areaS12) {
+        inverse(lat1, lon1, lat2, lon2, offset, length, outmask, s12, azi1, azi2, areaS12, false);
+    }
+
+    /**
+     * Solves the inverse geodesic problem between many pairs of points.
+     * Pair i is solved for offset &lt;= i &lt; offset + length, storing results at the same
+     * position of output arrays.
+     * Only the distance <i>s12</i>, the azimuths <i>azi1</i> and <i>azi2</i> and the area
+     * <i>S12</i> can be stored, when {@link GeodesicMask#DISTANCE}, {@link GeodesicMask#AZIMUTH}
+     * or {@link GeodesicMask#AREA} are respectively included in <i>outmask</i>. Arrays of
+     * quantities not included in <i>outmask</i> are ignored and can be null.
+     * When parallel execution is enabled, pairs are split into chunks of
+     * {@link #DEFAULT_GEODESICS_PER_TASK} pairs that are distributed among the threads of the
+     * common {@link ForkJoinPool}. Each geodesic is solved independently, hence results are
+     * exactly the same as the ones returned by {@link #inverse(double, double, double, double, int)}
+     * regardless of whether execution is parallel or not.
+     *
+     * @param lat1     latitudes of points 1 (degrees).
+     * @param lon1     longitudes of points 1 (degrees).
+     * @param lat2     latitudes of points 2 (degrees).
+     * @param lon2     longitudes of points 2 (degrees).
+     * @param offset   position of first pair of points to be solved.
+     * @param length   number of pairs of points to be solved.
+     * @param outmask  a bitor'ed combination of {@link GeodesicMask} values specifying which
+     *                 results should be stored.
+     * @param s12      array where distances between points 1 and 2 (meters) will be stored.
+     * @param azi1     array where azimuths at points 1 (degrees) will be stored.
+     * @param azi2     array where azimuths at points 2 (degrees) will be stored.
+     * @param areaS12  array where areas under the geodesics (meters<sup>2</sup>) will be stored.
+     * @param parallel true to solve geodesics in parallel, false otherwise.
+     * @throws IllegalArgumentException if offset or length is negative or any input array or
+     *                                  array of a requested quantity is null or too small.
+     */
+    public void inverse(final double[] lat1, final double[] lon1, final double[] lat2, final double[] lon2,
+                        final int offset, final int length, final int outmask,
+                        final double[] s12, final double[] azi1, final double[] azi2, final double[] areaS12,
+                        final boolean parallel) {
+        checkBulkArrays(offset, length, lat1, lon1, lat2, lon2);
+        checkBulkOutputArrays(offset, length, outmask, s12, azi1, azi2, areaS12);
+
+        invokeInverseTask(new InverseTask(lat1, lon1, Double.NaN, Double.NaN, lat2, lon2, outmask,
+                s12, azi1, azi2, areaS12, offset, offset + length), length, parallel);
+    }
+
+    /**
+     * Solves the inverse geodesic problem between one origin point and many destination points.
+     * Destination i is solved for offset &lt;= i &lt; offset + length, storing results at the same
+     * position of output arrays.
+     * Only the distance <i>s12</i>, the azimuths <i>azi1</i> and <i>azi2</i> and the area
+     * <i>S12</i> can be stored, when {@link GeodesicMask#DISTANCE}, {@link GeodesicMask#AZIMUTH}
+     * or {@link GeodesicMask#AREA} are respectively included in <i>outmask</i>. Arrays of
+     * quantities not included in <i>outmask</i> are ignored and can be null.
+     * Results are exactly the same as the ones returned by
+     * {@link #inverse(double, double, double, double, int)}.
+     *
+     * @param lat1    latitude of origin point 1 (degrees).
+     * @param lon1    longitude of origin point 1 (degrees).
+     * @param lat2    latitudes of points 2 (degrees).
+     * @param lon2    longitudes of points 2 (degrees).
+     * @param offset  position of first destination point to be solved.
+     * @param length  number of destination points to be solved.
+     * @param outmask a bitor'ed combination of {@link GeodesicMask} values specifying which
+     *                results should be stored.
+     * @param s12     array where distances between point 1 and points 2 (meters) will be stored.
+     * @param azi1    array where azimuths at point 1 (degrees) will be stored.
+     * @param azi2    array where azimuths at points 2 (degrees) will be stored.
+     * @param areaS12 array where areas under the geodesics (meters<sup>2</sup>) will be stored.
+     * @throws IllegalArgumentException if offset or length is negative or any input array or
+     *                                  array of a requested quantity is null or too small.
+     */
+    public void inverse(final double lat1, final double lon1, final double[] lat2, final double[] lon2,
+                        final int offset, final int length, final int outmask,
+                        final double[] s12, final double[] azi1, final double[] azi2, final double[] areaS12) {
+        inverse(lat1, lon1, lat2, lon2, offset, length, outmask, s12, azi1, azi2, areaS12, false);
+    }
+
+    /**
+     * Solves the inverse geodesic problem between one origin point and many destination points.
+     * Destination i is solved for offset &lt;= i &lt; offset + length, storing results at the same
+     * position of output arrays.
+     * Only the distance <i>s12</i>, the azimuths <i>azi1</i> and <i>azi2</i> and the area
+     * <i>S12</i> can be stored, when {@link GeodesicMask#DISTANCE}, {@link GeodesicMask#AZIMUTH}
+     * or {@link GeodesicMask#AREA} are respectively included in <i>outmask</i>. Arrays of
+     * quantities not included in <i>outmask</i> are ignored and can be null.
+     * When parallel execution is enabled, destinations are split into chunks of
+     * {@link #DEFAULT_GEODESICS_PER_TASK} points that are distributed among the threads of the
+     * common {@link ForkJoinPool}. Each geodesic is solved independently, hence results are
+     * exactly the same as the ones returned by {@link #inverse(double, double, double, double, int)}
+     * regardless of whether execution is parallel or not.
+     *
+     * @param lat1     latitude of origin point 1 (degrees).
+     * @param lon1     longitude of origin point 1 (degrees).
+     * @param lat2     latitudes of points 2 (degrees).
+     * @param lon2     longitudes of points 2 (degrees).
+     * @param offset   position of first destination point to be solved.
+     * @param length   number of destination points to be solved.
+     * @param outmask  a bitor'ed combination of {@link GeodesicMask} values specifying which
+     *                 results should be stored.
+     * @param s12      array where distances between point 1 and points 2 (meters) will be stored.
+     * @param azi1     array where azimuths at point 1 (degrees) will be stored.
+     * @param azi2     array where azimuths at points 2 (degrees) will be stored.
+     * @param areaS12  array where areas under the geodesics (meters<sup>2</sup>) will be stored.
+     * @param parallel true to solve geodesics in parallel, false otherwise.
+     * @throws IllegalArgumentException if offset or length is negative or any input array or
+     *                                  array of a requested quantity is null or too small.
+     */
+    public void inverse(final double lat1, final double lon1, final double[] lat2, final double[] lon2,
+                        final int offset, final int length, final int outmask,
+                        final double[] s12, final double[] azi1, final double[] azi2, final double[] areaS12,
+                        final boolean parallel) {
+        checkBulkArrays(offset, length, lat2, lon2);
+        checkBulkOutputArrays(offset, length, outmask, s12, azi1, azi2, areaS12);
+
+        invokeInverseTask(new InverseTask(null, null, lat1, lon1, lat2, lon2, outmask,
+                s12, azi1, azi2, areaS12, offset, offset + length), length, parallel);
     }
 
     /**
@@ -660,11 +813,13 @@ public class Geodesic {
      */
     public GeodesicLine inverseLine(
             final double lat1, final double lon1, final double lat2, final double lon2, int caps) {
-        final var result = inverseInt(lat1, lon1, lat2, lon2, 0);
-        final var salp1 = result.salp1;
-        final var calp1 = result.calp1;
+        final var scratch = new Scratch();
+        final var result = new GeodesicData();
+        inverseInt(lat1, lon1, null, 0, lat2, lon2, null, 0, 0, scratch, result);
+        final var salp1 = scratch.salp1;
+        final var calp1 = scratch.calp1;
         final var azi1 = GeoMath.atan2d(salp1, calp1);
-        final var a12 = result.g.getA12();
+        final var a12 = result.getA12();
         // ensure that a12 can be converted to a distance
         if ((caps & (GeodesicMask.OUT_MASK & GeodesicMask.DISTANCE_IN)) != 0) {
             caps |= GeodesicMask.DISTANCE;
@@ -859,34 +1014,37 @@ public class Geodesic {
         }
     }
 
+    // coefficients of scale factor a1 - 1, kept as constants to avoid allocating them on every call
+    private static final double[] A1M1F_COEFFS = {
+            // (1 - eps) * a1 - 1, polynomial in eps2 of order3
+            1, 4, 64, 0, 256,
+    };
+
     // the scale factor a1 - 1 = mean value of (d/dsigma) i1 - 1
     protected static double a1m1f(final double eps) {
-        final double[] coeffs = {
-                // (1 - eps) * a1 - 1, polynomial in eps2 of order3
-                1, 4, 64, 0, 256,
-        };
         final var m = NA1 / 2;
-        final var t = GeoMath.polyval(m, coeffs, 0, GeoMath.sq(eps)) / coeffs[m + 1];
+        final var t = GeoMath.polyval(m, A1M1F_COEFFS, 0, GeoMath.sq(eps)) / A1M1F_COEFFS[m + 1];
         return (t + eps) / (1 - eps);
     }
 
+    // coefficients of Fourier expansion of b1
+    private static final double[] C1F_COEFFS = {
+            // c1[1]/eps^1, polynomial in eps2 of order 2
+            -1, 6, -16, 32,
+            // c1[2]/eps^2, polynomial in eps2 of order 2
+            -9, 64, -128, 2048,
+            // c1[3]/eps^3, polynomial in eps2 of order 1
+            9, -16, 768,
+            // c1[4]/eps^4, polynomial in eps2 of order 1
+            3, -5, 512,
+            // c1[5]/eps^5, polynomial in eps2 of order 0
+            -7, 1280,
+            // c1[6]/eps^6, polynomial in eps2 of order 0
+            -7, 2048,
+    };
+
     // The coefficients c1[l] in the Fourier expansion of b1
     protected static void c1f(final double eps, final double[] c) {
-        final double[] coeff = {
-                // c1[1]/eps^1, polynomial in eps2 of order 2
-                -1, 6, -16, 32,
-                // c1[2]/eps^2, polynomial in eps2 of order 2
-                -9, 64, -128, 2048,
-                // c1[3]/eps^3, polynomial in eps2 of order 1
-                9, -16, 768,
-                // c1[4]/eps^4, polynomial in eps2 of order 1
-                3, -5, 512,
-                // c1[5]/eps^5, polynomial in eps2 of order 0
-                -7, 1280,
-                // c1[6]/eps^6, polynomial in eps2 of order 0
-                -7, 2048,
-        };
-
         final var eps2 = GeoMath.sq(eps);
         var d = eps;
         var o = 0;
@@ -894,29 +1052,30 @@ public class Geodesic {
             // l is index of c1p[l]
             // order of polynomial in eps^2
             final var m = (NC1 - l) / 2;
-            c[l] = d * GeoMath.polyval(m, coeff, o, eps2) / coeff[o + m + 1];
+            c[l] = d * GeoMath.polyval(m, C1F_COEFFS, o, eps2) / C1F_COEFFS[o + m + 1];
             o += m + 2;
             d *= eps;
         }
     }
 
+    // coefficients of Fourier expansion of b1p
+    private static final double[] C1PF_COEFFS = {
+            // c1p[l]/eps^1, polynomial in eps2 of order 2
+            205, -432, 768, 1536,
+            // c1p[2]/eps^2, polynomial in eps2 of order 2
+            4005, -4736, 3840, 12288,
+            // c1p[3]/eps^3, polynomial in eps2 of order 1
+            -225, 116, 384,
+            // c1p[4]/eps^4, polynomial in eps2 of order 1
+            -7173, 2695, 7680,
+            // c1p[5]/eps^5, polynomial in eps2 of order 0
+            3467, 7680,
+            // c1p[6]/eps^6, polynomial in eps2 of order 0
+            38081, 61440,
+    };
+
     // The coefficients c1p[l] in the Fourier expansion of b1p
     protected static void c1pf(final double eps, final double[] c) {
-        final double[] coeff = {
-                // c1p[l]/eps^1, polynomial in eps2 of order 2
-                205, -432, 768, 1536,
-                // c1p[2]/eps^2, polynomial in eps2 of order 2
-                4005, -4736, 3840, 12288,
-                // c1p[3]/eps^3, polynomial in eps2 of order 1
-                -225, 116, 384,
-                // c1p[4]/eps^4, polynomial in eps2 of order 1
-                -7173, 2695, 7680,
-                // c1p[5]/eps^5, polynomial in eps2 of order 0
-                3467, 7680,
-                // c1p[6]/eps^6, polynomial in eps2 of order 0
-                38081, 61440,
-        };
-
         final var eps2 = GeoMath.sq(eps);
         var d = eps;
         var o = 0;
@@ -925,41 +1084,43 @@ public class Geodesic {
         for (var l = 1; l <= NC1P; ++l) {
             // order of polynomial in eps^2
             final var m = (NC1P - l) / 2;
-            c[l] = d * GeoMath.polyval(m, coeff, o, eps2) / coeff[o + m + 1];
+            c[l] = d * GeoMath.polyval(m, C1PF_COEFFS, o, eps2) / C1PF_COEFFS[o + m + 1];
             o += m + 2;
             d *= eps;
         }
     }
 
+    // coefficients of scale factor a2 - 1
+    private static final double[] A2M1F_COEFFS = {
+            // (eps + 1)*a2 - 1, polynomial in eps2 of order 3
+            -11, -28, -192, 0, 256,
+    };
+
     // the scale factor a2 - 1 = mean value of (d/dsigma)i2 - 1
     protected static double a2m1f(final double eps) {
-        final double[] coeff = {
-                // (eps + 1)*a2 - 1, polynomial in eps2 of order 3
-                -11, -28, -192, 0, 256,
-        };
-
         final var m = NA2 / 2;
-        final var t = GeoMath.polyval(m, coeff, 0, GeoMath.sq(eps)) / coeff[m + 1];
+        final var t = GeoMath.polyval(m, A2M1F_COEFFS, 0, GeoMath.sq(eps)) / A2M1F_COEFFS[m + 1];
         return (t - eps) / (1 + eps);
     }
 
+    // coefficients of Fourier expansion of b2
+    private static final double[] C2F_COEFFS = {
+            // c2[1]/eps^1, polynomial in eps2 of order 2
+            1, 2, 16, 32,
+            // c2[2]/eps^2, polynomial in eps2 of order 2
+            35, 64, 384, 2048,
+            // c2[3]/eps^3, polynomial in eps2 of order 1
+            15, 80, 768,
+            // c2[4]/eps^4, polynomial in eps2 of order 1
+            7, 35, 512,
+            // c2[5]/eps^5, polynomial in eps2 of order 0
+            63, 1280,
+            // c2[6]/eps^6, polynomial in eps2 of order 0
+            77, 2048,
+    };
+
     // the coefficients c2[l] in the Fourier expansion of b2
     protected static void c2f(final double eps, final double[] c) {
-        final double[] coeff = {
-                // c2[1]/eps^1, polynomial in eps2 of order 2
-                1, 2, 16, 32,
-                // c2[2]/eps^2, polynomial in eps2 of order 2
-                35, 64, 384, 2048,
-                // c2[3]/eps^3, polynomial in eps2 of order 1
-                15, 80, 768,
-                // c2[4]/eps^4, polynomial in eps2 of order 1
-                7, 35, 512,
-                // c2[5]/eps^5, polynomial in eps2 of order 0
-                63, 1280,
-                // c2[6]/eps^6, polynomial in eps2 of order 0
-                77, 2048,
-        };
-
         final var eps2 = GeoMath.sq(eps);
         var d = eps;
         var o = 0;
@@ -968,7 +1129,7 @@ public class Geodesic {
         for (var l = 1; l <= NC2; ++l) {
             // order of polynomial in eps^2
             final var m = (NC2 - l) / 2;
-            c[l] = d * GeoMath.polyval(m, coeff, o, eps2) / coeff[o + m + 1];
+            c[l] = d * GeoMath.polyval(m, C2F_COEFFS, o, eps2) / C2F_COEFFS[o + m + 1];
             o += m + 2;
             d *= eps;
         }
@@ -1111,10 +1272,176 @@ public class Geodesic {
         }
     }
 
-    private InverseData inverseInt(
-            double lat1, final double lon1, double lat2, final double lon2, final int outmask) {
-        final var result = new InverseData();
-        final var r = result.g;
+    /**
+     * Checks that offset and length are valid for all provided arrays.
+     *
+     * @param offset position of first element.
+     * @param length number of elements.
+     * @param arrays arrays to be checked.
+     * @throws IllegalArgumentException if offset or length is negative or any array is null or
+     *                                  too small.
+     */
+    private static void checkBulkArrays(final int offset, final int length, final double[]... arrays) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException();
+        }
+        final var end = (long) offset + length;
+        for (final var array : arrays) {
+            if (array == null || array.length < end) {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+
+    /**
+     * Checks that output arrays of quantities requested by provided mask are valid for provided
+     * offset and length.
+     *
+     * @param offset  position of first element.
+     * @param length  number of elements.
+     * @param outmask a bitor'ed combination of {@link GeodesicMask} values specifying which
+     *                results should be stored.
+     * @param s12     array where distances will be stored.
+     * @param azi1    array where azimuths at points 1 will be stored.
+     * @param azi2    array where azimuths at points 2 will be stored.
+     * @param areaS12 array where areas will be stored.
+     * @throws IllegalArgumentException if any array of a requested quantity is null or too small.
+     */
+    private static void checkBulkOutputArrays(final int offset, final int length, final int outmask,
+                                              final double[] s12, final double[] azi1, final double[] azi2,
+                                              final double[] areaS12) {
+        final var mask = outmask & GeodesicMask.OUT_MASK;
+        if ((mask & GeodesicMask.DISTANCE) != 0) {
+            checkBulkArrays(offset, length, s12);
+        }
+        if ((mask & GeodesicMask.AZIMUTH) != 0) {
+            checkBulkArrays(offset, length, azi1, azi2);
+        }
+        if ((mask & GeodesicMask.AREA) != 0) {
+            checkBulkArrays(offset, length, areaS12);
+        }
+    }
+
+    /**
+     * Solves geodesics of provided task either sequentially or in parallel.
+     *
+     * @param task     task to be executed.
+     * @param length   number of geodesics to be solved.
+     * @param parallel true to solve geodesics in parallel, false otherwise.
+     */
+    private static void invokeInverseTask(final InverseTask task, final int length, final boolean parallel) {
+        if (parallel && length > DEFAULT_GEODESICS_PER_TASK) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+    }
+
+    /**
+     * Computes reduced latitudes of many points to be used on
+     * {@link #inverse(double, double, double[], int, double, double, double[], int, int, Scratch, GeodesicData)}.
+     * For each point, sine and cosine of the reduced latitude are stored for both its latitude and
+     * its opposite, taking {@link #REDUCED_LATITUDE_VALUES} consecutive positions of result.
+     *
+     * @param lat    latitudes of points (degrees).
+     * @param offset position of first point.
+     * @param length number of points.
+     * @param result array where reduced latitudes of point i will be stored starting at position
+     *               (i - offset) * {@link #REDUCED_LATITUDE_VALUES}.
+     * @param p      instance to be reused for intermediate results.
+     */
+    void reducedLatitudes(final double[] lat, final int offset, final int length, final double[] result,
+                          final Pair p) {
+        var k = 0;
+        for (var i = offset; i < offset + length; i++) {
+            // same transformations as the ones applied to latitudes when solving the inverse problem
+            final var l = GeoMath.angRound(GeoMath.latFix(lat[i]));
+            reducedLatitude(l, p);
+            result[k++] = p.getFirst();
+            result[k++] = p.getSecond();
+
+            reducedLatitude(l * -1, p);
+            result[k++] = p.getFirst();
+            result[k++] = p.getSecond();
+        }
+    }
+
+    /**
+     * Computes sine and cosine of the reduced latitude of a point.
+     *
+     * @param lat latitude of point (degrees).
+     * @param p   instance where sine and cosine of reduced latitude will be stored.
+     */
+    private void reducedLatitude(final double lat, final Pair p) {
+        GeoMath.sincosd(lat, p);
+        final var sbet = f1 * p.getFirst();
+        final var cbet = p.getSecond();
+
+        // ensure cbet = +epsilon at poles; doing the fix on beta means that sig12 will be <= 2*tiny
+        // for two points at the same pole.
+        GeoMath.norm(sbet, cbet, p);
+        p.setSecond(Math.max(TINY, p.getSecond()));
+    }
+
+    /**
+     * Solves the inverse geodesic problem using provided scratch areas, so that no heap memory is
+     * allocated.
+     * All fields of provided result are overwritten, and those not requested by <i>outmask</i> are
+     * set to NaN, so that results are the same as the ones returned by
+     * {@link #inverse(double, double, double, double, int)}.
+     *
+     * @param lat1    latitude of point 1 (degrees).
+     * @param lon1    longitude of point 1 (degrees).
+     * @param lat2    latitude of point 2 (degrees).
+     * @param lon2    longitude of point 2 (degrees)
+     * @param outmask a bitor'ed combination of {@link GeodesicMask} values specifying which
+     *                results should be returned.
+     * @param scratch scratch areas, which must not be shared among threads.
+     * @param result  instance where results will be stored.
+     */
+    void inverse(final double lat1, final double lon1, final double lat2, final double lon2, final int outmask,
+                 final Scratch scratch, final GeodesicData result) {
+        inverse(lat1, lon1, null, 0, lat2, lon2, null, 0, outmask, scratch, result);
+    }
+
+    /**
+     * Solves the inverse geodesic problem using reduced latitudes of points previously computed
+     * with {@link #reducedLatitudes(double[], int, int, double[], Pair)}, so that they are not
+     * computed again when points are involved in many geodesics.
+     * Results are the same as the ones returned by
+     * {@link #inverse(double, double, double, double, int)}.
+     *
+     * @param lat1     latitude of point 1 (degrees).
+     * @param lon1     longitude of point 1 (degrees).
+     * @param reduced1 array containing reduced latitude of point 1 or null to compute it.
+     * @param offset1  position of reduced latitude of point 1 within its array.
+     * @param lat2     latitude of point 2 (degrees).
+     * @param lon2     longitude of point 2 (degrees)
+     * @param reduced2 array containing reduced latitude of point 2 or null to compute it.
+     * @param offset2  position of reduced latitude of point 2 within its array.
+     * @param outmask  a bitor'ed combination of {@link GeodesicMask} values specifying which
+     *                 results should be returned.
+     * @param scratch  scratch areas, which must not be shared among threads.
+     * @param result   instance where results will be stored.
+     */
+    void inverse(final double lat1, final double lon1, final double[] reduced1, final int offset1,
+                 final double lat2, final double lon2, final double[] reduced2, final int offset2,
+                 int outmask, final Scratch scratch, final GeodesicData result) {
+        outmask &= GeodesicMask.OUT_MASK;
+        result.reset();
+        inverseInt(lat1, lon1, reduced1, offset1, lat2, lon2, reduced2, offset2, outmask, scratch, result);
+
+        if ((outmask & GeodesicMask.AZIMUTH) != 0) {
+            result.setAzi1(GeoMath.atan2d(scratch.salp1, scratch.calp1));
+            result.setAzi2(GeoMath.atan2d(scratch.salp2, scratch.calp2));
+        }
+    }
+
+    private void inverseInt(
+            double lat1, final double lon1, final double[] reduced1, int offset1,
+            double lat2, final double lon2, final double[] reduced2, int offset2,
+            final int outmask, final Scratch scratch, final GeodesicData r) {
+        final var p = scratch.pair;
 
         // Compute longitude difference (angDiff does this carefully). Result is in [-180, 180] but
         // -180 is only for west-going geodesics. 180 is for east-going and meridional geodesics.
@@ -1127,7 +1454,7 @@ public class Geodesic {
         lat1 = GeoMath.angRound(lat1);
         lat2 = GeoMath.angRound(lat2);
 
-        var p = GeoMath.angDiff(lon1, lon2);
+        GeoMath.angDiff(lon1, lon2, p);
         var lon12 = p.getFirst();
         var lon12s = p.getSecond();
 
@@ -1147,7 +1474,7 @@ public class Geodesic {
         lon12s = GeoMath.angRound((180 - lon12) - lonsign * lon12s);
         final var lam12 = Math.toRadians(lon12);
 
-        p = GeoMath.sincosd(lon12 > 90 ? lon12s : lon12);
+        GeoMath.sincosd(lon12 > 90 ? lon12s : lon12, p);
         var slam12 = p.getFirst();
         var clam12 = (lon12 > 90 ? -1 : 1) * p.getSecond();
 
@@ -1160,7 +1487,13 @@ public class Geodesic {
             final double t = lat1;
             lat1 = lat2;
             lat2 = t;
+
+            final var o = offset1;
+            offset1 = offset2;
+            offset2 = o;
         }
+        final var r1 = swapp < 0 ? reduced2 : reduced1;
+        final var r2 = swapp < 0 ? reduced1 : reduced2;
 
         // make lat1 <= 0
         final var latsign = lat1 < 0 ? 1 : -1;
@@ -1179,28 +1512,31 @@ public class Geodesic {
         var m12x = Double.NaN;
         var s12x = Double.NaN;
 
-        p = GeoMath.sincosd(lat1);
-        var sbet1 = f1 * p.getFirst();
-        var cbet1 = p.getSecond();
-
-        // ensure cbet1 = +epsilon at poles; doing the fix on beta means that sig12 will be <= 2*tiny
-        // for two points at the same pole.
-        p = GeoMath.norm(sbet1, cbet1);
-        sbet1 = p.getFirst();
-        cbet1 = p.getSecond();
-
-        cbet1 = Math.max(TINY, cbet1);
-
-        p = GeoMath.sincosd(lat2);
-        var sbet2 = f1 * p.getFirst();
-        var cbet2 = p.getSecond();
-
-        // ensure cbet2 = +epsilon at poles
-        p = GeoMath.norm(sbet2, cbet2);
-        sbet2 = p.getFirst();
-        cbet2 = p.getSecond();
+        // reduced latitudes are taken from precomputed values when available, choosing the ones
+        // computed for the sign of latitudes in canonical form
+        final double sbet1;
+        final double cbet1;
+        if (r1 != null) {
+            final var k = latsign > 0 ? offset1 : offset1 + 2;
+            sbet1 = r1[k];
+            cbet1 = r1[k + 1];
+        } else {
+            reducedLatitude(lat1, p);
+            sbet1 = p.getFirst();
+            cbet1 = p.getSecond();
+        }
 
-        cbet2 = Math.max(TINY, cbet2);
+        double sbet2;
+        double cbet2;
+        if (r2 != null) {
+            final var k = latsign > 0 ? offset2 : offset2 + 2;
+            sbet2 = r2[k];
+            cbet2 = r2[k + 1];
+        } else {
+            reducedLatitude(lat2, p);
+            sbet2 = p.getFirst();
+            cbet2 = p.getSecond();
+        }
 
         // if cbet1 < -sbet1, then cbet2 - cbet1 is a sensitive measure of the |bet1| - |bet2|.
         // Alternatively (cbet1 >= -sbet1), abs(sbet2) + sbet1 is a better measure.
@@ -1229,11 +1565,6 @@ public class Geodesic {
         var salp2 = Double.NaN;
         var a12 = Double.NaN;
 
-        // index zero elements of these arrays are unused
-        final var c1a = new double[NC1 + 1];
-        final var c2a = new double[NC2 + 1];
-        final var c3a = new double[NC3];
-
         var meridian = lat1 == -90 || slam12 == 0;
 
         if (meridian) {
@@ -1258,7 +1589,7 @@ public class Geodesic {
                     csig1 * csig2 + ssig1 * sbet2);
 
             final var v = lengths(n, sig12, ssig1, csig1, dn1, sbet2, csig2, dn2, cbet1, cbet2,
-                    outmask | GeodesicMask.DISTANCE | GeodesicMask.REDUCED_LENGTH, c1a, c2a);
+                    outmask | GeodesicMask.DISTANCE | GeodesicMask.REDUCED_LENGTH, scratch);
             s12x = v.s12b;
             m12x = v.m12b;
 
@@ -1307,7 +1638,7 @@ public class Geodesic {
             // meridian and geodesic is neither meridional nor equatorial
 
             // figure a starting point for Newton's method
-            final var iv = inverseStart(sbet1, cbet1, dn1, sbet2, cbet2, dn2, lam12, slam12, clam12, c1a, c2a);
+            final var iv = inverseStart(sbet1, cbet1, dn1, sbet2, cbet2, dn2, lam12, slam12, clam12, scratch);
             sig12 = iv.sig12;
             salp1 = iv.salp1;
             calp1 = iv.calp1;
@@ -1356,7 +1687,7 @@ public class Geodesic {
                     final double dv;
 
                     final var w = lambda12(sbet1, cbet1, dn1, sbet2, cbet2, dn2, salp1, calp1, slam12, clam12,
-                            numit < MAXIT1, c1a, c2a, c3a);
+                            numit < MAXIT1, scratch);
                     v = w.lam12;
                     salp2 = w.salp2;
                     calp2 = w.calp2;
@@ -1394,7 +1725,7 @@ public class Geodesic {
                             calp1 = calp1 * cdalp1 - salp1 * sdalp1;
                             salp1 = nsalp1;
 
-                            p = GeoMath.norm(salp1, calp1);
+                            GeoMath.norm(salp1, calp1, p);
                             salp1 = p.getFirst();
                             calp1 = p.getSecond();
 
@@ -1416,7 +1747,7 @@ public class Geodesic {
                     salp1 = (salp1a + salp1b) / 2;
                     calp1 = (calp1a + calp1b) / 2;
 
-                    p = GeoMath.norm(salp1, calp1);
+                    GeoMath.norm(salp1, calp1, p);
                     salp1 = p.getFirst();
                     calp1 = p.getSecond();
 
@@ -1429,8 +1760,8 @@ public class Geodesic {
                 // "canonical" way, with the I2 integral.
                 final var lengthmask = outmask | ((outmask & (GeodesicMask.REDUCED_LENGTH
                         | GeodesicMask.GEODESIC_SCALE)) != 0 ? GeodesicMask.DISTANCE : GeodesicMask.NONE);
-                final var v = lengths(eps, sig12, ssig1, csig1, dn1, ssig2, csig2, dn2, cbet1, cbet2, lengthmask, c1a,
-                        c2a);
+                final var v = lengths(eps, sig12, ssig1, csig1, dn1, ssig2, csig2, dn2, cbet1, cbet2, lengthmask,
+                        scratch);
                 s12x = v.s12b;
                 m12x = v.m12b;
                 if ((outmask & GeodesicMask.GEODESIC_SCALE) != 0) {
@@ -1478,15 +1809,15 @@ public class Geodesic {
                 final var eps = k2 / (2 * (1 + Math.sqrt(1 + k2)) + k2);
                 final var a4 = GeoMath.sq(a) * calp0 * salp0 * e2;
 
-                p = GeoMath.norm(ssig1, csig1);
+                GeoMath.norm(ssig1, csig1, p);
                 ssig1 = p.getFirst();
                 csig1 = p.getSecond();
 
-                p = GeoMath.norm(ssig2, csig2);
+                GeoMath.norm(ssig2, csig2, p);
                 ssig2 = p.getFirst();
                 csig2 = p.getSecond();
 
-                final var c4a = new double[NC4];
+                final var c4a = scratch.c4a;
                 c4f(eps, c4a);
                 final var b41 = sinCosSeries(false, ssig1, csig1, c4a);
                 final var b42 = sinCosSeries(false, ssig2, csig2, c4a);
@@ -1557,11 +1888,10 @@ public class Geodesic {
 
         // returned value in [0, 180]
         r.setA12(a12);
-        result.salp1 = salp1;
-        result.calp1 = calp1;
-        result.salp2 = salp2;
-        result.calp2 = calp2;
-        return result;
+        scratch.salp1 = salp1;
+        scratch.calp1 = calp1;
+        scratch.salp2 = salp2;
+        scratch.calp2 = calp2;
     }
 
     /**
@@ -1586,13 +1916,16 @@ public class Geodesic {
             final double dn1, final double ssig2, final double csig2, final double dn2,
             final double cbet1, final double cbet2,
             // scratch areas of the right size
-            int outmask, final double[] c1a, final double[] c2a) {
+            int outmask, final Scratch scratch) {
         // return m12b = (reduced length)/mB; also calculate s12b = distance/mB,
         // and m0 = coefficient of secular term in expression for reduced length.
         outmask &= GeodesicMask.OUT_MASK;
+        final var c1a = scratch.c1a;
+        final var c2a = scratch.c2a;
 
         // to hold s12b, m12b, m0, M12, M21
-        final var v = new LengthsV();
+        final var v = scratch.lengths;
+        v.reset();
 
         var m0x = 0.0;
         var j12 = 0.0;
@@ -1715,13 +2048,15 @@ public class Geodesic {
             final double sbet2, final double cbet2, final double dn2,
             final double lam12, final double slam12, final double clam12,
             // scratch areas of the right size
-            final double[] c1a, final double[] c2a) {
+            final Scratch scratch) {
         // return a starting point for Newton's method in salp1 and calp1 (function value is -1).
         // If Newton's method doesn't need to be used, return also salp2 and calp2 and function
         // value is sig12.
+        final var p = scratch.pair;
 
         // to hold sig12, salp1, calp1, salp2, calp2, dnm.
-        final var w = new InverseStartV();
+        final var w = scratch.start;
+        w.reset();
 
         // return value
         w.sig12 = -1;
@@ -1761,7 +2096,7 @@ public class Geodesic {
             w.salp2 = cbet1 * somg12;
             w.calp2 = sbet12 - cbet1 * sbet2 * (comg12 >= 0.0 ? GeoMath.sq(somg12) / (1.0 + comg12) : 1.0 - comg12);
 
-            final var p = GeoMath.norm(w.salp2, w.calp2);
+            GeoMath.norm(w.salp2, w.calp2, p);
             w.salp2 = p.getFirst();
             w.calp2 = p.getSecond();
 
@@ -1802,7 +2137,7 @@ public class Geodesic {
 
                 // in the case of lon12 = 180, this repeats a calculation made in inverse
                 final var v = lengths(n, Math.PI + bet12a, sbet1, -cbet1, dn1, sbet2, cbet2, dn2, cbet1, cbet2,
-                        GeodesicMask.REDUCED_LENGTH, c1a, c2a);
+                        GeodesicMask.REDUCED_LENGTH, scratch);
                 m12b = v.m12b;
                 m0 = v.m0;
 
@@ -1867,7 +2202,7 @@ public class Geodesic {
 
         // sanity check on starting guess. Backwards check allows NaN through
         if (!(w.salp1 <= 0.0)) {
-            final var p = GeoMath.norm(w.salp1, w.calp1);
+            GeoMath.norm(w.salp1, w.calp1, p);
             w.salp1 = p.getFirst();
             w.calp1 = p.getSecond();
         } else {
@@ -1883,9 +2218,13 @@ public class Geodesic {
             final double salp1, double calp1,
             final double slam120, final double clam120, final boolean diffp,
             // scratch areas of the right size
-            final double[] c1a, final double[] c2a, final double[] c3a) {
+            final Scratch scratch) {
+        final var p = scratch.pair;
+        final var c3a = scratch.c3a;
+
         // object to hold lam12, salp2, calp2, sig12, ssig1, csig1, ssig2, csig2, eps, domg12, dlam12
-        final var w = new Lambda12V();
+        final var w = scratch.lambda;
+        w.reset();
 
         if (sbet1 == 0 && calp1 == 0) {
             // break degeneracy of equatorial line. This case has already been handled
@@ -1909,7 +2248,7 @@ public class Geodesic {
         somg1 = salp0 * sbet1;
         w.csig1 = comg1 = calp1 * cbet1;
 
-        var p = GeoMath.norm(w.ssig1, w.csig1);
+        GeoMath.norm(w.ssig1, w.csig1, p);
         w.ssig1 = p.getFirst();
         w.csig1 = p.getSecond();
 
@@ -1932,7 +2271,7 @@ public class Geodesic {
         somg2 = salp0 * sbet2;
         w.csig2 = comg2 = w.calp2 * cbet2;
 
-        p = GeoMath.norm(w.ssig2, w.csig2);
+        GeoMath.norm(w.ssig2, w.csig2, p);
         w.ssig2 = p.getFirst();
         w.csig2 = p.getSecond();
 
@@ -1961,7 +2300,7 @@ public class Geodesic {
                 w.dlam12 = -2 * f1 * dn1 / sbet1;
             } else {
                 final var v = lengths(w.eps, w.sig12, w.ssig1, w.csig1, dn1, w.ssig2, w.csig2, dn2, cbet1, cbet2,
-                        GeodesicMask.REDUCED_LENGTH, c1a, c2a);
+                        GeodesicMask.REDUCED_LENGTH, scratch);
                 w.dlam12 = v.m12b;
                 w.dlam12 *= f1 / (w.calp2 * cbet2);
             }
@@ -1984,6 +2323,10 @@ public class Geodesic {
         private double dlam12;
 
         private Lambda12V() {
+            reset();
+        }
+
+        private void reset() {
             lam12 = salp2 = calp2 = sig12 = ssig1 = csig1 = ssig2 = csig2 = eps = domg12 = dlam12 = Double.NaN;
         }
     }
@@ -2001,6 +2344,10 @@ public class Geodesic {
         private double dnm;
 
         private InverseStartV() {
+            reset();
+        }
+
+        private void reset() {
             sig12 = salp1 = calp1 = salp2 = calp2 = dnm = Double.NaN;
         }
     }
@@ -2013,20 +2360,184 @@ public class Geodesic {
         private double m21;
 
         private LengthsV() {
+            reset();
+        }
+
+        private void reset() {
             s12b = m12b = m0 = m12 = m21 = Double.NaN;
         }
     }
 
-    private static class InverseData {
-        private final GeodesicData g;
-        private double salp1;
-        private double calp1;
-        private double salp2;
-        private double calp2;
+    /**
+     * Fork-join task solving inverse geodesic problems, splitting a range of geodesics until no
+     * more than {@link #DEFAULT_GEODESICS_PER_TASK} geodesics remain.
+     */
+    private class InverseTask extends RecursiveAction {
+
+        /**
+         * Latitudes of points 1 or null if all geodesics start at the same point.
+         */
+        private final double[] lat1;
+
+        /**
+         * Longitudes of points 1 or null if all geodesics start at the same point.
+         */
+        private final double[] lon1;
+
+        /**
+         * Latitude of point 1 when all geodesics start at the same point.
+         */
+        private final double originLat;
+
+        /**
+         * Longitude of point 1 when all geodesics start at the same point.
+         */
+        private final double originLon;
+
+        /**
+         * Latitudes of points 2.
+         */
+        private final double[] lat2;
+
+        /**
+         * Longitudes of points 2.
+         */
+        private final double[] lon2;
+
+        /**
+         * Mask specifying which results must be stored.
+         */
+        private final int outmask;
+
+        /**
+         * Array where distances will be stored.
+         */
+        private final double[] s12;
+
+        /**
+         * Array where azimuths at points 1 will be stored.
+         */
+        private final double[] azi1;
+
+        /**
+         * Array where azimuths at points 2 will be stored.
+         */
+        private final double[] azi2;
+
+        /**
+         * Array where areas will be stored.
+         */
+        private final double[] areaS12;
+
+        /**
+         * First geodesic to be solved (inclusive).
+         */
+        private final int from;
+
+        /**
+         * Last geodesic to be solved (exclusive).
+         */
+        private final int to;
+
+        /**
+         * Constructor.
+         *
+         * @param lat1      latitudes of points 1 or null if all geodesics start at the same point.
+         * @param lon1      longitudes of points 1 or null if all geodesics start at the same point.
+         * @param originLat latitude of point 1 when all geodesics start at the same point.
+         * @param originLon longitude of point 1 when all geodesics start at the same point.
+         * @param lat2      latitudes of points 2.
+         * @param lon2      longitudes of points 2.
+         * @param outmask   mask specifying which results must be stored.
+         * @param s12       array where distances will be stored.
+         * @param azi1      array where azimuths at points 1 will be stored.
+         * @param azi2      array where azimuths at points 2 will be stored.
+         * @param areaS12   array where areas will be stored.
+         * @param from      first geodesic to be solved (inclusive).
+         * @param to        last geodesic to be solved (exclusive).
+         */
+        InverseTask(final double[] lat1, final double[] lon1, final double originLat, final double originLon,
+                    final double[] lat2, final double[] lon2, final int outmask,
+                    final double[] s12, final double[] azi1, final double[] azi2, final double[] areaS12,
+                    final int from, final int to) {
+            this.lat1 = lat1;
+            this.lon1 = lon1;
+            this.originLat = originLat;
+            this.originLon = originLon;
+            this.lat2 = lat2;
+            this.lon2 = lon2;
+            this.outmask = outmask;
+            this.s12 = s12;
+            this.azi1 = azi1;
+            this.azi2 = azi2;
+            this.areaS12 = areaS12;
+            this.from = from;
+            this.to = to;
+        }
 
-        private InverseData() {
-            g = new GeodesicData();
-            salp1 = calp1 = salp2 = calp2 = Double.NaN;
+        /**
+         * Solves geodesics, splitting them into subtasks if more than
+         * {@link #DEFAULT_GEODESICS_PER_TASK} geodesics are contained.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= DEFAULT_GEODESICS_PER_TASK) {
+                final var mask = outmask & GeodesicMask.OUT_MASK;
+                final var distance = (mask & GeodesicMask.DISTANCE) != 0;
+                final var azimuth = (mask & GeodesicMask.AZIMUTH) != 0;
+                final var area = (mask & GeodesicMask.AREA) != 0;
+
+                final var scratch = new Scratch();
+                final var data = new GeodesicData();
+                for (var i = from; i < to; i++) {
+                    if (lat1 != null) {
+                        inverse(lat1[i], lon1[i], lat2[i], lon2[i], outmask, scratch, data);
+                    } else {
+                        inverse(originLat, originLon, lat2[i], lon2[i], outmask, scratch, data);
+                    }
+
+                    if (distance) {
+                        s12[i] = data.getS12();
+                    }
+                    if (azimuth) {
+                        azi1[i] = data.getAzi1();
+                        azi2[i] = data.getAzi2();
+                    }
+                    if (area) {
+                        areaS12[i] = data.getAreaS12();
+                    }
+                }
+            } else {
+                final var middle = (from + to) >>> 1;
+                invokeAll(new InverseTask(lat1, lon1, originLat, originLon, lat2, lon2, outmask,
+                                s12, azi1, azi2, areaS12, from, middle),
+                        new InverseTask(lat1, lon1, originLat, originLon, lat2, lon2, outmask,
+                                s12, azi1, azi2, areaS12, middle, to));
+            }
         }
     }
+
+    /**
+     * Preallocated scratch areas and intermediate results used to solve geodesic problems without
+     * allocating heap memory.
+     * Instances must not be shared among threads.
+     */
+    static final class Scratch {
+        // index zero elements of these arrays are unused
+        private final double[] c1a = new double[NC1 + 1];
+        private final double[] c2a = new double[NC2 + 1];
+        private final double[] c3a = new double[NC3];
+        private final double[] c4a = new double[NC4];
+
+        final Pair pair = new Pair(Double.NaN, Double.NaN);
+
+        private final LengthsV lengths = new LengthsV();
+        private final InverseStartV start = new InverseStartV();
+        private final Lambda12V lambda = new Lambda12V();
+
+        private double salp1 = Double.NaN;
+        private double calp1 = Double.NaN;
+        private double salp2 = Double.NaN;
+        private double calp2 = Double.NaN;
+    }
 }
@@ -92,6 +92,13 @@ public class GeodesicData {
      * Initialize all the fields to Double.NaN.
      */
     public GeodesicData() {
+        reset();
+    }
+
+    /**
+     * Resets all the fields to Double.NaN, so that instances can be reused.
+     */
+    public final void reset() {
         lat1 = lon1 = azi1 = lat2 = lon2 = azi2 = s12 = a12 = m12 = scaleM12 = scaleM21 = areaS12 = Double.NaN;
     }
 
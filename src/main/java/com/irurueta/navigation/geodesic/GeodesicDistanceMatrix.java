@@ -0,0 +1,634 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.geodesic;
+
+import java.nio.DoubleBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes matrices of geodesic distances between many origin and destination points.
+ * Distance between origin i and destination j is stored at position i * m + j of the matrix,
+ * where m is the number of destinations (i.e. the matrix is stored in row-major order).
+ * The matrix is computed in square tiles, so that the coordinates of points involved in each
+ * tile are kept in cache, and reduced latitudes, which only depend on each point, are computed
+ * once for each origin and destination instead of once for each geodesic.
+ * Matrices can be stored into arrays or into buffers, such as buffers obtained from memory-mapped
+ * files using {@link java.nio.channels.FileChannel#map} and {@link java.nio.ByteBuffer#asDoubleBuffer()}.
+ * When parallel execution is enabled, tiles are distributed among the threads of the common
+ * {@link ForkJoinPool}. Each geodesic is solved independently, hence distances are exactly the
+ * same as the ones returned by {@link Geodesic#inverse(double, double, double, double)} regardless
+ * of whether execution is parallel or not.
+ */
+public class GeodesicDistanceMatrix {
+
+    /**
+     * Default number of rows and columns of each tile.
+     */
+    public static final int DEFAULT_TILE_SIZE = 64;
+
+    /**
+     * Number of chunks of tiles that are assigned on average to each thread when executing
+     * in parallel.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Ellipsoid where distances are computed.
+     */
+    private final Geodesic geodesic;
+
+    /**
+     * Number of rows and columns of each tile.
+     */
+    private final int tileSize;
+
+    /**
+     * Constructor.
+     *
+     * @param geodesic ellipsoid where distances are computed.
+     * @param tileSize number of rows and columns of each tile.
+     * @throws NullPointerException     if provided ellipsoid is null.
+     * @throws IllegalArgumentException if tile size is not positive.
+     */
+    public GeodesicDistanceMatrix(final Geodesic geodesic, final int tileSize) {
+        if (geodesic == null) {
+            throw new NullPointerException();
+        }
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.geodesic = geodesic;
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Constructor using default tile size.
+     *
+     * @param geodesic ellipsoid where distances are computed.
+     * @throws NullPointerException if provided ellipsoid is null.
+     */
+    public GeodesicDistanceMatrix(final Geodesic geodesic) {
+        this(geodesic, DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Constructor using WGS84 ellipsoid and default tile size.
+     */
+    public GeodesicDistanceMatrix() {
+        this(Geodesic.WGS84);
+    }
+
+    /**
+     * Gets ellipsoid where distances are computed.
+     *
+     * @return ellipsoid where distances are computed.
+     */
+    public Geodesic getGeodesic() {
+        return geodesic;
+    }
+
+    /**
+     * Gets number of rows and columns of each tile.
+     *
+     * @return number of rows and columns of each tile.
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Computes distances between all origin and destination points.
+     *
+     * @param originLat      latitudes of origin points (degrees).
+     * @param originLon      longitudes of origin points (degrees).
+     * @param destinationLat latitudes of destination points (degrees).
+     * @param destinationLon longitudes of destination points (degrees).
+     * @param result         array where distances (meters) will be stored in row-major order.
+     *                       Must have at least n * m elements, where n is the number of origins
+     *                       and m is the number of destinations.
+     * @throws IllegalArgumentException if arrays of latitudes and longitudes have different
+     *                                  lengths or result is too small.
+     */
+    public void compute(final double[] originLat, final double[] originLon,
+                        final double[] destinationLat, final double[] destinationLon, final double[] result) {
+        compute(originLat, originLon, destinationLat, destinationLon, result, false);
+    }
+
+    /**
+     * Computes distances between all origin and destination points.
+     *
+     * @param originLat      latitudes of origin points (degrees).
+     * @param originLon      longitudes of origin points (degrees).
+     * @param destinationLat latitudes of destination points (degrees).
+     * @param destinationLon longitudes of destination points (degrees).
+     * @param result         array where distances (meters) will be stored in row-major order.
+     *                       Must have at least n * m elements, where n is the number of origins
+     *                       and m is the number of destinations.
+     * @param parallel       true to compute tiles in parallel, false otherwise.
+     * @throws IllegalArgumentException if arrays of latitudes and longitudes have different
+     *                                  lengths or result is too small.
+     */
+    public void compute(final double[] originLat, final double[] originLon,
+                        final double[] destinationLat, final double[] destinationLon, final double[] result,
+                        final boolean parallel) {
+        checkPoints(originLat, originLon);
+        checkPoints(destinationLat, destinationLon);
+        checkResult(originLat.length, destinationLat.length, result.length);
+
+        execute(new Computation(originLat, originLon, destinationLat, destinationLon, false, result, null),
+                parallel);
+    }
+
+    /**
+     * Computes distances between all origin and destination points.
+     * Distances are stored at absolute positions of provided buffer, and its position and limit
+     * are not modified.
+     *
+     * @param originLat      latitudes of origin points (degrees).
+     * @param originLon      longitudes of origin points (degrees).
+     * @param destinationLat latitudes of destination points (degrees).
+     * @param destinationLon longitudes of destination points (degrees).
+     * @param result         buffer where distances (meters) will be stored in row-major order.
+     *                       Its limit must be at least n * m, where n is the number of origins
+     *                       and m is the number of destinations.
+     * @throws IllegalArgumentException if arrays of latitudes and longitudes have different
+     *                                  lengths or result is too small.
+     */
+    public void compute(final double[] originLat, final double[] originLon,
+                        final double[] destinationLat, final double[] destinationLon,
+                        final DoubleBuffer result) {
+        compute(originLat, originLon, destinationLat, destinationLon, result, false);
+    }
+
+    /**
+     * Computes distances between all origin and destination points.
+     * Distances are stored at absolute positions of provided buffer, and its position and limit
+     * are not modified.
+     *
+     * @param originLat      latitudes of origin points (degrees).
+     * @param originLon      longitudes of origin points (degrees).
+     * @param destinationLat latitudes of destination points (degrees).
+     * @param destinationLon longitudes of destination points (degrees).
+     * @param result         buffer where distances (meters) will be stored in row-major order.
+     *                       Its limit must be at least n * m, where n is the number of origins
+     *                       and m is the number of destinations.
+     * @param parallel       true to compute tiles in parallel, false otherwise.
+     * @throws IllegalArgumentException if arrays of latitudes and longitudes have different
+     *                                  lengths or result is too small.
+     */
+    public void compute(final double[] originLat, final double[] originLon,
+                        final double[] destinationLat, final double[] destinationLon,
+                        final DoubleBuffer result, final boolean parallel) {
+        checkPoints(originLat, originLon);
+        checkPoints(destinationLat, destinationLon);
+        checkResult(originLat.length, destinationLat.length, result.limit());
+
+        execute(new Computation(originLat, originLon, destinationLat, destinationLon, false, null, result),
+                parallel);
+    }
+
+    /**
+     * Computes distances between all pairs of provided points.
+     * Only distances from each point to itself and to the following ones are computed, and the
+     * distance from point j to point i is taken to be the same as the distance from point i to
+     * point j, hence about half the geodesics of a full matrix are solved.
+     *
+     * @param lat    latitudes of points (degrees).
+     * @param lon    longitudes of points (degrees).
+     * @param result array where distances (meters) will be stored in row-major order. Must have
+     *               at least n * n elements, where n is the number of points.
+     * @throws IllegalArgumentException if arrays of latitudes and longitudes have different
+     *                                  lengths or result is too small.
+     */
+    public void computeSymmetric(final double[] lat, final double[] lon, final double[] result) {
+        computeSymmetric(lat, lon, result, false);
+    }
+
+    /**
+     * Computes distances between all pairs of provided points.
+     * Only distances from each point to itself and to the following ones are computed, and the
+     * distance from point j to point i is taken to be the same as the distance from point i to
+     * point j, hence about half the geodesics of a full matrix are solved.
+     *
+     * @param lat      latitudes of points (degrees).
+     * @param lon      longitudes of points (degrees).
+     * @param result   array where distances (meters) will be stored in row-major order. Must have
+     *                 at least n * n elements, where n is the number of points.
+     * @param parallel true to compute tiles in parallel, false otherwise.
+     * @throws IllegalArgumentException if arrays of latitudes and longitudes have different
+     *                                  lengths or result is too small.
+     */
+    public void computeSymmetric(final double[] lat, final double[] lon, final double[] result,
+                                 final boolean parallel) {
+        checkPoints(lat, lon);
+        checkResult(lat.length, lat.length, result.length);
+
+        execute(new Computation(lat, lon, lat, lon, true, result, null), parallel);
+    }
+
+    /**
+     * Computes distances between all pairs of provided points.
+     * Only distances from each point to itself and to the following ones are computed, and the
+     * distance from point j to point i is taken to be the same as the distance from point i to
+     * point j, hence about half the geodesics of a full matrix are solved.
+     * Distances are stored at absolute positions of provided buffer, and its position and limit
+     * are not modified.
+     *
+     * @param lat    latitudes of points (degrees).
+     * @param lon    longitudes of points (degrees).
+     * @param result buffer where distances (meters) will be stored in row-major order. Its limit
+     *               must be at least n * n, where n is the number of points.
+     * @throws IllegalArgumentException if arrays of latitudes and longitudes have different
+     *                                  lengths or result is too small.
+     */
+    public void computeSymmetric(final double[] lat, final double[] lon, final DoubleBuffer result) {
+        computeSymmetric(lat, lon, result, false);
+    }
+
+    /**
+     * Computes distances between all pairs of provided points.
+     * Only distances from each point to itself and to the following ones are computed, and the
+     * distance from point j to point i is taken to be the same as the distance from point i to
+     * point j, hence about half the geodesics of a full matrix are solved.
+     * Distances are stored at absolute positions of provided buffer, and its position and limit
+     * are not modified.
+     *
+     * @param lat      latitudes of points (degrees).
+     * @param lon      longitudes of points (degrees).
+     * @param result   buffer where distances (meters) will be stored in row-major order. Its limit
+     *                 must be at least n * n, where n is the number of points.
+     * @param parallel true to compute tiles in parallel, false otherwise.
+     * @throws IllegalArgumentException if arrays of latitudes and longitudes have different
+     *                                  lengths or result is too small.
+     */
+    public void computeSymmetric(final double[] lat, final double[] lon, final DoubleBuffer result,
+                                 final boolean parallel) {
+        checkPoints(lat, lon);
+        checkResult(lat.length, lat.length, result.limit());
+
+        execute(new Computation(lat, lon, lat, lon, true, null, result), parallel);
+    }
+
+    /**
+     * Checks that arrays of latitudes and longitudes have the same length.
+     *
+     * @param lat latitudes of points.
+     * @param lon longitudes of points.
+     * @throws IllegalArgumentException if arrays have different lengths.
+     */
+    private static void checkPoints(final double[] lat, final double[] lon) {
+        if (lat.length != lon.length) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Checks that result can contain a matrix of provided size.
+     *
+     * @param rows     number of rows of matrix.
+     * @param columns  number of columns of matrix.
+     * @param capacity number of elements that can be stored into result.
+     * @throws IllegalArgumentException if result is too small.
+     */
+    private static void checkResult(final int rows, final int columns, final int capacity) {
+        if ((long) rows * columns > capacity) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Computes all tiles of a matrix either sequentially or in parallel.
+     * When executed in parallel, tiles are split into chunks of consecutive tiles, so that each
+     * chunk reuses the same scratch areas and tile buffers, while still providing a few chunks
+     * per thread to balance load.
+     *
+     * @param computation computation of a matrix.
+     * @param parallel    true to compute tiles in parallel, false otherwise.
+     */
+    private static void execute(final Computation computation, final boolean parallel) {
+        final var tiles = computation.getTiles();
+        if (parallel && tiles > 1) {
+            final var pool = ForkJoinPool.commonPool();
+            final var chunkSize = Math.max(1, tiles / (CHUNKS_PER_THREAD * pool.getParallelism()));
+            pool.invoke(new TileTask(computation, 0, tiles, chunkSize));
+        } else {
+            computation.computeTiles(0, tiles);
+        }
+    }
+
+    /**
+     * Contains data of a matrix being computed.
+     */
+    private class Computation {
+
+        /**
+         * Latitudes of origin points.
+         */
+        private final double[] originLat;
+
+        /**
+         * Longitudes of origin points.
+         */
+        private final double[] originLon;
+
+        /**
+         * Latitudes of destination points.
+         */
+        private final double[] destinationLat;
+
+        /**
+         * Longitudes of destination points.
+         */
+        private final double[] destinationLon;
+
+        /**
+         * Reduced latitudes of origin points.
+         */
+        private final double[] originReduced;
+
+        /**
+         * Reduced latitudes of destination points.
+         */
+        private final double[] destinationReduced;
+
+        /**
+         * Indicates whether only the upper half of a symmetric matrix is computed.
+         */
+        private final boolean symmetric;
+
+        /**
+         * Array where matrix is stored or null if it is stored into a buffer.
+         */
+        private final double[] array;
+
+        /**
+         * Buffer where matrix is stored or null if it is stored into an array.
+         */
+        private final DoubleBuffer buffer;
+
+        /**
+         * Number of rows of matrix.
+         */
+        private final int rows;
+
+        /**
+         * Number of columns of matrix.
+         */
+        private final int columns;
+
+        /**
+         * Number of tiles along each column of matrix.
+         */
+        private final int rowTiles;
+
+        /**
+         * Number of tiles along each row of matrix.
+         */
+        private final int columnTiles;
+
+        /**
+         * Constructor.
+         * Reduced latitudes of all points are computed.
+         *
+         * @param originLat      latitudes of origin points.
+         * @param originLon      longitudes of origin points.
+         * @param destinationLat latitudes of destination points.
+         * @param destinationLon longitudes of destination points.
+         * @param symmetric      true to compute only the upper half of a symmetric matrix.
+         * @param array          array where matrix is stored or null.
+         * @param buffer         buffer where matrix is stored or null.
+         */
+        Computation(final double[] originLat, final double[] originLon,
+                    final double[] destinationLat, final double[] destinationLon,
+                    final boolean symmetric, final double[] array, final DoubleBuffer buffer) {
+            this.originLat = originLat;
+            this.originLon = originLon;
+            this.destinationLat = destinationLat;
+            this.destinationLon = destinationLon;
+            this.symmetric = symmetric;
+            this.array = array;
+            this.buffer = buffer;
+
+            rows = originLat.length;
+            columns = destinationLat.length;
+            rowTiles = (rows + tileSize - 1) / tileSize;
+            columnTiles = (columns + tileSize - 1) / tileSize;
+
+            final var p = new Pair(Double.NaN, Double.NaN);
+            originReduced = new double[rows * Geodesic.REDUCED_LATITUDE_VALUES];
+            geodesic.reducedLatitudes(originLat, 0, rows, originReduced, p);
+            if (symmetric) {
+                destinationReduced = originReduced;
+            } else {
+                destinationReduced = new double[columns * Geodesic.REDUCED_LATITUDE_VALUES];
+                geodesic.reducedLatitudes(destinationLat, 0, columns, destinationReduced, p);
+            }
+        }
+
+        /**
+         * Gets number of tiles to be computed.
+         * On symmetric matrices, only tiles on or above the diagonal are computed.
+         *
+         * @return number of tiles to be computed.
+         */
+        int getTiles() {
+            return symmetric ? rowTiles * (rowTiles + 1) / 2 : rowTiles * columnTiles;
+        }
+
+        /**
+         * Computes a range of tiles and stores their distances into the matrix.
+         * Tiles are numbered in row-major order, skipping tiles below the diagonal on symmetric
+         * matrices.
+         *
+         * @param from first tile to be computed (inclusive).
+         * @param to   last tile to be computed (exclusive).
+         */
+        void computeTiles(final int from, final int to) {
+            if (from >= to) {
+                return;
+            }
+
+            // find row and column of first tile
+            var tileRow = 0;
+            var tileColumn = from;
+            if (symmetric) {
+                while (tileColumn >= rowTiles - tileRow) {
+                    tileColumn -= rowTiles - tileRow;
+                    tileRow++;
+                }
+                tileColumn += tileRow;
+            } else {
+                tileRow = from / columnTiles;
+                tileColumn = from % columnTiles;
+            }
+
+            final var scratch = new Geodesic.Scratch();
+            final var data = new GeodesicData();
+            final var tile = new double[tileSize * tileSize];
+            final var transposed = symmetric ? new double[tileSize * tileSize] : null;
+            final var output = buffer != null ? buffer.duplicate() : null;
+
+            for (var t = from; t < to; t++) {
+                computeTile(tileRow, tileColumn, scratch, data, tile, transposed, output);
+
+                if (++tileColumn == columnTiles) {
+                    tileRow++;
+                    tileColumn = symmetric ? tileRow : 0;
+                }
+            }
+        }
+
+        /**
+         * Computes a tile and stores its distances into the matrix.
+         * On symmetric matrices, distances are also stored at their symmetric positions.
+         *
+         * @param tileRow    row of tile.
+         * @param tileColumn column of tile.
+         * @param scratch    scratch areas to solve geodesics.
+         * @param data       instance where results of each geodesic are stored.
+         * @param tile       array where distances of tile are stored.
+         * @param transposed array where transposed distances of tile are stored on symmetric
+         *                   matrices.
+         * @param output     duplicate of buffer where matrix is stored or null.
+         */
+        private void computeTile(final int tileRow, final int tileColumn, final Geodesic.Scratch scratch,
+                                 final GeodesicData data, final double[] tile, final double[] transposed,
+                                 final DoubleBuffer output) {
+            final var rowStart = tileRow * tileSize;
+            final var rowEnd = Math.min(rowStart + tileSize, rows);
+            final var columnStart = tileColumn * tileSize;
+            final var columnEnd = Math.min(columnStart + tileSize, columns);
+            final var tileRows = rowEnd - rowStart;
+            final var tileColumns = columnEnd - columnStart;
+            final var diagonal = symmetric && tileRow == tileColumn;
+
+            for (var i = rowStart; i < rowEnd; i++) {
+                final var lat1 = originLat[i];
+                final var lon1 = originLon[i];
+                final var offset1 = i * Geodesic.REDUCED_LATITUDE_VALUES;
+                final var k = (i - rowStart) * tileColumns - columnStart;
+
+                // on diagonal tiles only distances on or above the diagonal are computed
+                for (var j = diagonal ? i : columnStart; j < columnEnd; j++) {
+                    geodesic.inverse(lat1, lon1, originReduced, offset1,
+                            destinationLat[j], destinationLon[j], destinationReduced,
+                            j * Geodesic.REDUCED_LATITUDE_VALUES, GeodesicMask.DISTANCE, scratch, data);
+                    tile[k + j] = data.getS12();
+                }
+            }
+
+            if (diagonal) {
+                // fill distances below the diagonal
+                for (var r = 1; r < tileRows; r++) {
+                    for (var c = 0; c < r; c++) {
+                        tile[r * tileColumns + c] = tile[c * tileColumns + r];
+                    }
+                }
+            }
+
+            store(tile, rowStart, tileRows, columnStart, tileColumns, output);
+
+            if (symmetric && !diagonal) {
+                for (var r = 0; r < tileRows; r++) {
+                    for (var c = 0; c < tileColumns; c++) {
+                        transposed[c * tileRows + r] = tile[r * tileColumns + c];
+                    }
+                }
+                store(transposed, columnStart, tileColumns, rowStart, tileRows, output);
+            }
+        }
+
+        /**
+         * Stores distances of a tile into the matrix.
+         *
+         * @param tile        distances of tile in row-major order.
+         * @param rowStart    first row of matrix where tile is stored.
+         * @param tileRows    number of rows of tile.
+         * @param columnStart first column of matrix where tile is stored.
+         * @param tileColumns number of columns of tile.
+         * @param output      duplicate of buffer where matrix is stored or null.
+         */
+        private void store(final double[] tile, final int rowStart, final int tileRows, final int columnStart,
+                           final int tileColumns, final DoubleBuffer output) {
+            for (var r = 0; r < tileRows; r++) {
+                final var position = (rowStart + r) * columns + columnStart;
+                if (output != null) {
+                    output.put(position, tile, r * tileColumns, tileColumns);
+                } else {
+                    System.arraycopy(tile, r * tileColumns, array, position, tileColumns);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fork-join task splitting a range of tiles until chunks of at most a given number of tiles
+     * remain.
+     */
+    private static class TileTask extends RecursiveAction {
+
+        /**
+         * Computation of a matrix.
+         */
+        private final Computation computation;
+
+        /**
+         * First tile to be computed (inclusive).
+         */
+        private final int from;
+
+        /**
+         * Last tile to be computed (exclusive).
+         */
+        private final int to;
+
+        /**
+         * Maximum number of tiles computed without further splitting.
+         */
+        private final int chunkSize;
+
+        /**
+         * Constructor.
+         *
+         * @param computation computation of a matrix.
+         * @param from        first tile to be computed (inclusive).
+         * @param to          last tile to be computed (exclusive).
+         * @param chunkSize   maximum number of tiles computed without further splitting.
+         */
+        TileTask(final Computation computation, final int from, final int to, final int chunkSize) {
+            this.computation = computation;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        /**
+         * Computes tiles, splitting them into subtasks if more than chunk size tiles are
+         * contained.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                computation.computeTiles(from, to);
+            } else {
+                final var middle = (from + to) >>> 1;
+                invokeAll(new TileTask(computation, from, middle, chunkSize),
+                        new TileTask(computation, middle, to, chunkSize));
+            }
+        }
+    }
+}
@@ -93,6 +93,13 @@ public class GeodesicLine {
     private static final int NC3 = Geodesic.NC3;
     private static final int NC4 = Geodesic.NC4;
 
+    /**
+     * Number of consecutive waypoints whose arc length sines and cosines are obtained using angle
+     * addition recurrences when sampling the line, before being recomputed from scratch to prevent
+     * accumulation of rounding errors.
+     */
+    private static final int SAMPLE_RESYNC_INTERVAL = 16;
+
     private double lat1;
     private double lon1;
     private double azi1;
@@ -201,23 +208,49 @@ public class GeodesicLine {
      *             the GeodesicLine object should possess, i.e., which quantities can be returned in
      *             calls to {@link #position}.
      */
-    public GeodesicLine(final Geodesic g, final double lat1, final double lon1, double azi1, final int caps) {
-        azi1 = GeoMath.angNormalize(azi1);
-
-        final var p = GeoMath.sincosd(GeoMath.angRound(azi1));
-        final var pSalp1 = p.getFirst();
-        final var pCalp1 = p.getSecond();
-
-        lineInit(g, lat1, lon1, azi1, pSalp1, pCalp1, caps);
+    public GeodesicLine(final Geodesic g, final double lat1, final double lon1, final double azi1, final int caps) {
+        reset(g, lat1, lon1, azi1, caps, new Pair(Double.NaN, Double.NaN));
     }
 
     protected GeodesicLine(
             final Geodesic g, final double lat1, final double lon1, final double azi1,
             final double salp1, final double calp1, final int caps, final boolean arcmode, final double s13A13) {
-        lineInit(g, lat1, lon1, azi1, salp1, calp1, caps);
+        lineInit(g, lat1, lon1, azi1, salp1, calp1, caps, new Pair(Double.NaN, Double.NaN));
         genSetDistance(arcmode, s13A13);
     }
 
+    /**
+     * Constructor of an uninitialized line, which must be initialized with
+     * {@link #reset(Geodesic, double, double, double, int, Pair)} before being used.
+     */
+    GeodesicLine() {
+    }
+
+    /**
+     * Resets this line in the same way as it is initialized by
+     * {@link #GeodesicLine(Geodesic, double, double, double, int)}, reusing coefficient arrays of
+     * any previous initialization, so that no heap memory is allocated.
+     *
+     * @param g       a {@link Geodesic} object used to compute the necessary information about the
+     *                GeodesicLine.
+     * @param lat1    latitude of point 1 (degrees).
+     * @param lon1    longitude of point 1 (degrees).
+     * @param azi1    azimuth at point 1 (degrees).
+     * @param caps    bitor'ed combination of {@link GeodesicMask} values specifying the capabilities
+     *                the GeodesicLine object should possess.
+     * @param scratch instance to be reused to compute sines and cosines.
+     */
+    void reset(final Geodesic g, final double lat1, final double lon1, double azi1, final int caps,
+               final Pair scratch) {
+        azi1 = GeoMath.angNormalize(azi1);
+
+        GeoMath.sincosd(GeoMath.angRound(azi1), scratch);
+        final var pSalp1 = scratch.getFirst();
+        final var pCalp1 = scratch.getSecond();
+
+        lineInit(g, lat1, lon1, azi1, pSalp1, pCalp1, caps, scratch);
+    }
+
     /**
      * Compute the position of point 2 which is a distance <i>s12</i> (meters) from point 1.
      * The values of <i>lon2</i> and <i>azi2</i> returned are in the range [&minus;180&deg;, 180&deg;].
@@ -332,12 +365,51 @@ public class GeodesicLine {
      * @return a {@link GeodesicData} object with the requested results. Requesting a value which the
      * GeodesicLine object is not capable of computing is not an error; Double.NaN is returned instead.
      */
-    public GeodesicData position(final boolean arcmode, final double s12A12, int outmask) {
+    public GeodesicData position(final boolean arcmode, final double s12A12, final int outmask) {
+        final var result = new GeodesicData();
+        position(arcmode, s12A12, outmask, result);
+        return result;
+    }
+
+    /**
+     * The general position function storing results into provided instance.
+     * This is equivalent to {@link #position(boolean, double, int)}, but no heap memory is allocated
+     * when <i>arcmode</i> is false.
+     *
+     * @param arcmode boolean flag determining the meaning of the second parameter; if arcmode is false,
+     *                then the GeodesicLine object must have been constructed with <i>caps</i> |=
+     *                {@link GeodesicMask#DISTANCE_IN}.
+     * @param s12A12  if <i>arcmode</i> is false, this is the distance between point 1 and point 2 (meters);
+     *                otherwise it is the arc length between point 1 and point 2 (degrees); it can be
+     *                negative.
+     * @param outmask a bitor'ed combination of {@link GeodesicMask} values specifying which results
+     *                should be returned.
+     * @param result  instance where requested results will be stored. Values not requested or which the
+     *                GeodesicLine object is not capable of computing are set to Double.NaN.
+     */
+    public void position(final boolean arcmode, final double s12A12, final int outmask, final GeodesicData result) {
+        position(arcmode, s12A12, outmask, result, arcmode ? new Pair(Double.NaN, Double.NaN) : null);
+    }
+
+    /**
+     * The general position function storing results into provided instance, reusing provided
+     * instance to compute sines and cosines, so that no heap memory is allocated.
+     *
+     * @param arcmode boolean flag determining the meaning of the second parameter.
+     * @param s12A12  distance (meters) or arc length (degrees) between point 1 and point 2.
+     * @param outmask a bitor'ed combination of {@link GeodesicMask} values specifying which results
+     *                should be returned.
+     * @param r       instance where requested results will be stored.
+     * @param scratch instance to be reused to compute sines and cosines. Only used if <i>arcmode</i>
+     *                is true.
+     */
+    void position(final boolean arcmode, final double s12A12, int outmask, final GeodesicData r,
+                  final Pair scratch) {
         outmask &= caps & GeodesicMask.OUT_MASK;
-        final var r = new GeodesicData();
+        r.reset();
         if (!(init() && (arcmode || (caps & (GeodesicMask.OUT_MASK & GeodesicMask.DISTANCE_IN)) != 0))) {
             // uninitialized or impossible distance calculation requested
-            return r;
+            return;
         }
 
         r.setLat1(lat1);
@@ -355,9 +427,9 @@ public class GeodesicLine {
             r.setA12(s12A12);
             sig12 = Math.toRadians(s12A12);
 
-            final var p = GeoMath.sincosd(s12A12);
-            ssig12 = p.getFirst();
-            csig12 = p.getSecond();
+            GeoMath.sincosd(s12A12, scratch);
+            ssig12 = scratch.getFirst();
+            csig12 = scratch.getSecond();
         } else {
             // interpret s12A12 as distance
             r.setS12(s12A12);
@@ -511,7 +583,127 @@ public class GeodesicLine {
             r.setAreaS12(c2 * Math.atan2(salp12, calp12) + a4 * (b42 - b41));
         }
 
-        return r;
+    }
+
+    /**
+     * Samples <i>n</i> waypoints equally spaced in distance along this line, from point 1 up to the
+     * point at distance <i>s13</i> (both included).
+     * The values of <i>lon</i> and <i>azi</i> returned are in the range [&minus;180&deg;, 180&deg;].
+     * The GeodesicLine object <i>must</i> have been constructed with <i>caps</i>
+     * |= {@link GeodesicMask#DISTANCE_IN}; otherwise Double.NaN is stored for all waypoints.
+     *
+     * @param s13 distance from point 1 to last waypoint (meters); it can be negative.
+     * @param n   number of waypoints to be generated.
+     * @param lat array where latitudes of waypoints will be stored (degrees), or null if not needed.
+     * @param lon array where longitudes of waypoints will be stored (degrees), or null if not needed.
+     * @param azi array where azimuths at waypoints will be stored (degrees), or null if not needed.
+     * @throws IllegalArgumentException if <i>n</i> is less than 1 or if any provided array has a
+     *                                  length smaller than <i>n</i>.
+     */
+    public void sample(final double s13, final int n, final double[] lat, final double[] lon,
+                       final double[] azi) {
+        sample(false, s13, n, false, lat, lon, azi);
+    }
+
+    /**
+     * Samples <i>n</i> waypoints equally spaced in arc length along this line, from point 1 up to the
+     * point at arc length <i>a13</i> (both included).
+     * The values of <i>lon</i> and <i>azi</i> returned are in the range [&minus;180&deg;, 180&deg;].
+     *
+     * @param a13 arc length from point 1 to last waypoint (degrees); it can be negative.
+     * @param n   number of waypoints to be generated.
+     * @param lat array where latitudes of waypoints will be stored (degrees), or null if not needed.
+     * @param lon array where longitudes of waypoints will be stored (degrees), or null if not needed.
+     * @param azi array where azimuths at waypoints will be stored (degrees), or null if not needed.
+     * @throws IllegalArgumentException if <i>n</i> is less than 1 or if any provided array has a
+     *                                  length smaller than <i>n</i>.
+     */
+    public void arcSample(final double a13, final int n, final double[] lat, final double[] lon,
+                          final double[] azi) {
+        sample(true, a13, n, false, lat, lon, azi);
+    }
+
+    /**
+     * Samples <i>n</i> waypoints equally spaced in either distance or arc length along this line,
+     * from point 1 up to the point at distance or arc length <i>s13A13</i> (both included).
+     * Results are equal to the ones obtained with {@link #position(boolean, double, int)} for each
+     * waypoint up to rounding errors, but sines and cosines of consecutive waypoints are obtained
+     * using angle addition recurrences and no heap memory is allocated for each waypoint.
+     * Latitudes differ by less than 1e-12&deg;. Longitudes and azimuths are ill-conditioned near
+     * the poles, where a tiny displacement of a nearly meridional line changes them by a large
+     * amount, hence their differences are only bounded once multiplied by the cosine of the
+     * latitude of the waypoint (i.e. as horizontal displacements), which is less than 1e-12&deg;.
+     * Away from the poles this amounts to differences of about 1e-12&deg;, but they can reach
+     * 1e-10&deg; within a few hundredths of a degree of a pole.
+     * Quantities for which no array is provided are not computed.
+     *
+     * @param arcmode boolean flag determining the meaning of the second parameter; if arcmode is false,
+     *                then the GeodesicLine object must have been constructed with <i>caps</i> |=
+     *                {@link GeodesicMask#DISTANCE_IN}.
+     * @param s13A13  if <i>arcmode</i> is false, this is the distance from point 1 to last waypoint
+     *                (meters); otherwise it is the arc length from point 1 to last waypoint (degrees);
+     *                it can be negative.
+     * @param n       number of waypoints to be generated.
+     * @param unroll  true to unroll longitudes (instead of reducing them to the range
+     *                [&minus;180&deg;, 180&deg;]).
+     * @param lat     array where latitudes of waypoints will be stored (degrees), or null if not needed.
+     * @param lon     array where longitudes of waypoints will be stored (degrees), or null if not
+     *                needed. Double.NaN is stored if the GeodesicLine object is not capable of
+     *                computing longitudes.
+     * @param azi     array where azimuths at waypoints will be stored (degrees), or null if not needed.
+     * @throws IllegalArgumentException if <i>n</i> is less than 1 or if any provided array has a
+     *                                  length smaller than <i>n</i>.
+     */
+    public void sample(final boolean arcmode, final double s13A13, final int n, final boolean unroll,
+                       final double[] lat, final double[] lon, final double[] azi) {
+        checkSampleCount(n);
+        checkSampleArray(lat, n);
+        checkSampleArray(lon, n);
+        checkSampleArray(azi, n);
+
+        var outmask = 0;
+        if (lat != null) {
+            outmask |= GeodesicMask.LATITUDE;
+        }
+        if (lon != null) {
+            outmask |= GeodesicMask.LONGITUDE;
+        }
+        if (azi != null) {
+            outmask |= GeodesicMask.AZIMUTH;
+        }
+        sample(arcmode, s13A13, n, unroll, outmask, lat, lon, azi, null);
+    }
+
+    /**
+     * Samples <i>n</i> waypoints equally spaced in either distance or arc length along this line,
+     * from point 1 up to the point at distance or arc length <i>s13A13</i> (both included),
+     * notifying each waypoint to provided listener as soon as it is generated.
+     * This is equivalent to {@link #sample(boolean, double, int, boolean, double[], double[], double[])},
+     * but no storage is required for generated waypoints, hence it is suitable for very long lines.
+     *
+     * @param arcmode  boolean flag determining the meaning of the second parameter; if arcmode is
+     *                 false, then the GeodesicLine object must have been constructed with <i>caps</i>
+     *                 |= {@link GeodesicMask#DISTANCE_IN}.
+     * @param s13A13   if <i>arcmode</i> is false, this is the distance from point 1 to last waypoint
+     *                 (meters); otherwise it is the arc length from point 1 to last waypoint (degrees);
+     *                 it can be negative.
+     * @param n        number of waypoints to be generated.
+     * @param unroll   true to unroll longitudes (instead of reducing them to the range
+     *                 [&minus;180&deg;, 180&deg;]).
+     * @param listener listener to be notified of each generated waypoint in order.
+     * @throws NullPointerException     if provided listener is null.
+     * @throws IllegalArgumentException if <i>n</i> is less than 1.
+     */
+    public void sample(final boolean arcmode, final double s13A13, final int n, final boolean unroll,
+                       final GeodesicWaypointListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        checkSampleCount(n);
+
+        sample(arcmode, s13A13, n, unroll,
+                GeodesicMask.LATITUDE | GeodesicMask.LONGITUDE | GeodesicMask.AZIMUTH,
+                null, null, null, listener);
     }
 
     /**
@@ -698,6 +890,183 @@ public class GeodesicLine {
         s13 = g.getS12();
     }
 
+    /**
+     * Samples waypoints equally spaced in either distance or arc length along this line.
+     *
+     * @param arcmode  boolean flag determining the meaning of the second parameter.
+     * @param s13A13   distance (meters) or arc length (degrees) from point 1 to last waypoint.
+     * @param n        number of waypoints to be generated.
+     * @param unroll   true to unroll longitudes.
+     * @param outmask  bitor'ed combination of {@link GeodesicMask#LATITUDE},
+     *                 {@link GeodesicMask#LONGITUDE} and {@link GeodesicMask#AZIMUTH} values
+     *                 specifying which results should be computed.
+     * @param lat      array where latitudes will be stored if no listener is provided.
+     * @param lon      array where longitudes will be stored if no listener is provided.
+     * @param azi      array where azimuths will be stored if no listener is provided.
+     * @param listener listener to be notified of each waypoint, or null to store them into arrays.
+     */
+    private void sample(final boolean arcmode, final double s13A13, final int n, final boolean unroll,
+                        int outmask, final double[] lat, final double[] lon, final double[] azi,
+                        final GeodesicWaypointListener listener) {
+        outmask &= caps;
+        final var valid = init() && (arcmode || (caps & (GeodesicMask.OUT_MASK & GeodesicMask.DISTANCE_IN)) != 0);
+        final var step = n > 1 ? s13A13 / (n - 1) : 0.0;
+        final var lon1n = GeoMath.angNormalize(lon1);
+
+        // sines and cosines of spherical arc length (arcmode) or tau (distance mode) between point 1
+        // and each waypoint, and of their increment between consecutive waypoints
+        final var p = arcmode ? new Pair(Double.NaN, Double.NaN) : null;
+        final var scale = arcmode ? 0.0 : b * (1 + a1m1);
+        final double sstep;
+        final double cstep;
+        if (arcmode) {
+            GeoMath.sincosd(step, p);
+            sstep = p.getFirst();
+            cstep = p.getSecond();
+        } else {
+            sstep = Math.sin(step / scale);
+            cstep = Math.cos(step / scale);
+        }
+        var stheta = 0.0;
+        var ctheta = 1.0;
+
+        for (var i = 0; i < n; i++) {
+            final var last = i > 0 && i == n - 1;
+            final var value = last ? s13A13 : i * step;
+            if (i % SAMPLE_RESYNC_INTERVAL == 0 || last) {
+                // recompute from scratch to prevent accumulation of rounding errors
+                if (arcmode) {
+                    GeoMath.sincosd(value, p);
+                    stheta = p.getFirst();
+                    ctheta = p.getSecond();
+                } else {
+                    stheta = Math.sin(value / scale);
+                    ctheta = Math.cos(value / scale);
+                }
+            } else {
+                // theta(i) = theta(i - 1) + step
+                final var s = stheta * cstep + ctheta * sstep;
+                ctheta = ctheta * cstep - stheta * sstep;
+                stheta = s;
+            }
+
+            var lat2 = Double.NaN;
+            var lon2 = Double.NaN;
+            var azi2 = Double.NaN;
+            if (valid) {
+                double sig12;
+                double ssig12;
+                double csig12;
+                if (arcmode) {
+                    sig12 = Math.toRadians(value);
+                    ssig12 = stheta;
+                    csig12 = ctheta;
+                } else {
+                    // tau2 = tau1 + tau12
+                    final var b12 = -Geodesic.sinCosSeries(true, stau1 * ctheta + ctau1 * stheta,
+                            ctau1 * ctheta - stau1 * stheta, c1pa);
+                    // sig12 = tau12 - dsig, where dsig is small
+                    final var dsig = b12 - b11;
+                    sig12 = value / scale - dsig;
+                    if (Math.abs(f) > 0.01) {
+                        // correct sig12 with 1 Newton iteration as in position
+                        ssig12 = Math.sin(sig12);
+                        csig12 = Math.cos(sig12);
+                        final var ssig2 = ssig1 * csig12 + csig1 * ssig12;
+                        final var csig2 = csig1 * csig12 - ssig1 * ssig12;
+                        final var b12n = Geodesic.sinCosSeries(true, ssig2, csig2, c1a);
+                        final var serr = (1 + a1m1) * (sig12 + (b12n - b11)) - value / b;
+                        sig12 = sig12 - serr / Math.sqrt(1 + k2 * GeoMath.sq(ssig2));
+                        ssig12 = Math.sin(sig12);
+                        csig12 = Math.cos(sig12);
+                    } else {
+                        final var sdsig = Math.sin(dsig);
+                        final var cdsig = Math.cos(dsig);
+                        ssig12 = stheta * cdsig - ctheta * sdsig;
+                        csig12 = ctheta * cdsig + stheta * sdsig;
+                    }
+                }
+
+                // sig2 = sig1 + sig12
+                final var ssig2 = ssig1 * csig12 + csig1 * ssig12;
+                var csig2 = csig1 * csig12 - ssig1 * ssig12;
+
+                // sin(bet2) = cos(alp0) * sin(sig2)
+                final var sbet2 = calp0 * ssig2;
+                var cbet2 = GeoMath.hypot(salp0, calp0 * csig2);
+                if (cbet2 == 0) {
+                    // i.e., salp0 = 0, csig2 = 0. Break the degeneracy in this case
+                    cbet2 = csig2 = Geodesic.TINY;
+                }
+
+                if ((outmask & GeodesicMask.LATITUDE) != 0) {
+                    lat2 = GeoMath.atan2d(sbet2, f1 * cbet2);
+                }
+
+                if ((outmask & GeodesicMask.AZIMUTH) != 0) {
+                    // tan(alp0) = cos(sig2) * tan(alp2)
+                    azi2 = GeoMath.atan2d(salp0, calp0 * csig2);
+                }
+
+                if ((outmask & GeodesicMask.LONGITUDE) != 0) {
+                    // tan(omg2) = sin(alp0) * tan(sig2)
+                    final var somg2 = salp0 * ssig2;
+                    final var e = GeoMath.copysign(1, salp0);
+
+                    // omg12 = omg2 - omg1
+                    final var omg12 = unroll
+                            ? e * (sig12 - (Math.atan2(ssig2, csig2) - Math.atan2(ssig1, csig1))
+                            + (Math.atan2(e * somg2, csig2) - Math.atan2(e * somg1, comg1)))
+                            : Math.atan2(somg2 * comg1 - csig2 * somg1, csig2 * comg1 + somg2 * somg1);
+
+                    final var lam12 = omg12 + a3c * (sig12 + (Geodesic.sinCosSeries(true, ssig2, csig2, c3a)
+                            - b31));
+                    final var lon12 = Math.toDegrees(lam12);
+                    lon2 = unroll ? lon1 + lon12 : GeoMath.angNormalize(lon1n + GeoMath.angNormalize(lon12));
+                }
+            }
+
+            if (listener != null) {
+                listener.onWaypoint(this, i, lat2, lon2, azi2);
+            } else {
+                if (lat != null) {
+                    lat[i] = lat2;
+                }
+                if (lon != null) {
+                    lon[i] = lon2;
+                }
+                if (azi != null) {
+                    azi[i] = azi2;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that number of waypoints to be sampled is valid.
+     *
+     * @param n number of waypoints to be checked.
+     * @throws IllegalArgumentException if number of waypoints is less than 1.
+     */
+    private static void checkSampleCount(final int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Checks that provided array can store sampled waypoints.
+     *
+     * @param array array to be checked. It can be null.
+     * @param n     number of waypoints to be sampled.
+     * @throws IllegalArgumentException if provided array has a length smaller than <i>n</i>.
+     */
+    private static void checkSampleArray(final double[] array, final int n) {
+        if (array != null && array.length < n) {
+            throw new IllegalArgumentException();
+        }
+    }
+
     /**
      * @return true if the object has been initialized.
      */
@@ -707,7 +1076,7 @@ public class GeodesicLine {
 
     private void lineInit(
             final Geodesic g, final double lat1, final double lon1, final double azi1, final double salp1,
-            final double calp1, final int caps) {
+            final double calp1, final int caps, final Pair p) {
         a = g.a;
         f = g.f;
         b = g.b;
@@ -723,12 +1092,12 @@ public class GeodesicLine {
         this.salp1 = salp1;
         this.calp1 = calp1;
 
-        var p = GeoMath.sincosd(GeoMath.angRound(this.lat1));
+        GeoMath.sincosd(GeoMath.angRound(this.lat1), p);
         var sbet1 = f1 * p.getFirst();
         var cbet1 = p.getSecond();
 
         // ensure cbet1 = +epsilon at poles
-        p = GeoMath.norm(sbet1, cbet1);
+        GeoMath.norm(sbet1, cbet1, p);
         sbet1 = p.getFirst();
         cbet1 = Math.max(Geodesic.TINY, p.getSecond());
 
@@ -756,7 +1125,7 @@ public class GeodesicLine {
         somg1 = salp0 * sbet1;
         csig1 = comg1 = sbet1 != 0 || this.calp1 != 0 ? cbet1 * this.calp1 : 1;
 
-        p = GeoMath.norm(ssig1, csig1);
+        GeoMath.norm(ssig1, csig1, p);
         ssig1 = p.getFirst();
         // sig 1 in (-pi, pi]
         csig1 = p.getSecond();
@@ -768,7 +1137,9 @@ public class GeodesicLine {
 
         if ((this.caps & GeodesicMask.CAP_C1) != 0) {
             a1m1 = Geodesic.a1m1f(eps);
-            c1a = new double[NC1 + 1];
+            if (c1a == null) {
+                c1a = new double[NC1 + 1];
+            }
             Geodesic.c1f(eps, c1a);
             b11 = Geodesic.sinCosSeries(true, ssig1, csig1, c1a);
             final var s = Math.sin(b11);
@@ -781,26 +1152,34 @@ public class GeodesicLine {
         }
 
         if ((this.caps & GeodesicMask.CAP_C1P) != 0) {
-            c1pa = new double[NC1P + 1];
+            if (c1pa == null) {
+                c1pa = new double[NC1P + 1];
+            }
             Geodesic.c1pf(eps, c1pa);
         }
 
         if ((this.caps & GeodesicMask.CAP_C2) != 0) {
-            c2a = new double[NC2 + 1];
+            if (c2a == null) {
+                c2a = new double[NC2 + 1];
+            }
             a2m1 = Geodesic.a2m1f(eps);
             Geodesic.c2f(eps, c2a);
             b21 = Geodesic.sinCosSeries(true, ssig1, csig1, c2a);
         }
 
         if ((this.caps & GeodesicMask.CAP_C3) != 0) {
-            c3a = new double[NC3];
+            if (c3a == null) {
+                c3a = new double[NC3];
+            }
             g.c3f(eps, c3a);
             a3c = -f * salp0 * g.a3f(eps);
             b31 = Geodesic.sinCosSeries(true, ssig1, csig1, c3a);
         }
 
         if ((this.caps & GeodesicMask.CAP_C4) != 0) {
-            c4a = new double[NC4];
+            if (c4a == null) {
+                c4a = new double[NC4];
+            }
             g.c4f(eps, c4a);
             // multiplier = a^2 * e^2 * cos(alpha0) * sin(alpha0)
             a4 = GeoMath.sq(a) * calp0 * salp0 * g.e2;
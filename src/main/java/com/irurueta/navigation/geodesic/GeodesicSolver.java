@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.geodesic;
+
+/**
+ * Solves direct and inverse geodesic problems on an ellipsoid without allocating heap memory.
+ * Results are exactly the same as the ones returned by {@link Geodesic}, but they are stored into
+ * provided {@link GeodesicData} instances or returned as primitive values, and all scratch areas
+ * needed to solve each problem are allocated once and reused.
+ * Hence, instances are not thread-safe, and a different instance must be used on each thread.
+ * <p>
+ * Example of usage:
+ * <pre>
+ * {@code
+ * GeodesicSolver solver = new GeodesicSolver(Geodesic.WGS84);
+ * GeodesicData result = new GeodesicData();
+ * for (...) {
+ *     solver.inverse(lat1, lon1, lat2, lon2, result);
+ *     ...
+ * }
+ * }
+ * </pre>
+ */
+public class GeodesicSolver {
+
+    /**
+     * Ellipsoid where geodesic problems are solved.
+     */
+    private final Geodesic geodesic;
+
+    /**
+     * Scratch areas reused to solve inverse problems.
+     */
+    private final Geodesic.Scratch scratch = new Geodesic.Scratch();
+
+    /**
+     * Line reused to solve direct problems.
+     */
+    private final GeodesicLine line = new GeodesicLine();
+
+    /**
+     * Instance reused to return primitive results.
+     */
+    private final GeodesicData data = new GeodesicData();
+
+    /**
+     * Constructor.
+     *
+     * @param geodesic ellipsoid where geodesic problems are solved.
+     * @throws NullPointerException if provided ellipsoid is null.
+     */
+    public GeodesicSolver(final Geodesic geodesic) {
+        if (geodesic == null) {
+            throw new NullPointerException();
+        }
+        this.geodesic = geodesic;
+    }
+
+    /**
+     * Constructor using WGS84 ellipsoid.
+     */
+    public GeodesicSolver() {
+        this(Geodesic.WGS84);
+    }
+
+    /**
+     * Gets ellipsoid where geodesic problems are solved.
+     *
+     * @return ellipsoid where geodesic problems are solved.
+     */
+    public Geodesic getGeodesic() {
+        return geodesic;
+    }
+
+    /**
+     * Solves the inverse geodesic problem.
+     * This is equivalent to {@link Geodesic#inverse(double, double, double, double)}.
+     *
+     * @param lat1   latitude of point 1 (degrees).
+     * @param lon1   longitude of point 1 (degrees).
+     * @param lat2   latitude of point 2 (degrees).
+     * @param lon2   longitude of point 2 (degrees).
+     * @param result instance where <i>lat1</i>, <i>lon1</i>, <i>azi1</i>, <i>lat2</i>, <i>lon2</i>,
+     *               <i>azi2</i>, <i>s12</i> and <i>a12</i> will be stored.
+     */
+    public void inverse(final double lat1, final double lon1, final double lat2, final double lon2,
+                        final GeodesicData result) {
+        inverse(lat1, lon1, lat2, lon2, GeodesicMask.STANDARD, result);
+    }
+
+    /**
+     * Solves the inverse geodesic problem with a subset of the geodesic results returned.
+     * This is equivalent to {@link Geodesic#inverse(double, double, double, double, int)}.
+     *
+     * @param lat1    latitude of point 1 (degrees).
+     * @param lon1    longitude of point 1 (degrees).
+     * @param lat2    latitude of point 2 (degrees).
+     * @param lon2    longitude of point 2 (degrees).
+     * @param outmask a bitor'ed combination of {@link GeodesicMask} values specifying which
+     *                results should be returned.
+     * @param result  instance where results specified by <i>outmask</i> will be stored. Other
+     *                results are set to Double.NaN, except <i>lat1</i>, <i>lon1</i>, <i>lat2</i>,
+     *                <i>lon2</i>, and <i>a12</i>, which are always stored.
+     */
+    public void inverse(final double lat1, final double lon1, final double lat2, final double lon2,
+                        final int outmask, final GeodesicData result) {
+        geodesic.inverse(lat1, lon1, lat2, lon2, outmask, scratch, result);
+    }
+
+    /**
+     * Computes the distance between two points along the geodesic joining them.
+     * This is equivalent to obtaining <i>s12</i> from
+     * {@link Geodesic#inverse(double, double, double, double)}, but only the distance is computed.
+     *
+     * @param lat1 latitude of point 1 (degrees).
+     * @param lon1 longitude of point 1 (degrees).
+     * @param lat2 latitude of point 2 (degrees).
+     * @param lon2 longitude of point 2 (degrees).
+     * @return distance between point 1 and point 2 (meters).
+     */
+    public double distance(final double lat1, final double lon1, final double lat2, final double lon2) {
+        inverse(lat1, lon1, lat2, lon2, GeodesicMask.DISTANCE, data);
+        return data.getS12();
+    }
+
+    /**
+     * Solves the direct geodesic problem where the length of the geodesic is specified in terms of
+     * distance.
+     * This is equivalent to {@link Geodesic#direct(double, double, double, double)}.
+     *
+     * @param lat1   latitude of point 1 (degrees).
+     * @param lon1   longitude of point 1 (degrees).
+     * @param azi1   azimuth at point 1 (degrees).
+     * @param s12    distance between point 1 and point 2 (meters); it can be negative.
+     * @param result instance where <i>lat1</i>, <i>lon1</i>, <i>azi1</i>, <i>lat2</i>, <i>lon2</i>,
+     *               <i>azi2</i>, <i>s12</i> and <i>a12</i> will be stored.
+     */
+    public void direct(final double lat1, final double lon1, final double azi1, final double s12,
+                       final GeodesicData result) {
+        direct(lat1, lon1, azi1, false, s12, GeodesicMask.STANDARD, result);
+    }
+
+    /**
+     * Solves the direct geodesic problem where the length of the geodesic is specified in terms of
+     * arc length.
+     * This is equivalent to {@link Geodesic#arcDirect(double, double, double, double)}.
+     *
+     * @param lat1   latitude of point 1 (degrees).
+     * @param lon1   longitude of point 1 (degrees).
+     * @param azi1   azimuth at point 1 (degrees).
+     * @param a12    arc length between point 1 and point 2 (degrees); it can be negative.
+     * @param result instance where <i>lat1</i>, <i>lon1</i>, <i>azi1</i>, <i>lat2</i>, <i>lon2</i>,
+     *               <i>azi2</i>, <i>s12</i> and <i>a12</i> will be stored.
+     */
+    public void arcDirect(final double lat1, final double lon1, final double azi1, final double a12,
+                          final GeodesicData result) {
+        direct(lat1, lon1, azi1, true, a12, GeodesicMask.STANDARD, result);
+    }
+
+    /**
+     * The general direct geodesic problem.
+     * This is equivalent to {@link Geodesic#direct(double, double, double, boolean, double, int)}.
+     *
+     * @param lat1    latitude of point 1 (degrees).
+     * @param lon1    longitude of point 1 (degrees).
+     * @param azi1    azimuth at point 1 (degrees).
+     * @param arcmode boolean flag determining the meaning of the <i>s12A12</i>.
+     * @param s12A12  <i>arcmode</i> is false, this is the distance between point 1 and point 2 (meters);
+     *                otherwise it is the arc length between point 1 and point 2 (degrees); it can be
+     *                negative.
+     * @param outmask a bitor'ed combination of {@link GeodesicMask} values specifying which results
+     *                should be returned.
+     * @param result  instance where results specified by <i>outmask</i> will be stored. Other results
+     *                are set to Double.NaN.
+     */
+    public void direct(final double lat1, final double lon1, final double azi1, final boolean arcmode,
+                       final double s12A12, int outmask, final GeodesicData result) {
+        // automatically supply DISTANCE_IN if necessary
+        if (!arcmode) {
+            outmask |= GeodesicMask.DISTANCE_IN;
+        }
+        line.reset(geodesic, lat1, lon1, azi1, outmask, scratch.pair);
+        line.position(arcmode, s12A12, outmask, result, scratch.pair);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.geodesic;
+
+/**
+ * Listener to be notified of each waypoint generated when sampling a {@link GeodesicLine}.
+ */
+public interface GeodesicWaypointListener {
+
+    /**
+     * Called when a waypoint has been generated.
+     *
+     * @param line  geodesic line being sampled.
+     * @param index index of generated waypoint, starting at 0 for point 1 of the line.
+     * @param lat   latitude of waypoint (degrees).
+     * @param lon   longitude of waypoint (degrees).
+     * @param azi   azimuth at waypoint (degrees).
+     */
+    void onWaypoint(final GeodesicLine line, final int index, final double lat, final double lon,
+                    final double azi);
+}
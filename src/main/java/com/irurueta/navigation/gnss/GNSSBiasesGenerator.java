@@ -25,6 +25,7 @@ import com.irurueta.navigation.frames.converters.ECEFtoNEDPositionVelocityConver
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Generates the GNSS range errors due to signal in space, ionosphere and troposphere
@@ -177,19 +178,82 @@ public class GNSSBiasesGenerator {
         final var cen2 = cen.getElementAt(2, 1);
         final var cen3 = cen.getElementAt(2, 2);
 
-        var elevation = -Math.asin(cen1 * uaseX + cen2 * uaseY + cen3 * uaseZ);
+        final var elevation = -Math.asin(cen1 * uaseX + cen2 * uaseY + cen3 * uaseZ);
 
-        // Limit the minimum elevation angle to the masking angle
-        elevation = Math.max(elevation, Math.toRadians(config.getMaskAngleDegrees()));
+        return generateBias(elevation, config, random);
+    }
 
+    /**
+     * Generates range bias of a satellite at provided elevation.
+     *
+     * @param elevation satellite elevation expressed in radians (rad). Values
+     *                  below masking angle are limited to the masking angle.
+     * @param config    GNSS configuration.
+     * @param random    random number generator.
+     * @return generated range bias expressed in meters (m).
+     */
+    static double generateBias(final double elevation, final GNSSConfig config, final RandomGenerator random) {
         // Calculate ionosphere and troposphere error SDs using (9.79) and (9.80)
-        final var cosElevation = Math.cos(elevation);
-        final var cosElevation2 = cosElevation * cosElevation;
-        final var ionoSD = config.getZenithIonosphereErrorSD() / Math.sqrt(1.0 - IONO_FACTOR * cosElevation2);
-        final var tropSD = config.getZenithTroposphereErrorSD() / Math.sqrt(1.0 - TROPO_FACTOR * cosElevation2);
+        final var cosElevation2 = getSquaredCosElevation(elevation, config);
+        final var ionoSD = getIonosphereErrorSD(cosElevation2, config);
+        final var tropSD = getTroposphereErrorSD(cosElevation2, config);
 
         // Determine range bias
         return config.getSISErrorSD() * random.nextGaussian() + ionoSD * random.nextGaussian()
                 + tropSD * random.nextGaussian();
     }
+
+    /**
+     * Gets variance of range bias of a satellite at provided elevation, which
+     * contains signal in space, ionosphere and troposphere errors.
+     *
+     * @param elevation satellite elevation expressed in radians (rad). Values
+     *                  below masking angle are limited to the masking angle.
+     * @param config    GNSS configuration.
+     * @return variance of range bias expressed in squared meters (m^2).
+     */
+    static double getRangeBiasVariance(final double elevation, final GNSSConfig config) {
+        final var cosElevation2 = getSquaredCosElevation(elevation, config);
+        final var sisSD = config.getSISErrorSD();
+        final var ionoSD = getIonosphereErrorSD(cosElevation2, config);
+        final var tropSD = getTroposphereErrorSD(cosElevation2, config);
+        return sisSD * sisSD + ionoSD * ionoSD + tropSD * tropSD;
+    }
+
+    /**
+     * Gets squared cosine of provided elevation after limiting it to the
+     * masking angle.
+     *
+     * @param elevation satellite elevation expressed in radians (rad).
+     * @param config    GNSS configuration.
+     * @return squared cosine of limited elevation.
+     */
+    private static double getSquaredCosElevation(final double elevation, final GNSSConfig config) {
+        // Limit the minimum elevation angle to the masking angle
+        final var limitedElevation = Math.max(elevation, Math.toRadians(config.getMaskAngleDegrees()));
+        final var cosElevation = Math.cos(limitedElevation);
+        return cosElevation * cosElevation;
+    }
+
+    /**
+     * Gets ionosphere error standard deviation using (9.79).
+     *
+     * @param cosElevation2 squared cosine of satellite elevation.
+     * @param config        GNSS configuration.
+     * @return ionosphere error standard deviation expressed in meters (m).
+     */
+    private static double getIonosphereErrorSD(final double cosElevation2, final GNSSConfig config) {
+        return config.getZenithIonosphereErrorSD() / Math.sqrt(1.0 - IONO_FACTOR * cosElevation2);
+    }
+
+    /**
+     * Gets troposphere error standard deviation using (9.80).
+     *
+     * @param cosElevation2 squared cosine of satellite elevation.
+     * @param config        GNSS configuration.
+     * @return troposphere error standard deviation expressed in meters (m).
+     */
+    private static double getTroposphereErrorSD(final double cosElevation2, final GNSSConfig config) {
+        return config.getZenithTroposphereErrorSD() / Math.sqrt(1.0 - TROPO_FACTOR * cosElevation2);
+    }
 }
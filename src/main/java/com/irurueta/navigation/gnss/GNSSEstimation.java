@@ -826,6 +826,29 @@ public class GNSSEstimation implements Serializable, Cloneable {
         result[7] = clockDrift;
     }
 
+    /**
+     * Converts state data into a larger array starting at provided position.
+     *
+     * @param result instance where state data will be stored.
+     * @param offset position where state data will be stored.
+     * @throws IllegalArgumentException if provided array has not enough room to store
+     *                                  8 values starting at provided position.
+     */
+    public void asArray(final double[] result, final int offset) {
+        if (offset < 0 || offset + NUM_PARAMETERS > result.length) {
+            throw new IllegalArgumentException();
+        }
+
+        result[offset] = x;
+        result[offset + 1] = y;
+        result[offset + 2] = z;
+        result[offset + 3] = vx;
+        result[offset + 4] = vy;
+        result[offset + 5] = vz;
+        result[offset + 6] = clockOffset;
+        result[offset + 7] = clockDrift;
+    }
+
     /**
      * Converts state data into an array.
      *
@@ -858,6 +881,30 @@ public class GNSSEstimation implements Serializable, Cloneable {
         clockDrift = array[7];
     }
 
+    /**
+     * Sets values of a larger array starting at provided position into this
+     * instance state.
+     *
+     * @param array  array to copy data from.
+     * @param offset position of first value to be copied.
+     * @throws IllegalArgumentException if provided array does not contain 8 values
+     *                                  starting at provided position.
+     */
+    public void fromArray(final double[] array, final int offset) {
+        if (offset < 0 || offset + NUM_PARAMETERS > array.length) {
+            throw new IllegalArgumentException();
+        }
+
+        x = array[offset];
+        y = array[offset + 1];
+        z = array[offset + 2];
+        vx = array[offset + 3];
+        vy = array[offset + 4];
+        vz = array[offset + 5];
+        clockOffset = array[offset + 6];
+        clockDrift = array[offset + 7];
+    }
+
     /**
      * Converts state data into a column matrix.
      * If provided matrix is not 8x1 it will be resized.
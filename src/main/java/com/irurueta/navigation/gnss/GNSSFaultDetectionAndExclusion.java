@@ -0,0 +1,670 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.gnss;
+
+import com.irurueta.navigation.geodesic.Constants;
+import com.irurueta.statistics.ChiSqDist;
+import com.irurueta.statistics.MaxIterationsExceededException;
+
+import java.util.Arrays;
+
+/**
+ * Detects and excludes faulty pseudo-range measurements of a GNSS position fix
+ * using receiver autonomous integrity monitoring (RAIM).
+ * Pseudo-range residuals of a least squares solution are tested using a
+ * chi-square test on their weighted sum of squares. When a fault is detected, the
+ * satellite whose exclusion reduces the most the sum of squared residuals is
+ * excluded, and the process is repeated until residuals are consistent or no more
+ * satellites can be excluded.
+ * Leave-one-out solutions are not solved from scratch. Instead, the effect of
+ * removing each satellite on residuals and solution is obtained from the inverse
+ * of the normal matrix, and once a satellite is excluded the inverse is updated
+ * using a rank-one downdate (Sherman-Morrison formula).
+ * Internal buffers are only reallocated when a larger number of measurements is
+ * processed.
+ * This class is not thread-safe.
+ */
+public class GNSSFaultDetectionAndExclusion {
+
+    /**
+     * Default probability of false alarm of chi-square test.
+     */
+    public static final double DEFAULT_PROBABILITY_OF_FALSE_ALARM = 1e-3;
+
+    /**
+     * Default standard deviation of pseudo-range measurements expressed in
+     * meters (m), used when no pseudo-range variances are provided.
+     */
+    public static final double DEFAULT_PSEUDO_RANGE_STANDARD_DEVIATION = 5.0;
+
+    /**
+     * Default maximum number of satellites that can be excluded.
+     */
+    public static final int DEFAULT_MAX_EXCLUSIONS = 2;
+
+    /**
+     * Minimum number of measurements required to detect faults.
+     * At least one redundant measurement is required besides the 4 unknowns of
+     * position and clock offset.
+     */
+    public static final int MIN_MEASUREMENTS = GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS + 1;
+
+    /**
+     * Speed of light in the vacuum expressed in meters per second (m/s).
+     */
+    private static final double SPEED_OF_LIGHT = Constants.SPEED_OF_LIGHT;
+
+    /**
+     * Earth rotation rate expressed in radians per second (rad/s).
+     */
+    private static final double EARTH_ROTATION_RATE = Constants.EARTH_ROTATION_RATE;
+
+    /**
+     * Number of unknowns of position and clock offset.
+     */
+    private static final int N = GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS;
+
+    /**
+     * Minimum value of one minus the leverage of a measurement so that it can be
+     * excluded. Measurements having larger leverage are required to solve
+     * position and cannot be excluded.
+     */
+    private static final double MIN_REDUNDANCY = 1e-9;
+
+    /**
+     * Probability of false alarm of chi-square test.
+     */
+    private double probabilityOfFalseAlarm = DEFAULT_PROBABILITY_OF_FALSE_ALARM;
+
+    /**
+     * Standard deviation of pseudo-range measurements expressed in meters (m),
+     * used when no pseudo-range variances are provided.
+     */
+    private double pseudoRangeStandardDeviation = DEFAULT_PSEUDO_RANGE_STANDARD_DEVIATION;
+
+    /**
+     * Maximum number of satellites that can be excluded.
+     */
+    private int maxExclusions = DEFAULT_MAX_EXCLUSIONS;
+
+    /**
+     * Chi-square thresholds for each number of degrees of freedom, lazily computed
+     * for current probability of false alarm.
+     */
+    private double[] thresholds = new double[0];
+
+    /**
+     * Indicates whether a fault was detected during last processing.
+     */
+    private boolean faultDetected;
+
+    /**
+     * Indicates whether residuals were consistent at the end of last processing,
+     * either because no fault was detected or because faulty satellites were
+     * excluded.
+     */
+    private boolean consistent;
+
+    /**
+     * Weighted sum of squared residuals at the end of last processing.
+     */
+    private double testStatistic = Double.NaN;
+
+    /**
+     * Chi-square threshold of the test at the end of last processing.
+     */
+    private double threshold = Double.NaN;
+
+    /**
+     * Number of measurements of last processing.
+     */
+    private int numberOfMeasurements;
+
+    /**
+     * Number of excluded satellites during last processing.
+     */
+    private int numberOfExcludedMeasurements;
+
+    /**
+     * Indicates which measurements have been excluded.
+     */
+    private boolean[] excluded = new boolean[0];
+
+    /**
+     * Rows of measurement matrix (4 values per measurement).
+     */
+    private double[] h = new double[0];
+
+    /**
+     * Pseudo-range residuals.
+     */
+    private double[] residuals = new double[0];
+
+    /**
+     * Measurement weights.
+     */
+    private double[] weights = new double[0];
+
+    /**
+     * Position and clock offset solution.
+     */
+    private final double[] x = new double[N];
+
+    /**
+     * Normal matrix, which is overwritten with its Cholesky factor.
+     */
+    private final double[] normal = new double[N * N];
+
+    /**
+     * Inverse of normal matrix.
+     */
+    private final double[] normalInverse = new double[N * N];
+
+    /**
+     * Inverse of normal matrix multiplied by a row of measurement matrix.
+     */
+    private final double[] u = new double[N];
+
+    /**
+     * Constructor.
+     */
+    public GNSSFaultDetectionAndExclusion() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param probabilityOfFalseAlarm probability of false alarm of chi-square test.
+     * @throws IllegalArgumentException if probability is not between 0.0 and 1.0.
+     */
+    public GNSSFaultDetectionAndExclusion(final double probabilityOfFalseAlarm) {
+        setProbabilityOfFalseAlarm(probabilityOfFalseAlarm);
+    }
+
+    /**
+     * Gets probability of false alarm of chi-square test.
+     *
+     * @return probability of false alarm.
+     */
+    public double getProbabilityOfFalseAlarm() {
+        return probabilityOfFalseAlarm;
+    }
+
+    /**
+     * Sets probability of false alarm of chi-square test.
+     *
+     * @param probabilityOfFalseAlarm probability of false alarm.
+     * @throws IllegalArgumentException if probability is not between 0.0 and 1.0.
+     */
+    public void setProbabilityOfFalseAlarm(final double probabilityOfFalseAlarm) {
+        if (!(probabilityOfFalseAlarm > 0.0 && probabilityOfFalseAlarm < 1.0)) {
+            throw new IllegalArgumentException();
+        }
+
+        this.probabilityOfFalseAlarm = probabilityOfFalseAlarm;
+        Arrays.fill(thresholds, 0.0);
+    }
+
+    /**
+     * Gets standard deviation of pseudo-range measurements expressed in meters (m),
+     * used when no pseudo-range variances are provided.
+     *
+     * @return standard deviation of pseudo-range measurements.
+     */
+    public double getPseudoRangeStandardDeviation() {
+        return pseudoRangeStandardDeviation;
+    }
+
+    /**
+     * Sets standard deviation of pseudo-range measurements expressed in meters (m),
+     * used when no pseudo-range variances are provided.
+     *
+     * @param pseudoRangeStandardDeviation standard deviation of pseudo-range
+     *                                     measurements.
+     * @throws IllegalArgumentException if provided value is zero or negative.
+     */
+    public void setPseudoRangeStandardDeviation(final double pseudoRangeStandardDeviation) {
+        if (!(pseudoRangeStandardDeviation > 0.0)) {
+            throw new IllegalArgumentException();
+        }
+
+        this.pseudoRangeStandardDeviation = pseudoRangeStandardDeviation;
+    }
+
+    /**
+     * Gets maximum number of satellites that can be excluded.
+     *
+     * @return maximum number of satellites that can be excluded.
+     */
+    public int getMaxExclusions() {
+        return maxExclusions;
+    }
+
+    /**
+     * Sets maximum number of satellites that can be excluded.
+     * When zero, faults are only detected.
+     *
+     * @param maxExclusions maximum number of satellites that can be excluded.
+     * @throws IllegalArgumentException if provided value is negative.
+     */
+    public void setMaxExclusions(final int maxExclusions) {
+        if (maxExclusions < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.maxExclusions = maxExclusions;
+    }
+
+    /**
+     * Indicates whether a fault was detected during last processing.
+     *
+     * @return true if a fault was detected, false otherwise.
+     */
+    public boolean isFaultDetected() {
+        return faultDetected;
+    }
+
+    /**
+     * Indicates whether residuals were consistent at the end of last processing,
+     * either because no fault was detected or because faulty satellites were
+     * excluded.
+     * When not enough measurements were available to test residuals, this
+     * method returns false.
+     *
+     * @return true if residuals were consistent, false otherwise.
+     */
+    public boolean isConsistent() {
+        return consistent;
+    }
+
+    /**
+     * Gets weighted sum of squared residuals at the end of last processing.
+     *
+     * @return weighted sum of squared residuals or NaN if not available.
+     */
+    public double getTestStatistic() {
+        return testStatistic;
+    }
+
+    /**
+     * Gets chi-square threshold of the test at the end of last processing.
+     *
+     * @return chi-square threshold or NaN if not available.
+     */
+    public double getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Gets number of measurements of last processing.
+     *
+     * @return number of measurements of last processing.
+     */
+    public int getNumberOfMeasurements() {
+        return numberOfMeasurements;
+    }
+
+    /**
+     * Gets number of excluded satellites during last processing.
+     *
+     * @return number of excluded satellites.
+     */
+    public int getNumberOfExcludedMeasurements() {
+        return numberOfExcludedMeasurements;
+    }
+
+    /**
+     * Indicates whether measurement at provided position was excluded during last
+     * processing.
+     *
+     * @param index position of measurement.
+     * @return true if measurement was excluded, false otherwise.
+     * @throws IllegalArgumentException if index is not valid for last processed
+     *                                  measurements.
+     */
+    public boolean isExcluded(final int index) {
+        if (index < 0 || index >= numberOfMeasurements) {
+            throw new IllegalArgumentException();
+        }
+        return excluded[index];
+    }
+
+    /**
+     * Detects and excludes faulty measurements.
+     * Provided estimation must be a least squares solution of provided
+     * measurements. When any satellite is excluded, position and clock offset of
+     * provided estimation are updated with the solution of remaining satellites,
+     * linearized around provided solution.
+     *
+     * @param measurements         buffer containing
+     *                             {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH}
+     *                             values per satellite measurement.
+     * @param offset               position of first measurement value.
+     * @param numberOfMeasurements number of satellite measurements.
+     * @param variances            variances of pseudo-range measurements expressed
+     *                             in squared meters (m^2), or null to use
+     *                             configured pseudo-range standard deviation.
+     * @param estimation           least squares solution of provided measurements.
+     *                             It is updated when any satellite is excluded.
+     * @return number of excluded satellites.
+     * @throws IllegalArgumentException if buffer does not contain provided number of
+     *                                  measurements or not enough variances are
+     *                                  provided.
+     * @throws GNSSException            if satellite geometry is degenerate or
+     *                                  chi-square threshold cannot be computed.
+     */
+    public int detectAndExclude(final double[] measurements, final int offset, final int numberOfMeasurements,
+                                final double[] variances, final GNSSEstimation estimation) throws GNSSException {
+        if (offset < 0 || numberOfMeasurements < 0 || offset + (long) numberOfMeasurements
+                * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH > measurements.length) {
+            throw new IllegalArgumentException();
+        }
+        if (variances != null && variances.length < numberOfMeasurements) {
+            throw new IllegalArgumentException();
+        }
+
+        ensureCapacity(numberOfMeasurements);
+        Arrays.fill(excluded, 0, numberOfMeasurements, false);
+        this.numberOfMeasurements = numberOfMeasurements;
+        numberOfExcludedMeasurements = 0;
+        faultDetected = false;
+        consistent = false;
+        testStatistic = Double.NaN;
+        threshold = Double.NaN;
+
+        if (numberOfMeasurements < MIN_MEASUREMENTS) {
+            return 0;
+        }
+
+        x[0] = estimation.getX();
+        x[1] = estimation.getY();
+        x[2] = estimation.getZ();
+        x[3] = estimation.getClockOffset();
+        linearize(measurements, offset, numberOfMeasurements, variances);
+
+        // Solve normal equations of linearized problem, so that residuals are
+        // consistent with weights even if provided solution was not weighted
+        Arrays.fill(normal, 0.0);
+        Arrays.fill(u, 0.0);
+        for (var j = 0; j < numberOfMeasurements; j++) {
+            final var base = j * N;
+            final var w = weights[j];
+            for (var k = 0; k < N; k++) {
+                final var wh = w * h[base + k];
+                u[k] += wh * residuals[j];
+                for (var l = 0; l <= k; l++) {
+                    normal[k * N + l] += wh * h[base + l];
+                }
+            }
+        }
+        if (!GNSSLeastSquaresPositionAndVelocityEstimator.choleskyDecompose(normal, N)) {
+            throw new GNSSException();
+        }
+        GNSSLeastSquaresPositionAndVelocityEstimator.choleskyInverse(normal, normalInverse, N);
+        GNSSLeastSquaresPositionAndVelocityEstimator.choleskySubstitute(normal, u, 0, N);
+        applyCorrection(u, numberOfMeasurements);
+
+        var remaining = numberOfMeasurements;
+        while (true) {
+            testStatistic = computeTestStatistic(numberOfMeasurements);
+            threshold = getThreshold(remaining - N);
+            if (testStatistic <= threshold) {
+                consistent = true;
+                break;
+            }
+
+            faultDetected = true;
+
+            // at least one redundant measurement must remain to verify exclusion
+            if (numberOfExcludedMeasurements >= maxExclusions || remaining - 1 < MIN_MEASUREMENTS) {
+                break;
+            }
+
+            // find satellite whose exclusion reduces the most the sum of squared
+            // residuals: SSE(i) = SSE - w_i * r_i^2 / (1 - p_i), where
+            // p_i = w_i * h_i^T * N^-1 * h_i is the leverage of measurement i.
+            var best = -1;
+            var bestReduction = 0.0;
+            for (var j = 0; j < numberOfMeasurements; j++) {
+                if (excluded[j]) {
+                    continue;
+                }
+                final var redundancy = 1.0 - weights[j] * quadraticForm(j);
+                if (redundancy < MIN_REDUNDANCY) {
+                    continue;
+                }
+                final var reduction = weights[j] * residuals[j] * residuals[j] / redundancy;
+                if (best < 0 || reduction > bestReduction) {
+                    best = j;
+                    bestReduction = reduction;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+
+            exclude(best, numberOfMeasurements);
+            remaining--;
+        }
+
+        if (numberOfExcludedMeasurements > 0) {
+            estimation.setPositionCoordinates(x[0], x[1], x[2]);
+            estimation.setClockOffset(x[3]);
+        }
+        return numberOfExcludedMeasurements;
+    }
+
+    /**
+     * Removes measurements excluded during last processing from provided buffer,
+     * moving remaining measurements so that they are contiguous and keep their
+     * order.
+     *
+     * @param measurements buffer containing measurements of last processing.
+     * @param offset       position of first measurement value.
+     * @return number of remaining measurements.
+     */
+    public int removeExcluded(final double[] measurements, final int offset) {
+        var remaining = 0;
+        for (var j = 0; j < numberOfMeasurements; j++) {
+            if (excluded[j]) {
+                continue;
+            }
+            if (remaining != j) {
+                System.arraycopy(measurements, offset + j * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH,
+                        measurements, offset + remaining * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH,
+                        GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH);
+            }
+            remaining++;
+        }
+        return remaining;
+    }
+
+    /**
+     * Excludes provided measurement, updating solution and residuals of remaining
+     * measurements and downdating the inverse of the normal matrix.
+     *
+     * @param index                position of measurement to be excluded.
+     * @param numberOfMeasurements number of measurements.
+     */
+    private void exclude(final int index, final int numberOfMeasurements) {
+        final var w = weights[index];
+        final var p = w * quadraticForm(index);
+        final var redundancy = 1.0 - p;
+
+        // u contains N^-1 * h_i after computing quadratic form.
+        // Leave-one-out solution: x(i) = x - N^-1 * h_i * w_i * r_i / (1 - p_i)
+        final var scale = -w * residuals[index] / redundancy;
+        final var ui0 = u[0];
+        final var ui1 = u[1];
+        final var ui2 = u[2];
+        final var ui3 = u[3];
+
+        // Sherman-Morrison downdate:
+        // (N - w_i * h_i * h_i^T)^-1 = N^-1 + w_i * u_i * u_i^T / (1 - p_i)
+        final var factor = w / redundancy;
+        for (var k = 0; k < N; k++) {
+            for (var l = 0; l < N; l++) {
+                normalInverse[k * N + l] += factor * u[k] * u[l];
+            }
+        }
+
+        u[0] = scale * ui0;
+        u[1] = scale * ui1;
+        u[2] = scale * ui2;
+        u[3] = scale * ui3;
+
+        excluded[index] = true;
+        numberOfExcludedMeasurements++;
+        applyCorrection(u, numberOfMeasurements);
+    }
+
+    /**
+     * Applies a correction to the solution and updates residuals of all
+     * measurements accordingly.
+     *
+     * @param dx                   correction to be applied.
+     * @param numberOfMeasurements number of measurements.
+     */
+    private void applyCorrection(final double[] dx, final int numberOfMeasurements) {
+        for (var k = 0; k < N; k++) {
+            x[k] += dx[k];
+        }
+        for (var j = 0; j < numberOfMeasurements; j++) {
+            final var base = j * N;
+            residuals[j] -= h[base] * dx[0] + h[base + 1] * dx[1] + h[base + 2] * dx[2] + h[base + 3] * dx[3];
+        }
+    }
+
+    /**
+     * Computes h_i^T * N^-1 * h_i for provided measurement, leaving N^-1 * h_i in
+     * internal vector u.
+     *
+     * @param index position of measurement.
+     * @return quadratic form value.
+     */
+    private double quadraticForm(final int index) {
+        final var base = index * N;
+        var result = 0.0;
+        for (var k = 0; k < N; k++) {
+            var sum = 0.0;
+            for (var l = 0; l < N; l++) {
+                sum += normalInverse[k * N + l] * h[base + l];
+            }
+            u[k] = sum;
+            result += h[base + k] * sum;
+        }
+        return result;
+    }
+
+    /**
+     * Computes weighted sum of squared residuals of non excluded measurements.
+     *
+     * @param numberOfMeasurements number of measurements.
+     * @return weighted sum of squared residuals.
+     */
+    private double computeTestStatistic(final int numberOfMeasurements) {
+        var result = 0.0;
+        for (var j = 0; j < numberOfMeasurements; j++) {
+            if (!excluded[j]) {
+                result += weights[j] * residuals[j] * residuals[j];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes measurement matrix rows, residuals and weights at current solution.
+     *
+     * @param measurements         buffer containing measurements.
+     * @param offset               position of first measurement value.
+     * @param numberOfMeasurements number of measurements.
+     * @param variances            variances of pseudo-range measurements or null.
+     */
+    private void linearize(final double[] measurements, final int offset, final int numberOfMeasurements,
+                           final double[] variances) {
+        final var defaultWeight = 1.0 / (pseudoRangeStandardDeviation * pseudoRangeStandardDeviation);
+        for (var j = 0; j < numberOfMeasurements; j++) {
+            final var base = offset + j * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+            final var measX = measurements[base + 2];
+            final var measY = measurements[base + 3];
+            final var measZ = measurements[base + 4];
+
+            var deltaRx = measX - x[0];
+            var deltaRy = measY - x[1];
+            var deltaRz = measZ - x[2];
+            final var approxRange = Math.sqrt(deltaRx * deltaRx + deltaRy * deltaRy + deltaRz * deltaRz);
+
+            // Calculate frame rotation during signal transit time using (8.36)
+            final var ceiValue = EARTH_ROTATION_RATE * approxRange / SPEED_OF_LIGHT;
+
+            // Predict pseudo-range using (9.143)
+            deltaRx = measX + ceiValue * measY - x[0];
+            deltaRy = measY - ceiValue * measX - x[1];
+            deltaRz = measZ - x[2];
+            final var range = Math.sqrt(deltaRx * deltaRx + deltaRy * deltaRy + deltaRz * deltaRz);
+
+            final var hBase = j * N;
+            h[hBase] = -deltaRx / range;
+            h[hBase + 1] = -deltaRy / range;
+            h[hBase + 2] = -deltaRz / range;
+            h[hBase + 3] = 1.0;
+
+            residuals[j] = measurements[base] - (range + x[3]);
+            weights[j] = variances != null ? 1.0 / variances[j] : defaultWeight;
+        }
+    }
+
+    /**
+     * Gets chi-square threshold for provided degrees of freedom and current
+     * probability of false alarm.
+     *
+     * @param degreesOfFreedom degrees of freedom.
+     * @return chi-square threshold.
+     * @throws GNSSException if threshold cannot be computed.
+     */
+    private double getThreshold(final int degreesOfFreedom) throws GNSSException {
+        if (thresholds.length <= degreesOfFreedom) {
+            thresholds = Arrays.copyOf(thresholds, degreesOfFreedom + 1);
+        }
+
+        var result = thresholds[degreesOfFreedom];
+        if (result <= 0.0) {
+            try {
+                result = ChiSqDist.invcdf(1.0 - probabilityOfFalseAlarm, degreesOfFreedom);
+            } catch (final MaxIterationsExceededException e) {
+                throw new GNSSException(e);
+            }
+            thresholds[degreesOfFreedom] = result;
+        }
+        return result;
+    }
+
+    /**
+     * Ensures that internal buffers can hold provided number of measurements.
+     *
+     * @param numberOfMeasurements number of measurements.
+     */
+    private void ensureCapacity(final int numberOfMeasurements) {
+        if (excluded.length >= numberOfMeasurements) {
+            return;
+        }
+
+        excluded = new boolean[numberOfMeasurements];
+        h = new double[N * numberOfMeasurements];
+        residuals = new double[numberOfMeasurements];
+        weights = new double[numberOfMeasurements];
+    }
+}
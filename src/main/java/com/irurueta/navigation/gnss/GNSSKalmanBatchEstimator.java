@@ -0,0 +1,488 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.gnss;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.RankDeficientMatrixException;
+import com.irurueta.algebra.WrongSizeException;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs GNSS Kalman filter epochs for many receivers at once.
+ * States and covariances of all receivers are kept in two contiguous primitive
+ * arrays (one for states and one for covariances), so that no intermediate objects
+ * are created for each receiver.
+ * Receivers are processed in chunks, and chunks are distributed among the threads
+ * of a {@link ForkJoinPool} when parallel execution is enabled. Each chunk reuses
+ * its own {@link GNSSKalmanEpochWorkspace}, hence once all workspaces have grown to
+ * the maximum number of satellites no further allocations are made.
+ * Since receivers are independent, results for each receiver are exactly the same
+ * as the ones obtained through
+ * {@link GNSSKalmanEpochEstimator#estimate(java.util.Collection, double, GNSSKalmanState, GNSSKalmanConfig)},
+ * regardless of whether execution is parallel or not.
+ * This class is not thread-safe.
+ */
+public class GNSSKalmanBatchEstimator {
+
+    /**
+     * Default number of receivers processed by each parallel task.
+     */
+    public static final int DEFAULT_RECEIVERS_PER_TASK = 64;
+
+    /**
+     * Number of values stored for each receiver state.
+     */
+    public static final int STATE_LENGTH = GNSSEstimation.NUM_PARAMETERS;
+
+    /**
+     * Number of values stored for each receiver covariance.
+     */
+    public static final int COVARIANCE_LENGTH = STATE_LENGTH * STATE_LENGTH;
+
+    /**
+     * Number of receivers.
+     */
+    private final int numberOfReceivers;
+
+    /**
+     * System configuration shared by all receivers.
+     */
+    private final GNSSKalmanConfig config;
+
+    /**
+     * Number of receivers processed by each task.
+     */
+    private final int receiversPerTask;
+
+    /**
+     * States of all receivers. State of receiver r is stored starting at position
+     * r * {@link #STATE_LENGTH}.
+     */
+    private final double[] states;
+
+    /**
+     * Covariances of all receivers stored in column-major order. Covariance of
+     * receiver r is stored starting at position r * {@link #COVARIANCE_LENGTH}.
+     */
+    private final double[] covariances;
+
+    /**
+     * Indicates which receivers could not be updated during last estimation.
+     */
+    private final boolean[] failed;
+
+    /**
+     * Workspaces to be reused by each task.
+     */
+    private final GNSSKalmanEpochWorkspace[] workspaces;
+
+    /**
+     * Indicates whether receivers are processed in parallel.
+     */
+    private boolean parallel = true;
+
+    /**
+     * Constructor.
+     *
+     * @param numberOfReceivers number of receivers.
+     * @param config            system configuration shared by all receivers.
+     * @throws IllegalArgumentException if number of receivers is zero or negative.
+     */
+    public GNSSKalmanBatchEstimator(final int numberOfReceivers, final GNSSKalmanConfig config) {
+        this(numberOfReceivers, config, DEFAULT_RECEIVERS_PER_TASK);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param numberOfReceivers number of receivers.
+     * @param config            system configuration shared by all receivers.
+     * @param receiversPerTask  number of receivers processed by each parallel task.
+     * @throws IllegalArgumentException if number of receivers or receivers per task
+     *                                  is zero or negative.
+     */
+    public GNSSKalmanBatchEstimator(final int numberOfReceivers, final GNSSKalmanConfig config,
+                                    final int receiversPerTask) {
+        if (numberOfReceivers <= 0 || receiversPerTask <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.numberOfReceivers = numberOfReceivers;
+        this.config = new GNSSKalmanConfig(config);
+        this.receiversPerTask = receiversPerTask;
+
+        states = new double[numberOfReceivers * STATE_LENGTH];
+        covariances = new double[numberOfReceivers * COVARIANCE_LENGTH];
+        failed = new boolean[numberOfReceivers];
+        workspaces = new GNSSKalmanEpochWorkspace[(numberOfReceivers + receiversPerTask - 1) / receiversPerTask];
+    }
+
+    /**
+     * Gets number of receivers.
+     *
+     * @return number of receivers.
+     */
+    public int getNumberOfReceivers() {
+        return numberOfReceivers;
+    }
+
+    /**
+     * Gets system configuration shared by all receivers.
+     *
+     * @return system configuration.
+     */
+    public GNSSKalmanConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Gets number of receivers processed by each parallel task.
+     *
+     * @return number of receivers processed by each parallel task.
+     */
+    public int getReceiversPerTask() {
+        return receiversPerTask;
+    }
+
+    /**
+     * Indicates whether receivers are processed in parallel using the common
+     * {@link ForkJoinPool}.
+     *
+     * @return true if receivers are processed in parallel, false otherwise.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Specifies whether receivers are processed in parallel using the common
+     * {@link ForkJoinPool}.
+     *
+     * @param parallel true to process receivers in parallel, false otherwise.
+     */
+    public void setParallel(final boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Gets internal array containing states of all receivers.
+     * State of receiver r is stored starting at position r * {@link #STATE_LENGTH}
+     * following the order of {@link GNSSEstimation#asArray()}.
+     *
+     * @return states of all receivers.
+     */
+    public double[] getStates() {
+        return states;
+    }
+
+    /**
+     * Gets internal array containing covariances of all receivers.
+     * Covariance of receiver r is stored in column-major order starting at
+     * position r * {@link #COVARIANCE_LENGTH}.
+     *
+     * @return covariances of all receivers.
+     */
+    public double[] getCovariances() {
+        return covariances;
+    }
+
+    /**
+     * Initializes state of a receiver using provided estimation and initial
+     * uncertainties defined in configuration, in the same way as
+     * {@link GNSSKalmanInitializer}.
+     *
+     * @param receiver   receiver index.
+     * @param estimation initial GNSS estimation.
+     * @throws IndexOutOfBoundsException if receiver index is not valid.
+     */
+    public void initialize(final int receiver, final GNSSEstimation estimation) {
+        checkReceiver(receiver);
+
+        final var stateOffset = receiver * STATE_LENGTH;
+        estimation.asArray(states, stateOffset);
+
+        final var initPosUnc = config.getInitialPositionUncertainty();
+        final var initVelUnc = config.getInitialVelocityUncertainty();
+        final var initClockOffsetUnc = config.getInitialClockOffsetUncertainty();
+        final var initClockDriftUnc = config.getInitialClockDriftUncertainty();
+
+        final var initPosUnc2 = initPosUnc * initPosUnc;
+        final var initVelUnc2 = initVelUnc * initVelUnc;
+
+        final var offset = receiver * COVARIANCE_LENGTH;
+        Arrays.fill(covariances, offset, offset + COVARIANCE_LENGTH, 0.0);
+        for (var i = 0; i < 3; i++) {
+            covariances[offset + i * STATE_LENGTH + i] = initPosUnc2;
+            covariances[offset + (i + 3) * STATE_LENGTH + i + 3] = initVelUnc2;
+        }
+        covariances[offset + 6 * STATE_LENGTH + 6] = initClockOffsetUnc * initClockOffsetUnc;
+        covariances[offset + 7 * STATE_LENGTH + 7] = initClockDriftUnc * initClockDriftUnc;
+    }
+
+    /**
+     * Sets state of a receiver.
+     *
+     * @param receiver receiver index.
+     * @param state    Kalman filter state to be set. Must contain both estimation
+     *                 and covariance.
+     * @throws IndexOutOfBoundsException if receiver index is not valid.
+     * @throws IllegalArgumentException  if provided state has no estimation or
+     *                                   covariance.
+     */
+    public void setState(final int receiver, final GNSSKalmanState state) {
+        checkReceiver(receiver);
+
+        final var estimation = state.getEstimation();
+        final var covariance = state.getCovariance();
+        if (estimation == null || covariance == null) {
+            throw new IllegalArgumentException();
+        }
+
+        estimation.asArray(states, receiver * STATE_LENGTH);
+        System.arraycopy(covariance.getBuffer(), 0, covariances, receiver * COVARIANCE_LENGTH,
+                COVARIANCE_LENGTH);
+    }
+
+    /**
+     * Gets state of a receiver.
+     * If provided result has no estimation or covariance, new instances are
+     * created, otherwise existing ones are reused.
+     *
+     * @param receiver receiver index.
+     * @param result   instance where state will be stored.
+     * @throws IndexOutOfBoundsException if receiver index is not valid.
+     */
+    public void getState(final int receiver, final GNSSKalmanState result) {
+        checkReceiver(receiver);
+
+        var estimation = result.getEstimation();
+        if (estimation == null) {
+            estimation = new GNSSEstimation();
+            result.setEstimation(estimation);
+        }
+        estimation.fromArray(states, receiver * STATE_LENGTH);
+
+        var covariance = result.getCovariance();
+        if (covariance == null) {
+            try {
+                covariance = new Matrix(STATE_LENGTH, STATE_LENGTH);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+            result.setCovariance(covariance);
+        }
+        System.arraycopy(covariances, receiver * COVARIANCE_LENGTH, covariance.getBuffer(), 0,
+                COVARIANCE_LENGTH);
+    }
+
+    /**
+     * Gets state of a receiver.
+     *
+     * @param receiver receiver index.
+     * @return Kalman filter state of receiver.
+     * @throws IndexOutOfBoundsException if receiver index is not valid.
+     */
+    public GNSSKalmanState getState(final int receiver) {
+        final var result = new GNSSKalmanState();
+        getState(receiver, result);
+        return result;
+    }
+
+    /**
+     * Indicates whether provided receiver could not be updated during last
+     * estimation because of numerical instabilities.
+     *
+     * @param receiver receiver index.
+     * @return true if receiver could not be updated, false otherwise.
+     * @throws IndexOutOfBoundsException if receiver index is not valid.
+     */
+    public boolean isFailed(final int receiver) {
+        checkReceiver(receiver);
+        return failed[receiver];
+    }
+
+    /**
+     * Propagates and updates states of all receivers for a single epoch.
+     * Measurements of all receivers are stored consecutively into a single buffer
+     * containing {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH} values per
+     * satellite. Receiver r uses satellites from receiverOffsets[r] (inclusive) to
+     * receiverOffsets[r + 1] (exclusive), hence receiver offsets must be
+     * non-decreasing. Receivers without satellites are only propagated.
+     * States of receivers that cannot be updated because of numerical instabilities
+     * are left unchanged and can be identified through {@link #isFailed(int)}.
+     *
+     * @param measurements        buffer containing measurements of all receivers.
+     * @param receiverOffsets     index of first satellite of each receiver, followed
+     *                            by total number of satellites. Must have number of
+     *                            receivers + 1 length.
+     * @param propagationInterval propagation interval expressed in seconds (s).
+     * @throws IllegalArgumentException if receiver offsets are not valid or
+     *                                  measurements buffer is too small.
+     * @throws GNSSException            if any receiver could not be updated because
+     *                                  of numerical instabilities.
+     */
+    public void estimate(final double[] measurements, final int[] receiverOffsets,
+                         final double propagationInterval) throws GNSSException {
+        if (receiverOffsets.length != numberOfReceivers + 1 || receiverOffsets[0] < 0) {
+            throw new IllegalArgumentException();
+        }
+        for (var r = 0; r < numberOfReceivers; r++) {
+            if (receiverOffsets[r + 1] < receiverOffsets[r]) {
+                throw new IllegalArgumentException();
+            }
+        }
+        if ((long) receiverOffsets[numberOfReceivers] * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH
+                > measurements.length) {
+            throw new IllegalArgumentException();
+        }
+
+        final var task = new EstimationTask(measurements, receiverOffsets, propagationInterval,
+                0, workspaces.length);
+        if (parallel && workspaces.length > 1) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+
+        var numFailed = 0;
+        for (final var f : failed) {
+            if (f) {
+                numFailed++;
+            }
+        }
+        if (numFailed > 0) {
+            throw new GNSSException(numFailed + " receivers could not be updated");
+        }
+    }
+
+    /**
+     * Processes all receivers belonging to provided chunk.
+     *
+     * @param measurements        buffer containing measurements of all receivers.
+     * @param receiverOffsets     index of first satellite of each receiver.
+     * @param propagationInterval propagation interval expressed in seconds (s).
+     * @param chunk               chunk index.
+     */
+    private void estimateChunk(final double[] measurements, final int[] receiverOffsets,
+                               final double propagationInterval, final int chunk) {
+        var workspace = workspaces[chunk];
+        if (workspace == null) {
+            workspace = new GNSSKalmanEpochWorkspace();
+            workspaces[chunk] = workspace;
+        }
+
+        final var start = chunk * receiversPerTask;
+        final var end = Math.min(start + receiversPerTask, numberOfReceivers);
+        for (var r = start; r < end; r++) {
+            final var stateOffset = r * STATE_LENGTH;
+            final var covarianceOffset = r * COVARIANCE_LENGTH;
+            try {
+                GNSSKalmanEpochEstimator.estimate(measurements,
+                        receiverOffsets[r] * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH,
+                        receiverOffsets[r + 1] - receiverOffsets[r], propagationInterval,
+                        states, stateOffset, covariances, covarianceOffset, config,
+                        states, stateOffset, covariances, covarianceOffset, workspace);
+                failed[r] = false;
+            } catch (final RankDeficientMatrixException e) {
+                failed[r] = true;
+            }
+        }
+    }
+
+    /**
+     * Checks that provided receiver index is valid.
+     *
+     * @param receiver receiver index to be checked.
+     * @throws IndexOutOfBoundsException if receiver index is not valid.
+     */
+    private void checkReceiver(final int receiver) {
+        if (receiver < 0 || receiver >= numberOfReceivers) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Fork-join task splitting a range of chunks of receivers until a single chunk
+     * remains.
+     */
+    private class EstimationTask extends RecursiveAction {
+
+        /**
+         * Buffer containing measurements of all receivers.
+         */
+        private final double[] measurements;
+
+        /**
+         * Index of first satellite of each receiver.
+         */
+        private final int[] receiverOffsets;
+
+        /**
+         * Propagation interval expressed in seconds (s).
+         */
+        private final double propagationInterval;
+
+        /**
+         * First chunk to be processed (inclusive).
+         */
+        private final int fromChunk;
+
+        /**
+         * Last chunk to be processed (exclusive).
+         */
+        private final int toChunk;
+
+        /**
+         * Constructor.
+         *
+         * @param measurements        buffer containing measurements of all receivers.
+         * @param receiverOffsets     index of first satellite of each receiver.
+         * @param propagationInterval propagation interval expressed in seconds (s).
+         * @param fromChunk           first chunk to be processed (inclusive).
+         * @param toChunk             last chunk to be processed (exclusive).
+         */
+        EstimationTask(final double[] measurements, final int[] receiverOffsets,
+                       final double propagationInterval, final int fromChunk, final int toChunk) {
+            this.measurements = measurements;
+            this.receiverOffsets = receiverOffsets;
+            this.propagationInterval = propagationInterval;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        /**
+         * Processes chunks of receivers, splitting them into subtasks if more than
+         * one chunk is contained.
+         */
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk <= 1) {
+                for (var chunk = fromChunk; chunk < toChunk; chunk++) {
+                    estimateChunk(measurements, receiverOffsets, propagationInterval, chunk);
+                }
+            } else {
+                final var middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(new EstimationTask(measurements, receiverOffsets, propagationInterval,
+                                fromChunk, middle),
+                        new EstimationTask(measurements, receiverOffsets, propagationInterval,
+                                middle, toChunk));
+            }
+        }
+    }
+}
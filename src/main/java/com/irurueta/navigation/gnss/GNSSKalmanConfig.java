@@ -78,6 +78,27 @@ public class GNSSKalmanConfig implements Serializable, Cloneable {
      */
     private double rangeRateSD;
 
+    /**
+     * Indicates whether measurements are processed one scalar at a time (sequential
+     * update) instead of all at once (batch update).
+     * Since measurement noise covariance matrix is diagonal, a sequential update
+     * avoids inverting the innovation covariance matrix, which has a size of twice
+     * the number of satellites, and only requires O(N) operations for N satellites.
+     * Both modes provide the same results up to numerical precision.
+     */
+    private boolean sequentialUpdate;
+
+    /**
+     * Indicates whether covariance is updated using the Joseph form
+     * (I - K * H) * P * (I - K * H)^T + K * R * K^T instead of the shorter form
+     * P - K * H * P.
+     * Joseph form keeps updated covariance positive semi-definite regardless of rounding
+     * errors in the Kalman gain, which makes it more robust over long filtering sessions,
+     * hence it is used by default. The shorter form requires less arithmetic and keeps
+     * covariance symmetric, but not necessarily positive definite.
+     */
+    private boolean josephUpdate = true;
+
     /**
      * Constructor.
      */
@@ -503,6 +524,58 @@ public class GNSSKalmanConfig implements Serializable, Cloneable {
                 SpeedUnit.METERS_PER_SECOND);
     }
 
+    /**
+     * Indicates whether measurements are processed one scalar at a time (sequential
+     * update) instead of all at once (batch update).
+     * Sequential update is faster when many satellites are available, since it avoids
+     * inverting the innovation covariance matrix.
+     *
+     * @return true if sequential update is used, false if batch update is used.
+     */
+    public boolean isSequentialUpdate() {
+        return sequentialUpdate;
+    }
+
+    /**
+     * Specifies whether measurements are processed one scalar at a time (sequential
+     * update) instead of all at once (batch update).
+     * Sequential update is faster when many satellites are available, since it avoids
+     * inverting the innovation covariance matrix.
+     *
+     * @param sequentialUpdate true to use sequential update, false to use batch update.
+     */
+    public void setSequentialUpdate(final boolean sequentialUpdate) {
+        this.sequentialUpdate = sequentialUpdate;
+    }
+
+    /**
+     * Indicates whether covariance is updated using the Joseph form
+     * (I - K * H) * P * (I - K * H)^T + K * R * K^T instead of the shorter form
+     * P - K * H * P.
+     * Joseph form keeps updated covariance positive semi-definite regardless of
+     * rounding errors, at the expense of slightly more arithmetic, and it is used
+     * by default.
+     *
+     * @return true if Joseph form is used, false otherwise.
+     */
+    public boolean isJosephUpdate() {
+        return josephUpdate;
+    }
+
+    /**
+     * Specifies whether covariance is updated using the Joseph form
+     * (I - K * H) * P * (I - K * H)^T + K * R * K^T instead of the shorter form
+     * P - K * H * P.
+     * Joseph form keeps updated covariance positive semi-definite regardless of
+     * rounding errors, at the expense of slightly more arithmetic, and it is used
+     * by default.
+     *
+     * @param josephUpdate true to use Joseph form, false otherwise.
+     */
+    public void setJosephUpdate(final boolean josephUpdate) {
+        this.josephUpdate = josephUpdate;
+    }
+
     /**
      * Sets configuration parameters.
      *
@@ -589,6 +662,8 @@ public class GNSSKalmanConfig implements Serializable, Cloneable {
         output.clockPhasePSD = clockPhasePSD;
         output.pseudoRangeSD = pseudoRangeSD;
         output.rangeRateSD = rangeRateSD;
+        output.sequentialUpdate = sequentialUpdate;
+        output.josephUpdate = josephUpdate;
     }
 
     /**
@@ -606,6 +681,8 @@ public class GNSSKalmanConfig implements Serializable, Cloneable {
         clockPhasePSD = input.clockPhasePSD;
         pseudoRangeSD = input.pseudoRangeSD;
         rangeRateSD = input.rangeRateSD;
+        sequentialUpdate = input.sequentialUpdate;
+        josephUpdate = input.josephUpdate;
     }
 
     /**
@@ -618,7 +695,7 @@ public class GNSSKalmanConfig implements Serializable, Cloneable {
     public int hashCode() {
         return Objects.hash(initialPositionUncertainty, initialVelocityUncertainty, initialClockOffsetUncertainty,
                 initialClockDriftUncertainty, accelerationPSD, clockFrequencyPSD, clockPhasePSD, pseudoRangeSD,
-                rangeRateSD);
+                rangeRateSD, sequentialUpdate, josephUpdate);
     }
 
     /**
@@ -673,7 +750,9 @@ public class GNSSKalmanConfig implements Serializable, Cloneable {
                 && Math.abs(clockFrequencyPSD - other.clockFrequencyPSD) <= threshold
                 && Math.abs(clockPhasePSD - other.clockPhasePSD) <= threshold
                 && Math.abs(pseudoRangeSD - other.pseudoRangeSD) <= threshold
-                && Math.abs(rangeRateSD - other.rangeRateSD) <= threshold;
+                && Math.abs(rangeRateSD - other.rangeRateSD) <= threshold
+                && sequentialUpdate == other.sequentialUpdate
+                && josephUpdate == other.josephUpdate;
     }
 
     /**
@@ -17,6 +17,7 @@ package com.irurueta.navigation.gnss;
 
 import com.irurueta.algebra.AlgebraException;
 import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.RankDeficientMatrixException;
 import com.irurueta.algebra.Utils;
 import com.irurueta.navigation.frames.CoordinateTransformation;
 import com.irurueta.navigation.geodesic.Constants;
@@ -24,6 +25,7 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeConverter;
 import com.irurueta.units.TimeUnit;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 
@@ -213,6 +215,12 @@ public class GNSSKalmanEpochEstimator {
             throw new IllegalArgumentException();
         }
 
+        if (config.isSequentialUpdate()) {
+            estimate(measurements, propagationInterval, previousEstimation, previousCovariance, config,
+                    updatedEstimation, updatedCovariance, new GNSSKalmanEpochWorkspace(measurements.size()));
+            return;
+        }
+
         // SYSTEM PROPAGATION PHASE
 
         // 1. Determine transition matrix using (9.147) and (9.150)
@@ -380,11 +388,11 @@ public class GNSSKalmanEpochEstimator {
 
         // 7. Calculate Kalman gain using (3.21)
         final var hTransposed = h.transposeAndReturnNew();
-        final var tmp8 = h.multiplyAndReturnNew(pMatrixPropagated.multiplyAndReturnNew(hTransposed));
+        final var pht = pMatrixPropagated.multiplyAndReturnNew(hTransposed);
+        final var tmp8 = h.multiplyAndReturnNew(pht);
         tmp8.add(r);
         final var tmp9 = Utils.inverse(tmp8);
-        final var k = pMatrixPropagated.multiplyAndReturnNew(hTransposed);
-        k.multiply(tmp9);
+        final var k = pht.multiplyAndReturnNew(tmp9);
 
         // 8. Formulate measurement innovations using (3.88)
         final var deltaZ = new Matrix(2 * numberOfMeasurements, 1);
@@ -408,10 +416,892 @@ public class GNSSKalmanEpochEstimator {
                 || updatedCovariance.getColumns() != GNSSEstimation.NUM_PARAMETERS) {
             updatedCovariance.resize(GNSSEstimation.NUM_PARAMETERS, GNSSEstimation.NUM_PARAMETERS);
         }
-        Matrix.identity(updatedCovariance);
-        k.multiply(h);
-        updatedCovariance.subtract(k);
-        updatedCovariance.multiply(pMatrixPropagated);
+        if (config.isJosephUpdate()) {
+            josephUpdateCovariance(pMatrixPropagated.getBuffer(), k.getBuffer(), pht.getBuffer(), h.getBuffer(),
+                    numberOfMeasurements, pseudoRangeSD2, rangeRateSD2, new double[MATRIX_SIZE * MATRIX_SIZE],
+                    new double[2 * numberOfMeasurements * MATRIX_SIZE], updatedCovariance.getBuffer());
+        } else {
+            updateCovariance(pMatrixPropagated.getBuffer(), k.getBuffer(), pht.getBuffer(),
+                    2 * numberOfMeasurements, updatedCovariance.getBuffer());
+        }
+    }
+
+    /**
+     * Estimates the update of Kalman filter state and covariance matrix for a single
+     * epoch using provided workspace to avoid allocation of intermediate matrices.
+     * Results are exactly the same as the ones obtained without a workspace.
+     *
+     * @param measurements        satellite measurements data.
+     * @param propagationInterval propagation interval.
+     * @param previousState       previous GNSS estimates and Kalman filter error
+     *                            covariance matrix.
+     * @param config              system configuration (usually obtained through
+     *                            calibration).
+     * @param result              instance where updated Kalman filter state will be
+     *                            stored. Estimation and covariance instances already
+     *                            contained in this state are reused, if available.
+     * @param workspace           workspace containing reusable buffers.
+     * @throws AlgebraException if there are numerical instabilities.
+     */
+    public static void estimate(final Collection<GNSSMeasurement> measurements,
+                                final Time propagationInterval,
+                                final GNSSKalmanState previousState,
+                                final GNSSKalmanConfig config,
+                                final GNSSKalmanState result,
+                                final GNSSKalmanEpochWorkspace workspace) throws AlgebraException {
+        estimate(measurements, convertTime(propagationInterval), previousState, config, result, workspace);
+    }
+
+    /**
+     * Estimates the update of Kalman filter state and covariance matrix for a single
+     * epoch using provided workspace to avoid allocation of intermediate matrices.
+     * Results are exactly the same as the ones obtained without a workspace.
+     *
+     * @param measurements        satellite measurements data.
+     * @param propagationInterval propagation interval.
+     * @param previousEstimation  previous GNSS estimates.
+     * @param previousCovariance  previous Kalman filter error covariance matrix.
+     * @param config              system configuration (usually obtained through
+     *                            calibration).
+     * @param updatedEstimation   instance where updated GNSS estimate will be stored
+     *                            after executing this method.
+     * @param updatedCovariance   instance where updated Kalman filter error covariance
+     *                            matrix will be stored.
+     * @param workspace           workspace containing reusable buffers.
+     * @throws IllegalArgumentException if provided previous covariance matrix is not
+     *                                  8x8.
+     * @throws AlgebraException         if there are numerical instabilities.
+     */
+    public static void estimate(final Collection<GNSSMeasurement> measurements,
+                                final Time propagationInterval,
+                                final GNSSEstimation previousEstimation,
+                                final Matrix previousCovariance,
+                                final GNSSKalmanConfig config,
+                                final GNSSEstimation updatedEstimation,
+                                final Matrix updatedCovariance,
+                                final GNSSKalmanEpochWorkspace workspace) throws AlgebraException {
+        estimate(measurements, convertTime(propagationInterval), previousEstimation, previousCovariance, config,
+                updatedEstimation, updatedCovariance, workspace);
+    }
+
+    /**
+     * Estimates the update of Kalman filter state and covariance matrix for a single
+     * epoch using provided workspace to avoid allocation of intermediate matrices.
+     * Results are exactly the same as the ones obtained without a workspace.
+     *
+     * @param measurements        satellite measurements data.
+     * @param propagationInterval propagation interval expressed in seconds (s).
+     * @param previousState       previous GNSS estimates and Kalman filter error
+     *                            covariance matrix.
+     * @param config              system configuration (usually obtained through
+     *                            calibration).
+     * @param result              instance where updated Kalman filter state will be
+     *                            stored. Estimation and covariance instances already
+     *                            contained in this state are reused, if available.
+     * @param workspace           workspace containing reusable buffers.
+     * @throws AlgebraException if there are numerical instabilities.
+     */
+    public static void estimate(final Collection<GNSSMeasurement> measurements,
+                                final double propagationInterval,
+                                final GNSSKalmanState previousState,
+                                final GNSSKalmanConfig config,
+                                final GNSSKalmanState result,
+                                final GNSSKalmanEpochWorkspace workspace) throws AlgebraException {
+        var resultEstimation = result.getEstimation();
+        if (resultEstimation == null) {
+            resultEstimation = new GNSSEstimation();
+        }
+        var resultCovariance = result.getCovariance();
+        if (resultCovariance == null) {
+            resultCovariance = new Matrix(GNSSEstimation.NUM_PARAMETERS, GNSSEstimation.NUM_PARAMETERS);
+        }
+
+        estimate(measurements, propagationInterval, previousState.getEstimation(), previousState.getCovariance(),
+                config, resultEstimation, resultCovariance, workspace);
+
+        result.setEstimation(resultEstimation);
+        result.setCovariance(resultCovariance);
+    }
+
+    /**
+     * Estimates the update of Kalman filter state and covariance matrix for a single
+     * epoch using provided workspace to avoid allocation of intermediate matrices.
+     * Results are exactly the same as the ones obtained without a workspace.
+     *
+     * @param measurements        satellite measurements data.
+     * @param propagationInterval propagation interval expressed in seconds (s).
+     * @param previousEstimation  previous GNSS estimates.
+     * @param previousCovariance  previous Kalman filter error covariance matrix.
+     * @param config              system configuration (usually obtained through
+     *                            calibration).
+     * @param updatedEstimation   instance where updated GNSS estimate will be stored
+     *                            after executing this method.
+     * @param updatedCovariance   instance where updated Kalman filter error covariance
+     *                            matrix will be stored.
+     * @param workspace           workspace containing reusable buffers.
+     * @throws IllegalArgumentException if provided previous covariance matrix is not
+     *                                  8x8.
+     * @throws AlgebraException         if there are numerical instabilities.
+     */
+    public static void estimate(final Collection<GNSSMeasurement> measurements,
+                                final double propagationInterval,
+                                final GNSSEstimation previousEstimation,
+                                final Matrix previousCovariance,
+                                final GNSSKalmanConfig config,
+                                final GNSSEstimation updatedEstimation,
+                                final Matrix updatedCovariance,
+                                final GNSSKalmanEpochWorkspace workspace) throws AlgebraException {
+
+        if (previousCovariance.getRows() != GNSSEstimation.NUM_PARAMETERS
+                || previousCovariance.getColumns() != GNSSEstimation.NUM_PARAMETERS) {
+            throw new IllegalArgumentException();
+        }
+
+        final var numberOfMeasurements = measurements.size();
+        workspace.ensureCapacity(numberOfMeasurements);
+
+        final var buffer = workspace.measurements;
+        var pos = 0;
+        for (final var measurement : measurements) {
+            buffer[pos++] = measurement.getPseudoRange();
+            buffer[pos++] = measurement.getPseudoRate();
+            buffer[pos++] = measurement.getX();
+            buffer[pos++] = measurement.getY();
+            buffer[pos++] = measurement.getZ();
+            buffer[pos++] = measurement.getVx();
+            buffer[pos++] = measurement.getVy();
+            buffer[pos++] = measurement.getVz();
+        }
+
+        estimate(buffer, 0, numberOfMeasurements, propagationInterval, previousEstimation, previousCovariance,
+                config, updatedEstimation, updatedCovariance, workspace);
+    }
+
+    /**
+     * Estimates the update of Kalman filter state and covariance matrix for a single
+     * epoch using measurements stored in a buffer of primitive values and provided
+     * workspace, so that neither measurement instances nor intermediate matrices
+     * need to be allocated.
+     * Results are exactly the same as the ones obtained using a collection of
+     * measurements.
+     *
+     * @param measurements         buffer containing
+     *                             {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH}
+     *                             values per satellite: pseudo-range, pseudo-range
+     *                             rate, and ECEF x, y, z coordinates of satellite
+     *                             position and velocity.
+     * @param offset               position of first measurement value.
+     * @param numberOfMeasurements number of satellite measurements.
+     * @param propagationInterval  propagation interval expressed in seconds (s).
+     * @param previousState        previous GNSS estimates and Kalman filter error
+     *                             covariance matrix.
+     * @param config               system configuration (usually obtained through
+     *                             calibration).
+     * @param result               instance where updated Kalman filter state will be
+     *                             stored. Estimation and covariance instances already
+     *                             contained in this state are reused, if available.
+     * @param workspace            workspace containing reusable buffers.
+     * @throws IllegalArgumentException if provided buffer does not contain provided
+     *                                  number of measurements.
+     * @throws AlgebraException         if there are numerical instabilities.
+     */
+    public static void estimate(final double[] measurements, final int offset, final int numberOfMeasurements,
+                                final double propagationInterval,
+                                final GNSSKalmanState previousState,
+                                final GNSSKalmanConfig config,
+                                final GNSSKalmanState result,
+                                final GNSSKalmanEpochWorkspace workspace) throws AlgebraException {
+        var resultEstimation = result.getEstimation();
+        if (resultEstimation == null) {
+            resultEstimation = new GNSSEstimation();
+        }
+        var resultCovariance = result.getCovariance();
+        if (resultCovariance == null) {
+            resultCovariance = new Matrix(GNSSEstimation.NUM_PARAMETERS, GNSSEstimation.NUM_PARAMETERS);
+        }
+
+        estimate(measurements, offset, numberOfMeasurements, propagationInterval, previousState.getEstimation(),
+                previousState.getCovariance(), config, resultEstimation, resultCovariance, workspace);
+
+        result.setEstimation(resultEstimation);
+        result.setCovariance(resultCovariance);
+    }
+
+    /**
+     * Estimates the update of Kalman filter state and covariance matrix for a single
+     * epoch using measurements stored in a buffer of primitive values and provided
+     * workspace, so that neither measurement instances nor intermediate matrices
+     * need to be allocated.
+     * Results are exactly the same as the ones obtained using a collection of
+     * measurements.
+     *
+     * @param measurements         buffer containing
+     *                             {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH}
+     *                             values per satellite: pseudo-range, pseudo-range
+     *                             rate, and ECEF x, y, z coordinates of satellite
+     *                             position and velocity.
+     * @param offset               position of first measurement value.
+     * @param numberOfMeasurements number of satellite measurements.
+     * @param propagationInterval  propagation interval expressed in seconds (s).
+     * @param previousEstimation   previous GNSS estimates.
+     * @param previousCovariance   previous Kalman filter error covariance matrix.
+     * @param config               system configuration (usually obtained through
+     *                             calibration).
+     * @param updatedEstimation    instance where updated GNSS estimate will be stored
+     *                             after executing this method.
+     * @param updatedCovariance    instance where updated Kalman filter error covariance
+     *                             matrix will be stored.
+     * @param workspace            workspace containing reusable buffers.
+     * @throws IllegalArgumentException if provided previous covariance matrix is not
+     *                                  8x8 or provided buffer does not contain provided
+     *                                  number of measurements.
+     * @throws AlgebraException         if there are numerical instabilities.
+     */
+    public static void estimate(final double[] measurements, final int offset, final int numberOfMeasurements,
+                                final double propagationInterval,
+                                final GNSSEstimation previousEstimation,
+                                final Matrix previousCovariance,
+                                final GNSSKalmanConfig config,
+                                final GNSSEstimation updatedEstimation,
+                                final Matrix updatedCovariance,
+                                final GNSSKalmanEpochWorkspace workspace) throws AlgebraException {
+
+        if (previousCovariance.getRows() != GNSSEstimation.NUM_PARAMETERS
+                || previousCovariance.getColumns() != GNSSEstimation.NUM_PARAMETERS) {
+            throw new IllegalArgumentException();
+        }
+        if (offset < 0 || numberOfMeasurements < 0 || offset + (long) numberOfMeasurements
+                * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH > measurements.length) {
+            throw new IllegalArgumentException();
+        }
+
+        previousEstimation.asArray(workspace.xOld);
+
+        if (updatedCovariance.getRows() != GNSSEstimation.NUM_PARAMETERS
+                || updatedCovariance.getColumns() != GNSSEstimation.NUM_PARAMETERS) {
+            updatedCovariance.resize(GNSSEstimation.NUM_PARAMETERS, GNSSEstimation.NUM_PARAMETERS);
+        }
+
+        estimate(measurements, offset, numberOfMeasurements, propagationInterval, workspace.xOld, 0,
+                previousCovariance.getBuffer(), 0, config, workspace.x, 0, updatedCovariance.getBuffer(), 0,
+                workspace);
+
+        updatedEstimation.fromArray(workspace.x);
+    }
+
+    /**
+     * Estimates the update of Kalman filter state and covariance matrix for a single
+     * epoch using primitive buffers.
+     * Matrices are stored in column-major order and arithmetic operations are
+     * executed in the same order as when using {@link Matrix} instances, so that
+     * results are exactly the same as the ones obtained without a workspace.
+     * Provided input and output buffers may be the same.
+     *
+     * @param measurements             buffer containing
+     *                                 {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH}
+     *                                 values per satellite.
+     * @param measurementsOffset       position of first measurement value.
+     * @param numberOfMeasurements     number of measurements.
+     * @param propagationInterval      propagation interval expressed in seconds (s).
+     * @param previousState            buffer containing previous state.
+     * @param previousStateOffset      position of previous state.
+     * @param previousCovariance       buffer containing previous covariance.
+     * @param previousCovarianceOffset position of previous covariance.
+     * @param config                   system configuration.
+     * @param updatedState             buffer where updated state will be stored.
+     * @param updatedStateOffset       position where updated state will be stored.
+     * @param updatedCovariance        buffer where updated covariance will be stored.
+     * @param updatedCovarianceOffset  position where updated covariance will be stored.
+     * @param workspace                workspace containing reusable buffers.
+     * @throws RankDeficientMatrixException if innovation covariance matrix is singular.
+     */
+    @SuppressWarnings("DuplicatedCode")
+    static void estimate(final double[] measurements, final int measurementsOffset,
+                         final int numberOfMeasurements, final double propagationInterval,
+                         final double[] previousState, final int previousStateOffset,
+                         final double[] previousCovariance, final int previousCovarianceOffset,
+                         final GNSSKalmanConfig config,
+                         final double[] updatedState, final int updatedStateOffset,
+                         final double[] updatedCovariance, final int updatedCovarianceOffset,
+                         final GNSSKalmanEpochWorkspace workspace) throws RankDeficientMatrixException {
+
+        workspace.ensureCapacity(numberOfMeasurements);
+
+        final var phi = workspace.phi;
+        final var phiTransposed = workspace.phiTransposed;
+        final var q = workspace.q;
+        final var xOld = workspace.xOld;
+        final var x = workspace.x;
+        final var p = workspace.p;
+        final var tmpN2 = workspace.tmpN2;
+
+        // SYSTEM PROPAGATION PHASE
+
+        // 1. Determine transition matrix using (9.147) and (9.150)
+        Arrays.fill(phi, 0.0);
+        for (var i = 0; i < MATRIX_SIZE; i++) {
+            phi[i * MATRIX_SIZE + i] = 1.0;
+        }
+        phi[3 * MATRIX_SIZE] = propagationInterval;
+        phi[4 * MATRIX_SIZE + 1] = propagationInterval;
+        phi[5 * MATRIX_SIZE + 2] = propagationInterval;
+        phi[7 * MATRIX_SIZE + 6] = propagationInterval;
+
+        // 2. Determine system noise covariance matrix using (9.152)
+        final var propagationInterval2 = propagationInterval * propagationInterval;
+        final var propagationInterval3 = propagationInterval2 * propagationInterval;
+        final var accelerationPSD = config.getAccelerationPSD();
+        final var clockFrequencyPSD = config.getClockFrequencyPSD();
+        final var clockPhasePSD = config.getClockPhasePSD();
+
+        final var value1 = accelerationPSD * propagationInterval3 / 3.0;
+        final var value2 = accelerationPSD * propagationInterval2 / 2.0;
+        final var value3 = accelerationPSD * propagationInterval;
+        final var value4 = clockFrequencyPSD * propagationInterval3 / 3.0 + clockPhasePSD * propagationInterval;
+        final var value5 = clockFrequencyPSD * propagationInterval2 / 2.0;
+        final var value6 = clockFrequencyPSD * propagationInterval;
+
+        Arrays.fill(q, 0.0);
+        for (int i1 = 0, i2 = 3; i1 < 3; i1++, i2++) {
+            q[i1 * MATRIX_SIZE + i1] = value1;
+            q[i2 * MATRIX_SIZE + i1] = value2;
+            q[i1 * MATRIX_SIZE + i2] = value2;
+            q[i2 * MATRIX_SIZE + i2] = value3;
+        }
+        q[6 * MATRIX_SIZE + 6] = value4;
+        q[7 * MATRIX_SIZE + 6] = value5;
+        q[6 * MATRIX_SIZE + 7] = value5;
+        q[7 * MATRIX_SIZE + 7] = value6;
+
+        // 3. Propagate state estimates using (3.14)
+        System.arraycopy(previousState, previousStateOffset, xOld, 0, MATRIX_SIZE);
+        multiply(phi, MATRIX_SIZE, MATRIX_SIZE, xOld, 1, x);
+
+        // 4. Propagate state estimation error covariance matrix using (3.15)
+        System.arraycopy(previousCovariance, previousCovarianceOffset, p, 0, MATRIX_SIZE * MATRIX_SIZE);
+        multiply(phi, MATRIX_SIZE, MATRIX_SIZE, p, MATRIX_SIZE, tmpN2);
+        transpose(phi, MATRIX_SIZE, MATRIX_SIZE, phiTransposed);
+        multiply(tmpN2, MATRIX_SIZE, MATRIX_SIZE, phiTransposed, MATRIX_SIZE, p);
+        for (var i = 0; i < p.length; i++) {
+            p[i] += q[i];
+        }
+
+        // MEASUREMENT UPDATE PHASE
+
+        // Skew symmetric matrix of Earth rate (same values as Utils.skewMatrix)
+        final var omegaIe = workspace.omegaIe;
+        omegaIe[0] = 0.0;
+        omegaIe[1] = EARTH_ROTATION_RATE;
+        omegaIe[2] = -0.0;
+        omegaIe[3] = -EARTH_ROTATION_RATE;
+        omegaIe[4] = 0.0;
+        omegaIe[5] = 0.0;
+        omegaIe[6] = 0.0;
+        omegaIe[7] = -0.0;
+        omegaIe[8] = 0.0;
+
+        final var n = numberOfMeasurements;
+        final var uAseT = workspace.uAseT;
+        final var predMeas = workspace.predMeas;
+
+        final var cei = workspace.cei;
+        Arrays.fill(cei, 0.0);
+        cei[0] = 1.0;
+        cei[4] = 1.0;
+        cei[8] = 1.0;
+        final var satellitePosition = workspace.satellitePosition;
+        final var satelliteVelocity = workspace.satelliteVelocity;
+        final var deltaR = workspace.deltaR;
+        final var tmp1 = workspace.tmp1;
+        final var tmp2 = workspace.tmp2;
+        final var tmp3 = workspace.tmp3;
+        final var tmp4 = workspace.tmp4;
+        final var tmp5 = workspace.tmp5;
+        final var tmp6 = workspace.tmp6;
+
+        // terms depending only on propagated user position and velocity
+        multiply(omegaIe, 3, 3, x, 1, tmp4);
+        for (var i = 0; i < 3; i++) {
+            tmp6[i] = x[3 + i] + tmp4[i];
+        }
+
+        // Loop measurements
+        for (var j = 0; j < n; j++) {
+            final var base = measurementsOffset + j * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+
+            // Predict approx range
+            final var measX = measurements[base + 2];
+            final var measY = measurements[base + 3];
+            final var measZ = measurements[base + 4];
+
+            final var deltaX = measX - x[0];
+            final var deltaY = measY - x[1];
+            final var deltaZ = measZ - x[2];
+            final var approxRange = Math.sqrt(deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ);
+
+            // Calculate frame rotation during signal transit time using (8.36)
+            final var ceiValue = EARTH_ROTATION_RATE * approxRange / SPEED_OF_LIGHT;
+            cei[3] = ceiValue;
+            cei[1] = -ceiValue;
+
+            // Predict pseudo-range using (9.165)
+            satellitePosition[0] = measX;
+            satellitePosition[1] = measY;
+            satellitePosition[2] = measZ;
+
+            multiply(cei, 3, 3, satellitePosition, 1, deltaR);
+            var sum = 0.0;
+            for (var i = 0; i < 3; i++) {
+                deltaR[i] = deltaR[i] - x[i];
+                sum += deltaR[i] * deltaR[i];
+            }
+            final var range = Math.sqrt(sum);
+
+            predMeas[j] = range + x[6];
+
+            // Predict line of sight
+            for (var i = 0; i < 3; i++) {
+                uAseT[i * n + j] = deltaR[i] / range;
+            }
+
+            // Predict pseudo-range rate using (9.165)
+            satelliteVelocity[0] = measurements[base + 5];
+            satelliteVelocity[1] = measurements[base + 6];
+            satelliteVelocity[2] = measurements[base + 7];
+
+            multiply(omegaIe, 3, 3, satellitePosition, 1, tmp1);
+            for (var i = 0; i < 3; i++) {
+                tmp2[i] = satelliteVelocity[i] + tmp1[i];
+            }
+            multiply(cei, 3, 3, tmp2, 1, tmp3);
+
+            var rangeRate = 0.0;
+            for (var i = 0; i < 3; i++) {
+                tmp5[i] = tmp3[i] - tmp6[i];
+                rangeRate += uAseT[i * n + j] * tmp5[i];
+            }
+
+            predMeas[n + j] = rangeRate + x[7];
+        }
+
+        // 6. Set-up measurement noise covariance matrix assuming all measurements are independent
+        // and have equal variance for a given measurement type (only diagonal terms are non-zero)
+        final var pseudoRangeSD = config.getPseudoRangeSD();
+        final var pseudoRangeSD2 = pseudoRangeSD * pseudoRangeSD;
+        final var rangeRateSD = config.getRangeRateSD();
+        final var rangeRateSD2 = rangeRateSD * rangeRateSD;
+
+        // 8. Formulate measurement innovations using (3.88)
+        // (required by both batch and sequential updates)
+        final var deltaZ = workspace.deltaZ;
+        for (int i1 = 0, i2 = n; i1 < n; i1++, i2++) {
+            final var base = measurementsOffset + i1 * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+            deltaZ[i1] = measurements[base] - predMeas[i1];
+            deltaZ[i2] = measurements[base + 1] - predMeas[n + i1];
+        }
+
+        if (config.isSequentialUpdate()) {
+            sequentialUpdate(n, uAseT, deltaZ, pseudoRangeSD2, rangeRateSD2, config.isJosephUpdate(), x, p,
+                    workspace);
+
+            System.arraycopy(x, 0, updatedState, updatedStateOffset, MATRIX_SIZE);
+            System.arraycopy(p, 0, updatedCovariance, updatedCovarianceOffset, MATRIX_SIZE * MATRIX_SIZE);
+            return;
+        }
+
+        // 5. Set-up measurement matrix using (9.163)
+        final var rows = 2 * n;
+        final var h = workspace.h;
+        Arrays.fill(h, 0, rows * MATRIX_SIZE, 0.0);
+        for (int j1 = 0, j2 = n; j1 < n; j1++, j2++) {
+            for (int i1 = 0, i2 = 3; i1 < 3; i1++, i2++) {
+                final var value = -uAseT[i1 * n + j1];
+
+                h[i1 * rows + j1] = value;
+                h[i2 * rows + j2] = value;
+            }
+            h[6 * rows + j1] = 1.0;
+            h[7 * rows + j2] = 1.0;
+        }
+
+        // 7. Calculate Kalman gain using (3.21)
+        final var hTransposed = workspace.hTransposed;
+        final var pht = workspace.pht;
+        final var s = workspace.s;
+        final var sInv = workspace.sInv;
+        final var k = workspace.k;
+        transpose(h, rows, MATRIX_SIZE, hTransposed);
+        multiply(p, MATRIX_SIZE, MATRIX_SIZE, hTransposed, rows, pht);
+        multiply(h, rows, MATRIX_SIZE, pht, rows, s);
+        for (int i1 = 0, i2 = n; i1 < n; i1++, i2++) {
+            s[i1 * rows + i1] += pseudoRangeSD2;
+            s[i2 * rows + i2] += rangeRateSD2;
+        }
+
+        inverse(s, rows, workspace.lu, workspace.piv, sInv);
+        multiply(pht, MATRIX_SIZE, rows, sInv, rows, k);
+
+        // 9. Update state estimates using (3.24)
+        final var dx = workspace.dx;
+        multiply(k, MATRIX_SIZE, rows, deltaZ, 1, dx);
+        for (var i = 0; i < MATRIX_SIZE; i++) {
+            x[i] += dx[i];
+        }
+
+        // 10. Update state estimation error covariance matrix using (3.25)
+        if (config.isJosephUpdate()) {
+            josephUpdateCovariance(p, k, pht, h, n, pseudoRangeSD2, rangeRateSD2, workspace.ap, workspace.apht,
+                    tmpN2);
+        } else {
+            updateCovariance(p, k, pht, rows, tmpN2);
+        }
+
+        System.arraycopy(x, 0, updatedState, updatedStateOffset, MATRIX_SIZE);
+        System.arraycopy(tmpN2, 0, updatedCovariance, updatedCovarianceOffset, MATRIX_SIZE * MATRIX_SIZE);
+    }
+
+    /**
+     * Updates state estimation error covariance matrix using (3.25) in its symmetric
+     * form P - K * (P * H^T)^T, which is algebraically equal to (I - K * H) * P.
+     * Only the upper triangle is evaluated and then mirrored into the lower one, so
+     * that updated covariance is exactly symmetric and about half of the arithmetic
+     * of the full dense product is required. Besides, K * H is never built.
+     * Provided result may be the same buffer as propagated covariance.
+     *
+     * @param p      propagated covariance (8x8) in column-major order.
+     * @param k      Kalman gain (8xM) in column-major order.
+     * @param pht    propagated covariance multiplied by transposed measurement matrix
+     *               (8xM) in column-major order.
+     * @param m      number of scalar measurements (twice the number of satellites).
+     * @param result buffer where updated covariance (8x8) will be stored in column-major
+     *               order.
+     */
+    static void updateCovariance(final double[] p, final double[] k, final double[] pht, final int m,
+                                 final double[] result) {
+        for (var c = 0; c < MATRIX_SIZE; c++) {
+            final var colC = c * MATRIX_SIZE;
+            for (var r = 0; r <= c; r++) {
+                var value = 0.0;
+                for (var i = 0; i < m; i++) {
+                    final var offset = i * MATRIX_SIZE;
+                    value += k[offset + r] * pht[offset + c];
+                }
+                value = p[colC + r] - value;
+                result[colC + r] = value;
+                result[r * MATRIX_SIZE + c] = value;
+            }
+        }
+    }
+
+    /**
+     * Updates state estimation error covariance matrix using the Joseph form of (3.25),
+     * (I - K * H) * P * (I - K * H)^T + K * R * K^T, where R is the diagonal measurement
+     * noise covariance matrix.
+     * Unlike {@link #updateCovariance(double[], double[], double[], int, double[])}, the
+     * result is a sum of positive semi-definite terms, so it remains positive semi-definite
+     * regardless of rounding errors in the Kalman gain.
+     * Neither I - K * H nor any dense product with it is built. Instead,
+     * (I - K * H) * P is obtained as P - K * (P * H^T)^T reusing P * H^T, it is multiplied
+     * by H^T using only the four non-zero terms of each row of the measurement matrix
+     * (9.163), and the result is expanded as
+     * (I - K * H) * P - ((I - K * H) * P * H^T) * K^T + K * R * K^T, where only the upper
+     * triangle is evaluated and then mirrored into the lower one, so that updated
+     * covariance is exactly symmetric.
+     * Provided result may be the same buffer as propagated covariance.
+     *
+     * @param p              propagated covariance (8x8) in column-major order.
+     * @param k              Kalman gain (8x2N) in column-major order.
+     * @param pht            propagated covariance multiplied by transposed measurement matrix
+     *                       (8x2N) in column-major order.
+     * @param h              measurement matrix (2Nx8) in column-major order.
+     * @param n              number of satellites.
+     * @param pseudoRangeSD2 pseudo-range measurement noise variance.
+     * @param rangeRateSD2   pseudo-range rate measurement noise variance.
+     * @param ap             buffer where (I - K * H) * P (8x8) will be stored.
+     * @param apht           buffer where (I - K * H) * P * H^T (8x2N) will be stored.
+     * @param result         buffer where updated covariance (8x8) will be stored in column-major
+     *                       order.
+     */
+    static void josephUpdateCovariance(final double[] p, final double[] k, final double[] pht, final double[] h,
+                                       final int n, final double pseudoRangeSD2, final double rangeRateSD2,
+                                       final double[] ap, final double[] apht, final double[] result) {
+        final var m = 2 * n;
+
+        // (I - K * H) * P = P - K * (P * H^T)^T, which is not symmetric due to rounding errors
+        for (var c = 0; c < MATRIX_SIZE; c++) {
+            final var colC = c * MATRIX_SIZE;
+            for (var r = 0; r < MATRIX_SIZE; r++) {
+                var value = 0.0;
+                for (var i = 0; i < m; i++) {
+                    final var offset = i * MATRIX_SIZE;
+                    value += k[offset + r] * pht[offset + c];
+                }
+                ap[colC + r] = p[colC + r] - value;
+            }
+        }
+
+        // (I - K * H) * P * H^T, where each row of H is [-u^T 0 1] or [0 -u^T 1]
+        for (var i = 0; i < m; i++) {
+            final var offset = i < n ? 0 : 3;
+            final var clock = i < n ? 6 : 7;
+            final var h0 = h[offset * m + i];
+            final var h1 = h[(offset + 1) * m + i];
+            final var h2 = h[(offset + 2) * m + i];
+            final var col0 = offset * MATRIX_SIZE;
+            final var col1 = col0 + MATRIX_SIZE;
+            final var col2 = col1 + MATRIX_SIZE;
+            final var colClock = clock * MATRIX_SIZE;
+            final var colI = i * MATRIX_SIZE;
+            for (var r = 0; r < MATRIX_SIZE; r++) {
+                apht[colI + r] = ap[colClock + r] + h0 * ap[col0 + r] + h1 * ap[col1 + r] + h2 * ap[col2 + r];
+            }
+        }
+
+        // (I - K * H) * P - ((I - K * H) * P * H^T) * K^T + K * R * K^T
+        for (var c = 0; c < MATRIX_SIZE; c++) {
+            final var colC = c * MATRIX_SIZE;
+            for (var r = 0; r <= c; r++) {
+                var value = 0.0;
+                for (var i = 0; i < m; i++) {
+                    final var offset = i * MATRIX_SIZE;
+                    final var variance = i < n ? pseudoRangeSD2 : rangeRateSD2;
+                    value += (variance * k[offset + r] - apht[offset + r]) * k[offset + c];
+                }
+                value += ap[colC + r];
+                result[colC + r] = value;
+                result[r * MATRIX_SIZE + c] = value;
+            }
+        }
+    }
+
+    /**
+     * Updates propagated state and covariance by processing each scalar measurement
+     * one at a time.
+     * Because measurement noise covariance matrix is diagonal, processing measurements
+     * sequentially is equivalent to the batch update of (3.21), (3.24) and (3.25), but
+     * each innovation covariance becomes a scalar, hence no matrix inversion is needed
+     * and cost grows linearly with the number of satellites.
+     * All measurements are linearized at the propagated state, so that innovations are
+     * corrected by the state update accumulated from previously processed measurements.
+     * Only non-zero terms of each row of the measurement matrix (9.163) are used.
+     * When Joseph form is used, each scalar covariance update is evaluated as
+     * (I - K * H) * P * (I - K * H)^T + K * R * K^T, which keeps covariance positive
+     * semi-definite.
+     *
+     * @param n              number of satellites.
+     * @param uAseT          line of sight unit vectors (Nx3).
+     * @param deltaZ         measurement innovations (2Nx1).
+     * @param pseudoRangeSD2 pseudo-range measurement noise variance.
+     * @param rangeRateSD2   pseudo-range rate measurement noise variance.
+     * @param joseph         true to update covariance using Joseph form.
+     * @param x              propagated state. Will contain updated state.
+     * @param p              propagated covariance. Will contain updated covariance.
+     * @param workspace      workspace containing reusable buffers.
+     */
+    private static void sequentialUpdate(final int n, final double[] uAseT, final double[] deltaZ,
+                                         final double pseudoRangeSD2, final double rangeRateSD2,
+                                         final boolean joseph, final double[] x, final double[] p,
+                                         final GNSSKalmanEpochWorkspace workspace) {
+        final var dx = workspace.dx;
+        final var ph = workspace.ph;
+        final var gain = workspace.gain;
+        Arrays.fill(dx, 0.0);
+
+        // pseudo-ranges depend on position and clock offset, whereas pseudo-range rates
+        // depend on velocity and clock drift
+        for (var type = 0; type < 2; type++) {
+            final var offset = 3 * type;
+            final var clock = 6 + type;
+            final var variance = type == 0 ? pseudoRangeSD2 : rangeRateSD2;
+
+            for (var j = 0; j < n; j++) {
+                final var u0 = uAseT[j];
+                final var u1 = uAseT[n + j];
+                final var u2 = uAseT[2 * n + j];
+
+                // P * H^T for a single row of H, which is [-u^T 0 1] or [0 -u^T 1]
+                final var col0 = offset * MATRIX_SIZE;
+                final var col1 = col0 + MATRIX_SIZE;
+                final var col2 = col1 + MATRIX_SIZE;
+                final var colClock = clock * MATRIX_SIZE;
+                for (var r = 0; r < MATRIX_SIZE; r++) {
+                    ph[r] = p[colClock + r] - u0 * p[col0 + r] - u1 * p[col1 + r] - u2 * p[col2 + r];
+                }
+
+                // scalar innovation covariance and innovation corrected by previous updates
+                final var s = ph[clock] - u0 * ph[offset] - u1 * ph[offset + 1] - u2 * ph[offset + 2]
+                        + variance;
+                final var innovation = deltaZ[type * n + j] - (dx[clock] - u0 * dx[offset]
+                        - u1 * dx[offset + 1] - u2 * dx[offset + 2]);
+
+                for (var r = 0; r < MATRIX_SIZE; r++) {
+                    gain[r] = ph[r] / s;
+                    dx[r] += gain[r] * innovation;
+                }
+
+                if (joseph) {
+                    // (I - K * H) * P = P - K * (P * H^T)^T, evaluated in full
+                    for (var c = 0; c < MATRIX_SIZE; c++) {
+                        final var colC = c * MATRIX_SIZE;
+                        for (var r = 0; r < MATRIX_SIZE; r++) {
+                            p[colC + r] -= gain[r] * ph[c];
+                        }
+                    }
+
+                    // (I - K * H) * P * H^T, where P * H^T is no longer needed
+                    for (var r = 0; r < MATRIX_SIZE; r++) {
+                        ph[r] = p[colClock + r] - u0 * p[col0 + r] - u1 * p[col1 + r] - u2 * p[col2 + r];
+                    }
+
+                    // P = (I - K * H) * P * (I - K * H)^T + K * R * K^T, keeping exact symmetry
+                    for (var c = 0; c < MATRIX_SIZE; c++) {
+                        final var colC = c * MATRIX_SIZE;
+                        for (var r = 0; r <= c; r++) {
+                            final var value = p[colC + r] - ph[r] * gain[c] + variance * gain[r] * gain[c];
+                            p[colC + r] = value;
+                            p[r * MATRIX_SIZE + c] = value;
+                        }
+                    }
+                } else {
+                    // P = P - K * H * P, keeping exact symmetry
+                    for (var c = 0; c < MATRIX_SIZE; c++) {
+                        final var colC = c * MATRIX_SIZE;
+                        for (var r = 0; r <= c; r++) {
+                            final var value = p[colC + r] - gain[r] * ph[c];
+                            p[colC + r] = value;
+                            p[r * MATRIX_SIZE + c] = value;
+                        }
+                    }
+                }
+            }
+        }
+
+        for (var i = 0; i < MATRIX_SIZE; i++) {
+            x[i] += dx[i];
+        }
+    }
+
+    /**
+     * Multiplies two matrices stored in column-major order.
+     * Products are accumulated in the same order as {@link Matrix#multiply(Matrix)}.
+     *
+     * @param a        first operand.
+     * @param rowsA    number of rows of first operand.
+     * @param columnsA number of columns of first operand and rows of second operand.
+     * @param b        second operand.
+     * @param columnsB number of columns of second operand.
+     * @param result   buffer where result will be stored. Must not be any of the operands.
+     */
+    static void multiply(final double[] a, final int rowsA, final int columnsA,
+                         final double[] b, final int columnsB, final double[] result) {
+        for (var k = 0; k < columnsB; k++) {
+            final var offsetB = k * columnsA;
+            final var offsetResult = k * rowsA;
+            for (var j = 0; j < rowsA; j++) {
+                var value = 0.0;
+                for (var i = 0; i < columnsA; i++) {
+                    value += a[i * rowsA + j] * b[offsetB + i];
+                }
+                result[offsetResult + j] = value;
+            }
+        }
+    }
+
+    /**
+     * Transposes a matrix stored in column-major order.
+     *
+     * @param a       matrix to be transposed.
+     * @param rows    number of rows of matrix to be transposed.
+     * @param columns number of columns of matrix to be transposed.
+     * @param result  buffer where transposed matrix will be stored.
+     */
+    static void transpose(final double[] a, final int rows, final int columns, final double[] result) {
+        for (var j = 0; j < rows; j++) {
+            for (var i = 0; i < columns; i++) {
+                result[j * columns + i] = a[i * rows + j];
+            }
+        }
+    }
+
+    /**
+     * Inverts a square matrix stored in column-major order using LU decomposition
+     * with partial pivoting.
+     * Operations are executed in the same order as {@link Utils#inverse(Matrix)}.
+     *
+     * @param a      matrix to be inverted.
+     * @param size   number of rows and columns of matrix to be inverted.
+     * @param lu     buffer where LU decomposition will be stored.
+     * @param piv    buffer where pivoting indices will be stored.
+     * @param result buffer where inverse will be stored.
+     * @throws RankDeficientMatrixException if matrix is singular.
+     */
+    static void inverse(final double[] a, final int size, final double[] lu, final int[] piv,
+                        final double[] result) throws RankDeficientMatrixException {
+        final var length = size * size;
+        System.arraycopy(a, 0, lu, 0, length);
+        for (var i = 0; i < size; i++) {
+            piv[i] = i;
+        }
+
+        for (var k = 0; k < size; k++) {
+            var p = k;
+            for (var i = k + 1; i < size; i++) {
+                p = Math.abs(lu[k * size + i]) > Math.abs(lu[k * size + p]) ? i : p;
+            }
+            if (p != k) {
+                for (var j = 0; j < size; j++) {
+                    final var t = lu[j * size + p];
+                    lu[j * size + p] = lu[j * size + k];
+                    lu[j * size + k] = t;
+                }
+                final var t = piv[p];
+                piv[p] = piv[k];
+                piv[k] = t;
+            }
+            final var lukk = lu[k * size + k];
+            if (lukk == 0.0) {
+                continue;
+            }
+            for (var i = k + 1; i < size; i++) {
+                final var luik = lu[k * size + i] / lukk;
+                lu[k * size + i] = luik;
+                for (var j = k + 1; j < size; j++) {
+                    lu[j * size + i] = lu[j * size + i] - luik * lu[j * size + k];
+                }
+            }
+        }
+
+        for (var j = 0; j < size; j++) {
+            if (lu[j * size + j] == 0.0) {
+                throw new RankDeficientMatrixException();
+            }
+        }
+
+        // solve for identity
+        Arrays.fill(result, 0, length, 0.0);
+        for (var i = 0; i < size; i++) {
+            result[piv[i] * size + i] = 1.0;
+        }
+        for (var k = 0; k < size; k++) {
+            for (var i = k + 1; i < size; i++) {
+                final var luik = lu[k * size + i];
+                for (var j = 0; j < size; j++) {
+                    result[j * size + i] = result[j * size + i] - result[j * size + k] * luik;
+                }
+            }
+        }
+        for (var k = size - 1; k >= 0; k--) {
+            final var lukk = lu[k * size + k];
+            for (var j = 0; j < size; j++) {
+                result[j * size + k] = result[j * size + k] / lukk;
+            }
+            for (var i = 0; i < k; i++) {
+                final var luik = lu[k * size + i];
+                for (var j = 0; j < size; j++) {
+                    result[j * size + i] = result[j * size + i] - result[j * size + k] * luik;
+                }
+            }
+        }
     }
 
     /**
@@ -0,0 +1,298 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.gnss;
+
+/**
+ * Contains preallocated buffers to execute a GNSS Kalman filter epoch without
+ * allocating any intermediate matrix.
+ * All buffers are stored in column-major order, so that results obtained through
+ * {@link GNSSKalmanEpochEstimator} using this workspace are exactly the same as
+ * the ones obtained without a workspace.
+ * Buffers depending on the number of measurements are grown only when a larger
+ * number of measurements is processed, hence once a workspace has been used with
+ * the maximum expected number of satellites no further allocations are made.
+ * Instances of this class are not thread-safe, and a different workspace must be
+ * used on each thread.
+ */
+public class GNSSKalmanEpochWorkspace {
+
+    /**
+     * Number of values stored for each measurement into the measurements buffer,
+     * which are: pseudo-range, pseudo-range rate, and ECEF x, y, z coordinates of
+     * satellite position and velocity.
+     */
+    public static final int MEASUREMENT_LENGTH = 8;
+
+    /**
+     * Number of parameters of Kalman filter state.
+     */
+    static final int N = GNSSEstimation.NUM_PARAMETERS;
+
+    /**
+     * Number of elements of 8x8 matrices.
+     */
+    static final int N2 = N * N;
+
+    /**
+     * Number of elements of 3x3 matrices.
+     */
+    static final int R3 = 9;
+
+    /**
+     * Transition matrix.
+     */
+    final double[] phi = new double[N2];
+
+    /**
+     * Transposed transition matrix.
+     */
+    final double[] phiTransposed = new double[N2];
+
+    /**
+     * System noise covariance matrix.
+     */
+    final double[] q = new double[N2];
+
+    /**
+     * Previous state.
+     */
+    final double[] xOld = new double[N];
+
+    /**
+     * Propagated (and afterward updated) state.
+     */
+    final double[] x = new double[N];
+
+    /**
+     * Temporary 8x8 matrix.
+     */
+    final double[] tmpN2 = new double[N2];
+
+    /**
+     * Propagated covariance matrix.
+     */
+    final double[] p = new double[N2];
+
+    /**
+     * Update of state.
+     */
+    final double[] dx = new double[N];
+
+    /**
+     * Covariance multiplied by a single transposed row of measurement matrix,
+     * used for sequential updates.
+     */
+    final double[] ph = new double[N];
+
+    /**
+     * Kalman gain of a single scalar measurement, used for sequential updates.
+     */
+    final double[] gain = new double[N];
+
+    /**
+     * Matrix (I - K * H) * P, used for Joseph form covariance updates.
+     */
+    final double[] ap = new double[N2];
+
+    /**
+     * Skew symmetric matrix of Earth rate.
+     */
+    final double[] omegaIe = new double[R3];
+
+    /**
+     * Frame rotation during signal transit time.
+     */
+    final double[] cei = new double[R3];
+
+    /**
+     * Satellite position.
+     */
+    final double[] satellitePosition = new double[3];
+
+    /**
+     * Satellite velocity.
+     */
+    final double[] satelliteVelocity = new double[3];
+
+    /**
+     * Difference between rotated satellite position and user position.
+     */
+    final double[] deltaR = new double[3];
+
+    /**
+     * Earth rate contribution to satellite velocity.
+     */
+    final double[] tmp1 = new double[3];
+
+    /**
+     * Satellite velocity including Earth rate contribution.
+     */
+    final double[] tmp2 = new double[3];
+
+    /**
+     * Rotated satellite velocity.
+     */
+    final double[] tmp3 = new double[3];
+
+    /**
+     * Earth rate contribution to user velocity.
+     */
+    final double[] tmp4 = new double[3];
+
+    /**
+     * Difference between rotated satellite velocity and user velocity.
+     */
+    final double[] tmp5 = new double[3];
+
+    /**
+     * User velocity including Earth rate contribution.
+     */
+    final double[] tmp6 = new double[3];
+
+    /**
+     * Measurements data containing {@link #MEASUREMENT_LENGTH} values per satellite.
+     */
+    double[] measurements = new double[0];
+
+    /**
+     * Line of sight unit vectors (Nx3).
+     */
+    double[] uAseT = new double[0];
+
+    /**
+     * Predicted measurements (Nx2).
+     */
+    double[] predMeas = new double[0];
+
+    /**
+     * Measurement matrix (2Nx8).
+     */
+    double[] h = new double[0];
+
+    /**
+     * Transposed measurement matrix (8x2N).
+     */
+    double[] hTransposed = new double[0];
+
+    /**
+     * Covariance multiplied by transposed measurement matrix (8x2N).
+     */
+    double[] pht = new double[0];
+
+    /**
+     * Innovation covariance matrix (2Nx2N).
+     */
+    double[] s = new double[0];
+
+    /**
+     * LU decomposition of innovation covariance matrix (2Nx2N).
+     */
+    double[] lu = new double[0];
+
+    /**
+     * Inverse of innovation covariance matrix (2Nx2N).
+     */
+    double[] sInv = new double[0];
+
+    /**
+     * Pivoting indices of LU decomposition.
+     */
+    int[] piv = new int[0];
+
+    /**
+     * Kalman gain matrix (8x2N).
+     */
+    double[] k = new double[0];
+
+    /**
+     * Matrix (I - K * H) * P * H^T (8x2N), used for Joseph form covariance updates.
+     */
+    double[] apht = new double[0];
+
+    /**
+     * Measurement innovations (2Nx1).
+     */
+    double[] deltaZ = new double[0];
+
+    /**
+     * Maximum number of measurements that can be processed without
+     * resizing internal buffers.
+     */
+    private int capacity;
+
+    /**
+     * Constructor.
+     */
+    public GNSSKalmanEpochWorkspace() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity expected maximum number of measurements to be processed.
+     * @throws IllegalArgumentException if provided capacity is negative.
+     */
+    public GNSSKalmanEpochWorkspace(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        ensureCapacity(capacity);
+    }
+
+    /**
+     * Gets maximum number of measurements that can be processed without
+     * resizing internal buffers.
+     *
+     * @return maximum number of measurements that can be processed without
+     * resizing internal buffers.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Ensures that internal buffers are large enough to process provided number of
+     * measurements.
+     * Buffers are only reallocated when provided number of measurements exceeds
+     * current capacity.
+     *
+     * @param numberOfMeasurements number of measurements to be processed.
+     */
+    public void ensureCapacity(final int numberOfMeasurements) {
+        if (numberOfMeasurements <= capacity) {
+            return;
+        }
+
+        final var m = 2 * numberOfMeasurements;
+        final var m2 = m * m;
+
+        measurements = new double[MEASUREMENT_LENGTH * numberOfMeasurements];
+        uAseT = new double[3 * numberOfMeasurements];
+        predMeas = new double[2 * numberOfMeasurements];
+        h = new double[m * N];
+        hTransposed = new double[N * m];
+        pht = new double[N * m];
+        s = new double[m2];
+        lu = new double[m2];
+        sInv = new double[m2];
+        piv = new int[m];
+        k = new double[N * m];
+        apht = new double[N * m];
+        deltaZ = new double[m];
+
+        capacity = numberOfMeasurements;
+    }
+}
@@ -22,7 +22,8 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeConverter;
 import com.irurueta.units.TimeUnit;
 
-import java.util.ArrayList;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
 import java.util.Collection;
 
 /**
@@ -43,11 +44,23 @@ public class GNSSKalmanFilteredEstimator {
     private final GNSSLeastSquaresPositionAndVelocityEstimator lsEstimator =
             new GNSSLeastSquaresPositionAndVelocityEstimator();
 
+    /**
+     * Workspace containing reusable buffers to compute Kalman filter epochs without
+     * allocating intermediate matrices.
+     */
+    private final GNSSKalmanEpochWorkspace workspace = new GNSSKalmanEpochWorkspace();
+
     /**
      * Listener to notify events raised by this instance.
      */
     private GNSSKalmanFilteredEstimatorListener listener;
 
+    /**
+     * Fault detection and exclusion stage applied to least squares solutions of
+     * updated measurements, or null if disabled.
+     */
+    private GNSSFaultDetectionAndExclusion faultDetectionAndExclusion;
+
     /**
      * Minimum epoch interval expressed in seconds (s) between consecutive
      * propagations or measurements.
@@ -62,9 +75,25 @@ public class GNSSKalmanFilteredEstimator {
     private GNSSKalmanConfig config;
 
     /**
-     * GNSS measurements of a collection of satellites.
+     * GNSS measurements of a collection of satellites stored as
+     * {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH} values per satellite.
+     * This buffer is reused between updates and only grows when a larger number
+     * of satellites is provided.
      */
-    private Collection<GNSSMeasurement> measurements;
+    private double[] measurements;
+
+    /**
+     * Number of satellite measurements contained in measurements buffer.
+     */
+    private int numberOfMeasurements;
+
+    /**
+     * Pseudo-range variances obtained from configuration and provided to fault
+     * detection and exclusion stage.
+     * This buffer is reused between updates and only grows when a larger number
+     * of satellites is provided.
+     */
+    private double[] pseudoRangeVariances;
 
     /**
      * Current estimation containing user ECEF position, user ECEF velocity, clock offset
@@ -381,8 +410,46 @@ public class GNSSKalmanFilteredEstimator {
         this.config = new GNSSKalmanConfig(config);
     }
 
+    /**
+     * Gets fault detection and exclusion stage applied to least squares solutions
+     * of updated measurements.
+     *
+     * @return fault detection and exclusion stage or null if disabled.
+     */
+    public GNSSFaultDetectionAndExclusion getFaultDetectionAndExclusion() {
+        return faultDetectionAndExclusion;
+    }
+
+    /**
+     * Sets fault detection and exclusion stage applied to least squares solutions
+     * of updated measurements.
+     * When enabled, satellites excluded on each measurements update are removed
+     * from last updated measurements, hence they are neither used to solve
+     * velocity nor to update Kalman filter state.
+     * Residuals are weighted using the pseudo-range standard deviation of
+     * {@link #getConfig()}, so that the probability of false alarm of provided
+     * instance matches the noise assumed by the Kalman filter. Pseudo-range
+     * standard deviation of provided instance is only used when no configuration
+     * is set or configured pseudo-range standard deviation is not positive.
+     * Results of last processing can be obtained from provided instance.
+     *
+     * @param faultDetectionAndExclusion fault detection and exclusion stage or null
+     *                                   to disable it.
+     * @throws LockedException if this estimator is already running.
+     */
+    public void setFaultDetectionAndExclusion(
+            final GNSSFaultDetectionAndExclusion faultDetectionAndExclusion) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        this.faultDetectionAndExclusion = faultDetectionAndExclusion;
+    }
+
     /**
      * Gets last updated GNSS measurements of a collection of satellites.
+     * When fault detection and exclusion is enabled, excluded satellites are
+     * not included.
      *
      * @return last updated GNSS measurements of a collection of satellites.
      */
@@ -391,11 +458,42 @@ public class GNSSKalmanFilteredEstimator {
             return null;
         }
 
-        final var result = new ArrayList<GNSSMeasurement>();
-        for (final var measurement : measurements) {
-            result.add(new GNSSMeasurement(measurement));
+        return GNSSLeastSquaresPositionAndVelocityEstimator.toMeasurements(measurements, 0,
+                numberOfMeasurements);
+    }
+
+    /**
+     * Gets number of last updated GNSS measurements.
+     *
+     * @return number of last updated GNSS measurements or 0 if none is available.
+     */
+    public int getNumberOfMeasurements() {
+        return measurements != null ? numberOfMeasurements : 0;
+    }
+
+    /**
+     * Copies last updated GNSS measurements into provided buffer using
+     * {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH} values per satellite:
+     * pseudo-range, pseudo-range rate, and ECEF x, y, z coordinates of satellite
+     * position and velocity.
+     *
+     * @param result buffer where measurements will be stored.
+     * @param offset position where first measurement value will be stored.
+     * @return true if measurements were copied, false if none is available.
+     * @throws IllegalArgumentException if provided buffer is too small.
+     */
+    public boolean getMeasurements(final double[] result, final int offset) {
+        if (measurements == null) {
+            return false;
         }
-        return result;
+
+        final var length = numberOfMeasurements * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+        if (offset < 0 || offset + length > result.length) {
+            throw new IllegalArgumentException();
+        }
+
+        System.arraycopy(measurements, 0, result, offset, length);
+        return true;
     }
 
     /**
@@ -512,6 +610,17 @@ public class GNSSKalmanFilteredEstimator {
         return GNSSLeastSquaresPositionAndVelocityEstimator.isValidMeasurements(measurements);
     }
 
+    /**
+     * Indicates whether provided number of measurements is enough to be used for an
+     * update.
+     *
+     * @param numberOfMeasurements number of satellite measurements to be checked.
+     * @return true if estimator is ready, false otherwise.
+     */
+    public static boolean isUpdateMeasurementsReady(final int numberOfMeasurements) {
+        return numberOfMeasurements >= GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS;
+    }
+
     /**
      * Updates GNSS measurements of this estimator when new satellite measurements
      * are available.
@@ -563,6 +672,202 @@ public class GNSSKalmanFilteredEstimator {
             return false;
         }
 
+        final var n = measurements.size();
+        final var buffer = prepareMeasurements(n);
+        var pos = 0;
+        for (final var measurement : measurements) {
+            buffer[pos++] = measurement.getPseudoRange();
+            buffer[pos++] = measurement.getPseudoRate();
+            buffer[pos++] = measurement.getX();
+            buffer[pos++] = measurement.getY();
+            buffer[pos++] = measurement.getZ();
+            buffer[pos++] = measurement.getVx();
+            buffer[pos++] = measurement.getVy();
+            buffer[pos++] = measurement.getVz();
+        }
+
+        return updateMeasurements(timestamp);
+    }
+
+    /**
+     * Updates GNSS measurements of this estimator when new satellite measurements
+     * are available, using a buffer of primitive values, so that no
+     * {@link GNSSMeasurement} instance needs to be created for each satellite.
+     * Calls to this method will be ignored if interval between provided timestamp
+     * and last timestamp when Kalman filter was updated is less than epoch interval.
+     *
+     * @param measurements         buffer containing
+     *                             {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH}
+     *                             values per satellite: pseudo-range, pseudo-range
+     *                             rate, and ECEF x, y, z coordinates of satellite
+     *                             position and velocity.
+     * @param offset               position of first measurement value.
+     * @param numberOfMeasurements number of satellite measurements.
+     * @param timestamp            timestamp since epoch time when GNSS measurements
+     *                             were updated.
+     * @return true if measurements were updated, false otherwise.
+     * @throws IllegalArgumentException if provided buffer does not contain provided
+     *                                  number of measurements.
+     * @throws LockedException          if this estimator is already running.
+     * @throws NotReadyException        if estimator is not ready for measurements
+     *                                  updates.
+     * @throws GNSSException            if estimation fails due to numerical
+     *                                  instabilities.
+     */
+    public boolean updateMeasurements(
+            final double[] measurements, final int offset, final int numberOfMeasurements, final Time timestamp)
+            throws LockedException, NotReadyException, GNSSException {
+        return updateMeasurements(measurements, offset, numberOfMeasurements, TimeConverter.convert(
+                timestamp.getValue().doubleValue(), timestamp.getUnit(), TimeUnit.SECOND));
+    }
+
+    /**
+     * Updates GNSS measurements of this estimator when new satellite measurements
+     * are available, using a buffer of primitive values, so that no
+     * {@link GNSSMeasurement} instance needs to be created for each satellite.
+     * Calls to this method will be ignored if interval between provided timestamp
+     * and last timestamp when Kalman filter was updated is less than epoch interval.
+     *
+     * @param measurements         buffer containing
+     *                             {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH}
+     *                             values per satellite: pseudo-range, pseudo-range
+     *                             rate, and ECEF x, y, z coordinates of satellite
+     *                             position and velocity.
+     * @param offset               position of first measurement value.
+     * @param numberOfMeasurements number of satellite measurements.
+     * @param timestamp            timestamp expressed in seconds since epoch time when
+     *                             GNSS measurements were updated.
+     * @return true if measurements were updated, false otherwise.
+     * @throws IllegalArgumentException if provided buffer does not contain provided
+     *                                  number of measurements.
+     * @throws LockedException          if this estimator is already running.
+     * @throws NotReadyException        if estimator is not ready for measurements
+     *                                  updates.
+     * @throws GNSSException            if estimation fails due to numerical
+     *                                  instabilities.
+     */
+    public boolean updateMeasurements(
+            final double[] measurements, final int offset, final int numberOfMeasurements, final double timestamp)
+            throws LockedException, NotReadyException, GNSSException {
+
+        if (running) {
+            throw new LockedException();
+        }
+
+        if (!isUpdateMeasurementsReady(numberOfMeasurements)) {
+            throw new NotReadyException();
+        }
+
+        final var length = numberOfMeasurements * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+        if (offset < 0 || offset + length > measurements.length) {
+            throw new IllegalArgumentException();
+        }
+
+        if (lastStateTimestamp != null && timestamp - lastStateTimestamp <= epochInterval) {
+            return false;
+        }
+
+        System.arraycopy(measurements, offset, prepareMeasurements(numberOfMeasurements), 0, length);
+
+        return updateMeasurements(timestamp);
+    }
+
+    /**
+     * Updates GNSS measurements of this estimator when new satellite measurements
+     * are available, using a buffer of primitive values, so that no
+     * {@link GNSSMeasurement} instance needs to be created for each satellite.
+     * Values are read starting at current buffer position, which is not modified.
+     * Calls to this method will be ignored if interval between provided timestamp
+     * and last timestamp when Kalman filter was updated is less than epoch interval.
+     *
+     * @param measurements         buffer containing
+     *                             {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH}
+     *                             values per satellite: pseudo-range, pseudo-range
+     *                             rate, and ECEF x, y, z coordinates of satellite
+     *                             position and velocity.
+     * @param numberOfMeasurements number of satellite measurements.
+     * @param timestamp            timestamp since epoch time when GNSS measurements
+     *                             were updated.
+     * @return true if measurements were updated, false otherwise.
+     * @throws IllegalArgumentException if provided buffer does not contain provided
+     *                                  number of measurements.
+     * @throws LockedException          if this estimator is already running.
+     * @throws NotReadyException        if estimator is not ready for measurements
+     *                                  updates.
+     * @throws GNSSException            if estimation fails due to numerical
+     *                                  instabilities.
+     */
+    public boolean updateMeasurements(
+            final DoubleBuffer measurements, final int numberOfMeasurements, final Time timestamp)
+            throws LockedException, NotReadyException, GNSSException {
+        return updateMeasurements(measurements, numberOfMeasurements, TimeConverter.convert(
+                timestamp.getValue().doubleValue(), timestamp.getUnit(), TimeUnit.SECOND));
+    }
+
+    /**
+     * Updates GNSS measurements of this estimator when new satellite measurements
+     * are available, using a buffer of primitive values, so that no
+     * {@link GNSSMeasurement} instance needs to be created for each satellite.
+     * Values are read starting at current buffer position, which is not modified.
+     * Calls to this method will be ignored if interval between provided timestamp
+     * and last timestamp when Kalman filter was updated is less than epoch interval.
+     *
+     * @param measurements         buffer containing
+     *                             {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH}
+     *                             values per satellite: pseudo-range, pseudo-range
+     *                             rate, and ECEF x, y, z coordinates of satellite
+     *                             position and velocity.
+     * @param numberOfMeasurements number of satellite measurements.
+     * @param timestamp            timestamp expressed in seconds since epoch time when
+     *                             GNSS measurements were updated.
+     * @return true if measurements were updated, false otherwise.
+     * @throws IllegalArgumentException if provided buffer does not contain provided
+     *                                  number of measurements.
+     * @throws LockedException          if this estimator is already running.
+     * @throws NotReadyException        if estimator is not ready for measurements
+     *                                  updates.
+     * @throws GNSSException            if estimation fails due to numerical
+     *                                  instabilities.
+     */
+    public boolean updateMeasurements(
+            final DoubleBuffer measurements, final int numberOfMeasurements, final double timestamp)
+            throws LockedException, NotReadyException, GNSSException {
+
+        if (running) {
+            throw new LockedException();
+        }
+
+        if (!isUpdateMeasurementsReady(numberOfMeasurements)) {
+            throw new NotReadyException();
+        }
+
+        final var length = numberOfMeasurements * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+        if (length > measurements.remaining()) {
+            throw new IllegalArgumentException();
+        }
+
+        if (lastStateTimestamp != null && timestamp - lastStateTimestamp <= epochInterval) {
+            return false;
+        }
+
+        measurements.get(measurements.position(), prepareMeasurements(numberOfMeasurements), 0, length);
+
+        return updateMeasurements(timestamp);
+    }
+
+    /**
+     * Computes a new least squares estimation using measurements already stored in
+     * internal buffer and propagates Kalman filter state.
+     *
+     * @param timestamp timestamp expressed in seconds since epoch time when GNSS
+     *                  measurements were updated.
+     * @return true if measurements were updated, false otherwise.
+     * @throws LockedException   if this estimator is already running.
+     * @throws NotReadyException if estimator is not ready for measurements updates.
+     * @throws GNSSException     if estimation fails due to numerical instabilities.
+     */
+    private boolean updateMeasurements(final double timestamp)
+            throws LockedException, NotReadyException, GNSSException {
         try {
             running = true;
 
@@ -570,9 +875,7 @@ public class GNSSKalmanFilteredEstimator {
                 listener.onUpdateStart(this);
             }
 
-            this.measurements = new ArrayList<>(measurements);
-
-            lsEstimator.setMeasurements(this.measurements);
+            lsEstimator.setMeasurements(measurements, 0, numberOfMeasurements);
             lsEstimator.setPriorPositionAndVelocityFromEstimation(estimation);
             if (estimation != null) {
                 lsEstimator.estimate(estimation);
@@ -580,6 +883,16 @@ public class GNSSKalmanFilteredEstimator {
                 estimation = lsEstimator.estimate();
             }
 
+            if (faultDetectionAndExclusion != null && faultDetectionAndExclusion.detectAndExclude(
+                    measurements, 0, numberOfMeasurements, preparePseudoRangeVariances(), estimation) > 0) {
+                // solve again without excluded satellites, starting at the
+                // solution obtained when excluding them
+                numberOfMeasurements = faultDetectionAndExclusion.removeExcluded(measurements, 0);
+                lsEstimator.setMeasurements(measurements, 0, numberOfMeasurements);
+                lsEstimator.setPriorPositionAndVelocityFromEstimation(estimation);
+                lsEstimator.estimate(estimation);
+            }
+
             if (listener != null) {
                 listener.onUpdateEnd(this);
             }
@@ -654,10 +967,12 @@ public class GNSSKalmanFilteredEstimator {
             }
 
             if (state == null) {
-                state = GNSSKalmanInitializer.initialize(estimation, config);
+                // state keeps its own estimation instance, since it is updated in place
+                state = GNSSKalmanInitializer.initialize(new GNSSEstimation(estimation), config);
             }
 
-            GNSSKalmanEpochEstimator.estimate(measurements, propagationInterval, state, config, state);
+            GNSSKalmanEpochEstimator.estimate(measurements, 0, numberOfMeasurements, propagationInterval, state,
+                    config, state, workspace);
             lastStateTimestamp = timestamp;
 
             state.getEstimation(estimation);
@@ -675,6 +990,42 @@ public class GNSSKalmanFilteredEstimator {
         return true;
     }
 
+    /**
+     * Ensures that internal measurements buffer can hold provided number of
+     * measurements, reusing it when possible.
+     *
+     * @param numberOfMeasurements number of satellite measurements to be stored.
+     * @return internal measurements buffer.
+     */
+    private double[] prepareMeasurements(final int numberOfMeasurements) {
+        final var length = numberOfMeasurements * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+        if (measurements == null || measurements.length < length) {
+            measurements = new double[length];
+        }
+        this.numberOfMeasurements = numberOfMeasurements;
+        return measurements;
+    }
+
+    /**
+     * Fills internal pseudo-range variances buffer using pseudo-range standard
+     * deviation of configuration, reusing buffer when possible.
+     *
+     * @return internal pseudo-range variances buffer, or null if no configuration
+     * is set or configured pseudo-range standard deviation is not positive.
+     */
+    private double[] preparePseudoRangeVariances() {
+        if (config == null || !(config.getPseudoRangeSD() > 0.0)) {
+            return null;
+        }
+
+        if (pseudoRangeVariances == null || pseudoRangeVariances.length < numberOfMeasurements) {
+            pseudoRangeVariances = new double[numberOfMeasurements];
+        }
+        final var pseudoRangeSD = config.getPseudoRangeSD();
+        Arrays.fill(pseudoRangeVariances, 0, numberOfMeasurements, pseudoRangeSD * pseudoRangeSD);
+        return pseudoRangeVariances;
+    }
+
     /**
      * Resets this estimator.
      *
@@ -687,6 +1038,7 @@ public class GNSSKalmanFilteredEstimator {
 
         running = true;
         measurements = null;
+        numberOfMeasurements = 0;
         estimation = null;
         state = null;
         lastStateTimestamp = null;
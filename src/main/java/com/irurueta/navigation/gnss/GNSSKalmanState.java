@@ -16,6 +16,7 @@
 package com.irurueta.navigation.gnss;
 
 import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -25,6 +26,13 @@ import java.util.Objects;
  */
 public class GNSSKalmanState implements Serializable, Cloneable {
 
+    /**
+     * Number of elements of a packed symmetric covariance matrix, which only
+     * contains its upper triangle.
+     */
+    public static final int PACKED_COVARIANCE_LENGTH =
+            GNSSEstimation.NUM_PARAMETERS * (GNSSEstimation.NUM_PARAMETERS + 1) / 2;
+
     /**
      * Contains estimation of ECEF position and velocity, and estimated clock
      * offset and drift.
@@ -140,6 +148,87 @@ public class GNSSKalmanState implements Serializable, Cloneable {
         this.covariance = covariance;
     }
 
+    /**
+     * Gets upper triangle of Kalman filter error covariance matrix packed column by
+     * column, so that element (i, j) with i &lt;= j is stored at position
+     * i + j * (j + 1) / 2.
+     * Since covariance is symmetric, this representation contains all of its
+     * information using almost half of the storage.
+     *
+     * @param result array where packed covariance will be stored. Must have
+     *               {@link #PACKED_COVARIANCE_LENGTH} length.
+     * @return true if result data has been copied, false otherwise.
+     * @throws IllegalArgumentException if provided array does not have
+     *                                  {@link #PACKED_COVARIANCE_LENGTH} length.
+     */
+    public boolean getPackedCovariance(final double[] result) {
+        if (result.length != PACKED_COVARIANCE_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+
+        if (covariance == null) {
+            return false;
+        }
+
+        final var buffer = covariance.getBuffer();
+        var pos = 0;
+        for (var j = 0; j < GNSSEstimation.NUM_PARAMETERS; j++) {
+            final var col = j * GNSSEstimation.NUM_PARAMETERS;
+            for (var i = 0; i <= j; i++) {
+                result[pos++] = buffer[col + i];
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets upper triangle of Kalman filter error covariance matrix packed column by
+     * column, so that element (i, j) with i &lt;= j is stored at position
+     * i + j * (j + 1) / 2.
+     *
+     * @return packed covariance or null if covariance is not available.
+     */
+    public double[] getPackedCovariance() {
+        final var result = new double[PACKED_COVARIANCE_LENGTH];
+        return getPackedCovariance(result) ? result : null;
+    }
+
+    /**
+     * Sets Kalman filter error covariance matrix from its upper triangle packed
+     * column by column, so that element (i, j) with i &lt;= j is read from position
+     * i + j * (j + 1) / 2.
+     * Resulting covariance matrix is exactly symmetric. If this instance already
+     * contains a covariance matrix, it is reused.
+     *
+     * @param packed packed covariance. Must have {@link #PACKED_COVARIANCE_LENGTH}
+     *               length.
+     * @throws IllegalArgumentException if provided array does not have
+     *                                  {@link #PACKED_COVARIANCE_LENGTH} length.
+     */
+    public void setPackedCovariance(final double[] packed) {
+        if (packed.length != PACKED_COVARIANCE_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+
+        if (covariance == null) {
+            try {
+                covariance = new Matrix(GNSSEstimation.NUM_PARAMETERS, GNSSEstimation.NUM_PARAMETERS);
+            } catch (final WrongSizeException ignore) {
+                // never happens
+            }
+        }
+
+        final var buffer = covariance.getBuffer();
+        var pos = 0;
+        for (var j = 0; j < GNSSEstimation.NUM_PARAMETERS; j++) {
+            for (var i = 0; i <= j; i++) {
+                final var value = packed[pos++];
+                buffer[j * GNSSEstimation.NUM_PARAMETERS + i] = value;
+                buffer[i * GNSSEstimation.NUM_PARAMETERS + j] = value;
+            }
+        }
+    }
+
     /**
      * Copies this instance data into provided instance.
      *
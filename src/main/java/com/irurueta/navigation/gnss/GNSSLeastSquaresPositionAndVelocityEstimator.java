@@ -15,10 +15,10 @@
  */
 package com.irurueta.navigation.gnss;
 
-import com.irurueta.algebra.AlgebraException;
 import com.irurueta.algebra.Matrix;
-import com.irurueta.algebra.Utils;
+import com.irurueta.algebra.NonSymmetricPositiveDefiniteMatrixException;
 import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.Accuracy3D;
 import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
 import com.irurueta.navigation.frames.ECEFPosition;
@@ -29,13 +29,22 @@ import com.irurueta.navigation.frames.converters.ECEFtoNEDPositionVelocityConver
 import com.irurueta.navigation.frames.converters.NEDtoECEFPositionVelocityConverter;
 import com.irurueta.navigation.geodesic.Constants;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 
 /**
  * Calculates position, velocity, clock offset and clock drift using
- * unweighted iterated least squares.
+ * iterated least squares.
  * Separate calculations are implemented for position and clock offset and
  * for velocity and clock drift.
+ * By default, all pseudo-ranges are weighted equally. Optionally, position and
+ * clock offset can be obtained using weighted least squares, either with
+ * provided pseudo-range variances or with variances derived from satellite
+ * elevation, in which case the covariance of estimated position is also
+ * available.
+ * Dilution of precision values are also obtained from the geometry of the
+ * last position solution.
  * This implementation is based on the equations defined in "Principles of GNSS, Inertial, and Multi-sensor
  * Integrated Navigation Systems, Second Edition" and on the companion software available at:
  * <a href="https://github.com/ymjdz/MATLAB-Codes/blob/master/GNSS_LS_position_velocity.m">
@@ -54,6 +63,20 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
      */
     public static final double CONVERGENCE_THRESHOLD = 1e-4;
 
+    /**
+     * Default maximum number of iterations to solve position and clock offset, or
+     * velocity and clock drift.
+     * Gauss-Newton iterations typically converge in a few iterations, hence this
+     * value bounds estimation time when satellite geometry is poor.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 20;
+
+    /**
+     * Number of consecutive iterations where correction norm grows after which
+     * iterations are considered to be diverging.
+     */
+    private static final int DIVERGING_ITERATIONS = 2;
+
     /**
      * Speed of light in the vacuum expressed in meters per second (m/s).
      */
@@ -70,210 +93,149 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
     private static final int STATE_COMPONENTS = ECEFPosition.COMPONENTS + 1;
 
     /**
-     * Number of elements of position, velocity, etc.
+     * Number of elements of position.
      */
     private static final int ELEMS = ECEFPosition.COMPONENTS;
 
-    /**
-     * Number of elements of position minus one.
-     */
-    private static final int ELEMS_MINUS_ONE = ELEMS - 1;
-
     /**
      * GNSS measurements of a collection of satellites.
      */
     private Collection<GNSSMeasurement> measurements;
 
     /**
-     * Previously predicted ECEF user position and velocity.
-     */
-    private ECEFPositionAndVelocity priorPositionAndVelocity;
-
-    /**
-     * Listener to notify events raised by this instance.
+     * Buffer containing GNSS measurements of a collection of satellites when
+     * measurements are provided as primitive values, or internal buffer where
+     * provided collection of measurements is packed before estimation.
+     * Each satellite measurement contains
+     * {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH} values.
      */
-    private GNSSLeastSquaresPositionAndVelocityEstimatorListener listener;
+    private double[] measurementsBuffer;
 
     /**
-     * Threshold to determine when convergence has been reached.
+     * Position of first measurement value within measurements buffer.
      */
-    private double convergenceThreshold = CONVERGENCE_THRESHOLD;
+    private int measurementsOffset;
 
     /**
-     * Indicates whether estimation is currently running.
+     * Number of measurements contained in measurements buffer.
      */
-    private boolean running;
+    private int numberOfMeasurements;
 
     /**
-     * Internal matrix to be reused containing frame rotation during signal transit
-     * time.
+     * Internal buffer where collections of measurements are packed, reused between
+     * estimations.
      */
-    private final Matrix cei;
+    private double[] packedMeasurements = new double[0];
 
     /**
-     * Predicted state to be reused.
+     * Previously predicted ECEF user position and velocity.
      */
-    private final Matrix xPred;
+    private ECEFPositionAndVelocity priorPositionAndVelocity;
 
     /**
-     * Temporal matrix to be reused.
+     * Listener to notify events raised by this instance.
      */
-    private final Matrix tmp1;
+    private GNSSLeastSquaresPositionAndVelocityEstimatorListener listener;
 
     /**
-     * Temporal matrix to be reused.
+     * Threshold to determine when convergence has been reached.
      */
-    private final Matrix tmp2;
+    private double convergenceThreshold = CONVERGENCE_THRESHOLD;
 
     /**
-     * Estimated state to be reused.
+     * Indicates whether estimation is currently running.
      */
-    private final Matrix xEst;
+    private boolean running;
 
     /**
-     * Contains square representation of measurement or geometry matrix.
+     * Maximum number of Gauss-Newton iterations for each of the position and
+     * velocity solutions.
      */
-    private final Matrix hSqr;
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
 
     /**
-     * Inverse of the square representation of measurement or geometry matrix.
+     * Variances of pseudo-range measurements, one for each satellite and in the
+     * same order as measurements, expressed in squared meters (m^2).
      */
-    private final Matrix invHSqr;
+    private double[] pseudoRangeVariances;
 
     /**
-     * Temporal matrix to be reused.
+     * GNSS configuration used to derive variances of pseudo-range measurements
+     * from satellite elevation.
      */
-    private final Matrix tmp3;
+    private GNSSConfig elevationWeightingConfig;
 
     /**
-     * Skew symmetric matrix of Earth rotation rate.
+     * Indicates whether dilution of precision values are available.
      */
-    private final Matrix omegaIe;
+    private boolean dilutionOfPrecisionAvailable;
 
     /**
-     * Temporal matrix to be reused.
+     * Indicates whether covariance of estimated position is available.
      */
-    private final Matrix tmp4;
+    private boolean positionCovarianceAvailable;
 
     /**
-     * Temporal matrix to be reused.
+     * Predicted state to be reused.
      */
-    private final Matrix tmp5;
+    private final double[] xPred = new double[STATE_COMPONENTS];
 
     /**
-     * Temporal matrix to be reused.
+     * Normal matrix (square representation of measurement or geometry matrix)
+     * to be reused.
+     * Only its lower triangle is used, and it is stored in row-major order.
      */
-    private final Matrix tmp6;
+    private final double[] hSqr = new double[STATE_COMPONENTS * STATE_COMPONENTS];
 
     /**
-     * Temporal matrix to be reused.
+     * Transposed measurement matrix multiplied by measurement innovations,
+     * which contains the state correction once normal equations are solved.
      */
-    private final Matrix tmp7;
+    private final double[] delta = new double[STATE_COMPONENTS];
 
     /**
-     * Temporal matrix to be reused.
+     * Unweighted normal matrix, which only depends on satellite geometry, used when
+     * weighted least squares is used.
+     * Only its lower triangle is used, and it is stored in row-major order.
      */
-    private final Matrix tmp8;
+    private final double[] geometry = new double[STATE_COMPONENTS * STATE_COMPONENTS];
 
     /**
-     * Temporal matrix to be reused.
+     * Inverse of unweighted normal matrix, from which dilution of precision
+     * values are obtained.
      */
-    private final Matrix tmp9;
+    private final double[] geometryInverse = new double[STATE_COMPONENTS * STATE_COMPONENTS];
 
     /**
-     * Temporal matrix to be reused.
+     * Inverse of weighted normal matrix, which contains covariance of estimated
+     * position and clock offset.
      */
-    private final Matrix tmp10;
+    private final double[] covariance = new double[STATE_COMPONENTS * STATE_COMPONENTS];
 
     /**
-     * Measurement position to be reused.
+     * Estimated ECEF user position used to obtain dilution of precision values.
      */
-    private final Matrix measurementPosition;
+    private final double[] dilutionOfPrecisionPosition = new double[ECEFPosition.COMPONENTS];
 
     /**
-     * Measurement velocity to be reused.
+     * Local up direction resolved on ECEF frame.
      */
-    private final Matrix measurementVelocity;
+    private final double[] up = new double[ECEFPosition.COMPONENTS];
 
     /**
-     * Predicted velocity to be reused.
+     * NED position to be reused when computing local up direction.
      */
-    private final Matrix predVelocity;
+    private final NEDPosition nedPosition = new NEDPosition();
 
     /**
-     * Result position to be reused.
+     * NED velocity to be reused when computing local up direction.
      */
-    private final Matrix resultPosition;
+    private final NEDVelocity nedVelocity = new NEDVelocity();
 
     /**
      * Constructor.
      */
     public GNSSLeastSquaresPositionAndVelocityEstimator() {
-        Matrix cxPred = null;
-        Matrix ctmp1 = null;
-        Matrix ctmp2 = null;
-        Matrix cxEst = null;
-        Matrix chSqr = null;
-        Matrix cinvHSqr = null;
-        Matrix ctmp3 = null;
-        Matrix comegaIe = null;
-        Matrix ccei = null;
-        Matrix ctmp4 = null;
-        Matrix ctmp5 = null;
-        Matrix ctmp6 = null;
-        Matrix ctmp7 = null;
-        Matrix ctmp8 = null;
-        Matrix ctmp9 = null;
-        Matrix ctmp10 = null;
-        Matrix cmeasurementPosition = null;
-        Matrix cmeasurementVelocity = null;
-        Matrix cpredVelocity = null;
-        Matrix cresultPosition = null;
-        try {
-            ccei = Matrix.identity(ELEMS, ELEMS);
-            cxPred = new Matrix(STATE_COMPONENTS, 1);
-            ctmp1 = new Matrix(ELEMS, 1);
-            ctmp2 = new Matrix(ELEMS, 1);
-            cxEst = new Matrix(STATE_COMPONENTS, 1);
-            chSqr = new Matrix(STATE_COMPONENTS, STATE_COMPONENTS);
-            cinvHSqr = new Matrix(STATE_COMPONENTS, STATE_COMPONENTS);
-            ctmp3 = new Matrix(STATE_COMPONENTS, 1);
-            comegaIe = Utils.skewMatrix(new double[]{0.0, 0.0, EARTH_ROTATION_RATE});
-            ctmp4 = new Matrix(STATE_COMPONENTS, 1);
-            ctmp5 = new Matrix(STATE_COMPONENTS, 1);
-            ctmp6 = new Matrix(STATE_COMPONENTS, 1);
-            ctmp7 = new Matrix(STATE_COMPONENTS, 1);
-            ctmp8 = new Matrix(STATE_COMPONENTS, 1);
-            ctmp9 = new Matrix(STATE_COMPONENTS, 1);
-            ctmp10 = new Matrix(STATE_COMPONENTS, 1);
-            cmeasurementPosition = new Matrix(ELEMS, 1);
-            cmeasurementVelocity = new Matrix(ELEMS, 1);
-            cpredVelocity = new Matrix(ELEMS, 1);
-            cresultPosition = new Matrix(ELEMS, 1);
-        } catch (WrongSizeException ignore) {
-            // never happens
-        }
-
-        this.cei = ccei;
-        this.xPred = cxPred;
-        this.tmp1 = ctmp1;
-        this.tmp2 = ctmp2;
-        this.xEst = cxEst;
-        this.hSqr = chSqr;
-        this.invHSqr = cinvHSqr;
-        this.tmp3 = ctmp3;
-        this.omegaIe = comegaIe;
-        this.tmp4 = ctmp4;
-        this.tmp5 = ctmp5;
-        this.tmp6 = ctmp6;
-        this.tmp7 = ctmp7;
-        this.tmp8 = ctmp8;
-        this.tmp9 = ctmp9;
-        this.tmp10 = ctmp10;
-        this.measurementPosition = cmeasurementPosition;
-        this.measurementVelocity = cmeasurementVelocity;
-        this.predVelocity = cpredVelocity;
-        this.resultPosition = cresultPosition;
     }
 
     /**
@@ -407,11 +369,17 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
 
     /**
      * Gets GNSS measurements of a collection of satellites.
+     * If measurements were provided as a buffer of primitive values, a new
+     * collection containing them is returned.
      *
      * @return GNSS measurements of a collection of satellites.
      */
     public Collection<GNSSMeasurement> getMeasurements() {
-        return measurements;
+        if (measurements != null || measurementsBuffer == null) {
+            return measurements;
+        }
+
+        return toMeasurements(measurementsBuffer, measurementsOffset, numberOfMeasurements);
     }
 
     /**
@@ -430,6 +398,40 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
         }
 
         this.measurements = measurements;
+        measurementsBuffer = null;
+        numberOfMeasurements = 0;
+    }
+
+    /**
+     * Sets GNSS measurements of a collection of satellites as a buffer of primitive
+     * values, so that no {@link GNSSMeasurement} instances need to be created.
+     * Each satellite measurement contains
+     * {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH} consecutive values:
+     * pseudo-range, pseudo-range rate, and ECEF x, y, z coordinates of satellite
+     * position and velocity.
+     * Provided buffer is not copied, hence its contents must not be modified until
+     * estimation finishes.
+     *
+     * @param measurements         buffer containing GNSS measurements.
+     * @param offset               position of first measurement value.
+     * @param numberOfMeasurements number of satellite measurements.
+     * @throws IllegalArgumentException if less than 4 measurements are provided or
+     *                                  buffer is too small.
+     * @throws LockedException          if this estimator is already running.
+     */
+    public void setMeasurements(final double[] measurements, final int offset, final int numberOfMeasurements)
+            throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        if (!isValidMeasurements(measurements, offset, numberOfMeasurements)) {
+            throw new IllegalArgumentException();
+        }
+
+        this.measurements = null;
+        measurementsBuffer = measurements;
+        measurementsOffset = offset;
+        this.numberOfMeasurements = numberOfMeasurements;
     }
 
     /**
@@ -525,13 +527,283 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
         this.convergenceThreshold = convergenceThreshold;
     }
 
+    /**
+     * Gets maximum number of iterations to solve position and clock offset, or
+     * velocity and clock drift.
+     *
+     * @return maximum number of iterations.
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Sets maximum number of iterations to solve position and clock offset, or
+     * velocity and clock drift.
+     * If convergence is not reached after this number of iterations, estimation
+     * fails.
+     *
+     * @param maxIterations maximum number of iterations.
+     * @throws LockedException          if this estimator is already running.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     */
+    public void setMaxIterations(final int maxIterations) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Gets variances of pseudo-range measurements, one for each satellite and in
+     * the same order as measurements, expressed in squared meters (m^2).
+     * When provided, position and clock offset are estimated using weighted
+     * least squares.
+     *
+     * @return variances of pseudo-range measurements or null if not provided.
+     */
+    public double[] getPseudoRangeVariances() {
+        return pseudoRangeVariances;
+    }
+
+    /**
+     * Sets variances of pseudo-range measurements, one for each satellite and in
+     * the same order as measurements, expressed in squared meters (m^2).
+     * When provided, position and clock offset are estimated using weighted
+     * least squares, and these variances take precedence over elevation
+     * weighting.
+     * Provided array is not copied.
+     *
+     * @param pseudoRangeVariances variances of pseudo-range measurements or null
+     *                             to disable weighting with provided variances.
+     * @throws LockedException          if this estimator is already running.
+     * @throws IllegalArgumentException if any variance is zero or negative.
+     */
+    public void setPseudoRangeVariances(final double[] pseudoRangeVariances) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+        if (pseudoRangeVariances != null) {
+            for (final var variance : pseudoRangeVariances) {
+                if (!(variance > 0.0)) {
+                    throw new IllegalArgumentException();
+                }
+            }
+        }
+
+        this.pseudoRangeVariances = pseudoRangeVariances;
+    }
+
+    /**
+     * Gets GNSS configuration used to derive variances of pseudo-range
+     * measurements from satellite elevation.
+     *
+     * @return GNSS configuration used for elevation weighting or null if not
+     * provided.
+     */
+    public GNSSConfig getElevationWeightingConfig() {
+        return elevationWeightingConfig;
+    }
+
+    /**
+     * Sets GNSS configuration used to derive variances of pseudo-range
+     * measurements from satellite elevation.
+     * When provided, and no pseudo-range variances are set, position and clock
+     * offset are estimated using weighted least squares, where variance of each
+     * pseudo-range contains code tracking, signal in space, ionosphere and
+     * troposphere errors, the last two being scaled with satellite elevation in
+     * the same way as {@link GNSSBiasesGenerator} does.
+     *
+     * @param elevationWeightingConfig GNSS configuration or null to disable
+     *                                 elevation weighting.
+     * @throws LockedException if this estimator is already running.
+     */
+    public void setElevationWeightingConfig(final GNSSConfig elevationWeightingConfig) throws LockedException {
+        if (running) {
+            throw new LockedException();
+        }
+
+        this.elevationWeightingConfig = elevationWeightingConfig;
+    }
+
+    /**
+     * Indicates whether position and clock offset are estimated using weighted
+     * least squares.
+     *
+     * @return true if weighted least squares is used, false otherwise.
+     */
+    public boolean isWeighted() {
+        return pseudoRangeVariances != null || elevationWeightingConfig != null;
+    }
+
+    /**
+     * Indicates whether dilution of precision values are available, which
+     * happens after a successful estimation.
+     *
+     * @return true if dilution of precision values are available, false otherwise.
+     */
+    public boolean isDilutionOfPrecisionAvailable() {
+        return dilutionOfPrecisionAvailable;
+    }
+
+    /**
+     * Gets geometric dilution of precision (GDOP) of last estimation.
+     *
+     * @return geometric dilution of precision or NaN if not available.
+     */
+    public double getGeometricDilutionOfPrecision() {
+        if (!dilutionOfPrecisionAvailable) {
+            return Double.NaN;
+        }
+        return Math.sqrt(geometryInverse[0] + geometryInverse[5] + geometryInverse[10] + geometryInverse[15]);
+    }
+
+    /**
+     * Gets position dilution of precision (PDOP) of last estimation.
+     *
+     * @return position dilution of precision or NaN if not available.
+     */
+    public double getPositionDilutionOfPrecision() {
+        if (!dilutionOfPrecisionAvailable) {
+            return Double.NaN;
+        }
+        return Math.sqrt(geometryInverse[0] + geometryInverse[5] + geometryInverse[10]);
+    }
+
+    /**
+     * Gets horizontal dilution of precision (HDOP) of last estimation.
+     *
+     * @return horizontal dilution of precision or NaN if not available.
+     */
+    public double getHorizontalDilutionOfPrecision() {
+        if (!dilutionOfPrecisionAvailable) {
+            return Double.NaN;
+        }
+        final var horizontal = geometryInverse[0] + geometryInverse[5] + geometryInverse[10]
+                - getVerticalVariance();
+        return Math.sqrt(Math.max(horizontal, 0.0));
+    }
+
+    /**
+     * Gets vertical dilution of precision (VDOP) of last estimation.
+     *
+     * @return vertical dilution of precision or NaN if not available.
+     */
+    public double getVerticalDilutionOfPrecision() {
+        if (!dilutionOfPrecisionAvailable) {
+            return Double.NaN;
+        }
+        return Math.sqrt(Math.max(getVerticalVariance(), 0.0));
+    }
+
+    /**
+     * Gets time dilution of precision (TDOP) of last estimation.
+     *
+     * @return time dilution of precision or NaN if not available.
+     */
+    public double getTimeDilutionOfPrecision() {
+        if (!dilutionOfPrecisionAvailable) {
+            return Double.NaN;
+        }
+        return Math.sqrt(geometryInverse[15]);
+    }
+
+    /**
+     * Indicates whether covariance of estimated position is available, which
+     * happens after a successful weighted estimation.
+     *
+     * @return true if covariance of estimated position is available, false otherwise.
+     */
+    public boolean isPositionCovarianceAvailable() {
+        return positionCovarianceAvailable;
+    }
+
+    /**
+     * Gets covariance of estimated ECEF position of last weighted estimation.
+     *
+     * @param result instance where 3x3 covariance expressed in squared meters (m^2)
+     *               will be stored.
+     * @return true if covariance was available and stored, false otherwise.
+     */
+    public boolean getPositionCovariance(final Matrix result) {
+        if (!positionCovarianceAvailable) {
+            return false;
+        }
+
+        try {
+            if (result.getRows() != ELEMS || result.getColumns() != ELEMS) {
+                result.resize(ELEMS, ELEMS);
+            }
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+
+        for (var i = 0; i < ELEMS; i++) {
+            for (var j = 0; j <= i; j++) {
+                final var value = covariance[i * STATE_COMPONENTS + j];
+                result.setElementAt(i, j, value);
+                result.setElementAt(j, i, value);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets covariance of estimated ECEF position of last weighted estimation.
+     *
+     * @return 3x3 covariance expressed in squared meters (m^2) or null if not
+     * available.
+     */
+    public Matrix getPositionCovariance() {
+        if (!positionCovarianceAvailable) {
+            return null;
+        }
+
+        Matrix result = null;
+        try {
+            result = new Matrix(ELEMS, ELEMS);
+        } catch (final WrongSizeException ignore) {
+            // never happens
+        }
+        getPositionCovariance(result);
+        return result;
+    }
+
+    /**
+     * Gets accuracy of estimated ECEF position of last weighted estimation.
+     *
+     * @return accuracy of estimated position or null if not available.
+     */
+    public Accuracy3D getPositionAccuracy() {
+        final var positionCovariance = getPositionCovariance();
+        if (positionCovariance == null) {
+            return null;
+        }
+
+        try {
+            return new Accuracy3D(positionCovariance);
+        } catch (final NonSymmetricPositiveDefiniteMatrixException e) {
+            return null;
+        }
+    }
+
     /**
      * Indicates whether this estimator is ready to start the estimation.
      *
      * @return true if estimator is ready, false otherwise.
      */
     public boolean isReady() {
-        return isValidMeasurements(measurements);
+        final var ready = measurements != null ? isValidMeasurements(measurements) : measurementsBuffer != null;
+        if (!ready || pseudoRangeVariances == null) {
+            return ready;
+        }
+
+        final var numMeasurements = measurements != null ? measurements.size() : numberOfMeasurements;
+        return pseudoRangeVariances.length >= numMeasurements;
     }
 
     /**
@@ -553,6 +825,24 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
         return gnssMeasurements != null && gnssMeasurements.size() >= MIN_MEASUREMENTS;
     }
 
+    /**
+     * Indicates whether provided buffer of measurements is valid or not.
+     *
+     * @param measurements         buffer containing
+     *                             {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH}
+     *                             values per satellite measurement.
+     * @param offset               position of first measurement value.
+     * @param numberOfMeasurements number of satellite measurements.
+     * @return true if at least 4 measurements are provided and buffer contains all
+     * of them, false otherwise.
+     */
+    public static boolean isValidMeasurements(final double[] measurements, final int offset,
+                                              final int numberOfMeasurements) {
+        return measurements != null && offset >= 0 && numberOfMeasurements >= MIN_MEASUREMENTS
+                && offset + (long) numberOfMeasurements * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH
+                <= measurements.length;
+    }
+
     /**
      * Estimates new ECEF user position and velocity as well as clock
      * offset and drift.
@@ -562,7 +852,6 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
      * @throws LockedException   if estimator is already running.
      * @throws GNSSException     if estimation fails due to numerical instabilities.
      */
-    @SuppressWarnings("DuplicatedCode")
     public void estimate(final GNSSEstimation result) throws NotReadyException, LockedException, GNSSException {
         if (!isReady()) {
             throw new NotReadyException();
@@ -578,6 +867,20 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
                 listener.onEstimateStart(this);
             }
 
+            dilutionOfPrecisionAvailable = false;
+            positionCovarianceAvailable = false;
+
+            if (measurements != null) {
+                packMeasurements();
+            }
+            final var buffer = measurementsBuffer;
+            final var numMeasurements = numberOfMeasurements;
+            final var variances = pseudoRangeVariances;
+            final var weightingConfig = variances == null ? elevationWeightingConfig : null;
+            final var weighted = variances != null || weightingConfig != null;
+            final var codeTrackingVariance = weightingConfig != null
+                    ? weightingConfig.getCodeTrackingErrorSD() * weightingConfig.getCodeTrackingErrorSD() : 0.0;
+
             // if no prior position and velocity is available, assume that
             // we are at latitude,longitude equal to the average of satellite
             // measurements, at Earth's surface (height = 0) and with zero velocity.
@@ -590,34 +893,29 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
             final var priorY = priorPositionAndVelocity.getY();
             final var priorZ = priorPositionAndVelocity.getZ();
 
-            xPred.setElementAtIndex(0, priorX);
-            xPred.setElementAtIndex(1, priorY);
-            xPred.setElementAtIndex(2, priorZ);
-            xPred.setElementAtIndex(3, 0.0);
-
-            final var numMeasurements = measurements.size();
-            final var predMeas = new Matrix(numMeasurements, 1);
-            final var h = new Matrix(numMeasurements, STATE_COMPONENTS);
-            for (var i = 0; i < numMeasurements; i++) {
-                h.setElementAt(i, 3, 1.0);
-            }
-
-            final var hTrans = new Matrix(STATE_COMPONENTS, numMeasurements);
-            final var hTmp1 = new Matrix(STATE_COMPONENTS, numMeasurements);
-            final var deltaPseudoRange = new Matrix(numMeasurements, 1);
+            xPred[0] = priorX;
+            xPred[1] = priorY;
+            xPred[2] = priorZ;
+            xPred[3] = 0.0;
 
             // Repeat until convergence
-            var testConvergence = 1.0;
-            while (testConvergence > convergenceThreshold) {
+            var previousCorrection = Double.POSITIVE_INFINITY;
+            var growingIterations = 0;
+            var converged = false;
+            for (var iteration = 0; iteration < maxIterations && !converged; iteration++) {
+                resetNormalEquations();
+                if (weightingConfig != null) {
+                    computeUpVector(xPred[0], xPred[1], xPred[2]);
+                }
 
                 // Loop measurements
-                var j = 0;
-                for (final var measurement : measurements) {
+                for (var j = 0; j < numMeasurements; j++) {
+                    final var base = measurementsOffset + j * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
 
                     // Predict approx range
-                    final var measX = measurement.getX();
-                    final var measY = measurement.getY();
-                    final var measZ = measurement.getZ();
+                    final var measX = buffer[base + 2];
+                    final var measY = buffer[base + 3];
+                    final var measZ = buffer[base + 4];
 
                     var deltaRx = measX - priorX;
                     var deltaRy = measY - priorY;
@@ -626,89 +924,86 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
 
                     // Calculate frame rotation during signal transit time using (8.36)
                     final var ceiValue = EARTH_ROTATION_RATE * approxRange / SPEED_OF_LIGHT;
-                    cei.setElementAt(0, 1, ceiValue);
-                    cei.setElementAt(1, 0, -ceiValue);
 
                     // Predict pseudo-range using (9.143)
-                    tmp1.setElementAtIndex(0, measX);
-                    tmp1.setElementAtIndex(1, measY);
-                    tmp1.setElementAtIndex(2, measZ);
-
-                    cei.multiply(tmp1, tmp2);
-
-                    deltaRx = tmp2.getElementAtIndex(0) - xPred.getElementAtIndex(0);
-                    deltaRy = tmp2.getElementAtIndex(1) - xPred.getElementAtIndex(1);
-                    deltaRz = tmp2.getElementAtIndex(2) - xPred.getElementAtIndex(2);
+                    deltaRx = measX + ceiValue * measY - xPred[0];
+                    deltaRy = measY - ceiValue * measX - xPred[1];
+                    deltaRz = measZ - xPred[2];
                     final var range = norm(deltaRx, deltaRy, deltaRz);
 
-                    final var predictedPseudoRange = range + xPred.getElementAtIndex(3);
-                    predMeas.setElementAtIndex(j, predictedPseudoRange);
-
-                    deltaPseudoRange.setElementAtIndex(j, measurement.getPseudoRange() - predictedPseudoRange);
+                    final var predictedPseudoRange = range + xPred[3];
 
                     // Predict line of sight and deploy in measurement matrix, (9.144)
-                    h.setElementAt(j, 0, -deltaRx / range);
-                    h.setElementAt(j, 1, -deltaRy / range);
-                    h.setElementAt(j, 2, -deltaRz / range);
-
-                    j++;
+                    final var hx = -deltaRx / range;
+                    final var hy = -deltaRy / range;
+                    final var hz = -deltaRz / range;
+                    final var innovation = buffer[base] - predictedPseudoRange;
+                    if (!weighted) {
+                        accumulateNormalEquations(hx, hy, hz, innovation, 1.0);
+                        continue;
+                    }
+
+                    final double variance;
+                    if (variances != null) {
+                        variance = variances[j];
+                    } else {
+                        // Determine elevation using (8.57)
+                        final var elevation = Math.asin(-(hx * up[0] + hy * up[1] + hz * up[2]));
+                        variance = codeTrackingVariance
+                                + GNSSBiasesGenerator.getRangeBiasVariance(elevation, weightingConfig);
+                    }
+                    accumulateNormalEquations(hx, hy, hz, innovation, 1.0 / variance);
+                    accumulateGeometry(hx, hy, hz);
                 }
 
-                // Unweighted least-squares solution, (9.35)/(9.141)
-                h.transpose(hTrans);
-                hTrans.multiply(h, hSqr);
-                Utils.inverse(hSqr, invHSqr);
-                invHSqr.multiply(hTrans, hTmp1);
-                hTmp1.multiply(deltaPseudoRange, tmp3);
-
-                xPred.add(tmp3, xEst);
+                // Weighted or unweighted least-squares solution, (9.35)/(9.141)
+                final var correction = solveNormalEquations();
 
                 // Test convergence
-                testConvergence = predictionError();
-
-                // Set predictions to estimates for next iteration
-                xPred.copyFrom(xEst);
+                converged = correction <= convergenceThreshold;
+                growingIterations = checkDivergence(correction, previousCorrection, growingIterations, converged);
+                previousCorrection = correction;
             }
+            checkConvergence(converged);
 
             // Set outputs to estimates
-            final var resultX = xEst.getElementAtIndex(0);
-            final var resultY = xEst.getElementAtIndex(1);
-            final var resultZ = xEst.getElementAtIndex(2);
+            final var resultX = xPred[0];
+            final var resultY = xPred[1];
+            final var resultZ = xPred[2];
             result.setPositionCoordinates(resultX, resultY, resultZ);
+            result.setClockOffset(xPred[3]);
 
-            final var resultClockOffset = xEst.getElementAtIndex(3);
-            result.setClockOffset(resultClockOffset);
+            updateGeometry(weighted, resultX, resultY, resultZ);
 
 
             // VELOCITY AND CLOCK DRIFT
 
             // Setup predicted state
-            final var priorVx = priorPositionAndVelocity.getVx();
-            final var priorVy = priorPositionAndVelocity.getVy();
-            final var priorVz = priorPositionAndVelocity.getVz();
-
-            xPred.setElementAtIndex(0, priorVx);
-            xPred.setElementAtIndex(1, priorVy);
-            xPred.setElementAtIndex(2, priorVz);
-            xPred.setElementAtIndex(3, 0.0);
-
-            resultPosition.setElementAtIndex(0, resultX);
-            resultPosition.setElementAtIndex(1, resultY);
-            resultPosition.setElementAtIndex(2, resultZ);
+            xPred[0] = priorPositionAndVelocity.getVx();
+            xPred[1] = priorPositionAndVelocity.getVy();
+            xPred[2] = priorPositionAndVelocity.getVz();
+            xPred[3] = 0.0;
 
-            final var deltaPseudoRangeRate = new Matrix(numMeasurements, 1);
+            // Earth rotation contribution to user velocity, which does not depend
+            // on predicted state
+            final var omegaResultX = -EARTH_ROTATION_RATE * resultY;
+            final var omegaResultY = EARTH_ROTATION_RATE * resultX;
 
             // Repeat until convergence
-            testConvergence = 1.0;
-            while (testConvergence > convergenceThreshold) {
+            previousCorrection = Double.POSITIVE_INFINITY;
+            growingIterations = 0;
+            converged = false;
+            for (var iteration = 0; iteration < maxIterations && !converged; iteration++) {
+                resetNormalEquations();
 
                 // Loop measurements
-                var j = 0;
-                for (final var measurement : measurements) {
+                for (var j = 0; j < numMeasurements; j++) {
+                    final var base = measurementsOffset + j * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+
                     // Predict approx range
-                    final var measX = measurement.getX();
-                    final var measY = measurement.getY();
-                    final var measZ = measurement.getZ();
+                    final var measX = buffer[base + 2];
+                    final var measY = buffer[base + 3];
+                    final var measZ = buffer[base + 4];
 
                     var deltaRx = measX - resultX;
                     var deltaRy = measY - resultY;
@@ -717,19 +1012,11 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
 
                     // Calculate frame rotation during signal transit time using (8.36)
                     final var ceiValue = EARTH_ROTATION_RATE * approxRange / SPEED_OF_LIGHT;
-                    cei.setElementAt(0, 1, ceiValue);
-                    cei.setElementAt(1, 0, -ceiValue);
 
                     // Calculate range using (8.35)
-                    tmp1.setElementAtIndex(0, measX);
-                    tmp1.setElementAtIndex(1, measY);
-                    tmp1.setElementAtIndex(2, measZ);
-
-                    cei.multiply(tmp1, tmp2);
-
-                    deltaRx = tmp2.getElementAtIndex(0) - resultX;
-                    deltaRy = tmp2.getElementAtIndex(1) - resultY;
-                    deltaRz = tmp2.getElementAtIndex(2) - resultZ;
+                    deltaRx = measX + ceiValue * measY - resultX;
+                    deltaRy = measY - ceiValue * measX - resultY;
+                    deltaRz = measZ - resultZ;
                     final var range = norm(deltaRx, deltaRy, deltaRz);
 
                     // Calculate line of sight using (8.41)
@@ -738,76 +1025,37 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
                     final var uaseZ = deltaRz / range;
 
                     // Predict pseudo-range rate using (9.143)
-                    measurementPosition.setElementAtIndex(0, measX);
-                    measurementPosition.setElementAtIndex(1, measY);
-                    measurementPosition.setElementAtIndex(2, measZ);
-
-                    final var measVx = measurement.getVx();
-                    final var measVy = measurement.getVy();
-                    final var measVz = measurement.getVz();
-
-                    measurementVelocity.setElementAtIndex(0, measVx);
-                    measurementVelocity.setElementAtIndex(1, measVy);
-                    measurementVelocity.setElementAtIndex(2, measVz);
-
-                    omegaIe.multiply(measurementPosition, tmp4);
-
-                    measurementVelocity.add(tmp4, tmp5);
-
-                    cei.multiply(tmp5, tmp6);
-
-                    omegaIe.multiply(resultPosition, tmp7);
-
-                    xPred.getSubmatrix(0, 0, ELEMS_MINUS_ONE, 0, predVelocity);
+                    final var satVx = buffer[base + 5] - EARTH_ROTATION_RATE * measY;
+                    final var satVy = buffer[base + 6] + EARTH_ROTATION_RATE * measX;
+                    final var satVz = buffer[base + 7];
 
-                    predVelocity.add(tmp7, tmp8);
+                    final var deltaVx = satVx + ceiValue * satVy - (xPred[0] + omegaResultX);
+                    final var deltaVy = satVy - ceiValue * satVx - (xPred[1] + omegaResultY);
+                    final var deltaVz = satVz - xPred[2];
 
-                    tmp6.subtract(tmp8, tmp9);
+                    final var rangeRate = uaseX * deltaVx + uaseY * deltaVy + uaseZ * deltaVz;
 
-                    final var rangeRate = uaseX * tmp9.getElementAtIndex(0) + uaseY * tmp9.getElementAtIndex(1)
-                            + uaseZ * tmp9.getElementAtIndex(2);
-
-                    final var predictedPseudoRangeRate = rangeRate + xPred.getElementAtIndex(3);
-                    predMeas.setElementAtIndex(j, predictedPseudoRangeRate);
-
-                    deltaPseudoRangeRate.setElementAtIndex(j,
-                            measurement.getPseudoRate() - predictedPseudoRangeRate);
+                    final var predictedPseudoRangeRate = rangeRate + xPred[3];
 
                     // Predict line of sight and deploy in measurement matrix, (9.144)
-                    h.setElementAt(j, 0, -uaseX);
-                    h.setElementAt(j, 1, -uaseY);
-                    h.setElementAt(j, 2, -uaseZ);
-
-                    j++;
+                    accumulateNormalEquations(-uaseX, -uaseY, -uaseZ, buffer[base + 1] - predictedPseudoRangeRate,
+                            1.0);
                 }
 
                 // Unweighted least-squares solution, (9.35)/(9.141)
-                h.transpose(hTrans);
-                hTrans.multiply(h, hSqr);
-                Utils.inverse(hSqr, invHSqr);
-                invHSqr.multiply(hTrans, hTmp1);
-                hTmp1.multiply(deltaPseudoRangeRate, tmp10);
-
-                xPred.add(tmp10, xEst);
+                final var correction = solveNormalEquations();
 
                 // Test convergence
-                testConvergence = predictionError();
-
-                // Set predictions to estimates for next iteration
-                xPred.copyFrom(xEst);
+                converged = correction <= convergenceThreshold;
+                growingIterations = checkDivergence(correction, previousCorrection, growingIterations, converged);
+                previousCorrection = correction;
             }
+            checkConvergence(converged);
 
             // Set outputs to estimates
-            final var resultVx = xEst.getElementAtIndex(0);
-            final var resultVy = xEst.getElementAtIndex(1);
-            final var resultVz = xEst.getElementAtIndex(2);
-            result.setVelocityCoordinates(resultVx, resultVy, resultVz);
+            result.setVelocityCoordinates(xPred[0], xPred[1], xPred[2]);
+            result.setClockDrift(xPred[3]);
 
-            final var resultClockDrift = xEst.getElementAtIndex(3);
-            result.setClockDrift(resultClockDrift);
-
-        } catch (final AlgebraException e) {
-            throw new GNSSException(e);
         } finally {
             if (listener != null) {
                 listener.onEstimateEnd(this);
@@ -842,7 +1090,7 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
             return;
         }
 
-        var numMeasurements = measurements.size();
+        final var numMeasurements = numberOfMeasurements;
         final var nedPosition = new NEDPosition();
         final var nedVelocity = new NEDVelocity();
 
@@ -851,9 +1099,12 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
 
         var userLatitude = 0.0;
         var userLongitude = 0.0;
-        for (final var measurement : measurements) {
-            measurement.getEcefPosition(ecefPosition);
-            measurement.getEcefVelocity(ecefVelocity);
+        for (var j = 0; j < numMeasurements; j++) {
+            final var base = measurementsOffset + j * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+            ecefPosition.setCoordinates(measurementsBuffer[base + 2], measurementsBuffer[base + 3],
+                    measurementsBuffer[base + 4]);
+            ecefVelocity.setCoordinates(measurementsBuffer[base + 5], measurementsBuffer[base + 6],
+                    measurementsBuffer[base + 7]);
             ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(ecefPosition, ecefVelocity, nedPosition, nedVelocity);
 
             final var satLatitude = nedPosition.getLatitude();
@@ -871,6 +1122,55 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
         priorPositionAndVelocity = new ECEFPositionAndVelocity(ecefPosition, ecefVelocity);
     }
 
+    /**
+     * Packs provided collection of measurements into internal buffer, which is
+     * only reallocated when a larger number of measurements is provided.
+     */
+    private void packMeasurements() {
+        final var length = measurements.size() * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+        if (packedMeasurements.length < length) {
+            packedMeasurements = new double[length];
+        }
+
+        var pos = 0;
+        for (final var measurement : measurements) {
+            packedMeasurements[pos++] = measurement.getPseudoRange();
+            packedMeasurements[pos++] = measurement.getPseudoRate();
+            packedMeasurements[pos++] = measurement.getX();
+            packedMeasurements[pos++] = measurement.getY();
+            packedMeasurements[pos++] = measurement.getZ();
+            packedMeasurements[pos++] = measurement.getVx();
+            packedMeasurements[pos++] = measurement.getVy();
+            packedMeasurements[pos++] = measurement.getVz();
+        }
+
+        measurementsBuffer = packedMeasurements;
+        measurementsOffset = 0;
+        numberOfMeasurements = measurements.size();
+    }
+
+    /**
+     * Creates GNSS measurements from a buffer of primitive values.
+     *
+     * @param measurements         buffer containing
+     *                             {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH}
+     *                             values per satellite measurement.
+     * @param offset               position of first measurement value.
+     * @param numberOfMeasurements number of satellite measurements.
+     * @return new collection of GNSS measurements.
+     */
+    static Collection<GNSSMeasurement> toMeasurements(final double[] measurements, final int offset,
+                                                      final int numberOfMeasurements) {
+        final var result = new ArrayList<GNSSMeasurement>(numberOfMeasurements);
+        for (var j = 0; j < numberOfMeasurements; j++) {
+            final var base = offset + j * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+            result.add(new GNSSMeasurement(measurements[base], measurements[base + 1],
+                    measurements[base + 2], measurements[base + 3], measurements[base + 4],
+                    measurements[base + 5], measurements[base + 6], measurements[base + 7]));
+        }
+        return result;
+    }
+
     /**
      * Computes norm of provided coordinates.
      *
@@ -884,17 +1184,317 @@ public class GNSSLeastSquaresPositionAndVelocityEstimator {
     }
 
     /**
-     * Computes norm of error between estimated state
-     * and predicted state.
+     * Resets normal equations before accumulating a new iteration.
+     */
+    private void resetNormalEquations() {
+        Arrays.fill(hSqr, 0.0);
+        Arrays.fill(delta, 0.0);
+        Arrays.fill(geometry, 0.0);
+    }
+
+    /**
+     * Accumulates a weighted row of the measurement matrix into the lower triangle
+     * of the normal matrix, along with its measurement innovation.
+     * Last element of each measurement matrix row is always 1.0 because it
+     * corresponds to the receiver clock term.
      *
-     * @return norm of error.
+     * @param hx         x coordinate of measurement matrix row.
+     * @param hy         y coordinate of measurement matrix row.
+     * @param hz         z coordinate of measurement matrix row.
+     * @param innovation measurement innovation.
+     * @param weight     measurement weight (inverse of its variance), or 1.0 for
+     *                   unweighted least squares.
      */
-    private double predictionError() {
-        var sqrPredictionError = 0.0;
+    private void accumulateNormalEquations(final double hx, final double hy, final double hz,
+                                           final double innovation, final double weight) {
+        final var whx = weight * hx;
+        final var why = weight * hy;
+        final var whz = weight * hz;
+
+        hSqr[0] += whx * hx;
+        hSqr[4] += why * hx;
+        hSqr[5] += why * hy;
+        hSqr[8] += whz * hx;
+        hSqr[9] += whz * hy;
+        hSqr[10] += whz * hz;
+        hSqr[12] += whx;
+        hSqr[13] += why;
+        hSqr[14] += whz;
+        hSqr[15] += weight;
+
+        delta[0] += whx * innovation;
+        delta[1] += why * innovation;
+        delta[2] += whz * innovation;
+        delta[3] += weight * innovation;
+    }
+
+    /**
+     * Accumulates an unweighted row of the measurement matrix into the lower
+     * triangle of the geometry matrix.
+     *
+     * @param hx x coordinate of measurement matrix row.
+     * @param hy y coordinate of measurement matrix row.
+     * @param hz z coordinate of measurement matrix row.
+     */
+    private void accumulateGeometry(final double hx, final double hy, final double hz) {
+        geometry[0] += hx * hx;
+        geometry[4] += hy * hx;
+        geometry[5] += hy * hy;
+        geometry[8] += hz * hx;
+        geometry[9] += hz * hy;
+        geometry[10] += hz * hz;
+        geometry[12] += hx;
+        geometry[13] += hy;
+        geometry[14] += hz;
+        geometry[15] += 1.0;
+    }
+
+    /**
+     * Obtains dilution of precision values and, for weighted least squares,
+     * covariance of estimated position from the normal equations of the last
+     * position iteration.
+     * Normal matrix has already been factorized when solving last iteration.
+     *
+     * @param weighted true if weighted least squares was used.
+     * @param x        estimated ECEF x coordinate of user position.
+     * @param y        estimated ECEF y coordinate of user position.
+     * @param z        estimated ECEF z coordinate of user position.
+     * @throws GNSSException if geometry matrix is not positive definite.
+     */
+    private void updateGeometry(final boolean weighted, final double x, final double y, final double z)
+            throws GNSSException {
+        if (weighted) {
+            choleskyInverse(hSqr, covariance, STATE_COMPONENTS);
+            positionCovarianceAvailable = true;
+
+            if (!choleskyDecompose(geometry, STATE_COMPONENTS)) {
+                throw new GNSSException();
+            }
+            choleskyInverse(geometry, geometryInverse, STATE_COMPONENTS);
+        } else {
+            choleskyInverse(hSqr, geometryInverse, STATE_COMPONENTS);
+        }
+
+        dilutionOfPrecisionPosition[0] = x;
+        dilutionOfPrecisionPosition[1] = y;
+        dilutionOfPrecisionPosition[2] = z;
+        dilutionOfPrecisionAvailable = true;
+    }
+
+    /**
+     * Gets variance of estimated position along local vertical direction for
+     * unit pseudo-range variance.
+     *
+     * @return vertical variance.
+     */
+    private double getVerticalVariance() {
+        computeUpVector(dilutionOfPrecisionPosition[0], dilutionOfPrecisionPosition[1],
+                dilutionOfPrecisionPosition[2]);
+
+        var result = 0.0;
+        for (var i = 0; i < ELEMS; i++) {
+            for (var j = 0; j < ELEMS; j++) {
+                result += up[i] * geometryInverse[i * STATE_COMPONENTS + j] * up[j];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes local up direction resolved on ECEF frame at provided ECEF position.
+     *
+     * @param x ECEF x coordinate of position.
+     * @param y ECEF y coordinate of position.
+     * @param z ECEF z coordinate of position.
+     */
+    private void computeUpVector(final double x, final double y, final double z) {
+        ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x, y, z, 0.0, 0.0, 0.0,
+                nedPosition, nedVelocity);
+        final var latitude = nedPosition.getLatitude();
+        final var longitude = nedPosition.getLongitude();
+        final var cosLatitude = Math.cos(latitude);
+
+        // Up direction is opposite to last row of ECEF to NED coordinate
+        // transformation matrix
+        up[0] = cosLatitude * Math.cos(longitude);
+        up[1] = cosLatitude * Math.sin(longitude);
+        up[2] = Math.sin(latitude);
+    }
+
+    /**
+     * Solves accumulated normal equations using a Cholesky decomposition, and
+     * applies obtained correction to predicted state.
+     *
+     * @return norm of applied correction.
+     * @throws GNSSException if normal matrix is not positive definite because
+     *                       satellite geometry is degenerate.
+     */
+    private double solveNormalEquations() throws GNSSException {
+        if (!choleskySolve(hSqr, delta, STATE_COMPONENTS)) {
+            throw new GNSSException();
+        }
+
+        var sqrCorrection = 0.0;
         for (var i = 0; i < STATE_COMPONENTS; i++) {
-            final var diff = xEst.getElementAtIndex(i) - xPred.getElementAtIndex(i);
-            sqrPredictionError += diff * diff;
+            final var d = delta[i];
+            xPred[i] += d;
+            sqrCorrection += d * d;
+        }
+        return Math.sqrt(sqrCorrection);
+    }
+
+    /**
+     * Checks whether Gauss-Newton iterations are diverging.
+     * Near a solution corrections decrease quadratically, hence a non-finite
+     * correction or corrections growing during several consecutive iterations
+     * indicate that linearization is not valid.
+     *
+     * @param correction         norm of current correction.
+     * @param previousCorrection norm of previous correction.
+     * @param growingIterations  number of consecutive previous iterations where
+     *                           correction has grown.
+     * @param converged          true if convergence has been reached.
+     * @return updated number of consecutive iterations where correction has grown.
+     * @throws GNSSException if iterations are diverging.
+     */
+    private static int checkDivergence(final double correction, final double previousCorrection,
+                                       final int growingIterations, final boolean converged)
+            throws GNSSException {
+        if (!Double.isFinite(correction)) {
+            throw new GNSSException();
+        }
+        if (converged || correction <= previousCorrection) {
+            return 0;
+        }
+        if (growingIterations + 1 >= DIVERGING_ITERATIONS) {
+            throw new GNSSException();
+        }
+        return growingIterations + 1;
+    }
+
+    /**
+     * Checks whether convergence has been reached within the maximum number of
+     * iterations.
+     *
+     * @param converged true if convergence has been reached.
+     * @throws GNSSException if convergence has not been reached.
+     */
+    private static void checkConvergence(final boolean converged) throws GNSSException {
+        if (!converged) {
+            throw new GNSSException();
+        }
+    }
+
+    /**
+     * Solves a linear system of equations with a symmetric positive definite
+     * matrix using an in-place Cholesky decomposition.
+     * Only the lower triangle of provided matrix is used, and it is overwritten
+     * with the Cholesky factor.
+     *
+     * @param a lower triangle of a square matrix stored in row-major order.
+     * @param b right-hand side of the system, where solution is stored.
+     * @param n number of rows and columns of the matrix.
+     * @return true if system was solved, false if matrix is not positive definite.
+     */
+    private static boolean choleskySolve(final double[] a, final double[] b, final int n) {
+        if (!choleskyDecompose(a, n)) {
+            return false;
+        }
+        choleskySubstitute(a, b, 0, n);
+        return true;
+    }
+
+    /**
+     * Computes in-place Cholesky decomposition A = L * L^T of a symmetric positive
+     * definite matrix.
+     * Only the lower triangle of provided matrix is used, and it is overwritten
+     * with the Cholesky factor L.
+     *
+     * @param a lower triangle of a square matrix stored in row-major order.
+     * @param n number of rows and columns of the matrix.
+     * @return true if matrix was decomposed, false if matrix is not positive definite.
+     */
+    static boolean choleskyDecompose(final double[] a, final int n) {
+        for (var j = 0; j < n; j++) {
+            final var rowJ = j * n;
+            var d = a[rowJ + j];
+            for (var k = 0; k < j; k++) {
+                d -= a[rowJ + k] * a[rowJ + k];
+            }
+            if (!(d > 0.0)) {
+                return false;
+            }
+            d = Math.sqrt(d);
+            a[rowJ + j] = d;
+
+            for (var i = j + 1; i < n; i++) {
+                final var rowI = i * n;
+                var sum = a[rowI + j];
+                for (var k = 0; k < j; k++) {
+                    sum -= a[rowI + k] * a[rowJ + k];
+                }
+                a[rowI + j] = sum / d;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Solves L * L^T * x = b by forward and backward substitution using a
+     * Cholesky factor.
+     *
+     * @param l      Cholesky factor stored in the lower triangle of a square
+     *               matrix in row-major order.
+     * @param b      right-hand side of the system, where solution is stored.
+     * @param offset position of first element of b.
+     * @param n      number of rows and columns of the matrix.
+     */
+    static void choleskySubstitute(final double[] l, final double[] b, final int offset, final int n) {
+        // Forward substitution L * y = b
+        for (var i = 0; i < n; i++) {
+            final var rowI = i * n;
+            var sum = b[offset + i];
+            for (var k = 0; k < i; k++) {
+                sum -= l[rowI + k] * b[offset + k];
+            }
+            b[offset + i] = sum / l[rowI + i];
+        }
+
+        // Backward substitution L^T * x = y
+        for (var i = n - 1; i >= 0; i--) {
+            var sum = b[offset + i];
+            for (var k = i + 1; k < n; k++) {
+                sum -= l[k * n + i] * b[offset + k];
+            }
+            b[offset + i] = sum / l[i * n + i];
+        }
+    }
+
+    /**
+     * Computes the inverse of a symmetric positive definite matrix from its
+     * Cholesky factor.
+     *
+     * @param l      Cholesky factor stored in the lower triangle of a square
+     *               matrix in row-major order.
+     * @param result array where full inverse matrix is stored. Because it is
+     *               symmetric, it can be read either in row or column-major order.
+     * @param n      number of rows and columns of the matrix.
+     */
+    static void choleskyInverse(final double[] l, final double[] result, final int n) {
+        Arrays.fill(result, 0.0);
+        for (var i = 0; i < n; i++) {
+            final var offset = i * n;
+            result[offset + i] = 1.0;
+            choleskySubstitute(l, result, offset, n);
+        }
+
+        // enforce exact symmetry
+        for (var i = 0; i < n; i++) {
+            for (var j = 0; j < i; j++) {
+                final var value = 0.5 * (result[i * n + j] + result[j * n + i]);
+                result[i * n + j] = value;
+                result[j * n + i] = value;
+            }
         }
-        return Math.sqrt(sqrPredictionError);
     }
 }
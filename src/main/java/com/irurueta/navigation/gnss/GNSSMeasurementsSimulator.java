@@ -0,0 +1,672 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.gnss;
+
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.frames.converters.ECEFtoNEDPositionVelocityConverter;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Simulates GNSS measurements for an unbounded sequence of epochs of a user
+ * trajectory.
+ * Epoch k takes place at time k * {@link GNSSConfig#getEpochInterval()}, and its
+ * measurements are stored into a primitive buffer containing
+ * {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH} values per visible satellite
+ * (pseudo-range, pseudo-range rate, and ECEF x, y, z coordinates of satellite
+ * position and velocity), so that it can be directly provided to
+ * {@link GNSSLeastSquaresPositionAndVelocityEstimator#setMeasurements(double[], int, int)}
+ * or {@link GNSSKalmanBatchEstimator}.
+ * Epochs can be lazily generated one after another through {@link #next()}, or
+ * in batches through {@link #generate(long, int, double[], int[])}, in which case
+ * epochs can be distributed among the threads of a {@link ForkJoinPool}.
+ * Range biases of each satellite are generated once, at the beginning of the
+ * trajectory, and kept constant for the whole simulation, as done by
+ * {@link GNSSBiasesGenerator}.
+ * Noise of each epoch is obtained from its own {@link SplittableRandom} whose
+ * seed is derived from the simulator seed and the epoch index, hence measurements
+ * of an epoch are exactly the same regardless of whether it is generated
+ * sequentially, on its own or as part of a parallel batch.
+ * Satellite positions are obtained from a precomputed {@link SatelliteConstellation}
+ * and measurements are computed without allocating any object per satellite.
+ * This class is not thread-safe.
+ */
+public class GNSSMeasurementsSimulator {
+
+    /**
+     * Default number of epochs processed by each parallel task.
+     */
+    public static final int DEFAULT_EPOCHS_PER_TASK = 64;
+
+    /**
+     * Speed of light in the vacuum expressed in meters per second (m/s).
+     */
+    public static final double SPEED_OF_LIGHT = GNSSMeasurementsGenerator.SPEED_OF_LIGHT;
+
+    /**
+     * Earth rotation rate expressed in radians per second (rad/s).
+     */
+    public static final double EARTH_ROTATION_RATE = GNSSMeasurementsGenerator.EARTH_ROTATION_RATE;
+
+    /**
+     * Increment between consecutive seeds, as used by {@link SplittableRandom}.
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * GNSS configuration.
+     */
+    private final GNSSConfig config;
+
+    /**
+     * User trajectory.
+     */
+    private final GNSSUserTrajectory trajectory;
+
+    /**
+     * Seed of simulation.
+     */
+    private final long seed;
+
+    /**
+     * Precomputed constellation of satellites.
+     */
+    private final SatelliteConstellation constellation;
+
+    /**
+     * Range bias of each satellite expressed in meters (m).
+     */
+    private final double[] biases;
+
+    /**
+     * Base seed used to derive the seed of each epoch.
+     */
+    private final long epochSeedBase;
+
+    /**
+     * Number of epochs processed by each task.
+     */
+    private final int epochsPerTask;
+
+    /**
+     * Reusable state used for sequential generation.
+     */
+    private final Workspace workspace;
+
+    /**
+     * Buffer containing measurements of current epoch.
+     */
+    private final double[] measurements;
+
+    /**
+     * Indicates whether epochs are processed in parallel.
+     */
+    private boolean parallel = true;
+
+    /**
+     * Current epoch, or -1 if no epoch has been generated yet.
+     */
+    private long epoch = -1;
+
+    /**
+     * Number of satellite measurements of current epoch.
+     */
+    private int numberOfMeasurements;
+
+    /**
+     * Constructor.
+     *
+     * @param config     GNSS configuration.
+     * @param trajectory user trajectory.
+     * @param seed       seed of simulation.
+     */
+    public GNSSMeasurementsSimulator(final GNSSConfig config, final GNSSUserTrajectory trajectory,
+                                     final long seed) {
+        this(config, trajectory, seed, DEFAULT_EPOCHS_PER_TASK);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param config        GNSS configuration.
+     * @param trajectory    user trajectory.
+     * @param seed          seed of simulation.
+     * @param epochsPerTask number of epochs processed by each parallel task.
+     * @throws IllegalArgumentException if number of epochs per task is zero or
+     *                                  negative.
+     */
+    public GNSSMeasurementsSimulator(final GNSSConfig config, final GNSSUserTrajectory trajectory,
+                                     final long seed, final int epochsPerTask) {
+        if (epochsPerTask <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.config = new GNSSConfig(config);
+        this.trajectory = trajectory;
+        this.seed = seed;
+        this.epochsPerTask = epochsPerTask;
+        constellation = new SatelliteConstellation(this.config);
+        workspace = new Workspace();
+        measurements = new double[getEpochLength()];
+
+        final var root = new SplittableRandom(seed);
+        final var biasRandom = root.split();
+        epochSeedBase = root.nextLong();
+
+        // generate constant range biases at the beginning of the trajectory
+        final var numSatellites = constellation.getNumberOfSatellites();
+        biases = new double[numSatellites];
+        workspace.setUser(trajectory, 0.0);
+        for (var j = 0; j < numSatellites; j++) {
+            constellation.generate(0.0, j, workspace.satellitePosition, workspace.satelliteVelocity, 0);
+            biases[j] = GNSSBiasesGenerator.generateBias(workspace.getElevation(), this.config, biasRandom);
+        }
+    }
+
+    /**
+     * Gets GNSS configuration.
+     *
+     * @return GNSS configuration.
+     */
+    public GNSSConfig getConfig() {
+        return new GNSSConfig(config);
+    }
+
+    /**
+     * Gets user trajectory.
+     *
+     * @return user trajectory.
+     */
+    public GNSSUserTrajectory getTrajectory() {
+        return trajectory;
+    }
+
+    /**
+     * Gets seed of simulation.
+     *
+     * @return seed of simulation.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets precomputed constellation of satellites.
+     *
+     * @return constellation of satellites.
+     */
+    public SatelliteConstellation getConstellation() {
+        return constellation;
+    }
+
+    /**
+     * Gets range bias of provided satellite, which is kept constant for the whole
+     * simulation.
+     *
+     * @param satellite satellite index.
+     * @return range bias expressed in meters (m).
+     * @throws IndexOutOfBoundsException if satellite index is not valid.
+     */
+    public double getBias(final int satellite) {
+        return biases[satellite];
+    }
+
+    /**
+     * Gets number of epochs processed by each parallel task.
+     *
+     * @return number of epochs processed by each parallel task.
+     */
+    public int getEpochsPerTask() {
+        return epochsPerTask;
+    }
+
+    /**
+     * Indicates whether epochs are processed in parallel using the common
+     * {@link ForkJoinPool} when generating batches.
+     *
+     * @return true if epochs are processed in parallel, false otherwise.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Specifies whether epochs are processed in parallel using the common
+     * {@link ForkJoinPool} when generating batches.
+     * When enabled, provided trajectory must be thread-safe.
+     *
+     * @param parallel true to process epochs in parallel, false otherwise.
+     */
+    public void setParallel(final boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Gets maximum number of values generated for a single epoch, which is the
+     * number of satellites times {@link GNSSKalmanEpochWorkspace#MEASUREMENT_LENGTH}.
+     *
+     * @return maximum number of values of an epoch.
+     */
+    public int getEpochLength() {
+        return constellation.getNumberOfSatellites() * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+    }
+
+    /**
+     * Gets time of provided epoch.
+     *
+     * @param epoch epoch index.
+     * @return time of epoch expressed in seconds (s).
+     */
+    public double getTime(final long epoch) {
+        return epoch * config.getEpochInterval();
+    }
+
+    /**
+     * Gets index of last generated epoch through {@link #next()}.
+     *
+     * @return index of current epoch, or -1 if no epoch has been generated yet.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Gets time of last generated epoch through {@link #next()}.
+     *
+     * @return time of current epoch expressed in seconds (s).
+     */
+    public double getTime() {
+        return getTime(epoch);
+    }
+
+    /**
+     * Gets internal buffer containing measurements of last generated epoch
+     * through {@link #next()}. Only the first {@link #getNumberOfMeasurements()}
+     * measurements are valid, and buffer contents are overwritten on next call to
+     * {@link #next()}.
+     *
+     * @return buffer containing measurements of current epoch.
+     */
+    public double[] getMeasurements() {
+        return measurements;
+    }
+
+    /**
+     * Gets number of visible satellites of last generated epoch through {@link #next()}.
+     *
+     * @return number of satellite measurements of current epoch.
+     */
+    public int getNumberOfMeasurements() {
+        return numberOfMeasurements;
+    }
+
+    /**
+     * Generates measurements of next epoch, which can be obtained through
+     * {@link #getMeasurements()} and {@link #getNumberOfMeasurements()}.
+     *
+     * @return number of satellite measurements of generated epoch.
+     */
+    public int next() {
+        epoch++;
+        numberOfMeasurements = generateEpoch(epoch, measurements, 0, workspace);
+        return numberOfMeasurements;
+    }
+
+    /**
+     * Restarts simulation, so that next call to {@link #next()} generates first
+     * epoch again.
+     */
+    public void reset() {
+        epoch = -1;
+        numberOfMeasurements = 0;
+    }
+
+    /**
+     * Generates measurements of a single epoch.
+     * This method does not modify the sequence of epochs returned by {@link #next()}.
+     *
+     * @param epoch        epoch index.
+     * @param measurements buffer where measurements will be stored.
+     * @param offset       position in buffer where first measurement will be stored.
+     * @return number of satellite measurements of generated epoch.
+     * @throws IllegalArgumentException if epoch or offset is negative, or buffer is
+     *                                  too small to store measurements of all
+     *                                  satellites.
+     */
+    public int generate(final long epoch, final double[] measurements, final int offset) {
+        if (epoch < 0 || offset < 0 || measurements.length < offset + getEpochLength()) {
+            throw new IllegalArgumentException();
+        }
+        return generateEpoch(epoch, measurements, offset, workspace);
+    }
+
+    /**
+     * Generates measurements of consecutive epochs.
+     * Measurements of epoch firstEpoch + k are stored starting at position
+     * k * {@link #getEpochLength()} of provided buffer, and their number is stored at
+     * position k of provided array.
+     * This method does not modify the sequence of epochs returned by {@link #next()}.
+     *
+     * @param firstEpoch           index of first epoch to be generated.
+     * @param numberOfEpochs       number of epochs to be generated.
+     * @param measurements         buffer where measurements will be stored.
+     * @param numberOfMeasurements array where number of satellite measurements of
+     *                             each epoch will be stored.
+     * @throws IllegalArgumentException if first epoch or number of epochs is
+     *                                  negative, or provided arrays are too small.
+     */
+    public void generate(final long firstEpoch, final int numberOfEpochs, final double[] measurements,
+                         final int[] numberOfMeasurements) {
+        if (firstEpoch < 0 || numberOfEpochs < 0 || numberOfMeasurements.length < numberOfEpochs
+                || measurements.length < (long) numberOfEpochs * getEpochLength()) {
+            throw new IllegalArgumentException();
+        }
+
+        final var task = new GenerationTask(firstEpoch, measurements, numberOfMeasurements, 0, numberOfEpochs);
+        if (parallel && numberOfEpochs > epochsPerTask) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+    }
+
+    /**
+     * Generates measurements of a single epoch without checking provided buffer.
+     *
+     * @param epoch        epoch index.
+     * @param measurements buffer where measurements will be stored.
+     * @param offset       position in buffer where first measurement will be stored.
+     * @param workspace    reusable state.
+     * @return number of satellite measurements of generated epoch.
+     */
+    private int generateEpoch(final long epoch, final double[] measurements, final int offset,
+                              final Workspace workspace) {
+        final var time = getTime(epoch);
+        final var random = new SplittableRandom(mix64(epochSeedBase + epoch * GOLDEN_GAMMA));
+        final var maskAngle = Math.toRadians(config.getMaskAngleDegrees());
+        final var clockOffset = config.getInitialReceiverClockOffset() + config.getInitialReceiverClockDrift() * time;
+
+        workspace.setUser(trajectory, time);
+
+        final var numSatellites = constellation.getNumberOfSatellites();
+        var count = 0;
+        for (var j = 0; j < numSatellites; j++) {
+            constellation.generate(time, j, workspace.satellitePosition, workspace.satelliteVelocity, 0);
+
+            // Determine if satellite is above the masking angle
+            if (workspace.getElevation() < maskAngle) {
+                continue;
+            }
+
+            workspace.generateMeasurement(biases[j] + clockOffset, random, measurements,
+                    offset + count * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH);
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Mixes bits of provided value, as done by {@link SplittableRandom} to
+     * generate its values.
+     *
+     * @param z value to be mixed.
+     * @return mixed value.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Reusable state to generate measurements of an epoch without allocating any
+     * object per satellite.
+     */
+    private class Workspace {
+
+        /**
+         * User position and velocity.
+         */
+        private final ECEFPositionAndVelocity user = new ECEFPositionAndVelocity();
+
+        /**
+         * User position resolved on NED frame.
+         */
+        private final NEDPosition userNedPosition = new NEDPosition();
+
+        /**
+         * User velocity resolved on NED frame.
+         */
+        private final NEDVelocity userNedVelocity = new NEDVelocity();
+
+        /**
+         * ECEF satellite position.
+         */
+        private final double[] satellitePosition = new double[SatelliteConstellation.COMPONENTS];
+
+        /**
+         * ECEF satellite velocity.
+         */
+        private final double[] satelliteVelocity = new double[SatelliteConstellation.COMPONENTS];
+
+        /**
+         * Last row of ECEF to NED coordinate transformation matrix.
+         */
+        private double cen1;
+
+        /**
+         * Last row of ECEF to NED coordinate transformation matrix.
+         */
+        private double cen2;
+
+        /**
+         * Last row of ECEF to NED coordinate transformation matrix.
+         */
+        private double cen3;
+
+        /**
+         * x coordinate of line-of-sight unit vector.
+         */
+        private double uaseX;
+
+        /**
+         * y coordinate of line-of-sight unit vector.
+         */
+        private double uaseY;
+
+        /**
+         * z coordinate of line-of-sight unit vector.
+         */
+        private double uaseZ;
+
+        /**
+         * Approximate range between satellite and user expressed in meters (m).
+         */
+        private double approxRange;
+
+        /**
+         * Obtains user position and velocity at provided time, along with the
+         * terms of the ECEF to NED transformation required to compute elevations.
+         *
+         * @param trajectory user trajectory.
+         * @param time       simulation time expressed in seconds (s).
+         */
+        void setUser(final GNSSUserTrajectory trajectory, final double time) {
+            trajectory.getPositionAndVelocity(time, user);
+            ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(user.getX(), user.getY(), user.getZ(),
+                    0.0, 0.0, 0.0, userNedPosition, userNedVelocity);
+
+            // last row of ECEF to NED coordinate transformation matrix from (2.150)
+            final var latitude = userNedPosition.getLatitude();
+            final var longitude = userNedPosition.getLongitude();
+            final var cosLat = Math.cos(latitude);
+            cen1 = -cosLat * Math.cos(longitude);
+            cen2 = -cosLat * Math.sin(longitude);
+            cen3 = -Math.sin(latitude);
+        }
+
+        /**
+         * Computes line-of-sight vector and elevation of current satellite.
+         *
+         * @return elevation expressed in radians (rad).
+         */
+        double getElevation() {
+            // Determine ECEF line-of-sight vector using (8.41)
+            final var deltaRx = satellitePosition[0] - user.getX();
+            final var deltaRy = satellitePosition[1] - user.getY();
+            final var deltaRz = satellitePosition[2] - user.getZ();
+
+            approxRange = Math.sqrt(deltaRx * deltaRx + deltaRy * deltaRy + deltaRz * deltaRz);
+
+            uaseX = deltaRx / approxRange;
+            uaseY = deltaRy / approxRange;
+            uaseZ = deltaRz / approxRange;
+
+            // Convert line-of-sight vector to NED using (8.39) and determine
+            // elevation using (8.57)
+            return -Math.asin(cen1 * uaseX + cen2 * uaseY + cen3 * uaseZ);
+        }
+
+        /**
+         * Generates measurement of current satellite once its line-of-sight vector
+         * has been computed.
+         *
+         * @param bias         range bias plus receiver clock offset expressed in
+         *                     meters (m).
+         * @param random       random number generator of current epoch.
+         * @param measurements buffer where measurement will be stored.
+         * @param offset       position in buffer where measurement will be stored.
+         */
+        void generateMeasurement(final double bias, final SplittableRandom random, final double[] measurements,
+                                 final int offset) {
+            final var satelliteX = satellitePosition[0];
+            final var satelliteY = satellitePosition[1];
+            final var satelliteZ = satellitePosition[2];
+            final var satelliteVx = satelliteVelocity[0];
+            final var satelliteVy = satelliteVelocity[1];
+            final var satelliteVz = satelliteVelocity[2];
+            final var userX = user.getX();
+            final var userY = user.getY();
+            final var userZ = user.getZ();
+
+            // Calculate frame rotation during signal transit time using (8.36)
+            final var ceiValue = EARTH_ROTATION_RATE * approxRange / SPEED_OF_LIGHT;
+
+            // Calculate range using (8.35)
+            final var deltaRx = satelliteX + ceiValue * satelliteY - userX;
+            final var deltaRy = -ceiValue * satelliteX + satelliteY - userY;
+            final var deltaRz = satelliteZ - userZ;
+            final var range = Math.sqrt(deltaRx * deltaRx + deltaRy * deltaRy + deltaRz * deltaRz);
+
+            // Calculate range rate using (8.44)
+            final var satX = satelliteVx - EARTH_ROTATION_RATE * satelliteY;
+            final var satY = satelliteVy + EARTH_ROTATION_RATE * satelliteX;
+            final var userVx = user.getVx() - EARTH_ROTATION_RATE * userY;
+            final var userVy = user.getVy() + EARTH_ROTATION_RATE * userX;
+            final var rangeRate = uaseX * (satX + ceiValue * satY - userVx)
+                    + uaseY * (-ceiValue * satX + satY - userVy)
+                    + uaseZ * (satelliteVz - user.getVz());
+
+            // Calculate pseudo-range and pseudo-range rate measurements
+            measurements[offset] = range + bias + config.getCodeTrackingErrorSD() * random.nextGaussian();
+            measurements[offset + 1] = rangeRate + config.getInitialReceiverClockDrift()
+                    + config.getRangeRateTrackingErrorSD() * random.nextGaussian();
+            measurements[offset + 2] = satelliteX;
+            measurements[offset + 3] = satelliteY;
+            measurements[offset + 4] = satelliteZ;
+            measurements[offset + 5] = satelliteVx;
+            measurements[offset + 6] = satelliteVy;
+            measurements[offset + 7] = satelliteVz;
+        }
+    }
+
+    /**
+     * Fork-join task splitting a range of epochs until no more than the configured
+     * number of epochs per task remains.
+     */
+    private class GenerationTask extends RecursiveAction {
+
+        /**
+         * Index of first epoch of the whole batch.
+         */
+        private final long firstEpoch;
+
+        /**
+         * Buffer where measurements will be stored.
+         */
+        private final double[] measurements;
+
+        /**
+         * Array where number of satellite measurements of each epoch will be stored.
+         */
+        private final int[] numberOfMeasurements;
+
+        /**
+         * First epoch to be processed relative to first epoch of batch (inclusive).
+         */
+        private final int from;
+
+        /**
+         * Last epoch to be processed relative to first epoch of batch (exclusive).
+         */
+        private final int to;
+
+        /**
+         * Constructor.
+         *
+         * @param firstEpoch           index of first epoch of the whole batch.
+         * @param measurements         buffer where measurements will be stored.
+         * @param numberOfMeasurements array where number of satellite measurements of
+         *                             each epoch will be stored.
+         * @param from                 first epoch to be processed relative to first
+         *                             epoch of batch (inclusive).
+         * @param to                   last epoch to be processed relative to first
+         *                             epoch of batch (exclusive).
+         */
+        GenerationTask(final long firstEpoch, final double[] measurements, final int[] numberOfMeasurements,
+                       final int from, final int to) {
+            this.firstEpoch = firstEpoch;
+            this.measurements = measurements;
+            this.numberOfMeasurements = numberOfMeasurements;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Processes epochs, splitting them into subtasks if more than the configured
+         * number of epochs per task are contained.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= epochsPerTask) {
+                final var taskWorkspace = new Workspace();
+                final var epochLength = getEpochLength();
+                for (var k = from; k < to; k++) {
+                    numberOfMeasurements[k] = generateEpoch(firstEpoch + k, measurements, k * epochLength,
+                            taskWorkspace);
+                }
+            } else {
+                final var middle = (from + to) >>> 1;
+                invokeAll(new GenerationTask(firstEpoch, measurements, numberOfMeasurements, from, middle),
+                        new GenerationTask(firstEpoch, measurements, numberOfMeasurements, middle, to));
+            }
+        }
+    }
+}
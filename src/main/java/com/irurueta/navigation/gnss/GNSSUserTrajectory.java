@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.gnss;
+
+/**
+ * Provides user position and velocity at any simulation time.
+ * Used by {@link GNSSMeasurementsSimulator} to lazily obtain the user trajectory.
+ * Implementations used for parallel simulation must be thread-safe.
+ */
+public interface GNSSUserTrajectory {
+    /**
+     * Gets ECEF user position and velocity at provided time.
+     *
+     * @param time   simulation time expressed in seconds (s).
+     * @param result instance where ECEF user position and velocity must be stored.
+     */
+    void getPositionAndVelocity(final double time, final ECEFPositionAndVelocity result);
+}
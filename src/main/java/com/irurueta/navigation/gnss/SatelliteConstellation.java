@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.gnss;
+
+/**
+ * Precomputed model of a constellation of satellites following circular orbits.
+ * All terms that only depend on a {@link GNSSConfig} (orbital angular rate,
+ * inclination sine and cosine, and per-satellite argument of latitude and
+ * longitude of ascending node offsets) are computed once at construction, so
+ * that positions and velocities of satellites can be repeatedly generated for
+ * many epochs through
+ * {@link SatelliteECEFPositionAndVelocityGenerator#generateSatellitesPositionAndVelocity(double, SatelliteConstellation, double[], double[], int)}
+ * without recomputing them.
+ * Generated values are exactly the same as the ones obtained through
+ * {@link SatelliteECEFPositionAndVelocityGenerator#generateSatellitePositionAndVelocity(double, GNSSConfig, int, ECEFPositionAndVelocity)}.
+ * Instances of this class are immutable and can be shared among threads.
+ */
+public class SatelliteConstellation {
+
+    /**
+     * Number of values stored for each satellite position or velocity, which are
+     * ECEF x, y and z coordinates.
+     */
+    public static final int COMPONENTS = 3;
+
+    /**
+     * Number of satellites.
+     */
+    private final int numberOfSatellites;
+
+    /**
+     * Orbital radius of satellites expressed in meters (m).
+     */
+    private final double orbitalRadius;
+
+    /**
+     * Orbital angular rate expressed in radians per second (rad/s).
+     */
+    private final double orbitalAngularRate;
+
+    /**
+     * Orbital speed of satellites expressed in meters per second (m/s).
+     */
+    private final double orbitalSpeed;
+
+    /**
+     * Cosine of satellites inclination.
+     */
+    private final double cosInclination;
+
+    /**
+     * Sine of satellites inclination.
+     */
+    private final double sinInclination;
+
+    /**
+     * Timing offset of constellation expressed in seconds (s).
+     */
+    private final double timingOffset;
+
+    /**
+     * Argument of latitude of each satellite at constellation time zero expressed
+     * in radians (rad).
+     */
+    private final double[] argumentOfLatitudeOffsets;
+
+    /**
+     * Longitude of ascending node of each satellite at constellation time zero
+     * expressed in radians (rad).
+     */
+    private final double[] ascendingNodeOffsets;
+
+    /**
+     * Constructor.
+     *
+     * @param config GNSS configuration.
+     */
+    public SatelliteConstellation(final GNSSConfig config) {
+        numberOfSatellites = config.getNumberOfSatellites();
+        orbitalRadius = config.getOrbitalRadiusOfSatellites();
+
+        // Determine orbital angular rate using (8.8)
+        final var orbitalRadius3 = orbitalRadius * orbitalRadius * orbitalRadius;
+        orbitalAngularRate = Math.sqrt(SatelliteECEFPositionAndVelocityGenerator.EARTH_GRAVITATIONAL_CONSTANT
+                / orbitalRadius3);
+        orbitalSpeed = orbitalRadius * orbitalAngularRate;
+
+        final var inclinationRadians = Math.toRadians(config.getSatellitesInclinationDegrees());
+        cosInclination = Math.cos(inclinationRadians);
+        sinInclination = Math.sin(inclinationRadians);
+
+        timingOffset = config.getConstellationTimingOffset();
+
+        final var constDeltaLambdaRadians = Math.toRadians(config.getConstellationLongitudeOffsetDegrees());
+        argumentOfLatitudeOffsets = new double[numberOfSatellites];
+        ascendingNodeOffsets = new double[numberOfSatellites];
+        for (var j = 0; j < numberOfSatellites; j++) {
+            argumentOfLatitudeOffsets[j] = 2.0 * Math.PI * j / numberOfSatellites;
+            ascendingNodeOffsets[j] = Math.PI * ((j + 1) % 6) / 3.0 + constDeltaLambdaRadians;
+        }
+    }
+
+    /**
+     * Gets number of satellites.
+     *
+     * @return number of satellites.
+     */
+    public int getNumberOfSatellites() {
+        return numberOfSatellites;
+    }
+
+    /**
+     * Gets orbital radius of satellites expressed in meters (m).
+     *
+     * @return orbital radius of satellites.
+     */
+    public double getOrbitalRadius() {
+        return orbitalRadius;
+    }
+
+    /**
+     * Gets orbital angular rate of satellites expressed in radians per second (rad/s).
+     *
+     * @return orbital angular rate of satellites.
+     */
+    public double getOrbitalAngularRate() {
+        return orbitalAngularRate;
+    }
+
+    /**
+     * Gets timing offset of constellation expressed in seconds (s).
+     *
+     * @return timing offset of constellation.
+     */
+    public double getTimingOffset() {
+        return timingOffset;
+    }
+
+    /**
+     * Gets length of the buffers required to store positions or velocities of all
+     * satellites for provided number of epochs.
+     *
+     * @param numberOfEpochs number of epochs.
+     * @return required buffer length.
+     */
+    public int getBufferLength(final int numberOfEpochs) {
+        return numberOfEpochs * numberOfSatellites * COMPONENTS;
+    }
+
+    /**
+     * Generates ECEF position and velocity of a single satellite.
+     *
+     * @param time       current time expressed in seconds (s).
+     * @param j          number of satellite whose position and velocity must be computed.
+     * @param positions  buffer where ECEF x, y, z satellite coordinates will be stored.
+     * @param velocities buffer where ECEF x, y, z satellite velocity will be stored.
+     * @param offset     position in buffers where values will be stored.
+     */
+    void generate(final double time, final int j, final double[] positions, final double[] velocities,
+                  final int offset) {
+        // determine constellation time
+        final var constTime = time + timingOffset;
+
+        // (Corrected) argument of latitude
+        final var uOsO = argumentOfLatitudeOffsets[j] + orbitalAngularRate * constTime;
+
+        // Satellite position in the orbital frame from (8.14)
+        final var cosUoso = Math.cos(uOsO);
+        final var sinUoso = Math.sin(uOsO);
+        final var rOsO1 = orbitalRadius * cosUoso;
+        final var rOsO2 = orbitalRadius * sinUoso;
+
+        // longitude of the ascending node from (8.16)
+        final var omega = ascendingNodeOffsets[j]
+                - SatelliteECEFPositionAndVelocityGenerator.EARTH_ROTATION_RATE * constTime;
+
+        // ECEF satellite position from (8.19)
+        final var cosOmega = Math.cos(omega);
+        final var sinOmega = Math.sin(omega);
+
+        final var satelliteX = rOsO1 * cosOmega - rOsO2 * cosInclination * sinOmega;
+        final var satelliteY = rOsO1 * sinOmega + rOsO2 * cosInclination * cosOmega;
+        final var satelliteZ = rOsO2 * sinInclination;
+
+        // Satellite velocity in the orbital frame from (8.25)
+        final var vOsO1 = -orbitalSpeed * sinUoso;
+        final var vOsO2 = orbitalSpeed * cosUoso;
+
+        // ECEF satellite velocity from (8.26)
+        final var earthRotationRate = SatelliteECEFPositionAndVelocityGenerator.EARTH_ROTATION_RATE;
+        positions[offset] = satelliteX;
+        positions[offset + 1] = satelliteY;
+        positions[offset + 2] = satelliteZ;
+        velocities[offset] = vOsO1 * cosOmega - vOsO2 * cosInclination * sinOmega + earthRotationRate * satelliteY;
+        velocities[offset + 1] = vOsO1 * sinOmega + vOsO2 * cosInclination * cosOmega
+                - earthRotationRate * satelliteX;
+        velocities[offset + 2] = vOsO2 * sinInclination;
+    }
+}
@@ -19,6 +19,8 @@ import com.irurueta.navigation.geodesic.Constants;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Computes satellites positions and velocities.
@@ -40,6 +42,11 @@ public class SatelliteECEFPositionAndVelocityGenerator {
      */
     public static final double EARTH_ROTATION_RATE = Constants.EARTH_ROTATION_RATE;
 
+    /**
+     * Default number of epochs processed by each parallel task.
+     */
+    public static final int DEFAULT_EPOCHS_PER_TASK = 64;
+
     /**
      * Constructor.
      * Prevents instantiation of utility class.
@@ -155,4 +162,191 @@ public class SatelliteECEFPositionAndVelocityGenerator {
         result.setPositionCoordinates(satelliteX, satelliteY, satelliteZ);
         result.setVelocityCoordinates(satelliteVx, satelliteVy, satelliteVz);
     }
+
+    /**
+     * Generates positions and velocities of all satellites of a precomputed
+     * constellation for a single epoch.
+     * Values of satellite j are stored starting at position
+     * offset + j * {@link SatelliteConstellation#COMPONENTS} of provided buffers.
+     *
+     * @param time          current time expressed in seconds (s).
+     * @param constellation precomputed constellation.
+     * @param positions     buffer where ECEF x, y, z coordinates of satellites will be stored.
+     * @param velocities    buffer where ECEF x, y, z velocities of satellites will be stored.
+     * @param offset        position in buffers where values of first satellite will be stored.
+     * @throws IllegalArgumentException if offset is negative or buffers are too small.
+     */
+    public static void generateSatellitesPositionAndVelocity(
+            final double time, final SatelliteConstellation constellation, final double[] positions,
+            final double[] velocities, final int offset) {
+        final var length = constellation.getBufferLength(1);
+        if (offset < 0 || positions.length < offset + length || velocities.length < offset + length) {
+            throw new IllegalArgumentException();
+        }
+
+        generateEpoch(time, constellation, positions, velocities, offset);
+    }
+
+    /**
+     * Generates positions and velocities of all satellites of a precomputed
+     * constellation for all provided epochs.
+     * Values of satellite j at epoch e are stored starting at position
+     * (e * number of satellites + j) * {@link SatelliteConstellation#COMPONENTS}
+     * of provided buffers, which must have at least
+     * {@link SatelliteConstellation#getBufferLength(int)} length.
+     * Epochs are processed sequentially.
+     *
+     * @param times         time of each epoch expressed in seconds (s).
+     * @param constellation precomputed constellation.
+     * @param positions     buffer where ECEF x, y, z coordinates of satellites will be stored.
+     * @param velocities    buffer where ECEF x, y, z velocities of satellites will be stored.
+     * @throws IllegalArgumentException if buffers are too small.
+     */
+    public static void generateSatellitesPositionAndVelocity(
+            final double[] times, final SatelliteConstellation constellation, final double[] positions,
+            final double[] velocities) {
+        generateSatellitesPositionAndVelocity(times, constellation, positions, velocities, false,
+                DEFAULT_EPOCHS_PER_TASK);
+    }
+
+    /**
+     * Generates positions and velocities of all satellites of a precomputed
+     * constellation for all provided epochs.
+     * Values of satellite j at epoch e are stored starting at position
+     * (e * number of satellites + j) * {@link SatelliteConstellation#COMPONENTS}
+     * of provided buffers, which must have at least
+     * {@link SatelliteConstellation#getBufferLength(int)} length.
+     * When parallel execution is enabled, epochs are split in chunks that are
+     * distributed among the threads of the common {@link ForkJoinPool}. Since each
+     * epoch is computed independently, results are exactly the same regardless of
+     * whether execution is parallel or not.
+     *
+     * @param times          time of each epoch expressed in seconds (s).
+     * @param constellation  precomputed constellation.
+     * @param positions      buffer where ECEF x, y, z coordinates of satellites will be stored.
+     * @param velocities     buffer where ECEF x, y, z velocities of satellites will be stored.
+     * @param parallel       true to process epochs in parallel, false otherwise.
+     * @param epochsPerTask  number of epochs processed by each parallel task.
+     * @throws IllegalArgumentException if buffers are too small or number of epochs
+     *                                  per task is zero or negative.
+     */
+    public static void generateSatellitesPositionAndVelocity(
+            final double[] times, final SatelliteConstellation constellation, final double[] positions,
+            final double[] velocities, final boolean parallel, final int epochsPerTask) {
+        final var length = (long) times.length * constellation.getBufferLength(1);
+        if (epochsPerTask <= 0 || positions.length < length || velocities.length < length) {
+            throw new IllegalArgumentException();
+        }
+
+        final var task = new GenerationTask(times, constellation, positions, velocities, epochsPerTask,
+                0, times.length);
+        if (parallel && times.length > epochsPerTask) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+    }
+
+    /**
+     * Generates positions and velocities of all satellites of a precomputed
+     * constellation for a single epoch without checking buffers.
+     *
+     * @param time          current time expressed in seconds (s).
+     * @param constellation precomputed constellation.
+     * @param positions     buffer where ECEF x, y, z coordinates of satellites will be stored.
+     * @param velocities    buffer where ECEF x, y, z velocities of satellites will be stored.
+     * @param offset        position in buffers where values of first satellite will be stored.
+     */
+    private static void generateEpoch(final double time, final SatelliteConstellation constellation,
+                                      final double[] positions, final double[] velocities, final int offset) {
+        final var numSatellites = constellation.getNumberOfSatellites();
+        for (int j = 0, pos = offset; j < numSatellites; j++, pos += SatelliteConstellation.COMPONENTS) {
+            constellation.generate(time, j, positions, velocities, pos);
+        }
+    }
+
+    /**
+     * Fork-join task splitting a range of epochs until no more than the configured
+     * number of epochs per task remains.
+     */
+    private static class GenerationTask extends RecursiveAction {
+
+        /**
+         * Time of each epoch expressed in seconds (s).
+         */
+        private final double[] times;
+
+        /**
+         * Precomputed constellation.
+         */
+        private final SatelliteConstellation constellation;
+
+        /**
+         * Buffer where ECEF x, y, z coordinates of satellites will be stored.
+         */
+        private final double[] positions;
+
+        /**
+         * Buffer where ECEF x, y, z velocities of satellites will be stored.
+         */
+        private final double[] velocities;
+
+        /**
+         * Number of epochs processed by each task.
+         */
+        private final int epochsPerTask;
+
+        /**
+         * First epoch to be processed (inclusive).
+         */
+        private final int fromEpoch;
+
+        /**
+         * Last epoch to be processed (exclusive).
+         */
+        private final int toEpoch;
+
+        /**
+         * Constructor.
+         *
+         * @param times         time of each epoch expressed in seconds (s).
+         * @param constellation precomputed constellation.
+         * @param positions     buffer where ECEF x, y, z coordinates of satellites will be stored.
+         * @param velocities    buffer where ECEF x, y, z velocities of satellites will be stored.
+         * @param epochsPerTask number of epochs processed by each task.
+         * @param fromEpoch     first epoch to be processed (inclusive).
+         * @param toEpoch       last epoch to be processed (exclusive).
+         */
+        GenerationTask(final double[] times, final SatelliteConstellation constellation,
+                       final double[] positions, final double[] velocities, final int epochsPerTask,
+                       final int fromEpoch, final int toEpoch) {
+            this.times = times;
+            this.constellation = constellation;
+            this.positions = positions;
+            this.velocities = velocities;
+            this.epochsPerTask = epochsPerTask;
+            this.fromEpoch = fromEpoch;
+            this.toEpoch = toEpoch;
+        }
+
+        /**
+         * Processes epochs, splitting them into subtasks if more than the configured
+         * number of epochs per task are contained.
+         */
+        @Override
+        protected void compute() {
+            if (toEpoch - fromEpoch <= epochsPerTask) {
+                final var epochLength = constellation.getBufferLength(1);
+                for (var e = fromEpoch; e < toEpoch; e++) {
+                    generateEpoch(times[e], constellation, positions, velocities, e * epochLength);
+                }
+            } else {
+                final var middle = (fromEpoch + toEpoch) >>> 1;
+                invokeAll(new GenerationTask(times, constellation, positions, velocities, epochsPerTask,
+                                fromEpoch, middle),
+                        new GenerationTask(times, constellation, positions, velocities, epochsPerTask,
+                                middle, toEpoch));
+            }
+        }
+    }
 }
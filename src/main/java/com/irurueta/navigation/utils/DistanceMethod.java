@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.utils;
+
+/**
+ * Methods to compute distances between locations on the WGS84 ellipsoid, sorted from the
+ * fastest and least accurate to the slowest and most accurate one.
+ * Error bounds are worst-case errors with respect to the geodesic distance.
+ */
+public enum DistanceMethod {
+    /**
+     * Equirectangular (flat Earth) approximation using the meridional and prime vertical radii
+     * of curvature of the ellipsoid at the mean latitude of both locations.
+     * Error grows with the cube of the distance and is below 5 cm up to 10 km and below 0.1 mm
+     * up to 1 km when both locations have latitudes between -80 and 80 degrees. Close to the
+     * poles error grows quickly (about 0.5 m at 1 km for latitudes up to 89.9 degrees), hence
+     * this method should only be used for short distances away from the poles.
+     */
+    EQUIRECTANGULAR,
+
+    /**
+     * Haversine formula on a sphere having the mean radius of the WGS84 ellipsoid.
+     * It is valid for any distance, but relative error is up to 0.6% due to the flattening of
+     * the Earth (e.g. about 6 m at 1 km or 56 km at 10000 km).
+     */
+    HAVERSINE,
+
+    /**
+     * Andoyer-Lambert formula, which corrects the spherical distance between reduced latitudes
+     * to first order in the flattening of the ellipsoid.
+     * Relative error is below 1.5e-6 (i.e. 1.5 mm per km, or 15 m at 10000 km) for distances up
+     * to 10000 km. Error grows close to antipodal locations, reaching a few hundred meters at
+     * 19000 km and tens of kilometers for nearly antipodal locations.
+     */
+    ANDOYER_LAMBERT,
+
+    /**
+     * Exact geodesic distance obtained by solving the inverse geodesic problem, accurate to a
+     * few nanometers for any pair of locations.
+     */
+    GEODESIC,
+
+    /**
+     * Uses {@link #EQUIRECTANGULAR} method when the approximate distance is below a threshold
+     * and both locations have latitudes between -80 and 80 degrees, and falls back to
+     * {@link #GEODESIC} method otherwise.
+     * With the default threshold of 10 km, error is below 5 cm for any pair of locations.
+     */
+    AUTO
+}
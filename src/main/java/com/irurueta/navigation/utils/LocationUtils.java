@@ -15,7 +15,9 @@
  */
 package com.irurueta.navigation.utils;
 
-import com.irurueta.navigation.geodesic.Geodesic;
+import com.irurueta.navigation.geodesic.Constants;
+import com.irurueta.navigation.geodesic.GeodesicData;
+import com.irurueta.navigation.geodesic.GeodesicSolver;
 import com.irurueta.units.Distance;
 import com.irurueta.units.DistanceUnit;
 
@@ -47,6 +49,50 @@ public class LocationUtils {
      */
     public static final int FORMAT_SECONDS = 2;
 
+    /**
+     * Default distance (in meters) below which {@link DistanceMethod#AUTO} method uses the
+     * equirectangular approximation instead of the exact geodesic distance.
+     */
+    public static final double DEFAULT_AUTO_DISTANCE_THRESHOLD = 10000.0;
+
+    /**
+     * Maximum absolute latitude (in degrees) of locations whose distance is computed using the
+     * equirectangular approximation by {@link DistanceMethod#AUTO} method.
+     */
+    public static final double AUTO_MAX_LATITUDE = 80.0;
+
+    /**
+     * Equatorial radius of WGS84 ellipsoid expressed in meters (m).
+     */
+    private static final double EQUATORIAL_RADIUS = Constants.EARTH_EQUATORIAL_RADIUS_WGS84;
+
+    /**
+     * Flattening of WGS84 ellipsoid.
+     */
+    private static final double FLATTENING = Constants.EARTH_FLATTENING_WGS84;
+
+    /**
+     * Squared eccentricity of WGS84 ellipsoid.
+     */
+    private static final double ECC2 = FLATTENING * (2.0 - FLATTENING);
+
+    /**
+     * Mean radius of WGS84 ellipsoid expressed in meters (m), defined as (2a + b) / 3, where a
+     * and b are the equatorial and polar radii.
+     */
+    private static final double MEAN_RADIUS = EQUATORIAL_RADIUS * (1.0 - FLATTENING / 3.0);
+
+    /**
+     * Solver of geodesic problems on WGS84 ellipsoid reused by each thread, so that
+     * distances and bearings can be computed without allocating heap memory.
+     */
+    private static final ThreadLocal<GeodesicSolver> SOLVER = ThreadLocal.withInitial(GeodesicSolver::new);
+
+    /**
+     * Geodesic results reused by each thread.
+     */
+    private static final ThreadLocal<GeodesicData> DATA = ThreadLocal.withInitial(GeodesicData::new);
+
     /**
      * Constructor.
      * Prevents public instantiation.
@@ -196,8 +242,8 @@ public class LocationUtils {
     public static void distanceAndBearing(
             final double startLatitude, final double startLongitude, final double endLatitude,
             final double endLongitude, final BearingDistance results) {
-        //noinspection all
-        final var data = Geodesic.WGS84.inverse(startLatitude, startLongitude, endLatitude, endLongitude);
+        final var data = DATA.get();
+        SOLVER.get().inverse(startLatitude, startLongitude, endLatitude, endLongitude, data);
         results.startLatitude = data.getLat1();
         results.startLongitude = data.getLon1();
         results.endLatitude = data.getLat2();
@@ -243,8 +289,8 @@ public class LocationUtils {
         if (results.length == 0) {
             throw new IllegalArgumentException();
         }
-        //noinspection all
-        final var data = Geodesic.WGS84.inverse(startLatitude, startLongitude, endLatitude, endLongitude);
+        final var data = DATA.get();
+        SOLVER.get().inverse(startLatitude, startLongitude, endLatitude, endLongitude, data);
         results[0] = data.getS12();
         if (results.length > 1) {
             results[1] = data.getAzi1();
@@ -266,8 +312,61 @@ public class LocationUtils {
     public static double distanceBetweenMeters(
             final double startLatitude, final double startLongitude, final double endLatitude,
             final double endLongitude) {
-        //noinspection all
-        return Geodesic.WGS84.inverse(startLatitude, startLongitude, endLatitude, endLongitude).getS12();
+        return SOLVER.get().distance(startLatitude, startLongitude, endLatitude, endLongitude);
+    }
+
+    /**
+     * Computes the approximate distance in meters between two locations using provided method.
+     * Error bounds of each method are described in {@link DistanceMethod}.
+     *
+     * @param startLatitude  the starting latitude.
+     * @param startLongitude the starting longitude.
+     * @param endLatitude    the ending latitude.
+     * @param endLongitude   the ending longitude.
+     * @param method         method to compute distance.
+     * @return distance in meters between two locations.
+     */
+    public static double distanceBetweenMeters(
+            final double startLatitude, final double startLongitude, final double endLatitude,
+            final double endLongitude, final DistanceMethod method) {
+        return switch (method) {
+            case EQUIRECTANGULAR -> equirectangularDistance(startLatitude, startLongitude, endLatitude,
+                    endLongitude);
+            case HAVERSINE -> haversineDistance(startLatitude, startLongitude, endLatitude, endLongitude);
+            case ANDOYER_LAMBERT -> andoyerLambertDistance(startLatitude, startLongitude, endLatitude,
+                    endLongitude);
+            case AUTO -> autoDistanceBetweenMeters(startLatitude, startLongitude, endLatitude, endLongitude,
+                    DEFAULT_AUTO_DISTANCE_THRESHOLD);
+            default -> distanceBetweenMeters(startLatitude, startLongitude, endLatitude, endLongitude);
+        };
+    }
+
+    /**
+     * Computes the approximate distance in meters between two locations using the
+     * equirectangular approximation when the approximate distance is below provided threshold and
+     * both locations have latitudes within &plusmn;{@link #AUTO_MAX_LATITUDE} degrees, or the exact
+     * geodesic distance otherwise.
+     * Error of the equirectangular approximation grows with the cube of the distance, and it is
+     * about 4 cm at 10 km.
+     *
+     * @param startLatitude  the starting latitude.
+     * @param startLongitude the starting longitude.
+     * @param endLatitude    the ending latitude.
+     * @param endLongitude   the ending longitude.
+     * @param threshold      distance in meters below which the equirectangular approximation
+     *                       is used.
+     * @return distance in meters between two locations.
+     */
+    public static double autoDistanceBetweenMeters(
+            final double startLatitude, final double startLongitude, final double endLatitude,
+            final double endLongitude, final double threshold) {
+        if (Math.abs(startLatitude) <= AUTO_MAX_LATITUDE && Math.abs(endLatitude) <= AUTO_MAX_LATITUDE) {
+            final var distance = equirectangularDistance(startLatitude, startLongitude, endLatitude, endLongitude);
+            if (distance < threshold) {
+                return distance;
+            }
+        }
+        return distanceBetweenMeters(startLatitude, startLongitude, endLatitude, endLongitude);
     }
 
     /**
@@ -304,6 +403,132 @@ public class LocationUtils {
         return result;
     }
 
+    /**
+     * Computes the approximate distance between two locations using provided method.
+     * Error bounds of each method are described in {@link DistanceMethod}.
+     *
+     * @param startLatitude  the starting latitude.
+     * @param startLongitude the starting longitude.
+     * @param endLatitude    the ending latitude.
+     * @param endLongitude   the ending longitude.
+     * @param method         method to compute distance.
+     * @return distance between two locations.
+     */
+    public static Distance distanceBetween(
+            final double startLatitude, final double startLongitude, final double endLatitude,
+            final double endLongitude, final DistanceMethod method) {
+        return new Distance(distanceBetweenMeters(startLatitude, startLongitude, endLatitude, endLongitude,
+                method), DistanceUnit.METER);
+    }
+
+    /**
+     * Computes the equirectangular (flat Earth) approximation of the distance between two
+     * locations, using the radii of curvature of the ellipsoid at their mean latitude.
+     *
+     * @param startLatitude  the starting latitude.
+     * @param startLongitude the starting longitude.
+     * @param endLatitude    the ending latitude.
+     * @param endLongitude   the ending longitude.
+     * @return distance in meters between two locations.
+     */
+    private static double equirectangularDistance(
+            final double startLatitude, final double startLongitude, final double endLatitude,
+            final double endLongitude) {
+        final var lat1 = Math.toRadians(startLatitude);
+        final var lat2 = Math.toRadians(endLatitude);
+        final var meanLat = 0.5 * (lat1 + lat2);
+
+        // longitude difference reduced to [-180, 180] degrees
+        var deltaLon = (endLongitude - startLongitude) % 360.0;
+        if (deltaLon > 180.0) {
+            deltaLon -= 360.0;
+        } else if (deltaLon < -180.0) {
+            deltaLon += 360.0;
+        }
+
+        // meridional and prime vertical radii of curvature
+        final var sinLat = Math.sin(meanLat);
+        final var w = 1.0 - ECC2 * sinLat * sinLat;
+        final var primeVerticalRadius = EQUATORIAL_RADIUS / Math.sqrt(w);
+        final var meridionalRadius = primeVerticalRadius * (1.0 - ECC2) / w;
+
+        return Math.hypot(meridionalRadius * (lat2 - lat1),
+                primeVerticalRadius * Math.cos(meanLat) * Math.toRadians(deltaLon));
+    }
+
+    /**
+     * Computes the distance between two locations using the haversine formula on a sphere having
+     * the mean radius of the ellipsoid.
+     *
+     * @param startLatitude  the starting latitude.
+     * @param startLongitude the starting longitude.
+     * @param endLatitude    the ending latitude.
+     * @param endLongitude   the ending longitude.
+     * @return distance in meters between two locations.
+     */
+    private static double haversineDistance(
+            final double startLatitude, final double startLongitude, final double endLatitude,
+            final double endLongitude) {
+        final var lat1 = Math.toRadians(startLatitude);
+        final var lat2 = Math.toRadians(endLatitude);
+        return MEAN_RADIUS * centralAngle(lat1, lat2, Math.toRadians(endLongitude - startLongitude));
+    }
+
+    /**
+     * Computes the distance between two locations using the Andoyer-Lambert formula.
+     *
+     * @param startLatitude  the starting latitude.
+     * @param startLongitude the starting longitude.
+     * @param endLatitude    the ending latitude.
+     * @param endLongitude   the ending longitude.
+     * @return distance in meters between two locations.
+     */
+    private static double andoyerLambertDistance(
+            final double startLatitude, final double startLongitude, final double endLatitude,
+            final double endLongitude) {
+        // reduced latitudes
+        final var lat1 = Math.toRadians(startLatitude);
+        final var lat2 = Math.toRadians(endLatitude);
+        final var beta1 = Math.atan2((1.0 - FLATTENING) * Math.sin(lat1), Math.cos(lat1));
+        final var beta2 = Math.atan2((1.0 - FLATTENING) * Math.sin(lat2), Math.cos(lat2));
+
+        final var sigma = centralAngle(beta1, beta2, Math.toRadians(endLongitude - startLongitude));
+        if (sigma == 0.0) {
+            return 0.0;
+        }
+
+        final var sinP = Math.sin(0.5 * (beta1 + beta2));
+        final var cosP = Math.cos(0.5 * (beta1 + beta2));
+        final var sinQ = Math.sin(0.5 * (beta2 - beta1));
+        final var cosQ = Math.cos(0.5 * (beta2 - beta1));
+        final var sinHalfSigma = Math.sin(0.5 * sigma);
+        final var cosHalfSigma = Math.cos(0.5 * sigma);
+        final var sinSigma = Math.sin(sigma);
+
+        // terms vanish for antipodal and coincident locations, where the formula is not accurate
+        final var x = cosHalfSigma != 0.0
+                ? (sigma - sinSigma) * sinP * sinP * cosQ * cosQ / (cosHalfSigma * cosHalfSigma) : 0.0;
+        final var y = (sigma + sinSigma) * cosP * cosP * sinQ * sinQ / (sinHalfSigma * sinHalfSigma);
+
+        return EQUATORIAL_RADIUS * (sigma - 0.5 * FLATTENING * (x + y));
+    }
+
+    /**
+     * Computes the central angle between two points on a sphere using the haversine formula.
+     *
+     * @param lat1     latitude of first point expressed in radians (rad).
+     * @param lat2     latitude of second point expressed in radians (rad).
+     * @param deltaLon longitude difference expressed in radians (rad).
+     * @return central angle expressed in radians (rad).
+     */
+    private static double centralAngle(final double lat1, final double lat2, final double deltaLon) {
+        final var sinHalfDeltaLat = Math.sin(0.5 * (lat2 - lat1));
+        final var sinHalfDeltaLon = Math.sin(0.5 * deltaLon);
+        final var h = sinHalfDeltaLat * sinHalfDeltaLat
+                + Math.cos(lat1) * Math.cos(lat2) * sinHalfDeltaLon * sinHalfDeltaLon;
+        return 2.0 * Math.atan2(Math.sqrt(h), Math.sqrt(Math.max(0.0, 1.0 - h)));
+    }
+
 
     /**
      * Contains distance and bearing.
@@ -32,6 +32,7 @@ import com.irurueta.units.TimeUnit;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -50,6 +51,8 @@ class CoordinateTransformationTest {
     void testConstants() {
         assertEquals(3, CoordinateTransformation.ROWS);
         assertEquals(3, CoordinateTransformation.COLS);
+        assertEquals(9, CoordinateTransformation.ELEMENTS);
+        assertEquals(3, CoordinateTransformation.COMPONENTS);
         assertEquals(1e-11, CoordinateTransformation.DEFAULT_THRESHOLD, 0.0);
         assertEquals(CoordinateTransformation.EARTH_ROTATION_RATE, Constants.EARTH_ROTATION_RATE, 0.0);
     }
@@ -281,6 +284,52 @@ class CoordinateTransformationTest {
         assertThrows(InvalidRotationMatrixException.class, () -> c.setMatrix(new Matrix(3, 1)));
     }
 
+    @Test
+    void testSetMatrixCopiesValues() throws InvalidRotationMatrixException, WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q = new Quaternion(roll, pitch, yaw);
+
+        final var m = q.asInhomogeneousMatrix();
+        final var c = new CoordinateTransformation(m, FrameType.BODY_FRAME, FrameType.LOCAL_NAVIGATION_FRAME);
+
+        // modifying provided matrix does not modify coordinate transformation
+        m.initialize(0.0);
+        assertEquals(q.asInhomogeneousMatrix(), c.getMatrix());
+
+        final var m2 = q.asInhomogeneousMatrix().transposeAndReturnNew();
+        c.setMatrix(m2);
+        m2.initialize(0.0);
+        assertEquals(q.asInhomogeneousMatrix().transposeAndReturnNew(), c.getMatrix());
+    }
+
+    @Test
+    void testGetElements() throws InvalidRotationMatrixException {
+        final var randomizer = new UniformRandomizer();
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q = new Quaternion(roll, pitch, yaw);
+
+        final var m = q.asInhomogeneousMatrix();
+        final var c = new CoordinateTransformation(m, FrameType.BODY_FRAME, FrameType.LOCAL_NAVIGATION_FRAME);
+
+        // elements are returned in column-major order
+        final var elements1 = new double[CoordinateTransformation.ELEMENTS];
+        c.getElements(elements1);
+        final var elements2 = c.getElements();
+
+        assertArrayEquals(m.getBuffer(), elements1, 0.0);
+        assertArrayEquals(m.getBuffer(), elements2, 0.0);
+        assertEquals(m.getElementAt(1, 0), elements1[1], 0.0);
+        assertEquals(m.getElementAt(0, 1), elements1[3], 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> c.getElements(new double[1]));
+    }
+
     @Test
     void testIsValidMatrixWithThreshold() throws WrongSizeException {
 
@@ -645,6 +694,162 @@ class CoordinateTransformationTest {
         assertTrue(invM.equals(Utils.inverse(m), THRESHOLD));
     }
 
+    @Test
+    void testInverseMatchesTranspose() throws InvalidRotationMatrixException {
+        final var randomizer = new UniformRandomizer();
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q = new Quaternion(roll, pitch, yaw);
+
+        final var m = q.asInhomogeneousMatrix();
+        final var c1 = new CoordinateTransformation(m, FrameType.BODY_FRAME, FrameType.LOCAL_NAVIGATION_FRAME);
+        final var c2 = new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.BODY_FRAME);
+
+        c1.inverse(c2);
+
+        assertEquals(FrameType.LOCAL_NAVIGATION_FRAME, c2.getSourceType());
+        assertEquals(FrameType.BODY_FRAME, c2.getDestinationType());
+        assertEquals(m.transposeAndReturnNew(), c2.getMatrix());
+
+        // inverting twice restores original transformation
+        c2.inverse();
+        assertEquals(c1, c2);
+    }
+
+    @Test
+    void testCompose() throws InvalidRotationMatrixException, WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var roll1 = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch1 = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw1 = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q1 = new Quaternion(roll1, pitch1, yaw1);
+
+        final var roll2 = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch2 = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw2 = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q2 = new Quaternion(roll2, pitch2, yaw2);
+
+        final var m1 = q1.asInhomogeneousMatrix();
+        final var m2 = q2.asInhomogeneousMatrix();
+
+        final var cbn = new CoordinateTransformation(m1, FrameType.BODY_FRAME, FrameType.LOCAL_NAVIGATION_FRAME);
+        final var cne = new CoordinateTransformation(m2, FrameType.LOCAL_NAVIGATION_FRAME,
+                FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+
+        final var cbe1 = new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.BODY_FRAME);
+        cne.compose(cbn, cbe1);
+        final var cbe2 = cne.composeAndReturnNew(cbn);
+
+        // check
+        final var expected = m2.multiplyAndReturnNew(m1);
+        assertEquals(FrameType.BODY_FRAME, cbe1.getSourceType());
+        assertEquals(FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME, cbe1.getDestinationType());
+        assertTrue(expected.equals(cbe1.getMatrix(), 0.0));
+        assertEquals(cbe1, cbe2);
+
+        // result can be any of the composed instances
+        final var cbn2 = new CoordinateTransformation(cbn);
+        final var cne2 = new CoordinateTransformation(cne);
+        cne.compose(cbn2, cbn2);
+        cne2.compose(cbn, cne2);
+        assertEquals(cbe1, cbn2);
+        assertEquals(cbe1, cne2);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> cbn.compose(cne, cbe1));
+    }
+
+    @Test
+    void testRotate() throws InvalidRotationMatrixException, WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q = new Quaternion(roll, pitch, yaw);
+
+        final var m = q.asInhomogeneousMatrix();
+        final var c = new CoordinateTransformation(m, FrameType.BODY_FRAME, FrameType.LOCAL_NAVIGATION_FRAME);
+
+        final var x = randomizer.nextDouble(-1.0, 1.0);
+        final var y = randomizer.nextDouble(-1.0, 1.0);
+        final var z = randomizer.nextDouble(-1.0, 1.0);
+        final var v = Matrix.newFromArray(new double[]{x, y, z});
+
+        final var expected = m.multiplyAndReturnNew(v).getBuffer();
+        final var expectedInverse = m.transposeAndReturnNew().multiplyAndReturnNew(v).getBuffer();
+
+        final var result1 = new double[CoordinateTransformation.COMPONENTS];
+        c.rotate(x, y, z, result1);
+        assertArrayEquals(expected, result1, 0.0);
+
+        final var result2 = new double[]{x, y, z};
+        c.rotate(result2, result2);
+        assertArrayEquals(expected, result2, 0.0);
+
+        final var result3 = new double[CoordinateTransformation.COMPONENTS];
+        c.inverseRotate(x, y, z, result3);
+        assertArrayEquals(expectedInverse, result3, 0.0);
+
+        final var result4 = new double[]{x, y, z};
+        c.inverseRotate(result4, result4);
+        assertArrayEquals(expectedInverse, result4, 0.0);
+
+        // rotating back restores original vector
+        c.inverseRotate(result1, result1);
+        assertArrayEquals(new double[]{x, y, z}, result1, ABSOLUTE_ERROR);
+
+        // Force IllegalArgumentException
+        final var wrong = new double[2];
+        assertThrows(IllegalArgumentException.class, () -> c.rotate(x, y, z, wrong));
+        assertThrows(IllegalArgumentException.class, () -> c.rotate(wrong, result1));
+        assertThrows(IllegalArgumentException.class, () -> c.inverseRotate(x, y, z, wrong));
+        assertThrows(IllegalArgumentException.class, () -> c.inverseRotate(wrong, result1));
+    }
+
+    @Test
+    void testRotateArray() throws InvalidRotationMatrixException {
+        final var randomizer = new UniformRandomizer();
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q = new Quaternion(roll, pitch, yaw);
+
+        final var c = new CoordinateTransformation(q.asInhomogeneousMatrix(), FrameType.BODY_FRAME,
+                FrameType.LOCAL_NAVIGATION_FRAME);
+
+        final var count = 10;
+        final var input = new double[1 + count * CoordinateTransformation.COMPONENTS];
+        for (var i = 0; i < input.length; i++) {
+            input[i] = randomizer.nextDouble(-1.0, 1.0);
+        }
+
+        final var result = new double[2 + count * CoordinateTransformation.COMPONENTS];
+        c.rotate(input, 1, result, 2, count);
+
+        // check that each vector matches single vector rotation
+        final var expected = new double[CoordinateTransformation.COMPONENTS];
+        for (var i = 0; i < count; i++) {
+            final var j = 1 + i * CoordinateTransformation.COMPONENTS;
+            c.rotate(input[j], input[j + 1], input[j + 2], expected);
+            assertArrayEquals(expected, Arrays.copyOfRange(result, j + 1, j + 4), 0.0);
+        }
+        assertEquals(0.0, result[0], 0.0);
+        assertEquals(0.0, result[1], 0.0);
+
+        // vectors can be rotated in place
+        c.rotate(input, 1, input, 1, count);
+        assertArrayEquals(Arrays.copyOfRange(result, 2, result.length),
+                Arrays.copyOfRange(input, 1, input.length), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> c.rotate(input, -1, result, 0, count));
+        assertThrows(IllegalArgumentException.class, () -> c.rotate(input, 0, result, -1, count));
+        assertThrows(IllegalArgumentException.class, () -> c.rotate(input, 0, result, 0, -1));
+        assertThrows(IllegalArgumentException.class, () -> c.rotate(input, 2, result, 0, count));
+        assertThrows(IllegalArgumentException.class, () -> c.rotate(input, 0, result, 3, count));
+    }
+
     @Test
     void testEcefToNedMatrix() throws WrongSizeException {
         final var cosLat = Math.cos(Math.toRadians(LATITUDE_DEGREES));
@@ -1035,6 +1240,10 @@ class CoordinateTransformationTest {
         final var c2 = c1.clone();
 
         assertEquals(c1, c2);
+
+        // cloned instance does not share its matrix
+        ((CoordinateTransformation) c2).inverse();
+        assertNotEquals(c1, c2);
     }
 
     @Test
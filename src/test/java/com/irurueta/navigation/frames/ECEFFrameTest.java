@@ -2003,4 +2003,47 @@ class ECEFFrameTest {
         assertEquals(frame1, frame2);
         assertNotSame(frame1, frame2);
     }
+
+    @Test
+    void testCopyCoordinateTransformationMatrixFrom() throws WrongSizeException,
+            InvalidSourceAndDestinationFrameTypeException, CloneNotSupportedException {
+        final var randomizer = new UniformRandomizer();
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q = new Quaternion(roll, pitch, yaw);
+
+        final var m1 = q.asInhomogeneousMatrix();
+
+        final var frame = new ECEFFrame();
+
+        // copy values
+        frame.copyCoordinateTransformationMatrixFrom(m1);
+
+        // check
+        final var m2 = frame.getCoordinateTransformationMatrix();
+        assertEquals(m1, m2);
+        assertEquals(FrameType.BODY_FRAME, frame.getCoordinateTransformation().getSourceType());
+        assertEquals(FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME, frame.getCoordinateTransformation().getDestinationType());
+
+        // provided matrix is not kept as a reference
+        m1.initialize(0.0);
+        assertEquals(m2, frame.getCoordinateTransformationMatrix());
+
+        // coordinate transformation provided externally is not modified
+        final var c = new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        final var frame2 = new ECEFFrame(c);
+        frame2.copyCoordinateTransformationMatrixFrom(m2);
+        assertEquals(m2, frame2.getCoordinateTransformationMatrix());
+        assertEquals(new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME), c);
+
+        // clones do not share coordinate transformation
+        final var frame3 = (ECEFFrame) frame2.clone();
+        frame3.copyCoordinateTransformationMatrixFrom(Matrix.identity(3, 3));
+        assertEquals(m2, frame2.getCoordinateTransformationMatrix());
+
+        // Force IllegalArgumentException
+        final var wrong = new Matrix(2, 2);
+        assertThrows(IllegalArgumentException.class, () -> frame.copyCoordinateTransformationMatrixFrom(wrong));
+    }
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames;
+
+import com.irurueta.geometry.InvalidRotationMatrixException;
+import com.irurueta.geometry.Quaternion;
+import com.irurueta.navigation.SerializationHelper;
+import com.irurueta.navigation.geodesic.Constants;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ECITrajectoryTest {
+
+    private static final double MIN_ANGLE_DEGREES = -45.0;
+    private static final double MAX_ANGLE_DEGREES = 45.0;
+
+    private static final double MIN_POSITION_VALUE = Constants.EARTH_EQUATORIAL_RADIUS_WGS84 - 50.0;
+    private static final double MAX_POSITION_VALUE = Constants.EARTH_EQUATORIAL_RADIUS_WGS84 + 50.0;
+
+    private static final double MIN_VELOCITY_VALUE = -2.0;
+    private static final double MAX_VELOCITY_VALUE = 2.0;
+
+    private static final int SAMPLES = 100;
+
+    @Test
+    void testConstants() {
+        assertEquals(16, ECITrajectory.DEFAULT_CAPACITY);
+    }
+
+    @Test
+    void testConstructor() {
+        // test empty constructor
+        var trajectory = new ECITrajectory();
+
+        // check default values
+        assertEquals(0, trajectory.size());
+        assertTrue(trajectory.isEmpty());
+        assertEquals(ECITrajectory.DEFAULT_CAPACITY, trajectory.getCapacity());
+        assertEquals(ECITrajectory.DEFAULT_CAPACITY, trajectory.getTimestamps().length);
+        assertEquals(ECITrajectory.DEFAULT_CAPACITY, trajectory.getX().length);
+        assertEquals(ECITrajectory.DEFAULT_CAPACITY, trajectory.getY().length);
+        assertEquals(ECITrajectory.DEFAULT_CAPACITY, trajectory.getZ().length);
+        assertEquals(ECITrajectory.DEFAULT_CAPACITY, trajectory.getVx().length);
+        assertEquals(ECITrajectory.DEFAULT_CAPACITY, trajectory.getVy().length);
+        assertEquals(ECITrajectory.DEFAULT_CAPACITY, trajectory.getVz().length);
+        assertEquals(ECITrajectory.DEFAULT_CAPACITY * CoordinateTransformation.ELEMENTS,
+                trajectory.getAttitudes().length);
+
+        // test constructor with capacity
+        trajectory = new ECITrajectory(0);
+
+        // check default values
+        assertEquals(0, trajectory.size());
+        assertEquals(0, trajectory.getCapacity());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new ECITrajectory(-1));
+    }
+
+    @Test
+    void testAddAndGetFrame() throws InvalidRotationMatrixException, InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+        final var trajectory = new ECITrajectory(0);
+        final var frames = new ECIFrame[SAMPLES];
+        for (var i = 0; i < SAMPLES; i++) {
+            frames[i] = createFrame(randomizer);
+            trajectory.add(0.1 * i, frames[i]);
+        }
+
+        // check
+        assertEquals(SAMPLES, trajectory.size());
+        assertFalse(trajectory.isEmpty());
+        assertTrue(trajectory.getCapacity() >= SAMPLES);
+
+        // a single frame is reused as a view of all samples
+        final var frame = new ECIFrame();
+        final var elements = new double[CoordinateTransformation.ELEMENTS];
+        for (var i = 0; i < SAMPLES; i++) {
+            trajectory.getFrame(i, frame);
+            assertEquals(frames[i], frame);
+            assertEquals(frames[i], trajectory.getFrame(i));
+            assertEquals(0.1 * i, trajectory.getTimestamp(i), 0.0);
+
+            assertEquals(0.1 * i, trajectory.getTimestamps()[i], 0.0);
+            assertEquals(frames[i].getX(), trajectory.getX()[i], 0.0);
+            assertEquals(frames[i].getY(), trajectory.getY()[i], 0.0);
+            assertEquals(frames[i].getZ(), trajectory.getZ()[i], 0.0);
+            assertEquals(frames[i].getVx(), trajectory.getVx()[i], 0.0);
+            assertEquals(frames[i].getVy(), trajectory.getVy()[i], 0.0);
+            assertEquals(frames[i].getVz(), trajectory.getVz()[i], 0.0);
+            frames[i].getCoordinateTransformation().getElements(elements);
+            for (var j = 0; j < CoordinateTransformation.ELEMENTS; j++) {
+                assertEquals(elements[j], trajectory.getAttitudes()[i * CoordinateTransformation.ELEMENTS + j],
+                        0.0);
+            }
+        }
+
+        // samples are copied, hence modifying frames does not modify trajectory
+        frames[0].setX(0.0);
+        assertNotEquals(frames[0], trajectory.getFrame(0));
+
+        // coordinate transformations provided to frames are not modified
+        final var c = new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.EARTH_CENTERED_INERTIAL_FRAME);
+        final var frame2 = new ECIFrame(c);
+        trajectory.getFrame(1, frame2);
+        assertEquals(frames[1], frame2);
+        assertEquals(new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.EARTH_CENTERED_INERTIAL_FRAME), c);
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> trajectory.getFrame(-1, frame));
+        assertThrows(IndexOutOfBoundsException.class, () -> trajectory.getFrame(SAMPLES));
+        assertThrows(IndexOutOfBoundsException.class, () -> trajectory.getTimestamp(SAMPLES));
+    }
+
+    @Test
+    void testAddPositionAndVelocity() {
+        final var randomizer = new UniformRandomizer();
+        final var x = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var y = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var z = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+
+        final var vx = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vy = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vz = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+        final var trajectory = new ECITrajectory();
+        trajectory.add(1.0, x, y, z, vx, vy, vz);
+
+        // check
+        assertEquals(1, trajectory.size());
+        assertEquals(1.0, trajectory.getTimestamp(0), 0.0);
+        assertEquals(new ECIFrame(x, y, z, vx, vy, vz), trajectory.getFrame(0));
+    }
+
+    @Test
+    void testSetFrame() throws InvalidRotationMatrixException, InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+        final var trajectory = new ECITrajectory();
+        trajectory.add(0.0, createFrame(randomizer));
+        trajectory.add(1.0, createFrame(randomizer));
+
+        final var frame = createFrame(randomizer);
+        trajectory.setFrame(0, 2.0, frame);
+
+        // check
+        assertEquals(2, trajectory.size());
+        assertEquals(frame, trajectory.getFrame(0));
+        assertEquals(2.0, trajectory.getTimestamp(0), 0.0);
+        assertEquals(1.0, trajectory.getTimestamp(1), 0.0);
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> trajectory.setFrame(2, 0.0, frame));
+    }
+
+    @Test
+    void testCapacityAndSize() throws InvalidRotationMatrixException, InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+        final var trajectory = new ECITrajectory(1);
+        final var frame = createFrame(randomizer);
+        trajectory.add(1.0, frame);
+
+        // capacity grows keeping existing samples
+        trajectory.ensureCapacity(SAMPLES);
+        assertEquals(SAMPLES, trajectory.getCapacity());
+        assertEquals(1, trajectory.size());
+        assertEquals(frame, trajectory.getFrame(0));
+
+        // capacity is at least doubled
+        trajectory.ensureCapacity(SAMPLES + 1);
+        assertEquals(2 * SAMPLES, trajectory.getCapacity());
+
+        // capacity is never reduced
+        trajectory.ensureCapacity(1);
+        assertEquals(2 * SAMPLES, trajectory.getCapacity());
+
+        // new samples are at the origin with identity attitude
+        trajectory.setSize(3);
+        assertEquals(3, trajectory.size());
+        assertEquals(frame, trajectory.getFrame(0));
+        assertEquals(new ECIFrame(), trajectory.getFrame(1));
+        assertEquals(new ECIFrame(), trajectory.getFrame(2));
+        assertEquals(0.0, trajectory.getTimestamp(2), 0.0);
+
+        // reducing size keeps first samples
+        trajectory.setSize(1);
+        assertEquals(1, trajectory.size());
+        assertEquals(frame, trajectory.getFrame(0));
+
+        trajectory.trimToSize();
+        assertEquals(1, trajectory.getCapacity());
+        assertEquals(frame, trajectory.getFrame(0));
+
+        trajectory.clear();
+        assertEquals(0, trajectory.size());
+        assertTrue(trajectory.isEmpty());
+        assertEquals(1, trajectory.getCapacity());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> trajectory.setSize(-1));
+    }
+
+    @Test
+    void testSerializeDeserialize() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException, IOException, ClassNotFoundException {
+        final var randomizer = new UniformRandomizer();
+        final var trajectory1 = new ECITrajectory();
+        for (var i = 0; i < SAMPLES; i++) {
+            trajectory1.add(i, createFrame(randomizer));
+        }
+
+        // serialize and deserialize
+        final var bytes = SerializationHelper.serialize(trajectory1);
+        final var trajectory2 = SerializationHelper.<ECITrajectory>deserialize(bytes);
+
+        // check
+        assertNotSame(trajectory1, trajectory2);
+        assertEquals(trajectory1.size(), trajectory2.size());
+        for (var i = 0; i < SAMPLES; i++) {
+            assertEquals(trajectory1.getTimestamp(i), trajectory2.getTimestamp(i), 0.0);
+            assertEquals(trajectory1.getFrame(i), trajectory2.getFrame(i));
+        }
+    }
+
+    private static ECIFrame createFrame(final UniformRandomizer randomizer) throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var x = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var y = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var z = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+
+        final var vx = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vy = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vz = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q = new Quaternion(roll, pitch, yaw);
+
+        final var c = new CoordinateTransformation(q.asInhomogeneousMatrix(), FrameType.BODY_FRAME,
+                FrameType.EARTH_CENTERED_INERTIAL_FRAME);
+        return new ECIFrame(x, y, z, vx, vy, vz, c);
+    }
+}
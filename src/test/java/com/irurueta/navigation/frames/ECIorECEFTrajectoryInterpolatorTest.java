@@ -0,0 +1,291 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.geometry.InvalidRotationMatrixException;
+import com.irurueta.geometry.Quaternion;
+import com.irurueta.navigation.geodesic.Constants;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ECIorECEFTrajectoryInterpolatorTest {
+
+    private static final double MIN_ANGLE_DEGREES = -180.0;
+    private static final double MAX_ANGLE_DEGREES = 180.0;
+
+    private static final double MIN_POSITION_VALUE = Constants.EARTH_EQUATORIAL_RADIUS_WGS84 - 50.0;
+    private static final double MAX_POSITION_VALUE = Constants.EARTH_EQUATORIAL_RADIUS_WGS84 + 50.0;
+
+    private static final double MIN_VELOCITY_VALUE = -2.0;
+    private static final double MAX_VELOCITY_VALUE = 2.0;
+
+    private static final double MIN_ANGULAR_RATE = -1.0;
+    private static final double MAX_ANGULAR_RATE = 1.0;
+
+    private static final double POSITION_ERROR = 1e-8;
+    private static final double VELOCITY_ERROR = 1e-8;
+    private static final double ATTITUDE_ERROR = 1e-12;
+
+    private static final int SAMPLES = 100;
+
+    private static final int QUERIES = 10000;
+
+    @Test
+    void testConstructor() {
+        final var trajectory = new ECEFTrajectory();
+        final var interpolator = new ECIorECEFTrajectoryInterpolator<>(trajectory);
+
+        // check
+        assertSame(trajectory, interpolator.getTrajectory());
+    }
+
+    @Test
+    void testFloorIndex() {
+        final var randomizer = new UniformRandomizer();
+        final var trajectory = new ECEFTrajectory();
+        final var interpolator = new ECIorECEFTrajectoryInterpolator<>(trajectory);
+        assertEquals(-1, interpolator.floorIndex(0.0));
+
+        var timestamp = 0.0;
+        for (var i = 0; i < SAMPLES; i++) {
+            // some timestamps are repeated
+            if (i % 10 != 0) {
+                timestamp += randomizer.nextDouble(0.5, 1.5);
+            }
+            trajectory.add(timestamp, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
+        }
+        interpolator.reset();
+
+        final var timestamps = trajectory.getTimestamps();
+        final var last = timestamps[SAMPLES - 1];
+
+        // increasing, decreasing and random queries
+        for (var i = 0; i < QUERIES; i++) {
+            final var t = -1.0 + (last + 2.0) * i / QUERIES;
+            assertEquals(linearFloorIndex(timestamps, t), interpolator.floorIndex(t));
+        }
+        for (var i = QUERIES; i >= 0; i--) {
+            final var t = -1.0 + (last + 2.0) * i / QUERIES;
+            assertEquals(linearFloorIndex(timestamps, t), interpolator.floorIndex(t));
+        }
+        for (var i = 0; i < QUERIES; i++) {
+            final var t = randomizer.nextDouble(-1.0, last + 1.0);
+            assertEquals(linearFloorIndex(timestamps, t), interpolator.floorIndex(t));
+        }
+
+        // exact timestamps return last repeated sample
+        for (var i = 0; i < SAMPLES; i++) {
+            assertEquals(linearFloorIndex(timestamps, timestamps[i]), interpolator.floorIndex(timestamps[i]));
+        }
+
+        assertEquals(-1, interpolator.floorIndex(Double.NaN));
+    }
+
+    @Test
+    void testInterpolateAtSamples() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+        final var trajectory = new ECEFTrajectory();
+        for (var i = 0; i < SAMPLES; i++) {
+            trajectory.add(i, createFrame(randomizer));
+        }
+
+        final var interpolator = new ECIorECEFTrajectoryInterpolator<>(trajectory);
+        final var result = new ECEFFrame();
+        for (var i = 0; i < SAMPLES; i++) {
+            final var expected = trajectory.getFrame(i);
+            interpolator.interpolate(i, result);
+
+            assertEquals(expected.getX(), result.getX(), 0.0);
+            assertEquals(expected.getY(), result.getY(), 0.0);
+            assertEquals(expected.getZ(), result.getZ(), 0.0);
+            assertEquals(expected.getVx(), result.getVx(), 0.0);
+            assertEquals(expected.getVy(), result.getVy(), 0.0);
+            assertEquals(expected.getVz(), result.getVz(), 0.0);
+            assertTrue(expected.equals(result, ATTITUDE_ERROR));
+            assertTrue(expected.equals(interpolator.interpolateAndReturnNew(i), ATTITUDE_ERROR));
+        }
+
+        // coordinate transformations provided to result frames are not modified
+        final var c = new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        final var result2 = new ECEFFrame(c);
+        interpolator.interpolate(1.0, result2);
+        assertTrue(trajectory.getFrame(1).equals(result2, ATTITUDE_ERROR));
+        assertEquals(new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME), c);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> interpolator.interpolate(-0.5, result));
+        assertThrows(IllegalArgumentException.class, () -> interpolator.interpolate(SAMPLES - 0.5, result));
+        assertThrows(IllegalArgumentException.class, () -> interpolator.interpolate(Double.NaN, result));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ECIorECEFTrajectoryInterpolator<>(new ECEFTrajectory()).interpolate(0.0, result));
+    }
+
+    @Test
+    void testInterpolateCubicMotionAndUniformRotation() throws InvalidRotationMatrixException, AlgebraException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+
+        // position is a cubic polynomial of time, which is exactly reproduced by Hermite interpolation
+        final var p = new double[3][4];
+        for (var k = 0; k < 3; k++) {
+            p[k][0] = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+            p[k][1] = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            p[k][2] = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            p[k][3] = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        }
+
+        // attitude rotates at constant rate around a fixed axis, which is exactly reproduced by SLERP
+        final var initial = createAttitude(randomizer);
+        final var rate = randomizer.nextDouble(MIN_ANGULAR_RATE, MAX_ANGULAR_RATE);
+
+        final var trajectory = new ECITrajectory();
+        final var frame = new ECIFrame();
+        var t = 0.0;
+        for (var i = 0; i < SAMPLES; i++) {
+            setFrame(p, initial, rate, t, frame);
+            trajectory.add(t, frame);
+            t += randomizer.nextDouble(0.5, 1.5);
+        }
+
+        final var interpolator = new ECIorECEFTrajectoryInterpolator<>(trajectory);
+        final var last = trajectory.getTimestamp(SAMPLES - 1);
+        final var expected = new ECIFrame();
+        final var result = new ECIFrame();
+        for (var i = 0; i <= QUERIES; i++) {
+            final var timestamp = last * i / QUERIES;
+            setFrame(p, initial, rate, timestamp, expected);
+            interpolator.interpolate(timestamp, result);
+
+            assertEquals(expected.getX(), result.getX(), POSITION_ERROR);
+            assertEquals(expected.getY(), result.getY(), POSITION_ERROR);
+            assertEquals(expected.getZ(), result.getZ(), POSITION_ERROR);
+            assertEquals(expected.getVx(), result.getVx(), VELOCITY_ERROR);
+            assertEquals(expected.getVy(), result.getVy(), VELOCITY_ERROR);
+            assertEquals(expected.getVz(), result.getVz(), VELOCITY_ERROR);
+            assertTrue(expected.getCoordinateTransformation().equals(result.getCoordinateTransformation(),
+                    ATTITUDE_ERROR));
+        }
+    }
+
+    @Test
+    void testInterpolateRepeatedAttitude() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+        final var frame = createFrame(randomizer);
+        final var trajectory = new ECEFTrajectory();
+        trajectory.add(0.0, frame);
+        trajectory.add(1.0, frame);
+
+        final var interpolator = new ECIorECEFTrajectoryInterpolator<>(trajectory);
+        final var result = interpolator.interpolateAndReturnNew(0.5);
+
+        // check
+        assertTrue(frame.getCoordinateTransformation().equals(result.getCoordinateTransformation(),
+                ATTITUDE_ERROR));
+    }
+
+    @Test
+    void testInterpolateMany() throws InvalidRotationMatrixException, InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+        final var trajectory = new ECEFTrajectory();
+        for (var i = 0; i < SAMPLES; i++) {
+            trajectory.add(i, createFrame(randomizer));
+        }
+
+        final var timestamps = new double[QUERIES];
+        for (var i = 0; i < QUERIES; i++) {
+            timestamps[i] = randomizer.nextDouble(0.0, SAMPLES - 1.0);
+        }
+
+        final var interpolator = new ECIorECEFTrajectoryInterpolator<>(trajectory);
+        final var result = new ECEFTrajectory(0);
+        interpolator.interpolate(timestamps, result);
+        interpolator.interpolate(timestamps, 1, 2, result);
+
+        // check
+        assertEquals(QUERIES + 2, result.size());
+        final var other = new ECIorECEFTrajectoryInterpolator<>(trajectory);
+        for (var i = 0; i < QUERIES; i++) {
+            assertEquals(timestamps[i], result.getTimestamp(i), 0.0);
+            assertEquals(other.interpolateAndReturnNew(timestamps[i]), result.getFrame(i));
+        }
+        assertEquals(result.getFrame(1), result.getFrame(QUERIES));
+        assertEquals(result.getFrame(2), result.getFrame(QUERIES + 1));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> interpolator.interpolate(timestamps, trajectory));
+        assertThrows(IllegalArgumentException.class,
+                () -> interpolator.interpolate(new double[]{SAMPLES}, result));
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> interpolator.interpolate(timestamps, -1, 1, result));
+        assertThrows(IndexOutOfBoundsException.class, () -> interpolator.interpolate(timestamps, 0, -1, result));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> interpolator.interpolate(timestamps, 1, QUERIES, result));
+    }
+
+    private static int linearFloorIndex(final double[] timestamps, final double timestamp) {
+        var result = -1;
+        for (var i = 0; i < SAMPLES; i++) {
+            if (timestamps[i] <= timestamp) {
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    private static void setFrame(final double[][] p, final Matrix initial, final double rate, final double t,
+                                 final ECIFrame result) throws AlgebraException, InvalidRotationMatrixException {
+        final var position = new double[3];
+        final var velocity = new double[3];
+        for (var k = 0; k < 3; k++) {
+            position[k] = p[k][0] + t * (p[k][1] + t * (p[k][2] + t * p[k][3]));
+            velocity[k] = p[k][1] + t * (2.0 * p[k][2] + t * 3.0 * p[k][3]);
+        }
+        result.setCoordinates(position[0], position[1], position[2]);
+        result.setVelocityCoordinates(velocity[0], velocity[1], velocity[2]);
+
+        final var rotation = new Quaternion(0.0, 0.0, rate * t).asInhomogeneousMatrix();
+        result.setCoordinateTransformationMatrix(rotation.multiplyAndReturnNew(initial));
+    }
+
+    private static Matrix createAttitude(final UniformRandomizer randomizer) throws InvalidRotationMatrixException {
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        return new Quaternion(roll, pitch, yaw).asInhomogeneousMatrix();
+    }
+
+    private static ECEFFrame createFrame(final UniformRandomizer randomizer) throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var x = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var y = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var z = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+
+        final var vx = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vy = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vz = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+        final var c = new CoordinateTransformation(createAttitude(randomizer), FrameType.BODY_FRAME,
+                FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        return new ECEFFrame(x, y, z, vx, vy, vz, c);
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames;
+
+import com.irurueta.geometry.InvalidRotationMatrixException;
+import com.irurueta.geometry.Quaternion;
+import com.irurueta.navigation.geodesic.Constants;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrajectoryFileTest {
+
+    private static final double MIN_ANGLE_DEGREES = -180.0;
+    private static final double MAX_ANGLE_DEGREES = 180.0;
+
+    private static final double MIN_POSITION_VALUE = Constants.EARTH_EQUATORIAL_RADIUS_WGS84 - 50.0;
+    private static final double MAX_POSITION_VALUE = Constants.EARTH_EQUATORIAL_RADIUS_WGS84 + 50.0;
+
+    private static final double MIN_LATITUDE_DEGREES = -90.0;
+    private static final double MAX_LATITUDE_DEGREES = 90.0;
+
+    private static final double MIN_HEIGHT = -50.0;
+    private static final double MAX_HEIGHT = 50.0;
+
+    private static final double MIN_VELOCITY_VALUE = -2.0;
+    private static final double MAX_VELOCITY_VALUE = 2.0;
+
+    private static final double ATTITUDE_ERROR = 1e-14;
+
+    private static final int SAMPLES = 1000;
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void testConstants() {
+        assertEquals(0x4E415654, TrajectoryFile.MAGIC);
+        assertEquals(1, TrajectoryFile.VERSION);
+        assertEquals(16, TrajectoryFile.HEADER_SIZE);
+        assertEquals(96, TrajectoryFile.RECORD_SIZE);
+        assertEquals(256, TrajectoryFile.WRITE_BUFFER_RECORDS);
+    }
+
+    @Test
+    void testAppendAndGetFrame() throws IOException, InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+        final var path = folder.resolve("trajectory.bin");
+        final var ecefFrames = new ECEFFrame[SAMPLES];
+        final var eciFrames = new ECIFrame[SAMPLES];
+        final var nedFrames = new NEDFrame[SAMPLES];
+
+        try (final var file = TrajectoryFile.create(path)) {
+            assertEquals(0, file.size());
+            assertFalse(file.isReadOnly());
+
+            for (var i = 0; i < SAMPLES; i++) {
+                ecefFrames[i] = createECEFFrame(randomizer);
+                eciFrames[i] = createECIFrame(randomizer);
+                nedFrames[i] = createNEDFrame(randomizer);
+                file.append(3.0 * i, ecefFrames[i]);
+                file.append(3.0 * i + 1.0, eciFrames[i]);
+                file.append(3.0 * i + 2.0, nedFrames[i]);
+            }
+
+            // buffered samples can be read before being written into file
+            assertEquals(3 * SAMPLES, file.size());
+            checkFrames(file, ecefFrames, eciFrames, nedFrames);
+
+            // reading buffered samples does not write them into file
+            final var written = 3 * SAMPLES / TrajectoryFile.WRITE_BUFFER_RECORDS
+                    * TrajectoryFile.WRITE_BUFFER_RECORDS;
+            assertEquals(TrajectoryFile.HEADER_SIZE + (long) written * TrajectoryFile.RECORD_SIZE,
+                    Files.size(path));
+        }
+
+        // check file size and contents once reopened
+        assertEquals(TrajectoryFile.HEADER_SIZE + 3L * SAMPLES * TrajectoryFile.RECORD_SIZE, Files.size(path));
+        try (final var file = TrajectoryFile.open(path, true)) {
+            assertTrue(file.isReadOnly());
+            assertEquals(3 * SAMPLES, file.size());
+            checkFrames(file, ecefFrames, eciFrames, nedFrames);
+
+            // Force IndexOutOfBoundsException
+            final var frame = new ECEFFrame();
+            assertThrows(IndexOutOfBoundsException.class, () -> file.getFrame(-1, frame));
+            assertThrows(IndexOutOfBoundsException.class, () -> file.getFrame(3 * SAMPLES, frame));
+            assertThrows(IndexOutOfBoundsException.class, () -> file.getTimestamp(3 * SAMPLES));
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> file.getFrame(1, frame));
+            assertThrows(IllegalArgumentException.class, () -> file.getFrame(0, new ECIFrame()));
+            assertThrows(IllegalArgumentException.class, () -> file.getFrame(0, new NEDFrame()));
+
+            // Force NonWritableChannelException
+            assertThrows(NonWritableChannelException.class, () -> file.append(1e6, frame));
+        }
+    }
+
+    @Test
+    void testAppendAfterReopen() throws IOException, InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+        final var path = folder.resolve("trajectory.bin");
+        final var frames = new ECEFFrame[2 * SAMPLES];
+
+        try (final var file = TrajectoryFile.create(path)) {
+            for (var i = 0; i < SAMPLES; i++) {
+                frames[i] = createECEFFrame(randomizer);
+                file.append(i, frames[i]);
+            }
+        }
+
+        // simulate an interrupted recording leaving an incomplete record
+        Files.write(path, new byte[TrajectoryFile.RECORD_SIZE / 2], StandardOpenOption.APPEND);
+
+        try (final var file = TrajectoryFile.open(path)) {
+            assertEquals(SAMPLES, file.size());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> file.append(0.0, frames[0]));
+            assertThrows(IllegalArgumentException.class, () -> file.append(Double.NaN, frames[0]));
+
+            // reading and appending can be interleaved
+            final var frame = new ECEFFrame();
+            for (var i = SAMPLES; i < 2 * SAMPLES; i++) {
+                frames[i] = createECEFFrame(randomizer);
+                file.append(i, frames[i]);
+                file.getFrame(i, frame);
+                assertTrue(frames[i].equals(frame, ATTITUDE_ERROR));
+                file.getFrame(i - SAMPLES, frame);
+                assertTrue(frames[i - SAMPLES].equals(frame, ATTITUDE_ERROR));
+            }
+        }
+
+        // incomplete record was overwritten
+        assertEquals(TrajectoryFile.HEADER_SIZE + 2L * SAMPLES * TrajectoryFile.RECORD_SIZE, Files.size(path));
+        try (final var file = TrajectoryFile.open(path)) {
+            assertEquals(2 * SAMPLES, file.size());
+            for (var i = 0; i < 2 * SAMPLES; i++) {
+                assertEquals(i, file.getTimestamp(i), 0.0);
+                assertTrue(frames[i].equals((ECEFFrame) file.getFrame(i), ATTITUDE_ERROR));
+            }
+        }
+    }
+
+    @Test
+    void testFloorIndex() throws IOException {
+        final var path = folder.resolve("trajectory.bin");
+        try (final var file = TrajectoryFile.create(path)) {
+            assertEquals(-1, file.floorIndex(0.0));
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> file.append(Double.NaN, new ECEFFrame()));
+            assertEquals(0, file.size());
+
+            final var frame = new ECEFFrame();
+            for (var i = 0; i < SAMPLES; i++) {
+                // every timestamp is repeated twice
+                file.append(i / 2, frame);
+            }
+
+            assertEquals(-1, file.floorIndex(-0.5));
+            assertEquals(1, file.floorIndex(0.0));
+            assertEquals(1, file.floorIndex(0.5));
+            for (var i = 0; i < SAMPLES / 2; i++) {
+                assertEquals(2 * i + 1, file.floorIndex(i));
+                assertEquals(2 * i + 1, file.floorIndex(i + 0.5));
+            }
+            assertEquals(SAMPLES - 1, file.floorIndex(Double.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void testAppendAndReadTrajectories() throws IOException, InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+        final var ecefTrajectory = new ECEFTrajectory();
+        final var eciTrajectory = new ECITrajectory();
+        final var nedTrajectory = new NEDTrajectory();
+        for (var i = 0; i < SAMPLES; i++) {
+            ecefTrajectory.add(i, createECEFFrame(randomizer));
+            eciTrajectory.add(SAMPLES + i, createECIFrame(randomizer));
+            nedTrajectory.add(2 * SAMPLES + i, createNEDFrame(randomizer));
+        }
+
+        final var path = folder.resolve("trajectory.bin");
+        try (final var file = TrajectoryFile.create(path)) {
+            file.append(ecefTrajectory);
+            file.append(eciTrajectory);
+            file.append(nedTrajectory);
+            assertEquals(3 * SAMPLES, file.size());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> file.append(ecefTrajectory));
+        }
+
+        try (final var file = TrajectoryFile.open(path, true)) {
+            final var ecefResult = new ECEFTrajectory(0);
+            final var eciResult = new ECITrajectory(0);
+            final var nedResult = new NEDTrajectory(0);
+            file.read(0, SAMPLES, ecefResult);
+            file.read(SAMPLES, SAMPLES, eciResult);
+            file.read(2 * SAMPLES, SAMPLES / 2, nedResult);
+            file.read(2 * SAMPLES + SAMPLES / 2, SAMPLES / 2, nedResult);
+
+            assertEquals(SAMPLES, ecefResult.size());
+            assertEquals(SAMPLES, eciResult.size());
+            assertEquals(SAMPLES, nedResult.size());
+            for (var i = 0; i < SAMPLES; i++) {
+                assertEquals(ecefTrajectory.getTimestamp(i), ecefResult.getTimestamp(i), 0.0);
+                assertEquals(eciTrajectory.getTimestamp(i), eciResult.getTimestamp(i), 0.0);
+                assertEquals(nedTrajectory.getTimestamp(i), nedResult.getTimestamp(i), 0.0);
+                assertTrue(ecefTrajectory.getFrame(i).equals(ecefResult.getFrame(i), ATTITUDE_ERROR));
+                assertTrue(eciTrajectory.getFrame(i).equals(eciResult.getFrame(i), ATTITUDE_ERROR));
+                assertTrue(nedTrajectory.getFrame(i).equals(nedResult.getFrame(i), ATTITUDE_ERROR));
+            }
+
+            // Force IndexOutOfBoundsException
+            assertThrows(IndexOutOfBoundsException.class, () -> file.read(-1, 1, ecefResult));
+            assertThrows(IndexOutOfBoundsException.class, () -> file.read(0, -1, ecefResult));
+            assertThrows(IndexOutOfBoundsException.class, () -> file.read(0, 3 * SAMPLES + 1, ecefResult));
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class, () -> file.read(0, SAMPLES + 1, ecefResult));
+            assertThrows(IllegalArgumentException.class, () -> file.read(0, 1, eciResult));
+            assertThrows(IllegalArgumentException.class, () -> file.read(0, 1, nedResult));
+        }
+    }
+
+    @Test
+    void testOpenInvalidFile() throws IOException {
+        final var empty = folder.resolve("empty.bin");
+        Files.write(empty, new byte[0]);
+        assertThrows(IOException.class, () -> TrajectoryFile.open(empty));
+
+        final var invalid = folder.resolve("invalid.bin");
+        Files.write(invalid, new byte[TrajectoryFile.HEADER_SIZE + TrajectoryFile.RECORD_SIZE]);
+        assertThrows(IOException.class, () -> TrajectoryFile.open(invalid, true));
+    }
+
+    private static void checkFrames(final TrajectoryFile file, final ECEFFrame[] ecefFrames,
+                                    final ECIFrame[] eciFrames, final NEDFrame[] nedFrames) throws IOException {
+        final var ecefFrame = new ECEFFrame();
+        final var eciFrame = new ECIFrame();
+        final var nedFrame = new NEDFrame();
+        for (var i = 0; i < SAMPLES; i++) {
+            assertEquals(FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME, file.getFrameType(3 * i));
+            assertEquals(FrameType.EARTH_CENTERED_INERTIAL_FRAME, file.getFrameType(3 * i + 1));
+            assertEquals(FrameType.LOCAL_NAVIGATION_FRAME, file.getFrameType(3 * i + 2));
+            assertEquals(3.0 * i, file.getTimestamp(3 * i), 0.0);
+            assertEquals(3.0 * i + 1.0, file.getTimestamp(3 * i + 1), 0.0);
+            assertEquals(3.0 * i + 2.0, file.getTimestamp(3 * i + 2), 0.0);
+
+            file.getFrame(3 * i, ecefFrame);
+            file.getFrame(3 * i + 1, eciFrame);
+            file.getFrame(3 * i + 2, nedFrame);
+
+            // positions and velocities are restored exactly
+            assertEquals(ecefFrames[i].getX(), ecefFrame.getX(), 0.0);
+            assertEquals(ecefFrames[i].getY(), ecefFrame.getY(), 0.0);
+            assertEquals(ecefFrames[i].getZ(), ecefFrame.getZ(), 0.0);
+            assertEquals(ecefFrames[i].getVx(), ecefFrame.getVx(), 0.0);
+            assertEquals(ecefFrames[i].getVy(), ecefFrame.getVy(), 0.0);
+            assertEquals(ecefFrames[i].getVz(), ecefFrame.getVz(), 0.0);
+            assertEquals(nedFrames[i].getLatitude(), nedFrame.getLatitude(), 0.0);
+            assertEquals(nedFrames[i].getLongitude(), nedFrame.getLongitude(), 0.0);
+            assertEquals(nedFrames[i].getHeight(), nedFrame.getHeight(), 0.0);
+            assertEquals(nedFrames[i].getVn(), nedFrame.getVn(), 0.0);
+            assertEquals(nedFrames[i].getVe(), nedFrame.getVe(), 0.0);
+            assertEquals(nedFrames[i].getVd(), nedFrame.getVd(), 0.0);
+
+            // attitudes are restored up to rounding errors
+            assertTrue(ecefFrames[i].equals(ecefFrame, ATTITUDE_ERROR));
+            assertTrue(eciFrames[i].equals(eciFrame, ATTITUDE_ERROR));
+            assertTrue(nedFrames[i].equals(nedFrame, ATTITUDE_ERROR));
+
+            assertTrue(ecefFrames[i].equals((ECEFFrame) file.getFrame(3 * i), ATTITUDE_ERROR));
+            assertTrue(eciFrames[i].equals((ECIFrame) file.getFrame(3 * i + 1), ATTITUDE_ERROR));
+            assertTrue(nedFrames[i].equals((NEDFrame) file.getFrame(3 * i + 2), ATTITUDE_ERROR));
+        }
+    }
+
+    private static CoordinateTransformation createAttitude(final UniformRandomizer randomizer,
+                                                           final FrameType destinationType)
+            throws InvalidRotationMatrixException {
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q = new Quaternion(roll, pitch, yaw);
+
+        return new CoordinateTransformation(q.asInhomogeneousMatrix(), FrameType.BODY_FRAME, destinationType);
+    }
+
+    private static ECEFFrame createECEFFrame(final UniformRandomizer randomizer) throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var x = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var y = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var z = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+
+        final var vx = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vy = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vz = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+        return new ECEFFrame(x, y, z, vx, vy, vz,
+                createAttitude(randomizer, FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME));
+    }
+
+    private static ECIFrame createECIFrame(final UniformRandomizer randomizer) throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var x = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var y = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var z = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+
+        final var vx = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vy = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vz = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+        return new ECIFrame(x, y, z, vx, vy, vz,
+                createAttitude(randomizer, FrameType.EARTH_CENTERED_INERTIAL_FRAME));
+    }
+
+    private static NEDFrame createNEDFrame(final UniformRandomizer randomizer) throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var latitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+        final var longitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var height = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+
+        final var vn = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var ve = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vd = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+        return new NEDFrame(latitude, longitude, height, vn, ve, vd,
+                createAttitude(randomizer, FrameType.LOCAL_NAVIGATION_FRAME));
+    }
+}
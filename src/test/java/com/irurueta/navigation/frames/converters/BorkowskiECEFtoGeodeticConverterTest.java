@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames.converters;
+
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BorkowskiECEFtoGeodeticConverterTest {
+
+    private static final double MIN_LATITUDE_DEGREES = -90.0;
+    private static final double MAX_LATITUDE_DEGREES = 90.0;
+
+    private static final double MIN_LONGITUDE_DEGREES = -180.0;
+    private static final double MAX_LONGITUDE_DEGREES = 180.0;
+
+    private static final double MIN_HEIGHT = -10000.0;
+    private static final double MAX_HEIGHT = 10000.0;
+
+    private static final double ABSOLUTE_ERROR = 1e-8;
+
+    private static final int TIMES = 100;
+
+    @Test
+    void testGetMethod() {
+        final var converter = new BorkowskiECEFtoGeodeticConverter();
+        assertEquals(GeodeticConversionMethod.BORKOWSKI, converter.getMethod());
+    }
+
+    @Test
+    void testConvert() {
+        final var randomizer = new UniformRandomizer();
+        final var converter = new BorkowskiECEFtoGeodeticConverter();
+        final var ecefPosition = new ECEFPosition();
+        final var ecefVelocity = new ECEFVelocity();
+        final var latitudes = new double[1];
+        final var longitudes = new double[1];
+        final var heights = new double[1];
+        final var result = new NEDPosition();
+        for (var t = 0; t < TIMES; t++) {
+            final var latitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+            final var longitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                    MAX_LONGITUDE_DEGREES));
+            final var height = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+            NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(new NEDPosition(latitude, longitude, height),
+                    new NEDVelocity(), ecefPosition, ecefVelocity);
+
+            converter.convert(ecefPosition.getX(), ecefPosition.getY(), ecefPosition.getZ(), result);
+
+            // results are exactly the same as the ones of bulk position and velocity conversion
+            ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(new double[]{ecefPosition.getX()},
+                    new double[]{ecefPosition.getY()}, new double[]{ecefPosition.getZ()}, 0, 1,
+                    latitudes, longitudes, heights);
+            assertEquals(latitudes[0], result.getLatitude(), 0.0);
+            assertEquals(longitudes[0], result.getLongitude(), 0.0);
+            assertEquals(heights[0], result.getHeight(), 0.0);
+
+            assertEquals(height, result.getHeight(), ABSOLUTE_ERROR);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames.converters;
+
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BowringECEFtoGeodeticConverterTest {
+
+    private static final double[] NEAR_SURFACE_HEIGHTS = {-10000.0, -100.0, 0.0, 100.0, 10000.0};
+
+    private static final double[] HEIGHTS = {-10000.0, -100.0, 0.0, 100.0, 10000.0, 1e5, 1e6, 2.02e7, 3.6e7};
+
+    private static final double LONGITUDE = Math.toRadians(2.2);
+
+    private static final double SINGLE_ITERATION_ABSOLUTE_ERROR = 1e-5;
+
+    private static final double ABSOLUTE_ERROR = 1e-7;
+
+    private static final int LATITUDE_STEPS = 1800;
+
+    @Test
+    void testConstants() {
+        assertEquals(2, BowringECEFtoGeodeticConverter.DEFAULT_ITERATIONS);
+    }
+
+    @Test
+    void testConstructor() {
+        var converter = new BowringECEFtoGeodeticConverter();
+
+        // check default values
+        assertEquals(GeodeticConversionMethod.BOWRING, converter.getMethod());
+        assertEquals(BowringECEFtoGeodeticConverter.DEFAULT_ITERATIONS, converter.getIterations());
+
+        // constructor with iterations
+        converter = new BowringECEFtoGeodeticConverter(1);
+
+        // check
+        assertEquals(GeodeticConversionMethod.BOWRING, converter.getMethod());
+        assertEquals(1, converter.getIterations());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new BowringECEFtoGeodeticConverter(0));
+    }
+
+    @Test
+    void testConvertSingleIteration() {
+        assertAccuracy(new BowringECEFtoGeodeticConverter(1), NEAR_SURFACE_HEIGHTS, SINGLE_ITERATION_ABSOLUTE_ERROR);
+    }
+
+    @Test
+    void testConvert() {
+        assertAccuracy(new BowringECEFtoGeodeticConverter(), HEIGHTS, ABSOLUTE_ERROR);
+    }
+
+    private static void assertAccuracy(final BowringECEFtoGeodeticConverter converter, final double[] heights,
+                                       final double absoluteError) {
+        final var ecefPosition = new ECEFPosition();
+        final var ecefVelocity = new ECEFVelocity();
+        final var result = new NEDPosition();
+        for (final var height : heights) {
+            for (var i = 0; i <= LATITUDE_STEPS; i++) {
+                final var latitude = Math.toRadians(-90.0 + 180.0 * i / LATITUDE_STEPS);
+                NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(new NEDPosition(latitude, LONGITUDE, height),
+                        new NEDVelocity(), ecefPosition, ecefVelocity);
+
+                converter.convert(ecefPosition.getX(), ecefPosition.getY(), ecefPosition.getZ(), result);
+
+                // latitude error is checked as a distance along the meridian
+                final var radius = ECEFtoGeodeticConverter.EARTH_EQUATORIAL_RADIUS_WGS84 + height;
+                assertEquals(latitude * radius, result.getLatitude() * radius, absoluteError);
+                assertEquals(height, result.getHeight(), absoluteError);
+            }
+        }
+    }
+}
@@ -20,7 +20,9 @@ import com.irurueta.geometry.Quaternion;
 import com.irurueta.geometry.RotationException;
 import com.irurueta.navigation.frames.CoordinateTransformation;
 import com.irurueta.navigation.frames.ECEFFrame;
+import com.irurueta.navigation.frames.ECEFTrajectory;
 import com.irurueta.navigation.frames.ECIFrame;
+import com.irurueta.navigation.frames.ECITrajectory;
 import com.irurueta.navigation.frames.FrameType;
 import com.irurueta.navigation.frames.InvalidSourceAndDestinationFrameTypeException;
 import com.irurueta.navigation.geodesic.Constants;
@@ -29,6 +31,8 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeUnit;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ECEFtoECIFrameConverterTest {
@@ -51,6 +55,10 @@ class ECEFtoECIFrameConverterTest {
 
     private static final int TIMES = 100;
 
+    private static final double RECURRENCE_POSITION_ERROR = 1e-7;
+    private static final double RECURRENCE_VELOCITY_ERROR = 1e-11;
+    private static final double RECURRENCE_ATTITUDE_ERROR = 1e-14;
+
     @Test
     void testConstants() {
         assertEquals(ECEFtoECIFrameConverter.EARTH_ROTATION_RATE, Constants.EARTH_ROTATION_RATE, 0.0);
@@ -602,4 +610,311 @@ class ECEFtoECIFrameConverterTest {
 
         assertEquals(TIMES, numValid);
     }
+
+    @Test
+    void testConvertMatchesStaticConversion() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        // a single converter and destination are reused for all conversions
+        final var converter = new ECEFtoECIFrameConverter();
+        final var destination = new ECIFrame();
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var x = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+            final var y = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+            final var z = randomizer.nextDouble(MIN_Z_VALUE, MAX_Z_VALUE);
+
+            final var vx = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var vy = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var vz = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+            final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var q = new Quaternion(roll, pitch, yaw);
+
+            final var m = q.asInhomogeneousMatrix();
+            final var c = new CoordinateTransformation(m, FrameType.BODY_FRAME,
+                    FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+
+            final var source = new ECEFFrame(x, y, z, vx, vy, vz, c);
+            final var timeInterval = randomizer.nextDouble(0.0, 3600.0);
+
+            converter.convert(timeInterval, source, destination);
+
+            // check that results are equal to static conversion
+            final var expected = ECEFtoECIFrameConverter.convertECEFtoECIAndReturnNew(timeInterval, source);
+            assertEquals(expected, destination);
+
+            // time interval can also be provided as a time instance
+            converter.convert(new Time(timeInterval, TimeUnit.SECOND), source, destination);
+            assertEquals(expected, destination);
+        }
+    }
+
+    @Test
+    void testConvertDoesNotModifyProvidedCoordinateTransformations() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+
+        final var x = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var y = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var z = randomizer.nextDouble(MIN_Z_VALUE, MAX_Z_VALUE);
+
+        final var vx = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vy = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vz = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q = new Quaternion(roll, pitch, yaw);
+
+        final var m = q.asInhomogeneousMatrix();
+        final var sourceC = new CoordinateTransformation(m, FrameType.BODY_FRAME,
+                FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        final var source = new ECEFFrame(x, y, z, vx, vy, vz, sourceC);
+        final var timeInterval = randomizer.nextDouble(0.0, 3600.0);
+
+        // destination keeps a reference to a coordinate transformation owned by the caller
+        final var destinationC = new CoordinateTransformation(FrameType.BODY_FRAME,
+                FrameType.EARTH_CENTERED_INERTIAL_FRAME);
+        final var destination = new ECIFrame(destinationC);
+
+        final var converter = new ECEFtoECIFrameConverter();
+        converter.convert(timeInterval, source, destination);
+
+        // provided coordinate transformations are not modified
+        assertEquals(new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.EARTH_CENTERED_INERTIAL_FRAME),
+                destinationC);
+        assertEquals(new CoordinateTransformation(m, FrameType.BODY_FRAME, FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME),
+                sourceC);
+        assertEquals(ECEFtoECIFrameConverter.convertECEFtoECIAndReturnNew(timeInterval, source), destination);
+
+        // further conversions reuse the coordinate transformation owned by destination
+        final var c = destination.getCoordinateTransformation();
+        converter.convert(timeInterval, source, destination);
+        assertEquals(c, destination.getCoordinateTransformation());
+        assertEquals(new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.EARTH_CENTERED_INERTIAL_FRAME),
+                destinationC);
+    }
+
+    @Test
+    void testConvertTimeSeries() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+        final var offset = 3;
+        final var length = TIMES;
+        final var size = offset + length;
+
+        final var timeIntervals = new double[size];
+        final var x = new double[size];
+        final var y = new double[size];
+        final var z = new double[size];
+        final var vx = new double[size];
+        final var vy = new double[size];
+        final var vz = new double[size];
+        final var attitude = new double[size * CoordinateTransformation.ELEMENTS];
+        final var sources = new ECEFFrame[size];
+        for (var i = offset; i < size; i++) {
+            sources[i] = createFrame(randomizer);
+            timeIntervals[i] = randomizer.nextDouble(0.0, 86400.0);
+            copyFrame(sources[i], i, x, y, z, vx, vy, vz, attitude);
+        }
+
+        final var resultX = new double[size];
+        final var resultY = new double[size];
+        final var resultZ = new double[size];
+        final var resultVx = new double[size];
+        final var resultVy = new double[size];
+        final var resultVz = new double[size];
+        final var resultAttitude = new double[size * CoordinateTransformation.ELEMENTS];
+        ECEFtoECIFrameConverter.convertECEFtoECI(timeIntervals, x, y, z, vx, vy, vz, attitude, offset, length,
+                resultX, resultY, resultZ, resultVx, resultVy, resultVz, resultAttitude);
+
+        final var resultX2 = new double[size];
+        final var resultY2 = new double[size];
+        final var resultZ2 = new double[size];
+        final var resultVx2 = new double[size];
+        final var resultVy2 = new double[size];
+        final var resultVz2 = new double[size];
+        ECEFtoECIFrameConverter.convertECEFtoECI(timeIntervals, x, y, z, vx, vy, vz, offset, length,
+                resultX2, resultY2, resultZ2, resultVx2, resultVy2, resultVz2);
+
+        // check that results are exactly equal to single frame conversions
+        final var elements = new double[CoordinateTransformation.ELEMENTS];
+        for (var i = offset; i < size; i++) {
+            final var expected = ECEFtoECIFrameConverter.convertECEFtoECIAndReturnNew(timeIntervals[i], sources[i]);
+            assertEquals(expected.getX(), resultX[i], 0.0);
+            assertEquals(expected.getY(), resultY[i], 0.0);
+            assertEquals(expected.getZ(), resultZ[i], 0.0);
+            assertEquals(expected.getVx(), resultVx[i], 0.0);
+            assertEquals(expected.getVy(), resultVy[i], 0.0);
+            assertEquals(expected.getVz(), resultVz[i], 0.0);
+            expected.getCoordinateTransformation().getElements(elements);
+            assertArrayEquals(elements, Arrays.copyOfRange(resultAttitude, i * CoordinateTransformation.ELEMENTS,
+                    (i + 1) * CoordinateTransformation.ELEMENTS), 0.0);
+
+            assertEquals(resultX[i], resultX2[i], 0.0);
+            assertEquals(resultY[i], resultY2[i], 0.0);
+            assertEquals(resultZ[i], resultZ2[i], 0.0);
+            assertEquals(resultVx[i], resultVx2[i], 0.0);
+            assertEquals(resultVy[i], resultVy2[i], 0.0);
+            assertEquals(resultVz[i], resultVz2[i], 0.0);
+        }
+
+        // results can be stored in input arrays
+        ECEFtoECIFrameConverter.convertECEFtoECI(timeIntervals, x, y, z, vx, vy, vz, attitude, offset, length,
+                x, y, z, vx, vy, vz, attitude);
+        assertArrayEquals(resultX, x, 0.0);
+        assertArrayEquals(resultVy, vy, 0.0);
+        assertArrayEquals(resultAttitude, attitude, 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> ECEFtoECIFrameConverter.convertECEFtoECI(timeIntervals,
+                x, y, z, vx, vy, vz, -1, length, resultX, resultY, resultZ, resultVx, resultVy, resultVz));
+        assertThrows(IllegalArgumentException.class, () -> ECEFtoECIFrameConverter.convertECEFtoECI(new double[1],
+                x, y, z, vx, vy, vz, offset, length, resultX, resultY, resultZ, resultVx, resultVy, resultVz));
+        assertThrows(IllegalArgumentException.class, () -> ECEFtoECIFrameConverter.convertECEFtoECI(timeIntervals,
+                x, y, z, vx, vy, vz, offset, length, resultX, resultY, resultZ, resultVx, resultVy,
+                new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> ECEFtoECIFrameConverter.convertECEFtoECI(timeIntervals,
+                x, y, z, vx, vy, vz, attitude, offset, length, resultX, resultY, resultZ, resultVx, resultVy,
+                resultVz, new double[1]));
+    }
+
+    @Test
+    void testConvertUniformTimeSeries() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+        final var offset = 2;
+        final var length = 10 * ECItoECEFFrameConverter.RECURRENCE_STEPS + 5;
+        final var size = offset + length;
+        final var startTimeInterval = randomizer.nextDouble(0.0, 86400.0);
+        final var timeStep = randomizer.nextDouble(0.0, 60.0);
+
+        final var x = new double[size];
+        final var y = new double[size];
+        final var z = new double[size];
+        final var vx = new double[size];
+        final var vy = new double[size];
+        final var vz = new double[size];
+        final var attitude = new double[size * CoordinateTransformation.ELEMENTS];
+        final var sources = new ECEFFrame[size];
+        for (var i = offset; i < size; i++) {
+            sources[i] = createFrame(randomizer);
+            copyFrame(sources[i], i, x, y, z, vx, vy, vz, attitude);
+        }
+
+        final var resultX = new double[size];
+        final var resultY = new double[size];
+        final var resultZ = new double[size];
+        final var resultVx = new double[size];
+        final var resultVy = new double[size];
+        final var resultVz = new double[size];
+        final var resultAttitude = new double[size * CoordinateTransformation.ELEMENTS];
+        ECEFtoECIFrameConverter.convertECEFtoECI(startTimeInterval, timeStep, x, y, z, vx, vy, vz, attitude, offset, length,
+                resultX, resultY, resultZ, resultVx, resultVy, resultVz, resultAttitude);
+
+        final var resultX2 = new double[size];
+        final var resultY2 = new double[size];
+        final var resultZ2 = new double[size];
+        final var resultVx2 = new double[size];
+        final var resultVy2 = new double[size];
+        final var resultVz2 = new double[size];
+        ECEFtoECIFrameConverter.convertECEFtoECI(startTimeInterval, timeStep, x, y, z, vx, vy, vz, offset, length,
+                resultX2, resultY2, resultZ2, resultVx2, resultVy2, resultVz2);
+
+        // check that results match single frame conversions
+        final var elements = new double[CoordinateTransformation.ELEMENTS];
+        for (var i = offset; i < size; i++) {
+            final var k = i - offset;
+            final var expected = ECEFtoECIFrameConverter.convertECEFtoECIAndReturnNew(startTimeInterval + k * timeStep, sources[i]);
+
+            // rotation is exactly recomputed periodically
+            final var error = k % ECItoECEFFrameConverter.RECURRENCE_STEPS == 0 ? 0.0 : 1.0;
+            assertEquals(expected.getX(), resultX[i], error * RECURRENCE_POSITION_ERROR);
+            assertEquals(expected.getY(), resultY[i], error * RECURRENCE_POSITION_ERROR);
+            assertEquals(expected.getZ(), resultZ[i], 0.0);
+            assertEquals(expected.getVx(), resultVx[i], error * RECURRENCE_VELOCITY_ERROR);
+            assertEquals(expected.getVy(), resultVy[i], error * RECURRENCE_VELOCITY_ERROR);
+            assertEquals(expected.getVz(), resultVz[i], 0.0);
+            expected.getCoordinateTransformation().getElements(elements);
+            assertArrayEquals(elements, Arrays.copyOfRange(resultAttitude, i * CoordinateTransformation.ELEMENTS,
+                    (i + 1) * CoordinateTransformation.ELEMENTS), error * RECURRENCE_ATTITUDE_ERROR);
+
+            assertEquals(resultX[i], resultX2[i], 0.0);
+            assertEquals(resultY[i], resultY2[i], 0.0);
+            assertEquals(resultZ[i], resultZ2[i], 0.0);
+            assertEquals(resultVx[i], resultVx2[i], 0.0);
+            assertEquals(resultVy[i], resultVy2[i], 0.0);
+            assertEquals(resultVz[i], resultVz2[i], 0.0);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> ECEFtoECIFrameConverter.convertECEFtoECI(startTimeInterval, timeStep,
+                x, y, z, vx, vy, vz, offset, -1, resultX, resultY, resultZ, resultVx, resultVy, resultVz));
+        assertThrows(IllegalArgumentException.class, () -> ECEFtoECIFrameConverter.convertECEFtoECI(startTimeInterval, timeStep,
+                x, y, z, vx, vy, vz, attitude, offset, length, resultX, resultY, resultZ, resultVx, resultVy,
+                resultVz, new double[1]));
+    }
+
+    private static ECEFFrame createFrame(final UniformRandomizer randomizer) throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var x = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var y = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var z = randomizer.nextDouble(MIN_Z_VALUE, MAX_Z_VALUE);
+
+        final var vx = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vy = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vz = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q = new Quaternion(roll, pitch, yaw);
+
+        final var c = new CoordinateTransformation(q.asInhomogeneousMatrix(), FrameType.BODY_FRAME,
+                FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        return new ECEFFrame(x, y, z, vx, vy, vz, c);
+    }
+
+    private static void copyFrame(final ECEFFrame frame, final int i, final double[] x, final double[] y,
+                                  final double[] z, final double[] vx, final double[] vy, final double[] vz,
+                                  final double[] attitude) {
+        x[i] = frame.getX();
+        y[i] = frame.getY();
+        z[i] = frame.getZ();
+        vx[i] = frame.getVx();
+        vy[i] = frame.getVy();
+        vz[i] = frame.getVz();
+        System.arraycopy(frame.getCoordinateTransformation().getElements(), 0, attitude,
+                i * CoordinateTransformation.ELEMENTS, CoordinateTransformation.ELEMENTS);
+    }
+
+    @Test
+    void testConvertTrajectory() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+        final var trajectory = new ECEFTrajectory();
+        for (var i = 0; i < TIMES; i++) {
+            trajectory.add(randomizer.nextDouble(0.0, 86400.0), createFrame(randomizer));
+        }
+
+        final var result = new ECITrajectory();
+        ECEFtoECIFrameConverter.convertECEFtoECI(trajectory, result);
+
+        assertEquals(TIMES, result.size());
+
+        // check that results are exactly equal to single frame conversions
+        final var frame = new ECIFrame();
+        for (var i = 0; i < TIMES; i++) {
+            final var timestamp = trajectory.getTimestamp(i);
+            final var expected = ECEFtoECIFrameConverter.convertECEFtoECIAndReturnNew(timestamp, trajectory.getFrame(i));
+            result.getFrame(i, frame);
+
+            assertEquals(expected, frame);
+            assertEquals(timestamp, result.getTimestamp(i), 0.0);
+        }
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames.converters;
+
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.geodesic.Constants;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ECEFtoGeodeticConverterTest {
+
+    private static final double MIN_LATITUDE_DEGREES = -90.0;
+    private static final double MAX_LATITUDE_DEGREES = 90.0;
+
+    private static final double MIN_LONGITUDE_DEGREES = -180.0;
+    private static final double MAX_LONGITUDE_DEGREES = 180.0;
+
+    private static final double MIN_HEIGHT = -50.0;
+    private static final double MAX_HEIGHT = 50.0;
+
+    private static final int POINTS = 3 * ECEFtoGeodeticConverter.DEFAULT_POINTS_PER_TASK + 17;
+
+    @Test
+    void testConstants() {
+        assertEquals(GeodeticConversionMethod.BORKOWSKI, ECEFtoGeodeticConverter.DEFAULT_METHOD);
+        assertEquals(8192, ECEFtoGeodeticConverter.DEFAULT_POINTS_PER_TASK);
+        assertEquals(Constants.EARTH_EQUATORIAL_RADIUS_WGS84, ECEFtoGeodeticConverter.EARTH_EQUATORIAL_RADIUS_WGS84,
+                0.0);
+        assertEquals(Constants.EARTH_ECCENTRICITY, ECEFtoGeodeticConverter.EARTH_ECCENTRICITY, 0.0);
+    }
+
+    @Test
+    void testCreate() {
+        final var borkowski = ECEFtoGeodeticConverter.create(GeodeticConversionMethod.BORKOWSKI);
+        assertInstanceOf(BorkowskiECEFtoGeodeticConverter.class, borkowski);
+        assertEquals(GeodeticConversionMethod.BORKOWSKI, borkowski.getMethod());
+
+        final var vermeille = ECEFtoGeodeticConverter.create(GeodeticConversionMethod.VERMEILLE);
+        assertInstanceOf(VermeilleECEFtoGeodeticConverter.class, vermeille);
+        assertEquals(GeodeticConversionMethod.VERMEILLE, vermeille.getMethod());
+
+        final var bowring = ECEFtoGeodeticConverter.create(GeodeticConversionMethod.BOWRING);
+        final var bowringConverter = assertInstanceOf(BowringECEFtoGeodeticConverter.class, bowring);
+        assertEquals(GeodeticConversionMethod.BOWRING, bowring.getMethod());
+        assertEquals(BowringECEFtoGeodeticConverter.DEFAULT_ITERATIONS, bowringConverter.getIterations());
+
+        final var defaultConverter = ECEFtoGeodeticConverter.create();
+        assertEquals(ECEFtoGeodeticConverter.DEFAULT_METHOD, defaultConverter.getMethod());
+    }
+
+    @Test
+    void testConvertAndReturnNew() {
+        final var ecefPosition = createPosition();
+
+        for (final var method : GeodeticConversionMethod.values()) {
+            final var converter = ECEFtoGeodeticConverter.create(method);
+
+            final var expected = new NEDPosition();
+            converter.convert(ecefPosition.getX(), ecefPosition.getY(), ecefPosition.getZ(), expected);
+            final var result = converter.convertAndReturnNew(ecefPosition.getX(), ecefPosition.getY(),
+                    ecefPosition.getZ());
+
+            assertEquals(expected, result);
+        }
+    }
+
+    @Test
+    void testConvertBulk() {
+        final var x = new double[POINTS];
+        final var y = new double[POINTS];
+        final var z = new double[POINTS];
+        for (var i = 0; i < POINTS; i++) {
+            final var position = createPosition();
+            x[i] = position.getX();
+            y[i] = position.getY();
+            z[i] = position.getZ();
+        }
+
+        final var offset = 5;
+        final var length = POINTS - 2 * offset;
+        final var result = new NEDPosition();
+        for (final var method : GeodeticConversionMethod.values()) {
+            final var converter = ECEFtoGeodeticConverter.create(method);
+
+            final var latitude1 = new double[POINTS];
+            final var longitude1 = new double[POINTS];
+            final var height1 = new double[POINTS];
+            converter.convert(x, y, z, offset, length, latitude1, longitude1, height1);
+
+            final var latitude2 = new double[POINTS];
+            final var longitude2 = new double[POINTS];
+            final var height2 = new double[POINTS];
+            converter.convert(x, y, z, offset, length, latitude2, longitude2, height2, true);
+
+            for (var i = 0; i < POINTS; i++) {
+                if (i < offset || i >= offset + length) {
+                    // values out of range are not modified
+                    assertEquals(0.0, latitude1[i], 0.0);
+                    assertEquals(0.0, longitude1[i], 0.0);
+                    assertEquals(0.0, height1[i], 0.0);
+                    continue;
+                }
+
+                converter.convert(x[i], y[i], z[i], result);
+                assertEquals(result.getLatitude(), latitude1[i], 0.0);
+                assertEquals(result.getLongitude(), longitude1[i], 0.0);
+                assertEquals(result.getHeight(), height1[i], 0.0);
+
+                assertEquals(latitude1[i], latitude2[i], 0.0);
+                assertEquals(longitude1[i], longitude2[i], 0.0);
+                assertEquals(height1[i], height2[i], 0.0);
+            }
+        }
+
+        // Force IllegalArgumentException
+        final var converter = ECEFtoGeodeticConverter.create();
+        final var out = new double[POINTS];
+        final var small = new double[POINTS - 1];
+        assertThrows(IllegalArgumentException.class,
+                () -> converter.convert(x, y, z, -1, 1, out, out, out));
+        assertThrows(IllegalArgumentException.class,
+                () -> converter.convert(x, y, z, 0, -1, out, out, out));
+        assertThrows(IllegalArgumentException.class,
+                () -> converter.convert(x, y, z, 0, POINTS, small, out, out));
+        assertThrows(IllegalArgumentException.class,
+                () -> converter.convert(x, y, z, 1, POINTS, out, out, out, true));
+    }
+
+    private static ECEFPosition createPosition() {
+        final var randomizer = new UniformRandomizer();
+        final var nedPosition = new NEDPosition(
+                Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES)),
+                Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES)),
+                randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT));
+        final var ecefPosition = new ECEFPosition();
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedPosition, new NEDVelocity(), ecefPosition,
+                new ECEFVelocity());
+        return ecefPosition;
+    }
+}
@@ -20,14 +20,19 @@ import com.irurueta.geometry.Quaternion;
 import com.irurueta.geometry.RotationException;
 import com.irurueta.navigation.frames.CoordinateTransformation;
 import com.irurueta.navigation.frames.ECEFFrame;
+import com.irurueta.navigation.frames.ECEFTrajectory;
 import com.irurueta.navigation.frames.FrameType;
 import com.irurueta.navigation.frames.InvalidSourceAndDestinationFrameTypeException;
 import com.irurueta.navigation.frames.NEDFrame;
+import com.irurueta.navigation.frames.NEDTrajectory;
 import com.irurueta.navigation.geodesic.Constants;
 import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ECEFtoNEDFrameConverterTest {
@@ -61,6 +66,32 @@ class ECEFtoNEDFrameConverterTest {
         // check
         assertEquals(FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME, converter.getSourceType());
         assertEquals(FrameType.LOCAL_NAVIGATION_FRAME, converter.getDestinationType());
+        assertInstanceOf(BorkowskiECEFtoGeodeticConverter.class, converter.getGeodeticConverter());
+
+        // constructor with geodetic converter
+        final var geodeticConverter = new VermeilleECEFtoGeodeticConverter();
+        final var converter2 = new ECEFtoNEDFrameConverter(geodeticConverter);
+
+        // check
+        assertSame(geodeticConverter, converter2.getGeodeticConverter());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new ECEFtoNEDFrameConverter(null));
+    }
+
+    @Test
+    void testGetSetGeodeticConverter() {
+        final var converter = new ECEFtoNEDFrameConverter();
+
+        // set new value
+        final var geodeticConverter = new BowringECEFtoGeodeticConverter();
+        converter.setGeodeticConverter(geodeticConverter);
+
+        // check
+        assertSame(geodeticConverter, converter.getGeodeticConverter());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> converter.setGeodeticConverter(null));
     }
 
     @Test
@@ -322,4 +353,198 @@ class ECEFtoNEDFrameConverterTest {
 
         assertEquals(TIMES, numValid);
     }
+
+    @Test
+    void testConvertECEFtoNEDWithGeodeticConverter() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var x = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+            final var y = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+            final var z = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+
+            final var vx = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var vy = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var vz = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+            final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var q = new Quaternion(roll, pitch, yaw);
+
+            final var m = q.asInhomogeneousMatrix();
+            final var c = new CoordinateTransformation(m, FrameType.BODY_FRAME,
+                    FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+
+            final var ecefFrame = new ECEFFrame(x, y, z, vx, vy, vz, c);
+
+            final var expected = ECEFtoNEDFrameConverter.convertECEFtoNEDAndReturnNew(ecefFrame);
+
+            for (final var method : GeodeticConversionMethod.values()) {
+                final var geodeticConverter = ECEFtoGeodeticConverter.create(method);
+
+                final var nedFrame1 = new NEDFrame();
+                ECEFtoNEDFrameConverter.convertECEFtoNED(ecefFrame, nedFrame1, geodeticConverter);
+
+                final var converter = new ECEFtoNEDFrameConverter(geodeticConverter);
+                final var nedFrame2 = converter.convertAndReturnNew(ecefFrame);
+
+                // check
+                assertEquals(nedFrame1, nedFrame2);
+                assertTrue(expected.equals(nedFrame1, ABSOLUTE_ERROR));
+                if (method == GeodeticConversionMethod.BORKOWSKI) {
+                    assertEquals(expected, nedFrame1);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testConvertMatchesStaticConversion() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        // a single converter and destination are reused for all conversions
+        final var converter = new ECEFtoNEDFrameConverter();
+        final var nedFrame = new NEDFrame();
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var x = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+            final var y = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+            final var z = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+
+            final var vx = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var vy = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var vz = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+            final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var q = new Quaternion(roll, pitch, yaw);
+
+            final var m = q.asInhomogeneousMatrix();
+            final var c = new CoordinateTransformation(m, FrameType.BODY_FRAME,
+                    FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+
+            final var ecefFrame = new ECEFFrame(x, y, z, vx, vy, vz, c);
+
+            converter.convert(ecefFrame, nedFrame);
+
+            // check that results are equal to static conversion
+            final var expected = ECEFtoNEDFrameConverter.convertECEFtoNEDAndReturnNew(ecefFrame);
+            assertEquals(expected, nedFrame);
+        }
+    }
+
+    @Test
+    void testConvertDoesNotModifyProvidedCoordinateTransformations() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+
+        final var x = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var y = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+        final var z = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+
+        final var vx = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vy = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vz = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q = new Quaternion(roll, pitch, yaw);
+
+        final var m = q.asInhomogeneousMatrix();
+        final var sourceC = new CoordinateTransformation(m, FrameType.BODY_FRAME,
+                FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        final var source = new ECEFFrame(x, y, z, vx, vy, vz, sourceC);
+
+        // destination keeps a reference to a coordinate transformation owned by the caller
+        final var destinationC = new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.LOCAL_NAVIGATION_FRAME);
+        final var destination = new NEDFrame(destinationC);
+
+        final var converter = new ECEFtoNEDFrameConverter();
+        converter.convert(source, destination);
+
+        // provided coordinate transformations are not modified
+        assertEquals(new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.LOCAL_NAVIGATION_FRAME),
+                destinationC);
+        assertEquals(new CoordinateTransformation(m, FrameType.BODY_FRAME, FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME),
+                sourceC);
+        assertEquals(ECEFtoNEDFrameConverter.convertECEFtoNEDAndReturnNew(source), destination);
+
+        // further conversions reuse the coordinate transformation owned by destination
+        final var c = destination.getCoordinateTransformation();
+        converter.convert(source, destination);
+        assertEquals(c, destination.getCoordinateTransformation());
+        assertEquals(new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.LOCAL_NAVIGATION_FRAME),
+                destinationC);
+    }
+
+    @Test
+    void testConvertTrajectory() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+        final var trajectory = new ECEFTrajectory();
+        for (var t = 0; t < TIMES; t++) {
+            final var x = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+            final var y = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+            final var z = randomizer.nextDouble(MIN_POSITION_VALUE, MAX_POSITION_VALUE);
+
+            final var vx = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var vy = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var vz = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+            final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var q = new Quaternion(roll, pitch, yaw);
+
+            final var m = q.asInhomogeneousMatrix();
+            final var c = new CoordinateTransformation(m, FrameType.BODY_FRAME,
+                    FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+
+            trajectory.add(t, new ECEFFrame(x, y, z, vx, vy, vz, c));
+        }
+
+        // destination trajectory is resized
+        final var result1 = new NEDTrajectory();
+        result1.setSize(2 * TIMES);
+        final var converter = new ECEFtoNEDFrameConverter();
+        converter.convert(trajectory, result1);
+
+        final var result2 = new NEDTrajectory();
+        ECEFtoNEDFrameConverter.convertECEFtoNED(trajectory, result2);
+
+        final var vermeilleConverter = ECEFtoGeodeticConverter.create(GeodeticConversionMethod.VERMEILLE);
+        final var result3 = new NEDTrajectory();
+        ECEFtoNEDFrameConverter.convertECEFtoNED(trajectory, result3, vermeilleConverter);
+
+        assertEquals(TIMES, result1.size());
+        assertEquals(TIMES, result2.size());
+        assertEquals(TIMES, result3.size());
+
+        // check that results are exactly equal to single frame conversions
+        final var vermeilleFrameConverter = new ECEFtoNEDFrameConverter(vermeilleConverter);
+        final var ecefFrame = new ECEFFrame();
+        final var expected = new NEDFrame();
+        final var nedFrame = new NEDFrame();
+        for (var i = 0; i < TIMES; i++) {
+            trajectory.getFrame(i, ecefFrame);
+
+            converter.convert(ecefFrame, expected);
+            result1.getFrame(i, nedFrame);
+            assertEquals(expected, nedFrame);
+            assertEquals(i, result1.getTimestamp(i), 0.0);
+
+            result2.getFrame(i, nedFrame);
+            assertEquals(expected, nedFrame);
+            assertEquals(i, result2.getTimestamp(i), 0.0);
+
+            vermeilleFrameConverter.convert(ecefFrame, expected);
+            result3.getFrame(i, nedFrame);
+            assertEquals(expected, nedFrame);
+        }
+    }
 }
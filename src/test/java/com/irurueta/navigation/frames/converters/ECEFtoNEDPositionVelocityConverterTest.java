@@ -29,7 +29,11 @@ import com.irurueta.navigation.geodesic.Constants;
 import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ECEFtoNEDPositionVelocityConverterTest {
@@ -45,6 +49,17 @@ class ECEFtoNEDPositionVelocityConverterTest {
     private static final double MIN_VELOCITY_VALUE = -2.0;
     private static final double MAX_VELOCITY_VALUE = 2.0;
 
+    private static final double MIN_LATITUDE_DEGREES = -90.0;
+    private static final double MAX_LATITUDE_DEGREES = 90.0;
+
+    private static final double MIN_LONGITUDE_DEGREES = -180.0;
+    private static final double MAX_LONGITUDE_DEGREES = 180.0;
+
+    private static final double MIN_HEIGHT = -500.0;
+    private static final double MAX_HEIGHT = 20000.0;
+
+    private static final int BULK_POINTS = 20000;
+
     private static final int TIMES = 100;
 
     @Test
@@ -53,6 +68,7 @@ class ECEFtoNEDPositionVelocityConverterTest {
         assertEquals(ECEFtoNEDPositionVelocityConverter.EARTH_EQUATORIAL_RADIUS_WGS84,
                 Constants.EARTH_EQUATORIAL_RADIUS_WGS84, 0.0);
         assertEquals(ECEFtoNEDPositionVelocityConverter.EARTH_ECCENTRICITY, Constants.EARTH_ECCENTRICITY, 0.0);
+        assertEquals(8192, ECEFtoNEDPositionVelocityConverter.DEFAULT_POINTS_PER_TASK);
     }
 
     @Test
@@ -180,4 +196,239 @@ class ECEFtoNEDPositionVelocityConverterTest {
 
         assertEquals(TIMES, numValid);
     }
+
+    @Test
+    void testConvertECEFtoNEDBulk() {
+        final var randomizer = new UniformRandomizer();
+        final var offset = randomizer.nextInt(0, 10);
+        final var length = offset + BULK_POINTS;
+
+        final var x = new double[length];
+        final var y = new double[length];
+        final var z = new double[length];
+        final var vx = new double[length];
+        final var vy = new double[length];
+        final var vz = new double[length];
+        final var ecefPosition = new ECEFPosition();
+        final var ecefVelocity = new ECEFVelocity();
+        for (var i = offset; i < length; i++) {
+            final var nedPosition = new NEDPosition(
+                    Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES)),
+                    Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES)),
+                    randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT));
+            final var nedVelocity = new NEDVelocity(
+                    randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE),
+                    randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE),
+                    randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE));
+            NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedPosition, nedVelocity, ecefPosition,
+                    ecefVelocity);
+            x[i] = ecefPosition.getX();
+            y[i] = ecefPosition.getY();
+            z[i] = ecefPosition.getZ();
+            vx[i] = ecefVelocity.getVx();
+            vy[i] = ecefVelocity.getVy();
+            vz[i] = ecefVelocity.getVz();
+        }
+
+        final var latitude1 = new double[length];
+        final var longitude1 = new double[length];
+        final var height1 = new double[length];
+        final var vn1 = new double[length];
+        final var ve1 = new double[length];
+        final var vd1 = new double[length];
+        ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x, y, z, vx, vy, vz, offset, BULK_POINTS,
+                latitude1, longitude1, height1, vn1, ve1, vd1);
+
+        // check that results are exactly equal to single point conversion
+        final var nedPosition = new NEDPosition();
+        final var nedVelocity = new NEDVelocity();
+        for (var i = offset; i < length; i++) {
+            ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x[i], y[i], z[i], vx[i], vy[i], vz[i],
+                    nedPosition, nedVelocity);
+            assertEquals(nedPosition.getLatitude(), latitude1[i], 0.0);
+            assertEquals(nedPosition.getLongitude(), longitude1[i], 0.0);
+            assertEquals(nedPosition.getHeight(), height1[i], 0.0);
+            assertEquals(nedVelocity.getVn(), vn1[i], 0.0);
+            assertEquals(nedVelocity.getVe(), ve1[i], 0.0);
+            assertEquals(nedVelocity.getVd(), vd1[i], 0.0);
+        }
+
+        // values before offset are not modified
+        for (var i = 0; i < offset; i++) {
+            assertEquals(0.0, latitude1[i], 0.0);
+            assertEquals(0.0, vn1[i], 0.0);
+        }
+
+        // parallel conversion produces exactly the same results
+        final var latitude2 = new double[length];
+        final var longitude2 = new double[length];
+        final var height2 = new double[length];
+        final var vn2 = new double[length];
+        final var ve2 = new double[length];
+        final var vd2 = new double[length];
+        ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x, y, z, vx, vy, vz, offset, BULK_POINTS,
+                latitude2, longitude2, height2, vn2, ve2, vd2, true);
+        assertArrayEquals(latitude1, latitude2, 0.0);
+        assertArrayEquals(longitude1, longitude2, 0.0);
+        assertArrayEquals(height1, height2, 0.0);
+        assertArrayEquals(vn1, vn2, 0.0);
+        assertArrayEquals(ve1, ve2, 0.0);
+        assertArrayEquals(vd1, vd2, 0.0);
+
+        // position only conversion
+        final var latitude3 = new double[length];
+        final var longitude3 = new double[length];
+        final var height3 = new double[length];
+        ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x, y, z, offset, BULK_POINTS,
+                latitude3, longitude3, height3);
+        assertArrayEquals(latitude1, latitude3, 0.0);
+        assertArrayEquals(longitude1, longitude3, 0.0);
+        assertArrayEquals(height1, height3, 0.0);
+
+        final var latitude4 = new double[length];
+        final var longitude4 = new double[length];
+        final var height4 = new double[length];
+        ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x, y, z, offset, BULK_POINTS,
+                latitude4, longitude4, height4, true);
+        assertArrayEquals(latitude1, latitude4, 0.0);
+        assertArrayEquals(longitude1, longitude4, 0.0);
+        assertArrayEquals(height1, height4, 0.0);
+
+        // Force IllegalArgumentException
+        final var small = new double[length - 1];
+        assertThrows(IllegalArgumentException.class,
+                () -> ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x, y, z, -1, BULK_POINTS,
+                        latitude3, longitude3, height3));
+        assertThrows(IllegalArgumentException.class,
+                () -> ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x, y, z, offset, -1,
+                        latitude3, longitude3, height3));
+        assertThrows(IllegalArgumentException.class,
+                () -> ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x, y, z, offset, BULK_POINTS,
+                        latitude3, small, height3));
+        assertThrows(IllegalArgumentException.class,
+                () -> ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x, y, z, vx, small, vz, offset,
+                        BULK_POINTS, latitude1, longitude1, height1, vn1, ve1, vd1));
+        assertThrows(IllegalArgumentException.class,
+                () -> ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x, y, z, vx, vy, vz, offset,
+                        BULK_POINTS, latitude1, longitude1, height1, vn1, ve1, small));
+    }
+
+    @Test
+    void testConstructorAndGetSetGeodeticConverter() {
+        var converter = new ECEFtoNEDPositionVelocityConverter();
+
+        // check default value
+        assertInstanceOf(BorkowskiECEFtoGeodeticConverter.class, converter.getGeodeticConverter());
+
+        // constructor with geodetic converter
+        final var geodeticConverter = new VermeilleECEFtoGeodeticConverter();
+        converter = new ECEFtoNEDPositionVelocityConverter(geodeticConverter);
+
+        // check
+        assertSame(geodeticConverter, converter.getGeodeticConverter());
+
+        // set new value
+        final var geodeticConverter2 = new BowringECEFtoGeodeticConverter();
+        converter.setGeodeticConverter(geodeticConverter2);
+
+        // check
+        assertSame(geodeticConverter2, converter.getGeodeticConverter());
+
+        // Force IllegalArgumentException
+        final var finalConverter = converter;
+        assertThrows(IllegalArgumentException.class, () -> finalConverter.setGeodeticConverter(null));
+        assertThrows(IllegalArgumentException.class, () -> new ECEFtoNEDPositionVelocityConverter(null));
+    }
+
+    @Test
+    void testConvertECEFtoNEDWithGeodeticConverter() {
+        final var randomizer = new UniformRandomizer();
+        final var x = new double[BULK_POINTS];
+        final var y = new double[BULK_POINTS];
+        final var z = new double[BULK_POINTS];
+        final var vx = new double[BULK_POINTS];
+        final var vy = new double[BULK_POINTS];
+        final var vz = new double[BULK_POINTS];
+        final var ecefPosition = new ECEFPosition();
+        final var ecefVelocity = new ECEFVelocity();
+        for (var i = 0; i < BULK_POINTS; i++) {
+            final var nedPosition = new NEDPosition(
+                    Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES)),
+                    Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES)),
+                    randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT));
+            final var nedVelocity = new NEDVelocity(
+                    randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE),
+                    randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE),
+                    randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE));
+            NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedPosition, nedVelocity, ecefPosition,
+                    ecefVelocity);
+            x[i] = ecefPosition.getX();
+            y[i] = ecefPosition.getY();
+            z[i] = ecefPosition.getZ();
+            vx[i] = ecefVelocity.getVx();
+            vy[i] = ecefVelocity.getVy();
+            vz[i] = ecefVelocity.getVz();
+        }
+
+        final var expectedPosition = new NEDPosition();
+        final var expectedVelocity = new NEDVelocity();
+        final var nedPosition = new NEDPosition();
+        final var nedVelocity = new NEDVelocity();
+        for (final var method : GeodeticConversionMethod.values()) {
+            final var geodeticConverter = ECEFtoGeodeticConverter.create(method);
+            final var converter = new ECEFtoNEDPositionVelocityConverter(geodeticConverter);
+
+            final var latitude1 = new double[BULK_POINTS];
+            final var longitude1 = new double[BULK_POINTS];
+            final var height1 = new double[BULK_POINTS];
+            final var vn1 = new double[BULK_POINTS];
+            final var ve1 = new double[BULK_POINTS];
+            final var vd1 = new double[BULK_POINTS];
+            ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x, y, z, vx, vy, vz, 0, BULK_POINTS,
+                    geodeticConverter, latitude1, longitude1, height1, vn1, ve1, vd1, false);
+
+            final var latitude2 = new double[BULK_POINTS];
+            final var longitude2 = new double[BULK_POINTS];
+            final var height2 = new double[BULK_POINTS];
+            final var vn2 = new double[BULK_POINTS];
+            final var ve2 = new double[BULK_POINTS];
+            final var vd2 = new double[BULK_POINTS];
+            ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x, y, z, vx, vy, vz, 0, BULK_POINTS,
+                    geodeticConverter, latitude2, longitude2, height2, vn2, ve2, vd2, true);
+
+            assertArrayEquals(latitude1, latitude2, 0.0);
+            assertArrayEquals(longitude1, longitude2, 0.0);
+            assertArrayEquals(height1, height2, 0.0);
+            assertArrayEquals(vn1, vn2, 0.0);
+            assertArrayEquals(ve1, ve2, 0.0);
+            assertArrayEquals(vd1, vd2, 0.0);
+
+            for (var i = 0; i < BULK_POINTS; i++) {
+                converter.convert(x[i], y[i], z[i], vx[i], vy[i], vz[i], nedPosition, nedVelocity);
+
+                // bulk and single point conversions are exactly equal
+                assertEquals(nedPosition.getLatitude(), latitude1[i], 0.0);
+                assertEquals(nedPosition.getLongitude(), longitude1[i], 0.0);
+                assertEquals(nedPosition.getHeight(), height1[i], 0.0);
+                assertEquals(nedVelocity.getVn(), vn1[i], 0.0);
+                assertEquals(nedVelocity.getVe(), ve1[i], 0.0);
+                assertEquals(nedVelocity.getVd(), vd1[i], 0.0);
+
+                // all methods are close to default one
+                ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x[i], y[i], z[i], vx[i], vy[i], vz[i],
+                        expectedPosition, expectedVelocity);
+                assertTrue(expectedPosition.equals(nedPosition, ABSOLUTE_ERROR));
+                assertTrue(expectedVelocity.equals(nedVelocity, ABSOLUTE_ERROR));
+            }
+        }
+
+        // Force IllegalArgumentException
+        final var out = new double[BULK_POINTS];
+        assertThrows(IllegalArgumentException.class,
+                () -> ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x, y, z, vx, vy, vz, 0, BULK_POINTS,
+                        null, out, out, out, out, out, out, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(x, y, z, vx, vy, vz, 1, BULK_POINTS,
+                        ECEFtoGeodeticConverter.create(), out, out, out, out, out, out, false));
+    }
 }
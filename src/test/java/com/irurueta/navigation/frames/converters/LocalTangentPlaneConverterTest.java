@@ -0,0 +1,437 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames.converters;
+
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
+import com.irurueta.navigation.frames.CoordinateTransformation;
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.FrameType;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.geodesic.Constants;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalTangentPlaneConverterTest {
+
+    private static final double ABSOLUTE_ERROR = 1e-8;
+
+    private static final double MIN_ANGLE_DEGREES = -80.0;
+    private static final double MAX_ANGLE_DEGREES = 80.0;
+
+    private static final double MIN_HEIGHT = -50.0;
+    private static final double MAX_HEIGHT = 50.0;
+
+    private static final double MIN_OFFSET = -5000.0;
+    private static final double MAX_OFFSET = 5000.0;
+
+    private static final double MIN_VELOCITY_VALUE = -2.0;
+    private static final double MAX_VELOCITY_VALUE = 2.0;
+
+    private static final int TIMES = 100;
+
+    private static final int POINTS = 50;
+
+    @Test
+    void testConstants() {
+        assertEquals(1e-12, LocalTangentPlaneConverter.DEFAULT_TOLERANCE, 0.0);
+        assertEquals(1.0, LocalTangentPlaneConverter.MAX_SMALL_ANGLE, 0.0);
+    }
+
+    @Test
+    void testConstructor() {
+        // test empty constructor
+        var converter = new LocalTangentPlaneConverter();
+
+        // check default values
+        assertEquals(0.0, converter.getReferenceLatitude(), 0.0);
+        assertEquals(0.0, converter.getReferenceLongitude(), 0.0);
+        assertEquals(0.0, converter.getReferenceHeight(), 0.0);
+        final var ecefPosition = new ECEFPosition();
+        converter.getReferenceECEFPosition(ecefPosition);
+        assertEquals(Constants.EARTH_EQUATORIAL_RADIUS_WGS84, ecefPosition.getX(), ABSOLUTE_ERROR);
+        assertEquals(0.0, ecefPosition.getY(), ABSOLUTE_ERROR);
+        assertEquals(0.0, ecefPosition.getZ(), ABSOLUTE_ERROR);
+        assertFalse(converter.isSmallAngleApproximationEnabled());
+        assertEquals(LocalTangentPlaneConverter.DEFAULT_TOLERANCE, converter.getTolerance(), 0.0);
+        assertTrue(converter.getMaxSmallAngle() > 0.0);
+
+        // test constructor with latitude, longitude and height
+        final var randomizer = new UniformRandomizer();
+        final var latitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var longitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var height = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+
+        converter = new LocalTangentPlaneConverter(latitude, longitude, height);
+
+        // check
+        assertEquals(latitude, converter.getReferenceLatitude(), 0.0);
+        assertEquals(longitude, converter.getReferenceLongitude(), 0.0);
+        assertEquals(height, converter.getReferenceHeight(), 0.0);
+
+        final var expectedEcefPosition = new ECEFPosition();
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(latitude, longitude, height, 0.0, 0.0, 0.0,
+                expectedEcefPosition, new ECEFVelocity());
+        converter.getReferenceECEFPosition(ecefPosition);
+        assertEquals(expectedEcefPosition, ecefPosition);
+
+        final var c = new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.BODY_FRAME);
+        converter.getReferenceCoordinateTransformation(c);
+        assertEquals(CoordinateTransformation.ecefToNedCoordinateTransformationMatrix(latitude, longitude), c);
+
+        // test constructor with NED position
+        final var nedPosition = new NEDPosition(latitude, longitude, height);
+        converter = new LocalTangentPlaneConverter(nedPosition);
+
+        // check
+        final var nedPosition2 = new NEDPosition();
+        converter.getReferencePosition(nedPosition2);
+        assertEquals(nedPosition, nedPosition2);
+        converter.getReferenceECEFPosition(ecefPosition);
+        assertEquals(expectedEcefPosition, ecefPosition);
+
+        // test constructor with ECEF position
+        converter = new LocalTangentPlaneConverter(expectedEcefPosition);
+
+        // check
+        converter.getReferenceECEFPosition(ecefPosition);
+        assertEquals(expectedEcefPosition, ecefPosition);
+        assertEquals(latitude, converter.getReferenceLatitude(), ABSOLUTE_ERROR);
+        assertEquals(longitude, converter.getReferenceLongitude(), ABSOLUTE_ERROR);
+        assertEquals(height, converter.getReferenceHeight(), ABSOLUTE_ERROR);
+    }
+
+    @Test
+    void testGetSetSmallAngleApproximationEnabled() {
+        final var converter = new LocalTangentPlaneConverter();
+
+        // check default value
+        assertFalse(converter.isSmallAngleApproximationEnabled());
+
+        // set new value
+        converter.setSmallAngleApproximationEnabled(true);
+
+        // check
+        assertTrue(converter.isSmallAngleApproximationEnabled());
+    }
+
+    @Test
+    void testGetSetTolerance() {
+        final var converter = new LocalTangentPlaneConverter();
+
+        // check default value
+        assertEquals(LocalTangentPlaneConverter.DEFAULT_TOLERANCE, converter.getTolerance(), 0.0);
+        final var maxSmallAngle = converter.getMaxSmallAngle();
+
+        // set new value
+        converter.setTolerance(1e-6);
+
+        // check
+        assertEquals(1e-6, converter.getTolerance(), 0.0);
+        assertTrue(converter.getMaxSmallAngle() > maxSmallAngle);
+
+        // maximum angle is limited for large tolerances
+        converter.setTolerance(1.0);
+        assertEquals(LocalTangentPlaneConverter.MAX_SMALL_ANGLE, converter.getMaxSmallAngle(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> converter.setTolerance(0.0));
+        assertThrows(IllegalArgumentException.class, () -> converter.setTolerance(-1.0));
+    }
+
+    @Test
+    void testConvertToNEDAndENU() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        for (var t = 0; t < TIMES; t++) {
+            final var latitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var longitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var height = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+
+            final var converter = new LocalTangentPlaneConverter(latitude, longitude, height);
+            final var reference = new ECEFPosition();
+            converter.getReferenceECEFPosition(reference);
+
+            // build a point from local offsets
+            final var north = randomizer.nextDouble(MIN_OFFSET, MAX_OFFSET);
+            final var east = randomizer.nextDouble(MIN_OFFSET, MAX_OFFSET);
+            final var down = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+
+            final var cne = CoordinateTransformation.nedToEcefMatrix(latitude, longitude);
+            final var delta = cne.multiplyAndReturnNew(Matrix.newFromArray(new double[]{north, east, down}));
+            final var position = new ECEFPosition(reference.getX() + delta.getElementAtIndex(0),
+                    reference.getY() + delta.getElementAtIndex(1), reference.getZ() + delta.getElementAtIndex(2));
+
+            final var ned = new double[3];
+            converter.convertToNED(position, ned);
+
+            assertEquals(north, ned[0], ABSOLUTE_ERROR);
+            assertEquals(east, ned[1], ABSOLUTE_ERROR);
+            assertEquals(down, ned[2], ABSOLUTE_ERROR);
+
+            final var enu = new double[3];
+            converter.convertToENU(position, enu);
+
+            assertEquals(ned[1], enu[0], 0.0);
+            assertEquals(ned[0], enu[1], 0.0);
+            assertEquals(-ned[2], enu[2], 0.0);
+
+            // a point above the reference point only has a vertical component
+            final var upper = new ECEFPosition();
+            NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(latitude, longitude, height - down,
+                    0.0, 0.0, 0.0, upper, new ECEFVelocity());
+            converter.convertToNED(upper.getX(), upper.getY(), upper.getZ(), ned);
+
+            assertEquals(0.0, ned[0], ABSOLUTE_ERROR);
+            assertEquals(0.0, ned[1], ABSOLUTE_ERROR);
+            assertEquals(down, ned[2], ABSOLUTE_ERROR);
+
+            // converting back restores ECEF position
+            final var result = new ECEFPosition();
+            converter.convertFromNED(north, east, down, result);
+            assertTrue(position.equals(result, ABSOLUTE_ERROR));
+
+            converter.convertFromENU(enu[0], enu[1], enu[2], result);
+            assertTrue(position.equals(result, ABSOLUTE_ERROR));
+        }
+
+        // Force IllegalArgumentException
+        final var converter = new LocalTangentPlaneConverter();
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToNED(0.0, 0.0, 0.0,
+                new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToENU(0.0, 0.0, 0.0,
+                new double[1]));
+    }
+
+    @Test
+    void testConvertBulk() {
+        final var randomizer = new UniformRandomizer();
+        final var latitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var longitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var height = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+
+        final var converter = new LocalTangentPlaneConverter(latitude, longitude, height);
+        final var reference = new ECEFPosition();
+        converter.getReferenceECEFPosition(reference);
+
+        final var offset = 2;
+        final var length = POINTS;
+        final var size = offset + length;
+        final var x = new double[size];
+        final var y = new double[size];
+        final var z = new double[size];
+        for (var i = offset; i < size; i++) {
+            x[i] = reference.getX() + randomizer.nextDouble(MIN_OFFSET, MAX_OFFSET);
+            y[i] = reference.getY() + randomizer.nextDouble(MIN_OFFSET, MAX_OFFSET);
+            z[i] = reference.getZ() + randomizer.nextDouble(MIN_OFFSET, MAX_OFFSET);
+        }
+
+        final var north = new double[size];
+        final var east = new double[size];
+        final var down = new double[size];
+        converter.convertToNED(x, y, z, offset, length, north, east, down);
+
+        final var east2 = new double[size];
+        final var north2 = new double[size];
+        final var up = new double[size];
+        converter.convertToENU(x, y, z, offset, length, east2, north2, up);
+
+        final var x2 = new double[size];
+        final var y2 = new double[size];
+        final var z2 = new double[size];
+        converter.convertFromNED(north, east, down, offset, length, x2, y2, z2);
+
+        final var x3 = new double[size];
+        final var y3 = new double[size];
+        final var z3 = new double[size];
+        converter.convertFromENU(east2, north2, up, offset, length, x3, y3, z3);
+
+        // check that results are exactly equal to single point conversions
+        final var ned = new double[3];
+        final var position = new ECEFPosition();
+        for (var i = 0; i < size; i++) {
+            if (i < offset) {
+                assertEquals(0.0, north[i], 0.0);
+                assertEquals(0.0, x2[i], 0.0);
+                continue;
+            }
+
+            converter.convertToNED(x[i], y[i], z[i], ned);
+            assertEquals(ned[0], north[i], 0.0);
+            assertEquals(ned[1], east[i], 0.0);
+            assertEquals(ned[2], down[i], 0.0);
+
+            assertEquals(ned[1], east2[i], 0.0);
+            assertEquals(ned[0], north2[i], 0.0);
+            assertEquals(-ned[2], up[i], 0.0);
+
+            converter.convertFromNED(north[i], east[i], down[i], position);
+            assertEquals(position.getX(), x2[i], 0.0);
+            assertEquals(position.getY(), y2[i], 0.0);
+            assertEquals(position.getZ(), z2[i], 0.0);
+
+            assertEquals(position.getX(), x3[i], 0.0);
+            assertEquals(position.getY(), y3[i], 0.0);
+            assertEquals(position.getZ(), z3[i], 0.0);
+
+            assertEquals(x[i], x2[i], ABSOLUTE_ERROR);
+            assertEquals(y[i], y2[i], ABSOLUTE_ERROR);
+            assertEquals(z[i], z2[i], ABSOLUTE_ERROR);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToNED(x, y, z, -1, length,
+                north, east, down));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToENU(x, y, z, offset, size,
+                east2, north2, up));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertFromNED(north, east, down,
+                offset, -1, x2, y2, z2));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertFromENU(east2, north2, up,
+                offset, length, x2, y2, new double[1]));
+    }
+
+    @Test
+    void testConvertAfterChangingReference() {
+        final var randomizer = new UniformRandomizer();
+        final var latitude1 = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var longitude1 = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var height1 = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+        final var latitude2 = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var longitude2 = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var height2 = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+
+        final var converter = new LocalTangentPlaneConverter(latitude1, longitude1, height1);
+        converter.setReferencePosition(latitude2, longitude2, height2);
+        final var expected = new LocalTangentPlaneConverter(latitude2, longitude2, height2);
+
+        final var north = new double[]{randomizer.nextDouble(MIN_OFFSET, MAX_OFFSET)};
+        final var east = new double[]{randomizer.nextDouble(MIN_OFFSET, MAX_OFFSET)};
+        final var down = new double[]{randomizer.nextDouble(MIN_OFFSET, MAX_OFFSET)};
+
+        // check that single point and bulk conversions use new reference
+        final var position = new ECEFPosition();
+        converter.convertFromNED(north[0], east[0], down[0], position);
+        final var expectedPosition = new ECEFPosition();
+        expected.convertFromNED(north[0], east[0], down[0], expectedPosition);
+        assertEquals(expectedPosition, position);
+
+        final var x = new double[1];
+        final var y = new double[1];
+        final var z = new double[1];
+        converter.convertFromNED(north, east, down, 0, 1, x, y, z);
+        assertEquals(expectedPosition.getX(), x[0], 0.0);
+        assertEquals(expectedPosition.getY(), y[0], 0.0);
+        assertEquals(expectedPosition.getZ(), z[0], 0.0);
+
+        final var ned = new double[3];
+        converter.convertToNED(position, ned);
+        final var expectedNed = new double[3];
+        expected.convertToNED(position, expectedNed);
+        assertArrayEquals(expectedNed, ned, 0.0);
+    }
+
+    @Test
+    void testGetEcefToNedMatrix() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var tolerances = new double[]{1e-6, 1e-9, LocalTangentPlaneConverter.DEFAULT_TOLERANCE};
+        for (var t = 0; t < TIMES; t++) {
+            final var latitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var longitude = Math.toRadians(randomizer.nextDouble(-180.0, 180.0));
+            final var height = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+
+            final var converter = new LocalTangentPlaneConverter(latitude, longitude, height);
+            final var result = new Matrix(1, 1);
+
+            for (final var tolerance : tolerances) {
+                converter.setTolerance(tolerance);
+                final var maxSmallAngle = converter.getMaxSmallAngle();
+
+                final var pointLatitude = latitude + randomizer.nextDouble(-maxSmallAngle, maxSmallAngle);
+                final var pointLongitude = longitude + randomizer.nextDouble(-maxSmallAngle, maxSmallAngle);
+                final var expected = CoordinateTransformation.ecefToNedMatrix(pointLatitude, pointLongitude);
+
+                // when approximation is disabled, result is exact
+                converter.setSmallAngleApproximationEnabled(false);
+                converter.getEcefToNedMatrix(pointLatitude, pointLongitude, result);
+                assertEquals(expected, result);
+
+                // when enabled, result is accurate up to tolerance
+                converter.setSmallAngleApproximationEnabled(true);
+                converter.getEcefToNedMatrix(pointLatitude, pointLongitude, result);
+                assertTrue(expected.equals(result, tolerance));
+
+                // points that are too far are converted exactly
+                final var farLatitude = latitude + 2.0 * maxSmallAngle;
+                converter.getEcefToNedMatrix(farLatitude, pointLongitude, result);
+                assertEquals(CoordinateTransformation.ecefToNedMatrix(farLatitude, pointLongitude), result);
+            }
+        }
+    }
+
+    @Test
+    void testGetEcefToNedMatrixAcrossAntimeridian() {
+        final var converter = new LocalTangentPlaneConverter(0.5, Math.toRadians(179.99), 0.0);
+        converter.setSmallAngleApproximationEnabled(true);
+
+        final var longitude = Math.toRadians(-179.99);
+        final var expected = CoordinateTransformation.ecefToNedMatrix(0.5, longitude);
+        final var result = CoordinateTransformation.ecefToNedMatrix(0.0, 0.0);
+        converter.getEcefToNedMatrix(0.5, longitude, result);
+
+        assertTrue(expected.equals(result, converter.getTolerance()));
+    }
+
+    @Test
+    void testConvertVelocityToNED() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        for (var t = 0; t < TIMES; t++) {
+            final var latitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var longitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var height = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+
+            final var converter = new LocalTangentPlaneConverter(latitude, longitude, height);
+
+            final var pointLatitude = latitude + randomizer.nextDouble(-1e-3, 1e-3);
+            final var pointLongitude = longitude + randomizer.nextDouble(-1e-3, 1e-3);
+
+            final var vx = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var vy = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var vz = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+            final var expected = CoordinateTransformation.ecefToNedMatrix(pointLatitude, pointLongitude)
+                    .multiplyAndReturnNew(Matrix.newFromArray(new double[]{vx, vy, vz}));
+
+            final var result1 = new NEDVelocity();
+            converter.convertVelocityToNED(pointLatitude, pointLongitude, vx, vy, vz, result1);
+
+            converter.setSmallAngleApproximationEnabled(true);
+            final var result2 = new NEDVelocity();
+            converter.convertVelocityToNED(pointLatitude, pointLongitude, vx, vy, vz, result2);
+
+            assertEquals(expected.getElementAtIndex(0), result1.getVn(), 0.0);
+            assertEquals(expected.getElementAtIndex(1), result1.getVe(), 0.0);
+            assertEquals(expected.getElementAtIndex(2), result1.getVd(), 0.0);
+
+            final var error = 3.0 * MAX_VELOCITY_VALUE * converter.getTolerance();
+            assertEquals(expected.getElementAtIndex(0), result2.getVn(), error);
+            assertEquals(expected.getElementAtIndex(1), result2.getVe(), error);
+            assertEquals(expected.getElementAtIndex(2), result2.getVd(), error);
+        }
+    }
+}
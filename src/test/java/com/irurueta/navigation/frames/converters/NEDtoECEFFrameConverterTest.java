@@ -20,9 +20,11 @@ import com.irurueta.geometry.Quaternion;
 import com.irurueta.geometry.RotationException;
 import com.irurueta.navigation.frames.CoordinateTransformation;
 import com.irurueta.navigation.frames.ECEFFrame;
+import com.irurueta.navigation.frames.ECEFTrajectory;
 import com.irurueta.navigation.frames.FrameType;
 import com.irurueta.navigation.frames.InvalidSourceAndDestinationFrameTypeException;
 import com.irurueta.navigation.frames.NEDFrame;
+import com.irurueta.navigation.frames.NEDTrajectory;
 import com.irurueta.navigation.geodesic.Constants;
 import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
@@ -316,4 +318,138 @@ class NEDtoECEFFrameConverterTest {
 
         assertEquals(TIMES, numValid);
     }
+
+    @Test
+    void testConvertMatchesStaticConversion() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        // a single converter and destination are reused for all conversions
+        final var converter = new NEDtoECEFFrameConverter();
+        final var ecefFrame = new ECEFFrame();
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var latitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var longitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var height = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+
+            final var vn = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var ve = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var vd = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+            final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var q = new Quaternion(roll, pitch, yaw);
+
+            final var m = q.asInhomogeneousMatrix();
+            final var c = new CoordinateTransformation(m, FrameType.BODY_FRAME,
+                    FrameType.LOCAL_NAVIGATION_FRAME);
+
+            final var nedFrame = new NEDFrame(latitude, longitude, height, vn, ve, vd, c);
+
+            converter.convert(nedFrame, ecefFrame);
+
+            // check that results are equal to static conversion
+            final var expected = NEDtoECEFFrameConverter.convertNEDtoECEFAndReturnNew(nedFrame);
+            assertEquals(expected, ecefFrame);
+        }
+    }
+
+    @Test
+    void testConvertDoesNotModifyProvidedCoordinateTransformations() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+
+        final var latitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var longitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var height = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+
+        final var vn = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var ve = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        final var vd = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+        final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+        final var q = new Quaternion(roll, pitch, yaw);
+
+        final var m = q.asInhomogeneousMatrix();
+        final var sourceC = new CoordinateTransformation(m, FrameType.BODY_FRAME, FrameType.LOCAL_NAVIGATION_FRAME);
+        final var source = new NEDFrame(latitude, longitude, height, vn, ve, vd, sourceC);
+
+        // destination keeps a reference to a coordinate transformation owned by the caller
+        final var destinationC = new CoordinateTransformation(FrameType.BODY_FRAME,
+                FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME);
+        final var destination = new ECEFFrame(destinationC);
+
+        final var converter = new NEDtoECEFFrameConverter();
+        converter.convert(source, destination);
+
+        // provided coordinate transformations are not modified
+        assertEquals(new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME),
+                destinationC);
+        assertEquals(new CoordinateTransformation(m, FrameType.BODY_FRAME, FrameType.LOCAL_NAVIGATION_FRAME), sourceC);
+        assertEquals(NEDtoECEFFrameConverter.convertNEDtoECEFAndReturnNew(source), destination);
+
+        // further conversions reuse the coordinate transformation owned by destination
+        final var c = destination.getCoordinateTransformation();
+        converter.convert(source, destination);
+        assertEquals(c, destination.getCoordinateTransformation());
+        assertEquals(new CoordinateTransformation(FrameType.BODY_FRAME, FrameType.EARTH_CENTERED_EARTH_FIXED_FRAME),
+                destinationC);
+    }
+
+    @Test
+    void testConvertTrajectory() throws InvalidRotationMatrixException,
+            InvalidSourceAndDestinationFrameTypeException {
+        final var randomizer = new UniformRandomizer();
+        final var trajectory = new NEDTrajectory();
+        for (var t = 0; t < TIMES; t++) {
+            final var latitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var longitude = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var height = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+
+            final var vn = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var ve = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var vd = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+            final var roll = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var pitch = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var yaw = Math.toRadians(randomizer.nextDouble(MIN_ANGLE_DEGREES, MAX_ANGLE_DEGREES));
+            final var q = new Quaternion(roll, pitch, yaw);
+
+            final var m = q.asInhomogeneousMatrix();
+            final var c = new CoordinateTransformation(m, FrameType.BODY_FRAME,
+                    FrameType.LOCAL_NAVIGATION_FRAME);
+
+            trajectory.add(0.5 * t, new NEDFrame(latitude, longitude, height, vn, ve, vd, c));
+        }
+
+        final var converter = new NEDtoECEFFrameConverter();
+        final var result1 = new ECEFTrajectory(1);
+        converter.convert(trajectory, result1);
+
+        final var result2 = new ECEFTrajectory();
+        NEDtoECEFFrameConverter.convertNEDtoECEF(trajectory, result2);
+
+        assertEquals(TIMES, result1.size());
+        assertEquals(TIMES, result2.size());
+
+        // check that results are exactly equal to single frame conversions
+        final var nedFrame = new NEDFrame();
+        final var expected = new ECEFFrame();
+        final var ecefFrame = new ECEFFrame();
+        for (var i = 0; i < TIMES; i++) {
+            trajectory.getFrame(i, nedFrame);
+            converter.convert(nedFrame, expected);
+
+            result1.getFrame(i, ecefFrame);
+            assertEquals(expected, ecefFrame);
+            assertEquals(0.5 * i, result1.getTimestamp(i), 0.0);
+
+            result2.getFrame(i, ecefFrame);
+            assertEquals(expected, ecefFrame);
+            assertEquals(0.5 * i, result2.getTimestamp(i), 0.0);
+        }
+    }
 }
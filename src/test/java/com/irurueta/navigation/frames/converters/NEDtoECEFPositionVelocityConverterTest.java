@@ -15,6 +15,8 @@
  */
 package com.irurueta.navigation.frames.converters;
 
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.WrongSizeException;
 import com.irurueta.geometry.InvalidRotationMatrixException;
 import com.irurueta.geometry.Quaternion;
 import com.irurueta.navigation.frames.CoordinateTransformation;
@@ -29,7 +31,9 @@ import com.irurueta.navigation.geodesic.Constants;
 import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NEDtoECEFPositionVelocityConverterTest {
@@ -45,6 +49,14 @@ class NEDtoECEFPositionVelocityConverterTest {
     private static final double MIN_VELOCITY_VALUE = -2.0;
     private static final double MAX_VELOCITY_VALUE = 2.0;
 
+    private static final double MIN_LATITUDE_DEGREES = -90.0;
+    private static final double MAX_LATITUDE_DEGREES = 90.0;
+
+    private static final double MIN_LONGITUDE_DEGREES = -180.0;
+    private static final double MAX_LONGITUDE_DEGREES = 180.0;
+
+    private static final int BULK_POINTS = 20000;
+
     private static final int TIMES = 100;
 
     @Test
@@ -52,6 +64,7 @@ class NEDtoECEFPositionVelocityConverterTest {
         assertEquals(NEDtoECEFPositionVelocityConverter.EARTH_EQUATORIAL_RADIUS_WGS84,
                 Constants.EARTH_EQUATORIAL_RADIUS_WGS84, 0.0);
         assertEquals(NEDtoECEFPositionVelocityConverter.EARTH_ECCENTRICITY, Constants.EARTH_ECCENTRICITY, 0.0);
+        assertEquals(8192, NEDtoECEFPositionVelocityConverter.DEFAULT_POINTS_PER_TASK);
     }
 
     @Test
@@ -178,4 +191,142 @@ class NEDtoECEFPositionVelocityConverterTest {
 
         assertEquals(TIMES, numValid);
     }
+
+    @Test
+    void testConvertNEDtoECEFMatchesMatrixTransformation() throws WrongSizeException {
+        final var randomizer = new UniformRandomizer();
+        final var ecefPosition = new ECEFPosition();
+        final var ecefVelocity = new ECEFVelocity();
+        for (var t = 0; t < TIMES; t++) {
+            final var latitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+            final var longitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                    MAX_LONGITUDE_DEGREES));
+            final var height = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+
+            final var vn = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var ve = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            final var vd = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+
+            NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(latitude, longitude, height, vn, ve, vd,
+                    ecefPosition, ecefVelocity);
+
+            // expected position using (2.105) and (2.112)
+            final var re = Constants.EARTH_EQUATORIAL_RADIUS_WGS84
+                    / Math.sqrt(1.0 - Math.pow(Constants.EARTH_ECCENTRICITY * Math.sin(latitude), 2.0));
+            final var x = (re + height) * Math.cos(latitude) * Math.cos(longitude);
+            final var y = (re + height) * Math.cos(latitude) * Math.sin(longitude);
+            final var z = ((1.0 - Constants.EARTH_ECCENTRICITY * Constants.EARTH_ECCENTRICITY) * re + height)
+                    * Math.sin(latitude);
+
+            // expected velocity using (2.73)
+            final var cne = CoordinateTransformation.nedToEcefMatrix(latitude, longitude);
+            final var vEbe = cne.multiplyAndReturnNew(Matrix.newFromArray(new double[]{vn, ve, vd}));
+
+            // results are exactly equal
+            assertEquals(x, ecefPosition.getX(), 0.0);
+            assertEquals(y, ecefPosition.getY(), 0.0);
+            assertEquals(z, ecefPosition.getZ(), 0.0);
+            assertEquals(vEbe.getElementAtIndex(0), ecefVelocity.getVx(), 0.0);
+            assertEquals(vEbe.getElementAtIndex(1), ecefVelocity.getVy(), 0.0);
+            assertEquals(vEbe.getElementAtIndex(2), ecefVelocity.getVz(), 0.0);
+        }
+    }
+
+    @Test
+    void testConvertNEDtoECEFBulk() {
+        final var randomizer = new UniformRandomizer();
+        final var offset = randomizer.nextInt(0, 10);
+        final var length = offset + BULK_POINTS;
+
+        final var latitude = new double[length];
+        final var longitude = new double[length];
+        final var height = new double[length];
+        final var vn = new double[length];
+        final var ve = new double[length];
+        final var vd = new double[length];
+        for (var i = offset; i < length; i++) {
+            latitude[i] = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+            longitude[i] = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES));
+            height[i] = randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT);
+            vn[i] = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            ve[i] = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+            vd[i] = randomizer.nextDouble(MIN_VELOCITY_VALUE, MAX_VELOCITY_VALUE);
+        }
+
+        final var x1 = new double[length];
+        final var y1 = new double[length];
+        final var z1 = new double[length];
+        final var vx1 = new double[length];
+        final var vy1 = new double[length];
+        final var vz1 = new double[length];
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(latitude, longitude, height, vn, ve, vd, offset,
+                BULK_POINTS, x1, y1, z1, vx1, vy1, vz1);
+
+        // check that results are exactly equal to single point conversion
+        final var ecefPosition = new ECEFPosition();
+        final var ecefVelocity = new ECEFVelocity();
+        for (var i = offset; i < length; i++) {
+            NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(latitude[i], longitude[i], height[i],
+                    vn[i], ve[i], vd[i], ecefPosition, ecefVelocity);
+            assertEquals(ecefPosition.getX(), x1[i], 0.0);
+            assertEquals(ecefPosition.getY(), y1[i], 0.0);
+            assertEquals(ecefPosition.getZ(), z1[i], 0.0);
+            assertEquals(ecefVelocity.getVx(), vx1[i], 0.0);
+            assertEquals(ecefVelocity.getVy(), vy1[i], 0.0);
+            assertEquals(ecefVelocity.getVz(), vz1[i], 0.0);
+        }
+
+        // values before offset are not modified
+        for (var i = 0; i < offset; i++) {
+            assertEquals(0.0, x1[i], 0.0);
+            assertEquals(0.0, vx1[i], 0.0);
+        }
+
+        // parallel conversion produces exactly the same results
+        final var x2 = new double[length];
+        final var y2 = new double[length];
+        final var z2 = new double[length];
+        final var vx2 = new double[length];
+        final var vy2 = new double[length];
+        final var vz2 = new double[length];
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(latitude, longitude, height, vn, ve, vd, offset,
+                BULK_POINTS, x2, y2, z2, vx2, vy2, vz2, true);
+        assertArrayEquals(x1, x2, 0.0);
+        assertArrayEquals(y1, y2, 0.0);
+        assertArrayEquals(z1, z2, 0.0);
+        assertArrayEquals(vx1, vx2, 0.0);
+        assertArrayEquals(vy1, vy2, 0.0);
+        assertArrayEquals(vz1, vz2, 0.0);
+
+        // position only conversion, either sequential or parallel
+        final var x3 = new double[length];
+        final var y3 = new double[length];
+        final var z3 = new double[length];
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(latitude, longitude, height, offset, BULK_POINTS,
+                x3, y3, z3);
+        assertArrayEquals(x1, x3, 0.0);
+        assertArrayEquals(y1, y3, 0.0);
+        assertArrayEquals(z1, z3, 0.0);
+
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(latitude, longitude, height, offset, BULK_POINTS,
+                x3, y3, z3, true);
+        assertArrayEquals(x1, x3, 0.0);
+        assertArrayEquals(y1, y3, 0.0);
+        assertArrayEquals(z1, z3, 0.0);
+
+        // Force IllegalArgumentException
+        final var small = new double[length - 1];
+        assertThrows(IllegalArgumentException.class,
+                () -> NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(latitude, longitude, height, -1,
+                        BULK_POINTS, x3, y3, z3));
+        assertThrows(IllegalArgumentException.class,
+                () -> NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(latitude, longitude, height, offset,
+                        -1, x3, y3, z3));
+        assertThrows(IllegalArgumentException.class,
+                () -> NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(latitude, longitude, height, offset,
+                        BULK_POINTS, small, y3, z3));
+        assertThrows(IllegalArgumentException.class,
+                () -> NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(latitude, longitude, height, vn, ve, vd,
+                        offset, BULK_POINTS, x1, y1, z1, vx1, vy1, small, true));
+    }
 }
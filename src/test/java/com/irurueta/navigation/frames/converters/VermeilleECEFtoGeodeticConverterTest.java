@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.frames.converters;
+
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VermeilleECEFtoGeodeticConverterTest {
+
+    private static final double[] HEIGHTS = {-10000.0, -100.0, 0.0, 100.0, 10000.0, 1e5, 1e6, 2.02e7, 3.6e7};
+
+    private static final double LONGITUDE = Math.toRadians(-3.7);
+
+    private static final double ABSOLUTE_ERROR = 1e-7;
+
+    private static final int LATITUDE_STEPS = 1800;
+
+    @Test
+    void testGetMethod() {
+        final var converter = new VermeilleECEFtoGeodeticConverter();
+        assertEquals(GeodeticConversionMethod.VERMEILLE, converter.getMethod());
+    }
+
+    @Test
+    void testConvert() {
+        final var converter = new VermeilleECEFtoGeodeticConverter();
+        final var ecefPosition = new ECEFPosition();
+        final var ecefVelocity = new ECEFVelocity();
+        final var result = new NEDPosition();
+        for (final var height : HEIGHTS) {
+            for (var i = 0; i <= LATITUDE_STEPS; i++) {
+                final var latitude = Math.toRadians(-90.0 + 180.0 * i / LATITUDE_STEPS);
+                NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(new NEDPosition(latitude, LONGITUDE, height),
+                        new NEDVelocity(), ecefPosition, ecefVelocity);
+
+                converter.convert(ecefPosition.getX(), ecefPosition.getY(), ecefPosition.getZ(), result);
+
+                // latitude error is checked as a distance along the meridian
+                final var radius = ECEFtoGeodeticConverter.EARTH_EQUATORIAL_RADIUS_WGS84 + height;
+                assertEquals(latitude * radius, result.getLatitude() * radius, ABSOLUTE_ERROR);
+                assertEquals(height, result.getHeight(), ABSOLUTE_ERROR);
+                if (Math.abs(Math.cos(latitude)) > 1e-9) {
+                    assertEquals(LONGITUDE, result.getLongitude(), 1e-15);
+                }
+            }
+        }
+    }
+}
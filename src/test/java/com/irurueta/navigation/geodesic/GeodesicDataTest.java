@@ -221,4 +221,26 @@ class GeodesicDataTest {
         //check
         assertEquals(value, data.getAreaS12(), 0.0);
     }
+
+    @Test
+    void testReset() {
+        final var data = Geodesic.WGS84.inverse(40.0, -3.0, 41.0, 2.0, GeodesicMask.ALL);
+        assertEquals(40.0, data.getLat1(), 0.0);
+
+        data.reset();
+
+        //check
+        assertEquals(Double.NaN, data.getLat1(), 0.0);
+        assertEquals(Double.NaN, data.getLon1(), 0.0);
+        assertEquals(Double.NaN, data.getAzi1(), 0.0);
+        assertEquals(Double.NaN, data.getLat2(), 0.0);
+        assertEquals(Double.NaN, data.getLon2(), 0.0);
+        assertEquals(Double.NaN, data.getAzi2(), 0.0);
+        assertEquals(Double.NaN, data.getS12(), 0.0);
+        assertEquals(Double.NaN, data.getA12(), 0.0);
+        assertEquals(Double.NaN, data.getM12(), 0.0);
+        assertEquals(Double.NaN, data.getScaleM12(), 0.0);
+        assertEquals(Double.NaN, data.getScaleM21(), 0.0);
+        assertEquals(Double.NaN, data.getAreaS12(), 0.0);
+    }
 }
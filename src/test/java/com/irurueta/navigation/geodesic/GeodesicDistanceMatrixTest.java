@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.geodesic;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeodesicDistanceMatrixTest {
+
+    private static final double MIN_LATITUDE_DEGREES = -90.0;
+    private static final double MAX_LATITUDE_DEGREES = 90.0;
+
+    private static final double MIN_LONGITUDE_DEGREES = -180.0;
+    private static final double MAX_LONGITUDE_DEGREES = 180.0;
+
+    private static final int TILE_SIZE = 8;
+
+    // sizes that are not multiples of tile size
+    private static final int ROWS = 37;
+    private static final int COLUMNS = 29;
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void testConstructor() throws GeodesicException {
+        var matrix = new GeodesicDistanceMatrix();
+        assertSame(Geodesic.WGS84, matrix.getGeodesic());
+        assertEquals(GeodesicDistanceMatrix.DEFAULT_TILE_SIZE, matrix.getTileSize());
+
+        final var geodesic = new Geodesic(Constants.EARTH_EQUATORIAL_RADIUS_WGS84, 1.0 / 150.0);
+        matrix = new GeodesicDistanceMatrix(geodesic);
+        assertSame(geodesic, matrix.getGeodesic());
+        assertEquals(GeodesicDistanceMatrix.DEFAULT_TILE_SIZE, matrix.getTileSize());
+
+        matrix = new GeodesicDistanceMatrix(geodesic, TILE_SIZE);
+        assertSame(geodesic, matrix.getGeodesic());
+        assertEquals(TILE_SIZE, matrix.getTileSize());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new GeodesicDistanceMatrix(null));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new GeodesicDistanceMatrix(geodesic, 0));
+    }
+
+    @Test
+    void testCompute() {
+        final var randomizer = new UniformRandomizer();
+        final var originLat = randomLatitudes(randomizer, ROWS);
+        final var originLon = randomLongitudes(randomizer, ROWS);
+        final var destinationLat = randomLatitudes(randomizer, COLUMNS);
+        final var destinationLon = randomLongitudes(randomizer, COLUMNS);
+
+        // include poles, equator and coincident points
+        originLat[0] = 90.0;
+        originLat[1] = -90.0;
+        originLat[2] = 0.0;
+        destinationLat[0] = 0.0;
+        destinationLat[1] = originLat[3];
+        destinationLon[1] = originLon[3];
+        destinationLat[2] = -originLat[4];
+
+        final var matrix = new GeodesicDistanceMatrix(Geodesic.WGS84, TILE_SIZE);
+        final var result = new double[ROWS * COLUMNS];
+        matrix.compute(originLat, originLon, destinationLat, destinationLon, result);
+
+        for (var i = 0; i < ROWS; i++) {
+            for (var j = 0; j < COLUMNS; j++) {
+                final var expected = Geodesic.WGS84.inverse(originLat[i], originLon[i],
+                        destinationLat[j], destinationLon[j]).getS12();
+                assertEquals(expected, result[i * COLUMNS + j], 0.0);
+            }
+        }
+
+        // parallel results are exactly the same
+        final var result2 = new double[ROWS * COLUMNS + 1];
+        matrix.compute(originLat, originLon, destinationLat, destinationLon, result2, true);
+        for (var k = 0; k < result.length; k++) {
+            assertEquals(result[k], result2[k], 0.0);
+        }
+        assertEquals(0.0, result2[ROWS * COLUMNS], 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> matrix.compute(originLat, destinationLon,
+                destinationLat, destinationLon, result));
+        assertThrows(IllegalArgumentException.class, () -> matrix.compute(originLat, originLon,
+                destinationLat, originLon, result));
+        assertThrows(IllegalArgumentException.class, () -> matrix.compute(originLat, originLon,
+                destinationLat, destinationLon, new double[ROWS * COLUMNS - 1]));
+    }
+
+    @Test
+    void testComputeBuffer() throws IOException {
+        final var randomizer = new UniformRandomizer();
+        final var originLat = randomLatitudes(randomizer, ROWS);
+        final var originLon = randomLongitudes(randomizer, ROWS);
+        final var destinationLat = randomLatitudes(randomizer, COLUMNS);
+        final var destinationLon = randomLongitudes(randomizer, COLUMNS);
+
+        final var matrix = new GeodesicDistanceMatrix(Geodesic.WGS84, TILE_SIZE);
+        final var expected = new double[ROWS * COLUMNS];
+        matrix.compute(originLat, originLon, destinationLat, destinationLon, expected);
+
+        final var buffer = DoubleBuffer.allocate(ROWS * COLUMNS);
+        buffer.position(3);
+        matrix.compute(originLat, originLon, destinationLat, destinationLon, buffer);
+        assertEquals(3, buffer.position());
+        assertArrayEquals(expected, buffer.array(), 0.0);
+
+        // store into memory-mapped file
+        final var path = folder.resolve("matrix.bin");
+        try (final var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            final var mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) ROWS * COLUMNS * Double.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            matrix.compute(originLat, originLon, destinationLat, destinationLon, mapped, true);
+        }
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            assertEquals(ROWS * COLUMNS, mapped.limit());
+            for (var k = 0; k < expected.length; k++) {
+                assertEquals(expected[k], mapped.get(k), 0.0);
+            }
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> matrix.compute(originLat, originLon,
+                destinationLat, destinationLon, DoubleBuffer.allocate(ROWS * COLUMNS - 1)));
+    }
+
+    @Test
+    void testComputeSymmetric() {
+        final var randomizer = new UniformRandomizer();
+        final var lat = randomLatitudes(randomizer, ROWS);
+        final var lon = randomLongitudes(randomizer, ROWS);
+        lat[0] = 90.0;
+        lat[1] = -lat[2];
+
+        final var matrix = new GeodesicDistanceMatrix(Geodesic.WGS84, TILE_SIZE);
+        final var result = new double[ROWS * ROWS];
+        matrix.computeSymmetric(lat, lon, result);
+
+        for (var i = 0; i < ROWS; i++) {
+            for (var j = i; j < ROWS; j++) {
+                final var expected = Geodesic.WGS84.inverse(lat[i], lon[i], lat[j], lon[j]).getS12();
+                assertEquals(expected, result[i * ROWS + j], 0.0);
+                assertEquals(expected, result[j * ROWS + i], 0.0);
+            }
+            assertEquals(0.0, result[i * ROWS + i], 0.0);
+        }
+
+        // parallel results are exactly the same
+        final var result2 = new double[ROWS * ROWS];
+        matrix.computeSymmetric(lat, lon, result2, true);
+        assertArrayEquals(result, result2, 0.0);
+
+        final var buffer = DoubleBuffer.allocate(ROWS * ROWS);
+        matrix.computeSymmetric(lat, lon, buffer);
+        assertArrayEquals(result, buffer.array(), 0.0);
+
+        final var buffer2 = DoubleBuffer.allocate(ROWS * ROWS);
+        matrix.computeSymmetric(lat, lon, buffer2, true);
+        assertArrayEquals(result, buffer2.array(), 0.0);
+
+        // symmetric matrix is the same as the full matrix up to the symmetry of geodesics
+        final var full = new double[ROWS * ROWS];
+        matrix.compute(lat, lon, lat, lon, full);
+        for (var i = 0; i < ROWS; i++) {
+            for (var j = i; j < ROWS; j++) {
+                assertEquals(full[i * ROWS + j], result[i * ROWS + j], 0.0);
+                assertEquals(full[j * ROWS + i], result[j * ROWS + i], 1e-8);
+            }
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> matrix.computeSymmetric(lat, new double[1], result));
+        assertThrows(IllegalArgumentException.class, () -> matrix.computeSymmetric(lat, lon,
+                new double[ROWS * ROWS - 1]));
+        assertThrows(IllegalArgumentException.class, () -> matrix.computeSymmetric(lat, lon,
+                DoubleBuffer.allocate(ROWS * ROWS - 1)));
+    }
+
+    @Test
+    void testEmpty() {
+        final var matrix = new GeodesicDistanceMatrix();
+        final var empty = new double[0];
+        final var points = new double[]{10.0, 20.0};
+
+        matrix.compute(empty, empty, points, points, empty, true);
+        matrix.compute(points, points, empty, empty, empty);
+        matrix.computeSymmetric(empty, empty, empty, true);
+    }
+
+    private static double[] randomLatitudes(final UniformRandomizer randomizer, final int n) {
+        final var result = new double[n];
+        for (var i = 0; i < n; i++) {
+            result[i] = randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES);
+        }
+        return result;
+    }
+
+    private static double[] randomLongitudes(final UniformRandomizer randomizer, final int n) {
+        final var result = new double[n];
+        for (var i = 0; i < n; i++) {
+            result[i] = randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES);
+        }
+        return result;
+    }
+}
@@ -15,14 +15,23 @@
  */
 package com.irurueta.navigation.geodesic;
 
+import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GeodesicLineTest {
 
     private static final double ABSOLUTE_ERROR = 1e-9;
 
+    private static final double SAMPLE_ERROR = 1e-12;
+
+    private static final int SAMPLES = 1001;
+
+    private static final int TIMES = 50;
+
     @Test
     void testConstructor() {
         //define polygon around Plaça Sant Jaume, Barcelona using the following coordinates:
@@ -120,6 +129,22 @@ class GeodesicLineTest {
         assertEquals(data1.getScaleM12(), data1d.getScaleM12(), ABSOLUTE_ERROR);
         assertEquals(data1.getScaleM21(), data1d.getScaleM21(), ABSOLUTE_ERROR);
         assertEquals(data1.getAreaS12(), data1d.getAreaS12(), ABSOLUTE_ERROR);
+
+        final var data1e = new GeodesicData();
+        line.position(false, data1.getS12(), GeodesicMask.STANDARD, data1e);
+
+        assertEquals(data1d.getLat1(), data1e.getLat1(), 0.0);
+        assertEquals(data1d.getLon1(), data1e.getLon1(), 0.0);
+        assertEquals(data1d.getAzi1(), data1e.getAzi1(), 0.0);
+        assertEquals(data1d.getLat2(), data1e.getLat2(), 0.0);
+        assertEquals(data1d.getLon2(), data1e.getLon2(), 0.0);
+        assertEquals(data1d.getAzi2(), data1e.getAzi2(), 0.0);
+        assertEquals(data1d.getS12(), data1e.getS12(), 0.0);
+        assertEquals(data1d.getA12(), data1e.getA12(), 0.0);
+        assertEquals(data1d.getM12(), data1e.getM12(), 0.0);
+        assertEquals(data1d.getScaleM12(), data1e.getScaleM12(), 0.0);
+        assertEquals(data1d.getScaleM21(), data1e.getScaleM21(), 0.0);
+        assertEquals(data1d.getAreaS12(), data1e.getAreaS12(), 0.0);
     }
 
     @Test
@@ -296,4 +321,144 @@ class GeodesicLineTest {
         assertTrue(line.capabilities(GeodesicMask.AZIMUTH));
         assertTrue(line.capabilities(GeodesicMask.LONG_UNROLL));
     }
+
+    @Test
+    void testSample() throws GeodesicException {
+        final var randomizer = new UniformRandomizer();
+        final var geodesics = new Geodesic[]{
+                Geodesic.WGS84,
+                // flattening large enough to require Newton correction of distances
+                new Geodesic(Constants.EARTH_EQUATORIAL_RADIUS_WGS84, 1.0 / 50.0)
+        };
+
+        for (final var geodesic : geodesics) {
+            for (var t = 0; t < TIMES; t++) {
+                final var line = new GeodesicLine(geodesic, randomizer.nextDouble(-90.0, 90.0),
+                        randomizer.nextDouble(-180.0, 180.0), randomizer.nextDouble(-180.0, 180.0));
+                final var s13 = randomizer.nextDouble(-2e7, 2e7);
+                final var a13 = randomizer.nextDouble(-360.0, 360.0);
+
+                final var lat = new double[SAMPLES];
+                final var lon = new double[SAMPLES];
+                final var azi = new double[SAMPLES];
+                line.sample(s13, SAMPLES, lat, lon, azi);
+                assertSamples(line, false, s13, false, lat, lon, azi);
+
+                line.arcSample(a13, SAMPLES, lat, lon, azi);
+                assertSamples(line, true, a13, false, lat, lon, azi);
+
+                line.sample(false, s13, SAMPLES, true, lat, lon, azi);
+                assertSamples(line, false, s13, true, lat, lon, azi);
+
+                line.sample(true, a13, SAMPLES, true, lat, lon, azi);
+                assertSamples(line, true, a13, true, lat, lon, azi);
+            }
+        }
+    }
+
+    @Test
+    void testSampleArrays() {
+        final var line = Geodesic.WGS84.inverseLine(41.382643, 2.176700, 40.416775, -3.703790);
+        final var s13 = line.getDistance();
+
+        // first and last waypoints are the line end points
+        final var lat = new double[SAMPLES + 1];
+        final var lon = new double[SAMPLES + 1];
+        final var azi = new double[SAMPLES + 1];
+        lat[SAMPLES] = lon[SAMPLES] = azi[SAMPLES] = 1.0;
+        line.sample(s13, SAMPLES, lat, lon, azi);
+        assertEquals(41.382643, lat[0], ABSOLUTE_ERROR);
+        assertEquals(2.176700, lon[0], ABSOLUTE_ERROR);
+        assertEquals(line.getAzimuth(), azi[0], ABSOLUTE_ERROR);
+        assertEquals(40.416775, lat[SAMPLES - 1], ABSOLUTE_ERROR);
+        assertEquals(-3.703790, lon[SAMPLES - 1], ABSOLUTE_ERROR);
+        assertEquals(1.0, lat[SAMPLES], 0.0);
+        assertEquals(1.0, lon[SAMPLES], 0.0);
+        assertEquals(1.0, azi[SAMPLES], 0.0);
+
+        // quantities without array are not computed
+        final var lat2 = new double[SAMPLES];
+        line.sample(false, s13, SAMPLES, false, lat2, null, null);
+        assertArrayEquals(lat2, Arrays.copyOf(lat, SAMPLES), 0.0);
+
+        // a single waypoint is point 1
+        line.sample(s13, 1, lat, lon, azi);
+        assertEquals(41.382643, lat[0], ABSOLUTE_ERROR);
+        assertEquals(2.176700, lon[0], ABSOLUTE_ERROR);
+
+        // distance cannot be sampled without DISTANCE_IN capability
+        final var arcLine = new GeodesicLine(Geodesic.WGS84, 10.0, 20.0, 30.0, GeodesicMask.LATITUDE);
+        arcLine.sample(1000.0, SAMPLES, lat, lon, azi);
+        for (var i = 0; i < SAMPLES; i++) {
+            assertEquals(Double.NaN, lat[i], 0.0);
+            assertEquals(Double.NaN, lon[i], 0.0);
+            assertEquals(Double.NaN, azi[i], 0.0);
+        }
+        arcLine.arcSample(1.0, SAMPLES, lat, lon, azi);
+        for (var i = 0; i < SAMPLES; i++) {
+            assertEquals(arcLine.arcPosition(i / (SAMPLES - 1.0)).getLat2(), lat[i], SAMPLE_ERROR);
+            assertEquals(Double.NaN, lon[i], 0.0);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> line.sample(s13, 0, lat, lon, azi));
+        assertThrows(IllegalArgumentException.class, () -> line.sample(s13, SAMPLES, new double[1], lon,
+                azi));
+        assertThrows(IllegalArgumentException.class, () -> line.arcSample(1.0, SAMPLES, lat,
+                new double[1], azi));
+        assertThrows(IllegalArgumentException.class, () -> line.sample(false, s13, SAMPLES, false, lat,
+                lon, new double[1]));
+    }
+
+    @Test
+    void testSampleListener() {
+        final var line = new GeodesicLine(Geodesic.WGS84, 41.382643, 2.176700, 120.0);
+
+        final var lat = new double[SAMPLES];
+        final var lon = new double[SAMPLES];
+        final var azi = new double[SAMPLES];
+        line.sample(false, 1e7, SAMPLES, true, lat, lon, azi);
+
+        final var count = new int[1];
+        line.sample(false, 1e7, SAMPLES, true, (l, index, lat2, lon2, azi2) -> {
+            assertSame(line, l);
+            assertEquals(count[0], index);
+            assertEquals(lat[index], lat2, 0.0);
+            assertEquals(lon[index], lon2, 0.0);
+            assertEquals(azi[index], azi2, 0.0);
+            count[0]++;
+        });
+        assertEquals(SAMPLES, count[0]);
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> line.sample(true, 1.0, SAMPLES, false,
+                (GeodesicWaypointListener) null));
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> line.sample(true, 1.0, 0, false,
+                (l, index, lat2, lon2, azi2) -> fail()));
+    }
+
+    private static void assertSamples(final GeodesicLine line, final boolean arcmode, final double s13A13,
+                                      final boolean unroll, final double[] lat, final double[] lon,
+                                      final double[] azi) {
+        final var outmask = GeodesicMask.STANDARD | (unroll ? GeodesicMask.LONG_UNROLL : 0);
+        for (var i = 0; i < SAMPLES; i++) {
+            final var value = i == SAMPLES - 1 ? s13A13 : i * (s13A13 / (SAMPLES - 1));
+            final var data = line.position(arcmode, value, outmask);
+            assertEquals(data.getLat2(), lat[i], SAMPLE_ERROR);
+
+            // azimuths and longitudes are ill-conditioned near the poles, hence their
+            // differences are scaled by the cosine of latitude (i.e. horizontal displacements)
+            final var cosLat = Math.cos(Math.toRadians(data.getLat2()));
+            final var aziDiff = Math.abs(GeoMath.angDiff(data.getAzi2(), azi[i]).getFirst());
+            assertEquals(0.0, aziDiff * cosLat, SAMPLE_ERROR);
+            // longitudes close to the antimeridian might wrap differently
+            final var lonDiff = Math.abs(GeoMath.angDiff(data.getLon2(), lon[i]).getFirst());
+            assertEquals(0.0, lonDiff * cosLat, SAMPLE_ERROR);
+            if (unroll) {
+                assertEquals(0.0, Math.abs(data.getLon2() - lon[i]) * cosLat, SAMPLE_ERROR);
+            }
+        }
+    }
 }
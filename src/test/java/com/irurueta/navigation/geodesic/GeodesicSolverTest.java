@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.geodesic;
+
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeodesicSolverTest {
+
+    private static final double MIN_LATITUDE_DEGREES = -90.0;
+    private static final double MAX_LATITUDE_DEGREES = 90.0;
+
+    private static final double MIN_LONGITUDE_DEGREES = -540.0;
+    private static final double MAX_LONGITUDE_DEGREES = 540.0;
+
+    private static final double MIN_DISTANCE = -2e7;
+    private static final double MAX_DISTANCE = 2e7;
+
+    private static final int TIMES = 5000;
+
+    private static final int[] MASKS = {
+            GeodesicMask.STANDARD,
+            GeodesicMask.DISTANCE,
+            GeodesicMask.AZIMUTH,
+            GeodesicMask.ALL,
+            GeodesicMask.ALL | GeodesicMask.LONG_UNROLL
+    };
+
+    @Test
+    void testConstructor() throws GeodesicException {
+        var solver = new GeodesicSolver();
+        assertSame(Geodesic.WGS84, solver.getGeodesic());
+
+        final var geodesic = new Geodesic(Constants.EARTH_EQUATORIAL_RADIUS_WGS84, 0.0);
+        solver = new GeodesicSolver(geodesic);
+        assertSame(geodesic, solver.getGeodesic());
+
+        // Force NullPointerException
+        assertThrows(NullPointerException.class, () -> new GeodesicSolver(null));
+    }
+
+    @Test
+    void testInverse() {
+        final var randomizer = new UniformRandomizer();
+        final var solver = new GeodesicSolver();
+        final var result = new GeodesicData();
+
+        for (var t = 0; t < TIMES; t++) {
+            final var lat1 = randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES);
+            final var lon1 = randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES);
+            final var lat2 = randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES);
+            final var lon2 = randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES);
+
+            solver.inverse(lat1, lon1, lat2, lon2, result);
+            assertEqualData(Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2), result);
+
+            // results are the same regardless of previously computed ones
+            for (final var mask : MASKS) {
+                solver.inverse(lat1, lon1, lat2, lon2, mask, result);
+                assertEqualData(Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2, mask), result);
+            }
+
+            assertEquals(Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2).getS12(),
+                    solver.distance(lat1, lon1, lat2, lon2), 0.0);
+        }
+    }
+
+    @Test
+    void testInverseSpecialCases() {
+        final var solver = new GeodesicSolver();
+        final var result = new GeodesicData();
+
+        // coincident, meridional, equatorial and nearly antipodal points
+        final double[][] points = {
+                {0.0, 0.0, 0.0, 0.0},
+                {10.0, 20.0, 10.0, 20.0},
+                {-30.0, 45.0, 60.0, 45.0},
+                {0.0, 0.0, 0.0, 179.0},
+                {0.0, 0.0, 0.0, 179.5},
+                {0.0, 0.0, 0.5, 179.7},
+                {-45.0, 0.0, 45.0, 179.99},
+                {90.0, 0.0, -90.0, 0.0},
+                {Double.NaN, 0.0, 10.0, 10.0}
+        };
+        for (final var p : points) {
+            for (final var mask : MASKS) {
+                solver.inverse(p[0], p[1], p[2], p[3], mask, result);
+                assertEqualData(Geodesic.WGS84.inverse(p[0], p[1], p[2], p[3], mask), result);
+            }
+        }
+    }
+
+    @Test
+    void testDirect() throws GeodesicException {
+        final var randomizer = new UniformRandomizer();
+        final var geodesic = new Geodesic(Constants.EARTH_EQUATORIAL_RADIUS_WGS84, 1.0 / 150.0);
+        final var solver = new GeodesicSolver(geodesic);
+        final var result = new GeodesicData();
+
+        for (var t = 0; t < TIMES; t++) {
+            final var lat1 = randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES);
+            final var lon1 = randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES);
+            final var azi1 = randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES);
+            final var s12 = randomizer.nextDouble(MIN_DISTANCE, MAX_DISTANCE);
+            final var a12 = Math.toDegrees(s12 / Constants.EARTH_EQUATORIAL_RADIUS_WGS84);
+
+            solver.direct(lat1, lon1, azi1, s12, result);
+            assertEqualData(geodesic.direct(lat1, lon1, azi1, s12), result);
+
+            solver.arcDirect(lat1, lon1, azi1, a12, result);
+            assertEqualData(geodesic.arcDirect(lat1, lon1, azi1, a12), result);
+
+            for (final var mask : MASKS) {
+                solver.direct(lat1, lon1, azi1, false, s12, mask, result);
+                assertEqualData(geodesic.direct(lat1, lon1, azi1, false, s12, mask), result);
+
+                solver.direct(lat1, lon1, azi1, true, a12, mask, result);
+                assertEqualData(geodesic.direct(lat1, lon1, azi1, true, a12, mask), result);
+            }
+        }
+    }
+
+    private static void assertEqualData(final GeodesicData expected, final GeodesicData result) {
+        assertEquals(expected.getLat1(), result.getLat1(), 0.0);
+        assertEquals(expected.getLon1(), result.getLon1(), 0.0);
+        assertEquals(expected.getAzi1(), result.getAzi1(), 0.0);
+        assertEquals(expected.getLat2(), result.getLat2(), 0.0);
+        assertEquals(expected.getLon2(), result.getLon2(), 0.0);
+        assertEquals(expected.getAzi2(), result.getAzi2(), 0.0);
+        assertEquals(expected.getS12(), result.getS12(), 0.0);
+        assertEquals(expected.getA12(), result.getA12(), 0.0);
+        assertEquals(expected.getM12(), result.getM12(), 0.0);
+        assertEquals(expected.getScaleM12(), result.getScaleM12(), 0.0);
+        assertEquals(expected.getScaleM21(), result.getScaleM21(), 0.0);
+        assertEquals(expected.getAreaS12(), result.getAreaS12(), 0.0);
+    }
+}
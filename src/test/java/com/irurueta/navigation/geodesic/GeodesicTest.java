@@ -17,6 +17,9 @@ package com.irurueta.navigation.geodesic;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GeodesicTest {
@@ -413,6 +416,136 @@ class GeodesicTest {
         assertTrue(numValid > 0);
     }
 
+    @Test
+    void testBulkInverse() {
+        final var random = new Random();
+        final var offset = 3;
+        final var length = 3 * Geodesic.DEFAULT_GEODESICS_PER_TASK + 7;
+        final var n = offset + length;
+        final var lat1 = new double[n];
+        final var lon1 = new double[n];
+        final var lat2 = new double[n];
+        final var lon2 = new double[n];
+        for (var i = 0; i < n; i++) {
+            lat1[i] = 180.0 * random.nextDouble() - 90.0;
+            lon1[i] = 360.0 * random.nextDouble() - 180.0;
+            lat2[i] = 180.0 * random.nextDouble() - 90.0;
+            lon2[i] = 360.0 * random.nextDouble() - 180.0;
+        }
+
+        final var outmask = GeodesicMask.DISTANCE | GeodesicMask.AZIMUTH | GeodesicMask.AREA;
+        final var s12 = new double[n];
+        final var azi1 = new double[n];
+        final var azi2 = new double[n];
+        final var areaS12 = new double[n];
+        Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2, offset, length, outmask, s12, azi1, azi2, areaS12);
+
+        for (var i = 0; i < n; i++) {
+            if (i < offset) {
+                assertEquals(0.0, s12[i], 0.0);
+                assertEquals(0.0, azi1[i], 0.0);
+                assertEquals(0.0, azi2[i], 0.0);
+                assertEquals(0.0, areaS12[i], 0.0);
+            } else {
+                final var data = Geodesic.WGS84.inverse(lat1[i], lon1[i], lat2[i], lon2[i], outmask);
+                assertEquals(data.getS12(), s12[i], 0.0);
+                assertEquals(data.getAzi1(), azi1[i], 0.0);
+                assertEquals(data.getAzi2(), azi2[i], 0.0);
+                assertEquals(data.getAreaS12(), areaS12[i], 0.0);
+            }
+        }
+
+        // parallel results are exactly the same
+        final var s12b = new double[n];
+        final var azi1b = new double[n];
+        final var azi2b = new double[n];
+        final var areaS12b = new double[n];
+        Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2, offset, length, outmask, s12b, azi1b, azi2b, areaS12b,
+                true);
+        assertArrayEquals(s12, s12b, 0.0);
+        assertArrayEquals(azi1, azi1b, 0.0);
+        assertArrayEquals(azi2, azi2b, 0.0);
+        assertArrayEquals(areaS12, areaS12b, 0.0);
+
+        // arrays of quantities not requested are ignored
+        final var s12c = new double[n];
+        Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2, offset, length, GeodesicMask.DISTANCE, s12c, null, null,
+                null, true);
+        assertArrayEquals(s12, s12c, 0.0);
+
+        final var azi1c = new double[n];
+        final var azi2c = new double[n];
+        Arrays.fill(s12c, -1.0);
+        Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2, offset, length, GeodesicMask.AZIMUTH, s12c, azi1c, azi2c,
+                null);
+        assertArrayEquals(azi1, azi1c, 0.0);
+        assertArrayEquals(azi2, azi2c, 0.0);
+        for (final var value : s12c) {
+            assertEquals(-1.0, value, 0.0);
+        }
+
+        // Force IllegalArgumentException
+        final var small = new double[n - 1];
+        assertThrows(IllegalArgumentException.class, () -> Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2,
+                -1, length, outmask, s12, azi1, azi2, areaS12));
+        assertThrows(IllegalArgumentException.class, () -> Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2,
+                offset, -1, outmask, s12, azi1, azi2, areaS12));
+        assertThrows(IllegalArgumentException.class, () -> Geodesic.WGS84.inverse(small, lon1, lat2, lon2,
+                offset, length, outmask, s12, azi1, azi2, areaS12));
+        assertThrows(IllegalArgumentException.class, () -> Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2,
+                offset, length, outmask, s12, azi1, small, areaS12));
+        assertThrows(IllegalArgumentException.class, () -> Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2,
+                offset, length, outmask, s12, azi1, azi2, null));
+        assertThrows(IllegalArgumentException.class, () -> Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2,
+                offset, length, GeodesicMask.DISTANCE, null, null, null, null));
+    }
+
+    @Test
+    void testBulkInverseFromOrigin() {
+        final var random = new Random();
+        final var length = 3 * Geodesic.DEFAULT_GEODESICS_PER_TASK + 7;
+        final var lat1 = 180.0 * random.nextDouble() - 90.0;
+        final var lon1 = 360.0 * random.nextDouble() - 180.0;
+        final var lat2 = new double[length];
+        final var lon2 = new double[length];
+        for (var i = 0; i < length; i++) {
+            lat2[i] = 180.0 * random.nextDouble() - 90.0;
+            lon2[i] = 360.0 * random.nextDouble() - 180.0;
+        }
+
+        final var outmask = GeodesicMask.ALL;
+        final var s12 = new double[length];
+        final var azi1 = new double[length];
+        final var azi2 = new double[length];
+        final var areaS12 = new double[length];
+        Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2, 0, length, outmask, s12, azi1, azi2, areaS12);
+
+        for (var i = 0; i < length; i++) {
+            final var data = Geodesic.WGS84.inverse(lat1, lon1, lat2[i], lon2[i], outmask);
+            assertEquals(data.getS12(), s12[i], 0.0);
+            assertEquals(data.getAzi1(), azi1[i], 0.0);
+            assertEquals(data.getAzi2(), azi2[i], 0.0);
+            assertEquals(data.getAreaS12(), areaS12[i], 0.0);
+        }
+
+        // parallel results are exactly the same
+        final var s12b = new double[length];
+        final var azi1b = new double[length];
+        final var azi2b = new double[length];
+        final var areaS12b = new double[length];
+        Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2, 0, length, outmask, s12b, azi1b, azi2b, areaS12b, true);
+        assertArrayEquals(s12, s12b, 0.0);
+        assertArrayEquals(azi1, azi1b, 0.0);
+        assertArrayEquals(azi2, azi2b, 0.0);
+        assertArrayEquals(areaS12, areaS12b, 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2,
+                1, length, outmask, s12, azi1, azi2, areaS12));
+        assertThrows(IllegalArgumentException.class, () -> Geodesic.WGS84.inverse(lat1, lon1, null, lon2,
+                0, length, outmask, s12, azi1, azi2, areaS12));
+    }
+
     @Test
     void testInverseLine() {
         //define polygon around Plaça Sant Jaume, Barcelona using the following coordinates:
@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -118,6 +119,27 @@ class GNSSBiasesGeneratorTest {
         }
     }
 
+    @Test
+    void testGetRangeBiasVariance() {
+        final var config = generateConfig();
+        final var sisSD = config.getSISErrorSD();
+        final var ionoSD = config.getZenithIonosphereErrorSD();
+        final var tropSD = config.getZenithTroposphereErrorSD();
+
+        // at zenith, errors are equal to zenith errors
+        assertEquals(sisSD * sisSD + ionoSD * ionoSD + tropSD * tropSD,
+                GNSSBiasesGenerator.getRangeBiasVariance(Math.PI / 2.0, config), ABSOLUTE_ERROR);
+
+        // variance increases at lower elevations
+        final var maskAngle = Math.toRadians(config.getMaskAngleDegrees());
+        final var variance = GNSSBiasesGenerator.getRangeBiasVariance(maskAngle, config);
+        assertTrue(variance > GNSSBiasesGenerator.getRangeBiasVariance(Math.PI / 2.0, config));
+
+        // elevations below masking angle are limited to the masking angle
+        assertEquals(variance, GNSSBiasesGenerator.getRangeBiasVariance(maskAngle / 2.0, config), 0.0);
+        assertEquals(variance, GNSSBiasesGenerator.getRangeBiasVariance(-maskAngle, config), 0.0);
+    }
+
     private static double generateBias(
             final ECEFPosition satellitePosition, final ECEFPosition userPosition, final GNSSConfig config,
             final Random random) throws WrongSizeException {
@@ -31,6 +31,7 @@ import com.irurueta.units.SpeedUnit;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -873,6 +874,42 @@ class GNSSEstimationTest {
         assertThrows(IllegalArgumentException.class, () -> estimation.fromArray(new double[1]));
     }
 
+    @Test
+    void testAsArrayWithOffset() {
+        final var randomizer = new UniformRandomizer();
+        final var x = randomizer.nextDouble(MIN_POS_VALUE, MAX_POS_VALUE);
+        final var y = randomizer.nextDouble(MIN_POS_VALUE, MAX_POS_VALUE);
+        final var z = randomizer.nextDouble(MIN_POS_VALUE, MAX_POS_VALUE);
+
+        final var vx = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+        final var vy = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+        final var vz = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+
+        final var clockOffset = randomizer.nextDouble(MIN_CLOCK_OFFSET, MAX_CLOCK_OFFSET);
+        final var clockDrift = randomizer.nextDouble(MIN_CLOCK_DRIFT, MAX_CLOCK_DRIFT);
+
+        final var estimation1 = new GNSSEstimation(x, y, z, vx, vy, vz, clockOffset, clockDrift);
+
+        final var offset = 3;
+        final var array = new double[offset + 2 * GNSSEstimation.NUM_PARAMETERS];
+        estimation1.asArray(array, offset);
+
+        // check
+        assertEquals(0.0, array[0], 0.0);
+        assertArrayEquals(estimation1.asArray(),
+                Arrays.copyOfRange(array, offset, offset + GNSSEstimation.NUM_PARAMETERS), 0.0);
+
+        final var estimation2 = new GNSSEstimation();
+        estimation2.fromArray(array, offset);
+        assertEquals(estimation1, estimation2);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimation1.asArray(array, -1));
+        assertThrows(IllegalArgumentException.class, () -> estimation1.asArray(array, array.length - 1));
+        assertThrows(IllegalArgumentException.class, () -> estimation2.fromArray(array, -1));
+        assertThrows(IllegalArgumentException.class, () -> estimation2.fromArray(array, array.length - 1));
+    }
+
     @Test
     void testAsMatrix() throws WrongSizeException {
         final var randomizer = new UniformRandomizer();
@@ -0,0 +1,490 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.gnss;
+
+import com.irurueta.navigation.LockedException;
+import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.frames.converters.NEDtoECEFPositionVelocityConverter;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GNSSFaultDetectionAndExclusionTest {
+
+    private static final double MIN_VALUE = 1e-4;
+    private static final double MAX_VALUE = 1e-3;
+
+    private static final double MIN_MASK_ANGLE_DEGREES = 15.0;
+    private static final double MAX_MASK_ANGLE_DEGREES = 20.0;
+
+    private static final double MIN_LATITUDE_DEGREES = -80.0;
+    private static final double MAX_LATITUDE_DEGREES = 80.0;
+
+    private static final double MIN_LONGITUDE_DEGREES = -180.0;
+    private static final double MAX_LONGITUDE_DEGREES = 180.0;
+
+    private static final double MIN_USER_HEIGHT = -50.0;
+    private static final double MAX_USER_HEIGHT = 50.0;
+
+    private static final double MIN_SAT_HEIGHT = 150000.0;
+    private static final double MAX_SAT_HEIGHT = 800000.0;
+
+    private static final double MIN_SAT_VELOCITY_VALUE = -3500.0;
+    private static final double MAX_SAT_VELOCITY_VALUE = 3500.0;
+
+    private static final int MIN_NUM_SAT = 8;
+    private static final int MAX_NUM_SAT = 12;
+
+    private static final double MIN_FAULT = 200.0;
+    private static final double MAX_FAULT = 500.0;
+
+    private static final double POSITION_ERROR = 5e-1;
+
+    private static final int TIMES = 100;
+
+    @Test
+    void testConstructor() {
+        var fde = new GNSSFaultDetectionAndExclusion();
+
+        // check default values
+        assertEquals(GNSSFaultDetectionAndExclusion.DEFAULT_PROBABILITY_OF_FALSE_ALARM,
+                fde.getProbabilityOfFalseAlarm(), 0.0);
+        assertEquals(GNSSFaultDetectionAndExclusion.DEFAULT_PSEUDO_RANGE_STANDARD_DEVIATION,
+                fde.getPseudoRangeStandardDeviation(), 0.0);
+        assertEquals(GNSSFaultDetectionAndExclusion.DEFAULT_MAX_EXCLUSIONS, fde.getMaxExclusions());
+        assertFalse(fde.isFaultDetected());
+        assertFalse(fde.isConsistent());
+        assertEquals(Double.NaN, fde.getTestStatistic(), 0.0);
+        assertEquals(Double.NaN, fde.getThreshold(), 0.0);
+        assertEquals(0, fde.getNumberOfMeasurements());
+        assertEquals(0, fde.getNumberOfExcludedMeasurements());
+
+        // test constructor with probability of false alarm
+        fde = new GNSSFaultDetectionAndExclusion(0.01);
+
+        // check default values
+        assertEquals(0.01, fde.getProbabilityOfFalseAlarm(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new GNSSFaultDetectionAndExclusion(0.0));
+        assertThrows(IllegalArgumentException.class, () -> new GNSSFaultDetectionAndExclusion(1.0));
+    }
+
+    @Test
+    void testGetSetProbabilityOfFalseAlarm() {
+        final var fde = new GNSSFaultDetectionAndExclusion();
+
+        // check default value
+        assertEquals(GNSSFaultDetectionAndExclusion.DEFAULT_PROBABILITY_OF_FALSE_ALARM,
+                fde.getProbabilityOfFalseAlarm(), 0.0);
+
+        // set new value
+        fde.setProbabilityOfFalseAlarm(0.05);
+
+        // check
+        assertEquals(0.05, fde.getProbabilityOfFalseAlarm(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> fde.setProbabilityOfFalseAlarm(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> fde.setProbabilityOfFalseAlarm(1.1));
+    }
+
+    @Test
+    void testGetSetPseudoRangeStandardDeviation() {
+        final var fde = new GNSSFaultDetectionAndExclusion();
+
+        // check default value
+        assertEquals(GNSSFaultDetectionAndExclusion.DEFAULT_PSEUDO_RANGE_STANDARD_DEVIATION,
+                fde.getPseudoRangeStandardDeviation(), 0.0);
+
+        // set new value
+        fde.setPseudoRangeStandardDeviation(2.0);
+
+        // check
+        assertEquals(2.0, fde.getPseudoRangeStandardDeviation(), 0.0);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> fde.setPseudoRangeStandardDeviation(0.0));
+    }
+
+    @Test
+    void testGetSetMaxExclusions() {
+        final var fde = new GNSSFaultDetectionAndExclusion();
+
+        // check default value
+        assertEquals(GNSSFaultDetectionAndExclusion.DEFAULT_MAX_EXCLUSIONS, fde.getMaxExclusions());
+
+        // set new value
+        fde.setMaxExclusions(0);
+
+        // check
+        assertEquals(0, fde.getMaxExclusions());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> fde.setMaxExclusions(-1));
+    }
+
+    @Test
+    void testDetectAndExcludeWithoutFault() throws LockedException, NotReadyException {
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var userPosition = new ECEFPosition();
+            final var buffer = toBuffer(generateMeasurements(userPosition));
+            final var numMeasurements = buffer.length / GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+
+            final var lsEstimator = new GNSSLeastSquaresPositionAndVelocityEstimator();
+            lsEstimator.setMeasurements(buffer, 0, numMeasurements);
+            final GNSSEstimation estimation;
+            try {
+                estimation = lsEstimator.estimate();
+            } catch (final GNSSException e) {
+                continue;
+            }
+            final var estimation2 = new GNSSEstimation(estimation);
+
+            final var fde = new GNSSFaultDetectionAndExclusion();
+            try {
+                assertEquals(0, fde.detectAndExclude(buffer, 0, numMeasurements, null, estimation));
+            } catch (final GNSSException e) {
+                continue;
+            }
+
+            assertFalse(fde.isFaultDetected());
+            assertTrue(fde.isConsistent());
+            assertTrue(fde.getTestStatistic() <= fde.getThreshold());
+            assertEquals(numMeasurements, fde.getNumberOfMeasurements());
+            assertEquals(0, fde.getNumberOfExcludedMeasurements());
+            for (var i = 0; i < numMeasurements; i++) {
+                assertFalse(fde.isExcluded(i));
+            }
+
+            // estimation is not modified
+            assertEquals(estimation2, estimation);
+            assertEquals(numMeasurements, fde.removeExcluded(buffer, 0));
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testDetectAndExcludeWithFault() throws LockedException, NotReadyException {
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+            final var userPosition = new ECEFPosition();
+            final var measurements = generateMeasurements(userPosition);
+            final var numMeasurements = measurements.size();
+            final var offset = 3;
+            final var buffer = new double[offset + numMeasurements * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH];
+            System.arraycopy(toBuffer(measurements), 0, buffer, offset, buffer.length - offset);
+
+            // add fault to a single pseudo-range
+            final var faulty = randomizer.nextInt(0, numMeasurements);
+            buffer[offset + faulty * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH] +=
+                    randomizer.nextDouble(MIN_FAULT, MAX_FAULT);
+
+            final var lsEstimator = new GNSSLeastSquaresPositionAndVelocityEstimator();
+            lsEstimator.setMeasurements(buffer, offset, numMeasurements);
+            final GNSSEstimation estimation;
+            try {
+                estimation = lsEstimator.estimate();
+            } catch (final GNSSException e) {
+                continue;
+            }
+
+            // find satellite whose exclusion yields the smallest sum of squared
+            // residuals by solving all subsets from scratch
+            final var expected = bruteForceExclusion(buffer, offset, numMeasurements);
+            if (expected < 0) {
+                continue;
+            }
+
+            final var fde = new GNSSFaultDetectionAndExclusion();
+            final int numExcluded;
+            try {
+                numExcluded = fde.detectAndExclude(buffer, offset, numMeasurements, null, estimation);
+            } catch (final GNSSException e) {
+                continue;
+            }
+
+            assertTrue(fde.isFaultDetected());
+            assertTrue(numExcluded >= 1);
+            if (numExcluded != 1 || !fde.isConsistent() || expected != faulty || !fde.isExcluded(faulty)) {
+                continue;
+            }
+
+            assertTrue(fde.getTestStatistic() <= fde.getThreshold());
+            assertEquals(1, fde.getNumberOfExcludedMeasurements());
+
+            // remove excluded satellite and solve again
+            final var remaining = fde.removeExcluded(buffer, offset);
+            assertEquals(numMeasurements - 1, remaining);
+            final var expectedBuffer = toBuffer(measurements);
+            var j = 0;
+            for (var i = 0; i < numMeasurements; i++) {
+                if (i == faulty) {
+                    continue;
+                }
+                for (var k = 0; k < GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH; k++) {
+                    assertEquals(expectedBuffer[i * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH + k],
+                            buffer[offset + j * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH + k], 0.0);
+                }
+                j++;
+            }
+
+            lsEstimator.setMeasurements(buffer, offset, remaining);
+            lsEstimator.setPriorPositionAndVelocityFromEstimation(estimation);
+            final GNSSEstimation estimation2;
+            try {
+                estimation2 = lsEstimator.estimate();
+            } catch (final GNSSException e) {
+                continue;
+            }
+
+            // linearized solution of excluding satellite is close to the solution of
+            // remaining satellites
+            assertTrue(estimation.getEcefPosition().equals(estimation2.getEcefPosition(), POSITION_ERROR));
+            if (!userPosition.equals(estimation2.getEcefPosition(), POSITION_ERROR)) {
+                continue;
+            }
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testDetectAndExcludeWithMaxExclusions() throws LockedException, NotReadyException, GNSSException {
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+            final var buffer = toBuffer(generateMeasurements(new ECEFPosition()));
+            final var numMeasurements = buffer.length / GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+
+            final var faulty = randomizer.nextInt(0, numMeasurements);
+            buffer[faulty * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH] += MAX_FAULT;
+
+            final var lsEstimator = new GNSSLeastSquaresPositionAndVelocityEstimator();
+            lsEstimator.setMeasurements(buffer, 0, numMeasurements);
+            final GNSSEstimation estimation;
+            try {
+                estimation = lsEstimator.estimate();
+            } catch (final GNSSException e) {
+                continue;
+            }
+            final var estimation2 = new GNSSEstimation(estimation);
+
+            // only detection
+            final var fde = new GNSSFaultDetectionAndExclusion();
+            fde.setMaxExclusions(0);
+
+            assertEquals(0, fde.detectAndExclude(buffer, 0, numMeasurements, null, estimation));
+            assertTrue(fde.isFaultDetected());
+            assertFalse(fde.isConsistent());
+            assertTrue(fde.getTestStatistic() > fde.getThreshold());
+            assertEquals(estimation2, estimation);
+
+            // using large variances, fault is not detected
+            final var variances = new double[numMeasurements];
+            Arrays.fill(variances, 1e8);
+            assertEquals(0, fde.detectAndExclude(buffer, 0, numMeasurements, variances, estimation));
+            assertFalse(fde.isFaultDetected());
+            assertTrue(fde.isConsistent());
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testDetectAndExcludeWithNotEnoughMeasurements() throws GNSSException {
+        final var buffer = new double[GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS
+                * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH];
+        final var estimation = new GNSSEstimation();
+        final var fde = new GNSSFaultDetectionAndExclusion();
+
+        assertEquals(0, fde.detectAndExclude(buffer, 0,
+                GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS, null, estimation));
+        assertFalse(fde.isFaultDetected());
+        assertFalse(fde.isConsistent());
+        assertEquals(GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS, fde.getNumberOfMeasurements());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> fde.isExcluded(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> fde.isExcluded(GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS));
+        assertThrows(IllegalArgumentException.class, () -> fde.detectAndExclude(buffer, 1,
+                GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS, null, estimation));
+        assertThrows(IllegalArgumentException.class, () -> fde.detectAndExclude(buffer, 0,
+                GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS, new double[1], estimation));
+    }
+
+    private static int bruteForceExclusion(final double[] buffer, final int offset, final int numMeasurements)
+            throws LockedException, NotReadyException {
+        final var subset = new double[(numMeasurements - 1) * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH];
+        final var lsEstimator = new GNSSLeastSquaresPositionAndVelocityEstimator();
+        var best = -1;
+        var bestSse = Double.MAX_VALUE;
+        for (var i = 0; i < numMeasurements; i++) {
+            var k = 0;
+            for (var j = 0; j < numMeasurements; j++) {
+                if (j == i) {
+                    continue;
+                }
+                System.arraycopy(buffer, offset + j * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH, subset,
+                        k * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH, GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH);
+                k++;
+            }
+
+            lsEstimator.setMeasurements(subset, 0, numMeasurements - 1);
+            lsEstimator.setPriorPositionAndVelocity(null);
+            final GNSSEstimation estimation;
+            try {
+                estimation = lsEstimator.estimate();
+            } catch (final GNSSException e) {
+                return -1;
+            }
+
+            final var sse = sumOfSquaredResiduals(subset, numMeasurements - 1, estimation);
+            if (sse < bestSse) {
+                bestSse = sse;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static double sumOfSquaredResiduals(final double[] buffer, final int numMeasurements,
+                                                final GNSSEstimation estimation) {
+        var result = 0.0;
+        for (var j = 0; j < numMeasurements; j++) {
+            final var base = j * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+            final var measX = buffer[base + 2];
+            final var measY = buffer[base + 3];
+            final var measZ = buffer[base + 4];
+            final var approxRange = Math.sqrt(Math.pow(measX - estimation.getX(), 2.0)
+                    + Math.pow(measY - estimation.getY(), 2.0) + Math.pow(measZ - estimation.getZ(), 2.0));
+            final var cei = GNSSLeastSquaresPositionAndVelocityEstimator.EARTH_ROTATION_RATE * approxRange
+                    / GNSSLeastSquaresPositionAndVelocityEstimator.SPEED_OF_LIGHT;
+            final var range = Math.sqrt(Math.pow(measX + cei * measY - estimation.getX(), 2.0)
+                    + Math.pow(measY - cei * measX - estimation.getY(), 2.0)
+                    + Math.pow(measZ - estimation.getZ(), 2.0));
+            final var residual = buffer[base] - range - estimation.getClockOffset();
+            result += residual * residual;
+        }
+        return result;
+    }
+
+    private static double[] toBuffer(final Collection<GNSSMeasurement> measurements) {
+        final var result = new double[measurements.size() * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH];
+        var pos = 0;
+        for (final var measurement : measurements) {
+            result[pos++] = measurement.getPseudoRange();
+            result[pos++] = measurement.getPseudoRate();
+            result[pos++] = measurement.getX();
+            result[pos++] = measurement.getY();
+            result[pos++] = measurement.getZ();
+            result[pos++] = measurement.getVx();
+            result[pos++] = measurement.getVy();
+            result[pos++] = measurement.getVz();
+        }
+        return result;
+    }
+
+    static Collection<GNSSMeasurement> generateMeasurements(final ECEFPosition ecefUserPosition) {
+        final var randomizer = new UniformRandomizer();
+        final var random = new Random();
+        final var config = generateConfig();
+
+        while (true) {
+            final var numSatellites = randomizer.nextInt(MIN_NUM_SAT, MAX_NUM_SAT);
+
+            final var userLatitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES,
+                    MAX_LATITUDE_DEGREES));
+            final var userLongitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                    MAX_LONGITUDE_DEGREES));
+            final var userHeight = randomizer.nextDouble(MIN_USER_HEIGHT, MAX_USER_HEIGHT);
+            final var nedUserPosition = new NEDPosition(userLatitude, userLongitude, userHeight);
+
+            final var ecefUserVelocity = new ECEFVelocity();
+            NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedUserPosition, new NEDVelocity(),
+                    ecefUserPosition, ecefUserVelocity);
+            final var ecefUserPositionAndVelocity = new ECEFPositionAndVelocity(ecefUserPosition, ecefUserVelocity);
+
+            final var delta = Math.toRadians(config.getMaskAngleDegrees()) / 3.0;
+
+            final var biases = new ArrayList<Double>();
+            final var satellitePositionsAndVelocities = new ArrayList<ECEFPositionAndVelocity>();
+            for (var n = 0; n < numSatellites; n++) {
+                final var satLatitude = randomizer.nextDouble(userLatitude - delta, userLatitude + delta);
+                final var satLongitude = randomizer.nextDouble(userLongitude - delta, userLongitude + delta);
+                final var satHeight = randomizer.nextDouble(MIN_SAT_HEIGHT, MAX_SAT_HEIGHT);
+                final var nedSatPosition = new NEDPosition(satLatitude, satLongitude, satHeight);
+
+                final var satVn = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var satVe = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var satVd = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var nedSatVelocity = new NEDVelocity(satVn, satVe, satVd);
+
+                final var ecefSatPosition = new ECEFPosition();
+                final var ecefSatVelocity = new ECEFVelocity();
+                NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedSatPosition, nedSatVelocity,
+                        ecefSatPosition, ecefSatVelocity);
+
+                biases.add(GNSSBiasesGenerator.generateBias(ecefSatPosition, ecefUserPosition, config, random));
+                satellitePositionsAndVelocities.add(new ECEFPositionAndVelocity(ecefSatPosition,
+                        ecefSatVelocity));
+            }
+
+            final var measurements = GNSSMeasurementsGenerator.generate(0.0, satellitePositionsAndVelocities,
+                    ecefUserPositionAndVelocity, biases, config, random);
+            if (measurements.size() >= MIN_NUM_SAT) {
+                return measurements;
+            }
+        }
+    }
+
+    private static GNSSConfig generateConfig() {
+        final var randomizer = new UniformRandomizer();
+        final var maskAngleDegrees = randomizer.nextDouble(MIN_MASK_ANGLE_DEGREES, MAX_MASK_ANGLE_DEGREES);
+        final var sisErrorSD = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var zenithIonosphereErrorSD = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var zenithTroposphereErrorSD = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var codeTrackingErrorSD = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+        final var rangeRateTrackingErrorSD = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
+
+        return new GNSSConfig(MIN_VALUE, 0.0, 0.0, 0.0, MAX_NUM_SAT, MAX_VALUE, MAX_VALUE,
+                MIN_VALUE, MIN_VALUE, maskAngleDegrees, sisErrorSD, zenithIonosphereErrorSD,
+                zenithTroposphereErrorSD, codeTrackingErrorSD, rangeRateTrackingErrorSD, 0.0, 0.0);
+    }
+}
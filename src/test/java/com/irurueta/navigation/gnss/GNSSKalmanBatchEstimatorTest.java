@@ -0,0 +1,328 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.gnss;
+
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.navigation.frames.ECEFFrame;
+import com.irurueta.navigation.frames.NEDFrame;
+import com.irurueta.navigation.frames.converters.NEDtoECEFFrameConverter;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GNSSKalmanBatchEstimatorTest {
+
+    private static final double MIN_LATITUDE_DEGREES = -90.0;
+    private static final double MAX_LATITUDE_DEGREES = 90.0;
+
+    private static final double MIN_LONGITUDE_DEGREES = -180.0;
+    private static final double MAX_LONGITUDE_DEGREES = 180.0;
+
+    private static final double MIN_HEIGHT_METERS = -50.0;
+    private static final double MAX_HEIGHT_METERS = 50.0;
+
+    private static final double MIN_SPEED_VALUE = -2.0;
+    private static final double MAX_SPEED_VALUE = 2.0;
+
+    private static final int MIN_MEASUREMENTS = 4;
+    private static final int MAX_MEASUREMENTS = 10;
+
+    private static final double MIN_SAT_HEIGHT_METERS = 150000;
+    private static final double MAX_SAT_HEIGHT_METERS = 500000;
+
+    private static final double MIN_SAT_SPEED_VALUE = -20.0;
+    private static final double MAX_SAT_SPEED_VALUE = 20.0;
+
+    private static final double TIME_INTERVAL_SECONDS = 0.02;
+    private static final double CLOCK_OFFSET = 0.5;
+    private static final double CLOCK_DRIFT = 1e-4;
+
+    private static final double MIN_CONFIG_VALUE = 1e-4;
+    private static final double MAX_CONFIG_VALUE = 1e-3;
+
+    private static final int NUM_RECEIVERS = 100;
+    private static final int RECEIVERS_PER_TASK = 8;
+
+    private static final int EPOCHS = 5;
+
+    @Test
+    void testConstructor() {
+        final var config = new GNSSKalmanConfig();
+        var estimator = new GNSSKalmanBatchEstimator(NUM_RECEIVERS, config);
+
+        // check default values
+        assertEquals(NUM_RECEIVERS, estimator.getNumberOfReceivers());
+        assertEquals(config, estimator.getConfig());
+        assertNotSame(config, estimator.getConfig());
+        assertEquals(GNSSKalmanBatchEstimator.DEFAULT_RECEIVERS_PER_TASK, estimator.getReceiversPerTask());
+        assertTrue(estimator.isParallel());
+        assertEquals(NUM_RECEIVERS * GNSSKalmanBatchEstimator.STATE_LENGTH, estimator.getStates().length);
+        assertEquals(NUM_RECEIVERS * GNSSKalmanBatchEstimator.COVARIANCE_LENGTH,
+                estimator.getCovariances().length);
+        assertFalse(estimator.isFailed(0));
+
+        estimator = new GNSSKalmanBatchEstimator(NUM_RECEIVERS, config, RECEIVERS_PER_TASK);
+        assertEquals(RECEIVERS_PER_TASK, estimator.getReceiversPerTask());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new GNSSKalmanBatchEstimator(0, config));
+        assertThrows(IllegalArgumentException.class, () -> new GNSSKalmanBatchEstimator(NUM_RECEIVERS, config,
+                0));
+    }
+
+    @Test
+    void testIsSetParallel() {
+        final var estimator = new GNSSKalmanBatchEstimator(NUM_RECEIVERS, new GNSSKalmanConfig());
+
+        // check default value
+        assertTrue(estimator.isParallel());
+
+        // set new value
+        estimator.setParallel(false);
+
+        // check
+        assertFalse(estimator.isParallel());
+    }
+
+    @Test
+    void testInitialize() {
+        final var randomizer = new UniformRandomizer();
+        final var config = generateConfig(randomizer);
+        final var estimator = new GNSSKalmanBatchEstimator(NUM_RECEIVERS, config);
+
+        final var estimation = generateEstimation(randomizer);
+        estimator.initialize(1, estimation);
+
+        final var expected = GNSSKalmanInitializer.initialize(estimation, config);
+        assertEquals(expected, estimator.getState(1));
+
+        // other receivers are not modified
+        assertEquals(new GNSSEstimation(), estimator.getState(0).getEstimation());
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> estimator.initialize(-1, estimation));
+        assertThrows(IndexOutOfBoundsException.class, () -> estimator.initialize(NUM_RECEIVERS, estimation));
+    }
+
+    @Test
+    void testGetSetState() throws AlgebraException {
+        final var randomizer = new UniformRandomizer();
+        final var estimator = new GNSSKalmanBatchEstimator(NUM_RECEIVERS, new GNSSKalmanConfig());
+
+        final var covariance = Matrix.createWithUniformRandomValues(GNSSEstimation.NUM_PARAMETERS,
+                GNSSEstimation.NUM_PARAMETERS, -1.0, 1.0);
+        final var state1 = new GNSSKalmanState(generateEstimation(randomizer), covariance);
+        estimator.setState(NUM_RECEIVERS - 1, state1);
+
+        // check
+        final var state2 = estimator.getState(NUM_RECEIVERS - 1);
+        assertEquals(state1, state2);
+
+        final var state3 = new GNSSKalmanState(state2);
+        final var estimation3 = state3.getEstimation();
+        final var covariance3 = state3.getCovariance();
+        estimator.getState(0, state3);
+        assertSame(estimation3, state3.getEstimation());
+        assertSame(covariance3, state3.getCovariance());
+        assertEquals(new GNSSEstimation(), estimation3);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setState(0, new GNSSKalmanState()));
+
+        // Force IndexOutOfBoundsException
+        assertThrows(IndexOutOfBoundsException.class, () -> estimator.setState(NUM_RECEIVERS, state1));
+        assertThrows(IndexOutOfBoundsException.class, () -> estimator.getState(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> estimator.isFailed(NUM_RECEIVERS));
+    }
+
+    @Test
+    void testEstimate() throws AlgebraException, GNSSException {
+        final var randomizer = new UniformRandomizer();
+        final var config = generateConfig(randomizer);
+
+        final var parallelEstimator = new GNSSKalmanBatchEstimator(NUM_RECEIVERS, config, RECEIVERS_PER_TASK);
+        final var serialEstimator = new GNSSKalmanBatchEstimator(NUM_RECEIVERS, config, RECEIVERS_PER_TASK);
+        serialEstimator.setParallel(false);
+
+        final var users = new ECEFFrame[NUM_RECEIVERS];
+        final var expectedStates = new GNSSKalmanState[NUM_RECEIVERS];
+        for (var r = 0; r < NUM_RECEIVERS; r++) {
+            users[r] = generateUser(randomizer);
+            final var estimation = new GNSSEstimation(users[r].getX(), users[r].getY(), users[r].getZ(),
+                    users[r].getVx(), users[r].getVy(), users[r].getVz(), CLOCK_OFFSET, CLOCK_DRIFT);
+            parallelEstimator.initialize(r, estimation);
+            serialEstimator.initialize(r, estimation);
+            expectedStates[r] = GNSSKalmanInitializer.initialize(estimation, config);
+        }
+
+        for (var epoch = 0; epoch < EPOCHS; epoch++) {
+            final var receiverOffsets = new int[NUM_RECEIVERS + 1];
+            final var allMeasurements = new ArrayList<List<GNSSMeasurement>>();
+            for (var r = 0; r < NUM_RECEIVERS; r++) {
+                final var measurements = generateMeasurements(randomizer, users[r]);
+                allMeasurements.add(measurements);
+                receiverOffsets[r + 1] = receiverOffsets[r] + measurements.size();
+            }
+
+            final var buffer = new double[receiverOffsets[NUM_RECEIVERS]
+                    * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH];
+            var pos = 0;
+            for (final var measurements : allMeasurements) {
+                for (final var m : measurements) {
+                    buffer[pos++] = m.getPseudoRange();
+                    buffer[pos++] = m.getPseudoRate();
+                    buffer[pos++] = m.getX();
+                    buffer[pos++] = m.getY();
+                    buffer[pos++] = m.getZ();
+                    buffer[pos++] = m.getVx();
+                    buffer[pos++] = m.getVy();
+                    buffer[pos++] = m.getVz();
+                }
+            }
+
+            parallelEstimator.estimate(buffer, receiverOffsets, TIME_INTERVAL_SECONDS);
+            serialEstimator.estimate(buffer, receiverOffsets, TIME_INTERVAL_SECONDS);
+
+            for (var r = 0; r < NUM_RECEIVERS; r++) {
+                expectedStates[r] = GNSSKalmanEpochEstimator.estimate(allMeasurements.get(r),
+                        TIME_INTERVAL_SECONDS, expectedStates[r], config);
+
+                // results must be bit-for-bit equal
+                assertEquals(expectedStates[r], parallelEstimator.getState(r));
+                assertEquals(expectedStates[r], serialEstimator.getState(r));
+                assertFalse(parallelEstimator.isFailed(r));
+            }
+        }
+    }
+
+    @Test
+    void testEstimateWithoutMeasurementsOnlyPropagates() throws GNSSException {
+        final var randomizer = new UniformRandomizer();
+        final var config = generateConfig(randomizer);
+        final var estimator = new GNSSKalmanBatchEstimator(1, config);
+
+        final var estimation = generateEstimation(randomizer);
+        estimator.initialize(0, estimation);
+        final var previousState = estimator.getState(0);
+
+        estimator.estimate(new double[0], new int[2], TIME_INTERVAL_SECONDS);
+
+        final var state = estimator.getState(0);
+        final var x = estimation.getX() + TIME_INTERVAL_SECONDS * estimation.getVx();
+        final var clockOffset = estimation.getClockOffset() + TIME_INTERVAL_SECONDS * estimation.getClockDrift();
+        assertEquals(x, state.getEstimation().getX(), 0.0);
+        assertEquals(clockOffset, state.getEstimation().getClockOffset(), 0.0);
+        assertEquals(estimation.getVx(), state.getEstimation().getVx(), 0.0);
+
+        // uncertainty grows
+        for (var i = 0; i < GNSSEstimation.NUM_PARAMETERS; i++) {
+            assertTrue(state.getCovariance().getElementAt(i, i) > previousState.getCovariance().getElementAt(i, i));
+        }
+    }
+
+    @Test
+    void testEstimateWhenInvalidOffsetsThrowsIllegalArgumentException() {
+        final var estimator = new GNSSKalmanBatchEstimator(2, new GNSSKalmanConfig());
+        final var buffer = new double[GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH];
+
+        assertThrows(IllegalArgumentException.class,
+                () -> estimator.estimate(buffer, new int[2], TIME_INTERVAL_SECONDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> estimator.estimate(buffer, new int[]{-1, 0, 1}, TIME_INTERVAL_SECONDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> estimator.estimate(buffer, new int[]{0, 1, 0}, TIME_INTERVAL_SECONDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> estimator.estimate(buffer, new int[]{0, 1, 2}, TIME_INTERVAL_SECONDS));
+    }
+
+    private static ECEFFrame generateUser(final UniformRandomizer randomizer) {
+        final var userLatitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+        final var userLongitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                MAX_LONGITUDE_DEGREES));
+        final var userHeight = randomizer.nextDouble(MIN_HEIGHT_METERS, MAX_HEIGHT_METERS);
+
+        final var userVn = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+        final var userVe = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+        final var userVd = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+
+        final var userNedFrame = new NEDFrame(userLatitude, userLongitude, userHeight, userVn, userVe, userVd);
+        return NEDtoECEFFrameConverter.convertNEDtoECEFAndReturnNew(userNedFrame);
+    }
+
+    private static GNSSEstimation generateEstimation(final UniformRandomizer randomizer) {
+        final var user = generateUser(randomizer);
+        return new GNSSEstimation(user.getX(), user.getY(), user.getZ(), user.getVx(), user.getVy(), user.getVz(),
+                CLOCK_OFFSET, CLOCK_DRIFT);
+    }
+
+    private static List<GNSSMeasurement> generateMeasurements(
+            final UniformRandomizer randomizer, final ECEFFrame userEcefFrame) {
+        final var userPosition = userEcefFrame.getPosition();
+
+        final var numMeasurements = randomizer.nextInt(MIN_MEASUREMENTS, MAX_MEASUREMENTS);
+
+        final var measurements = new ArrayList<GNSSMeasurement>();
+        for (var i = 0; i < numMeasurements; i++) {
+            final var satLatitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES,
+                    MAX_LATITUDE_DEGREES));
+            final var satLongitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                    MAX_LONGITUDE_DEGREES));
+            final var satHeight = randomizer.nextDouble(MIN_SAT_HEIGHT_METERS, MAX_SAT_HEIGHT_METERS);
+
+            final var satVn = randomizer.nextDouble(MIN_SAT_SPEED_VALUE, MAX_SAT_SPEED_VALUE);
+            final var satVe = randomizer.nextDouble(MIN_SAT_SPEED_VALUE, MAX_SAT_SPEED_VALUE);
+            final var satVd = randomizer.nextDouble(MIN_SAT_SPEED_VALUE, MAX_SAT_SPEED_VALUE);
+
+            final var satNedFrame = new NEDFrame(satLatitude, satLongitude, satHeight, satVn, satVe, satVd);
+            final var satEcefFrame = NEDtoECEFFrameConverter.convertNEDtoECEFAndReturnNew(satNedFrame);
+
+            final var pseudoRange = userPosition.distanceTo(satEcefFrame.getPosition());
+
+            final var dx = satEcefFrame.getX() - userEcefFrame.getX();
+            final var dy = satEcefFrame.getY() - userEcefFrame.getY();
+            final var dz = satEcefFrame.getZ() - userEcefFrame.getZ();
+            final var pseudoRate = (dx * (satEcefFrame.getVx() - userEcefFrame.getVx())
+                    + dy * (satEcefFrame.getVy() - userEcefFrame.getVy())
+                    + dz * (satEcefFrame.getVz() - userEcefFrame.getVz())) / pseudoRange;
+
+            measurements.add(new GNSSMeasurement(pseudoRange, pseudoRate,
+                    satEcefFrame.getX(), satEcefFrame.getY(), satEcefFrame.getZ(),
+                    satEcefFrame.getVx(), satEcefFrame.getVy(), satEcefFrame.getVz()));
+        }
+        return measurements;
+    }
+
+    private static GNSSKalmanConfig generateConfig(final UniformRandomizer randomizer) {
+        final var initialPositionUncertainty = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var initialVelocityUncertainty = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var initialClockOffsetUncertainty = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var initialClockDriftUncertainty = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var accelerationPSD = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var clockFrequencyPSD = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var clockPhasePSD = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var pseudoRangeSD = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var rangeRateSD = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+
+        return new GNSSKalmanConfig(initialPositionUncertainty, initialVelocityUncertainty,
+                initialClockOffsetUncertainty, initialClockDriftUncertainty, accelerationPSD, clockFrequencyPSD,
+                clockPhasePSD, pseudoRangeSD, rangeRateSD);
+    }
+}
@@ -49,6 +49,8 @@ class GNSSKalmanConfigTest {
         assertEquals(0.0, config.getClockPhasePSD(), 0.0);
         assertEquals(0.0, config.getPseudoRangeSD(), 0.0);
         assertEquals(0.0, config.getRangeRateSD(), 0.0);
+        assertFalse(config.isSequentialUpdate());
+        assertTrue(config.isJosephUpdate());
 
         // test constructor with values
         final var randomizer = new UniformRandomizer();
@@ -413,6 +415,34 @@ class GNSSKalmanConfigTest {
         assertEquals(rangeRateSD2, rangeRateSD4);
     }
 
+    @Test
+    void testIsSetSequentialUpdate() {
+        final var config = new GNSSKalmanConfig();
+
+        // check default value
+        assertFalse(config.isSequentialUpdate());
+
+        // set new value
+        config.setSequentialUpdate(true);
+
+        // check
+        assertTrue(config.isSequentialUpdate());
+    }
+
+    @Test
+    void testIsSetJosephUpdate() {
+        final var config = new GNSSKalmanConfig();
+
+        // check default value
+        assertTrue(config.isJosephUpdate());
+
+        // set new value
+        config.setJosephUpdate(false);
+
+        // check
+        assertFalse(config.isJosephUpdate());
+    }
+
     @Test
     void testSetValues() {
         final var config = new GNSSKalmanConfig();
@@ -516,6 +546,8 @@ class GNSSKalmanConfigTest {
         final var config1 = new GNSSKalmanConfig(initialPositionUncertainty, initialVelocityUncertainty,
                 initialClockOffsetUncertainty, initialClockDriftUncertainty, accelerationPSD, clockFrequencyPSD,
                 clockPhasePSD, pseudoRangeSD, rangeRateSD);
+        config1.setSequentialUpdate(true);
+        config1.setJosephUpdate(false);
         final var config2 = new GNSSKalmanConfig();
 
         config1.copyTo(config2);
@@ -530,6 +562,8 @@ class GNSSKalmanConfigTest {
         assertEquals(clockPhasePSD, config2.getClockPhasePSD(), 0.0);
         assertEquals(pseudoRangeSD, config2.getPseudoRangeSD(), 0.0);
         assertEquals(rangeRateSD, config2.getRangeRateSD(), 0.0);
+        assertTrue(config2.isSequentialUpdate());
+        assertFalse(config2.isJosephUpdate());
     }
 
     @Test
@@ -548,6 +582,8 @@ class GNSSKalmanConfigTest {
         final var config1 = new GNSSKalmanConfig(initialPositionUncertainty, initialVelocityUncertainty,
                 initialClockOffsetUncertainty, initialClockDriftUncertainty, accelerationPSD, clockFrequencyPSD,
                 clockPhasePSD, pseudoRangeSD, rangeRateSD);
+        config1.setSequentialUpdate(true);
+        config1.setJosephUpdate(false);
         final var config2 = new GNSSKalmanConfig();
 
         config2.copyFrom(config1);
@@ -562,6 +598,8 @@ class GNSSKalmanConfigTest {
         assertEquals(clockPhasePSD, config2.getClockPhasePSD(), 0.0);
         assertEquals(pseudoRangeSD, config2.getPseudoRangeSD(), 0.0);
         assertEquals(rangeRateSD, config2.getRangeRateSD(), 0.0);
+        assertTrue(config2.isSequentialUpdate());
+        assertFalse(config2.isJosephUpdate());
     }
 
     @Test
@@ -609,6 +647,10 @@ class GNSSKalmanConfigTest {
                 initialClockOffsetUncertainty, initialClockDriftUncertainty, accelerationPSD, clockFrequencyPSD,
                 clockPhasePSD, pseudoRangeSD, rangeRateSD);
         final var config3 = new GNSSKalmanConfig();
+        final var config4 = new GNSSKalmanConfig(config1);
+        config4.setSequentialUpdate(true);
+        final var config5 = new GNSSKalmanConfig(config1);
+        config5.setJosephUpdate(false);
 
         //noinspection ConstantConditions,SimplifiableJUnitAssertion
         assertTrue(config1.equals((Object)config1));
@@ -616,6 +658,8 @@ class GNSSKalmanConfigTest {
         assertTrue(config1.equals(config1));
         assertTrue(config1.equals(config2));
         assertFalse(config1.equals(config3));
+        assertFalse(config1.equals(config4));
+        assertFalse(config1.equals(config5));
         //noinspection SimplifiableJUnitAssertion,ConstantConditions
         assertFalse(config1.equals((Object)null));
         assertFalse(config1.equals(null));
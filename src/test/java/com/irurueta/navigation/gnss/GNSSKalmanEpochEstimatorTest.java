@@ -16,8 +16,10 @@
 package com.irurueta.navigation.gnss;
 
 import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.CholeskyDecomposer;
 import com.irurueta.algebra.Matrix;
 import com.irurueta.algebra.Utils;
+import com.irurueta.navigation.frames.ECEFFrame;
 import com.irurueta.navigation.frames.NEDFrame;
 import com.irurueta.navigation.frames.converters.NEDtoECEFFrameConverter;
 import com.irurueta.navigation.geodesic.Constants;
@@ -29,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -66,6 +69,10 @@ class GNSSKalmanEpochEstimatorTest {
 
     private static final int TIMES = 100;
 
+    private static final int[] SEQUENTIAL_MEASUREMENTS = {8, 16, 32, 64};
+
+    private static final long SEQUENTIAL_SEED = 20260101L;
+
     @Test
     void testEstimate() throws AlgebraException {
         for (var t = 0; t < TIMES; t++) {
@@ -340,6 +347,234 @@ class GNSSKalmanEpochEstimatorTest {
         }
     }
 
+    @Test
+    void testEstimateWithWorkspace() throws AlgebraException {
+        final var workspace = new GNSSKalmanEpochWorkspace();
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var userLatitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+            final var userLongitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                    MAX_LONGITUDE_DEGREES));
+            final var userHeight = randomizer.nextDouble(MIN_HEIGHT_METERS, MAX_HEIGHT_METERS);
+
+            final var userVn = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+            final var userVe = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+            final var userVd = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+
+            final var userNedFrame = new NEDFrame(userLatitude, userLongitude, userHeight, userVn, userVe, userVd);
+            final var userEcefFrame = NEDtoECEFFrameConverter.convertNEDtoECEFAndReturnNew(userNedFrame);
+
+            final var measurements = generateMeasurements(randomizer, userEcefFrame);
+
+            final var previousEstimation = new GNSSEstimation(
+                    userEcefFrame.getX(), userEcefFrame.getY(), userEcefFrame.getZ(),
+                    userEcefFrame.getVx(), userEcefFrame.getVy(), userEcefFrame.getVz(), CLOCK_OFFSET, CLOCK_DRIFT);
+
+            final var previousCovariance = Matrix.identity(GNSSEstimation.NUM_PARAMETERS,
+                    GNSSEstimation.NUM_PARAMETERS);
+
+            final var config = generateConfig(randomizer);
+
+            final var updatedEstimation1 = new GNSSEstimation();
+            final var updatedCovariance1 = new Matrix(GNSSEstimation.NUM_PARAMETERS, GNSSEstimation.NUM_PARAMETERS);
+            GNSSKalmanEpochEstimator.estimate(measurements, TIME_INTERVAL_SECONDS, previousEstimation,
+                    previousCovariance, config, updatedEstimation1, updatedCovariance1);
+
+            final var updatedEstimation2 = new GNSSEstimation();
+            final var updatedCovariance2 = new Matrix(1, 1);
+            GNSSKalmanEpochEstimator.estimate(measurements, TIME_INTERVAL_SECONDS, previousEstimation,
+                    previousCovariance, config, updatedEstimation2, updatedCovariance2, workspace);
+
+            final var updatedEstimation3 = new GNSSEstimation();
+            final var updatedCovariance3 = new Matrix(GNSSEstimation.NUM_PARAMETERS, GNSSEstimation.NUM_PARAMETERS);
+            final var propagationInterval = new Time(TIME_INTERVAL_SECONDS, TimeUnit.SECOND);
+            GNSSKalmanEpochEstimator.estimate(measurements, propagationInterval, previousEstimation,
+                    previousCovariance, config, updatedEstimation3, updatedCovariance3, workspace);
+
+            // results must be bit-for-bit equal
+            assertArrayEquals(updatedEstimation1.asArray(), updatedEstimation2.asArray(), 0.0);
+            assertArrayEquals(updatedCovariance1.getBuffer(), updatedCovariance2.getBuffer(), 0.0);
+            assertArrayEquals(updatedEstimation1.asArray(), updatedEstimation3.asArray(), 0.0);
+            assertArrayEquals(updatedCovariance1.getBuffer(), updatedCovariance3.getBuffer(), 0.0);
+
+            assertTrue(workspace.getCapacity() >= measurements.size());
+
+            // updated covariance is exactly symmetric
+            assertEquals(updatedCovariance1, updatedCovariance1.transposeAndReturnNew());
+
+            // estimate using states
+            final var previousState = new GNSSKalmanState(previousEstimation, previousCovariance);
+
+            final var updatedState1 = GNSSKalmanEpochEstimator.estimate(measurements, TIME_INTERVAL_SECONDS,
+                    previousState, config);
+
+            final var updatedState2 = new GNSSKalmanState();
+            GNSSKalmanEpochEstimator.estimate(measurements, TIME_INTERVAL_SECONDS, previousState, config,
+                    updatedState2, workspace);
+
+            final var updatedState3 = new GNSSKalmanState(previousState);
+            final var estimation3 = updatedState3.getEstimation();
+            final var covariance3 = updatedState3.getCovariance();
+            GNSSKalmanEpochEstimator.estimate(measurements, propagationInterval, updatedState3, config,
+                    updatedState3, workspace);
+
+            assertEquals(updatedState1, updatedState2);
+            assertEquals(updatedState1, updatedState3);
+
+            // existing instances are reused
+            assertSame(estimation3, updatedState3.getEstimation());
+            assertSame(covariance3, updatedState3.getCovariance());
+        }
+    }
+
+    @Test
+    void testEstimateWithSequentialUpdate() throws AlgebraException {
+        // seeded so that compared scenarios are reproducible
+        final var randomizer = new UniformRandomizer(new Random(SEQUENTIAL_SEED));
+        final var workspace = new GNSSKalmanEpochWorkspace();
+        for (final var numMeasurements : SEQUENTIAL_MEASUREMENTS) {
+            for (var t = 0; t < TIMES; t++) {
+
+                final var userLatitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES,
+                        MAX_LATITUDE_DEGREES));
+                final var userLongitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                        MAX_LONGITUDE_DEGREES));
+                final var userHeight = randomizer.nextDouble(MIN_HEIGHT_METERS, MAX_HEIGHT_METERS);
+
+                final var userVn = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+                final var userVe = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+                final var userVd = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+
+                final var userNedFrame = new NEDFrame(userLatitude, userLongitude, userHeight, userVn, userVe,
+                        userVd);
+                final var userEcefFrame = NEDtoECEFFrameConverter.convertNEDtoECEFAndReturnNew(userNedFrame);
+
+                final var measurements = generateMeasurements(randomizer, userEcefFrame, numMeasurements);
+
+                final var previousEstimation = new GNSSEstimation(
+                        userEcefFrame.getX(), userEcefFrame.getY(), userEcefFrame.getZ(),
+                        userEcefFrame.getVx(), userEcefFrame.getVy(), userEcefFrame.getVz(), CLOCK_OFFSET,
+                        CLOCK_DRIFT);
+                // prior covariance must be consistent with configured measurement noise, otherwise
+                // the batch innovation covariance becomes ill-conditioned and its inversion loses
+                // accuracy
+                final var batchConfig = generateConfig(randomizer);
+                final var previousState = GNSSKalmanInitializer.initialize(previousEstimation, batchConfig);
+                final var sequentialConfig = new GNSSKalmanConfig(batchConfig);
+                sequentialConfig.setSequentialUpdate(true);
+
+                final var batchState = GNSSKalmanEpochEstimator.estimate(measurements, TIME_INTERVAL_SECONDS,
+                        previousState, batchConfig);
+                final var sequentialState1 = GNSSKalmanEpochEstimator.estimate(measurements,
+                        TIME_INTERVAL_SECONDS, previousState, sequentialConfig);
+                final var sequentialState2 = new GNSSKalmanState();
+                GNSSKalmanEpochEstimator.estimate(measurements, TIME_INTERVAL_SECONDS, previousState,
+                        sequentialConfig, sequentialState2, workspace);
+
+                // sequential update is equal to batch update up to numerical precision
+                assertTrue(batchState.equals(sequentialState1, ABSOLUTE_ERROR));
+
+                // static and workspace paths are bit-for-bit equal
+                assertEquals(sequentialState1, sequentialState2);
+
+                // updated covariance is symmetric
+                final var covariance = sequentialState1.getCovariance();
+                assertEquals(covariance, covariance.transposeAndReturnNew());
+            }
+        }
+    }
+
+    @Test
+    void testEstimateWithJosephUpdate() throws AlgebraException {
+        // seeded so that compared scenarios are reproducible
+        final var randomizer = new UniformRandomizer(new Random(SEQUENTIAL_SEED));
+        final var workspace = new GNSSKalmanEpochWorkspace();
+        for (final var numMeasurements : SEQUENTIAL_MEASUREMENTS) {
+            for (var t = 0; t < TIMES; t++) {
+
+                final var userLatitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES,
+                        MAX_LATITUDE_DEGREES));
+                final var userLongitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                        MAX_LONGITUDE_DEGREES));
+                final var userHeight = randomizer.nextDouble(MIN_HEIGHT_METERS, MAX_HEIGHT_METERS);
+
+                final var userVn = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+                final var userVe = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+                final var userVd = randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE);
+
+                final var userNedFrame = new NEDFrame(userLatitude, userLongitude, userHeight, userVn, userVe,
+                        userVd);
+                final var userEcefFrame = NEDtoECEFFrameConverter.convertNEDtoECEFAndReturnNew(userNedFrame);
+
+                final var measurements = generateMeasurements(randomizer, userEcefFrame, numMeasurements);
+
+                final var previousEstimation = new GNSSEstimation(
+                        userEcefFrame.getX(), userEcefFrame.getY(), userEcefFrame.getZ(),
+                        userEcefFrame.getVx(), userEcefFrame.getVy(), userEcefFrame.getVz(), CLOCK_OFFSET,
+                        CLOCK_DRIFT);
+                final var config = generateConfig(randomizer);
+                final var previousState = GNSSKalmanInitializer.initialize(previousEstimation, config);
+                // Joseph form is used by default
+                final var josephConfig = new GNSSKalmanConfig(config);
+                final var sequentialJosephConfig = new GNSSKalmanConfig(josephConfig);
+                sequentialJosephConfig.setSequentialUpdate(true);
+                final var shortConfig = new GNSSKalmanConfig(config);
+                shortConfig.setJosephUpdate(false);
+
+                final var state = GNSSKalmanEpochEstimator.estimate(measurements, TIME_INTERVAL_SECONDS,
+                        previousState, shortConfig);
+                final var state2 = new GNSSKalmanState();
+                GNSSKalmanEpochEstimator.estimate(measurements, TIME_INTERVAL_SECONDS, previousState,
+                        shortConfig, state2, workspace);
+                final var josephState1 = GNSSKalmanEpochEstimator.estimate(measurements, TIME_INTERVAL_SECONDS,
+                        previousState, josephConfig);
+                final var josephState2 = new GNSSKalmanState();
+                GNSSKalmanEpochEstimator.estimate(measurements, TIME_INTERVAL_SECONDS, previousState,
+                        josephConfig, josephState2, workspace);
+                final var sequentialJosephState1 = GNSSKalmanEpochEstimator.estimate(measurements,
+                        TIME_INTERVAL_SECONDS, previousState, sequentialJosephConfig);
+                final var sequentialJosephState2 = new GNSSKalmanState();
+                GNSSKalmanEpochEstimator.estimate(measurements, TIME_INTERVAL_SECONDS, previousState,
+                        sequentialJosephConfig, sequentialJosephState2, workspace);
+
+                // Joseph form is equal to short form up to numerical precision
+                assertTrue(state.equals(josephState1, ABSOLUTE_ERROR));
+                assertTrue(state.equals(sequentialJosephState1, ABSOLUTE_ERROR));
+
+                // static and workspace paths are bit-for-bit equal
+                assertEquals(state, state2);
+                assertEquals(josephState1, josephState2);
+                assertEquals(sequentialJosephState1, sequentialJosephState2);
+
+                // updated covariances are symmetric and positive definite
+                for (final var covariance : new Matrix[]{josephState1.getCovariance(),
+                        sequentialJosephState1.getCovariance()}) {
+                    assertEquals(covariance, covariance.transposeAndReturnNew());
+
+                    final var decomposer = new CholeskyDecomposer(covariance);
+                    decomposer.decompose();
+                    assertTrue(decomposer.isSPD());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testEstimateWithWorkspaceWhenInvalidCovarianceThrowsIllegalArgumentException() throws AlgebraException {
+        final var measurements = new ArrayList<GNSSMeasurement>();
+        final var previousEstimation = new GNSSEstimation();
+        final var previousCovariance = new Matrix(1, 1);
+        final var config = new GNSSKalmanConfig();
+        final var updatedEstimation = new GNSSEstimation();
+        final var updatedCovariance = new Matrix(GNSSEstimation.NUM_PARAMETERS, GNSSEstimation.NUM_PARAMETERS);
+        final var workspace = new GNSSKalmanEpochWorkspace();
+
+        assertThrows(IllegalArgumentException.class, () -> GNSSKalmanEpochEstimator.estimate(measurements,
+                TIME_INTERVAL_SECONDS, previousEstimation, previousCovariance, config, updatedEstimation,
+                updatedCovariance, workspace));
+    }
+
     private void estimate(final List<GNSSMeasurement> measurements,
                           final GNSSEstimation previousEstimation,
                           final Matrix previousCovariance,
@@ -497,4 +732,73 @@ class GNSSKalmanEpochEstimatorTest {
         updatedEstimation.fromMatrix(xEstNew);
         updatedCovariance.copyFrom(pMatrixNew);
     }
+
+    private static List<GNSSMeasurement> generateMeasurements(
+            final UniformRandomizer randomizer, final ECEFFrame userEcefFrame) {
+        return generateMeasurements(randomizer, userEcefFrame,
+                randomizer.nextInt(MIN_MEASUREMENTS, MAX_MEASUREMENTS));
+    }
+
+    private static List<GNSSMeasurement> generateMeasurements(
+            final UniformRandomizer randomizer, final ECEFFrame userEcefFrame, final int numMeasurements) {
+        final var userPosition = userEcefFrame.getPosition();
+
+        final var measurements = new ArrayList<GNSSMeasurement>();
+        for (var i = 0; i < numMeasurements; i++) {
+            final var satLatitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES,
+                    MAX_LATITUDE_DEGREES));
+            final var satLongitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                    MAX_LONGITUDE_DEGREES));
+            final var satHeight = randomizer.nextDouble(MIN_SAT_HEIGHT_METERS, MAX_SAT_HEIGHT_METERS);
+
+            final var satVn = randomizer.nextDouble(MIN_SAT_SPEED_VALUE, MAX_SAT_SPEED_VALUE);
+            final var satVe = randomizer.nextDouble(MIN_SAT_SPEED_VALUE, MAX_SAT_SPEED_VALUE);
+            final var satVd = randomizer.nextDouble(MIN_SAT_SPEED_VALUE, MAX_SAT_SPEED_VALUE);
+
+            final var satNedFrame = new NEDFrame(satLatitude, satLongitude, satHeight, satVn, satVe, satVd);
+            final var satEcefFrame = NEDtoECEFFrameConverter.convertNEDtoECEFAndReturnNew(satNedFrame);
+
+            final var satPosition = satEcefFrame.getPosition();
+
+            final var pseudoRange = userPosition.distanceTo(satPosition);
+
+            final var posDiff = new double[]{
+                    satEcefFrame.getX() - userEcefFrame.getX(),
+                    satEcefFrame.getY() - userEcefFrame.getY(),
+                    satEcefFrame.getZ() - userEcefFrame.getZ()};
+            final var posNorm = Utils.normF(posDiff);
+
+            final var velDiff = new double[]{
+                    satEcefFrame.getVx() - userEcefFrame.getVx(),
+                    satEcefFrame.getVy() - userEcefFrame.getVy(),
+                    satEcefFrame.getVz() - userEcefFrame.getVz()};
+            final var velNorm = Utils.normF(velDiff);
+
+            final var dot = Utils.dotProduct(posDiff, velDiff);
+            final var cosAngle = dot / (posNorm * velNorm);
+
+            final var pseudoRate = velNorm * cosAngle;
+
+            measurements.add(new GNSSMeasurement(pseudoRange, pseudoRate,
+                    satEcefFrame.getX(), satEcefFrame.getY(), satEcefFrame.getZ(),
+                    satEcefFrame.getVx(), satEcefFrame.getVy(), satEcefFrame.getVz()));
+        }
+        return measurements;
+    }
+
+    private static GNSSKalmanConfig generateConfig(final UniformRandomizer randomizer) {
+        final var initialPositionUncertainty = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var initialVelocityUncertainty = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var initialClockOffsetUncertainty = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var initialClockDriftUncertainty = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var accelerationPSD = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var clockFrequencyPSD = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var clockPhasePSD = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var pseudoRangeSD = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+        final var rangeRateSD = randomizer.nextDouble(MIN_CONFIG_VALUE, MAX_CONFIG_VALUE);
+
+        return new GNSSKalmanConfig(initialPositionUncertainty, initialVelocityUncertainty,
+                initialClockOffsetUncertainty, initialClockDriftUncertainty, accelerationPSD, clockFrequencyPSD,
+                clockPhasePSD, pseudoRangeSD, rangeRateSD);
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.gnss;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GNSSKalmanEpochWorkspaceTest {
+
+    @Test
+    void testConstructor() {
+        var workspace = new GNSSKalmanEpochWorkspace();
+
+        assertEquals(0, workspace.getCapacity());
+        assertEquals(0, workspace.measurements.length);
+
+        workspace = new GNSSKalmanEpochWorkspace(10);
+
+        assertEquals(10, workspace.getCapacity());
+        assertEquals(10 * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH, workspace.measurements.length);
+        assertEquals(20 * 20, workspace.s.length);
+        assertEquals(20 * GNSSEstimation.NUM_PARAMETERS, workspace.k.length);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> new GNSSKalmanEpochWorkspace(-1));
+    }
+
+    @Test
+    void testEnsureCapacity() {
+        final var workspace = new GNSSKalmanEpochWorkspace();
+
+        workspace.ensureCapacity(5);
+        assertEquals(5, workspace.getCapacity());
+        final var s = workspace.s;
+
+        // smaller capacity does not reallocate buffers
+        workspace.ensureCapacity(4);
+        assertEquals(5, workspace.getCapacity());
+        assertSame(s, workspace.s);
+
+        // larger capacity reallocates buffers
+        workspace.ensureCapacity(6);
+        assertEquals(6, workspace.getCapacity());
+        assertNotSame(s, workspace.s);
+        assertEquals(12 * 12, workspace.s.length);
+    }
+}
@@ -28,7 +28,10 @@ import com.irurueta.units.Time;
 import com.irurueta.units.TimeUnit;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Random;
 
@@ -439,6 +442,113 @@ class GNSSKalmanFilteredEstimatorTest implements GNSSKalmanFilteredEstimatorList
         assertEquals(config1, config3);
     }
 
+    @Test
+    void testGetSetFaultDetectionAndExclusion() throws LockedException {
+        final var estimator = new GNSSKalmanFilteredEstimator();
+
+        // check default value
+        assertNull(estimator.getFaultDetectionAndExclusion());
+
+        // set new value
+        final var fde = new GNSSFaultDetectionAndExclusion();
+        estimator.setFaultDetectionAndExclusion(fde);
+
+        // check
+        assertSame(fde, estimator.getFaultDetectionAndExclusion());
+    }
+
+    @Test
+    void testUpdateMeasurementsWithFaultDetectionAndExclusion() throws LockedException, NotReadyException {
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+            final var userPosition = new ECEFPosition();
+            final var measurements = new ArrayList<>(
+                    GNSSFaultDetectionAndExclusionTest.generateMeasurements(userPosition));
+            final var numMeasurements = measurements.size();
+
+            // add fault to a single pseudo-range
+            final var faulty = randomizer.nextInt(0, numMeasurements);
+            final var faultyMeasurement = measurements.get(faulty);
+            faultyMeasurement.setPseudoRange(faultyMeasurement.getPseudoRange() + 500.0);
+
+            // residuals are weighted using configured pseudo-range standard deviation
+            final var config = generateKalmanConfig();
+            config.setPseudoRangeSD(GNSSFaultDetectionAndExclusion.DEFAULT_PSEUDO_RANGE_STANDARD_DEVIATION);
+            final var estimator = new GNSSKalmanFilteredEstimator(config);
+            final var fde = new GNSSFaultDetectionAndExclusion();
+            estimator.setFaultDetectionAndExclusion(fde);
+
+            try {
+                assertTrue(estimator.updateMeasurements(measurements, 0.0));
+            } catch (final GNSSException e) {
+                continue;
+            }
+
+            assertTrue(fde.isFaultDetected());
+            if (!fde.isConsistent() || fde.getNumberOfExcludedMeasurements() != 1 || !fde.isExcluded(faulty)) {
+                continue;
+            }
+
+            // excluded satellite is no longer part of updated measurements
+            assertEquals(numMeasurements - 1, estimator.getNumberOfMeasurements());
+            final var updatedMeasurements = estimator.getMeasurements();
+            assertEquals(numMeasurements - 1, updatedMeasurements.size());
+            var i = 0;
+            for (final var measurement : updatedMeasurements) {
+                if (i == faulty) {
+                    i++;
+                }
+                assertEquals(measurements.get(i), measurement);
+                i++;
+            }
+
+            final var estimation = estimator.getEstimation();
+            if (!userPosition.equals(estimation.getEcefPosition(), POSITION_ERROR)) {
+                continue;
+            }
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testFaultDetectionAndExclusionUsesConfiguredPseudoRangeSD() throws LockedException, NotReadyException,
+            GNSSException {
+        final var measurements = GNSSFaultDetectionAndExclusionTest.generateMeasurements(new ECEFPosition());
+
+        // configured pseudo-range standard deviation is used regardless of the one of the stage
+        final var config = generateKalmanConfig();
+        config.setPseudoRangeSD(2.0);
+        final var estimator1 = new GNSSKalmanFilteredEstimator(config);
+        final var fde1 = new GNSSFaultDetectionAndExclusion();
+        fde1.setPseudoRangeStandardDeviation(1.0);
+        estimator1.setFaultDetectionAndExclusion(fde1);
+        assertTrue(estimator1.updateMeasurements(measurements, 0.0));
+
+        final var estimator2 = new GNSSKalmanFilteredEstimator(config);
+        final var fde2 = new GNSSFaultDetectionAndExclusion();
+        fde2.setPseudoRangeStandardDeviation(10.0);
+        estimator2.setFaultDetectionAndExclusion(fde2);
+        assertTrue(estimator2.updateMeasurements(measurements, 0.0));
+
+        assertEquals(fde1.getTestStatistic(), fde2.getTestStatistic(), 0.0);
+
+        // standard deviation of the stage is used when configured one is not positive
+        config.setPseudoRangeSD(0.0);
+        final var estimator3 = new GNSSKalmanFilteredEstimator(config);
+        final var fde3 = new GNSSFaultDetectionAndExclusion();
+        fde3.setPseudoRangeStandardDeviation(1.0);
+        estimator3.setFaultDetectionAndExclusion(fde3);
+        assertTrue(estimator3.updateMeasurements(measurements, 0.0));
+
+        assertEquals(4.0 * fde1.getTestStatistic(), fde3.getTestStatistic(),
+                1e-6 * fde3.getTestStatistic());
+    }
+
     @Test
     void testIsUpdateMeasurementsReady() {
         //noinspection ConstantConditions
@@ -451,6 +561,11 @@ class GNSSKalmanFilteredEstimatorTest implements GNSSKalmanFilteredEstimatorList
             measurements.add(new GNSSMeasurement());
         }
         assertTrue(GNSSKalmanFilteredEstimator.isUpdateMeasurementsReady(measurements));
+
+        assertFalse(GNSSKalmanFilteredEstimator.isUpdateMeasurementsReady(
+                GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS - 1));
+        assertTrue(GNSSKalmanFilteredEstimator.isUpdateMeasurementsReady(
+                GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS));
     }
 
     @Test
@@ -610,6 +725,145 @@ class GNSSKalmanFilteredEstimatorTest implements GNSSKalmanFilteredEstimatorList
         assertTrue(numValid > 0);
     }
 
+    @Test
+    void testUpdateMeasurementsWithBuffer() throws LockedException, NotReadyException, GNSSException {
+
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var timeSeconds = randomizer.nextDouble(MIN_TIME, MAX_TIME);
+
+            final var userLatitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+            final var userLongitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                    MAX_LONGITUDE_DEGREES));
+            final var userHeight = randomizer.nextDouble(MIN_USER_HEIGHT, MAX_USER_HEIGHT);
+            final var nedUserPosition = new NEDPosition(userLatitude, userLongitude, userHeight);
+
+            final var userVn = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var userVe = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var userVd = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var nedUserVelocity = new NEDVelocity(userVn, userVe, userVd);
+
+            final var ecefUserPosition = new ECEFPosition();
+            final var ecefUserVelocity = new ECEFVelocity();
+            NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedUserPosition, nedUserVelocity, ecefUserPosition,
+                    ecefUserVelocity);
+
+            final var ecefUserPositionAndVelocity = new ECEFPositionAndVelocity(ecefUserPosition, ecefUserVelocity);
+
+            final var config = generateConfig();
+            final var numSatellites = config.getNumberOfSatellites();
+            final var maskAngle = Math.toRadians(config.getMaskAngleDegrees());
+            final var delta = maskAngle / 3.0;
+
+            final var biases = new ArrayList<Double>();
+            final var satellitePositionsAndVelocities = new ArrayList<ECEFPositionAndVelocity>();
+            final var random = new Random();
+            for (var n = 0; n < numSatellites; n++) {
+                final var satLatitude = randomizer.nextDouble(userLatitude - delta, userLatitude + delta);
+                final var satLongitude = randomizer.nextDouble(userLongitude - delta, userLongitude + delta);
+                final var satHeight = randomizer.nextDouble(MIN_SAT_HEIGHT, MAX_SAT_HEIGHT);
+                final var nedSatPosition = new NEDPosition(satLatitude, satLongitude, satHeight);
+
+                final var satVn = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var satVe = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var satVd = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var nedSatVelocity = new NEDVelocity(satVn, satVe, satVd);
+
+                final var ecefSatPosition = new ECEFPosition();
+                final var ecefSatVelocity = new ECEFVelocity();
+                NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedSatPosition, nedSatVelocity, ecefSatPosition,
+                        ecefSatVelocity);
+
+                final var ecefSatPositionAndVelocity = new ECEFPositionAndVelocity(ecefSatPosition, ecefSatVelocity);
+
+                final var bias = GNSSBiasesGenerator.generateBias(ecefSatPosition, ecefUserPosition, config, random);
+
+                biases.add(bias);
+                satellitePositionsAndVelocities.add(ecefSatPositionAndVelocity);
+            }
+
+            final var measurements = GNSSMeasurementsGenerator.generate(timeSeconds, satellitePositionsAndVelocities,
+                    ecefUserPositionAndVelocity, biases, config, random);
+
+            if (measurements.size() < GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS) {
+                continue;
+            }
+
+            final var kalmanConfig = generateKalmanConfig();
+            final var estimator1 = new GNSSKalmanFilteredEstimator(kalmanConfig);
+            final var estimator2 = new GNSSKalmanFilteredEstimator(kalmanConfig);
+            final var estimator3 = new GNSSKalmanFilteredEstimator(kalmanConfig);
+
+            assertEquals(0, estimator2.getNumberOfMeasurements());
+            assertFalse(estimator2.getMeasurements(new double[0], 0));
+
+            final var offset = 3;
+            final var buffer = toBuffer(measurements, offset);
+            final var numMeasurements = measurements.size();
+
+            final var doubleBuffer = ByteBuffer.allocateDirect(buffer.length * Double.BYTES).asDoubleBuffer();
+            doubleBuffer.put(buffer);
+            doubleBuffer.position(offset);
+
+            try {
+                assertTrue(estimator1.updateMeasurements(measurements, timeSeconds));
+                assertTrue(estimator2.updateMeasurements(buffer, offset, numMeasurements, timeSeconds));
+                assertTrue(estimator3.updateMeasurements(doubleBuffer, numMeasurements,
+                        new Time(timeSeconds, TimeUnit.SECOND)));
+            } catch (final GNSSException e) {
+                continue;
+            }
+
+            // buffer position is not modified
+            assertEquals(offset, doubleBuffer.position());
+
+            // results must be bit-for-bit equal
+            assertEquals(measurements, estimator2.getMeasurements());
+            assertEquals(measurements, estimator3.getMeasurements());
+            assertEquals(numMeasurements, estimator2.getNumberOfMeasurements());
+            final var buffer2 = new double[buffer.length];
+            assertTrue(estimator2.getMeasurements(buffer2, offset));
+            assertArrayEquals(buffer, buffer2, 0.0);
+
+            assertEquals(estimator1.getState(), estimator2.getState());
+            assertEquals(estimator1.getState(), estimator3.getState());
+
+            // update again with same timestamp makes no action
+            assertFalse(estimator2.updateMeasurements(buffer, offset, numMeasurements,
+                    new Time(timeSeconds, TimeUnit.SECOND)));
+            assertFalse(estimator3.updateMeasurements(doubleBuffer, numMeasurements, timeSeconds));
+
+            // propagate
+            final var propagationTime = timeSeconds + 2.0 * MAX_EPOCH_INTERVAL;
+            assertTrue(estimator1.propagate(propagationTime));
+            assertTrue(estimator2.propagate(propagationTime));
+            assertEquals(estimator1.getState(), estimator2.getState());
+
+            // Force IllegalArgumentException
+            assertThrows(IllegalArgumentException.class,
+                    () -> estimator2.updateMeasurements(buffer, offset + 1, numMeasurements, 2.0 * propagationTime));
+            assertThrows(IllegalArgumentException.class,
+                    () -> estimator2.updateMeasurements(buffer, -1, numMeasurements, 2.0 * propagationTime));
+            final var smallBuffer = DoubleBuffer.wrap(buffer, offset + 1, buffer.length - offset - 1);
+            assertThrows(IllegalArgumentException.class,
+                    () -> estimator3.updateMeasurements(smallBuffer, numMeasurements, 2.0 * propagationTime));
+            assertThrows(IllegalArgumentException.class, () -> estimator2.getMeasurements(new double[1], 0));
+
+            // Force NotReadyException
+            assertThrows(NotReadyException.class,
+                    () -> estimator2.updateMeasurements(buffer, offset, 1, 2.0 * propagationTime));
+            assertThrows(NotReadyException.class,
+                    () -> estimator3.updateMeasurements(doubleBuffer, 1, 2.0 * propagationTime));
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
     @Test
     void testUpdateWhenNotReadyThrowsNotReadyException() {
 
@@ -1027,6 +1281,7 @@ class GNSSKalmanFilteredEstimatorTest implements GNSSKalmanFilteredEstimatorList
         assertThrows(LockedException.class, () -> estimator.setEpochInterval(0.0));
         assertThrows(LockedException.class, () -> estimator.setEpochInterval(new Time(0.0, TimeUnit.SECOND)));
         assertThrows(LockedException.class, () -> estimator.setConfig(null));
+        assertThrows(LockedException.class, () -> estimator.setFaultDetectionAndExclusion(null));
         assertThrows(LockedException.class, () -> estimator.updateMeasurements(null, 0.0));
         assertThrows(LockedException.class, () -> estimator.updateMeasurements(null,
                 new Time(0.0, TimeUnit.SECOND)));
@@ -1078,4 +1333,20 @@ class GNSSKalmanFilteredEstimatorTest implements GNSSKalmanFilteredEstimatorList
                 maskAngleDegrees, sisErrorSD, zenithIonosphereErrorSD, zenithTroposphereErrorSD, codeTrackingErrorSD,
                 rangeRateTrackingErrorSD, initialReceiverClockOffset, initialReceiverClockDrift);
     }
+
+    private static double[] toBuffer(final Collection<GNSSMeasurement> measurements, final int offset) {
+        final var result = new double[offset + measurements.size() * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH];
+        var pos = offset;
+        for (final var measurement : measurements) {
+            result[pos++] = measurement.getPseudoRange();
+            result[pos++] = measurement.getPseudoRate();
+            result[pos++] = measurement.getX();
+            result[pos++] = measurement.getY();
+            result[pos++] = measurement.getZ();
+            result[pos++] = measurement.getVx();
+            result[pos++] = measurement.getVy();
+            result[pos++] = measurement.getVz();
+        }
+        return result;
+    }
 }
@@ -123,6 +123,46 @@ class GNSSKalmanStateTest {
         assertEquals(covariance1, covariance3);
     }
 
+    @Test
+    void testGetSetPackedCovariance() throws WrongSizeException {
+        final var state = new GNSSKalmanState();
+
+        // check default value
+        assertNull(state.getPackedCovariance());
+        assertFalse(state.getPackedCovariance(new double[GNSSKalmanState.PACKED_COVARIANCE_LENGTH]));
+
+        // set new value
+        final var randomizer = new UniformRandomizer();
+        final var packed1 = new double[GNSSKalmanState.PACKED_COVARIANCE_LENGTH];
+        randomizer.fill(packed1, MIN_VALUE, MAX_VALUE);
+        state.setPackedCovariance(packed1);
+
+        // check
+        final var covariance = state.getCovariance();
+        assertEquals(GNSSEstimation.NUM_PARAMETERS, covariance.getRows());
+        assertEquals(GNSSEstimation.NUM_PARAMETERS, covariance.getColumns());
+        assertEquals(covariance, covariance.transposeAndReturnNew());
+        for (var j = 0; j < GNSSEstimation.NUM_PARAMETERS; j++) {
+            for (var i = 0; i <= j; i++) {
+                assertEquals(packed1[i + j * (j + 1) / 2], covariance.getElementAt(i, j), 0.0);
+            }
+        }
+
+        final var packed2 = new double[GNSSKalmanState.PACKED_COVARIANCE_LENGTH];
+        assertTrue(state.getPackedCovariance(packed2));
+        assertArrayEquals(packed1, packed2, 0.0);
+        assertArrayEquals(packed1, state.getPackedCovariance(), 0.0);
+
+        // existing covariance is reused
+        state.setPackedCovariance(new double[GNSSKalmanState.PACKED_COVARIANCE_LENGTH]);
+        assertSame(covariance, state.getCovariance());
+        assertEquals(new Matrix(GNSSEstimation.NUM_PARAMETERS, GNSSEstimation.NUM_PARAMETERS), covariance);
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> state.getPackedCovariance(new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> state.setPackedCovariance(new double[1]));
+    }
+
     @Test
     void testCopyToWhenInputHasValuesAndOutputDoesNotHaveValues() throws WrongSizeException {
         final var randomizer = new UniformRandomizer();
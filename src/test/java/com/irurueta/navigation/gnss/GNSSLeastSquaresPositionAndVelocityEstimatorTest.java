@@ -15,18 +15,27 @@
  */
 package com.irurueta.navigation.gnss;
 
+import com.irurueta.algebra.AlgebraException;
+import com.irurueta.algebra.Matrix;
+import com.irurueta.algebra.Utils;
+import com.irurueta.algebra.WrongSizeException;
 import com.irurueta.navigation.LockedException;
 import com.irurueta.navigation.NotReadyException;
+import com.irurueta.navigation.frames.CoordinateTransformation;
 import com.irurueta.navigation.frames.ECEFPosition;
 import com.irurueta.navigation.frames.ECEFVelocity;
 import com.irurueta.navigation.frames.NEDPosition;
 import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.frames.converters.ECEFtoNEDPositionVelocityConverter;
 import com.irurueta.navigation.frames.converters.NEDtoECEFPositionVelocityConverter;
+import com.irurueta.navigation.geodesic.Constants;
 import com.irurueta.statistics.UniformRandomizer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Random;
 
@@ -81,6 +90,13 @@ class GNSSLeastSquaresPositionAndVelocityEstimatorTest implements GNSSLeastSquar
 
     private static final int TIMES = 100;
 
+    private static final double DOP_ERROR = 1e-5;
+
+    private static final double WEIGHTED_ERROR = 1e-6;
+
+    private static final double MIN_PSEUDO_RANGE_SD = 1.0;
+    private static final double MAX_PSEUDO_RANGE_SD = 5.0;
+
     private int estimateStart;
     private int estimateEnd;
 
@@ -100,6 +116,20 @@ class GNSSLeastSquaresPositionAndVelocityEstimatorTest implements GNSSLeastSquar
         assertNull(estimator.getListener());
         assertEquals(GNSSLeastSquaresPositionAndVelocityEstimator.CONVERGENCE_THRESHOLD,
                 estimator.getConvergenceThreshold(), 0.0);
+        assertEquals(GNSSLeastSquaresPositionAndVelocityEstimator.DEFAULT_MAX_ITERATIONS,
+                estimator.getMaxIterations());
+        assertNull(estimator.getPseudoRangeVariances());
+        assertNull(estimator.getElevationWeightingConfig());
+        assertFalse(estimator.isWeighted());
+        assertFalse(estimator.isDilutionOfPrecisionAvailable());
+        assertEquals(Double.NaN, estimator.getGeometricDilutionOfPrecision(), 0.0);
+        assertEquals(Double.NaN, estimator.getPositionDilutionOfPrecision(), 0.0);
+        assertEquals(Double.NaN, estimator.getHorizontalDilutionOfPrecision(), 0.0);
+        assertEquals(Double.NaN, estimator.getVerticalDilutionOfPrecision(), 0.0);
+        assertEquals(Double.NaN, estimator.getTimeDilutionOfPrecision(), 0.0);
+        assertFalse(estimator.isPositionCovarianceAvailable());
+        assertNull(estimator.getPositionCovariance());
+        assertNull(estimator.getPositionAccuracy());
         assertFalse(estimator.isReady());
         assertFalse(estimator.isRunning());
 
@@ -256,6 +286,53 @@ class GNSSLeastSquaresPositionAndVelocityEstimatorTest implements GNSSLeastSquar
         assertThrows(IllegalArgumentException.class, () -> estimator.setMeasurements(emptyList));
     }
 
+    @Test
+    void testGetSetMeasurementsBuffer() throws LockedException {
+        final var estimator = new GNSSLeastSquaresPositionAndVelocityEstimator();
+
+        // check default value
+        assertNull(estimator.getMeasurements());
+        assertFalse(estimator.isReady());
+
+        // set new value
+        final var randomizer = new UniformRandomizer();
+        final var numMeasurements = GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS;
+        final var offset = 2;
+        final var buffer = new double[offset + numMeasurements * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH];
+        randomizer.fill(buffer, MIN_SAT_HEIGHT, MAX_SAT_HEIGHT);
+
+        estimator.setMeasurements(buffer, offset, numMeasurements);
+
+        // check
+        assertTrue(estimator.isReady());
+        final var measurements = new ArrayList<>(estimator.getMeasurements());
+        assertEquals(numMeasurements, measurements.size());
+        for (var i = 0; i < numMeasurements; i++) {
+            final var base = offset + i * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+            final var measurement = measurements.get(i);
+            assertEquals(buffer[base], measurement.getPseudoRange(), 0.0);
+            assertEquals(buffer[base + 1], measurement.getPseudoRate(), 0.0);
+            assertEquals(buffer[base + 2], measurement.getX(), 0.0);
+            assertEquals(buffer[base + 3], measurement.getY(), 0.0);
+            assertEquals(buffer[base + 4], measurement.getZ(), 0.0);
+            assertEquals(buffer[base + 5], measurement.getVx(), 0.0);
+            assertEquals(buffer[base + 6], measurement.getVy(), 0.0);
+            assertEquals(buffer[base + 7], measurement.getVz(), 0.0);
+        }
+
+        // setting a collection replaces buffer
+        estimator.setMeasurements(measurements);
+        assertSame(measurements, estimator.getMeasurements());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setMeasurements(buffer, offset + 1,
+                numMeasurements));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setMeasurements(buffer, -1,
+                numMeasurements));
+        assertThrows(IllegalArgumentException.class, () -> estimator.setMeasurements(buffer, offset,
+                numMeasurements - 1));
+    }
+
     @Test
     void testGetSetPriorPositionAndVelocity() throws LockedException {
         final var estimator = new GNSSLeastSquaresPositionAndVelocityEstimator();
@@ -325,6 +402,77 @@ class GNSSLeastSquaresPositionAndVelocityEstimatorTest implements GNSSLeastSquar
         assertEquals(threshold, estimator.getConvergenceThreshold(), 0.0);
     }
 
+    @Test
+    void testGetSetMaxIterations() throws LockedException {
+        final var estimator = new GNSSLeastSquaresPositionAndVelocityEstimator();
+
+        // check default value
+        assertEquals(GNSSLeastSquaresPositionAndVelocityEstimator.DEFAULT_MAX_ITERATIONS,
+                estimator.getMaxIterations());
+
+        // set new value
+        estimator.setMaxIterations(5);
+
+        // check
+        assertEquals(5, estimator.getMaxIterations());
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> estimator.setMaxIterations(0));
+    }
+
+    @Test
+    void testGetSetPseudoRangeVariances() throws LockedException {
+        final var measurements = new ArrayList<GNSSMeasurement>();
+        for (var i = 0; i < GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS; i++) {
+            measurements.add(new GNSSMeasurement());
+        }
+        final var estimator = new GNSSLeastSquaresPositionAndVelocityEstimator(measurements);
+
+        // check default value
+        assertNull(estimator.getPseudoRangeVariances());
+        assertFalse(estimator.isWeighted());
+        assertTrue(estimator.isReady());
+
+        // set new value
+        final var variances = new double[measurements.size()];
+        Arrays.fill(variances, 1.0);
+        estimator.setPseudoRangeVariances(variances);
+
+        // check
+        assertSame(variances, estimator.getPseudoRangeVariances());
+        assertTrue(estimator.isWeighted());
+        assertTrue(estimator.isReady());
+
+        // a variance is required for each measurement
+        estimator.setPseudoRangeVariances(new double[]{1.0});
+        assertFalse(estimator.isReady());
+
+        estimator.setPseudoRangeVariances(null);
+        assertNull(estimator.getPseudoRangeVariances());
+        assertFalse(estimator.isWeighted());
+
+        // Force IllegalArgumentException
+        final var wrongVariances = new double[measurements.size()];
+        assertThrows(IllegalArgumentException.class, () -> estimator.setPseudoRangeVariances(wrongVariances));
+    }
+
+    @Test
+    void testGetSetElevationWeightingConfig() throws LockedException {
+        final var estimator = new GNSSLeastSquaresPositionAndVelocityEstimator();
+
+        // check default value
+        assertNull(estimator.getElevationWeightingConfig());
+        assertFalse(estimator.isWeighted());
+
+        // set new value
+        final var config = generateConfig();
+        estimator.setElevationWeightingConfig(config);
+
+        // check
+        assertSame(config, estimator.getElevationWeightingConfig());
+        assertTrue(estimator.isWeighted());
+    }
+
     @Test
     void testIsValidMeasurements() {
         assertFalse(GNSSLeastSquaresPositionAndVelocityEstimator.isValidMeasurements(Collections.emptyList()));
@@ -340,6 +488,17 @@ class GNSSLeastSquaresPositionAndVelocityEstimatorTest implements GNSSLeastSquar
         measurements.add(measurement4);
 
         assertTrue(GNSSLeastSquaresPositionAndVelocityEstimator.isValidMeasurements(measurements));
+
+        final var buffer = new double[GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS
+                * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH];
+        assertTrue(GNSSLeastSquaresPositionAndVelocityEstimator.isValidMeasurements(buffer, 0,
+                GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS));
+        assertFalse(GNSSLeastSquaresPositionAndVelocityEstimator.isValidMeasurements(buffer, 1,
+                GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS));
+        assertFalse(GNSSLeastSquaresPositionAndVelocityEstimator.isValidMeasurements(buffer, 0,
+                GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS - 1));
+        assertFalse(GNSSLeastSquaresPositionAndVelocityEstimator.isValidMeasurements(null, 0,
+                GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS));
     }
 
     @Test
@@ -456,6 +615,546 @@ class GNSSLeastSquaresPositionAndVelocityEstimatorTest implements GNSSLeastSquar
         assertTrue(numValid > 0);
     }
 
+    @Test
+    void testEstimateWithMeasurementsBuffer() throws LockedException, NotReadyException {
+
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var numSatellites = randomizer.nextInt(MIN_NUM_SAT, MAX_NUM_SAT);
+            final var timeSeconds = randomizer.nextDouble(MIN_TIME, MAX_TIME);
+
+            final var userLatitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+            final var userLongitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                    MAX_LONGITUDE_DEGREES));
+            final var userHeight = randomizer.nextDouble(MIN_USER_HEIGHT, MAX_USER_HEIGHT);
+            final var nedUserPosition = new NEDPosition(userLatitude, userLongitude, userHeight);
+
+            final var userVn = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var userVe = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var userVd = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var nedUserVelocity = new NEDVelocity(userVn, userVe, userVd);
+
+            final var ecefUserPosition = new ECEFPosition();
+            final var ecefUserVelocity = new ECEFVelocity();
+            NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedUserPosition, nedUserVelocity, ecefUserPosition,
+                    ecefUserVelocity);
+
+            final var ecefUserPositionAndVelocity = new ECEFPositionAndVelocity(ecefUserPosition, ecefUserVelocity);
+
+            final var config = generateConfig();
+            final var maskAngle = Math.toRadians(config.getMaskAngleDegrees());
+            final var delta = maskAngle / 3.0;
+
+            final var biases = new ArrayList<Double>();
+            final var satellitePositionsAndVelocities = new ArrayList<ECEFPositionAndVelocity>();
+            final var random = new Random();
+            for (var n = 0; n < numSatellites; n++) {
+                final var satLatitude = randomizer.nextDouble(userLatitude - delta, userLatitude + delta);
+                final var satLongitude = randomizer.nextDouble(userLongitude - delta, userLongitude + delta);
+                final var satHeight = randomizer.nextDouble(MIN_SAT_HEIGHT, MAX_SAT_HEIGHT);
+                final var nedSatPosition = new NEDPosition(satLatitude, satLongitude, satHeight);
+
+                final var satVn = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var satVe = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var satVd = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var nedSatVelocity = new NEDVelocity(satVn, satVe, satVd);
+
+                final var ecefSatPosition = new ECEFPosition();
+                final var ecefSatVelocity = new ECEFVelocity();
+                NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedSatPosition, nedSatVelocity, ecefSatPosition,
+                        ecefSatVelocity);
+
+                final var ecefSatPositionAndVelocity = new ECEFPositionAndVelocity(ecefSatPosition, ecefSatVelocity);
+
+                final var bias = GNSSBiasesGenerator.generateBias(ecefSatPosition, ecefUserPosition, config, random);
+
+                biases.add(bias);
+                satellitePositionsAndVelocities.add(ecefSatPositionAndVelocity);
+            }
+
+            final var measurements = GNSSMeasurementsGenerator.generate(timeSeconds, satellitePositionsAndVelocities,
+                    ecefUserPositionAndVelocity, biases, config, random);
+
+            if (measurements.size() < GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS) {
+                continue;
+            }
+
+            final var offset = 5;
+            final var buffer = new double[offset
+                    + measurements.size() * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH];
+            var pos = offset;
+            for (final var measurement : measurements) {
+                buffer[pos++] = measurement.getPseudoRange();
+                buffer[pos++] = measurement.getPseudoRate();
+                buffer[pos++] = measurement.getX();
+                buffer[pos++] = measurement.getY();
+                buffer[pos++] = measurement.getZ();
+                buffer[pos++] = measurement.getVx();
+                buffer[pos++] = measurement.getVy();
+                buffer[pos++] = measurement.getVz();
+            }
+
+            final var estimator1 = new GNSSLeastSquaresPositionAndVelocityEstimator(measurements);
+            final var estimator2 = new GNSSLeastSquaresPositionAndVelocityEstimator();
+            estimator2.setMeasurements(buffer, offset, measurements.size());
+
+            final GNSSEstimation estimation1;
+            final GNSSEstimation estimation2;
+            try {
+                estimation1 = estimator1.estimate();
+                estimation2 = estimator2.estimate();
+            } catch (final GNSSException e) {
+                continue;
+            }
+
+            // results must be bit-for-bit equal
+            assertEquals(estimation1, estimation2);
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testEstimateWithMaxIterations() throws LockedException, NotReadyException {
+
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var numSatellites = randomizer.nextInt(MIN_NUM_SAT, MAX_NUM_SAT);
+            final var timeSeconds = randomizer.nextDouble(MIN_TIME, MAX_TIME);
+
+            final var userLatitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+            final var userLongitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                    MAX_LONGITUDE_DEGREES));
+            final var userHeight = randomizer.nextDouble(MIN_USER_HEIGHT, MAX_USER_HEIGHT);
+            final var nedUserPosition = new NEDPosition(userLatitude, userLongitude, userHeight);
+
+            final var userVn = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var userVe = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var userVd = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var nedUserVelocity = new NEDVelocity(userVn, userVe, userVd);
+
+            final var ecefUserPosition = new ECEFPosition();
+            final var ecefUserVelocity = new ECEFVelocity();
+            NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedUserPosition, nedUserVelocity, ecefUserPosition,
+                    ecefUserVelocity);
+
+            final var ecefUserPositionAndVelocity = new ECEFPositionAndVelocity(ecefUserPosition, ecefUserVelocity);
+
+            final var config = generateConfig();
+            final var maskAngle = Math.toRadians(config.getMaskAngleDegrees());
+            final var delta = maskAngle / 3.0;
+
+            final var biases = new ArrayList<Double>();
+            final var satellitePositionsAndVelocities = new ArrayList<ECEFPositionAndVelocity>();
+            final var random = new Random();
+            for (var n = 0; n < numSatellites; n++) {
+                final var satLatitude = randomizer.nextDouble(userLatitude - delta, userLatitude + delta);
+                final var satLongitude = randomizer.nextDouble(userLongitude - delta, userLongitude + delta);
+                final var satHeight = randomizer.nextDouble(MIN_SAT_HEIGHT, MAX_SAT_HEIGHT);
+                final var nedSatPosition = new NEDPosition(satLatitude, satLongitude, satHeight);
+
+                final var satVn = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var satVe = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var satVd = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var nedSatVelocity = new NEDVelocity(satVn, satVe, satVd);
+
+                final var ecefSatPosition = new ECEFPosition();
+                final var ecefSatVelocity = new ECEFVelocity();
+                NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedSatPosition, nedSatVelocity, ecefSatPosition,
+                        ecefSatVelocity);
+
+                final var ecefSatPositionAndVelocity = new ECEFPositionAndVelocity(ecefSatPosition, ecefSatVelocity);
+
+                final var bias = GNSSBiasesGenerator.generateBias(ecefSatPosition, ecefUserPosition, config, random);
+
+                biases.add(bias);
+                satellitePositionsAndVelocities.add(ecefSatPositionAndVelocity);
+            }
+
+            final var measurements = GNSSMeasurementsGenerator.generate(timeSeconds, satellitePositionsAndVelocities,
+                    ecefUserPositionAndVelocity, biases, config, random);
+
+            if (measurements.size() < GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS) {
+                continue;
+            }
+
+            final var estimator = new GNSSLeastSquaresPositionAndVelocityEstimator(measurements);
+            final GNSSEstimation estimation;
+            try {
+                estimation = estimator.estimate();
+            } catch (final GNSSException e) {
+                continue;
+            }
+            assertNotNull(estimation);
+
+            // a single iteration is not enough to converge from initial position
+            estimator.setPriorPositionAndVelocity(null);
+            estimator.setMaxIterations(1);
+            assertThrows(GNSSException.class, estimator::estimate);
+            assertFalse(estimator.isRunning());
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testEstimateWithDegenerateGeometry() {
+        // all satellites located at the same position
+        final var measurements = new ArrayList<GNSSMeasurement>();
+        for (var i = 0; i < GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS; i++) {
+            measurements.add(new GNSSMeasurement(2.0e7, 0.0, 2.6e7, 0.0, 0.0,
+                    0.0, 3000.0, 0.0));
+        }
+
+        final var estimator = new GNSSLeastSquaresPositionAndVelocityEstimator(measurements);
+        assertThrows(GNSSException.class, estimator::estimate);
+        assertFalse(estimator.isRunning());
+    }
+
+    @Test
+    void testEstimateDilutionOfPrecision() throws LockedException, NotReadyException, AlgebraException {
+
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var numSatellites = randomizer.nextInt(MIN_NUM_SAT, MAX_NUM_SAT);
+            final var timeSeconds = randomizer.nextDouble(MIN_TIME, MAX_TIME);
+
+            final var userLatitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+            final var userLongitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                    MAX_LONGITUDE_DEGREES));
+            final var userHeight = randomizer.nextDouble(MIN_USER_HEIGHT, MAX_USER_HEIGHT);
+            final var nedUserPosition = new NEDPosition(userLatitude, userLongitude, userHeight);
+
+            final var userVn = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var userVe = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var userVd = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var nedUserVelocity = new NEDVelocity(userVn, userVe, userVd);
+
+            final var ecefUserPosition = new ECEFPosition();
+            final var ecefUserVelocity = new ECEFVelocity();
+            NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedUserPosition, nedUserVelocity, ecefUserPosition,
+                    ecefUserVelocity);
+
+            final var ecefUserPositionAndVelocity = new ECEFPositionAndVelocity(ecefUserPosition, ecefUserVelocity);
+
+            final var config = generateConfig();
+            final var maskAngle = Math.toRadians(config.getMaskAngleDegrees());
+            final var delta = maskAngle / 3.0;
+
+            final var biases = new ArrayList<Double>();
+            final var satellitePositionsAndVelocities = new ArrayList<ECEFPositionAndVelocity>();
+            final var random = new Random();
+            for (var n = 0; n < numSatellites; n++) {
+                final var satLatitude = randomizer.nextDouble(userLatitude - delta, userLatitude + delta);
+                final var satLongitude = randomizer.nextDouble(userLongitude - delta, userLongitude + delta);
+                final var satHeight = randomizer.nextDouble(MIN_SAT_HEIGHT, MAX_SAT_HEIGHT);
+                final var nedSatPosition = new NEDPosition(satLatitude, satLongitude, satHeight);
+
+                final var satVn = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var satVe = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var satVd = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var nedSatVelocity = new NEDVelocity(satVn, satVe, satVd);
+
+                final var ecefSatPosition = new ECEFPosition();
+                final var ecefSatVelocity = new ECEFVelocity();
+                NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedSatPosition, nedSatVelocity, ecefSatPosition,
+                        ecefSatVelocity);
+
+                final var ecefSatPositionAndVelocity = new ECEFPositionAndVelocity(ecefSatPosition, ecefSatVelocity);
+
+                final var bias = GNSSBiasesGenerator.generateBias(ecefSatPosition, ecefUserPosition, config, random);
+
+                biases.add(bias);
+                satellitePositionsAndVelocities.add(ecefSatPositionAndVelocity);
+            }
+
+            final var measurements = GNSSMeasurementsGenerator.generate(timeSeconds, satellitePositionsAndVelocities,
+                    ecefUserPositionAndVelocity, biases, config, random);
+
+            if (measurements.size() < GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS) {
+                continue;
+            }
+
+            final var estimator = new GNSSLeastSquaresPositionAndVelocityEstimator(measurements);
+            final GNSSEstimation estimation;
+            try {
+                estimation = estimator.estimate();
+            } catch (final GNSSException e) {
+                continue;
+            }
+
+            assertTrue(estimator.isDilutionOfPrecisionAvailable());
+            assertFalse(estimator.isPositionCovarianceAvailable());
+            assertNull(estimator.getPositionCovariance());
+            assertNull(estimator.getPositionAccuracy());
+
+            // compute expected dilution of precision. Because estimator obtains it
+            // from the normal equations of the last iteration, a relative error is
+            // allowed
+            final var q = Utils.inverse(geometryMatrix(measurements, estimation.getEcefPosition()));
+            final var gdop = Math.sqrt(q.getElementAt(0, 0) + q.getElementAt(1, 1)
+                    + q.getElementAt(2, 2) + q.getElementAt(3, 3));
+            final var pdop = Math.sqrt(q.getElementAt(0, 0) + q.getElementAt(1, 1)
+                    + q.getElementAt(2, 2));
+            final var tdop = Math.sqrt(q.getElementAt(3, 3));
+
+            final var nedPosition = new NEDPosition();
+            final var nedVelocity = new NEDVelocity();
+            ECEFtoNEDPositionVelocityConverter.convertECEFtoNED(estimation.getEcefPosition(),
+                    new ECEFVelocity(), nedPosition, nedVelocity);
+            final var cen = CoordinateTransformation.ecefToNedMatrix(nedPosition.getLatitude(),
+                    nedPosition.getLongitude());
+            final var qNed = cen.multiplyAndReturnNew(q.getSubmatrix(0, 0, 2, 2))
+                    .multiplyAndReturnNew(cen.transposeAndReturnNew());
+            final var hdop = Math.sqrt(qNed.getElementAt(0, 0) + qNed.getElementAt(1, 1));
+            final var vdop = Math.sqrt(qNed.getElementAt(2, 2));
+
+            assertEquals(gdop, estimator.getGeometricDilutionOfPrecision(), DOP_ERROR * gdop);
+            assertEquals(pdop, estimator.getPositionDilutionOfPrecision(), DOP_ERROR * pdop);
+            assertEquals(hdop, estimator.getHorizontalDilutionOfPrecision(), DOP_ERROR * hdop);
+            assertEquals(vdop, estimator.getVerticalDilutionOfPrecision(), DOP_ERROR * vdop);
+            assertEquals(tdop, estimator.getTimeDilutionOfPrecision(), DOP_ERROR * tdop);
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testEstimateWithPseudoRangeVariances() throws LockedException, NotReadyException, WrongSizeException {
+
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var numSatellites = randomizer.nextInt(MIN_NUM_SAT, MAX_NUM_SAT);
+            final var timeSeconds = randomizer.nextDouble(MIN_TIME, MAX_TIME);
+
+            final var userLatitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+            final var userLongitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                    MAX_LONGITUDE_DEGREES));
+            final var userHeight = randomizer.nextDouble(MIN_USER_HEIGHT, MAX_USER_HEIGHT);
+            final var nedUserPosition = new NEDPosition(userLatitude, userLongitude, userHeight);
+
+            final var userVn = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var userVe = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var userVd = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var nedUserVelocity = new NEDVelocity(userVn, userVe, userVd);
+
+            final var ecefUserPosition = new ECEFPosition();
+            final var ecefUserVelocity = new ECEFVelocity();
+            NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedUserPosition, nedUserVelocity, ecefUserPosition,
+                    ecefUserVelocity);
+
+            final var ecefUserPositionAndVelocity = new ECEFPositionAndVelocity(ecefUserPosition, ecefUserVelocity);
+
+            final var config = generateConfig();
+            final var maskAngle = Math.toRadians(config.getMaskAngleDegrees());
+            final var delta = maskAngle / 3.0;
+
+            final var biases = new ArrayList<Double>();
+            final var satellitePositionsAndVelocities = new ArrayList<ECEFPositionAndVelocity>();
+            final var random = new Random();
+            for (var n = 0; n < numSatellites; n++) {
+                final var satLatitude = randomizer.nextDouble(userLatitude - delta, userLatitude + delta);
+                final var satLongitude = randomizer.nextDouble(userLongitude - delta, userLongitude + delta);
+                final var satHeight = randomizer.nextDouble(MIN_SAT_HEIGHT, MAX_SAT_HEIGHT);
+                final var nedSatPosition = new NEDPosition(satLatitude, satLongitude, satHeight);
+
+                final var satVn = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var satVe = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var satVd = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var nedSatVelocity = new NEDVelocity(satVn, satVe, satVd);
+
+                final var ecefSatPosition = new ECEFPosition();
+                final var ecefSatVelocity = new ECEFVelocity();
+                NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedSatPosition, nedSatVelocity, ecefSatPosition,
+                        ecefSatVelocity);
+
+                final var ecefSatPositionAndVelocity = new ECEFPositionAndVelocity(ecefSatPosition, ecefSatVelocity);
+
+                final var bias = GNSSBiasesGenerator.generateBias(ecefSatPosition, ecefUserPosition, config, random);
+
+                biases.add(bias);
+                satellitePositionsAndVelocities.add(ecefSatPositionAndVelocity);
+            }
+
+            final var measurements = GNSSMeasurementsGenerator.generate(timeSeconds, satellitePositionsAndVelocities,
+                    ecefUserPositionAndVelocity, biases, config, random);
+
+            if (measurements.size() < GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS) {
+                continue;
+            }
+
+            final var estimator1 = new GNSSLeastSquaresPositionAndVelocityEstimator(measurements);
+            final var estimator2 = new GNSSLeastSquaresPositionAndVelocityEstimator(measurements);
+
+            // using the same variance for all measurements is equivalent to unweighted
+            // least squares
+            final var sd = randomizer.nextDouble(MIN_PSEUDO_RANGE_SD, MAX_PSEUDO_RANGE_SD);
+            final var variances = new double[measurements.size()];
+            Arrays.fill(variances, sd * sd);
+            estimator2.setPseudoRangeVariances(variances);
+
+            final GNSSEstimation estimation1;
+            final GNSSEstimation estimation2;
+            try {
+                estimation1 = estimator1.estimate();
+                estimation2 = estimator2.estimate();
+            } catch (final GNSSException e) {
+                continue;
+            }
+
+            assertTrue(estimation1.equals(estimation2, WEIGHTED_ERROR));
+
+            assertEquals(estimator1.getGeometricDilutionOfPrecision(),
+                    estimator2.getGeometricDilutionOfPrecision(), DOP_ERROR);
+            assertEquals(estimator1.getPositionDilutionOfPrecision(),
+                    estimator2.getPositionDilutionOfPrecision(), DOP_ERROR);
+            assertEquals(estimator1.getHorizontalDilutionOfPrecision(),
+                    estimator2.getHorizontalDilutionOfPrecision(), DOP_ERROR);
+            assertEquals(estimator1.getVerticalDilutionOfPrecision(),
+                    estimator2.getVerticalDilutionOfPrecision(), DOP_ERROR);
+            assertEquals(estimator1.getTimeDilutionOfPrecision(),
+                    estimator2.getTimeDilutionOfPrecision(), DOP_ERROR);
+
+            // covariance is scaled geometry
+            assertFalse(estimator1.isPositionCovarianceAvailable());
+            assertTrue(estimator2.isPositionCovarianceAvailable());
+            final var covariance = estimator2.getPositionCovariance();
+            assertEquals(3, covariance.getRows());
+            assertEquals(3, covariance.getColumns());
+            assertTrue(Utils.isSymmetric(covariance));
+            final var pdop = estimator1.getPositionDilutionOfPrecision();
+            final var trace = covariance.getElementAt(0, 0) + covariance.getElementAt(1, 1)
+                    + covariance.getElementAt(2, 2);
+            assertEquals(pdop * pdop * sd * sd, trace, DOP_ERROR * trace);
+
+            final var covariance2 = new Matrix(1, 1);
+            assertTrue(estimator2.getPositionCovariance(covariance2));
+            assertEquals(covariance, covariance2);
+            assertFalse(estimator1.getPositionCovariance(covariance2));
+
+            final var accuracy = estimator2.getPositionAccuracy();
+            assertNotNull(accuracy);
+            assertEquals(covariance, accuracy.getCovarianceMatrix());
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
+    @Test
+    void testEstimateWithElevationWeighting() throws LockedException, NotReadyException {
+
+        var numValid = 0;
+        for (var t = 0; t < TIMES; t++) {
+            final var randomizer = new UniformRandomizer();
+
+            final var numSatellites = randomizer.nextInt(MIN_NUM_SAT, MAX_NUM_SAT);
+            final var timeSeconds = randomizer.nextDouble(MIN_TIME, MAX_TIME);
+
+            final var userLatitude = Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES));
+            final var userLongitude = Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES,
+                    MAX_LONGITUDE_DEGREES));
+            final var userHeight = randomizer.nextDouble(MIN_USER_HEIGHT, MAX_USER_HEIGHT);
+            final var nedUserPosition = new NEDPosition(userLatitude, userLongitude, userHeight);
+
+            final var userVn = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var userVe = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var userVd = randomizer.nextDouble(MIN_USER_VELOCITY_VALUE, MAX_USER_VELOCITY_VALUE);
+            final var nedUserVelocity = new NEDVelocity(userVn, userVe, userVd);
+
+            final var ecefUserPosition = new ECEFPosition();
+            final var ecefUserVelocity = new ECEFVelocity();
+            NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedUserPosition, nedUserVelocity, ecefUserPosition,
+                    ecefUserVelocity);
+
+            final var ecefUserPositionAndVelocity = new ECEFPositionAndVelocity(ecefUserPosition, ecefUserVelocity);
+
+            final var config = generateConfig();
+            final var maskAngle = Math.toRadians(config.getMaskAngleDegrees());
+            final var delta = maskAngle / 3.0;
+
+            final var biases = new ArrayList<Double>();
+            final var satellitePositionsAndVelocities = new ArrayList<ECEFPositionAndVelocity>();
+            final var random = new Random();
+            for (var n = 0; n < numSatellites; n++) {
+                final var satLatitude = randomizer.nextDouble(userLatitude - delta, userLatitude + delta);
+                final var satLongitude = randomizer.nextDouble(userLongitude - delta, userLongitude + delta);
+                final var satHeight = randomizer.nextDouble(MIN_SAT_HEIGHT, MAX_SAT_HEIGHT);
+                final var nedSatPosition = new NEDPosition(satLatitude, satLongitude, satHeight);
+
+                final var satVn = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var satVe = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var satVd = randomizer.nextDouble(MIN_SAT_VELOCITY_VALUE, MAX_SAT_VELOCITY_VALUE);
+                final var nedSatVelocity = new NEDVelocity(satVn, satVe, satVd);
+
+                final var ecefSatPosition = new ECEFPosition();
+                final var ecefSatVelocity = new ECEFVelocity();
+                NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedSatPosition, nedSatVelocity, ecefSatPosition,
+                        ecefSatVelocity);
+
+                final var ecefSatPositionAndVelocity = new ECEFPositionAndVelocity(ecefSatPosition, ecefSatVelocity);
+
+                final var bias = GNSSBiasesGenerator.generateBias(ecefSatPosition, ecefUserPosition, config, random);
+
+                biases.add(bias);
+                satellitePositionsAndVelocities.add(ecefSatPositionAndVelocity);
+            }
+
+            final var measurements = GNSSMeasurementsGenerator.generate(timeSeconds, satellitePositionsAndVelocities,
+                    ecefUserPositionAndVelocity, biases, config, random);
+
+            if (measurements.size() < GNSSLeastSquaresPositionAndVelocityEstimator.MIN_MEASUREMENTS) {
+                continue;
+            }
+
+            final var estimator = new GNSSLeastSquaresPositionAndVelocityEstimator(measurements);
+            estimator.setElevationWeightingConfig(config);
+
+            final GNSSEstimation estimation;
+            try {
+                estimation = estimator.estimate();
+            } catch (final GNSSException e) {
+                continue;
+            }
+
+            final var estimatedPosition = estimation.getEcefPosition();
+            if (!ecefUserPosition.equals(estimatedPosition, POSITION_ERROR)) {
+                continue;
+            }
+
+            assertTrue(estimator.isDilutionOfPrecisionAvailable());
+            assertTrue(estimator.getGeometricDilutionOfPrecision() > 0.0);
+            assertTrue(estimator.isPositionCovarianceAvailable());
+            assertNotNull(estimator.getPositionCovariance());
+            assertNotNull(estimator.getPositionAccuracy());
+            assertFalse(estimator.isRunning());
+
+            numValid++;
+            break;
+        }
+
+        assertTrue(numValid > 0);
+    }
+
     @Test
     void testEstimateWithPriorPositionAndVelocity() throws LockedException, NotReadyException {
 
@@ -613,6 +1312,29 @@ class GNSSLeastSquaresPositionAndVelocityEstimatorTest implements GNSSLeastSquar
         assertThrows(LockedException.class, () -> estimator.estimate(null));
     }
 
+    private static Matrix geometryMatrix(final Collection<GNSSMeasurement> measurements,
+                                         final ECEFPosition position) throws WrongSizeException {
+        final var h = new Matrix(measurements.size(), 4);
+        var i = 0;
+        for (final var measurement : measurements) {
+            final var approxRange = Math.sqrt(Math.pow(measurement.getX() - position.getX(), 2.0)
+                    + Math.pow(measurement.getY() - position.getY(), 2.0)
+                    + Math.pow(measurement.getZ() - position.getZ(), 2.0));
+            final var cei = Constants.EARTH_ROTATION_RATE * approxRange / Constants.SPEED_OF_LIGHT;
+            final var deltaRx = measurement.getX() + cei * measurement.getY() - position.getX();
+            final var deltaRy = measurement.getY() - cei * measurement.getX() - position.getY();
+            final var deltaRz = measurement.getZ() - position.getZ();
+            final var range = Math.sqrt(deltaRx * deltaRx + deltaRy * deltaRy + deltaRz * deltaRz);
+
+            h.setElementAt(i, 0, -deltaRx / range);
+            h.setElementAt(i, 1, -deltaRy / range);
+            h.setElementAt(i, 2, -deltaRz / range);
+            h.setElementAt(i, 3, 1.0);
+            i++;
+        }
+        return h.transposeAndReturnNew().multiplyAndReturnNew(h);
+    }
+
     private static GNSSConfig generateConfig() {
         final var randomizer = new UniformRandomizer();
         final var epochInterval = randomizer.nextDouble(MIN_VALUE, MAX_VALUE);
@@ -0,0 +1,292 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.gnss;
+
+import com.irurueta.navigation.frames.ECEFPosition;
+import com.irurueta.navigation.frames.ECEFVelocity;
+import com.irurueta.navigation.frames.NEDPosition;
+import com.irurueta.navigation.frames.NEDVelocity;
+import com.irurueta.navigation.frames.converters.NEDtoECEFPositionVelocityConverter;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GNSSMeasurementsSimulatorTest {
+
+    private static final double EPOCH_INTERVAL = 1.0;
+    private static final int NUMBER_OF_SATELLITES = 30;
+    private static final double ORBITAL_RADIUS = 2.656175E7;
+    private static final double INCLINATION_DEGREES = 55.0;
+    private static final double MASK_ANGLE_DEGREES = 10.0;
+
+    private static final double MIN_LATITUDE_DEGREES = -70.0;
+    private static final double MAX_LATITUDE_DEGREES = 70.0;
+
+    private static final double MIN_LONGITUDE_DEGREES = -180.0;
+    private static final double MAX_LONGITUDE_DEGREES = 180.0;
+
+    private static final double MIN_HEIGHT = -50.0;
+    private static final double MAX_HEIGHT = 50.0;
+
+    private static final double MIN_SPEED_VALUE = -20.0;
+    private static final double MAX_SPEED_VALUE = 20.0;
+
+    private static final int EPOCHS = 300;
+
+    private static final int EPOCHS_PER_TASK = 16;
+
+    private static final double ABSOLUTE_ERROR = 1e-6;
+
+    @Test
+    void testConstants() {
+        assertEquals(64, GNSSMeasurementsSimulator.DEFAULT_EPOCHS_PER_TASK);
+        assertEquals(GNSSMeasurementsGenerator.SPEED_OF_LIGHT, GNSSMeasurementsSimulator.SPEED_OF_LIGHT, 0.0);
+        assertEquals(GNSSMeasurementsGenerator.EARTH_ROTATION_RATE, GNSSMeasurementsSimulator.EARTH_ROTATION_RATE,
+                0.0);
+    }
+
+    @Test
+    void testConstructor() {
+        final var config = createConfig();
+        final var trajectory = createTrajectory();
+        final var seed = new Random().nextLong();
+
+        final var simulator = new GNSSMeasurementsSimulator(config, trajectory, seed);
+
+        // check default values
+        assertEquals(config, simulator.getConfig());
+        assertSame(trajectory, simulator.getTrajectory());
+        assertEquals(seed, simulator.getSeed());
+        assertEquals(config.getNumberOfSatellites(), simulator.getConstellation().getNumberOfSatellites());
+        assertEquals(GNSSMeasurementsSimulator.DEFAULT_EPOCHS_PER_TASK, simulator.getEpochsPerTask());
+        assertTrue(simulator.isParallel());
+        assertEquals(config.getNumberOfSatellites() * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH,
+                simulator.getEpochLength());
+        assertEquals(-1, simulator.getEpoch());
+        assertEquals(simulator.getEpochLength(), simulator.getMeasurements().length);
+        assertEquals(0, simulator.getNumberOfMeasurements());
+        assertEquals(3.0 * config.getEpochInterval(), simulator.getTime(3), 0.0);
+        for (var j = 0; j < config.getNumberOfSatellites(); j++) {
+            assertTrue(Double.isFinite(simulator.getBias(j)));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> simulator.getBias(-1));
+
+        // constructor with epochs per task
+        final var simulator2 = new GNSSMeasurementsSimulator(config, trajectory, seed, EPOCHS_PER_TASK);
+        assertEquals(EPOCHS_PER_TASK, simulator2.getEpochsPerTask());
+
+        // biases only depend on seed
+        for (var j = 0; j < config.getNumberOfSatellites(); j++) {
+            assertEquals(simulator.getBias(j), simulator2.getBias(j), 0.0);
+        }
+
+        // Force IllegalArgumentException
+        assertThrows(IllegalArgumentException.class,
+                () -> new GNSSMeasurementsSimulator(config, trajectory, seed, 0));
+    }
+
+    @Test
+    void testGetSetParallel() {
+        final var simulator = new GNSSMeasurementsSimulator(createConfig(), createTrajectory(), 0L);
+
+        // check default value
+        assertTrue(simulator.isParallel());
+
+        // set new value
+        simulator.setParallel(false);
+
+        // check
+        assertFalse(simulator.isParallel());
+    }
+
+    @Test
+    void testNextMatchesMeasurementsGenerator() {
+        final var config = createConfig();
+        config.setCodeTrackingErrorSD(0.0);
+        config.setRangeRateTrackingErrorSD(0.0);
+        final var trajectory = createTrajectory();
+        final var simulator = new GNSSMeasurementsSimulator(config, trajectory, new Random().nextLong());
+
+        final var user = new ECEFPositionAndVelocity();
+        final var expected = new GNSSMeasurement();
+        final var random = new Random();
+        for (var e = 0; e < EPOCHS; e++) {
+            final var count = simulator.next();
+            assertEquals(e, simulator.getEpoch());
+            assertEquals(count, simulator.getNumberOfMeasurements());
+            assertTrue(count >= 4);
+
+            final var time = simulator.getTime();
+            assertEquals(e * config.getEpochInterval(), time, 0.0);
+            trajectory.getPositionAndVelocity(time, user);
+
+            final var measurements = simulator.getMeasurements();
+            var k = 0;
+            for (var j = 0; j < config.getNumberOfSatellites(); j++) {
+                final var satellite = SatelliteECEFPositionAndVelocityGenerator.generateSatellitePositionAndVelocity(
+                        time, config, j);
+                if (!GNSSMeasurementsGenerator.generate(time, satellite.getX(), satellite.getY(), satellite.getZ(),
+                        satellite.getVx(), satellite.getVy(), satellite.getVz(), user.getX(), user.getY(),
+                        user.getZ(), user.getVx(), user.getVy(), user.getVz(), simulator.getBias(j), config,
+                        random, expected)) {
+                    continue;
+                }
+
+                final var base = k * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+                assertEquals(expected.getPseudoRange(), measurements[base], ABSOLUTE_ERROR);
+                assertEquals(expected.getPseudoRate(), measurements[base + 1], ABSOLUTE_ERROR);
+                assertEquals(expected.getX(), measurements[base + 2], 0.0);
+                assertEquals(expected.getY(), measurements[base + 3], 0.0);
+                assertEquals(expected.getZ(), measurements[base + 4], 0.0);
+                assertEquals(expected.getVx(), measurements[base + 5], 0.0);
+                assertEquals(expected.getVy(), measurements[base + 6], 0.0);
+                assertEquals(expected.getVz(), measurements[base + 7], 0.0);
+                k++;
+            }
+            assertEquals(count, k);
+        }
+    }
+
+    @Test
+    void testGenerateIsDeterministic() {
+        final var config = createConfig();
+        final var trajectory = createTrajectory();
+        final var seed = new Random().nextLong();
+        final var simulator = new GNSSMeasurementsSimulator(config, trajectory, seed, EPOCHS_PER_TASK);
+        final var epochLength = simulator.getEpochLength();
+
+        // sequential generation
+        final var sequential = new double[EPOCHS * epochLength];
+        final var sequentialCounts = new int[EPOCHS];
+        for (var e = 0; e < EPOCHS; e++) {
+            sequentialCounts[e] = simulator.next();
+            System.arraycopy(simulator.getMeasurements(), 0, sequential, e * epochLength,
+                    sequentialCounts[e] * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH);
+        }
+
+        // parallel batch generation
+        final var parallel = new double[EPOCHS * epochLength];
+        final var parallelCounts = new int[EPOCHS];
+        simulator.generate(0, EPOCHS, parallel, parallelCounts);
+
+        // sequential batch generation
+        simulator.setParallel(false);
+        final var batch = new double[EPOCHS * epochLength];
+        final var batchCounts = new int[EPOCHS];
+        simulator.generate(0, EPOCHS, batch, batchCounts);
+
+        assertArrayEquals(sequentialCounts, parallelCounts);
+        assertArrayEquals(sequentialCounts, batchCounts);
+        for (var e = 0; e < EPOCHS; e++) {
+            final var from = e * epochLength;
+            final var to = from + sequentialCounts[e] * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+            assertArrayEquals(Arrays.copyOfRange(sequential, from, to), Arrays.copyOfRange(parallel, from, to),
+                    0.0);
+            assertArrayEquals(Arrays.copyOfRange(sequential, from, to), Arrays.copyOfRange(batch, from, to), 0.0);
+        }
+
+        // random access to a single epoch
+        final var epoch = new UniformRandomizer().nextInt(0, EPOCHS);
+        final var offset = 3;
+        final var single = new double[offset + epochLength];
+        assertEquals(sequentialCounts[epoch], simulator.generate(epoch, single, offset));
+        for (var i = 0; i < sequentialCounts[epoch] * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH; i++) {
+            assertEquals(sequential[epoch * epochLength + i], single[offset + i], 0.0);
+        }
+
+        // sequence of epochs is not modified
+        assertEquals(EPOCHS - 1, simulator.getEpoch());
+
+        // reset restarts sequence
+        simulator.reset();
+        assertEquals(-1, simulator.getEpoch());
+        assertEquals(0, simulator.getNumberOfMeasurements());
+        assertEquals(sequentialCounts[0], simulator.next());
+        for (var i = 0; i < sequentialCounts[0] * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH; i++) {
+            assertEquals(sequential[i], simulator.getMeasurements()[i], 0.0);
+        }
+
+        // another simulator with same seed produces same results
+        final var simulator2 = new GNSSMeasurementsSimulator(config, trajectory, seed);
+        simulator2.generate(0, EPOCHS, batch, batchCounts);
+        assertArrayEquals(sequentialCounts, batchCounts);
+        for (var e = 0; e < EPOCHS; e++) {
+            final var from = e * epochLength;
+            final var to = from + sequentialCounts[e] * GNSSKalmanEpochWorkspace.MEASUREMENT_LENGTH;
+            assertArrayEquals(Arrays.copyOfRange(sequential, from, to), Arrays.copyOfRange(batch, from, to), 0.0);
+        }
+
+        // a different seed produces different noise
+        final var simulator3 = new GNSSMeasurementsSimulator(config, trajectory, seed + 1);
+        simulator3.next();
+        assertNotEquals(sequential[0], simulator3.getMeasurements()[0], 0.0);
+    }
+
+    @Test
+    void testGenerateWithInvalidValues() {
+        final var simulator = new GNSSMeasurementsSimulator(createConfig(), createTrajectory(), 0L);
+        final var epochLength = simulator.getEpochLength();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> simulator.generate(-1, new double[epochLength], 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> simulator.generate(0, new double[epochLength], -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> simulator.generate(0, new double[epochLength], 1));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> simulator.generate(-1, 1, new double[epochLength], new int[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> simulator.generate(0, -1, new double[epochLength], new int[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> simulator.generate(0, 2, new double[epochLength], new int[2]));
+        assertThrows(IllegalArgumentException.class,
+                () -> simulator.generate(0, 2, new double[2 * epochLength], new int[1]));
+    }
+
+    private static GNSSConfig createConfig() {
+        return new GNSSConfig(EPOCH_INTERVAL, 0.0, 0.0, 0.0, NUMBER_OF_SATELLITES, ORBITAL_RADIUS,
+                INCLINATION_DEGREES, 0.0, 0.0, MASK_ANGLE_DEGREES, 1.0, 2.0, 0.2, 1.0, 0.02, 10000.0, 100.0);
+    }
+
+    private static GNSSUserTrajectory createTrajectory() {
+        final var randomizer = new UniformRandomizer();
+        final var nedPosition = new NEDPosition(
+                Math.toRadians(randomizer.nextDouble(MIN_LATITUDE_DEGREES, MAX_LATITUDE_DEGREES)),
+                Math.toRadians(randomizer.nextDouble(MIN_LONGITUDE_DEGREES, MAX_LONGITUDE_DEGREES)),
+                randomizer.nextDouble(MIN_HEIGHT, MAX_HEIGHT));
+        final var nedVelocity = new NEDVelocity(randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE),
+                randomizer.nextDouble(MIN_SPEED_VALUE, MAX_SPEED_VALUE), 0.0);
+        final var ecefPosition = new ECEFPosition();
+        final var ecefVelocity = new ECEFVelocity();
+        NEDtoECEFPositionVelocityConverter.convertNEDtoECEF(nedPosition, nedVelocity, ecefPosition, ecefVelocity);
+
+        final var x = ecefPosition.getX();
+        final var y = ecefPosition.getY();
+        final var z = ecefPosition.getZ();
+        final var vx = ecefVelocity.getVx();
+        final var vy = ecefVelocity.getVy();
+        final var vz = ecefVelocity.getVz();
+        return (time, result) -> {
+            result.setPositionCoordinates(x + vx * time, y + vy * time, z + vz * time);
+            result.setVelocityCoordinates(vx, vy, vz);
+        };
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.irurueta.navigation.gnss;
+
+import com.irurueta.navigation.geodesic.Constants;
+import com.irurueta.statistics.UniformRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SatelliteConstellationTest {
+
+    private static final double EPOCH_INTERVAL = 1.0;
+    private static final int NUMBER_OF_SATELLITES = 30;
+    private static final double ORBITAL_RADIUS = 2.656175E7;
+    private static final double INCLINATION_DEGREES = 55.0;
+    private static final double MASK_ANGLE_DEGREES = 10.0;
+
+    private static final double MIN_TIME_SECONDS = 0.0;
+    private static final double MAX_TIME_SECONDS = 86400.0;
+
+    @Test
+    void testConstants() {
+        assertEquals(3, SatelliteConstellation.COMPONENTS);
+    }
+
+    @Test
+    void testConstructor() {
+        final var randomizer = new UniformRandomizer();
+        final var config = createConfig();
+        config.setConstellationTimingOffset(randomizer.nextDouble(MIN_TIME_SECONDS, MAX_TIME_SECONDS));
+
+        final var constellation = new SatelliteConstellation(config);
+
+        // check
+        final var orbitalRadius = config.getOrbitalRadiusOfSatellites();
+        assertEquals(config.getNumberOfSatellites(), constellation.getNumberOfSatellites());
+        assertEquals(orbitalRadius, constellation.getOrbitalRadius(), 0.0);
+        assertEquals(Math.sqrt(Constants.EARTH_GRAVITATIONAL_CONSTANT
+                        / (orbitalRadius * orbitalRadius * orbitalRadius)),
+                constellation.getOrbitalAngularRate(), 0.0);
+        assertEquals(config.getConstellationTimingOffset(), constellation.getTimingOffset(), 0.0);
+        assertEquals(10 * config.getNumberOfSatellites() * SatelliteConstellation.COMPONENTS,
+                constellation.getBufferLength(10));
+    }
+
+    @Test
+    void testGenerate() {
+        final var randomizer = new UniformRandomizer();
+        final var config = createConfig();
+        config.setSatellitesInclinationDegrees(randomizer.nextDouble(0.0, 90.0));
+        config.setConstellationLongitudeOffsetDegrees(randomizer.nextDouble(0.0, 360.0));
+        config.setConstellationTimingOffset(randomizer.nextDouble(MIN_TIME_SECONDS, MAX_TIME_SECONDS));
+        final var constellation = new SatelliteConstellation(config);
+
+        final var time = randomizer.nextDouble(MIN_TIME_SECONDS, MAX_TIME_SECONDS);
+        final var positions = new double[SatelliteConstellation.COMPONENTS];
+        final var velocities = new double[SatelliteConstellation.COMPONENTS];
+        for (var j = 0; j < constellation.getNumberOfSatellites(); j++) {
+            constellation.generate(time, j, positions, velocities, 0);
+
+            final var expected = SatelliteECEFPositionAndVelocityGenerator.generateSatellitePositionAndVelocity(
+                    time, config, j);
+            assertEquals(expected.getX(), positions[0], 0.0);
+            assertEquals(expected.getY(), positions[1], 0.0);
+            assertEquals(expected.getZ(), positions[2], 0.0);
+            assertEquals(expected.getVx(), velocities[0], 0.0);
+            assertEquals(expected.getVy(), velocities[1], 0.0);
+            assertEquals(expected.getVz(), velocities[2], 0.0);
+        }
+    }
+
+    private static GNSSConfig createConfig() {
+        return new GNSSConfig(EPOCH_INTERVAL, 0.0, 0.0, 0.0, NUMBER_OF_SATELLITES, ORBITAL_RADIUS,
+                INCLINATION_DEGREES, 0.0, 0.0, MASK_ANGLE_DEGREES, 1.0, 2.0, 0.2, 1.0, 0.02, 10000.0, 100.0);
+    }
+}
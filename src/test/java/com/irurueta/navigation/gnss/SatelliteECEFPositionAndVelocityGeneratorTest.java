@@ -23,11 +23,19 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SatelliteECEFPositionAndVelocityGeneratorTest {
 
+    private static final double EPOCH_INTERVAL = 1.0;
+    private static final int NUMBER_OF_SATELLITES = 30;
+    private static final double ORBITAL_RADIUS = 2.656175E7;
+    private static final double INCLINATION_DEGREES = 55.0;
+    private static final double MASK_ANGLE_DEGREES = 10.0;
+
     private static final double MIN_VALUE = 1e-4;
     private static final double MAX_VALUE = 1e-3;
 
@@ -41,6 +49,10 @@ class SatelliteECEFPositionAndVelocityGeneratorTest {
     private static final double LARGE_ABSOLUTE_ERROR = 1e-6;
     private static final double VERY_LARGE_ABSOLUTE_ERROR = 1e-5;
 
+    private static final double MAX_EPOCH_TIME_SECONDS = 86400.0;
+
+    private static final int EPOCHS = 500;
+
     private static final int TIMES = 100;
 
     @Test
@@ -49,6 +61,7 @@ class SatelliteECEFPositionAndVelocityGeneratorTest {
                 Constants.EARTH_GRAVITATIONAL_CONSTANT, 0.0);
         assertEquals(SatelliteECEFPositionAndVelocityGenerator.EARTH_ROTATION_RATE, Constants.EARTH_ROTATION_RATE,
                 0.0);
+        assertEquals(64, SatelliteECEFPositionAndVelocityGenerator.DEFAULT_EPOCHS_PER_TASK);
     }
 
     @Test
@@ -185,6 +198,107 @@ class SatelliteECEFPositionAndVelocityGeneratorTest {
         assertTrue(numValid > 0);
     }
 
+    @Test
+    void testGenerateSatellitesPositionAndVelocityWithConstellation() {
+        final var randomizer = new UniformRandomizer();
+        final var config = createConfig();
+        config.setSatellitesInclinationDegrees(randomizer.nextDouble(0.0, 90.0));
+        config.setConstellationLongitudeOffsetDegrees(randomizer.nextDouble(0.0, 360.0));
+        config.setConstellationTimingOffset(randomizer.nextDouble(MIN_TIME_SECONDS, MAX_TIME_SECONDS));
+        final var constellation = new SatelliteConstellation(config);
+        final var numberOfSatellites = config.getNumberOfSatellites();
+
+        final var time = randomizer.nextDouble(MIN_TIME_SECONDS, MAX_EPOCH_TIME_SECONDS);
+        final var offset = randomizer.nextInt(0, 10);
+        final var length = offset + constellation.getBufferLength(1);
+        final var positions = new double[length];
+        final var velocities = new double[length];
+        SatelliteECEFPositionAndVelocityGenerator.generateSatellitesPositionAndVelocity(time, constellation,
+                positions, velocities, offset);
+
+        // check that results are exactly equal to the ones obtained for each satellite
+        for (var j = 0; j < numberOfSatellites; j++) {
+            final var expected = SatelliteECEFPositionAndVelocityGenerator.generateSatellitePositionAndVelocity(
+                    time, config, j);
+            final var pos = offset + j * SatelliteConstellation.COMPONENTS;
+            assertEquals(expected.getX(), positions[pos], 0.0);
+            assertEquals(expected.getY(), positions[pos + 1], 0.0);
+            assertEquals(expected.getZ(), positions[pos + 2], 0.0);
+            assertEquals(expected.getVx(), velocities[pos], 0.0);
+            assertEquals(expected.getVy(), velocities[pos + 1], 0.0);
+            assertEquals(expected.getVz(), velocities[pos + 2], 0.0);
+        }
+
+        // Force IllegalArgumentException
+        final var small = new double[length - 1];
+        assertThrows(IllegalArgumentException.class,
+                () -> SatelliteECEFPositionAndVelocityGenerator.generateSatellitesPositionAndVelocity(time,
+                        constellation, small, velocities, offset));
+        assertThrows(IllegalArgumentException.class,
+                () -> SatelliteECEFPositionAndVelocityGenerator.generateSatellitesPositionAndVelocity(time,
+                        constellation, positions, small, offset));
+        assertThrows(IllegalArgumentException.class,
+                () -> SatelliteECEFPositionAndVelocityGenerator.generateSatellitesPositionAndVelocity(time,
+                        constellation, positions, velocities, -1));
+    }
+
+    @Test
+    void testGenerateSatellitesPositionAndVelocityForEpochs() {
+        final var randomizer = new UniformRandomizer();
+        final var config = createConfig();
+        config.setConstellationTimingOffset(randomizer.nextDouble(MIN_TIME_SECONDS, MAX_TIME_SECONDS));
+        final var constellation = new SatelliteConstellation(config);
+        final var numberOfSatellites = config.getNumberOfSatellites();
+
+        final var times = new double[EPOCHS];
+        for (var e = 0; e < EPOCHS; e++) {
+            times[e] = randomizer.nextDouble(MIN_TIME_SECONDS, MAX_EPOCH_TIME_SECONDS);
+        }
+
+        final var length = constellation.getBufferLength(EPOCHS);
+        assertEquals(EPOCHS * numberOfSatellites * SatelliteConstellation.COMPONENTS, length);
+
+        final var positions1 = new double[length];
+        final var velocities1 = new double[length];
+        SatelliteECEFPositionAndVelocityGenerator.generateSatellitesPositionAndVelocity(times, constellation,
+                positions1, velocities1);
+
+        final var positions2 = new double[length];
+        final var velocities2 = new double[length];
+        SatelliteECEFPositionAndVelocityGenerator.generateSatellitesPositionAndVelocity(times, constellation,
+                positions2, velocities2, true, 7);
+
+        // parallel execution produces exactly the same results
+        assertArrayEquals(positions1, positions2, 0.0);
+        assertArrayEquals(velocities1, velocities2, 0.0);
+
+        // check that results are exactly equal to the ones obtained for each epoch
+        final var positions3 = new double[constellation.getBufferLength(1)];
+        final var velocities3 = new double[constellation.getBufferLength(1)];
+        for (var e = 0; e < EPOCHS; e++) {
+            SatelliteECEFPositionAndVelocityGenerator.generateSatellitesPositionAndVelocity(times[e],
+                    constellation, positions3, velocities3, 0);
+
+            final var pos = e * positions3.length;
+            for (var i = 0; i < positions3.length; i++) {
+                assertEquals(positions3[i], positions1[pos + i], 0.0);
+                assertEquals(velocities3[i], velocities1[pos + i], 0.0);
+            }
+        }
+
+        // Force IllegalArgumentException
+        final var small = new double[length - 1];
+        assertThrows(IllegalArgumentException.class,
+                () -> SatelliteECEFPositionAndVelocityGenerator.generateSatellitesPositionAndVelocity(times,
+                        constellation, small, velocities1));
+        assertThrows(IllegalArgumentException.class,
+                () -> SatelliteECEFPositionAndVelocityGenerator.generateSatellitesPositionAndVelocity(times,
+                        constellation, positions1, small));
+        assertThrows(IllegalArgumentException.class,
+                () -> SatelliteECEFPositionAndVelocityGenerator.generateSatellitesPositionAndVelocity(times,
+                        constellation, positions1, velocities1, true, 0));
+    }
+
     private static ECEFPositionAndVelocity computeSatellitePositionAndVelocity(
             final double time, final GNSSConfig config, final int j) {
         final var inclination = Math.toRadians(config.getSatellitesInclinationDegrees());
@@ -220,4 +334,9 @@ class SatelliteECEFPositionAndVelocityGeneratorTest {
 
         return new ECEFPositionAndVelocity(position, velocity);
     }
+
+    private static GNSSConfig createConfig() {
+        return new GNSSConfig(EPOCH_INTERVAL, 0.0, 0.0, 0.0, NUMBER_OF_SATELLITES, ORBITAL_RADIUS,
+                INCLINATION_DEGREES, 0.0, 0.0, MASK_ANGLE_DEGREES, 1.0, 2.0, 0.2, 1.0, 0.02, 10000.0, 100.0);
+    }
 }
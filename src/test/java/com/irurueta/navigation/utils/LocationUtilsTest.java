@@ -16,17 +16,28 @@
 package com.irurueta.navigation.utils;
 
 import com.irurueta.navigation.geodesic.Geodesic;
+import com.irurueta.navigation.geodesic.GeodesicData;
+import com.irurueta.navigation.geodesic.GeodesicSolver;
+import com.irurueta.statistics.UniformRandomizer;
 import com.irurueta.units.Distance;
 import com.irurueta.units.DistanceUnit;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class LocationUtilsTest {
 
+    private static final int TIMES = 10000;
+
+    private static final int BENCHMARK_SAMPLES = 100000;
+
+    private static final int BENCHMARK_PASSES = 4;
+
     @BeforeAll
     static void setUpClass() {
         Locale.setDefault(Locale.ENGLISH);
@@ -197,6 +208,126 @@ class LocationUtilsTest {
         assertEquals(DistanceUnit.METER, d2.getUnit());
     }
 
+    @Test
+    void testDistanceBetweenWithMethod() {
+        final var lat1 = 41.382643;
+        final var lon1 = 2.176700;
+        final var lat2 = 41.382524;
+        final var lon2 = 2.176861;
+
+        final var expected = Geodesic.WGS84.inverse(lat1, lon1, lat2, lon2).getS12();
+        for (final var method : DistanceMethod.values()) {
+            final var distance = LocationUtils.distanceBetweenMeters(lat1, lon1, lat2, lon2, method);
+            assertEquals(expected, distance, 0.2);
+
+            final var d = LocationUtils.distanceBetween(lat1, lon1, lat2, lon2, method);
+            assertEquals(distance, d.getValue().doubleValue(), 0.0);
+            assertEquals(DistanceUnit.METER, d.getUnit());
+
+            // coincident locations
+            assertEquals(0.0, LocationUtils.distanceBetweenMeters(lat1, lon1, lat1, lon1, method), 0.0);
+        }
+        assertEquals(expected, LocationUtils.distanceBetweenMeters(lat1, lon1, lat2, lon2,
+                DistanceMethod.GEODESIC), 0.0);
+
+        // longitudes are wrapped across the antimeridian
+        final var wrapped = Geodesic.WGS84.inverse(10.0, 179.99, 10.01, -179.99).getS12();
+        for (final var method : DistanceMethod.values()) {
+            assertEquals(wrapped, LocationUtils.distanceBetweenMeters(10.0, 179.99, 10.01, -179.99, method),
+                    0.01 * wrapped);
+        }
+
+        // antipodal locations have finite distance
+        for (final var method : DistanceMethod.values()) {
+            assertTrue(Double.isFinite(LocationUtils.distanceBetweenMeters(0.0, 0.0, 0.0, 180.0, method)));
+        }
+    }
+
+    @Test
+    void testDistanceMethodErrorBounds() {
+        final var randomizer = new UniformRandomizer();
+        final var solver = new GeodesicSolver();
+        final var data = new GeodesicData();
+
+        for (var i = 0; i < TIMES; i++) {
+            final var lat1 = randomizer.nextDouble(-LocationUtils.AUTO_MAX_LATITUDE,
+                    LocationUtils.AUTO_MAX_LATITUDE);
+            final var lon1 = randomizer.nextDouble(-180.0, 180.0);
+            final var azimuth = randomizer.nextDouble(-180.0, 180.0);
+
+            // short distances
+            final var shortDistance = randomizer.nextDouble(0.0, LocationUtils.DEFAULT_AUTO_DISTANCE_THRESHOLD);
+            solver.direct(lat1, lon1, azimuth, shortDistance, data);
+            final var lat2 = data.getLat2();
+            final var lon2 = data.getLon2();
+            if (Math.abs(lat2) <= LocationUtils.AUTO_MAX_LATITUDE) {
+                assertEquals(shortDistance, LocationUtils.distanceBetweenMeters(lat1, lon1, lat2, lon2,
+                        DistanceMethod.EQUIRECTANGULAR), 0.05);
+                assertEquals(shortDistance, LocationUtils.distanceBetweenMeters(lat1, lon1, lat2, lon2,
+                        DistanceMethod.AUTO), 0.05);
+            }
+
+            // long distances
+            final var longDistance = randomizer.nextDouble(0.0, 1e7);
+            solver.direct(lat1, lon1, azimuth, longDistance, data);
+            final var lat3 = data.getLat2();
+            final var lon3 = data.getLon2();
+            assertEquals(longDistance, LocationUtils.distanceBetweenMeters(lat1, lon1, lat3, lon3,
+                    DistanceMethod.HAVERSINE), 0.006 * longDistance);
+            assertEquals(longDistance, LocationUtils.distanceBetweenMeters(lat1, lon1, lat3, lon3,
+                    DistanceMethod.ANDOYER_LAMBERT), 1.5e-6 * longDistance + 1e-6);
+            assertEquals(data.getS12(), LocationUtils.distanceBetweenMeters(lat1, lon1, lat3, lon3,
+                    DistanceMethod.GEODESIC), 1e-6);
+
+            // auto method falls back to geodesic distance beyond threshold or close to poles
+            if (longDistance > 2.0 * LocationUtils.DEFAULT_AUTO_DISTANCE_THRESHOLD) {
+                assertEquals(LocationUtils.distanceBetweenMeters(lat1, lon1, lat3, lon3),
+                        LocationUtils.distanceBetweenMeters(lat1, lon1, lat3, lon3, DistanceMethod.AUTO), 0.0);
+            }
+        }
+
+        assertEquals(LocationUtils.distanceBetweenMeters(89.0, 0.0, 89.0, 1.0),
+                LocationUtils.distanceBetweenMeters(89.0, 0.0, 89.0, 1.0, DistanceMethod.AUTO), 0.0);
+        assertEquals(LocationUtils.distanceBetweenMeters(40.0, 0.0, 40.0, 0.01),
+                LocationUtils.autoDistanceBetweenMeters(40.0, 0.0, 40.0, 0.01, 0.0), 0.0);
+    }
+
+    @Test
+    void testDistanceMethodThroughput() {
+        // benchmark of distance methods for short distances
+        final var randomizer = new UniformRandomizer();
+        final var lat1 = new double[BENCHMARK_SAMPLES];
+        final var lon1 = new double[BENCHMARK_SAMPLES];
+        final var lat2 = new double[BENCHMARK_SAMPLES];
+        final var lon2 = new double[BENCHMARK_SAMPLES];
+        for (var i = 0; i < BENCHMARK_SAMPLES; i++) {
+            lat1[i] = randomizer.nextDouble(-60.0, 60.0);
+            lon1[i] = randomizer.nextDouble(-180.0, 180.0);
+            lat2[i] = lat1[i] + randomizer.nextDouble(-0.05, 0.05);
+            lon2[i] = lon1[i] + randomizer.nextDouble(-0.05, 0.05);
+        }
+
+        for (final var method : DistanceMethod.values()) {
+            var sum = 0.0;
+            var start = 0L;
+            for (var pass = 0; pass < BENCHMARK_PASSES; pass++) {
+                // first pass warms up the JIT compiler
+                if (pass == 1) {
+                    start = System.nanoTime();
+                }
+                for (var i = 0; i < BENCHMARK_SAMPLES; i++) {
+                    sum += LocationUtils.distanceBetweenMeters(lat1[i], lon1[i], lat2[i], lon2[i], method);
+                }
+            }
+            final var elapsed = System.nanoTime() - start;
+            final var nanosPerDistance = (double) elapsed / ((BENCHMARK_PASSES - 1) * BENCHMARK_SAMPLES);
+
+            assertTrue(sum > 0.0);
+            Logger.getGlobal().log(Level.INFO, "{0}: {1} ns per distance",
+                    new Object[]{method, nanosPerDistance});
+        }
+    }
+
     @Test
     void testBearingDistanceConstructor() {
         final var bd = new LocationUtils.BearingDistance();